@@ -0,0 +1,254 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import builder.Builder;
+import builder.common.EnumFactory;
+import builder.controller.Controller;
+import builder.fonts.FontFactory;
+import builder.models.PageModel;
+import builder.models.ProjectModel;
+import builder.prefs.GeneralEditor;
+import builder.prefs.ModelEditor;
+import builder.widgets.Widget;
+import builder.widgets.WidgetFactory;
+
+/**
+ * The Class CodeGenBenchmark times our code generation on synthetic
+ * projects with JMH.
+ * <p>
+ * Run with <code>gradle jmh</code>, passing JMH its own options with
+ * <code>-PjmhArgs="..."</code>, for example 
+ * <code>-PjmhArgs="-p widgets=1000 -p target=arduino"</code>.
+ * </p>
+ * <p>
+ * For each target and each combination of page count and widgets per page
+ * we build a project in memory from a fixed mix of widgets, so every run
+ * generates the same code. Our caches are cleared before each invocation
+ * so every pipe does its full work, and pipes run one after another unless
+ * <code>parallel</code> is true. Our preferences are pinned to their 
+ * defaults. Use <code>--codegen-report</code> with 
+ * <code>HeadlessGenerator</code> to see the time spent in each pipe.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CodeGenBenchmark {
+
+  /** The name of our synthetic project file. */
+  private final static String PROJECT_NAME   = "benchmark.prj";
+  
+  /** The widget placed on our template expansion benchmark. */
+  private final static String EXPAND_TEMPLATE = "<BOX>";
+  
+  /** The mix of widgets placed on each synthetic page, in order. */
+  private final static String[] WIDGET_MIX = {
+      EnumFactory.TEXTBUTTON,
+      EnumFactory.TEXT,
+      EnumFactory.BOX,
+      EnumFactory.CHECKBOX,
+      EnumFactory.RADIOBUTTON,
+      EnumFactory.SLIDER,
+      EnumFactory.PROGRESSBAR,
+      EnumFactory.NUMINPUT,
+      EnumFactory.TOGGLEBUTTON,
+      EnumFactory.LINE,
+  };
+
+  /** The target platform. */
+  @Param({ ProjectModel.PLATFORM_LINUX, ProjectModel.PLATFORM_ARDUINO })
+  public String target;
+
+  /** The number of pages. */
+  @Param({ "1" })
+  public int pages;
+
+  /** The number of widgets per page. */
+  @Param({ "10", "100", "1000", "10000" })
+  public int widgets;
+
+  /** True to run our pipes concurrently as the builder normally does. */
+  @Param({ "false" })
+  public boolean parallel;
+
+  /** The project model, bound to our thread during our trial. */
+  private ProjectModel pm;
+  
+  /** The project model bound before our trial. */
+  private ProjectModel prev;
+  
+  /** The pages of our synthetic project. */
+  private List<CodePage> projectPages;
+  
+  /** The folder our code is written to. */
+  private File folder;
+  
+  /** The project file. */
+  private File projectFile;
+  
+  /** The code generator. */
+  private CodeGenerator cg;
+  
+  /** True to generate a single backward compatible .ino file. */
+  private boolean bCompat;
+  
+  /** The template manager for our expansion benchmark. */
+  private TemplateManager tm;
+  
+  /** The mapped properties of the widget we expand. */
+  private Map<String, String> map;
+
+  /**
+   * Setup our logger, themes and fonts then build our synthetic project.
+   *
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    System.setProperty("log4j.configurationFile", "resources/log4j2.xml");
+    Builder.logger = LogManager.getLogger(Builder.class);
+    Builder.loadThemes();
+    ModelEditor.setPinned(true);
+    FontFactory.getInstance().init();
+    pm = new ProjectModel();
+    pm.setTargetPlatform(target);
+    prev = Controller.bindProjectModel(pm);
+    projectPages = createPages(pm, pages, widgets);
+    folder = Files.createTempDirectory("benchmark").toFile();
+    projectFile = new File(folder, PROJECT_NAME);
+    cg = new CodeGenerator();
+    cg.setParallel(parallel);
+    bCompat = GeneralEditor.getInstance().isBackwardCompat();
+    tm = new TemplateManager();
+    tm.storeTemplates(target.equals(ProjectModel.PLATFORM_LINUX) ? "linux.t" : "arduino.t");
+    Widget w = WidgetFactory.getInstance().createWidget(EnumFactory.BOX, 10, 10);
+    map = w.getModel().getMappedProperties("E_PG_MAIN");
+  }
+
+  /**
+   * Remove our output and unbind our project model.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    Controller.bindProjectModel(prev);
+    File[] files = folder.listFiles();
+    if (files != null) {
+      for (File f : files) {
+        f.delete();
+      }
+    }
+    folder.delete();
+  }
+
+  /**
+   * Time full code generation of our synthetic project.
+   *
+   * @return the path of our generated code
+   */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public String generate() {
+    // clear our caches so every pipe does its full work
+    cg.setIncremental(false);
+    cg.setIncremental(true);
+    return cg.generateCode(projectFile, folder.getPath(), projectPages, bCompat);
+  }
+
+  /**
+   * Time the expansion of one widget's template.
+   *
+   * @return the expanded lines
+   */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public List<String> expandMacros() {
+    return tm.expandMacros(EXPAND_TEMPLATE, map);
+  }
+
+  /**
+   * Create the pages of a synthetic project.
+   * 
+   * Each page is filled with our mix of widgets laid out in a grid, 
+   * our project model must be bound to the calling thread.
+   *
+   * @param pm
+   *          the project model
+   * @param nPages
+   *          the number of pages
+   * @param nWidgets
+   *          the number of widgets per page
+   * @return the <code>list</code> of pages
+   */
+  private static List<CodePage> createPages(ProjectModel pm, int nPages, int nWidgets) {
+    List<CodePage> pages = new ArrayList<CodePage>();
+    pages.add(new ProjectPage(pm, EnumFactory.PROJECT));
+    for (int i=0; i<nPages; i++) {
+      PageModel m = new PageModel();
+      m.setKey("Page$" + (i+1));
+      m.setEnum((i == 0) ? "E_PG_MAIN" : "E_PG" + (i+1));
+      ProjectPage p = new ProjectPage(m, EnumFactory.PAGE);
+      for (int n=0; n<nWidgets; n++) {
+        String type = WIDGET_MIX[n % WIDGET_MIX.length];
+        int x = 10 + (n % 8) * 35;
+        int y = 10 + ((n / 8) % 10) * 20;
+        p.getWidgets().add(WidgetFactory.getInstance().createWidget(type, x, y));
+      }
+      pages.add(p);
+    }
+    return pages;
+  }
+
+}
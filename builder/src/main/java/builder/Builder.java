@@ -60,6 +60,7 @@ import javax.swing.UIManager.LookAndFeelInfo;
 import javax.swing.UnsupportedLookAndFeelException;
 import javax.swing.WindowConstants;
 
+import builder.codegen.HeadlessGenerator;
 import builder.common.CommonUtils;
 import builder.common.ThemeInfo;
 import builder.controller.Controller;
@@ -180,6 +181,14 @@ public class Builder  extends JDesktopPane {
    *          the arguments
    */
   public static void main(String[] args) {
+    // code generation from the command line?
+    if (HeadlessGenerator.isRequested(args)) {
+      System.setProperty("java.awt.headless", "true");
+      startLogger();
+      logger.debug("Builder ver: " + VERSION + " headless code generation");
+      loadThemes();
+      System.exit(HeadlessGenerator.run(args));
+    }
     // On Windows 10 move menubar to Title pane
     JFrame.setDefaultLookAndFeelDecorated( true );
     JDialog.setDefaultLookAndFeelDecorated( true );
@@ -199,8 +208,7 @@ public class Builder  extends JDesktopPane {
     osName = System.getProperty("os.name").toLowerCase();
     isMAC = osName.startsWith("mac os x");
     // start our logger
-    System.setProperty("log4j.configurationFile","resources/log4j2.xml");
-    logger = LogManager.getLogger(Builder.class);
+    startLogger();
     logger.debug("Builder ver: " + VERSION + " started java ver: " + version + " osys: " + osName);
     loadThemes();
 /*  Use this code for Java 9 and above
@@ -213,6 +221,14 @@ public class Builder  extends JDesktopPane {
     builder.startUp();
   }
 
+  /**
+   * Start our logger.
+   */
+  private static void startLogger() {
+    System.setProperty("log4j.configurationFile","resources/log4j2.xml");
+    logger = LogManager.getLogger(Builder.class);
+  }
+
   /**
    * Instantiates a new GUIslice builder.
    */
@@ -0,0 +1,656 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.regex.Pattern;
+
+/**
+ * The Class AppMigration brings an application file written by an older 
+ * builder up to date before our pipelines read it.
+ * <p>
+ * Over the years the layout of our application files changed a few times.
+ * Beta files had no File tags, single file sketches kept all of the 
+ * generated code inside the .ino until we moved it into a header, 
+ * and releases before 0.14 wrote a few lines of code that no longer compile.
+ * </p>
+ * <p>
+ * The file is read just once. Its first lines tell us which of these 
+ * upgrades it needs, all of them are then applied in memory one after 
+ * another and the result handed to our pipeline. Current files, by far
+ * the most common case, are passed along untouched. Nothing is written 
+ * here, the upgraded file is only written along with the rest of our 
+ * generated code, once the original has been saved by <code>backup()</code>.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class AppMigration {
+
+  /** The backup extensions of each upgrade. */
+  public final static String PAST_SINS_EXT = ".bad";
+  public final static String BETA_EXT      = ".beta";
+  public final static String HEADER_EXT    = ".orig";
+
+  /** The tags we look for. */
+  private final static String APP_TAG = Tags.TAG_PREFIX + Tags.APP_TAG + Tags.TAG_SUFFIX_START;
+  private final static String FILE_TAG = Tags.TAG_PREFIX + Tags.FILE_TAG + Tags.TAG_SUFFIX_START;
+
+  private final static Pattern LTRIM = Pattern.compile("^\\s+");
+  private final static String EMPTY_STRING = "";
+
+  /** The application file. */
+  private final File file;
+
+  /** The file's contents as read. */
+  private final String original;
+
+  /** The file's contents after our upgrades. */
+  private String text;
+
+  /** The backup extension of our first upgrade, null if none were needed. */
+  private String backupExt = null;
+
+  /**
+   * Instantiates a new migration.
+   *
+   * @param file
+   *          the application file
+   * @param original
+   *          the file's contents
+   */
+  private AppMigration(File file, String original) {
+    this.file = file;
+    this.original = original;
+    this.text = original;
+  }
+
+  /**
+   * Read an application file.
+   *
+   * @param file
+   *          the application file
+   * @return the <code>AppMigration</code> object
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  public static AppMigration read(File file) throws IOException {
+    byte[] bytes = Files.readAllBytes(file.toPath());
+    return new AppMigration(file, new String(bytes, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Apply every upgrade our file needs.
+   *
+   * @param bUseHdr
+   *          true if our code goes into a separate header file
+   * @throws CodeGenException
+   *           the file is corrupted
+   */
+  public void upgrade(boolean bUseHdr) throws CodeGenException {
+    try {
+      if (bUseHdr) {
+        apply(removePastSins(text), PAST_SINS_EXT);
+      }
+      apply(upgradeBetaApp(text), BETA_EXT);
+      if (bUseHdr) {
+        apply(removeTags(text), HEADER_EXT);
+      }
+    } catch (IOException e) {
+      throw new CodeGenException("IOException upgrading " + file.getName() + ": " + e.toString());
+    }
+  }
+
+  /**
+   * Checks if any upgrades were applied.
+   *
+   * @return true, if our text differs from our file
+   */
+  public boolean isUpgraded() {
+    return backupExt != null;
+  }
+
+  /**
+   * Gets the file's contents after our upgrades.
+   *
+   * @return the text
+   */
+  public String getText() {
+    return text;
+  }
+
+  /**
+   * Save our file as it was read, before it's replaced by our upgrade, 
+   * using the extension of the first upgrade applied.
+   *
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  public void backup() throws IOException {
+    if (backupExt == null) {
+      return;
+    }
+    File backupFile = new File(file.getPath() + backupExt);
+    OutputFile.write(backupFile, original, false);
+  }
+
+  /**
+   * Keep the result of one of our upgrades.
+   *
+   * @param upgraded
+   *          the upgraded text or null if no upgrade was needed
+   * @param ext
+   *          the upgrade's backup extension
+   */
+  private void apply(String upgraded, String ext) {
+    if (upgraded == null) {
+      return;
+    }
+    text = upgraded;
+    if (backupExt == null) {
+      backupExt = ext;
+    }
+  }
+
+  /**
+   * Gets the first line of some text.
+   *
+   * @param s
+   *          the text
+   * @return the first line, or null if empty
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private static String firstLine(String s) throws IOException {
+    return new BufferedReader(new StringReader(s)).readLine();
+  }
+
+  /**
+   * Repair the mistakes releases before 0.14 wrote into our files,
+   * an include of _GLSC.h instead of _GSLC.h and element references
+   * that break when stored in PROGMEM.
+   *
+   * @param s
+   *          the file's text
+   * @return the repaired text or null if no repairs were needed
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private static String removePastSins(String s) throws IOException {
+    String PROGMEM_ELEMREF_ERROR1  =
+        "gslc_tsElem* pElem = pElemRef->pElem;";
+    String PROGMEM_ELEMREF_ERROR2 =
+        "gslc_tsElem*    pElem     = pElemRef->pElem;";
+    String PROGMEM_ELEMREF_FIX  =
+        "  gslc_tsElem* pElem = gslc_GetElemFromRef(&m_gui,pElemRef);";
+    
+    BufferedReader br = new BufferedReader(new StringReader(s));
+    String line = br.readLine();
+    if (line == null || !(line.startsWith("//<App") || line.startsWith("//<File"))) {
+      // not sure what we have here so bail
+      return null;
+    }
+    line = br.readLine();
+    if (line == null || !line.startsWith("// FILE:")) {
+      return null;
+    }
+    line = br.readLine();
+    if (line == null || !line.startsWith("// Created")) {
+      return null;
+    }
+    /* now we can check version number
+     * 14 or greater and we have nothing further to do.
+     * we will treat it as 9.99 number and ignore the final .b999
+     */
+    int n = line.indexOf("[");
+    String sVersion = line.substring(n+1, n+5);
+    float version = Float.parseFloat(sVersion);
+    if (version >= 0.14) {
+      return null;
+    }
+    // first scan for errors if none found bail.
+    boolean bFoundError = false;
+    String sTestTag = "";
+    while ((line = br.readLine()) != null) {
+      sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
+      if (sTestTag.startsWith("#include")) {
+        if(sTestTag.endsWith("_GLSC.h\"")) {
+          bFoundError = true;
+          break;
+        }
+      } else if (sTestTag.equals(PROGMEM_ELEMREF_ERROR1)) {
+        bFoundError = true;
+        break;
+      } else if (sTestTag.equals(PROGMEM_ELEMREF_ERROR2)) {
+        bFoundError = true;
+        break;
+      }
+    }
+    if (!bFoundError) {
+      return null;
+    }
+    // now fix the errors
+    br = new BufferedReader(new StringReader(s));
+    StringWriter sw = new StringWriter(s.length());
+    BufferedWriter bwA = new BufferedWriter(sw);
+    String line2 = "";
+    while ((line = br.readLine()) != null) {
+      sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
+      if (sTestTag.startsWith("#include")) {
+        if(sTestTag.endsWith("_GLSC.h\"")) {
+          n = line.indexOf("_GLSC.h");
+          line2 = line.substring(0,n) + "_GSLC.h\"";
+          bwA.write(line2);
+          bwA.newLine();
+        } else {
+          bwA.write(line);
+          bwA.newLine();
+        }
+      } else if (sTestTag.equals(PROGMEM_ELEMREF_ERROR1)) {
+        bwA.write(PROGMEM_ELEMREF_FIX);
+        bwA.newLine();
+      } else if (sTestTag.equals(PROGMEM_ELEMREF_ERROR2)) {
+        bwA.write(PROGMEM_ELEMREF_FIX);
+        bwA.newLine();
+      } else {
+        bwA.write(line);
+        bwA.newLine();
+      }
+    }
+    bwA.close();
+    return sw.toString();
+  }
+
+  /**
+   * Upgrade a beta version of our app to a tagged single file app.
+   *
+   * @param s
+   *          the file's text
+   * @return the upgraded text or null if no upgrade was needed
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private static String upgradeBetaApp(String s) throws IOException {
+    String FILE_END_TAG = Tags.TAG_PREFIX + Tags.FILE_TAG + Tags.TAG_SUFFIX_END;
+    String FONTS_TAG = Tags.TAG_PREFIX + Tags.FONTS_TAG + Tags.TAG_SUFFIX_START;
+    String INCLUDES_TAG = Tags.TAG_PREFIX + Tags.INCLUDES_TAG + Tags.TAG_SUFFIX_START;
+    String INCLUDES_END_TAG = Tags.TAG_PREFIX + Tags.INCLUDES_TAG + Tags.TAG_SUFFIX_END;
+    String CHECKBOXCB_TAG = Tags.TAG_PREFIX + Tags.CHECKBOXCB_TAG + Tags.TAG_SUFFIX_START;
+    String CHECKBOXCB_END_TAG = Tags.TAG_PREFIX + Tags.CHECKBOXCB_TAG + Tags.TAG_SUFFIX_END;
+    String KEYPADCB_TAG = Tags.TAG_PREFIX + Tags.KEYPADCB_TAG + Tags.TAG_SUFFIX_START;
+    String KEYPADCB_END_TAG = Tags.TAG_PREFIX + Tags.KEYPADCB_TAG + Tags.TAG_SUFFIX_END;
+    String SPINNERCB_TAG = Tags.TAG_PREFIX + Tags.SPINNERCB_TAG + Tags.TAG_SUFFIX_START;
+    String SPINNERCB_END_TAG = Tags.TAG_PREFIX + Tags.SPINNERCB_TAG + Tags.TAG_SUFFIX_END;
+    String LISTBOXCB_TAG = Tags.TAG_PREFIX + Tags.LISTBOXCB_TAG + Tags.TAG_SUFFIX_START;
+    String LISTBOXCB_END_TAG = Tags.TAG_PREFIX + Tags.LISTBOXCB_TAG + Tags.TAG_SUFFIX_END;
+    String STARTUP_TAG = Tags.TAG_PREFIX + Tags.STARTUP_TAG + Tags.TAG_SUFFIX_START;
+    String STARTUP_END_TAG = Tags.TAG_PREFIX + Tags.STARTUP_TAG + Tags.TAG_SUFFIX_END;
+
+    BufferedReader br = new BufferedReader(new StringReader(s));
+    String sTestTag = "";
+    String line = br.readLine();
+    /*
+     * we have three conditions here 
+     * 1- line == "//<App !Start!>" no upgrade needed
+     * 2- line == "//<File !Start!>" upgrade may be needed, look deeper 
+     * 3- line not equal to either - needs upgrade
+     */
+    if (line == null || line.equals(APP_TAG)) {
+      return null;
+    }
+    if (line.equals(FILE_TAG)) {
+      /* We need to look deeper, search for INCLUDES_TAG 
+       * If we find it great, no update needed.
+       * If we find FONTS_TAG first we need upgrade
+       */
+      boolean bNeedUpgrade = false;
+      while ((line = br.readLine()) != null) {
+        if (line.equals(INCLUDES_TAG)) {
+          break;
+        }
+        if (line.equals(FONTS_TAG)) {
+          bNeedUpgrade = true;
+          break;
+        }
+      }
+      if (!bNeedUpgrade) {
+        return null;
+      }
+    } 
+    br = new BufferedReader(new StringReader(s));
+    StringWriter sw = new StringWriter(s.length());
+    BufferedWriter bwA = new BufferedWriter(sw);
+    line = br.readLine();
+    if (!line.equals(FILE_TAG)) {
+      bwA.write(FILE_TAG);
+      bwA.newLine();
+      bwA.write(line);
+      bwA.newLine();
+      while ((line = br.readLine()) != null) {
+        if (line.isEmpty())
+          break;
+        bwA.write(line);
+        bwA.newLine();
+      }
+      bwA.write(FILE_END_TAG);
+      bwA.newLine();
+      bwA.newLine();
+    } 
+
+    while ((line = br.readLine()) != null) {
+      if (line.equals("#include \"GUIslice_ex.h\"")) {
+        continue;
+      }
+      if (line.equals("#include <Adafruit_GFX.h>")) {
+        bwA.write(line);
+        bwA.newLine();
+        bwA.newLine();
+        bwA.write(INCLUDES_TAG);
+        bwA.newLine();
+        bwA.write(INCLUDES_END_TAG);
+        bwA.newLine();
+        bwA.newLine();
+        continue;
+      }
+      if (line.equals("// Common Button callback")) {
+        bwA.write(line);
+        bwA.newLine();
+        break;
+      }
+      bwA.write(line);
+      bwA.newLine();
+    }
+    while ((line = br.readLine()) != null) {
+      if (line.equals("}")) {
+        bwA.write(line);
+        bwA.newLine();
+        break;
+      }
+      bwA.write(line);
+      bwA.newLine();
+    }
+    bwA.newLine();
+    bwA.write(CHECKBOXCB_TAG);
+    bwA.newLine();
+    bwA.write(CHECKBOXCB_END_TAG);
+    bwA.newLine();
+
+    bwA.write(KEYPADCB_TAG);
+    bwA.newLine();
+    bwA.write(KEYPADCB_END_TAG);
+    bwA.newLine();
+
+    bwA.write(SPINNERCB_TAG);
+    bwA.newLine();
+    bwA.write(SPINNERCB_END_TAG);
+    bwA.newLine();
+
+    bwA.write(LISTBOXCB_TAG);
+    bwA.newLine();
+    bwA.write(LISTBOXCB_END_TAG);
+    bwA.newLine();
+
+    while ((line = br.readLine()) != null) {
+      sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
+      if (sTestTag.equals("InitGUI();")) {
+        bwA.write(line);
+        bwA.newLine();
+        bwA.newLine();
+        bwA.write(STARTUP_TAG);
+        bwA.newLine();
+        bwA.write(STARTUP_END_TAG);
+        bwA.newLine();
+        break;
+      }
+      bwA.write(line);
+      bwA.newLine();
+    }
+    // remove Quick_Access section
+    while ((line = br.readLine()) != null) {
+      sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
+      if (sTestTag.equals("//<Quick_Access !Start!>")) {
+        break;
+      }
+      bwA.write(line);
+      bwA.newLine();
+    }
+    while ((line = br.readLine()) != null) {
+      sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
+      if (sTestTag.equals("//<Quick_Access !End!>")) {
+        break;
+      }
+    }
+    // finish up by copying everything left over
+    while ((line = br.readLine()) != null) {
+      bwA.write(line);
+      bwA.newLine();
+    }
+    bwA.close();
+    return sw.toString();
+  }
+
+  /**
+   * Remove the tags of a single file app so it can use
+   * a separate header file for our generated code.
+   *
+   * @param s
+   *          the file's text
+   * @return the new app text or null if it already uses a header
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   * @throws CodeGenException
+   *           the file is corrupted
+   */
+  private String removeTags(String s) throws IOException, CodeGenException {
+    String line = firstLine(s);
+    /*
+     * we have three conditions here 
+     * 1- line == "//<App !Start!>" no upgrade needed
+     * 2- line == "//<File !Start!>" upgrade needed 
+     * 3- line not equal to either - really old beta project should have been upgraded
+     */
+    if (line == null || line.equals(APP_TAG)) {
+      return null;
+    }
+    if (!line.equals(FILE_TAG)) {
+      throw new CodeGenException("file: " + file.getPath() + "\n is corrupted missing tag: " + FILE_TAG);
+    }
+    String FILE_END_TAG = Tags.TAG_PREFIX + Tags.FILE_TAG + Tags.TAG_SUFFIX_END;
+    String APP_END_TAG = Tags.TAG_PREFIX + Tags.APP_TAG + Tags.TAG_SUFFIX_END;
+    String HEADER_TAG = Tags.TAG_PREFIX + Tags.HEADER_TAG + Tags.TAG_SUFFIX_START;
+    String HEADER_END_TAG = Tags.TAG_PREFIX + Tags.HEADER_TAG + Tags.TAG_SUFFIX_END;
+    String LOADFONTS_TAG = Tags.TAG_PREFIX + Tags.LOADFONTS_TAG + Tags.TAG_SUFFIX_START;
+    String LOADFONTS_END_TAG = Tags.TAG_PREFIX + Tags.LOADFONTS_TAG + Tags.TAG_SUFFIX_END;
+    String STARTUP_TAG = Tags.TAG_PREFIX + Tags.STARTUP_TAG + Tags.TAG_SUFFIX_START;
+    String STARTUP_END_TAG = Tags.TAG_PREFIX + Tags.STARTUP_TAG + Tags.TAG_SUFFIX_END;
+    String COMMENTS_START = "// ------------------------------------------------";
+
+    BufferedReader br = new BufferedReader(new StringReader(s));
+    StringWriter sw = new StringWriter(s.length());
+    BufferedWriter bwA = new BufferedWriter(sw);
+    String sTestTag = "";
+    String line2 = "";
+    // skip our File tag and replace it with our App tag
+    br.readLine();
+    bwA.write(APP_TAG);
+    bwA.newLine();
+    while ((line = br.readLine()) != null) {
+      if (line.equals(FILE_END_TAG)) {
+        break;
+      }
+      bwA.write(line);
+      bwA.newLine();
+    }
+    bwA.write(APP_END_TAG);
+    bwA.newLine();
+    bwA.newLine();
+
+    while ((line = br.readLine()) != null) {
+      if (line.equals("#include \"GUIslice.h\"")) {
+        bwA.write(HEADER_TAG);
+        bwA.newLine();
+        bwA.write(HEADER_END_TAG);
+        bwA.newLine();
+        bwA.newLine();
+        break;
+      }
+      bwA.write(line);
+      bwA.newLine();
+    }
+    // remove tags
+    int nBlankLines = 0;
+    while ((line = br.readLine()) != null) {
+      if (line.isEmpty()) {
+        nBlankLines++;
+        if (nBlankLines < 2) {
+          bwA.write(line);
+          bwA.newLine();
+        }
+      } else {
+        if (line.equals("//<Includes !Start!>")) {
+          CodeUtils.discardTag(br, "//<Includes !End!>");
+        } else if (line.equals("//<Fonts !Start!>")) {
+          CodeUtils.discardTag(br, "//<Fonts !End!>");
+        } else if (line.equals("//<Resources !Start!>")) {
+          CodeUtils.discardTag(br, "//<Resources !End!>");
+        } else if (line.equals("//<Enum !Start!>")) {
+          CodeUtils.discardTag(br, "//<Enum !End!>");
+        } else if (line.equals("//<ElementDefines !Start!>")) {
+          CodeUtils.discardTag(br, "//<ElementDefines !End!>");
+        } else if (line.equals("//<GUI_Extra_Elements !Start!>")) {
+          CodeUtils.discardTag(br, "//<GUI_Extra_Elements !End!>");
+        } else if (line.equals("gslc_tsGui                      m_gui;")) {
+          CodeUtils.discardTag(br, "gslc_tsPage                     m_asPage[MAX_PAGE];");
+        } else if (line.equals("// Include any extended elements")) {
+          continue;
+        } else if (line.equals("#include \"GUIslice_drv.h\"")) {
+          continue;
+        } else if (line.equals(COMMENTS_START)) {
+          line2 = br.readLine();
+          if (line2.equals("// Headers and Defines for fonts")) {
+            CodeUtils.discardTag(br, COMMENTS_START);
+          } else if (line2.equals("// Defines for resources")) {
+            CodeUtils.discardTag(br, COMMENTS_START);
+          } else if (line2.equals("// Enumerations for pages, elements, fonts, images")) {
+            CodeUtils.discardTag(br, COMMENTS_START);
+          } else if (line2.equals("// Instantiate the GUI")) {
+            CodeUtils.discardTag(br, COMMENTS_START);
+          } else if (line2.equals("// Define the maximum number of elements and pages")) {
+            CodeUtils.discardTag(br, COMMENTS_START);
+          } else if (line2.equals("// Create element storage")) {
+            CodeUtils.discardTag(br, COMMENTS_START);
+          } else if (line2.equals("// Create page elements")) {
+            CodeUtils.discardTag(br, "}");
+            break;
+          } else {
+            bwA.write(line);
+            bwA.newLine();
+            bwA.write(line2);
+            bwA.newLine();
+            nBlankLines = 0;
+          }
+        } else {
+          bwA.write(line);
+          bwA.newLine();
+          nBlankLines = 0;
+        }
+      } 
+    }
+    // scan for gslc_Init and remove it
+    boolean bFoundInit = false;
+    while ((line = br.readLine()) != null) {
+      // break the line up into words
+      if (!line.isEmpty()) {
+        String[] words = line.split("\\W+");
+        for (int i=0; i<words.length; i++) {
+          if (words[i].equals("gslc_Init")) {
+            bFoundInit = true;
+          }
+        }
+      }
+      if (bFoundInit) break;
+      bwA.write(line);
+      bwA.newLine();
+    }
+    // remove fonts tag
+    while ((line = br.readLine()) != null) {
+      sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
+      if (sTestTag.equals(LOADFONTS_TAG)) {
+        break;
+      }
+      bwA.write(line);
+      bwA.newLine();
+    }
+    while ((line = br.readLine()) != null) {
+      sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
+      if (sTestTag.equals(LOADFONTS_END_TAG)) {
+        break;
+      }
+    }
+    // rename InitGUI to InitGUIslice_gen
+    while ((line = br.readLine()) != null) {
+      sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
+      if (sTestTag.equals("InitGUI();")) {
+        bwA.write("  InitGUIslice_gen();");
+        bwA.newLine();
+        bwA.newLine();
+        break;
+      }
+      bwA.write(line);
+      bwA.newLine();
+    }
+    // remove STARTUP tag
+    while ((line = br.readLine()) != null) {
+      sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
+      if (sTestTag.equals(STARTUP_TAG)) {
+        break;
+      }
+      bwA.write(line);
+      bwA.newLine();
+    }
+    while ((line = br.readLine()) != null) {
+      sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
+      if (sTestTag.equals(STARTUP_END_TAG)) {
+        break;
+      }
+    }
+    while ((line = br.readLine()) != null) {
+      bwA.write(line);
+      bwA.newLine();
+    }
+    bwA.close();
+    return sw.toString();
+  }
+
+}
@@ -0,0 +1,369 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import builder.Builder;
+import builder.fonts.FontFactory;
+import builder.models.ProjectModel;
+
+/**
+ * The Class BatchGenerator generates code for many projects at once 
+ * from the command line.
+ * <p>
+ * Usage: <code>builder.Builder --batch dir|manifest [--out dir] [--jobs n]
+ * [--target linux|arduino|tft_espi] [--report file] [generation options]</code>
+ * </p>
+ * <p>
+ * A folder is searched, including sub folders, for .prj files. 
+ * Any other file is taken as a manifest listing one project file per line,
+ * relative to the manifest, where blank lines and lines starting with '#' 
+ * are ignored. Each project is written to &lt;out&gt;/&lt;project path&gt;,
+ * its path relative to the folder or manifest without the .prj, or next 
+ * to the project file without <code>--out</code>. So a/p.prj and b/p.prj
+ * go to &lt;out&gt;/a/p and &lt;out&gt;/b/p. A project outside the folder of 
+ * its manifest is written to &lt;out&gt;/&lt;project name&gt; and if two projects 
+ * would still share an output folder the batch fails before writing anything.
+ * </p>
+ * <p>
+ * Projects are handed to a pool of <code>--jobs</code> worker threads,
+ * by default one per processor, each generating with 
+ * <code>HeadlessGenerator</code>. A summary of every project's status,
+ * time taken and bytes written is printed and optionally saved to the
+ * report file. The exit code is EXIT_OK only if every project succeeded.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class BatchGenerator {
+
+  /** The Constants for command line options. */
+  public  final static String BATCH_OPT      = "--batch";
+  public  final static String JOBS_OPT       = "--jobs";
+  public  final static String REPORT_OPT     = "--report";
+
+  /** The Constant PROJECT_EXT. */
+  final static String PROJECT_EXT            = ".prj";
+  
+  /** The Constant USAGE. */
+  private final static String USAGE = 
+      "usage: builder.Builder " + BATCH_OPT + " dir|manifest [" 
+      + HeadlessGenerator.OUT_OPT + " dir] [" + JOBS_OPT + " n] ["
+      + HeadlessGenerator.TARGET_OPT + " " + ProjectModel.PLATFORM_LINUX + "|" 
+      + ProjectModel.PLATFORM_ARDUINO + "|" + ProjectModel.PLATFORM_TFT_ESPI + "] ["
+      + REPORT_OPT + " file] [generation options]";
+
+  /**
+   * Instantiates a new batch generator.
+   */
+  private BatchGenerator() {
+  }
+
+  /**
+   * Run batch code generation.
+   * 
+   * Handed our arguments by HeadlessGenerator.run() when 
+   * <code>--batch</code> is given.
+   *
+   * @param args
+   *          the command line arguments
+   * @return the exit code
+   */
+  public static int run(String[] args) {
+    CommandLine cl = new CommandLine(USAGE, new String[0], new String[] { BATCH_OPT, 
+        HeadlessGenerator.OUT_OPT, HeadlessGenerator.TARGET_OPT, REPORT_OPT, JOBS_OPT }, true);
+    if (!cl.parse(args)) {
+      return HeadlessGenerator.EXIT_USAGE;
+    }
+    String batchName = cl.get(BATCH_OPT);
+    String outName = cl.get(HeadlessGenerator.OUT_OPT);
+    List<String> targets = cl.getTargets(null);
+    Integer jobs = cl.getInt(JOBS_OPT, Runtime.getRuntime().availableProcessors());
+    if (batchName == null || jobs == null || jobs.intValue() < 1 
+        || targets == null || targets.size() > 1) {
+      return cl.usage();
+    }
+    final String target = targets.get(0);
+    File batch = new File(batchName).getAbsoluteFile();
+    File outFolder = (outName == null) ? null : new File(outName).getAbsoluteFile();
+    List<File> projects = new ArrayList<File>();
+    File root;
+    try {
+      if (batch.isDirectory()) {
+        root = batch;
+        findProjects(batch, projects);
+        Collections.sort(projects);
+      } else {
+        root = batch.getParentFile();
+        readManifest(batch, projects);
+      }
+    } catch (IOException e) {
+      System.err.println("Unable to read: " + batch.getPath() + " " + e.toString());
+      return HeadlessGenerator.EXIT_USAGE;
+    }
+    if (projects.isEmpty()) {
+      System.err.println("No project files found in: " + batch.getPath());
+      return HeadlessGenerator.EXIT_USAGE;
+    }
+    List<File> folders;
+    try {
+      folders = outputFolders(projects, root, outFolder);
+    } catch (CodeGenException e) {
+      System.err.println(e.getMessage());
+      return HeadlessGenerator.EXIT_USAGE;
+    }
+
+    FontFactory.getInstance().init();
+    long start = System.nanoTime();
+    final List<HeadlessGenerator.Result> results = generate(projects, folders, target, jobs);
+    final long millis = (System.nanoTime() - start) / 1000000L;
+
+    report(System.out, results, millis, jobs);
+    if (!cl.writeReport(ps -> report(ps, results, millis, jobs))) {
+      return HeadlessGenerator.EXIT_FAILED;
+    }
+    for (HeadlessGenerator.Result r : results) {
+      if (r.getStatus() != HeadlessGenerator.EXIT_OK) {
+        return HeadlessGenerator.EXIT_FAILED;
+      }
+    }
+    return HeadlessGenerator.EXIT_OK;
+  }
+
+  /**
+   * Pick the output folder of each project in our batch.
+   *
+   * @param projects
+   *          the project files
+   * @param root
+   *          the folder we searched or that holds our manifest
+   * @param outFolder
+   *          the folder to hold each project's output folder
+   *          or null to write next to each project
+   * @return the <code>list</code> of folders in the same order as projects
+   * @throws CodeGenException
+   *           if two projects would be written to the same folder
+   */
+  static List<File> outputFolders(List<File> projects, File root, File outFolder) 
+      throws CodeGenException {
+    Path rootPath = root.toPath().toAbsolutePath().normalize();
+    Map<Path, File> used = new HashMap<Path, File>();
+    List<File> folders = new ArrayList<File>(projects.size());
+    for (File prj : projects) {
+      File folder = prj.getParentFile();
+      if (outFolder != null) {
+        Path prjPath = prj.toPath().toAbsolutePath().normalize();
+        String name = prj.getName();
+        if (prjPath.startsWith(rootPath)) {
+          name = rootPath.relativize(prjPath).toString();
+        }
+        folder = new File(outFolder, name.substring(0, name.length() - PROJECT_EXT.length()));
+      }
+      File other = used.put(folder.toPath().toAbsolutePath().normalize(), prj);
+      if (other != null) {
+        throw new CodeGenException("Projects " + other.getPath() + " and " + prj.getPath()
+            + " would both be written to: " + folder.getPath());
+      }
+      folders.add(folder);
+    }
+    return folders;
+  }
+
+  /**
+   * Generate code for a list of projects on a pool of worker threads.
+   *
+   * @param projects
+   *          the project files
+   * @param folders
+   *          the output folder of each project, see outputFolders()
+   * @param target
+   *          the target platform or null to use each project's own
+   * @param jobs
+   *          the number of worker threads
+   * @return the <code>list</code> of results in the same order as projects
+   */
+  public static List<HeadlessGenerator.Result> generate(List<File> projects, 
+      List<File> folders, final String target, int jobs) {
+    ExecutorService pool = Executors.newFixedThreadPool(Math.min(jobs, projects.size()));
+    List<Future<HeadlessGenerator.Result>> futures = 
+        new ArrayList<Future<HeadlessGenerator.Result>>(projects.size());
+    try {
+      for (int i=0; i<projects.size(); i++) {
+        final File prj = projects.get(i);
+        final File folder = folders.get(i);
+        futures.add(pool.submit(() -> generate(prj, folder, target)));
+      }
+      List<HeadlessGenerator.Result> results = 
+          new ArrayList<HeadlessGenerator.Result>(projects.size());
+      for (int i=0; i<futures.size(); i++) {
+        try {
+          results.add(futures.get(i).get());
+        } catch (ExecutionException e) {
+          Builder.logger.error("Code Generation Failed: " + projects.get(i).getName(), e.getCause());
+          results.add(new HeadlessGenerator.Result(projects.get(i), HeadlessGenerator.EXIT_FAILED,
+              System.nanoTime(), 0, "Code Generation Failed: " + e.getCause().toString()));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new CodeGenException("Batch interrupted");
+        }
+      }
+      return results;
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Generate code for one project of our batch.
+   *
+   * @param prj
+   *          the project file
+   * @param folder
+   *          the project's output folder
+   * @param target
+   *          the target platform or null
+   * @return the <code>Result</code> object
+   */
+  private static HeadlessGenerator.Result generate(File prj, File folder, String target) {
+    if (!folder.isDirectory() && !folder.mkdirs()) {
+      return new HeadlessGenerator.Result(prj, HeadlessGenerator.EXIT_FAILED, System.nanoTime(), 
+          0, "Unable to create folder: " + folder.getPath());
+    }
+    return HeadlessGenerator.generate(prj, folder, target);
+  }
+
+  /**
+   * Find every project file within a folder and its sub folders.
+   *
+   * @param folder
+   *          the folder
+   * @param projects
+   *          the <code>list</code> to add project files to
+   */
+  static void findProjects(File folder, List<File> projects) {
+    File[] files = folder.listFiles();
+    if (files == null) return;
+    for (File f : files) {
+      if (f.isDirectory()) {
+        findProjects(f, projects);
+      } else if (f.getName().endsWith(PROJECT_EXT)) {
+        projects.add(f);
+      }
+    }
+  }
+
+  /**
+   * Read a manifest of project files.
+   *
+   * @param manifest
+   *          the manifest file
+   * @param projects
+   *          the <code>list</code> to add project files to
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  static void readManifest(File manifest, List<File> projects) throws IOException {
+    File base = manifest.getParentFile();
+    try (BufferedReader br = new BufferedReader(new InputStreamReader(
+        new FileInputStream(manifest), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = br.readLine()) != null) {
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith("#")) continue;
+        File f = new File(line);
+        if (!f.isAbsolute()) {
+          f = new File(base, line);
+        }
+        projects.add(f.getAbsoluteFile());
+      }
+    }
+  }
+
+  /**
+   * Output our summary report.
+   *
+   * @param ps
+   *          the print stream
+   * @param results
+   *          the results
+   * @param millis
+   *          the total elapsed time in milliseconds
+   * @param jobs
+   *          the number of worker threads
+   */
+  private static void report(PrintStream ps, List<HeadlessGenerator.Result> results, 
+      long millis, int jobs) {
+    int nFailed = 0;
+    long nBytes = 0;
+    long nMillis = 0;
+    ps.println(String.format("%-8s %10s %12s  %s", "STATUS", "MS", "BYTES", "PROJECT"));
+    for (HeadlessGenerator.Result r : results) {
+      String status;
+      switch (r.getStatus()) {
+        case HeadlessGenerator.EXIT_OK:
+          status = "OK";
+          break;
+        case HeadlessGenerator.EXIT_BAD_PROJECT:
+          status = "BAD-PRJ";
+          nFailed++;
+          break;
+        default:
+          status = "FAILED";
+          nFailed++;
+          break;
+      }
+      nBytes += r.getBytes();
+      nMillis += r.getMillis();
+      ps.println(String.format("%-8s %10d %12d  %s", status, r.getMillis(), r.getBytes(),
+          r.getProjectFile().getPath()));
+      if (r.getStatus() != HeadlessGenerator.EXIT_OK) {
+        ps.println("         " + r.getMessage());
+      }
+    }
+    ps.println(String.format("%d projects, %d failed, %d bytes written, %d ms elapsed" 
+        + " (%d ms of work on %d jobs)", results.size(), nFailed, nBytes, millis, nMillis,
+        Math.min(jobs, results.size())));
+  }
+
+}
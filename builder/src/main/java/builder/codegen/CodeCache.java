@@ -0,0 +1,214 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import builder.models.WidgetModel;
+
+/**
+ * The Class CodeCache remembers generated code between runs
+ * of the code generator.
+ * <p>
+ * Each entry is stored under a name, for example a pipe and output
+ * file, along with a fingerprint of every input that went into it.
+ * On the next run the entry is only handed back if the fingerprint of
+ * the current inputs is identical, otherwise the code must be rebuilt.
+ * </p>
+ * <p>
+ * Entries may be read and written by pipes running concurrently.
+ * </p>
+ * 
+ * @author Paul Conti
+ *
+ * @param <V>
+ *          the type of code stored
+ */
+public class CodeCache<V> {
+
+  /** The entries keyed by name. */
+  private final Map<String, Entry<V>> entries = new ConcurrentHashMap<String, Entry<V>>(64);
+
+  /**
+   * Gets the code stored under name if its inputs haven't changed.
+   *
+   * @param name
+   *          the name
+   * @param key
+   *          the fingerprint of our current inputs
+   * @return the code or <code>null</code> if missing or out of date
+   */
+  public V get(String name, String key) {
+    Entry<V> e = entries.get(name);
+    if (e != null && e.key.equals(key)) {
+      return e.code;
+    }
+    return null;
+  }
+
+  /**
+   * Store code under name.
+   *
+   * @param name
+   *          the name
+   * @param key
+   *          the fingerprint of the inputs used to build this code
+   * @param code
+   *          the code
+   */
+  public void put(String name, String key, V code) {
+    entries.put(name, new Entry<V>(key, code));
+  }
+
+  /**
+   * Remove all entries.
+   */
+  public void clear() {
+    entries.clear();
+  }
+
+  /**
+   * The Class Entry.
+   */
+  private static class Entry<V> {
+    final String key;
+    final V code;
+
+    Entry(String key, V code) {
+      this.key = key;
+      this.code = code;
+    }
+  }
+
+  /**
+   * The Class Fingerprint builds a SHA-1 digest of code generation inputs.
+   */
+  public static class Fingerprint {
+
+    /** The digest. */
+    private final MessageDigest md;
+
+    /**
+     * Instantiates a new fingerprint.
+     */
+    public Fingerprint() {
+      try {
+        md = MessageDigest.getInstance("SHA-1");
+      } catch (NoSuchAlgorithmException e) {
+        throw new CodeGenException(e.toString());
+      }
+    }
+
+    /**
+     * Add a string.
+     *
+     * @param s
+     *          the string, may be <code>null</code>
+     * @return this fingerprint
+     */
+    public Fingerprint add(String s) {
+      if (s != null) {
+        md.update(s.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) 0);
+      } else {
+        md.update((byte) 1);
+      }
+      return this;
+    }
+
+    /**
+     * Add a list of lines.
+     *
+     * @param lines
+     *          the lines
+     * @return this fingerprint
+     */
+    public Fingerprint add(List<String> lines) {
+      add(String.valueOf(lines.size()));
+      for (String l : lines) {
+        add(l);
+      }
+      return this;
+    }
+
+    /**
+     * Add a map of properties in key order.
+     *
+     * @param map
+     *          the map
+     * @return this fingerprint
+     */
+    public Fingerprint add(Map<String, String> map) {
+      Map<String, String> sorted = new TreeMap<String, String>(map);
+      add(String.valueOf(sorted.size()));
+      for (Map.Entry<String, String> e : sorted.entrySet()) {
+        add(e.getKey());
+        add(e.getValue());
+      }
+      return this;
+    }
+
+    /**
+     * Add a widget model's properties as seen from a page.
+     *
+     * @param m
+     *          the model
+     * @param properties
+     *          the model's mapped properties
+     * @return this fingerprint
+     */
+    public Fingerprint add(WidgetModel m, Map<String, String> properties) {
+      add(m.getType());
+      add(properties);
+      // ButtonCbPipe uses this to decide if it can keep user's case statements
+      add(String.valueOf(m.bModelChanged));
+      return this;
+    }
+
+    /**
+     * toString
+     * 
+     * @return the digest as a hex string
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+      byte[] hash = md.digest();
+      StringBuilder sBd = new StringBuilder(hash.length * 2);
+      for (byte b : hash) {
+        sBd.append(String.format("%02x", b));
+      }
+      return sBd.toString();
+    }
+  }
+
+}
@@ -0,0 +1,382 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The Class CodeGenProfile records where the time goes during one run 
+ * of code generation.
+ * <p>
+ * Every pipe, along with loading templates, parsing and writing our
+ * output files, adds a <code>Stage</code> holding its elapsed time, 
+ * the number of characters it output and, when the JVM supports it, 
+ * the number of bytes the running thread allocated as reported by the
+ * thread MXBean. Pipes that run on fork-join workers are measured on 
+ * their own thread so stages may overlap.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public class CodeGenProfile {
+
+  /** The HotSpot thread bean or null if allocation counting isn't supported. */
+  private static final com.sun.management.ThreadMXBean allocBean = initAllocBean();
+
+  /** The stages in the order they finished. */
+  private final List<Stage> stages = new ArrayList<Stage>();
+
+  /** The project name. */
+  private final String projectName;
+
+  /** The System.nanoTime() our run started at. */
+  private final long startNanos;
+
+  /** The elapsed time of our run, -1 until finished. */
+  private long totalNanos = -1;
+
+  /**
+   * Instantiates a new profile and starts the clock on our run.
+   *
+   * @param projectName
+   *          the project name
+   */
+  public CodeGenProfile(String projectName) {
+    this.projectName = projectName;
+    this.startNanos = System.nanoTime();
+  }
+
+  /**
+   * Turn on thread allocation counting if this JVM supports it.
+   *
+   * @return the <code>ThreadMXBean</code> object or null
+   */
+  private static com.sun.management.ThreadMXBean initAllocBean() {
+    try {
+      ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+      if (bean instanceof com.sun.management.ThreadMXBean) {
+        com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+        if (sunBean.isThreadAllocatedMemorySupported()) {
+          if (!sunBean.isThreadAllocatedMemoryEnabled()) {
+            sunBean.setThreadAllocatedMemoryEnabled(true);
+          }
+          return sunBean;
+        }
+      }
+    } catch (LinkageError | RuntimeException e) {
+      // not a HotSpot JVM, we simply go without allocation counts
+    }
+    return null;
+  }
+
+  /**
+   * Gets the bytes allocated so far by the calling thread.
+   *
+   * @return the allocated bytes or -1 if unsupported
+   */
+  public static long threadAllocatedBytes() {
+    if (allocBean == null) return -1;
+    return allocBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * Start timing a stage on the calling thread.
+   *
+   * @param name
+   *          the stage name, usually the pipe's class name
+   * @param file
+   *          the output file the stage works on, may be null
+   * @return the <code>Stage</code> object to pass to end()
+   */
+  public Stage begin(String name, String file) {
+    return new Stage(name, file);
+  }
+
+  /**
+   * Finish timing a stage and add it to our profile.
+   * 
+   * Must be called on the same thread that called begin().
+   *
+   * @param stage
+   *          the stage
+   * @param chars
+   *          the characters output by the stage
+   * @param bCached
+   *          true if the stage replayed its last output,
+   *          or for a file, left it unchanged
+   */
+  public void end(Stage stage, long chars, boolean bCached) {
+    stage.nanos = System.nanoTime() - stage.nanos;
+    if (stage.allocBytes >= 0) {
+      stage.allocBytes = threadAllocatedBytes() - stage.allocBytes;
+    }
+    stage.chars = chars;
+    stage.bCached = bCached;
+    synchronized (stages) {
+      stages.add(stage);
+    }
+  }
+
+  /**
+   * Stop the clock on our run.
+   */
+  public void finish() {
+    totalNanos = System.nanoTime() - startNanos;
+  }
+
+  /**
+   * Gets the stages.
+   *
+   * @return the <code>list</code> of stages in the order they finished
+   */
+  public List<Stage> getStages() {
+    synchronized (stages) {
+      return new ArrayList<Stage>(stages);
+    }
+  }
+
+  /**
+   * Gets the elapsed time of our run.
+   *
+   * @return the milliseconds
+   */
+  public long getTotalMillis() {
+    long nanos = (totalNanos < 0) ? System.nanoTime() - startNanos : totalNanos;
+    return nanos / 1000000L;
+  }
+
+  /**
+   * Gets our slowest stage.
+   *
+   * @return the <code>Stage</code> object or null if we have none
+   */
+  public Stage getSlowest() {
+    Stage slowest = null;
+    for (Stage s : getStages()) {
+      if (slowest == null || s.nanos > slowest.nanos) {
+        slowest = s;
+      }
+    }
+    return slowest;
+  }
+
+  /**
+   * Gets a one line summary suitable for our status bar.
+   *
+   * @return the <code>String</code> object
+   */
+  public String getSummary() {
+    Stage slowest = getSlowest();
+    if (slowest == null) {
+      return getTotalMillis() + " ms";
+    }
+    return String.format(Locale.ROOT, "%d ms, slowest %s %.1f ms", 
+        getTotalMillis(), slowest.name, slowest.getMillis());
+  }
+
+  /**
+   * Gets our profile as a table for the log, one stage per line.
+   *
+   * @return the <code>String</code> object
+   */
+  @Override
+  public String toString() {
+    StringBuilder sBd = new StringBuilder();
+    long nChars = 0;
+    long nAlloc = 0;
+    sBd.append(String.format(Locale.ROOT, 
+        "Code Generation Profile: project=%s total_ms=%d alloc_supported=%b", projectName, getTotalMillis(), allocBean != null));
+    sBd.append(System.lineSeparator());
+    for (Stage s : getStages()) {
+      sBd.append(String.format(Locale.ROOT, "  stage=%-18s file=%-20s ms=%9.3f chars=%8d alloc=%10d cached=%b",
+          s.name, s.file, s.getMillis(), s.chars, s.allocBytes, s.bCached));
+      sBd.append(System.lineSeparator());
+      nChars += s.chars;
+      if (s.allocBytes > 0) nAlloc += s.allocBytes;
+    }
+    sBd.append(String.format(Locale.ROOT, "  total chars=%d alloc=%d", nChars, nAlloc));
+    return sBd.toString();
+  }
+
+  /**
+   * Gets our profile as a JSON document.
+   *
+   * @return the <code>String</code> object
+   */
+  public String toJson() {
+    String nl = System.lineSeparator();
+    StringBuilder sBd = new StringBuilder();
+    sBd.append("{").append(nl);
+    sBd.append("  \"project\": ").append(quote(projectName)).append(",").append(nl);
+    sBd.append("  \"totalMillis\": ").append(getTotalMillis()).append(",").append(nl);
+    sBd.append("  \"allocSupported\": ").append(allocBean != null).append(",").append(nl);
+    sBd.append("  \"stages\": [");
+    List<Stage> list = getStages();
+    for (int i=0; i<list.size(); i++) {
+      Stage s = list.get(i);
+      sBd.append((i == 0) ? nl : "," + nl);
+      sBd.append("    {\"name\": ").append(quote(s.name));
+      sBd.append(", \"file\": ").append(quote(s.file));
+      sBd.append(", \"millis\": ").append(String.format(Locale.ROOT, "%.3f", s.getMillis()));
+      sBd.append(", \"chars\": ").append(s.chars);
+      sBd.append(", \"allocBytes\": ").append(s.allocBytes);
+      sBd.append(", \"cached\": ").append(s.bCached).append("}");
+    }
+    sBd.append(nl).append("  ]").append(nl);
+    sBd.append("}").append(nl);
+    return sBd.toString();
+  }
+
+  /**
+   * Quote a string for JSON.
+   *
+   * @param s
+   *          the string, may be null
+   * @return the quoted <code>String</code> object
+   */
+  private static String quote(String s) {
+    if (s == null) return "null";
+    StringBuilder sBd = new StringBuilder(s.length() + 2);
+    sBd.append('"');
+    for (int i=0; i<s.length(); i++) {
+      char c = s.charAt(i);
+      switch (c) {
+        case '"':  sBd.append("\\\""); break;
+        case '\\': sBd.append("\\\\"); break;
+        case '\n': sBd.append("\\n");  break;
+        case '\r': sBd.append("\\r");  break;
+        case '\t': sBd.append("\\t");  break;
+        default:
+          if (c < 0x20) {
+            sBd.append(String.format("\\u%04x", (int) c));
+          } else {
+            sBd.append(c);
+          }
+      }
+    }
+    sBd.append('"');
+    return sBd.toString();
+  }
+
+  /**
+   * The Class Stage holds the measurements of one step of our run.
+   */
+  public static class Stage {
+    
+    /** The stage name. */
+    private final String name;
+    
+    /** The output file name. */
+    private final String file;
+    
+    /** The start time while running, then the elapsed nanoseconds. */
+    private long nanos;
+    
+    /** The thread's allocated bytes at start while running, then the bytes allocated. */
+    private long allocBytes;
+    
+    /** The characters output. */
+    private long chars = 0;
+    
+    /** True if our output was replayed from cache. */
+    private boolean bCached = false;
+
+    /**
+     * Instantiates a new stage and starts measuring it.
+     *
+     * @param name
+     *          the name
+     * @param file
+     *          the file
+     */
+    Stage(String name, String file) {
+      this.name = name;
+      this.file = file;
+      this.allocBytes = threadAllocatedBytes();
+      this.nanos = System.nanoTime();
+    }
+
+    /**
+     * Gets the stage name.
+     *
+     * @return the name
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Gets the output file name.
+     *
+     * @return the file name or null
+     */
+    public String getFile() {
+      return file;
+    }
+
+    /**
+     * Gets the elapsed time.
+     *
+     * @return the milliseconds
+     */
+    public double getMillis() {
+      return nanos / 1000000.0;
+    }
+
+    /**
+     * Gets the characters output.
+     *
+     * @return the chars
+     */
+    public long getChars() {
+      return chars;
+    }
+
+    /**
+     * Gets the bytes allocated by the stage's thread.
+     *
+     * @return the bytes or -1 if unsupported
+     */
+    public long getAllocBytes() {
+      return allocBytes;
+    }
+
+    /**
+     * Checks if our output was replayed from cache.
+     *
+     * @return true, if cached
+     */
+    public boolean isCached() {
+      return bCached;
+    }
+  }
+
+}
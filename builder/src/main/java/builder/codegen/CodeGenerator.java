@@ -26,24 +26,21 @@
 package builder.codegen;
 
 import java.awt.Color;
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.lang.StringBuilder;
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.swing.JOptionPane;
 
 import builder.Builder;
 import builder.codegen.pipes.AppPipe;
 import builder.codegen.pipes.ButtonCbPipe;
+import builder.codegen.pipes.CachedPipe;
 import builder.codegen.pipes.CheckboxCbPipe;
 import builder.codegen.pipes.DrawCbPipe;
 import builder.codegen.pipes.ElementPipe;
@@ -68,10 +65,16 @@ import builder.codegen.pipes.SpinnerCbPipe;
 import builder.codegen.pipes.StartupPipe;
 import builder.codegen.pipes.TickCbPipe;
 import builder.common.CommonUtils;
+import builder.common.EnumFactory;
 import builder.controller.Controller;
+import builder.fonts.FontFactory;
+import builder.models.ImageModel;
+import builder.models.ImgButtonModel;
 import builder.models.ProjectModel;
 import builder.models.WidgetModel;
-import builder.views.PagePane;
+import builder.prefs.AlphaKeyPadEditor;
+import builder.prefs.GeneralEditor;
+import builder.prefs.NumKeyPadEditor;
 import builder.widgets.Widget;
 
 /**
@@ -136,16 +139,24 @@ public class CodeGenerator {
   /** The Constant LINUX_EXT. */
   public  final static String LINUX_EXT               = ".c";
 
-  /** regex pattern */
-  private final static Pattern LTRIM = Pattern.compile("^\\s+");
-  private final static String EMPTY_STRING = "";
-
   /** The projects' pages. */
-  private List<PagePane> pages;
+  private List<? extends CodePage> pages;
   
   /** The full list of widget models. */
   List<WidgetModel> models;
   
+  /** The index of our project built once per generation. */
+  private ProjectIndex index = null;
+  
+  /** The elements our flash optimizer moved, null when it's off. */
+  private FlashPlanner.Plan flashPlan = null;
+  
+  /** The font subsets we write, null when our user keeps fonts whole. */
+  private FontSubsets fontSubsets = null;
+  
+  /** The images we write as C arrays, null when our user keeps them on file. */
+  private ImageResources imageResources = null;
+  
   /** The current project name. */
   String sProjectName = null;
   
@@ -176,38 +187,116 @@ public class CodeGenerator {
   protected int m_nState = ST_UNDEFINED;
   
   /** The code generation pipe lines. */
-  private Pipeline<StringBuilder> workFlow_Linux;
-  private Pipeline<StringBuilder> workFlow_Compat;
-  private Pipeline<StringBuilder> workFlow_ArduinoHdr;
-  private Pipeline<StringBuilder> workFlow_ArduinoIno;
+  private Pipeline<TaggedDocument> workFlow_Linux;
+  private Pipeline<TaggedDocument> workFlow_Compat;
+  private Pipeline<TaggedDocument> workFlow_ArduinoHdr;
+  private Pipeline<TaggedDocument> workFlow_ArduinoIno;
   
   /** The workflow pipes. */
-  private Pipe<StringBuilder> appPipe;
-  private Pipe<StringBuilder> buttonCbPipe;
-  private Pipe<StringBuilder> checkboxCbPipe;
-  private Pipe<StringBuilder> drawCbPipe;
-  private Pipe<StringBuilder> elementPipe;
-  private Pipe<StringBuilder> enumPipe;
-  private Pipe<StringBuilder> externRefPipe;
-  private Pipe<StringBuilder> extraElementPipe;
-  private Pipe<StringBuilder> filePipe;
-  private Pipe<StringBuilder> fontsPipe;
-  private Pipe<StringBuilder> fontLoadPipe;
-  private Pipe<StringBuilder> headerPipe;
-  private Pipe<StringBuilder> includesPipe;
-  private Pipe<StringBuilder> initGuiPipe;
-  private Pipe<StringBuilder> keypadCbPipe;
-  private Pipe<StringBuilder> listboxCbPipe;
-  private Pipe<StringBuilder> pathStoragePipe;
-  private Pipe<StringBuilder> resourcesPipe;
-  private Pipe<StringBuilder> saveRefPipe;
-  private Pipe<StringBuilder> sliderCbPipe;
-  private Pipe<StringBuilder> spinnerCbPipe;
-  private Pipe<StringBuilder> startupPipe;
-  private Pipe<StringBuilder> tickCbPipe;
+  private Pipe<TaggedDocument> appPipe;
+  private Pipe<TaggedDocument> buttonCbPipe;
+  private Pipe<TaggedDocument> checkboxCbPipe;
+  private Pipe<TaggedDocument> drawCbPipe;
+  private Pipe<TaggedDocument> elementPipe;
+  private Pipe<TaggedDocument> enumPipe;
+  private Pipe<TaggedDocument> externRefPipe;
+  private Pipe<TaggedDocument> extraElementPipe;
+  private Pipe<TaggedDocument> filePipe;
+  private Pipe<TaggedDocument> fontsPipe;
+  private Pipe<TaggedDocument> fontLoadPipe;
+  private Pipe<TaggedDocument> headerPipe;
+  private Pipe<TaggedDocument> includesPipe;
+  private Pipe<TaggedDocument> initGuiPipe;
+  private Pipe<TaggedDocument> keypadCbPipe;
+  private Pipe<TaggedDocument> listboxCbPipe;
+  private Pipe<TaggedDocument> pathStoragePipe;
+  private Pipe<TaggedDocument> resourcesPipe;
+  private Pipe<TaggedDocument> saveRefPipe;
+  private Pipe<TaggedDocument> sliderCbPipe;
+  private Pipe<TaggedDocument> spinnerCbPipe;
+  private Pipe<TaggedDocument> startupPipe;
+  private Pipe<TaggedDocument> tickCbPipe;
+  
+  /** Run the pipes of each workflow concurrently. */
+  private boolean bParallel = true;
+  
+  /** Only regenerate regions whose inputs changed since our last run. */
+  private boolean bIncremental = true;
+  
+  /** The fingerprint of every input to the current run. */
+  private String sInputKey = null;
+  
+  /** The fingerprint of each page's inputs to the current run keyed by page key. */
+  private Map<String, String> pageKeys = new HashMap<String, String>();
+  
+  /** The regions each pipe output on our previous runs. */
+  private final CodeCache<List<TaggedDocument.State>> regionCache = 
+      new CodeCache<List<TaggedDocument.State>>();
+  
+  /** The code output for each page by InitGuiPipe on our previous runs. */
+  private final CodeCache<String> pageCache = new CodeCache<String>();
+  
+  /** The code of each page collected on our previous runs when splitting pages. */
+  private final CodeCache<PageUnits> unitCache = new CodeCache<PageUnits>();
+  
+  /** The code of each page of this run, or <code>null</code> unless splitting pages. */
+  private PageUnits pageUnits = null;
+  
+  /** The project model used by this run. */
+  private ProjectModel pm = null;
+  
+  /** The number of bytes written to our output files by this run. */
+  private long nBytesWritten = 0;
+  
+  /** The timings of this run. */
+  private CodeGenProfile profile = null;
+  
+  /** Set when our user asks us to stop the run in progress. */
+  private volatile boolean bCancelled = false;
+  
+  /** Told as each pipe of a run finishes, may be null. */
+  private volatile ProgressListener progressListener = null;
+  
+  /** The number of pipes this run will process. */
+  private volatile int nPipes = 0;
+  
+  /** The number of pipes this run has finished. */
+  private final AtomicInteger nPipesDone = new AtomicInteger();
+  
+  /**
+   * The listener interface for receiving the progress of a code generation run.
+   * <p>
+   * Pipes may run on fork join worker threads so our listener 
+   * is called on whichever thread ran the pipe.
+   * </p>
+   */
+  public interface ProgressListener {
+    
+    /**
+     * Called after each pipe of a run finishes.
+     *
+     * @param name
+     *          the pipe's name
+     * @param nDone
+     *          the number of pipes finished so far
+     * @param nTotal
+     *          the number of pipes in this run
+     */
+    void pipeDone(String name, int nDone, int nTotal);
+  }
+  
+  /** The message of the exception thrown by a cancelled run. */
+  public static final String CANCELLED_MSG = "Code Generation Cancelled";
+  
+  /** The suffix of our optional code generation report. */
+  public static final String PROFILE_EXT = "_codegen.json";
   
   /**
-   * Gets the single instance of CodeGenerator.
+   * Gets the single instance of CodeGenerator used by the builder.
+   * 
+   * Generating code for several projects at once, as batch mode does,
+   * requires one CodeGenerator for each project being generated 
+   * since a CodeGenerator holds the state of the run in progress.
    *
    * @return single instance of CodeGenerator
    */
@@ -215,182 +304,346 @@ public class CodeGenerator {
     if (instance == null) {
       instance = new CodeGenerator();
     }
+    return instance;
+  }
+  
+  /**
+   * Build the pipe lines for processing code generation.
+   */
+  private void buildPipeline() {
     // create our pipe line for processing code generation
-    instance.appPipe = new AppPipe(instance);
-    instance.buttonCbPipe = new ButtonCbPipe(instance);
-    instance.checkboxCbPipe = new CheckboxCbPipe(instance);
-    instance.drawCbPipe = new DrawCbPipe(instance);
-    instance.elementPipe = new ElementPipe(instance);
-    instance.enumPipe = new EnumPipe(instance);
-    instance.externRefPipe = new ExternRefPipe(instance);
-    instance.extraElementPipe = new ExtraElementPipe(instance);
-    instance.filePipe = new FilePipe(instance);
-    instance.fontsPipe = new FontsPipe(instance);
-    instance.fontLoadPipe = new FontLoadPipe(instance);
-    instance.headerPipe = new HeaderPipe(instance);
-    instance.includesPipe = new IncludesPipe(instance);
-    instance.initGuiPipe = new InitGuiPipe(instance);
-    instance.keypadCbPipe = new KeypadCbPipe(instance);
-    instance.listboxCbPipe = new ListboxCbPipe(instance);
-    instance.pathStoragePipe = new PathStoragePipe(instance);
-    instance.resourcesPipe = new ResourcesPipe(instance);
-    instance.saveRefPipe = new SaveRefPipe(instance);
-    instance.sliderCbPipe = new SliderCbPipe(instance);
-    instance.spinnerCbPipe = new SpinnerCbPipe(instance);
-    instance.startupPipe = new StartupPipe(instance);
-    instance.tickCbPipe = new TickCbPipe(instance);
+    appPipe = new CachedPipe(this, new AppPipe(this));
+    buttonCbPipe = new CachedPipe(this, new ButtonCbPipe(this));
+    checkboxCbPipe = new CachedPipe(this, new CheckboxCbPipe(this));
+    drawCbPipe = new CachedPipe(this, new DrawCbPipe(this));
+    elementPipe = new CachedPipe(this, new ElementPipe(this));
+    enumPipe = new CachedPipe(this, new EnumPipe(this));
+    externRefPipe = new CachedPipe(this, new ExternRefPipe(this));
+    extraElementPipe = new CachedPipe(this, new ExtraElementPipe(this));
+    filePipe = new CachedPipe(this, new FilePipe(this));
+    fontsPipe = new CachedPipe(this, new FontsPipe(this));
+    fontLoadPipe = new CachedPipe(this, new FontLoadPipe(this));
+    headerPipe = new CachedPipe(this, new HeaderPipe(this));
+    includesPipe = new CachedPipe(this, new IncludesPipe(this));
+    initGuiPipe = new CachedPipe(this, new InitGuiPipe(this));
+    keypadCbPipe = new CachedPipe(this, new KeypadCbPipe(this));
+    listboxCbPipe = new CachedPipe(this, new ListboxCbPipe(this));
+    pathStoragePipe = new CachedPipe(this, new PathStoragePipe(this));
+    resourcesPipe = new CachedPipe(this, new ResourcesPipe(this));
+    saveRefPipe = new CachedPipe(this, new SaveRefPipe(this));
+    sliderCbPipe = new CachedPipe(this, new SliderCbPipe(this));
+    spinnerCbPipe = new CachedPipe(this, new SpinnerCbPipe(this));
+    startupPipe = new CachedPipe(this, new StartupPipe(this));
+    tickCbPipe = new CachedPipe(this, new TickCbPipe(this));
 
     // create our workflow pipeline for single Linux C file output
-    instance.workFlow_Linux = new Pipeline<StringBuilder>(
-        instance.filePipe,
-        instance.includesPipe,
-        instance.pathStoragePipe,
-        instance.fontsPipe,
-        instance.resourcesPipe,
-        instance.enumPipe,
-        instance.elementPipe,
-        instance.extraElementPipe,
-        instance.saveRefPipe,
-        instance.buttonCbPipe,
-        instance.checkboxCbPipe,
-        instance.keypadCbPipe,
-        instance.spinnerCbPipe,
-        instance.listboxCbPipe,
-        instance.drawCbPipe,
-        instance.sliderCbPipe,
-        instance.tickCbPipe,
-        instance.initGuiPipe,
-        instance.fontLoadPipe,
-        instance.startupPipe
+    workFlow_Linux = new Pipeline<TaggedDocument>(
+        filePipe,
+        includesPipe,
+        pathStoragePipe,
+        fontsPipe,
+        resourcesPipe,
+        enumPipe,
+        elementPipe,
+        extraElementPipe,
+        saveRefPipe,
+        buttonCbPipe,
+        checkboxCbPipe,
+        keypadCbPipe,
+        spinnerCbPipe,
+        listboxCbPipe,
+        drawCbPipe,
+        sliderCbPipe,
+        tickCbPipe,
+        initGuiPipe,
+        fontLoadPipe,
+        startupPipe
     );
 
     // create our workflow pipeline for single ino file output bCompat=true
-    instance.workFlow_Compat = new Pipeline<StringBuilder>(
-        instance.filePipe,
-        instance.includesPipe,
-        instance.fontsPipe,
-        instance.resourcesPipe,
-        instance.enumPipe,
-        instance.elementPipe,
-        instance.extraElementPipe,
-        instance.saveRefPipe,
-        instance.buttonCbPipe,
-        instance.checkboxCbPipe,
-        instance.keypadCbPipe,
-        instance.spinnerCbPipe,
-        instance.listboxCbPipe,
-        instance.drawCbPipe,
-        instance.sliderCbPipe,
-        instance.tickCbPipe,
-        instance.initGuiPipe,
-        instance.fontLoadPipe,
-        instance.startupPipe
+    workFlow_Compat = new Pipeline<TaggedDocument>(
+        filePipe,
+        includesPipe,
+        fontsPipe,
+        resourcesPipe,
+        enumPipe,
+        elementPipe,
+        extraElementPipe,
+        saveRefPipe,
+        buttonCbPipe,
+        checkboxCbPipe,
+        keypadCbPipe,
+        spinnerCbPipe,
+        listboxCbPipe,
+        drawCbPipe,
+        sliderCbPipe,
+        tickCbPipe,
+        initGuiPipe,
+        fontLoadPipe,
+        startupPipe
     );
 
     // create our workflow pipeline for header file output bCompat=false
-    instance.workFlow_ArduinoHdr = new Pipeline<StringBuilder>(
-        instance.filePipe,
-        instance.includesPipe,
-        instance.fontsPipe,
-        instance.resourcesPipe,
-        instance.enumPipe,
-        instance.elementPipe,
-        instance.extraElementPipe,
-        instance.externRefPipe,
-        instance.initGuiPipe,
-        instance.fontLoadPipe,
-        instance.startupPipe
+    workFlow_ArduinoHdr = new Pipeline<TaggedDocument>(
+        filePipe,
+        includesPipe,
+        fontsPipe,
+        resourcesPipe,
+        enumPipe,
+        elementPipe,
+        extraElementPipe,
+        externRefPipe,
+        initGuiPipe,
+        fontLoadPipe,
+        startupPipe
     );
 
     // create our workflow pipeline for single file output bCompat=false
-    instance.workFlow_ArduinoIno = new Pipeline<StringBuilder>(
-        instance.appPipe,
-        instance.headerPipe,
-        instance.saveRefPipe,
-        instance.buttonCbPipe,
-        instance.checkboxCbPipe,
-        instance.keypadCbPipe,
-        instance.spinnerCbPipe,
-        instance.listboxCbPipe,
-        instance.drawCbPipe,
-        instance.sliderCbPipe,
-        instance.tickCbPipe
+    workFlow_ArduinoIno = new Pipeline<TaggedDocument>(
+        appPipe,
+        headerPipe,
+        saveRefPipe,
+        buttonCbPipe,
+        checkboxCbPipe,
+        keypadCbPipe,
+        spinnerCbPipe,
+        listboxCbPipe,
+        drawCbPipe,
+        sliderCbPipe,
+        tickCbPipe
     );
-
-    return instance;
   }
   
   /**
    * Instantiates a new code generator.
    */
   public CodeGenerator() {
+    // our pipe line never changes so we only need to build it once
+    buildPipeline();
+    setParallel(bParallel);
   }
   
   /**
    * Generate code setup.
    *
+   * @param projectFile
+   *          the project file (*.prj)
+   * @param pages
+   *          the pages
+   * @param bCompat
+   *          true to output a single backward compatible arduino file
+   * @return the <code>string</code> object, or null on failure
+   */
+  public String generateCode(File projectFile, List<? extends CodePage> pages, boolean bCompat) {
+    try {
+      return generateCode(projectFile, projectFile.getParent(), pages, bCompat);
+    } catch (CodeGenException e) {
+      Builder.logger.debug("Code Generation Failed: " + e.toString());
+      JOptionPane.showMessageDialog(null, "Code Generation Failed: " + e.toString(), 
+          "Error", JOptionPane.ERROR_MESSAGE);
+      return null;
+    }
+  }      
+
+  /**
+   * Generate code into a folder without reporting errors to the user.
+   *
+   * @param projectFile
+   *          the project file (*.prj)
    * @param folder
-   *          the folder
-   * @param fileName
-   *          the file name
+   *          the folder to hold our output files
    * @param pages
    *          the pages
-   * @return the <code>string</code> object
+   * @param bCompat
+   *          true to output a single backward compatible arduino file
+   * @return the <code>string</code> object naming our output files
+   * @throws CodeGenException
+   *           the code gen exception
+   */
+  public String generateCode(File projectFile, String folder, List<? extends CodePage> pages, 
+      boolean bCompat) throws CodeGenException {
+    return generateCode(projectFile, folder, pages, null, bCompat);
+  }
+
+  /**
+   * Generate code into a folder from a project index shared with other targets.
+   * 
+   * The shared index must have been built from the same project, only our
+   * target's project page and font enums are mapped again.
+   *
+   * @param projectFile
+   *          the project file (*.prj)
+   * @param folder
+   *          the folder to hold our output files
+   * @param shared
+   *          the shared project index
+   * @param bCompat
+   *          true to output a single backward compatible arduino file
+   * @return the <code>string</code> object naming our output files
+   * @throws CodeGenException
+   *           the code gen exception
+   * @see ProjectIndex#forTarget(ProjectModel)
+   */
+  public String generateCode(File projectFile, String folder, ProjectIndex shared, 
+      boolean bCompat) throws CodeGenException {
+    return generateCode(projectFile, folder, null, shared, bCompat);
+  }
+
+  /**
+   * Generate code into a folder from either our pages or a shared project index.
+   *
+   * @param projectFile
+   *          the project file (*.prj)
+   * @param folder
+   *          the folder to hold our output files
+   * @param pages
+   *          the pages, only used without a shared index
+   * @param shared
+   *          the shared project index or null to index our pages
+   * @param bCompat
+   *          true to output a single backward compatible arduino file
+   * @return the <code>string</code> object naming our output files
+   * @throws CodeGenException
+   *           the code gen exception
    */
-  public String generateCode(File projectFile, List<PagePane> pages, boolean bCompat) {
-    this.pages = pages;
+  private String generateCode(File projectFile, String folder, List<? extends CodePage> pages, 
+      ProjectIndex shared, boolean bCompat) throws CodeGenException {
+    // our pipes bind this model to whatever thread they run on
+    pm = Controller.getProjectModel();
+    nBytesWritten = 0;
+    pageUnits = null;
+    profile = new CodeGenProfile(projectFile.getName());
     
-    // First build up a full list of widget models for later phases
-    models = new ArrayList<WidgetModel>();
-    for (PagePane p : pages) {
-      List<Widget> widgets = p.getWidgets();
-      for (Widget w : widgets) {
-        models.add(w.getModel());
+    // First index our widget models for later phases
+    CodeGenProfile.Stage stage = profile.begin("ProjectIndex", null);
+    index = (shared == null) ? new ProjectIndex(pages) : shared.forTarget(pm);
+    this.pages = index.getPages();
+    models = index.getModels();
+    profile.end(stage, 0, false);
+    // let our optimizer pick elements for flash if our user gave a budget
+    flashPlan = null;
+    int budget = GeneralEditor.getInstance().getFlashBudget();
+    if (budget > 0) {
+      stage = profile.begin("FlashPlanner", null);
+      flashPlan = FlashPlanner.plan(index, budget);
+      profile.end(stage, 0, false);
+      if (flashPlan != null) {
+        for (String line : flashPlan.format()) {
+          Builder.logger.debug(line);
+        }
+      }
+    }
+    // collect the characters each font displays if our user wants subsets
+    fontSubsets = null;
+    if (GeneralEditor.getInstance().isFontSubset()) {
+      stage = profile.begin("FontSubsets", null);
+      fontSubsets = FontSubsets.build(index, GeneralEditor.getInstance().getFontSubsetExtra());
+      profile.end(stage, 0, false);
+      if (fontSubsets != null) {
+        for (String line : fontSubsets.format()) {
+          Builder.logger.debug("Font Subset: " + line);
+        }
+      }
+    }
+    // convert images on file to C arrays if our user wants them in flash
+    imageResources = null;
+    if (GeneralEditor.getInstance().isImageArrays()) {
+      stage = profile.begin("ImageResources", null);
+      imageResources = ImageResources.build(index);
+      profile.end(stage, 0, false);
+      if (imageResources != null) {
+        for (String line : imageResources.format()) {
+          Builder.logger.debug("Image Array: " + line);
+        }
       }
     }
     // create our template manager
     tm = new TemplateManager();
     // grab user's defaults from the General model so we can determine our target platform.
-    String target =Controller.getTargetPlatform();  
-    try {
-      // set our FSM state
-      if(target.equals(ProjectModel.PLATFORM_LINUX)) {
-        // do not use header version with linux C files
-        m_nState = ST_LINUX;
-        tm.storeTemplates("linux.t");
+    String target = pm.getTargetPlatform();  
+    // set our FSM state
+    String templateFileName = null;
+    if(target.equals(ProjectModel.PLATFORM_LINUX)) {
+      // do not use header version with linux C files
+      m_nState = ST_LINUX;
+      templateFileName = "linux.t";
+    } else {
+      if (bCompat) {
+        m_nState = ST_ARDUINO_COMPAT;
       } else {
-        if (bCompat) {
-          m_nState = ST_ARDUINO_COMPAT;
-        } else {
-          m_nState = ST_ARDUINO_HDR;
-        }
-        tm.storeTemplates("arduino.t");
+        m_nState = ST_ARDUINO_HDR;
       }
-      // do the work
-      return doCodeGen(projectFile);
-    } catch (CodeGenException e) {
-      Builder.logger.debug("Code Generation Failed: " + e.toString());
-      JOptionPane.showMessageDialog(null, "Code Generation Failed: " + e.toString(), 
-          "Error", JOptionPane.ERROR_MESSAGE);
-      return null;
+      templateFileName = "arduino.t";
+    }
+    stage = profile.begin("TemplateManager", templateFileName);
+    tm.storeTemplates(templateFileName);
+    profile.end(stage, 0, false);
+    stage = profile.begin("InputKeys", null);
+    buildInputKeys(templateFileName);
+    profile.end(stage, 0, false);
+    nPipesDone.set(0);
+    switch (m_nState) {
+      case ST_LINUX:
+        nPipes = workFlow_Linux.size();
+        break;
+      case ST_ARDUINO_COMPAT:
+        nPipes = workFlow_Compat.size();
+        break;
+      default:
+        nPipes = workFlow_ArduinoIno.size() + workFlow_ArduinoHdr.size();
+        break;
+    }
+    // do the work
+    String sMessage = null;
+    try {
+      sMessage = doCodeGen(projectFile, folder);
+    } finally {
+      // our index and its mapped properties only live for one generation
+      index = null;
+      flashPlan = null;
+      fontSubsets = null;
+      imageResources = null;
     }
+    profile.finish();
+    Builder.logger.debug(profile.toString());
+    if (GeneralEditor.getInstance().isCodeGenReport()) {
+      writeProfile(new File(folder, sProjectName + PROFILE_EXT));
+    }
+    return sMessage;
   }      
 
+  /**
+   * Write out the timings of this run as JSON.
+   * 
+   * A failure to write our report is only logged since
+   * the generated code itself is fine.
+   *
+   * @param file
+   *          the report file
+   */
+  private void writeProfile(File file) {
+    try {
+      OutputFile.write(file, profile.toJson(), false);
+    } catch (IOException e) {
+      Builder.logger.error("Unable to write " + file.getName() + ": " + e.toString());
+    }
+  }
+
   /**
    * doCodeGen is the main code generation loop.
    *
    * @param projectFile
    *          the project file (*.prj)
+   * @param folder
+   *          the folder to hold our output files
    * @throws CodeGenException
    *           the code gen exception
    */
-  public String doCodeGen(File projectFile) throws CodeGenException 
+  public String doCodeGen(File projectFile, String folder) throws CodeGenException 
   {
     String sMessage = null;
-    StringBuilder sBd = null;
-    StringBuilder code = null;
+    TaggedDocument doc = null;
     
-    String folder = projectFile.getParent();
     // remove the project extension from our input file
     sProjectName = projectFile.getName();
     int n = sProjectName.indexOf(".prj");
@@ -403,7 +656,9 @@ public class CodeGenerator {
     File tmFile = null;
     File appFile = null;
     File hdrFile = null;
-    BufferedWriter bw = null;
+    boolean bAppExists = false;
+    boolean bHdrExists = false;
+    AppMigration migration = null;
     try {
       switch (m_nState) {
         case ST_LINUX:
@@ -413,59 +668,54 @@ public class CodeGenerator {
           /* Do we need to create our application file from templateName?
            */
           appFile = new File(appFullPath);
-          if (!appFile.exists()) {
+          bAppExists = appFile.exists();
+          tmFile = appFile;
+          if (!bAppExists) {
             String fullPath = CommonUtils.getInstance().getWorkingDir() +
                 "templates" + System.getProperty("file.separator") + LINUX_TEMPLATE;
             tmFile = new File(fullPath);
-            CommonUtils.copyFile(tmFile, appFile);
             sTemplateFileName = fullPath;
-          } else {
-            // Make a backup copy of project's file
-            CommonUtils.backupFile(appFile);
           }
-          sBd = CodeUtils.copyFileToBuffer(appFile);
+          doc = parse(tmFile);
           // run our pipe line
           sTemplateFileName = appFullPath;
           sOutputFileName = appName;
-          code = workFlow_Linux.process(sBd);
-//          bw = new BufferedWriter(new FileWriter(appFile));
-          bw = new BufferedWriter(new OutputStreamWriter(
-              new FileOutputStream(appFile), "UTF-8"));
-          bw.write(code.toString());
-          bw.flush();
-          bw.close();
+          workFlow_Linux.process(doc);
+          // only write (and backup) our file if its contents changed
+          checkCancelled();
+          writeOutput(appFile, doc, bAppExists);
           sMessage = new String(appName);
           break;
         case ST_ARDUINO_COMPAT:
           appName = new String(sProjectName + ARDUINO_EXT);
           appFullPath = folder + System.getProperty("file.separator") + appName;
           sTemplateFileName = appFullPath;
-          /* Do we need to upgrade a beta application file?
-           */
-          upgradeBetaApp(appFullPath);
-          /* Do we need to create our application file from templateName?
-           */
           appFile = new File(appFullPath);
-          if (!appFile.exists()) {
+          bAppExists = appFile.exists();
+          if (bAppExists) {
+            /* Read our application file once, upgrading it if
+             * it was created by an older version of the builder.
+             */
+            migration = migrate(appFile, false);
+            doc = parse(appName, migration.getText());
+          } else {
+            /* We need to create our application file from templateName
+             */
             String fullPath = CommonUtils.getInstance().getWorkingDir() +
                 "templates" + System.getProperty("file.separator") + ARDUINO_COMPAT_TEMPLATE;
             tmFile = new File(fullPath);
-            CommonUtils.copyFile(tmFile, appFile);
             sTemplateFileName = fullPath;
-          } else {
-            // Make a backup copy of project's file
-            CommonUtils.backupFile(appFile);
+            doc = parse(tmFile);
           }
-          sBd = CodeUtils.copyFileToBuffer(appFile);
           // run our pipe line
           sOutputFileName = appName;
-          code = workFlow_Compat.process(sBd);
-//          bw = new BufferedWriter(new FileWriter(appFile));
-          bw = new BufferedWriter(new OutputStreamWriter(
-              new FileOutputStream(appFile), "UTF-8"));
-          bw.write(code.toString());
-          bw.flush();
-          bw.close();
+          workFlow_Compat.process(doc);
+          // only write (and backup) our file if its contents changed
+          checkCancelled();
+          backupMigration(migration);
+          writeOutput(appFile, doc, bAppExists);
+          writeFontSubsets(folder);
+          writeImageResources(folder);
           sMessage = new String(appName);
           break;
         case ST_ARDUINO_HDR:
@@ -486,60 +736,51 @@ public class CodeGenerator {
           hdrName = new String(sProjectName + HEADER_EXT);
           hdrFullPath = folder + System.getProperty("file.separator") + hdrName;
           sTemplateFileName = appFullPath;
-          /* Do we need to repair the application file?
-           */
-          removePastSins(appFullPath);
-          /* Do we need to upgrade a beta application file?
-           */
-          upgradeBetaApp(appFullPath);
-          /* now we need to determine if we have a 
-           * older single file that needs upgrading.
-           */
-          modifyAppToUseHdr(folder, appFullPath, hdrFullPath);
-          /* Do we need to create our application file from templateName?
-           */
           appFile = new File(appFullPath);
-          if (!appFile.exists()) {
+          bAppExists = appFile.exists();
+          if (bAppExists) {
+            /* Read our application file once, repairing and upgrading it
+             * if it was created by an older version of the builder,
+             * including older single files that now need our header.
+             */
+            migration = migrate(appFile, true);
+          } else {
+            /* We need to create our application file from templateName
+             */
             String name= CommonUtils.getInstance().getWorkingDir() +
                 "templates" + System.getProperty("file.separator") + ARDUINO_TEMPLATE;
             tmFile = new File(name);
-            CommonUtils.copyFile(tmFile, appFile);
             sTemplateFileName = name;
-          } else {
-            // Make a backup copy of project's app file
-            CommonUtils.backupFile(appFile);
           }
           hdrFile = new File(hdrFullPath);
+          bHdrExists = hdrFile.exists();
           String hdrTemplate = hdrFullPath;
-          if (!hdrFile.exists()) {
-            String name = CommonUtils.getInstance().getWorkingDir() +
+          if (!bHdrExists) {
+            hdrTemplate = CommonUtils.getInstance().getWorkingDir() +
                 "templates" + System.getProperty("file.separator") + HDR_TEMPLATE;
-            tmFile = new File(name);
-            CommonUtils.copyFile(tmFile, hdrFile);
-            hdrTemplate = name;
-          } else {
-            // Make a backup copy of project's header file
-            CommonUtils.backupFile(hdrFile);
           }
-          sBd = CodeUtils.copyFileToBuffer(appFile);
+          doc = (migration != null) ? parse(appName, migration.getText()) : parse(tmFile);
           // run our pipe line
           sOutputFileName = appName;
-          code = workFlow_ArduinoIno.process(sBd);
-          bw = new BufferedWriter(new OutputStreamWriter(
-              new FileOutputStream(appFile), "UTF-8"));
-          bw.write(code.toString());
-          bw.flush();
-          bw.close();
-          sBd = CodeUtils.copyFileToBuffer(hdrFile);
+          workFlow_ArduinoIno.process(doc);
+          TaggedDocument appDoc = doc;
+          doc = parse(new File(hdrTemplate));
           // run our pipe line
           sTemplateFileName = hdrTemplate;  // for any error messages
           sOutputFileName = hdrName;
-          code = workFlow_ArduinoHdr.process(sBd);
-          bw = new BufferedWriter(new OutputStreamWriter(
-              new FileOutputStream(hdrFile), "UTF-8"));
-          bw.write(code.toString());
-          bw.flush();
-          bw.close();
+          if (GeneralEditor.getInstance().isSplitPages()) {
+            pageUnits = getPageUnits(hdrName);
+          }
+          workFlow_ArduinoHdr.process(doc);
+          // only write (and backup) our files if their contents changed
+          // and both were generated
+          checkCancelled();
+          backupMigration(migration);
+          writeOutput(appFile, appDoc, bAppExists);
+          writeOutput(hdrFile, doc, bHdrExists);
+          writePageUnits(folder, hdrName, doc);
+          writeFontSubsets(folder);
+          writeImageResources(folder);
           sMessage = new String(appName + ", " + hdrName);
           break;
       }
@@ -550,578 +791,512 @@ public class CodeGenerator {
   }
   
   /**
-   * upgrade our beta version of app to current single file app 
-   * @param appName
-   * @param backupName
-   * @param hdrName
-   * @param bOldApp
+   * Parse one of our source files into a tagged document.
+   *
+   * @param file
+   *          the source file
+   * @return the <code>TaggedDocument</code> object
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
    */
-  public void upgradeBetaApp(String appName) throws CodeGenException, IOException {
-    File appFile = new File(appName);
-    if (!appFile.exists()) {
-      return; // nothing to do here
-    }
-    BufferedReader br;
-    BufferedWriter bwA;
-    String APP_TAG = new String(Tags.TAG_PREFIX + Tags.APP_TAG + Tags.TAG_SUFFIX_START);
-    String FILE_TAG = new String(Tags.TAG_PREFIX + Tags.FILE_TAG + Tags.TAG_SUFFIX_START);
-    String FILE_END_TAG = new String(Tags.TAG_PREFIX + Tags.FILE_TAG + Tags.TAG_SUFFIX_END);
-    String FONTS_TAG = new String(Tags.TAG_PREFIX + Tags.FONTS_TAG + Tags.TAG_SUFFIX_START);
-    String INCLUDES_TAG = new String(Tags.TAG_PREFIX + Tags.INCLUDES_TAG + Tags.TAG_SUFFIX_START);
-    String INCLUDES_END_TAG = new String(Tags.TAG_PREFIX + Tags.INCLUDES_TAG + Tags.TAG_SUFFIX_END);
-    String CHECKBOXCB_TAG = new String(Tags.TAG_PREFIX + Tags.CHECKBOXCB_TAG + Tags.TAG_SUFFIX_START);
-    String CHECKBOXCB_END_TAG = new String(Tags.TAG_PREFIX + Tags.CHECKBOXCB_TAG + Tags.TAG_SUFFIX_END);
-    String KEYPADCB_TAG = new String(Tags.TAG_PREFIX + Tags.KEYPADCB_TAG + Tags.TAG_SUFFIX_START);
-    String KEYPADCB_END_TAG = new String(Tags.TAG_PREFIX + Tags.KEYPADCB_TAG + Tags.TAG_SUFFIX_END);
-    String SPINNERCB_TAG = new String(Tags.TAG_PREFIX + Tags.SPINNERCB_TAG + Tags.TAG_SUFFIX_START);
-    String SPINNERCB_END_TAG = new String(Tags.TAG_PREFIX + Tags.SPINNERCB_TAG + Tags.TAG_SUFFIX_END);
-    String LISTBOXCB_TAG = new String(Tags.TAG_PREFIX + Tags.LISTBOXCB_TAG + Tags.TAG_SUFFIX_START);
-    String LISTBOXCB_END_TAG = new String(Tags.TAG_PREFIX + Tags.LISTBOXCB_TAG + Tags.TAG_SUFFIX_END);
-    String STARTUP_TAG = new String(Tags.TAG_PREFIX + Tags.STARTUP_TAG + Tags.TAG_SUFFIX_START);
-    String STARTUP_END_TAG = new String(Tags.TAG_PREFIX + Tags.STARTUP_TAG + Tags.TAG_SUFFIX_END);
-    
-    try {
-      br = new BufferedReader(
-          new InputStreamReader(
-              new FileInputStream(appFile), "UTF8"));
-
-      String backupName = "";
-      String sTestTag = "";
-      String line = "";
-
-      line = br.readLine();
-      /*
-       * we have three conditions here 
-       * 1- line == "//<App !Start!>" no upgrade needed
-       * 2- line == "//<File !Start!>" upgrade may be needed, look deeper 
-       * 3- line not equal to either - needs upgrade
-       */
-      if (line.equals(APP_TAG)) {
-        br.close();
-        return;
-      }
-      if (line.equals(FILE_TAG)) {
-        /* We need to look deeper, search for INCLUDES_TAG 
-         * If we find it great, no update needed.
-         * If we find FONTS_TAG first we need upgrade
-         */
-        boolean bNeedUpgrade = false;
-        while ((line = br.readLine()) != null) {
-          if (line.equals(INCLUDES_TAG)) {
-            break;
-          }
-          if (line.equals(FONTS_TAG)) {
-            bNeedUpgrade = true;
-            break;
-          }
-        }
-        if (!bNeedUpgrade) {
-          br.close();
-          return;
-        }
-      } 
-      // We need to upgrade so first make a backup copy of app file
-      br.close();
-      backupName = new String(appName + ".beta");
-      File backupFile = new File(backupName);
-      appFile.renameTo(backupFile);
-      br = new BufferedReader(
-          new InputStreamReader(
-              new FileInputStream(backupFile), "UTF8"));
-      appFile = new File(appName);
-      bwA = new BufferedWriter(new OutputStreamWriter(
-          new FileOutputStream(appFile), "UTF-8"));
-      line = br.readLine();
-      if (!line.equals(FILE_TAG)) {
-        bwA.write(FILE_TAG);
-        bwA.newLine();
-        bwA.write(line);
-        bwA.newLine();
-        while ((line = br.readLine()) != null) {
-          if (line.isEmpty())
-            break;
-          bwA.write(line);
-          bwA.newLine();
-        }
-        bwA.write(FILE_END_TAG);
-        bwA.newLine();
-        bwA.newLine();
-      } 
+  private TaggedDocument parse(File file) throws IOException {
+    CodeGenProfile.Stage stage = profile.begin("TaggedDocument", file.getName());
+    TaggedDocument doc = TaggedDocument.parse(file);
+    profile.end(stage, 0, false);
+    return doc;
+  }
 
-      while ((line = br.readLine()) != null) {
-        if (line.equals("#include \"GUIslice_ex.h\"")) {
-          continue;
-        }
-        if (line.equals("#include <Adafruit_GFX.h>")) {
-          bwA.write(line);
-          bwA.newLine();
-          bwA.newLine();
-          bwA.write(INCLUDES_TAG);
-          bwA.newLine();
-          bwA.write(INCLUDES_END_TAG);
-          bwA.newLine();
-          bwA.newLine();
-          continue;
-        }
-        if (line.equals("// Common Button callback")) {
-          bwA.write(line);
-          bwA.newLine();
-          break;
-        }
-        bwA.write(line);
-        bwA.newLine();
-      }
-      while ((line = br.readLine()) != null) {
-        if (line.equals("}")) {
-          bwA.write(line);
-          bwA.newLine();
-          break;
-        }
-        bwA.write(line);
-        bwA.newLine();
-      }
-      bwA.newLine();
-      bwA.write(CHECKBOXCB_TAG);
-      bwA.newLine();
-      bwA.write(CHECKBOXCB_END_TAG);
-      bwA.newLine();
+  /**
+   * Parse the text of one of our source files into a tagged document.
+   *
+   * @param name
+   *          the source file name
+   * @param text
+   *          the source text
+   * @return the <code>TaggedDocument</code> object
+   */
+  private TaggedDocument parse(String name, CharSequence text) {
+    CodeGenProfile.Stage stage = profile.begin("TaggedDocument", name);
+    TaggedDocument doc = TaggedDocument.parse(text);
+    profile.end(stage, 0, false);
+    return doc;
+  }
 
-      bwA.write(KEYPADCB_TAG);
-      bwA.newLine();
-      bwA.write(KEYPADCB_END_TAG);
-      bwA.newLine();
+  /**
+   * Read our application file and apply any upgrades it needs
+   * from older versions of the builder.
+   *
+   * @param appFile
+   *          the application file
+   * @param bUseHdr
+   *          true if our generated code goes into a header file
+   * @return the <code>AppMigration</code> object
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private AppMigration migrate(File appFile, boolean bUseHdr) throws IOException {
+    CodeGenProfile.Stage stage = profile.begin("AppMigration", appFile.getName());
+    AppMigration migration = AppMigration.read(appFile);
+    migration.upgrade(bUseHdr);
+    profile.end(stage, migration.getText().length(), false);
+    if (migration.isUpgraded()) {
+      Builder.logger.debug("Code Generation: " + appFile.getName() + " upgraded");
+    }
+    return migration;
+  }
 
-      bwA.write(SPINNERCB_TAG);
-      bwA.newLine();
-      bwA.write(SPINNERCB_END_TAG);
-      bwA.newLine();
+  /**
+   * Save our application file as it was before its upgrade, if any.
+   *
+   * @param migration
+   *          the migration or null if we started from a template
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private void backupMigration(AppMigration migration) throws IOException {
+    if (migration != null) {
+      migration.backup();
+    }
+  }
 
-      bwA.write(LISTBOXCB_TAG);
-      bwA.newLine();
-      bwA.write(LISTBOXCB_END_TAG);
-      bwA.newLine();
+  /**
+   * Write out a generated document.
+   * 
+   * The file is left untouched, and no backup made, when it
+   * already holds exactly the generated code.
+   *
+   * @param file
+   *          the output file
+   * @param doc
+   *          the generated document
+   * @param bBackup
+   *          true if the file existed before this run and must be backed up
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private void writeOutput(File file, TaggedDocument doc, boolean bBackup) throws IOException {
+    CodeGenProfile.Stage stage = profile.begin("OutputFile", file.getName());
+    String code = doc.toString();
+    long nBytes = OutputFile.write(file, code, bBackup);
+    profile.end(stage, code.length(), nBytes == 0);
+    if (nBytes == 0) {
+      Builder.logger.debug("Code Generation: " + file.getName() + " unchanged");
+    }
+    nBytesWritten += nBytes;
+  }
 
-      while ((line = br.readLine()) != null) {
-        sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-        if (sTestTag.equals("InitGUI();")) {
-          bwA.write(line);
-          bwA.newLine();
-          bwA.newLine();
-          bwA.write(STARTUP_TAG);
-          bwA.newLine();
-          bwA.write(STARTUP_END_TAG);
-          bwA.newLine();
-          break;
-        }
-        bwA.write(line);
-        bwA.newLine();
-      }
-      // remove Quick_Access section
-      while ((line = br.readLine()) != null) {
-        sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-        if (sTestTag.equals("//<Quick_Access !Start!>")) {
-          break;
-        }
-        bwA.write(line);
-        bwA.newLine();
-      }
-      while ((line = br.readLine()) != null) {
-        sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-        if (sTestTag.equals("//<Quick_Access !End!>")) {
-          break;
-        }
-      }
-      // finish up by copying everything left over
-      while ((line = br.readLine()) != null) {
-        bwA.write(line);
-        bwA.newLine();
+  /**
+   * Find the page code collected by a previous run with the same inputs.
+   * 
+   * Our pipes replay their regions when nothing changed without
+   * handing us their pages again, so we must also reuse what they
+   * gave us last time. Otherwise we start over.
+   *
+   * @param hdrName
+   *          the name of our project's header
+   * @return the <code>PageUnits</code> object
+   */
+  private PageUnits getPageUnits(String hdrName) {
+    PageUnits units = null;
+    if (bIncremental) {
+      units = unitCache.get(hdrName, sInputKey);
+    }
+    if (units == null) {
+      units = new PageUnits();
+      if (bIncremental) {
+        unitCache.put(hdrName, sInputKey, units);
       }
-      br.close();
-      bwA.close();
-    } catch (IOException e) {
-      throw new CodeGenException("IOException converting beta App: " + e.toString());
     }
+    return units;
   }
 
   /**
-   * Modify the application to use a header
-   * instead of a single file, if necessary
-   * 
+   * Write out the files of each page when splitting pages, otherwise
+   * remove any page files left behind from when we did.
+   *
    * @param folder
-   * @param appName
+   *          the folder holding our project's files
    * @param hdrName
+   *          the name of our project's header
+   * @param hdrDoc
+   *          our project's generated header
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
    */
-  public void modifyAppToUseHdr(String folder, String appName, String hdrName) throws CodeGenException {
-    File appFile = new File(appName);
-    if (!appFile.exists()) {
-      return; // nothing to do here
+  private void writePageUnits(String folder, String hdrName, TaggedDocument hdrDoc) 
+      throws IOException {
+    CodeGenProfile.Stage stage = profile.begin("PageUnits", hdrName);
+    long nBytes = 0;
+    if (pageUnits != null) {
+      nBytes = pageUnits.write(folder, sProjectName, hdrName, hdrDoc, 
+          index.getUserPages(), tm);
+    } else {
+      PageUnits.removeStale(folder, Collections.<String>emptySet());
     }
-    /*
-     * It exists so we need to read the first line. It will tell us if we need to
-     * upgrade or not.
-     */
-    BufferedReader br;
-    try {
-      br = new BufferedReader(
-          new InputStreamReader(
-              new FileInputStream(appFile), "UTF8"));
-      String line = "";
-      if ((line = br.readLine()) != null) {
-        /*
-         * we have three conditions here 
-         * 1- line == "//<App !Start!>" no upgrade needed
-         * 2- line == "//<File !Start!>" upgrade needed 
-         * 3- line not equal to either - really old beta project should have been upgraded
-         */
-        if (!line.equals("//<App !Start!>")) {
-          if (!line.equals("//<File !Start!>")) {
-            br.close();
-            throw new CodeGenException("file: " + getTemplateName() + "\n is corrupted missing tag: //<File !Start!>");
-          }
-          // Make a backup copy of app file
-          br.close();
-          String backupName = new String(appName + ".orig");
-          File backupFile = new File(backupName);
-          appFile.renameTo(backupFile);
-          /*
-           * now we want to remove tags from the backup file.
-           * and create a new *.ino file. 
-           * The new header file will be created later using a template
-           */
-          removeTags(appName, backupName);
-        }
-      }
-      br.close();
-      return;
-    } catch (IOException e) {
-      e.printStackTrace();
+    profile.end(stage, 0, nBytes == 0);
+    nBytesWritten += nBytes;
+  }
+
+  /**
+   * Write out our font subsets, otherwise remove any subset files 
+   * left behind from when we wrote them.
+   *
+   * @param folder
+   *          the folder holding our project's files
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private void writeFontSubsets(String folder) throws IOException {
+    CodeGenProfile.Stage stage = profile.begin("FontSubsets", folder);
+    long nBytes = 0;
+    if (fontSubsets != null) {
+      nBytes = fontSubsets.write(folder, tm);
+    } else {
+      FontSubsets.removeStale(folder, Collections.<String>emptySet());
+    }
+    profile.end(stage, 0, nBytes == 0);
+    nBytesWritten += nBytes;
+  }
+
+  /**
+   * Write out our images as C arrays, otherwise remove any array 
+   * files left behind from when we wrote them.
+   *
+   * @param folder
+   *          the folder holding our project's files
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private void writeImageResources(String folder) throws IOException {
+    CodeGenProfile.Stage stage = profile.begin("ImageResources", folder);
+    long nBytes = 0;
+    if (imageResources != null) {
+      nBytes = imageResources.write(folder, tm);
+    } else {
+      ImageResources.removeStale(folder, Collections.<String>emptySet());
     }
+    profile.end(stage, 0, nBytes == 0);
+    nBytesWritten += nBytes;
   }
 
   /**
-   * remove tags to create the new app file
+   * Sets parallel mode.
    * 
-   * @param appName
-   * @param backupName
+   * When true each pipe in a workflow fills in its own tagged region
+   * of our document on a fork-join worker, otherwise the pipes run
+   * one after another. Either way the output is identical.
+   *
+   * @param bParallel
+   *          true to run our pipes concurrently
    */
-  public void removeTags(String appName, String backupName) throws CodeGenException, IOException {
-    File appFile = new File(appName);
-    File backupFile = new File(backupName);
-    BufferedReader br;
-    BufferedWriter bwA;
-    String FILE_TAG = new String(Tags.TAG_PREFIX + Tags.FILE_TAG + Tags.TAG_SUFFIX_START);
-    String FILE_END_TAG = new String(Tags.TAG_PREFIX + Tags.FILE_TAG + Tags.TAG_SUFFIX_END);
-    String APP_TAG = new String(Tags.TAG_PREFIX + Tags.APP_TAG + Tags.TAG_SUFFIX_START);
-    String APP_END_TAG = new String(Tags.TAG_PREFIX + Tags.APP_TAG + Tags.TAG_SUFFIX_END);
-    String HEADER_TAG = new String(Tags.TAG_PREFIX + Tags.HEADER_TAG + Tags.TAG_SUFFIX_START);
-    String HEADER_END_TAG = new String(Tags.TAG_PREFIX + Tags.HEADER_TAG + Tags.TAG_SUFFIX_END);
-    String LOADFONTS_TAG = new String(Tags.TAG_PREFIX + Tags.LOADFONTS_TAG + Tags.TAG_SUFFIX_START);
-    String LOADFONTS_END_TAG = new String(Tags.TAG_PREFIX + Tags.LOADFONTS_TAG + Tags.TAG_SUFFIX_END);
-    String STARTUP_TAG = new String(Tags.TAG_PREFIX + Tags.STARTUP_TAG + Tags.TAG_SUFFIX_START);
-    String STARTUP_END_TAG = new String(Tags.TAG_PREFIX + Tags.STARTUP_TAG + Tags.TAG_SUFFIX_END);
-    String COMMENTS_START = new String("// ------------------------------------------------");
-    try {
-      br = new BufferedReader(
-          new InputStreamReader(
-              new FileInputStream(backupFile), "UTF8"));
-      bwA = new BufferedWriter(new OutputStreamWriter(
-          new FileOutputStream(appFile), "UTF-8"));
-      String sTestTag = "";
-      String line = "";
-      String line2 = "";
-      line = br.readLine();
-      sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-      if (sTestTag.equals(FILE_TAG)) {
-        bwA.write(APP_TAG);
-        bwA.newLine();
-        while ((line = br.readLine()) != null) {
-          if (line.equals(FILE_END_TAG)) {
-            break;
-          }
-          bwA.write(line);
-          bwA.newLine();
-        }
-        bwA.write(APP_END_TAG);
-        bwA.newLine();
-        bwA.newLine();
-      } else {
-        br.close();
-        bwA.close();
-        throw new CodeGenException("file: " + backupName + "\n is corrupted missing tag:" + FILE_TAG);
-      }
+  public void setParallel(boolean bParallel) {
+    this.bParallel = bParallel;
+    ForkJoinPool pool = bParallel ? ForkJoinPool.commonPool() : null;
+    workFlow_Linux.setPool(pool);
+    workFlow_Compat.setPool(pool);
+    workFlow_ArduinoHdr.setPool(pool);
+    workFlow_ArduinoIno.setPool(pool);
+  }
+  
+  /**
+   * Checks if our pipes run concurrently.
+   *
+   * @return true, if parallel mode is on
+   */
+  public boolean isParallel() {
+    return bParallel;
+  }
+  
+  /**
+   * Sets the listener told as each pipe of a run finishes.
+   *
+   * @param listener
+   *          the listener, or <code>null</code> for none
+   */
+  public void setProgressListener(ProgressListener listener) {
+    this.progressListener = listener;
+  }
+  
+  /**
+   * Called by our pipes as each one finishes.
+   *
+   * @param name
+   *          the pipe's name
+   */
+  public void pipeDone(String name) {
+    int nDone = nPipesDone.incrementAndGet();
+    ProgressListener listener = progressListener;
+    if (listener != null) {
+      listener.pipeDone(name, nDone, nPipes);
+    }
+  }
+  
+  /**
+   * Sets cancel mode.
+   * 
+   * When true the run in progress stops before its next pipe starts
+   * and before any of its output files are written. It stays set
+   * until cleared, so clear it before starting the next run.
+   *
+   * @param bCancelled
+   *          true to stop the run in progress
+   */
+  public void setCancelled(boolean bCancelled) {
+    this.bCancelled = bCancelled;
+  }
+  
+  /**
+   * Checks if our user asked us to stop.
+   *
+   * @return true, if cancelled
+   */
+  public boolean isCancelled() {
+    return bCancelled;
+  }
+  
+  /**
+   * Stop our run if our user asked us to.
+   *
+   * @throws CodeGenException
+   *           if the run was cancelled
+   */
+  public void checkCancelled() throws CodeGenException {
+    if (bCancelled) {
+      throw new CodeGenException(CANCELLED_MSG);
+    }
+  }
+  
+  /**
+   * Sets incremental mode.
+   * 
+   * When true a region's code is only regenerated if the models,
+   * settings or existing source code it depends upon have changed
+   * since our last run, otherwise the last output is reused.
+   *
+   * @param bIncremental
+   *          true to reuse unchanged regions
+   */
+  public void setIncremental(boolean bIncremental) {
+    this.bIncremental = bIncremental;
+    if (!bIncremental) {
+      regionCache.clear();
+      pageCache.clear();
+      unitCache.clear();
+    }
+  }
+  
+  /**
+   * Checks if we only regenerate regions whose inputs changed.
+   *
+   * @return true, if incremental mode is on
+   */
+  public boolean isIncremental() {
+    return bIncremental;
+  }
+  
+  /**
+   * Fingerprint every input to this run of code generation.
+   * 
+   * The project wide settings are hashed first then each page
+   * along with all of its widgets, so a change to any widget only
+   * makes its own page dirty while the whole run gets a new key.
+   *
+   * @param templateFileName
+   *          the template file name
+   */
+  private void buildInputKeys(String templateFileName) {
+    String fullPath = CommonUtils.getInstance().getWorkingDir() +
+        "templates" + System.getProperty("file.separator") + templateFileName;
+    File file = new File(fullPath);
+    CodeCache.Fingerprint fp = new CodeCache.Fingerprint();
+    fp.add(Builder.VERSION);
+    fp.add(pm.getTargetPlatform());
+    fp.add(String.valueOf(m_nState));
+    fp.add(fullPath);
+    fp.add(String.valueOf(file.lastModified()));
+    fp.add(String.valueOf(file.length()));
+    // our fonts can change under us in watch mode
+    File fonts = new File(CommonUtils.getInstance().getWorkingDir() +
+        "templates" + System.getProperty("file.separator") + FontFactory.FONT_TEMPLATE);
+    fp.add(String.valueOf(fonts.lastModified()));
+    fp.add(String.valueOf(fonts.length()));
+    if (pm != null) {
+      fp.add(pm.getMappedProperties(""));
+    }
+    fp.add(GeneralEditor.getInstance().getModel().getMappedProperties(""));
+    fp.add(NumKeyPadEditor.getInstance().getModel().getMappedProperties(""));
+    fp.add(AlphaKeyPadEditor.getInstance().getModel().getMappedProperties(""));
+    String sGlobalKey = fp.toString();
 
-      while ((line = br.readLine()) != null) {
-        if (line.equals("#include \"GUIslice.h\"")) {
-          bwA.write(HEADER_TAG);
-          bwA.newLine();
-          bwA.write(HEADER_END_TAG);
-          bwA.newLine();
-          bwA.newLine();
-          break;
-        }
-        bwA.write(line);
-        bwA.newLine();
-      }
-      // remove tags
-      int nBlankLines = 0;
-      while ((line = br.readLine()) != null) {
-        if (line.isEmpty()) {
-          nBlankLines++;
-          if (nBlankLines < 2) {
-            bwA.write(line);
-            bwA.newLine();
-         }
-        } else {
-          if (line.equals("//<Includes !Start!>")) {
-            CodeUtils.discardTag(br, "//<Includes !End!>");
-          } else if (line.equals("//<Fonts !Start!>")) {
-              CodeUtils.discardTag(br, "//<Fonts !End!>");
-          } else if (line.equals("//<Resources !Start!>")) {
-            CodeUtils.discardTag(br, "//<Resources !End!>");
-          } else if (line.equals("//<Enum !Start!>")) {
-            CodeUtils.discardTag(br, "//<Enum !End!>");
-          } else if (line.equals("//<ElementDefines !Start!>")) {
-            CodeUtils.discardTag(br, "//<ElementDefines !End!>");
-          } else if (line.equals("//<GUI_Extra_Elements !Start!>")) {
-            CodeUtils.discardTag(br, "//<GUI_Extra_Elements !End!>");
-          } else if (line.equals("gslc_tsGui                      m_gui;")) {
-            CodeUtils.discardTag(br, "gslc_tsPage                     m_asPage[MAX_PAGE];");
-          } else if (line.equals("// Include any extended elements")) {
-            continue;
-          } else if (line.equals("#include \"GUIslice_drv.h\"")) {
-            continue;
-          } else if (line.equals(COMMENTS_START)) {
-            line2 = br.readLine();
-            if (line2.equals("// Headers and Defines for fonts")) {
-              CodeUtils.discardTag(br, COMMENTS_START);
-            } else if (line2.equals("// Defines for resources")) {
-              CodeUtils.discardTag(br, COMMENTS_START);
-            } else if (line2.equals("// Enumerations for pages, elements, fonts, images")) {
-              CodeUtils.discardTag(br, COMMENTS_START);
-            } else if (line2.equals("// Instantiate the GUI")) {
-              CodeUtils.discardTag(br, COMMENTS_START);
-            } else if (line2.equals("// Define the maximum number of elements and pages")) {
-              CodeUtils.discardTag(br, COMMENTS_START);
-            } else if (line2.equals("// Create element storage")) {
-              CodeUtils.discardTag(br, COMMENTS_START);
-            } else if (line2.equals("// Create page elements")) {
-              CodeUtils.discardTag(br, "}");
-              break;
-            } else {
-              bwA.write(line);
-              bwA.newLine();
-              bwA.write(line2);
-              bwA.newLine();
-              nBlankLines = 0;
-            }
-          } else {
-            bwA.write(line);
-            bwA.newLine();
-            nBlankLines = 0;
-          }
-        } 
-      }
-      // scan for gslc_Init and remove it
-      boolean bFoundInit = false;
-      while ((line = br.readLine()) != null) {
-        // break the line up into words
-        if (!line.isEmpty()) {
-          String[] words = line.split("\\W+");
-          if (words.length > 0) {
-            for (int i=0; i<words.length; i++) {
-              if (words[i].equals("gslc_Init")) {
-                bFoundInit = true;
-              }
-            }
-          }
-        }
-        if (bFoundInit) break;
-        bwA.write(line);
-        bwA.newLine();
-      }
-      // remove fonts tag
-      while ((line = br.readLine()) != null) {
-        sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-        if (sTestTag.equals(LOADFONTS_TAG)) {
-          break;
-        }
-        bwA.write(line);
-        bwA.newLine();
-      }
-      while ((line = br.readLine()) != null) {
-        sTestTag = LTRIM.matcher(line
-            ).replaceAll(EMPTY_STRING);
-        if (sTestTag.equals(LOADFONTS_END_TAG)) {
-          break;
-        }
-      }
-      // rename InitGUI to InitGUIslice_gen
-      while ((line = br.readLine()) != null) {
-        sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-        if (sTestTag.equals("InitGUI();")) {
-          bwA.write("  InitGUIslice_gen();");
-          bwA.newLine();
-          bwA.newLine();
-          break;
-        }
-        bwA.write(line);
-        bwA.newLine();
-      }
-      // remove STARTUP tag
-      while ((line = br.readLine()) != null) {
-        sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-        if (sTestTag.equals(STARTUP_TAG)) {
-          break;
+    Map<String, String> keys = new HashMap<String, String>();
+    fp = new CodeCache.Fingerprint();
+    fp.add(sGlobalKey);
+    for (CodePage p : pages) {
+      CodeCache.Fingerprint pageFp = new CodeCache.Fingerprint();
+      pageFp.add(sGlobalKey);
+      pageFp.add(p.getPageType());
+      pageFp.add(index.getMappedProperties(p.getModel(), p.getEnum()));
+      for (Widget w : p.getWidgets()) {
+        pageFp.add(w.getModel(), index.getMappedProperties(w.getModel(), p.getEnum()));
+        // moves depend on the whole project, not just this page
+        if (flashPlan != null && flashPlan.isMoved(w.getModel())) {
+          pageFp.add(FlashPlanner.OPTIMIZE_OPT);
         }
-        bwA.write(line);
-        bwA.newLine();
-      }
-      while ((line = br.readLine()) != null) {
-        sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-        if (sTestTag.equals(STARTUP_END_TAG)) {
-          break;
+        // our arrays depend on pixels our properties don't show
+        if (imageResources != null) {
+          addImages(pageFp, w.getModel());
         }
       }
-      while ((line = br.readLine()) != null) {
-        bwA.write(line);
-        bwA.newLine();
-      }
+      String sPageKey = pageFp.toString();
+      keys.put(p.getKey(), sPageKey);
+      fp.add(sPageKey);
+    }
+    pageKeys = keys;
+    sInputKey = fp.toString();
+  }
+  
+  /**
+   * Fingerprint the image arrays of an element, their format and contents.
+   *
+   * @param fp
+   *          the page's fingerprint
+   * @param m
+   *          the element's model
+   */
+  private void addImages(CodeCache.Fingerprint fp, WidgetModel m) {
+    if (m.getType().equals(EnumFactory.IMAGE)) {
+      addImage(fp, ((ImageModel) m).getDefine());
+    } else if (m.getType().equals(EnumFactory.IMAGEBUTTON)) {
+      addImage(fp, ((ImgButtonModel) m).getDefine());
+      addImage(fp, ((ImgButtonModel) m).getSelDefine());
+    }
+  }
 
-      br.close();
-      bwA.close();
-    } catch (IOException e) {
-      throw new CodeGenException("removeTags IOException: " + e.toString());
+  /**
+   * Fingerprint one image array.
+   *
+   * @param fp
+   *          the page's fingerprint
+   * @param define
+   *          the image's #define
+   */
+  private void addImage(CodeCache.Fingerprint fp, String define) {
+    ImageResources.Resource r = imageResources.getResource(define);
+    if (r == null) {
+      fp.add((String) null);
+    } else {
+      fp.add(r.getImageFormat());
+      fp.add(r.getSource());
     }
   }
 
   /**
-   * remove past sins to create the new app file.
-   * Over time we have made few mistakes that need cleaning up.
-   * This routine will scan and repair them for future use.
-   * It will first check the builder version number and if its
-   * 14 or higher we do nothing. Otherwise we do a full scan
-   * and if we don't find anything, great we just bail out.
-   * Once we find the first problem we stop scanning and make
-   * a backup copy with the extension ".bad" and then make our 
-   * repairs to a new file with original appName.
-   * 
-   * @param appName
+   * Test if code generation for a target reads a template file.
+   *
+   * @param target
+   *          the target platform
+   * @param bCompat
+   *          true for a single backward compatible .ino file
+   * @param templateFileName
+   *          the template file name
+   * @return true, if the template is used
    */
-  public void removePastSins(String appName) throws CodeGenException, IOException {
-    String PROGMEM_ELEMREF_ERROR1  =
-        "gslc_tsElem* pElem = pElemRef->pElem;";
-    String PROGMEM_ELEMREF_ERROR2 =
-        "gslc_tsElem*    pElem     = pElemRef->pElem;";
-    String PROGMEM_ELEMREF_FIX  =
-        "  gslc_tsElem* pElem = gslc_GetElemFromRef(&m_gui,pElemRef);";
-    
-    File appFile = new File(appName);
-    if (!appFile.exists()) return;
-    BufferedWriter bwA = null;
-    BufferedReader br;
-    try {
-      br = new BufferedReader(
-          new InputStreamReader(
-              new FileInputStream(appFile), "UTF8"));
-      String line = "";
-      line = br.readLine();
-      if (!(line.startsWith("//<App") || line.startsWith("//<File"))) {
-        // not sure what we have here so bail
-        br.close();
-        return;
-      }
-      line = br.readLine();
-      if (!line.startsWith("// FILE:")) {
-        br.close();
-        return;
-      }
-      line = br.readLine();
-      if (!line.startsWith("// Created")) {
-        br.close();
-        return;
-      }
-      /* now we can check version number
-       * 14 or greater and we have nothing further to do.
-       * we will treat it as 9.99 number and ignore the final .b999
-       */
-      String sVersion;
-      int n = line.indexOf("[");
-      sVersion = line.substring(n+1, n+5);
-      float version = Float.parseFloat(sVersion);
-      if (version >= 0.14) {
-        br.close();
-        return;
-      }
-      // first scan for errors if none found bail.
-      boolean bFoundError = false;
-      String sTestTag = "";
-      while ((line = br.readLine()) != null) {
-        sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-        if (sTestTag.startsWith("#include")) {
-          if(sTestTag.endsWith("_GLSC.h\"")) {
-            bFoundError = true;
-            break;
-          }
-        } else if (sTestTag.equals(PROGMEM_ELEMREF_ERROR1)) {
-          bFoundError = true;
-          break;
-        } else if (sTestTag.equals(PROGMEM_ELEMREF_ERROR2)) {
-          bFoundError = true;
-          break;
-        }
-      }
-      br.close();
-      if (!bFoundError) {
-        return;
-      }
-      // found errors so we need to create a backup and fix them.
-      String backupName = new String(appName + ".bad");
-      File backupFile = new File(backupName);
-      appFile.renameTo(backupFile);
-      br = new BufferedReader(
-          new InputStreamReader(
-              new FileInputStream(backupFile), "UTF8"));
-      appFile = new File(appName);
-      bwA = new BufferedWriter(new OutputStreamWriter(
-          new FileOutputStream(appFile), "UTF-8"));
-      String line2 = "";
-      // now fix the errors
-      while ((line = br.readLine()) != null) {
-        sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-        if (sTestTag.startsWith("#include")) {
-          if(sTestTag.endsWith("_GLSC.h\"")) {
-            n = line.indexOf("_GLSC.h");
-            line2 = line.substring(0,n) + "_GSLC.h\"";
-            bwA.write(line2);
-            bwA.newLine();
-          } else {
-            bwA.write(line);
-            bwA.newLine();
-          }
-        } else if (sTestTag.equals(PROGMEM_ELEMREF_ERROR1)) {
-          bwA.write(PROGMEM_ELEMREF_FIX);
-          bwA.newLine();
-        } else if (sTestTag.equals(PROGMEM_ELEMREF_ERROR2)) {
-          bwA.write(PROGMEM_ELEMREF_FIX);
-          bwA.newLine();
-        } else {
-          bwA.write(line);
-          bwA.newLine();
-        }
-      }
-      br.close();
-      bwA.close();
-    } catch (IOException e) {
-      throw new CodeGenException("removePastSins IOException: " + e.toString());
+  public static boolean usesTemplate(String target, boolean bCompat, String templateFileName) {
+    if (target.equals(ProjectModel.PLATFORM_LINUX)) {
+      return templateFileName.equals("linux.t") || templateFileName.equals(LINUX_TEMPLATE);
     }
+    if (templateFileName.equals("arduino.t")) {
+      return true;
+    }
+    if (bCompat) {
+      return templateFileName.equals(ARDUINO_COMPAT_TEMPLATE);
+    }
+    return templateFileName.equals(ARDUINO_TEMPLATE) || templateFileName.equals(HDR_TEMPLATE);
   }
 
+  /**
+   * Gets the fingerprint of every input to the current run.
+   *
+   * @return the input key
+   */
+  public String getInputKey() {
+    return sInputKey;
+  }
+  
+  /**
+   * Gets the fingerprint of a page's inputs to the current run.
+   *
+   * @param p
+   *          the page
+   * @return the page key
+   */
+  public String getPageKey(CodePage p) {
+    return pageKeys.get(p.getKey());
+  }
+  
+  /**
+   * Gets the cache of regions output by each pipe.
+   *
+   * @return the region cache
+   */
+  public CodeCache<List<TaggedDocument.State>> getRegionCache() {
+    return regionCache;
+  }
+  
+  /**
+   * Gets the collector of each page's code.
+   *
+   * @return the <code>PageUnits</code> object, or <code>null</code> 
+   *         unless our user wants pages split into separate files
+   */
+  public PageUnits getPageUnits() {
+    return pageUnits;
+  }
+  
+  /**
+   * Gets the cache of code output for each page.
+   *
+   * @return the page cache
+   */
+  public CodeCache<String> getPageCache() {
+    return pageCache;
+  }
+  
+  /**
+   * Gets the project model of the current run.
+   *
+   * @return the project model
+   */
+  public ProjectModel getProjectModel() {
+    return pm;
+  }
+  
+  /**
+   * Gets the number of bytes written to our output files by the last run.
+   * 
+   * Files left unchanged don't count.
+   *
+   * @return the bytes written
+   */
+  public long getBytesWritten() {
+    return nBytesWritten;
+  }
+  
+  /**
+   * Gets the timings of the current or last run.
+   *
+   * @return the <code>CodeGenProfile</code> object or null before our first run
+   */
+  public CodeGenProfile getProfile() {
+    return profile;
+  }
+  
   /**
    * Gets the pages.
    *
    * @return the pages
    */
-  public List<PagePane> getPages() {
+  public List<? extends CodePage> getPages() {
     return pages;
   }
   
@@ -1134,6 +1309,54 @@ public class CodeGenerator {
     return models;
   }
   
+  /**
+   * Gets the project index built for the current generation.
+   *
+   * @return the project index
+   */
+  public ProjectIndex getIndex() {
+    return index;
+  }
+  
+  /**
+   * Gets the plan of our flash optimizer.
+   *
+   * @return the plan, <code>null</code> if it's off
+   */
+  public FlashPlanner.Plan getFlashPlan() {
+    return flashPlan;
+  }
+  
+  /**
+   * Gets the font subsets we write.
+   *
+   * @return the font subsets, <code>null</code> if our user keeps fonts whole
+   */
+  public FontSubsets getFontSubsets() {
+    return fontSubsets;
+  }
+  
+  /**
+   * Gets the images we write as C arrays.
+   *
+   * @return the image resources, <code>null</code> if our user keeps images on file
+   */
+  public ImageResources getImageResources() {
+    return imageResources;
+  }
+  
+  /**
+   * Test if an element is created with a flash (_P) API, either
+   * because our user asked for it or our flash optimizer moved it.
+   *
+   * @param m
+   *          the element's model
+   * @return true, if in flash
+   */
+  public boolean useFlash(WidgetModel m) {
+    return m.useFlash() || (flashPlan != null && flashPlan.isMoved(m));
+  }
+  
   /**
    * Gets the current project name.
    *
@@ -0,0 +1,81 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.util.List;
+
+import builder.models.PageModel;
+import builder.widgets.Widget;
+
+/**
+ * The Interface CodePage is everything code generation needs 
+ * to know about one page of a project.
+ * 
+ * It's implemented by our <code>PagePane</code> view when running
+ * inside the builder and by <code>ProjectPage</code> when we generate
+ * code without any user interface.
+ * 
+ * @author Paul Conti
+ * 
+ */
+public interface CodePage {
+
+  /**
+   * Gets the page key.
+   *
+   * @return the key
+   */
+  public String getKey();
+
+  /**
+   * Gets the page enum.
+   *
+   * @return the enum
+   */
+  public String getEnum();
+
+  /**
+   * Gets the type of Page.
+   *
+   * @return the Page Type
+   */
+  public String getPageType();
+
+  /**
+   * Gets the page model.
+   *
+   * @return the model
+   */
+  public PageModel getModel();
+
+  /**
+   * Gets the widgets on this page.
+   *
+   * @return the widgets
+   */
+  public List<Widget> getWidgets();
+
+}
@@ -26,10 +26,7 @@
 package builder.codegen;
 
 import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.lang.StringBuilder;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -42,7 +39,6 @@ import builder.fonts.FontTFT;
 import builder.fonts.FontTtf;
 import builder.fonts.FontVLW;
 import builder.models.WidgetModel;
-import builder.views.PagePane;
 import builder.widgets.Widget;
 
 /**
@@ -171,25 +167,6 @@ public final class CodeUtils {
     return sBd.toString();
   }
 
-  /**
-  * finishUp copies what's left inside the BufferedReader 
-  * to our StringBuilder object.
-  *
-  * @return <code>StringBuilder</code> object 
-  */
-  static public StringBuilder finishUp(BufferedReader br, StringBuilder input) throws CodeGenException {
-    // read file and copy to output until end reached
-    String line  = "";
-    try {
-      while ((line = br.readLine()) != null) {
-        input.append(line);
-        input.append(System.lineSeparator());
-      } 
-      return input;   
-    } catch (IOException e) {
-      throw new CodeGenException(e.toString());
-    }
-  }
   
   /**
   * get count from key 
@@ -211,11 +188,11 @@ public final class CodeUtils {
   *          the widget types
   * @return the list of enums
   */
-  static public List<String> getListOfEnums(List<PagePane> pages, List<String> widgetTypes) {
+  static public List<String> getListOfEnums(List<? extends CodePage> pages, List<String> widgetTypes) {
     // build up a list of widgets that match
     List<String> eList = new ArrayList<String>();
     List<WidgetModel> mList = new ArrayList<WidgetModel>();
-    for (PagePane p : pages) {
+    for (CodePage p : pages) {
       getModelsByType(p.getWidgets(), widgetTypes, mList);
     }
     // now pull out from the models our matching widget's enums
@@ -267,34 +244,6 @@ public final class CodeUtils {
     return -1;
   }
 
-  /**
-  * findTag
-  * Continue reading the buffered reader but throw away all input 
-  * until finding the end string. Then write the end string output
-  * to our StringBuilder object.
-  *
-  * @param br
-  *          the BufferedReader
-  * @param sBd
-  *          the StringBuilder
-  * @param endString
-  *          the end string
-  * @throws IOException
-  *           Signals that an I/O exception has occurred.
-  */
-  static public void findTag(BufferedReader br, StringBuilder sBd, String endString) throws IOException {
-    String line = null;
-    String sTestTag = "";
-    while ((line = br.readLine()) != null) {
-      sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-      if (sTestTag.equals(endString)) {
-        break;
-      }
-    }
-    sBd.append(line);
-    sBd.append(System.lineSeparator());
-  }
-
   /**
   * discardTag
   * Continue reading the buffered reader but throw away all input 
@@ -340,28 +289,6 @@ public final class CodeUtils {
     }
   }
 
-  /**
-   * copyFileToBuffer for our workflow
-   * @param file
-   * @return
-   * @throws IOException
-   */
-  static public StringBuilder copyFileToBuffer(File file) throws CodeGenException, IOException {
-    BufferedReader br = new BufferedReader(
-        new InputStreamReader(
-            new FileInputStream(file), "UTF8"));
-  
-    // open our source code template and copy its contents into a StringBuider for our workflow.
-    StringBuilder sBd = new StringBuilder();
-    String line  = "";
-    while ((line = br.readLine()) != null) {
-      sBd.append(line);
-      sBd.append(System.lineSeparator());
-    } 
-    br.close();
-    return sBd;
-  }
-
   static public String[] splitWords(String s) {
     ArrayList<String> wordList = new ArrayList<String>();
     
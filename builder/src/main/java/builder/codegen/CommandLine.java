@@ -0,0 +1,334 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import builder.Builder;
+import builder.controller.ProjectReader;
+import builder.models.GeneralModel;
+import builder.models.ProjectModel;
+import builder.models.WidgetModel;
+import builder.prefs.GeneralEditor;
+import builder.prefs.ModelEditor;
+
+/**
+ * The Class CommandLine parses the arguments of our command line tools,
+ * <code>HeadlessGenerator</code>, <code>BatchGenerator</code>,
+ * <code>GoldenVerifier</code>, <code>MemoryEstimator</code>,
+ * <code>RedrawEstimator</code> and <code>FlashPlanner</code>.
+ * <p>
+ * Each tool names the flags and the options taking a value it accepts,
+ * anything else prints its usage. Our user's preferences are pinned to 
+ * their defaults unless <code>--user-prefs</code> is given, so the same 
+ * command gives the same output on any machine. Tools generating code 
+ * also accept our generation options, which set the matching General 
+ * preference for this run only.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class CommandLine {
+
+  /** The Constant for reading our user's saved preferences. */
+  public  final static String USER_PREFS_OPT     = "--user-prefs";
+
+  /** The Constants for our generation options. */
+  public  final static String COMPAT_OPT         = "--compat";
+  public  final static String SPLIT_PAGES_OPT    = "--split-pages";
+  public  final static String CODEGEN_REPORT_OPT = "--codegen-report";
+  public  final static String PRESERVE_CB_OPT    = "--preserve-callbacks";
+  public  final static String MEMORY_OPT         = "--memory-estimate";
+  public  final static String FONT_SUBSET_OPT    = "--font-subset";
+  public  final static String IMAGE_ARRAYS_OPT   = "--image-arrays";
+  public  final static String FLASH_BUDGET_OPT   = "--flash-budget";
+  public  final static String FONT_EXTRA_OPT     = "--font-extra";
+
+  /** The Constant GENERATION_USAGE. */
+  private final static String GENERATION_USAGE = 
+      "generation options: [" + COMPAT_OPT + "] [" + SPLIT_PAGES_OPT + "] [" 
+      + CODEGEN_REPORT_OPT + "] [" + PRESERVE_CB_OPT + "] [" + MEMORY_OPT + "] ["
+      + FONT_SUBSET_OPT + "] [" + FONT_EXTRA_OPT + " chars] [" + IMAGE_ARRAYS_OPT + "] ["
+      + FLASH_BUDGET_OPT + " bytes] [" + USER_PREFS_OPT + "]";
+
+  /** The usage of our tool. */
+  private final String usage;
+  
+  /** The flags we accept. */
+  private final Set<String> flags;
+  
+  /** The options taking a value we accept. */
+  private final Set<String> options;
+  
+  /** True if our tool generates code and takes our generation options. */
+  private final boolean bGenerate;
+  
+  /** The flags set on our command line. */
+  private final Set<String> setFlags = new HashSet<String>();
+  
+  /** The value given to each option on our command line. */
+  private final Map<String, String> values = new HashMap<String, String>();
+
+  /**
+   * Instantiates a new command line.
+   *
+   * @param usage
+   *          the usage of our tool
+   * @param flags
+   *          the flags accepted
+   * @param options
+   *          the options taking a value accepted
+   * @param bGenerate
+   *          true if our tool generates code and takes our generation options
+   */
+  public CommandLine(String usage, String[] flags, String[] options, boolean bGenerate) {
+    this.usage = usage;
+    this.flags = new HashSet<String>(Arrays.asList(flags));
+    this.options = new HashSet<String>(Arrays.asList(options));
+    this.bGenerate = bGenerate;
+    this.flags.add(USER_PREFS_OPT);
+    if (bGenerate) {
+      this.flags.addAll(Arrays.asList(COMPAT_OPT, SPLIT_PAGES_OPT, CODEGEN_REPORT_OPT,
+          PRESERVE_CB_OPT, MEMORY_OPT, FONT_SUBSET_OPT, IMAGE_ARRAYS_OPT));
+      this.options.addAll(Arrays.asList(FLASH_BUDGET_OPT, FONT_EXTRA_OPT));
+    }
+  }
+
+  /**
+   * Parse our command line then pin our preferences and apply
+   * any generation options.
+   * 
+   * Must be called before any preferences editor is created.
+   *
+   * @param args
+   *          the command line arguments
+   * @return true, if successful, otherwise our usage has been printed
+   */
+  public boolean parse(String[] args) {
+    for (int i=0; i<args.length; i++) {
+      if (flags.contains(args[i])) {
+        setFlags.add(args[i]);
+      } else if (options.contains(args[i]) && i+1 < args.length) {
+        values.put(args[i], args[++i]);
+      } else {
+        usage();
+        return false;
+      }
+    }
+    ModelEditor.setPinned(!isSet(USER_PREFS_OPT));
+    if (bGenerate) {
+      Integer budget = getInt(FLASH_BUDGET_OPT, 0);
+      if (budget == null || budget.intValue() < 0) {
+        usage();
+        return false;
+      }
+      WidgetModel gm = GeneralEditor.getInstance().getModel();
+      setFlag(gm, COMPAT_OPT, GeneralModel.PROP_BACKWARD_COMPAT);
+      setFlag(gm, SPLIT_PAGES_OPT, GeneralModel.PROP_SPLIT_PAGES);
+      setFlag(gm, CODEGEN_REPORT_OPT, GeneralModel.PROP_CODEGEN_REPORT);
+      setFlag(gm, PRESERVE_CB_OPT, GeneralModel.PROP_PRESERVE_BTN_CALLBACKS);
+      setFlag(gm, MEMORY_OPT, GeneralModel.PROP_MEMORY_ESTIMATE);
+      setFlag(gm, FONT_SUBSET_OPT, GeneralModel.PROP_FONT_SUBSET);
+      setFlag(gm, IMAGE_ARRAYS_OPT, GeneralModel.PROP_IMAGE_ARRAYS);
+      if (values.containsKey(FLASH_BUDGET_OPT)) {
+        gm.changeValueAt(budget, GeneralModel.PROP_FLASH_BUDGET);
+      }
+      if (values.containsKey(FONT_EXTRA_OPT)) {
+        gm.changeValueAt(values.get(FONT_EXTRA_OPT), GeneralModel.PROP_FONT_SUBSET_EXTRA);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Turn on a General preference if its flag is set.
+   *
+   * @param gm
+   *          the General model
+   * @param flag
+   *          the flag
+   * @param row
+   *          the row of the preference
+   */
+  private void setFlag(WidgetModel gm, String flag, int row) {
+    if (isSet(flag)) {
+      gm.changeValueAt(Boolean.TRUE, row);
+    }
+  }
+
+  /**
+   * Print our usage.
+   *
+   * @return the exit code EXIT_USAGE
+   */
+  public int usage() {
+    System.err.println(usage);
+    if (bGenerate) {
+      System.err.println(GENERATION_USAGE);
+    }
+    return HeadlessGenerator.EXIT_USAGE;
+  }
+
+  /**
+   * Checks if a flag is set.
+   *
+   * @param flag
+   *          the flag
+   * @return true, if set
+   */
+  public boolean isSet(String flag) {
+    return setFlags.contains(flag);
+  }
+
+  /**
+   * Gets the value of an option.
+   *
+   * @param option
+   *          the option
+   * @return the value, or null if not given
+   */
+  public String get(String option) {
+    return values.get(option);
+  }
+
+  /**
+   * Gets the value of an option.
+   *
+   * @param option
+   *          the option
+   * @param def
+   *          the default value
+   * @return the value, or our default if not given
+   */
+  public String get(String option, String def) {
+    String s = values.get(option);
+    return (s == null) ? def : s;
+  }
+
+  /**
+   * Gets the value of a numeric option.
+   *
+   * @param option
+   *          the option
+   * @param def
+   *          the default value
+   * @return the value, our default if not given, or null if not a number
+   */
+  public Integer getInt(String option, int def) {
+    String s = values.get(option);
+    if (s == null) {
+      return Integer.valueOf(def);
+    }
+    try {
+      return Integer.valueOf(s);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Gets the target platforms of our target option.
+   *
+   * @param def
+   *          the default value or null to use the project's own target
+   * @return the <code>list</code> of targets, holding just null to use 
+   *         the project's own target, or null if invalid
+   */
+  public List<String> getTargets(String def) {
+    String target = get(HeadlessGenerator.TARGET_OPT, def);
+    List<String> targets = new ArrayList<String>();
+    if (target == null) {
+      targets.add(null);
+    } else if (target.equals(HeadlessGenerator.ALL_TARGETS)) {
+      targets.add(ProjectModel.PLATFORM_LINUX);
+      targets.add(ProjectModel.PLATFORM_ARDUINO);
+      targets.add(ProjectModel.PLATFORM_TFT_ESPI);
+    } else {
+      for (String t : target.split(",")) {
+        t = t.trim();
+        if (!HeadlessGenerator.isTarget(t)) {
+          return null;
+        }
+        if (!targets.contains(t)) {
+          targets.add(t);
+        }
+      }
+    }
+    return targets;
+  }
+
+  /**
+   * Read a project, reporting any failure.
+   *
+   * @param projectFile
+   *          the project file
+   * @return the <code>ProjectReader</code> object, or null if the project can't be read
+   */
+  public ProjectReader readProject(File projectFile) {
+    ProjectReader reader = new ProjectReader(projectFile);
+    try {
+      reader.read();
+    } catch (IOException | ClassNotFoundException | RuntimeException e) {
+      Builder.logger.error("Project Open Failed: " + projectFile.getName(), e);
+      System.err.println("Project Open Failed: " + projectFile.getName() + " " + e.toString());
+      return null;
+    }
+    return reader;
+  }
+
+  /**
+   * Write our report file, if one was asked for.
+   *
+   * @param writer
+   *          writes our report to the stream it is given
+   * @return true, if successful or no report was asked for
+   */
+  public boolean writeReport(Consumer<PrintStream> writer) {
+    String reportName = get(BatchGenerator.REPORT_OPT);
+    if (reportName == null) {
+      return true;
+    }
+    try (PrintStream ps = new PrintStream(reportName, "UTF-8")) {
+      writer.accept(ps);
+    } catch (IOException e) {
+      System.err.println("Unable to write report: " + reportName + " " + e.toString());
+      return false;
+    }
+    return true;
+  }
+
+}
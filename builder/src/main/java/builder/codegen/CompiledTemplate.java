@@ -0,0 +1,252 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Class CompiledTemplate holds one of our code templates 
+ * broken down into a sequence of simple operations.
+ * <p>
+ * Templates are scanned for macros exactly once when they are stored.
+ * Each line becomes a run of literal text, macro references and padding
+ * commands followed by an end of line, so expanding a template is a
+ * single pass of appends into the caller's <code>StringBuilder</code>.
+ * </p>
+ * <p>
+ * Macros take the form "$&lt;NAME&gt;". A macro whose name is all digits
+ * is a padding command that causes the value of the next macro to be
+ * space filled out to that many characters. Macros without a value
+ * in the caller's map are output unchanged.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class CompiledTemplate {
+
+  /** The operation codes. */
+  private final static int OP_LITERAL = 0;
+  private final static int OP_MACRO   = 1;
+  private final static int OP_PADDING = 2;
+  private final static int OP_EOL     = 3;
+
+  private final static String MACRO_START = "$<";
+  private final static char   MACRO_END   = '>';
+
+  /** The original template lines. */
+  private final List<String> lines;
+
+  /** The operations. */
+  private final int[] ops;
+
+  /** The argument of each operation, literal text or macro name. */
+  private final String[] args;
+
+  /** The padding width of each padding operation. */
+  private final int[] widths;
+
+  /** The number of characters of literal text, used to size output. */
+  private final int nLiteralChars;
+
+  /**
+   * Instantiates a new compiled template.
+   *
+   * @param lines
+   *          the template lines
+   * @throws CodeGenException
+   *           on an invalid padding command
+   */
+  public CompiledTemplate(List<String> lines) throws CodeGenException {
+    this.lines = Collections.unmodifiableList(new ArrayList<String>(lines));
+    List<Integer> opList = new ArrayList<Integer>();
+    List<String> argList = new ArrayList<String>();
+    List<Integer> widthList = new ArrayList<Integer>();
+    int nChars = 0;
+    for (String l : lines) {
+      int pos = 0;
+      int start = 0;
+      while ((start = l.indexOf(MACRO_START, pos)) >= 0) {
+        // a macro name must be at least one character long
+        int end = l.indexOf(MACRO_END, start + MACRO_START.length() + 1);
+        if (end < 0) {
+          break;
+        }
+        if (start > pos) {
+          opList.add(OP_LITERAL);
+          argList.add(l.substring(pos, start));
+          widthList.add(0);
+          nChars += start - pos;
+        }
+        String key = l.substring(start + MACRO_START.length(), end);
+        if (isDigits(key)) {
+          opList.add(OP_PADDING);
+          argList.add(key);
+          try {
+            widthList.add(Integer.parseInt(key));
+          } catch (NumberFormatException e) {
+            throw new CodeGenException(e.toString());
+          }
+        } else {
+          opList.add(OP_MACRO);
+          argList.add(key);
+          widthList.add(0);
+        }
+        pos = end + 1;
+      }
+      if (pos < l.length()) {
+        opList.add(OP_LITERAL);
+        argList.add(l.substring(pos));
+        widthList.add(0);
+        nChars += l.length() - pos;
+      }
+      opList.add(OP_EOL);
+      argList.add(null);
+      widthList.add(0);
+    }
+    ops = new int[opList.size()];
+    args = new String[opList.size()];
+    widths = new int[opList.size()];
+    for (int i = 0; i < ops.length; i++) {
+      ops[i] = opList.get(i).intValue();
+      args[i] = argList.get(i);
+      widths[i] = widthList.get(i).intValue();
+    }
+    nLiteralChars = nChars;
+  }
+
+  /**
+   * Gets the original template lines.
+   *
+   * @return the unmodifiable list of lines
+   */
+  public List<String> getLines() {
+    return lines;
+  }
+
+  /**
+   * Expand our macros and append the code to sBd.
+   * Each line is terminated by the system line separator.
+   *
+   * @param sBd
+   *          the output
+   * @param map
+   *          the macro values, may be <code>null</code> for none
+   */
+  public void expand(StringBuilder sBd, Map<String, String> map) {
+    sBd.ensureCapacity(sBd.length() + nLiteralChars + 64);
+    expand(sBd, map, null);
+  }
+
+  /**
+   * Expand our macros into a list of lines.
+   *
+   * @param map
+   *          the macro values, may be <code>null</code> for none
+   * @return the expanded lines
+   */
+  public List<String> expand(Map<String, String> map) {
+    List<String> outputList = new ArrayList<String>(lines.size());
+    expand(new StringBuilder(), map, outputList);
+    return outputList;
+  }
+
+  /**
+   * Run our operations.
+   *
+   * @param sBd
+   *          the output
+   * @param map
+   *          the macro values
+   * @param outputList
+   *          if not <code>null</code> each finished line is moved 
+   *          from sBd to this list instead of adding a line separator
+   */
+  private void expand(StringBuilder sBd, Map<String, String> map, List<String> outputList) {
+    String sep = System.lineSeparator();
+    int nPadding = 0;
+    for (int i = 0; i < ops.length; i++) {
+      switch (ops[i]) {
+        case OP_LITERAL:
+          sBd.append(args[i]);
+          break;
+        case OP_MACRO:
+          String sValue = (map == null) ? null : map.get(args[i]);
+          if (sValue == null) {
+            // leave unknown macros alone
+            sBd.append(MACRO_START).append(args[i]).append(MACRO_END);
+          } else {
+            sBd.append(sValue);
+            if (nPadding > 0) {
+              // space out this value
+              nPadding = nPadding - sValue.length();
+              if (nPadding > 0) {
+                for (int n = 0; n < nPadding; n++) {
+                  sBd.append(' ');
+                }
+                nPadding = 0; // reset for next value
+              }
+            }
+          }
+          break;
+        case OP_PADDING:
+          nPadding = widths[i];
+          break;
+        case OP_EOL:
+          if (outputList != null) {
+            outputList.add(sBd.toString());
+            sBd.setLength(0);
+          } else {
+            sBd.append(sep);
+          }
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
+  /**
+   * Checks if a macro name is a padding command.
+   *
+   * @param key
+   *          the macro name
+   * @return true, if all characters are digits
+   */
+  private static boolean isDigits(String key) {
+    for (int i = 0; i < key.length(); i++) {
+      char c = key.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return key.length() > 0;
+  }
+
+}
@@ -0,0 +1,432 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import builder.Builder;
+import builder.common.EnumFactory;
+import builder.controller.Controller;
+import builder.controller.ProjectReader;
+import builder.fonts.FontFactory;
+import builder.models.BoxModel;
+import builder.models.CheckBoxModel;
+import builder.models.ProjectModel;
+import builder.models.RadioButtonModel;
+import builder.models.WidgetModel;
+import builder.widgets.Widget;
+
+/**
+ * The Class FlashPlanner is our PROGMEM optimizer. Given an SRAM budget
+ * it picks which elements to create with the <code>_P</code> APIs of
+ * <code>builder.codegen.flash</code>, which keep an element's gslc_tsElem
+ * in flash, so our user doesn't have to set "Use Flash API?" by hand.
+ * <p>
+ * Only elements with a <code>_P</code> API that nothing changes at run time
+ * are moved. Elements with an Element Ref, runtime text storage (TXT-205),
+ * a tick or draw callback, or text set by a keypad are kept in RAM.
+ * The SRAM of the project is estimated by <code>MemoryEstimator</code> for 
+ * the smallest board of its target platform and the elements that save the
+ * most are moved first, until the estimate is within budget. Every element
+ * considered is listed in our plan's report with the decision made.
+ * </p>
+ * <p>
+ * Usage: <code>builder.Builder --optimize-flash project.prj --budget bytes
+ * [--target arduino|tft_espi] [--report file]</code> prints the plan
+ * code generation would use without generating anything.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class FlashPlanner {
+
+  /** The Constants for command line options. */
+  public  final static String OPTIMIZE_OPT   = "--optimize-flash";
+  public  final static String BUDGET_OPT     = "--budget";
+
+  /** The Constant USAGE. */
+  private final static String USAGE = 
+      "usage: builder.Builder " + OPTIMIZE_OPT + " project.prj " + BUDGET_OPT + " bytes ["
+      + HeadlessGenerator.TARGET_OPT + " " + ProjectModel.PLATFORM_ARDUINO + "|" 
+      + ProjectModel.PLATFORM_TFT_ESPI + "] [" + BatchGenerator.REPORT_OPT + " file]";
+
+  /** The widget types we have _P APIs for, see InitGuiPipe.outputAPI(). */
+  final static Set<String> FLASH_TYPES = new HashSet<String>(Arrays.asList(
+      EnumFactory.BOX, EnumFactory.CHECKBOX, EnumFactory.NUMINPUT, EnumFactory.PROGRESSBAR,
+      EnumFactory.RADIOBUTTON, EnumFactory.SEEKBAR, EnumFactory.SLIDER, EnumFactory.TEXT,
+      EnumFactory.TEXTBUTTON, EnumFactory.TEXTINPUT, EnumFactory.TOGGLEBUTTON));
+
+  /** The Constants for our decisions. */
+  private final static String MOVED          = "Moved to flash";
+  private final static String USER_SET       = "Flash API set by user";
+  private final static String NOT_NEEDED     = "Kept in RAM, within budget";
+
+  /**
+   * Instantiates a new flash planner.
+   */
+  private FlashPlanner() {
+  }
+
+  /**
+   * Plan which elements to move to flash for our project's target platform.
+   *
+   * The project model must be bound to our Controller, as it is
+   * during code generation.
+   *
+   * @param index
+   *          the index of our project
+   * @param budget
+   *          the SRAM budget in bytes
+   * @return the plan, <code>null</code> if our target has no _P APIs or
+   *         no board with limited SRAM
+   */
+  public static Plan plan(ProjectIndex index, int budget) {
+    String platform = Controller.getProjectModel().getTargetPlatform();
+    if (platform.equals(ProjectModel.PLATFORM_LINUX)) {
+      return null;
+    }
+    // plan for the tightest board we build for
+    MemoryEstimator.Board board = null;
+    for (MemoryEstimator.Board b : MemoryEstimator.getBoards(platform)) {
+      if (b.getSram() > 0 && (board == null || b.getSram() < board.getSram())) {
+        board = b;
+      }
+    }
+    if (board == null) {
+      return null;
+    }
+    return plan(index, board, budget);
+  }
+
+  /**
+   * Plan which elements to move to flash for a board.
+   *
+   * @param index
+   *          the index of our project
+   * @param board
+   *          the board
+   * @param budget
+   *          the SRAM budget in bytes
+   * @return the plan
+   */
+  public static Plan plan(ProjectIndex index, MemoryEstimator.Board board, int budget) {
+    Plan plan = new Plan(board, budget);
+    plan.ramBefore = MemoryEstimator.estimate(index, board, null).getRam();
+    
+    List<Decision> candidates = new ArrayList<Decision>();
+    for (CodePage p : index.getUserPages()) {
+      for (Widget w : p.getWidgets()) {
+        WidgetModel m = w.getModel();
+        if (!FLASH_TYPES.contains(m.getType())) continue;
+        Decision d = new Decision(m, p.getEnum());
+        if (m.useFlash()) {
+          d.decision = USER_SET;
+        } else {
+          d.decision = getReason(m);
+          if (d.decision == null) {
+            d.saving = MemoryEstimator.getFlashSaving(board, m);
+            candidates.add(d);
+          }
+        }
+        plan.decisions.add(d);
+      }
+    }
+    
+    // move whatever saves the most first, ties in page order
+    Collections.sort(candidates, (a, b) -> Integer.compare(b.saving, a.saving));
+    int ram = plan.ramBefore;
+    for (Decision d : candidates) {
+      if (ram <= budget) {
+        d.decision = NOT_NEEDED;
+        continue;
+      }
+      d.decision = MOVED;
+      plan.moved.put(d.model, Boolean.TRUE);
+      ram -= d.saving;
+    }
+    plan.ramAfter = MemoryEstimator.estimate(index, board, plan).getRam();
+    return plan;
+  }
+
+  /**
+   * Gets why an element must be kept in RAM.
+   *
+   * @param m
+   *          the element's model
+   * @return the reason, <code>null</code> if it may be moved to flash
+   */
+  static String getReason(WidgetModel m) {
+    String ref = m.getElementRef();
+    if (ref != null && !ref.isEmpty()) {
+      return "Kept in RAM, Element Ref lets user code change it";
+    }
+    // our _P state callbacks are set through the Element Ref
+    if ((m.getType().equals(EnumFactory.CHECKBOX) && ((CheckBoxModel) m).isCallbackEn())
+        || (m.getType().equals(EnumFactory.RADIOBUTTON) && ((RadioButtonModel) m).isCallbackEn())) {
+      return "Kept in RAM, its callback needs an Element Ref";
+    }
+    if (m.getType().equals(EnumFactory.TEXTINPUT) || m.getType().equals(EnumFactory.NUMINPUT)) {
+      return "Kept in RAM, its keypad callback changes its text";
+    }
+    if (MemoryEstimator.getTextStorage(m) > 0) {
+      return "Kept in RAM, has runtime text storage";
+    }
+    if (m.getType().equals(EnumFactory.BOX) 
+        && (((BoxModel) m).hasTickFunc() || ((BoxModel) m).hasDrawFunc())) {
+      return "Kept in RAM, has a tick or draw callback";
+    }
+    return null;
+  }
+
+  /**
+   * Run our optimizer from the command line.
+   * 
+   * Handed our arguments by HeadlessGenerator.run() when 
+   * <code>--optimize-flash</code> is given, only the plan is printed,
+   * no code is generated.
+   *
+   * @param args
+   *          the command line arguments
+   * @return the exit code, EXIT_FAILED if the budget can't be met
+   */
+  public static int run(String[] args) {
+    CommandLine cl = new CommandLine(USAGE, new String[0], new String[] { OPTIMIZE_OPT, 
+        BUDGET_OPT, HeadlessGenerator.TARGET_OPT, BatchGenerator.REPORT_OPT }, false);
+    if (!cl.parse(args)) {
+      return HeadlessGenerator.EXIT_USAGE;
+    }
+    String projectName = cl.get(OPTIMIZE_OPT);
+    Integer budget = cl.getInt(BUDGET_OPT, 0);
+    List<String> targets = cl.getTargets(null);
+    if (projectName == null || !projectName.endsWith(".prj") || budget == null 
+        || budget.intValue() <= 0 || targets == null || targets.size() > 1
+        || ProjectModel.PLATFORM_LINUX.equals(targets.get(0))) {
+      return cl.usage();
+    }
+    String target = targets.get(0);
+    FontFactory.getInstance().init();
+    final File projectFile = new File(projectName).getAbsoluteFile();
+    ProjectReader reader = cl.readProject(projectFile);
+    if (reader == null) {
+      return HeadlessGenerator.EXIT_BAD_PROJECT;
+    }
+
+    ProjectModel pm = reader.getProjectModel();
+    if (target != null) {
+      pm.setTargetPlatform(target);
+    }
+    final Plan plan;
+    ProjectModel prev = Controller.bindProjectModel(pm);
+    try {
+      plan = plan(new ProjectIndex(reader.getPages()), budget);
+    } finally {
+      Controller.bindProjectModel(prev);
+    }
+    if (plan == null) {
+      System.err.println("No flash APIs or SRAM limits for target: " + pm.getTargetPlatform());
+      return HeadlessGenerator.EXIT_USAGE;
+    }
+    
+    System.out.println(projectFile.getName());
+    for (String line : plan.format()) {
+      System.out.println(line);
+    }
+    boolean bWritten = cl.writeReport(ps -> {
+      ps.println(projectFile.getName());
+      for (String line : plan.format()) {
+        ps.println(line);
+      }
+    });
+    if (!bWritten) {
+      return HeadlessGenerator.EXIT_FAILED;
+    }
+    return plan.isWithinBudget() ? HeadlessGenerator.EXIT_OK : HeadlessGenerator.EXIT_FAILED;
+  }
+
+  /**
+   * The Class Decision records what we decided for one element.
+   */
+  public static final class Decision {
+    
+    /** The element's model. */
+    private final WidgetModel model;
+    
+    /** The enum of the element's page. */
+    private final String pageEnum;
+    
+    /** The SRAM saved by moving it to flash. */
+    private int saving;
+    
+    /** The decision. */
+    private String decision;
+
+    /**
+     * Instantiates a new decision.
+     *
+     * @param model
+     *          the element's model
+     * @param pageEnum
+     *          the enum of the element's page
+     */
+    Decision(WidgetModel model, String pageEnum) {
+      this.model = model;
+      this.pageEnum = pageEnum;
+    }
+
+    /**
+     * Gets the element's enum.
+     *
+     * @return the enum
+     */
+    public String getEnum() {
+      return model.getEnum();
+    }
+
+    /**
+     * Gets the enum of the element's page.
+     *
+     * @return the page enum
+     */
+    public String getPageEnum() {
+      return pageEnum;
+    }
+
+    /**
+     * Gets the SRAM saved by moving the element to flash.
+     *
+     * @return the bytes, 0 if it can't be moved
+     */
+    public int getSaving() {
+      return saving;
+    }
+
+    /**
+     * Gets the decision.
+     *
+     * @return the decision
+     */
+    public String getDecision() {
+      return decision;
+    }
+  }
+
+  /**
+   * The Class Plan holds the elements our optimizer moved to flash.
+   */
+  public static final class Plan {
+    
+    /** The board we planned for. */
+    private final MemoryEstimator.Board board;
+    
+    /** The SRAM budget. */
+    private final int budget;
+    
+    /** The models moved to flash. */
+    private final Map<WidgetModel, Boolean> moved = 
+        new IdentityHashMap<WidgetModel, Boolean>();
+    
+    /** The decisions made for every element with a _P API. */
+    private final List<Decision> decisions = new ArrayList<Decision>();
+    
+    /** The SRAM estimates before and after our moves. */
+    private int ramBefore;
+    private int ramAfter;
+
+    /**
+     * Instantiates a new plan.
+     *
+     * @param board
+     *          the board
+     * @param budget
+     *          the SRAM budget
+     */
+    Plan(MemoryEstimator.Board board, int budget) {
+      this.board = board;
+      this.budget = budget;
+    }
+
+    /**
+     * Test if our optimizer moved an element to flash.
+     *
+     * @param m
+     *          the element's model
+     * @return true, if moved
+     */
+    public boolean isMoved(WidgetModel m) {
+      return moved.containsKey(m);
+    }
+
+    /**
+     * Gets the decisions.
+     *
+     * @return the decisions in page order
+     */
+    public List<Decision> getDecisions() {
+      return Collections.unmodifiableList(decisions);
+    }
+
+    /**
+     * Test if our SRAM estimate is within budget.
+     *
+     * @return true, if within budget
+     */
+    public boolean isWithinBudget() {
+      return ramAfter <= budget;
+    }
+
+    /**
+     * Format our plan as a report of the decisions made.
+     *
+     * @return the lines of our report
+     */
+    public List<String> format() {
+      List<String> lines = new ArrayList<String>();
+      String rule = String.format("%-69s", "").replace(' ', '-');
+      lines.add(String.format("Flash API Optimizer for %s, SRAM budget %d", 
+          board.getName(), budget));
+      lines.add(rule);
+      lines.add(String.format("%-24s%-20s%6s  %s", "Element", "Page", "Saves", "Decision"));
+      for (Decision d : decisions) {
+        lines.add(String.format("%-24s%-20s%6s  %s", d.getEnum(), d.pageEnum, 
+            d.saving > 0 ? String.valueOf(d.saving) : "", d.decision));
+      }
+      lines.add(rule);
+      lines.add(String.format("SRAM estimate %d -> %d, %s", ramBefore, ramAfter,
+          isWithinBudget() ? "within budget" : "OVER BUDGET by " + (ramAfter - budget)));
+      return lines;
+    }
+  }
+
+}
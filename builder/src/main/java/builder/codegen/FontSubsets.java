@@ -0,0 +1,374 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import builder.Builder;
+import builder.controller.Controller;
+import builder.fonts.FontFactory;
+import builder.fonts.FontItem;
+import builder.fonts.FontSubset;
+import builder.fonts.FontTFT;
+import builder.models.ProjectModel;
+import builder.models.TextModel;
+import builder.models.TxtButtonModel;
+import builder.models.WidgetModel;
+import builder.prefs.AlphaKeyPadEditor;
+import builder.prefs.NumKeyPadEditor;
+
+/**
+ * The Class FontSubsets writes copies of the GFX and T3 fonts our
+ * project uses that keep only the glyphs of the characters it displays.
+ * <p>
+ * A GFX or T3 font header holds every glyph of its font even if our
+ * screens only show a few digits. Since the text of every Text and
+ * Text Button is known when we generate code we collect the characters
+ * each font displays, along with any extra characters our user asks
+ * for, and write <code>FreeSans12pt7b_subset.h</code> into our project's
+ * folder. FontsPipe includes it instead of the font's own header and
+ * FontLoadPipe loads <code>&amp;FreeSans12pt7b_subset</code>. 
+ * </p>
+ * <p>
+ * We can't know what text is set at run time, so a font is kept
+ * whole if it's used by a keypad, listed as an extra font of our
+ * project, or used by any element whose text we don't collect, like a
+ * ListBox or TextBox. A font used by an element whose text may change
+ * is also kept whole unless our user gave extra characters to cover it.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public class FontSubsets {
+
+  /** The suffix of our subset's font struct and file. */
+  public  final static String SUBSET_SUFFIX      = "_subset";
+  
+  /** The line telling us we created a file and may remove it. */
+  private final static String MARKER             = "// GUIslice Builder Generated Font Subset";
+
+  /** The Constants for templates. */
+  private final static String FONT_SUBSET_FILE_TEMPLATE = "<FONT_SUBSET_FILE>";
+  private final static String FONT_SUBSET_END_TEMPLATE  = "<FONT_SUBSET_END>";
+  
+  /** The Constants for macros. */
+  private final static String FILENAME_MACRO     = "FILENAME";
+  private final static String FONT_CHARS_MACRO   = "FONT_CHARS";
+  private final static String FONT_REF_MACRO     = "FONT_REF";
+  private final static String GUARD_MACRO        = "GUARD";
+  private final static String VERSION_MACRO      = "VERSION";
+
+  /** The subsets by font display name. */
+  private final Map<String, FontSubset> subsets = new TreeMap<String, FontSubset>();
+  
+  /** The characters of each subset. */
+  private final Map<String, BitSet> chars = new HashMap<String, BitSet>();
+  
+  /** The lines of our report. */
+  private final List<String> report = new ArrayList<String>();
+  
+  /**
+   * Instantiates a new font subsets.
+   */
+  private FontSubsets() {
+  }
+  
+  /**
+   * Build the font subsets for our project.
+   * 
+   * The project model must be bound to our Controller, as it is
+   * during code generation.
+   *
+   * @param index
+   *          the index of our project
+   * @param extra
+   *          the extra characters to keep in every subset, may be empty
+   * @return the font subsets, <code>null</code> if our target has no
+   *         GFX or T3 fonts
+   */
+  public static FontSubsets build(ProjectIndex index, String extra) {
+    ProjectModel pm = Controller.getProjectModel();
+    if (pm.getTargetPlatform().equals(ProjectModel.PLATFORM_LINUX)) {
+      return null;
+    }
+    BitSet extraChars = toCodePoints(extra);
+    Map<String, BitSet> used = new TreeMap<String, BitSet>();
+    Map<String, String> whole = new HashMap<String, String>();
+    for (WidgetModel m : index.getFontModels()) {
+      String name = m.getFontDisplayName();
+      if (name == null) continue;
+      BitSet bits = used.get(name);
+      if (bits == null) {
+        bits = new BitSet();
+        used.put(name, bits);
+      }
+      String text = null;
+      if (m instanceof TextModel) {
+        text = ((TextModel) m).getText();
+      } else if (m instanceof TxtButtonModel) {
+        text = ((TxtButtonModel) m).getText();
+      }
+      bits.or(toCodePoints(text));
+      if (text == null) {
+        // we never see the strings of list boxes, text boxes or number inputs
+        whole.putIfAbsent(name, "used by " + m.getEnum());
+      } else if (MemoryEstimator.getTextStorage(m) > 0) {
+        keepWhole(whole, name, extraChars, "text of " + m.getEnum() + " set at run time");
+      } else if (m.getElementRef() != null && !m.getElementRef().isEmpty()) {
+        keepWhole(whole, name, extraChars, "text of " + m.getEnum() + " may change by its Element Ref");
+      }
+    }
+    // keypads show their own labels and whatever our user types
+    if (index.hasNumKeyPad()) {
+      String name = NumKeyPadEditor.getInstance().getModel().getFontDisplayName();
+      if (name != null) {
+        whole.put(name, "used by a keypad");
+      }
+    }
+    if (index.hasAlphaKeyPad()) {
+      String name = AlphaKeyPadEditor.getInstance().getModel().getFontDisplayName();
+      if (name != null) {
+        whole.put(name, "used by a keypad");
+      }
+    }
+    for (String s : pm.getFontsList()) {
+      if (s != null && !s.isEmpty()) {
+        whole.put(s, "an extra font of our project");
+      }
+    }
+    
+    FontFactory ff = FontFactory.getInstance();
+    FontSubsets fs = new FontSubsets();
+    for (Map.Entry<String, BitSet> e : used.entrySet()) {
+      String name = e.getKey();
+      FontItem item = ff.getFontItem(name);
+      if (item == null) continue;
+      FontTFT font = item.getFont();
+      if (font == null || !(font.getFontType().equals(FontTFT.FONT_GFX) 
+                         || font.getFontType().equals(FontTFT.FONT_T3))) {
+        continue;
+      }
+      String reason = whole.get(name);
+      if (reason == null && !item.getFontRef().equals("&" + name)) {
+        reason = "not loaded by its name";
+      }
+      if (reason != null) {
+        fs.report.add(String.format("%-32s kept whole, %s", name, reason));
+        continue;
+      }
+      BitSet bits = e.getValue();
+      bits.or(extraChars);
+      FontSubset subset = font.createSubset(bits, name + SUBSET_SUFFIX);
+      if (subset == null) {
+        fs.report.add(String.format("%-32s kept whole, none of its characters are displayed", name));
+        continue;
+      }
+      fs.subsets.put(name, subset);
+      fs.chars.put(name, bits);
+      fs.report.add(String.format("%-32s subset %d of %d bytes", 
+          name, subset.getFlashSize(), font.getFlashSize()));
+    }
+    return fs;
+  }
+
+  /**
+   * Keep a font whole unless our user gave extra characters
+   * to cover text we can't see.
+   *
+   * @param whole
+   *          the reasons to keep fonts whole
+   * @param name
+   *          the font display name
+   * @param extraChars
+   *          the extra characters
+   * @param reason
+   *          the reason
+   */
+  private static void keepWhole(Map<String, String> whole, String name, BitSet extraChars,
+      String reason) {
+    if (extraChars.isEmpty() && !whole.containsKey(name)) {
+      whole.put(name, reason);
+    }
+  }
+  
+  /**
+   * Gets the characters of some text.
+   *
+   * @param text
+   *          the text, may be null
+   * @return the code points
+   */
+  private static BitSet toCodePoints(String text) {
+    BitSet bits = new BitSet();
+    if (text != null) {
+      text.codePoints().forEach(bits::set);
+    }
+    return bits;
+  }
+  
+  /**
+   * Gets the header to include for a font.
+   *
+   * @param item
+   *          the font item
+   * @return the subset's header, <code>null</code> if the font is kept whole
+   */
+  public String getIncludeFile(FontItem item) {
+    FontSubset subset = subsets.get(item.getDisplayName());
+    return (subset != null) ? getFileName(subset) : null;
+  }
+  
+  /**
+   * Gets the reference to load a font with.
+   *
+   * @param item
+   *          the font item
+   * @return the subset's font reference, <code>null</code> if the font is kept whole
+   */
+  public String getFontRef(FontItem item) {
+    FontSubset subset = subsets.get(item.getDisplayName());
+    return (subset != null) ? "&" + subset.getName() : null;
+  }
+  
+  /**
+   * Format our report of the fonts we subset or kept whole.
+   *
+   * @return the lines of our report
+   */
+  public List<String> format() {
+    return Collections.unmodifiableList(report);
+  }
+  
+  /**
+   * Write out our subset files and remove any we wrote before
+   * for fonts no longer subset.
+   *
+   * @param folder
+   *          the folder holding our project's files
+   * @param tm
+   *          the template manager
+   * @return the number of bytes written
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  public long write(String folder, TemplateManager tm) throws IOException {
+    long nBytes = 0;
+    Set<String> names = new HashSet<String>();
+    Map<String, String> map = new HashMap<String,String>();
+    StringBuilder sBd = new StringBuilder();
+    for (Map.Entry<String, FontSubset> e : subsets.entrySet()) {
+      FontSubset subset = e.getValue();
+      String fileName = getFileName(subset);
+      map.clear();
+      map.put(FILENAME_MACRO, fileName);
+      map.put(VERSION_MACRO, Builder.VERSION);
+      map.put(GUARD_MACRO, PageUnits.guard(fileName));
+      map.put(FONT_REF_MACRO, subset.getName());
+      map.put(FONT_CHARS_MACRO, toComment(chars.get(e.getKey())));
+      sBd.setLength(0);
+      tm.codeWriter(sBd, FONT_SUBSET_FILE_TEMPLATE, map);
+      sBd.append(subset.getSource());
+      tm.codeWriter(sBd, FONT_SUBSET_END_TEMPLATE, map);
+      nBytes += OutputFile.write(new File(folder, fileName), sBd.toString(), false);
+      names.add(fileName);
+    }
+    removeStale(folder, names);
+    return nBytes;
+  }
+  
+  /**
+   * Remove the subset files we created that are no longer needed.
+   *
+   * @param folder
+   *          the folder holding our project's files
+   * @param keep
+   *          the names of the files to keep
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  public static void removeStale(String folder, Set<String> keep) throws IOException {
+    File[] files = new File(folder).listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File f : files) {
+      String name = f.getName();
+      if (keep.contains(name) || !f.isFile() || !name.endsWith(SUBSET_SUFFIX + ".h")) {
+        continue;
+      }
+      // our user's own files may be in any encoding
+      String text = new String(Files.readAllBytes(f.toPath()), StandardCharsets.ISO_8859_1);
+      if (text.contains(MARKER)) {
+        Builder.logger.debug("Code Generation: removed " + name);
+        Files.delete(f.toPath());
+      }
+    }
+  }
+  
+  /**
+   * Gets the file name of a subset.
+   *
+   * @param subset
+   *          the subset
+   * @return the file name
+   */
+  private static String getFileName(FontSubset subset) {
+    return subset.getName() + ".h";
+  }
+  
+  /**
+   * Show the characters of a subset inside a single line comment.
+   *
+   * @param bits
+   *          the code points
+   * @return the characters
+   */
+  private static String toComment(BitSet bits) {
+    StringBuilder sBd = new StringBuilder();
+    for (int ch = bits.nextSetBit(0); ch >= 0; ch = bits.nextSetBit(ch+1)) {
+      if (ch > 0x20 && ch < 0x7F && ch != '\\') {
+        sBd.append((char) ch);
+      } else {
+        sBd.append(String.format("[0x%02X]", ch));
+      }
+    }
+    return sBd.toString();
+  }
+
+}
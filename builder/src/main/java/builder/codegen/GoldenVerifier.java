@@ -0,0 +1,580 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeSet;
+
+import builder.Builder;
+import builder.controller.Controller;
+import builder.controller.ProjectReader;
+import builder.fonts.FontFactory;
+import builder.models.ProjectModel;
+
+/**
+ * The Class GoldenVerifier checks our generated code against known good
+ * output from the command line, so changes to our pipes, templates or
+ * property mapping can be proven not to change what we generate.
+ * <p>
+ * Usage: <code>builder.Builder --verify dir|manifest --golden dir
+ * [--target linux|arduino|tft_espi[,...]|all] [--runs n] [--update] 
+ * [--report file] [generation options]</code>
+ * </p>
+ * <p>
+ * Projects are found the same way as <code>BatchGenerator</code> does.
+ * Each project is generated for each target, and for arduino targets both
+ * with our header (ino2.t and hdr.t) and in backward compatibility mode
+ * (ino.t), into an empty temporary folder. Every file output must match
+ * byte for byte the file of the same name within 
+ * &lt;golden&gt;/&lt;project&gt;/&lt;target&gt; or 
+ * &lt;golden&gt;/&lt;project&gt;/&lt;target&gt;_compat, and no file may be
+ * missing or extra. Running with <code>--update</code> replaces the golden
+ * files with our output instead.
+ * </p>
+ * <p>
+ * The golden folder may also hold <code>budgets.properties</code> with
+ * the most milliseconds and bytes allocated each project may take,
+ * for example <code>widgets1000.ms=250</code> and 
+ * <code>widgets1000.alloc=64000000</code>. Each project is generated 
+ * <code>--runs</code> times with its pipes run one after another on our
+ * thread, so all allocations are counted, and its fastest run is checked.
+ * </p>
+ * <p>
+ * Our user's general preferences also shape the output, so they are
+ * pinned to their defaults unless <code>--user-prefs</code> is given, and
+ * any generation options must be the same when golden files are made 
+ * and checked. The fixture projects under <code>src/test/resources/golden</code>
+ * are checked this way by <code>GoldenVerifierTest</code>.
+ * The exit code is EXIT_OK only if every project matched within budget.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class GoldenVerifier {
+
+  /** The Constants for command line options. */
+  public  final static String VERIFY_OPT     = "--verify";
+  public  final static String GOLDEN_OPT     = "--golden";
+  public  final static String RUNS_OPT       = "--runs";
+  public  final static String UPDATE_OPT     = "--update";
+
+  /** The Constant BUDGETS_FILE. */
+  public  final static String BUDGETS_FILE   = "budgets.properties";
+
+  /** The Constants for budget keys. */
+  private final static String MS_KEY         = ".ms";
+  private final static String ALLOC_KEY      = ".alloc";
+
+  /** The Constant COMPAT_SUFFIX names the folders of backward compatible output. */
+  private final static String COMPAT_SUFFIX  = "_compat";
+
+  /** The Constant DEF_RUNS. */
+  public  final static int    DEF_RUNS       = 3;
+
+  /** The Constants for the status of each check. */
+  private final static String STATUS_OK      = "OK";
+  private final static String STATUS_UPDATED = "UPDATED";
+  private final static String STATUS_DIFF    = "DIFF";
+  private final static String STATUS_BUDGET  = "BUDGET";
+  private final static String STATUS_FAILED  = "FAILED";
+
+  /** The Constant USAGE. */
+  private final static String USAGE = 
+      "usage: builder.Builder " + VERIFY_OPT + " dir|manifest " + GOLDEN_OPT + " dir ["
+      + HeadlessGenerator.TARGET_OPT + " " + ProjectModel.PLATFORM_LINUX + "|" 
+      + ProjectModel.PLATFORM_ARDUINO + "|" + ProjectModel.PLATFORM_TFT_ESPI + "[,...]|"
+      + HeadlessGenerator.ALL_TARGETS + "] [" + RUNS_OPT + " n] [" + UPDATE_OPT + "] ["
+      + BatchGenerator.REPORT_OPT + " file] [generation options]";
+
+  /**
+   * Instantiates a new golden verifier.
+   */
+  private GoldenVerifier() {
+  }
+
+  /**
+   * Run our verification.
+   * 
+   * Called by HeadlessGenerator.run() when <code>--verify</code> is given,
+   * every project is generated with our preferences pinned unless
+   * <code>--user-prefs</code> is also given.
+   *
+   * @param args
+   *          the command line arguments
+   * @return the exit code
+   */
+  public static int run(String[] args) {
+    CommandLine cl = new CommandLine(USAGE, new String[] { UPDATE_OPT },
+        new String[] { VERIFY_OPT, GOLDEN_OPT, HeadlessGenerator.TARGET_OPT, RUNS_OPT,
+                       BatchGenerator.REPORT_OPT }, true);
+    if (!cl.parse(args)) {
+      return HeadlessGenerator.EXIT_USAGE;
+    }
+    String verifyName = cl.get(VERIFY_OPT);
+    String goldenName = cl.get(GOLDEN_OPT);
+    List<String> targets = cl.getTargets(HeadlessGenerator.ALL_TARGETS);
+    Integer runs = cl.getInt(RUNS_OPT, DEF_RUNS);
+    if (verifyName == null || goldenName == null || targets == null 
+        || runs == null || runs.intValue() < 1) {
+      return cl.usage();
+    }
+    boolean bUpdate = cl.isSet(UPDATE_OPT);
+    File verify = new File(verifyName).getAbsoluteFile();
+    File golden = new File(goldenName).getAbsoluteFile();
+    List<File> projects = new ArrayList<File>();
+    Properties budgets = new Properties();
+    try {
+      if (verify.isDirectory()) {
+        BatchGenerator.findProjects(verify, projects);
+        Collections.sort(projects);
+      } else {
+        BatchGenerator.readManifest(verify, projects);
+      }
+      File budgetFile = new File(golden, BUDGETS_FILE);
+      if (budgetFile.isFile()) {
+        try (InputStream is = new FileInputStream(budgetFile)) {
+          budgets.load(is);
+        }
+      }
+    } catch (IOException e) {
+      System.err.println("Unable to read: " + e.toString());
+      return HeadlessGenerator.EXIT_USAGE;
+    }
+    if (projects.isEmpty()) {
+      System.err.println("No project files found in: " + verify.getPath());
+      return HeadlessGenerator.EXIT_USAGE;
+    }
+
+    FontFactory.getInstance().init();
+    CodeGenerator cg = new CodeGenerator();
+    // keep every allocation on our thread and every pipe doing its full work
+    cg.setParallel(false);
+    cg.setIncremental(false);
+    List<Check> checks = new ArrayList<Check>();
+    for (File prj : projects) {
+      for (String t : targets) {
+        checks.add(verify(cg, prj, golden, budgets, t, false, runs, bUpdate));
+        if (!t.equals(ProjectModel.PLATFORM_LINUX)) {
+          checks.add(verify(cg, prj, golden, budgets, t, true, runs, bUpdate));
+        }
+      }
+    }
+
+    report(System.out, checks);
+    if (!cl.writeReport(ps -> report(ps, checks))) {
+      return HeadlessGenerator.EXIT_FAILED;
+    }
+    for (Check c : checks) {
+      if (!c.isPassed()) {
+        return HeadlessGenerator.EXIT_FAILED;
+      }
+    }
+    return HeadlessGenerator.EXIT_OK;
+  }
+
+  /**
+   * Generate one project for one target and check its output.
+   *
+   * @param cg
+   *          the code generator
+   * @param prj
+   *          the project file
+   * @param golden
+   *          the folder holding our golden files
+   * @param budgets
+   *          the budgets of each project
+   * @param target
+   *          the target platform
+   * @param bCompat
+   *          true for a single backward compatible .ino file
+   * @param runs
+   *          the number of times to generate
+   * @param bUpdate
+   *          true to replace the golden files with our output
+   * @return the <code>Check</code> object
+   */
+  private static Check verify(CodeGenerator cg, File prj, File golden, Properties budgets,
+      String target, boolean bCompat, int runs, boolean bUpdate) {
+    String name = prj.getName();
+    name = name.substring(0, name.length() - BatchGenerator.PROJECT_EXT.length());
+    String variant = bCompat ? target + COMPAT_SUFFIX : target;
+    Check c = new Check(name + File.separator + variant);
+    File goldenFolder = new File(new File(golden, name), variant);
+    File tmp = null;
+    try {
+      byte[] data = Files.readAllBytes(prj.toPath());
+      tmp = Files.createTempDirectory("verify").toFile();
+      File firstFolder = null;
+      for (int i=0; i<runs; i++) {
+        // each run starts from scratch in its own empty folder
+        File folder = new File(tmp, "run" + i);
+        if (!folder.mkdirs()) {
+          throw new IOException("Unable to create folder: " + folder.getPath());
+        }
+        if (firstFolder == null) {
+          firstFolder = folder;
+        }
+        ProjectReader reader = new ProjectReader(data);
+        reader.read();
+        ProjectModel pm = reader.getProjectModel();
+        pm.setTargetPlatform(target);
+        ProjectModel prev = Controller.bindProjectModel(pm);
+        try {
+          long alloc = CodeGenProfile.threadAllocatedBytes();
+          long start = System.nanoTime();
+          cg.generateCode(prj, folder.getPath(), reader.getPages(), bCompat);
+          long millis = (System.nanoTime() - start) / 1000000L;
+          if (alloc >= 0) {
+            alloc = CodeGenProfile.threadAllocatedBytes() - alloc;
+          }
+          c.addRun(millis, alloc);
+        } finally {
+          Controller.bindProjectModel(prev);
+        }
+      }
+      if (bUpdate) {
+        update(firstFolder, goldenFolder);
+        c.setStatus(STATUS_UPDATED);
+      } else {
+        compare(firstFolder, goldenFolder, c);
+        checkBudget(budgets, name, c);
+      }
+    } catch (IOException | ClassNotFoundException | RuntimeException e) {
+      Builder.logger.error("Verify Failed: " + prj.getName() + " " + variant, e);
+      c.fail(STATUS_FAILED, e.toString());
+    } finally {
+      if (tmp != null) {
+        delete(tmp);
+      }
+    }
+    return c;
+  }
+
+  /**
+   * List the files we generated, leaving out our timing reports.
+   *
+   * @param folder
+   *          the folder
+   * @return the sorted <code>set</code> of file names
+   */
+  private static TreeSet<String> listOutput(File folder) {
+    TreeSet<String> names = new TreeSet<String>();
+    File[] files = folder.listFiles();
+    if (files != null) {
+      for (File f : files) {
+        if (f.isFile() && !f.getName().endsWith(CodeGenerator.PROFILE_EXT)) {
+          names.add(f.getName());
+        }
+      }
+    }
+    return names;
+  }
+
+  /**
+   * Compare our output against the golden files.
+   *
+   * @param folder
+   *          the folder holding our output
+   * @param goldenFolder
+   *          the folder holding the golden files
+   * @param c
+   *          the check to record any differences
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private static void compare(File folder, File goldenFolder, Check c) throws IOException {
+    TreeSet<String> names = listOutput(folder);
+    TreeSet<String> goldenNames = listOutput(goldenFolder);
+    for (String n : goldenNames) {
+      if (!names.contains(n)) {
+        c.fail(STATUS_DIFF, "missing " + n);
+      }
+    }
+    for (String n : names) {
+      if (!goldenNames.contains(n)) {
+        c.fail(STATUS_DIFF, "extra " + n);
+        continue;
+      }
+      byte[] out = Files.readAllBytes(new File(folder, n).toPath());
+      byte[] expected = Files.readAllBytes(new File(goldenFolder, n).toPath());
+      if (!Arrays.equals(out, expected)) {
+        c.fail(STATUS_DIFF, n + " differs at line " + firstDiffLine(out, expected));
+      }
+    }
+  }
+
+  /**
+   * Find the first line that differs between two files.
+   *
+   * @param a
+   *          the first file's contents
+   * @param b
+   *          the second file's contents
+   * @return the line number, starting from 1
+   */
+  private static int firstDiffLine(byte[] a, byte[] b) {
+    String[] la = new String(a, StandardCharsets.ISO_8859_1).split("\n", -1);
+    String[] lb = new String(b, StandardCharsets.ISO_8859_1).split("\n", -1);
+    int n = Math.min(la.length, lb.length);
+    for (int i=0; i<n; i++) {
+      if (!la[i].equals(lb[i])) {
+        return i+1;
+      }
+    }
+    return n+1;
+  }
+
+  /**
+   * Check our fastest run against our project's budget, if it has one.
+   *
+   * @param budgets
+   *          the budgets of each project
+   * @param name
+   *          the project name
+   * @param c
+   *          the check
+   */
+  private static void checkBudget(Properties budgets, String name, Check c) {
+    try {
+      String ms = budgets.getProperty(name + MS_KEY);
+      if (ms != null && c.getMillis() > Long.parseLong(ms.trim())) {
+        c.fail(STATUS_BUDGET, c.getMillis() + " ms is over budget of " + ms.trim() + " ms");
+      }
+      String alloc = budgets.getProperty(name + ALLOC_KEY);
+      if (alloc != null && c.getAlloc() > Long.parseLong(alloc.trim())) {
+        c.fail(STATUS_BUDGET, c.getAlloc() + " bytes allocated is over budget of " 
+            + alloc.trim() + " bytes");
+      }
+    } catch (NumberFormatException e) {
+      c.fail(STATUS_BUDGET, BUDGETS_FILE + " has a bad budget for " + name);
+    }
+  }
+
+  /**
+   * Replace the golden files with our output.
+   *
+   * @param folder
+   *          the folder holding our output
+   * @param goldenFolder
+   *          the folder holding the golden files
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private static void update(File folder, File goldenFolder) throws IOException {
+    if (!goldenFolder.isDirectory() && !goldenFolder.mkdirs()) {
+      throw new IOException("Unable to create folder: " + goldenFolder.getPath());
+    }
+    for (String n : listOutput(goldenFolder)) {
+      Files.delete(new File(goldenFolder, n).toPath());
+    }
+    for (String n : listOutput(folder)) {
+      Files.copy(new File(folder, n).toPath(), new File(goldenFolder, n).toPath(),
+          StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Delete a temporary folder along with its contents.
+   *
+   * @param f
+   *          the file or folder
+   */
+  private static void delete(File f) {
+    File[] files = f.listFiles();
+    if (files != null) {
+      for (File child : files) {
+        delete(child);
+      }
+    }
+    if (!f.delete()) {
+      Builder.logger.debug("Unable to delete: " + f.getPath());
+    }
+  }
+
+  /**
+   * Output our summary report.
+   *
+   * @param ps
+   *          the print stream
+   * @param checks
+   *          the checks
+   */
+  private static void report(PrintStream ps, List<Check> checks) {
+    int nFailed = 0;
+    ps.println(String.format("%-8s %10s %14s  %s", "STATUS", "MS", "ALLOC", "PROJECT"));
+    for (Check c : checks) {
+      if (!c.isPassed()) {
+        nFailed++;
+      }
+      ps.println(String.format("%-8s %10d %14d  %s", c.getStatus(), c.getMillis(), 
+          c.getAlloc(), c.getName()));
+      for (String msg : c.getMessages()) {
+        ps.println("         " + msg);
+      }
+    }
+    ps.println(String.format("%d checks, %d failed", checks.size(), nFailed));
+  }
+
+  /**
+   * The Class Check describes how one project and target verified.
+   */
+  private static final class Check {
+    
+    /** The name of the project and target. */
+    private final String name;
+    
+    /** The status. */
+    private String status = STATUS_OK;
+    
+    /** The messages describing any failures. */
+    private final List<String> messages = new ArrayList<String>();
+    
+    /** The fastest run in milliseconds. */
+    private long millis = -1;
+    
+    /** The bytes allocated by our fastest run, -1 if unknown. */
+    private long alloc = -1;
+
+    /**
+     * Instantiates a new check.
+     *
+     * @param name
+     *          the name of the project and target
+     */
+    Check(String name) {
+      this.name = name;
+    }
+    
+    /**
+     * Record one run, keeping our fastest.
+     *
+     * @param ms
+     *          the run's milliseconds
+     * @param bytes
+     *          the bytes it allocated, -1 if unknown
+     */
+    void addRun(long ms, long bytes) {
+      if (millis < 0 || ms < millis) {
+        millis = ms;
+        alloc = bytes;
+      }
+    }
+    
+    /**
+     * Record a failure.
+     *
+     * @param failure
+     *          the failed status
+     * @param msg
+     *          the message
+     */
+    void fail(String failure, String msg) {
+      // a wrong output matters more than a slow one
+      if (!status.equals(STATUS_DIFF) && !status.equals(STATUS_FAILED)) {
+        status = failure;
+      }
+      messages.add(msg);
+    }
+    
+    /**
+     * Sets the status.
+     *
+     * @param status
+     *          the new status
+     */
+    void setStatus(String status) {
+      this.status = status;
+    }
+    
+    /**
+     * Checks if we passed.
+     *
+     * @return true, if passed
+     */
+    boolean isPassed() {
+      return status.equals(STATUS_OK) || status.equals(STATUS_UPDATED);
+    }
+    
+    /**
+     * Gets the name.
+     *
+     * @return the name
+     */
+    String getName() {
+      return name;
+    }
+    
+    /**
+     * Gets the status.
+     *
+     * @return the status
+     */
+    String getStatus() {
+      return status;
+    }
+    
+    /**
+     * Gets the messages.
+     *
+     * @return the messages
+     */
+    List<String> getMessages() {
+      return messages;
+    }
+    
+    /**
+     * Gets the fastest run.
+     *
+     * @return the milliseconds
+     */
+    long getMillis() {
+      return millis;
+    }
+    
+    /**
+     * Gets the bytes allocated by our fastest run.
+     *
+     * @return the bytes, -1 if unknown
+     */
+    long getAlloc() {
+      return alloc;
+    }
+  }
+
+}
@@ -0,0 +1,515 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import builder.Builder;
+import builder.controller.Controller;
+import builder.controller.ProjectReader;
+import builder.fonts.FontFactory;
+import builder.models.ProjectModel;
+import builder.prefs.GeneralEditor;
+
+/**
+ * The Class HeadlessGenerator runs code generation from the command line
+ * without starting the builder's user interface.
+ * <p>
+ * Usage: <code>builder.Builder --generate project.prj --out dir 
+ * [--target linux|arduino|tft_espi[,...]|all] [--watch] [generation options]</code>
+ * </p>
+ * <p>
+ * The project file is read with <code>ProjectReader</code> and passed through
+ * the same pipe lines the builder uses. Without <code>--out</code> files are 
+ * written next to the project file and without <code>--target</code> the 
+ * project's own target platform is used. The process exit code tells the
+ * caller how things went, see the EXIT_ constants.
+ * </p>
+ * <p>
+ * The builder's saved preferences are ignored unless <code>--user-prefs</code>
+ * is given, generation options like <code>--split-pages</code> or 
+ * <code>--flash-budget n</code> set them for this run instead, see
+ * <code>CommandLine</code>.
+ * </p>
+ * <p>
+ * Naming more than one target, or <code>all</code>, generates each of them 
+ * at once with <code>MultiTargetGenerator</code> into &lt;out&gt;/&lt;target&gt;
+ * folders, for example a linux simulator build alongside the firmware.
+ * </p>
+ * <p>
+ * With <code>--watch</code> we keep running after our first generation,
+ * using <code>ProjectWatcher</code> to regenerate whenever the project, 
+ * its images, our fonts or the templates used by its target change. 
+ * Only regions whose inputs changed are regenerated and only files whose
+ * contents changed are written so tools watching our output, like a 
+ * PlatformIO build loop, see just the real changes.
+ * </p>
+ * <p>
+ * Each project is generated by its own <code>CodeGenerator</code> using
+ * the project model bound to the calling thread so
+ * <code>BatchGenerator</code> can generate many projects at once.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class HeadlessGenerator {
+
+  /** The Constants for command line options. */
+  public  final static String GENERATE_OPT   = "--generate";
+  public  final static String OUT_OPT        = "--out";
+  public  final static String TARGET_OPT     = "--target";
+  public  final static String WATCH_OPT      = "--watch";
+
+  /** The Constant ALL_TARGETS. */
+  public  final static String ALL_TARGETS    = "all";
+
+  /** The Constants for exit codes. */
+  public  final static int EXIT_OK           = 0;
+  public  final static int EXIT_FAILED       = 1;
+  public  final static int EXIT_USAGE        = 2;
+  public  final static int EXIT_BAD_PROJECT  = 3;
+
+  /** The Constant USAGE. */
+  private final static String USAGE = 
+      "usage: builder.Builder " + GENERATE_OPT + " project.prj [" + OUT_OPT + " dir] ["
+      + TARGET_OPT + " " + ProjectModel.PLATFORM_LINUX + "|" + ProjectModel.PLATFORM_ARDUINO 
+      + "|" + ProjectModel.PLATFORM_TFT_ESPI + "[,...]|" + ALL_TARGETS + "] [" + WATCH_OPT + "]"
+      + " [generation options]";
+
+  /** Each worker thread reuses its own generator and pipe lines. */
+  private static final ThreadLocal<CodeGenerator> generator = 
+      new ThreadLocal<CodeGenerator>() {
+        @Override
+        protected CodeGenerator initialValue() {
+          return new CodeGenerator();
+        }
+      };
+
+  /**
+   * Instantiates a new headless generator.
+   */
+  private HeadlessGenerator() {
+  }
+
+  /**
+   * Test if our command line asks for headless code generation.
+   *
+   * @param args
+   *          the command line arguments
+   * @return true, if requested
+   */
+  public static boolean isRequested(String[] args) {
+    for (String s : args) {
+      if (s.equals(GENERATE_OPT) || s.equals(BatchGenerator.BATCH_OPT) 
+          || s.equals(GoldenVerifier.VERIFY_OPT)
+          || s.equals(MemoryEstimator.ESTIMATE_OPT)
+          || s.equals(RedrawEstimator.REDRAW_OPT)
+          || s.equals(FlashPlanner.OPTIMIZE_OPT)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Run code generation.
+   * 
+   * Called by Builder.main() once its logger and themes are loaded,
+   * our other command line tools are handed their arguments from here.
+   *
+   * @param args
+   *          the command line arguments
+   * @return the exit code
+   */
+  public static int run(String[] args) {
+    for (String s : args) {
+      if (s.equals(BatchGenerator.BATCH_OPT)) return BatchGenerator.run(args);
+      if (s.equals(GoldenVerifier.VERIFY_OPT)) return GoldenVerifier.run(args);
+      if (s.equals(MemoryEstimator.ESTIMATE_OPT)) return MemoryEstimator.run(args);
+      if (s.equals(RedrawEstimator.REDRAW_OPT)) return RedrawEstimator.run(args);
+      if (s.equals(FlashPlanner.OPTIMIZE_OPT)) return FlashPlanner.run(args);
+    }
+    CommandLine cl = new CommandLine(USAGE, new String[] { WATCH_OPT }, 
+        new String[] { GENERATE_OPT, OUT_OPT, TARGET_OPT }, true);
+    if (!cl.parse(args)) {
+      return EXIT_USAGE;
+    }
+    String projectName = cl.get(GENERATE_OPT);
+    String outName = cl.get(OUT_OPT);
+    boolean bWatch = cl.isSet(WATCH_OPT);
+    final List<String> targets = cl.getTargets(null);
+    if (projectName == null || !projectName.endsWith(".prj") || targets == null) {
+      return cl.usage();
+    }
+    final File projectFile = new File(projectName).getAbsoluteFile();
+    final File outFolder = (outName == null) ? projectFile.getParentFile() 
+                                       : new File(outName).getAbsoluteFile();
+    if (!projectFile.isFile()) {
+      System.err.println("Missing project file: " + projectFile.getPath());
+      return EXIT_BAD_PROJECT;
+    }
+    if (!outFolder.isDirectory() && !outFolder.mkdirs()) {
+      System.err.println("Unable to create folder: " + outFolder.getPath());
+      return EXIT_USAGE;
+    }
+
+    FontFactory.getInstance().init();
+    Supplier<List<Result>> job;
+    MultiTargetGenerator multi = null;
+    if (targets.size() > 1) {
+      final MultiTargetGenerator mtg = new MultiTargetGenerator(projectFile, outFolder, targets);
+      multi = mtg;
+      job = () -> mtg.generate();
+    } else {
+      job = () -> Collections.singletonList(generate(projectFile, outFolder, targets.get(0)));
+    }
+    try {
+      int status = report(job.get());
+      if (bWatch) {
+        return watch(projectFile, targets, job);
+      }
+      return status;
+    } finally {
+      if (multi != null) {
+        multi.close();
+      }
+    }
+  }
+
+  /**
+   * Regenerate code each time the project or our templates change.
+   * 
+   * Runs until the process is stopped. Our generators are reused 
+   * for every run so only regions whose inputs changed are regenerated.
+   *
+   * @param projectFile
+   *          the project file
+   * @param targets
+   *          the target platforms, or just null to use the project's own
+   * @param job
+   *          our code generation
+   * @return the exit code
+   */
+  private static int watch(final File projectFile, final List<String> targets, 
+      final Supplier<List<Result>> job) {
+    ProjectWatcher watcher;
+    try {
+      watcher = new ProjectWatcher(projectFile, ProjectWatcher.DEFAULT_DEBOUNCE,
+          new ProjectWatcher.Listener() {
+            @Override
+            public void changed(int changes, Set<String> files) {
+              if (!isAffected(projectFile, targets, changes, files)) {
+                Builder.logger.debug("Code Generation: " + files + " not used, skipped");
+                return;
+              }
+              if ((changes & ProjectWatcher.FONTS) != 0) {
+                FontFactory.getInstance().init();
+              }
+              System.out.println("Changed: " + files);
+              report(job.get());
+            }
+          });
+    } catch (IOException e) {
+      System.err.println("Unable to watch: " + projectFile.getPath() + " " + e.toString());
+      return EXIT_FAILED;
+    }
+    System.out.println("Watching " + projectFile.getPath() + ", press Ctrl-C to stop");
+    watcher.run();
+    return EXIT_OK;
+  }
+
+  /**
+   * Test if a burst of changes affects our generated code.
+   * 
+   * Only a change to template files alone can be ignored, when
+   * none of them are read by any of our targets.
+   *
+   * @param projectFile
+   *          the project file
+   * @param targets
+   *          the target platforms, or just null to use the project's own
+   * @param changes
+   *          the mask of changes
+   * @param files
+   *          the names of files that changed
+   * @return true, if we need to regenerate
+   */
+  private static boolean isAffected(File projectFile, List<String> targets, int changes, 
+      Set<String> files) {
+    if (changes != ProjectWatcher.TEMPLATES) {
+      return true;
+    }
+    boolean bCompat = GeneralEditor.getInstance().isBackwardCompat();
+    for (String target : targets) {
+      if (target == null) {
+        target = projectTarget(projectFile);
+        if (target == null) {
+          return true;
+        }
+      }
+      for (String name : files) {
+        if (CodeGenerator.usesTemplate(target, bCompat, name)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Read a project's own target platform.
+   *
+   * @param projectFile
+   *          the project file
+   * @return the target platform or null if the project can't be read
+   */
+  private static String projectTarget(File projectFile) {
+    ProjectReader reader = new ProjectReader(projectFile);
+    try {
+      reader.read();
+    } catch (IOException | ClassNotFoundException | RuntimeException e) {
+      return null;
+    }
+    return reader.getProjectModel().getTargetPlatform();
+  }
+
+  /**
+   * Report how a generation went.
+   *
+   * @param results
+   *          the result of each target
+   * @return the exit code, EXIT_OK only if every target succeeded
+   */
+  private static int report(List<Result> results) {
+    int status = EXIT_OK;
+    for (Result r : results) {
+      if (r.getStatus() == EXIT_OK) {
+        System.out.println(r.getMessage());
+      } else {
+        System.err.println(r.getMessage());
+        status = r.getStatus();
+      }
+    }
+    return status;
+  }
+
+  /**
+   * Generate code for one project.
+   * 
+   * Safe to call from many threads at once, fonts must already be loaded.
+   *
+   * @param projectFile
+   *          the project file
+   * @param outFolder
+   *          the folder to write our code into
+   * @param target
+   *          the target platform or null to use the project's own
+   * @return the <code>Result</code> object
+   */
+  public static Result generate(File projectFile, File outFolder, String target) {
+    return generate(projectFile, new ProjectReader(projectFile), outFolder, target, 
+        generator.get(), System.nanoTime());
+  }
+
+  /**
+   * Generate code for one project from its reader.
+   *
+   * @param projectFile
+   *          the project file
+   * @param reader
+   *          the project reader, not yet read
+   * @param outFolder
+   *          the folder to write our code into
+   * @param target
+   *          the target platform or null to use the project's own
+   * @param cg
+   *          the code generator, only used by the calling thread
+   * @param start
+   *          the System.nanoTime() we started at
+   * @return the <code>Result</code> object
+   */
+  static Result generate(File projectFile, ProjectReader reader, File outFolder, 
+      String target, CodeGenerator cg, long start) {
+    try {
+      reader.read();
+    } catch (IOException | ClassNotFoundException | RuntimeException e) {
+      Builder.logger.error("Project Open Failed: " + projectFile.getName(), e);
+      return new Result(projectFile, EXIT_BAD_PROJECT, start, 0,
+          "Project Open Failed: " + projectFile.getName() + " " + e.toString());
+    }
+    ProjectModel pm = reader.getProjectModel();
+    if (target != null) {
+      pm.setTargetPlatform(target);
+    }
+    return generate(projectFile, pm, reader.getPages(), null, outFolder, cg, start);
+  }
+
+  /**
+   * Generate code for one project model from either its pages or a project
+   * index shared with other targets.
+   *
+   * @param projectFile
+   *          the project file
+   * @param pm
+   *          the project model, bound to the calling thread while we generate
+   * @param pages
+   *          the pages, only used without a shared index
+   * @param shared
+   *          the shared project index or null to index our pages
+   * @param outFolder
+   *          the folder to write our code into
+   * @param cg
+   *          the code generator, only used by the calling thread
+   * @param start
+   *          the System.nanoTime() we started at
+   * @return the <code>Result</code> object
+   */
+  static Result generate(File projectFile, ProjectModel pm, List<? extends CodePage> pages, 
+      ProjectIndex shared, File outFolder, CodeGenerator cg, long start) {
+    ProjectModel prev = Controller.bindProjectModel(pm);
+    try {
+      boolean bCompat = GeneralEditor.getInstance().isBackwardCompat();
+      String files = (shared == null) 
+          ? cg.generateCode(projectFile, outFolder.getPath(), pages, bCompat)
+          : cg.generateCode(projectFile, outFolder.getPath(), shared, bCompat);
+      Builder.logger.debug("Successful Code Generation into " + files);
+      return new Result(projectFile, EXIT_OK, start, cg.getBytesWritten(),
+          "Successful Code Generation into " + files);
+    } catch (RuntimeException e) {
+      Builder.logger.error("Code Generation Failed: " + projectFile.getName(), e);
+      return new Result(projectFile, EXIT_FAILED, start, cg.getBytesWritten(),
+          "Code Generation Failed: " + e.toString());
+    } finally {
+      Controller.bindProjectModel(prev);
+    }
+  }
+
+  /**
+   * Test for a supported target platform.
+   *
+   * @param target
+   *          the target
+   * @return true, if supported
+   */
+  static boolean isTarget(String target) {
+    return target.equals(ProjectModel.PLATFORM_LINUX) ||
+           target.equals(ProjectModel.PLATFORM_ARDUINO) ||
+           target.equals(ProjectModel.PLATFORM_TFT_ESPI);
+  }
+
+  /**
+   * The Class Result describes how generating one project went.
+   */
+  public static final class Result {
+    
+    /** The project file. */
+    private final File projectFile;
+    
+    /** The exit status. */
+    private final int status;
+    
+    /** The duration in milliseconds. */
+    private final long millis;
+    
+    /** The bytes written. */
+    private final long bytes;
+    
+    /** The message. */
+    private final String message;
+
+    /**
+     * Instantiates a new result.
+     *
+     * @param projectFile
+     *          the project file
+     * @param status
+     *          the exit status
+     * @param start
+     *          the System.nanoTime() we started at
+     * @param bytes
+     *          the bytes written
+     * @param message
+     *          the message
+     */
+    Result(File projectFile, int status, long start, long bytes, String message) {
+      this.projectFile = projectFile;
+      this.status = status;
+      this.millis = (System.nanoTime() - start) / 1000000L;
+      this.bytes = bytes;
+      this.message = message;
+    }
+
+    /**
+     * Gets the project file.
+     *
+     * @return the project file
+     */
+    public File getProjectFile() {
+      return projectFile;
+    }
+
+    /**
+     * Gets the exit status, one of the EXIT_ constants.
+     *
+     * @return the status
+     */
+    public int getStatus() {
+      return status;
+    }
+
+    /**
+     * Gets the duration.
+     *
+     * @return the duration in milliseconds
+     */
+    public long getMillis() {
+      return millis;
+    }
+
+    /**
+     * Gets the bytes written.
+     *
+     * @return the bytes written, 0 if every file was unchanged
+     */
+    public long getBytes() {
+      return bytes;
+    }
+
+    /**
+     * Gets the message.
+     *
+     * @return the message
+     */
+    public String getMessage() {
+      return message;
+    }
+  }
+
+}
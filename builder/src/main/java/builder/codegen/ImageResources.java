@@ -0,0 +1,601 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import builder.Builder;
+import builder.common.EnumFactory;
+import builder.controller.Controller;
+import builder.models.GeneralModel;
+import builder.models.ImageModel;
+import builder.models.ImgButtonModel;
+import builder.models.ProjectModel;
+import builder.models.WidgetModel;
+import builder.prefs.GeneralEditor;
+
+/**
+ * The Class ImageResources writes the images our project would load
+ * from an SD card or file system as C arrays our sketch keeps in flash.
+ * <p>
+ * GUIslice draws two formats straight from flash, a 16-bit RGB565
+ * array in the layout of the UTFT converter and the 1-bit RAW1 bitmap.
+ * Images with a single color over a transparent background go out as
+ * RAW1, everything else as RGB565. Each image is written to its own 
+ * <code>img_logo.c</code> in our project's folder and our elements
+ * switch from <code>gslc_GetImageFromSD()</code> to 
+ * <code>gslc_GetImageFromProg()</code>.
+ * </p>
+ * <p>
+ * Both images of an Image Button share one format, so the button is
+ * only converted when both of its images come from files.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public class ImageResources {
+
+  /** The line telling us we created a file and may remove it. */
+  private final static String MARKER             = "// GUIslice Builder Generated Image Array";
+
+  /** The Constants for templates. */
+  private final static String IMAGE_ARRAY_FILE_TEMPLATE = "<IMAGE_ARRAY_FILE>";
+  
+  /** The Constants for macros. */
+  private final static String FILENAME_MACRO     = "FILENAME";
+  private final static String IMAGE_INFO_MACRO   = "IMAGE_INFO";
+  private final static String IMAGE_NAME_MACRO   = "IMAGE_NAME";
+  private final static String VERSION_MACRO      = "VERSION";
+
+  /** The number of values in each row of our arrays. */
+  private final static int    SHORTS_PER_ROW     = 12;
+  private final static int    BYTES_PER_ROW      = 16;
+
+  /** The converted images by #define name. */
+  private final Map<String, Resource> resources = new TreeMap<String, Resource>();
+  
+  /** The lines of our report. */
+  private final List<String> report = new ArrayList<String>();
+  
+  /**
+   * The Class Resource is one image converted to a C array.
+   */
+  public static class Resource {
+    
+    /** The #define that named our image on file. */
+    private final String define;
+    
+    /** The name of our image on file. */
+    private final String imageName;
+    
+    /** The name of our C array. */
+    private final String externName;
+    
+    /** The width. */
+    private final int width;
+    
+    /** The height. */
+    private final int height;
+    
+    /** The 1-bit color, null if stored as RGB565. */
+    private final Color rawColor;
+    
+    /** The C array. */
+    private final String source;
+    
+    /** The number of bytes our array takes in flash. */
+    private final int flashSize;
+
+    /**
+     * Instantiates a new resource.
+     *
+     * @param define
+     *          the #define
+     * @param imageName
+     *          the image name
+     * @param image
+     *          the image
+     * @param rawColor
+     *          the 1-bit color, null for RGB565
+     * @param transColor
+     *          the transparency color
+     */
+    private Resource(String define, String imageName, BufferedImage image, 
+        Color rawColor, Color transColor) {
+      this.define = define;
+      this.imageName = imageName;
+      this.externName = define.toLowerCase();
+      this.width = image.getWidth();
+      this.height = image.getHeight();
+      this.rawColor = rawColor;
+      StringBuilder sBd = new StringBuilder();
+      if (rawColor != null) {
+        byte[] bytes = toRaw1(image, rawColor, transColor);
+        flashSize = bytes.length;
+        sBd.append(String.format("const unsigned char %s[%d] PROGMEM = {", externName, flashSize));
+        sBd.append(System.lineSeparator());
+        sBd.append("  // width, height, color");
+        sBd.append(System.lineSeparator());
+        sBd.append("  ");
+        for (int i=0; i<7; i++) {
+          sBd.append(String.format((i < 6) ? "0x%02X, " : "0x%02X,", bytes[i] & 0xFF));
+        }
+        sBd.append(System.lineSeparator());
+        appendHex(sBd, bytes, 7, BYTES_PER_ROW, "  ");
+      } else {
+        int[] shorts = toRGB565(image, transColor);
+        flashSize = shorts.length * 2;
+        // keep the layout of the UTFT converter so our file can be loaded again
+        sBd.append(String.format("const unsigned short %s[%d] PROGMEM = {%d,%d,", 
+            externName, shorts.length, height, width));
+        sBd.append(System.lineSeparator());
+        for (int i=2; i<shorts.length; i++) {
+          if ((i-2) % SHORTS_PER_ROW == 0) {
+            sBd.append("  ");
+          }
+          sBd.append(String.format("0x%04X", shorts[i]));
+          if (i+1 < shorts.length) {
+            sBd.append(",");
+            if ((i-1) % SHORTS_PER_ROW == 0) {
+              sBd.append(System.lineSeparator());
+            } else {
+              sBd.append(" ");
+            }
+          }
+        }
+        sBd.append(System.lineSeparator());
+      }
+      sBd.append("};");
+      sBd.append(System.lineSeparator());
+      source = sBd.toString();
+    }
+    
+    /**
+     * Gets the name of our C array.
+     *
+     * @return the extern name
+     */
+    public String getExternName() {
+      return externName;
+    }
+    
+    /**
+     * Gets the GUIslice image format of our array.
+     *
+     * @return the image format
+     */
+    public String getImageFormat() {
+      return (rawColor != null) ? ImageModel.FORMAT_RAW : ImageModel.FORMAT_BMP24;
+    }
+    
+    /**
+     * Gets our C array.
+     *
+     * @return the source
+     */
+    public String getSource() {
+      return source;
+    }
+    
+    /**
+     * Checks if our array is a 1-bit bitmap.
+     *
+     * @return true, if RAW1
+     */
+    public boolean isRaw() {
+      return rawColor != null;
+    }
+    
+    /**
+     * Gets the number of bytes our array takes in flash.
+     *
+     * @return the flash size
+     */
+    public int getFlashSize() {
+      return flashSize;
+    }
+    
+    /**
+     * Gets the number of bytes of our image as an uncompressed 24-bit bitmap.
+     *
+     * @return the size
+     */
+    public int getFullSize() {
+      return width * height * 3;
+    }
+    
+    /**
+     * Describe our array for its file and our report.
+     *
+     * @return the description
+     */
+    private String describe() {
+      return String.format("%s %dx%d, %d bytes, 24-bit %d bytes",
+          isRaw() ? "RAW1" : "RGB565", width, height, flashSize, getFullSize());
+    }
+  }
+  
+  /**
+   * Instantiates a new image resources.
+   */
+  private ImageResources() {
+  }
+  
+  /**
+   * Build the image resources for our project.
+   * 
+   * The project model must be bound to our Controller, as it is
+   * during code generation.
+   *
+   * @param index
+   *          the index of our project
+   * @return the image resources, <code>null</code> if our target 
+   *         can't draw images from flash
+   */
+  public static ImageResources build(ProjectIndex index) {
+    ProjectModel pm = Controller.getProjectModel();
+    if (pm.getTargetPlatform().equals(ProjectModel.PLATFORM_LINUX)) {
+      return null;
+    }
+    Color transColor = ((GeneralModel) GeneralEditor.getInstance().getModel()).getTransparencyColor();
+    Map<String, BufferedImage> images = new TreeMap<String, BufferedImage>();
+    Map<String, String> names = new HashMap<String, String>();
+    Set<String> transparent = new HashSet<String>();
+    Set<String> color = new HashSet<String>();
+    ImageResources ir = new ImageResources();
+    for (WidgetModel m : index.getImageModels()) {
+      if (m.getType().equals(EnumFactory.IMAGE)) {
+        ImageModel im = (ImageModel) m;
+        if (!isFile(im.getMemory(), im.getDefine()) || im.getImage() == null) {
+          continue;
+        }
+        add(images, names, im.getDefine(), im.getImageName(), im.getImage());
+        if (im.isTransparent()) {
+          transparent.add(im.getDefine());
+        }
+      } else if (m.getType().equals(EnumFactory.IMAGEBUTTON)) { 
+        ImgButtonModel bm = (ImgButtonModel) m;
+        boolean bImage = isFile(bm.getMemory(), bm.getDefine()) && bm.getImage() != null;
+        boolean bSelect = isFile(bm.getSelMemory(), bm.getSelDefine()) && bm.getImageSelected() != null;
+        if (bImage != bSelect) {
+          ir.report.add(String.format("%-24s kept on file, its other image is not", 
+              bImage ? bm.getDefine() : bm.getSelDefine()));
+          continue;
+        } else if (!bImage) {
+          continue;
+        }
+        add(images, names, bm.getDefine(), bm.getImageName(), bm.getImage());
+        add(images, names, bm.getSelDefine(), bm.getSelectImageName(), bm.getImageSelected());
+        if (bm.isTransparent()) {
+          transparent.add(bm.getDefine());
+          transparent.add(bm.getSelDefine());
+        }
+        // both images must agree on a format
+        if (getRawColor(bm.getImage(), transColor, bm.isTransparent()) == null ||
+            getRawColor(bm.getImageSelected(), transColor, bm.isTransparent()) == null) {
+          color.add(bm.getDefine());
+          color.add(bm.getSelDefine());
+        }
+      }
+    }
+    for (Map.Entry<String, BufferedImage> e : images.entrySet()) {
+      String define = e.getKey();
+      BufferedImage image = e.getValue();
+      Color rawColor = null;
+      if (!color.contains(define)) {
+        rawColor = getRawColor(image, transColor, transparent.contains(define));
+      }
+      Resource r = new Resource(define, names.get(define), image, rawColor, transColor);
+      ir.resources.put(define, r);
+      ir.report.add(String.format("%-24s %s", define, r.describe()));
+    }
+    return ir;
+  }
+  
+  /**
+   * Test if an image is read from a file.
+   *
+   * @param memory
+   *          the image's memory
+   * @param define
+   *          the image's #define
+   * @return true, if on file
+   */
+  private static boolean isFile(String memory, String define) {
+    return (memory.equals(ImageModel.SRC_SD) || memory.equals(ImageModel.SRC_FILE)) 
+        && define != null && !define.isEmpty();
+  }
+  
+  /**
+   * Add an image unless its #define is already taken, 
+   * as when an image is placed on several pages.
+   *
+   * @param images
+   *          the images by #define
+   * @param names
+   *          the image names by #define
+   * @param define
+   *          the #define
+   * @param imageName
+   *          the image name
+   * @param image
+   *          the image
+   */
+  private static void add(Map<String, BufferedImage> images, Map<String, String> names, 
+      String define, String imageName, BufferedImage image) {
+    if (!images.containsKey(define)) {
+      images.put(define, image);
+      names.put(define, imageName);
+    }
+  }
+  
+  /**
+   * Gets the one color of an image that RAW1 can store. 
+   * 
+   * RAW1 only draws its set bits, so every other pixel must
+   * be transparent, and we can only rely on that when our 
+   * element is transparent or our image has no such pixels.
+   *
+   * @param image
+   *          the image
+   * @param transColor
+   *          the transparency color
+   * @param bTransparent
+   *          true, if our element is transparent
+   * @return the color, <code>null</code> if our image needs RGB565
+   */
+  private static Color getRawColor(BufferedImage image, Color transColor, boolean bTransparent) {
+    int nTrans = transColor.getRGB() & 0xFFFFFF;
+    int nColor = -1;
+    boolean bClear = false;
+    for (int y=0; y<image.getHeight(); y++) {
+      for (int x=0; x<image.getWidth(); x++) {
+        int argb = image.getRGB(x, y);
+        int rgb = argb & 0xFFFFFF;
+        if ((argb >>> 24) < 0x80 || rgb == nTrans) {
+          bClear = true;
+        } else if (nColor == -1) {
+          nColor = rgb;
+        } else if (rgb != nColor) {
+          return null;
+        }
+      }
+    }
+    if (nColor == -1 || (bClear && !bTransparent)) {
+      return null;
+    }
+    return new Color(nColor);
+  }
+  
+  /**
+   * Convert an image to the RAW1 layout of GUIslice, a header of width, 
+   * height and color followed by rows of pixels, eight to a byte with 
+   * the leftmost pixel in the top bit.
+   *
+   * @param image
+   *          the image
+   * @param rawColor
+   *          the color of the set bits
+   * @param transColor
+   *          the transparency color
+   * @return the bytes
+   */
+  private static byte[] toRaw1(BufferedImage image, Color rawColor, Color transColor) {
+    int w = image.getWidth();
+    int h = image.getHeight();
+    int rowBytes = (w + 7) / 8;
+    byte[] bytes = new byte[7 + rowBytes * h];
+    bytes[0] = (byte) (w >> 8);
+    bytes[1] = (byte) w;
+    bytes[2] = (byte) (h >> 8);
+    bytes[3] = (byte) h;
+    bytes[4] = (byte) rawColor.getRed();
+    bytes[5] = (byte) rawColor.getGreen();
+    bytes[6] = (byte) rawColor.getBlue();
+    int nColor = rawColor.getRGB() & 0xFFFFFF;
+    for (int y=0; y<h; y++) {
+      for (int x=0; x<w; x++) {
+        int argb = image.getRGB(x, y);
+        if ((argb >>> 24) >= 0x80 && (argb & 0xFFFFFF) == nColor) {
+          bytes[7 + y * rowBytes + x / 8] |= (byte) (0x80 >> (x & 7));
+        }
+      }
+    }
+    return bytes;
+  }
+  
+  /**
+   * Convert an image to the RGB565 layout of the UTFT converter, the
+   * height and width followed by each pixel a row at a time. Pixels
+   * without color become our transparency color.
+   *
+   * @param image
+   *          the image
+   * @param transColor
+   *          the transparency color
+   * @return the values
+   */
+  private static int[] toRGB565(BufferedImage image, Color transColor) {
+    int w = image.getWidth();
+    int h = image.getHeight();
+    int[] shorts = new int[w * h + 2];
+    shorts[0] = h;
+    shorts[1] = w;
+    int i = 2;
+    for (int y=0; y<h; y++) {
+      for (int x=0; x<w; x++) {
+        int argb = image.getRGB(x, y);
+        if ((argb >>> 24) < 0x80) {
+          argb = transColor.getRGB();
+        }
+        int r = (argb >> 16) & 0xFF;
+        int g = (argb >> 8) & 0xFF;
+        int b = argb & 0xFF;
+        shorts[i++] = ((r >> 3) << 11) | ((g >> 2) << 5) | (b >> 3);
+      }
+    }
+    return shorts;
+  }
+  
+  /**
+   * Append bytes as C hex literals, a row at a time.
+   *
+   * @param sBd
+   *          the output
+   * @param bytes
+   *          the bytes
+   * @param start
+   *          the first byte to write
+   * @param perRow
+   *          the number of bytes per row
+   * @param indent
+   *          the indent of each row
+   */
+  private static void appendHex(StringBuilder sBd, byte[] bytes, int start, int perRow, String indent) {
+    for (int i=start; i<bytes.length; i++) {
+      if ((i-start) % perRow == 0) {
+        sBd.append(indent);
+      }
+      sBd.append(String.format("0x%02X", bytes[i] & 0xFF));
+      if (i+1 < bytes.length) {
+        sBd.append(",");
+        if ((i+1-start) % perRow == 0) {
+          sBd.append(System.lineSeparator());
+        } else {
+          sBd.append(" ");
+        }
+      }
+    }
+    sBd.append(System.lineSeparator());
+  }
+  
+  /**
+   * Gets the C array that replaces an image on file.
+   *
+   * @param define
+   *          the #define naming the image
+   * @return the resource, <code>null</code> if our image stays on file
+   */
+  public Resource getResource(String define) {
+    return (define != null) ? resources.get(define) : null;
+  }
+  
+  /**
+   * Gets the C arrays we write.
+   *
+   * @return the resources
+   */
+  public List<Resource> getResources() {
+    return Collections.unmodifiableList(new ArrayList<Resource>(resources.values()));
+  }
+  
+  /**
+   * Format our report of the images we converted.
+   *
+   * @return the lines of our report
+   */
+  public List<String> format() {
+    return Collections.unmodifiableList(report);
+  }
+  
+  /**
+   * Write out our C array files and remove any we wrote before
+   * for images no longer converted.
+   *
+   * @param folder
+   *          the folder holding our project's files
+   * @param tm
+   *          the template manager
+   * @return the number of bytes written
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  public long write(String folder, TemplateManager tm) throws IOException {
+    long nBytes = 0;
+    Set<String> names = new HashSet<String>();
+    Map<String, String> map = new HashMap<String,String>();
+    StringBuilder sBd = new StringBuilder();
+    for (Resource r : resources.values()) {
+      String fileName = r.getExternName() + ".c";
+      map.clear();
+      map.put(FILENAME_MACRO, fileName);
+      map.put(VERSION_MACRO, Builder.VERSION);
+      map.put(IMAGE_NAME_MACRO, r.imageName);
+      map.put(IMAGE_INFO_MACRO, r.define + " " + r.describe());
+      sBd.setLength(0);
+      tm.codeWriter(sBd, IMAGE_ARRAY_FILE_TEMPLATE, map);
+      sBd.append(r.source);
+      nBytes += OutputFile.write(new File(folder, fileName), sBd.toString(), false);
+      names.add(fileName);
+    }
+    removeStale(folder, names);
+    return nBytes;
+  }
+  
+  /**
+   * Remove the C array files we created that are no longer needed.
+   *
+   * @param folder
+   *          the folder holding our project's files
+   * @param keep
+   *          the names of the files to keep
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  public static void removeStale(String folder, Set<String> keep) throws IOException {
+    File[] files = new File(folder).listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File f : files) {
+      String name = f.getName();
+      if (keep.contains(name) || !f.isFile() || !name.endsWith(".c")) {
+        continue;
+      }
+      // our user's own files may be in any encoding
+      String text = new String(Files.readAllBytes(f.toPath()), StandardCharsets.ISO_8859_1);
+      if (text.contains(MARKER)) {
+        Builder.logger.debug("Code Generation: removed " + name);
+        Files.delete(f.toPath());
+      }
+    }
+  }
+
+}
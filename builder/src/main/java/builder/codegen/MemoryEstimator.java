@@ -0,0 +1,910 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import builder.Builder;
+import builder.common.EnumFactory;
+import builder.controller.Controller;
+import builder.controller.ProjectReader;
+import builder.fonts.FontFactory;
+import builder.fonts.FontTFT;
+import builder.models.GraphModel;
+import builder.models.ImageModel;
+import builder.models.ImgButtonModel;
+import builder.models.KeyPadModel;
+import builder.models.KeyPadTextModel;
+import builder.models.ListBoxModel;
+import builder.models.NumberInputModel;
+import builder.models.ProjectModel;
+import builder.models.RingGaugeModel;
+import builder.models.TextBoxModel;
+import builder.models.TextInputModel;
+import builder.models.TextModel;
+import builder.models.TxtButtonModel;
+import builder.models.WidgetModel;
+import builder.prefs.AlphaKeyPadEditor;
+import builder.prefs.NumKeyPadEditor;
+import builder.widgets.Widget;
+
+/**
+ * The Class MemoryEstimator estimates the SRAM and flash a project needs
+ * on the boards of its target platform, so our user can tell whether a
+ * design fits before building and flashing it.
+ * <p>
+ * It counts what <code>ElementPipe</code>, <code>ExtraElementPipe</code> 
+ * and <code>InitGuiPipe</code> would output for each page: the
+ * <code>gslc_tsElem</code> and <code>gslc_tsElemRef</code> arrays, less 
+ * the elements our <code>_P</code> APIs keep in flash, the extended element
+ * structures and their buffers, text storage (TXT-205) and text literals,
+ * and images kept in PROGMEM or RAM. Fonts are sized from the bitmap and
+ * glyph tables of the parsed font files and counted once for the project.
+ * </p>
+ * <p>
+ * Structure sizes differ with each board's pointer size and compiler, and
+ * with the GUIslice release and configuration, so each <code>Board</code>
+ * carries approximate sizes along with a baseline for the GUIslice library,
+ * display driver and gslc_tsGui. Treat the totals as a guide to how close
+ * a design is to its limits, not as a replacement for the linker's map.
+ * </p>
+ * <p>
+ * Usage: <code>builder.Builder --estimate project.prj
+ * [--target linux|arduino|tft_espi[,...]|all] [--board name[,...]]
+ * [--report file]</code>
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class MemoryEstimator {
+
+  /** The Constants for command line options. */
+  public  final static String ESTIMATE_OPT   = "--estimate";
+  public  final static String BOARD_OPT      = "--board";
+
+  /** The Constant USAGE. */
+  private final static String USAGE = 
+      "usage: builder.Builder " + ESTIMATE_OPT + " project.prj ["
+      + HeadlessGenerator.TARGET_OPT + " " + ProjectModel.PLATFORM_LINUX + "|" 
+      + ProjectModel.PLATFORM_ARDUINO + "|" + ProjectModel.PLATFORM_TFT_ESPI + "[,...]|"
+      + HeadlessGenerator.ALL_TARGETS + "] [" + BOARD_OPT + " name[,...]] ["
+      + BatchGenerator.REPORT_OPT + " file]";
+
+  /** The Constants for the embedded elements of our keypads. */
+  private final static int KEYPAD_NUM_ELEMS   = 20;
+  private final static int KEYPAD_ALPHA_ELEMS = 40;
+  
+  /** The Constant XLISTBOX_BUF_OH_R, bytes of overhead per listbox item. */
+  private final static int XLISTBOX_BUF_OH_R  = 2;
+  
+  /** The Constant BMP_HEADER, bytes ahead of the pixels of a BMP file. */
+  private final static int BMP_HEADER         = 54;
+
+  /** The boards we know. */
+  public  final static Board ATMEGA2560 = new Board("ATmega2560", 
+      ProjectModel.PLATFORM_ARDUINO, 2, 8192, 253952, true,
+      56, 3, 20, 8, 48, 1100, 28000);
+  public  final static Board ESP32 = new Board("ESP32", 
+      ProjectModel.PLATFORM_ARDUINO + "," + ProjectModel.PLATFORM_TFT_ESPI + ",m5stack", 
+      4, 327680, 1310720, false,
+      96, 8, 40, 16, 64, 30000, 240000);
+  public  final static Board TEENSY36 = new Board("Teensy36", 
+      "teensy", 4, 262144, 1048576, false,
+      96, 8, 40, 16, 64, 12000, 60000);
+  public  final static Board LINUX = new Board("Linux",
+      ProjectModel.PLATFORM_LINUX, 8, 0, 0, false,
+      152, 16, 72, 24, 80, 0, 0);
+
+  /** The Constant BOARDS. */
+  private final static List<Board> BOARDS = 
+      Collections.unmodifiableList(Arrays.asList(ATMEGA2560, ESP32, TEENSY36, LINUX));
+  
+  /** 
+   * The extended element structures, each as its bytes other than pointers, 
+   * its number of pointers and its number of embedded elements.
+   */
+  private final static Map<String, int[]> XDATA = new HashMap<String, int[]>();
+  static {
+    XDATA.put(EnumFactory.CHECKBOX,     new int[] {  6, 1, 0 });
+    XDATA.put(EnumFactory.GRAPH,        new int[] { 16, 1, 0 });
+    XDATA.put(EnumFactory.LISTBOX,      new int[] { 24, 2, 0 });
+    XDATA.put(EnumFactory.PROGRESSBAR,  new int[] { 12, 0, 0 });
+    XDATA.put(EnumFactory.RADIOBUTTON,  new int[] {  6, 1, 0 });
+    XDATA.put(EnumFactory.RAMPGAUGE,    new int[] {  8, 0, 0 });
+    XDATA.put(EnumFactory.RADIALGAUGE,  new int[] { 14, 0, 0 });
+    XDATA.put(EnumFactory.RINGGAUGE,    new int[] { 24, 1, 0 });
+    XDATA.put(EnumFactory.SEEKBAR,      new int[] { 20, 1, 0 });
+    XDATA.put(EnumFactory.SLIDER,       new int[] { 14, 1, 0 });
+    XDATA.put(EnumFactory.SPINNER,      new int[] { 16, 2, 4 });
+    XDATA.put(EnumFactory.TEXTBOX,      new int[] { 20, 1, 0 });
+    XDATA.put(EnumFactory.TOGGLEBUTTON, new int[] { 12, 1, 0 });
+  }
+  
+  /** The scrollbar of a textbox or listbox is a gslc_tsXSlider. */
+  private final static int[] XSCROLLBAR = XDATA.get(EnumFactory.SLIDER);
+  
+  /** The gslc_tsXToggleImgbtn of an image button that toggles. */
+  private final static int[] XTOGGLEIMG = new int[] { 4, 1, 0 };
+
+  /**
+   * Instantiates a new memory estimator.
+   */
+  private MemoryEstimator() {
+  }
+
+  /**
+   * Gets the boards we know.
+   *
+   * @return the boards
+   */
+  public static List<Board> getBoards() {
+    return BOARDS;
+  }
+
+  /**
+   * Gets the boards of a target platform.
+   *
+   * @param platform
+   *          the target platform, one of the ProjectModel PLATFORM_ constants
+   * @return the boards
+   */
+  public static List<Board> getBoards(String platform) {
+    List<Board> list = new ArrayList<Board>();
+    for (Board b : BOARDS) {
+      if (b.isPlatform(platform)) {
+        list.add(b);
+      }
+    }
+    return list;
+  }
+
+  /**
+   * Find a board by name, ignoring case.
+   *
+   * @param name
+   *          the name
+   * @return the board or <code>null</code>, if not found
+   */
+  public static Board findBoard(String name) {
+    for (Board b : BOARDS) {
+      if (b.getName().equalsIgnoreCase(name)) {
+        return b;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Estimate our project for each board of its target platform.
+   *
+   * The project model must be bound to our Controller, as it is
+   * during code generation.
+   *
+   * @param index
+   *          the index of our project
+   * @param plan
+   *          the elements our PROGMEM optimizer moved to flash, may be <code>null</code>
+   * @return the estimates
+   */
+  public static List<Estimate> estimate(ProjectIndex index, FlashPlanner.Plan plan) {
+    List<Estimate> list = new ArrayList<Estimate>();
+    for (Board b : getBoards(Controller.getProjectModel().getTargetPlatform())) {
+      list.add(estimate(index, b, plan));
+    }
+    return list;
+  }
+
+  /**
+   * Estimate our project for a board.
+   *
+   * @param index
+   *          the index of our project
+   * @param board
+   *          the board
+   * @param plan
+   *          the elements our PROGMEM optimizer moved to flash, may be <code>null</code>
+   * @return the estimate
+   */
+  public static Estimate estimate(ProjectIndex index, Board board, FlashPlanner.Plan plan) {
+    Estimate est = new Estimate(board, Controller.getProjectModel().getTargetPlatform());
+    int nPages = index.getUserPages().size();
+    for (CodePage p : index.getUserPages()) {
+      Row row = new Row(p.getEnum());
+      for (Widget w : p.getWidgets()) {
+        WidgetModel m = w.getModel();
+        addWidget(row, board, m, m.useFlash() || (plan != null && plan.isMoved(m)));
+      }
+      row.ram += row.elems * board.ref + (row.elems - row.flashElems) * board.elem;
+      row.flash += row.flashElems * board.elem + row.elems * board.code;
+      est.pages.add(row);
+    }
+    
+    // our keypads each add a hidden page holding one element
+    Row keypads = new Row("Keypads");
+    if (index.hasNumKeyPad()) {
+      nPages++;
+      addKeyPad(keypads, board, KEYPAD_NUM_ELEMS);
+    }
+    if (index.hasAlphaKeyPad()) {
+      nPages++;
+      addKeyPad(keypads, board, KEYPAD_ALPHA_ELEMS);
+    }
+    if (keypads.elems > 0) {
+      est.shared.add(keypads);
+    }
+    
+    // fonts are shared by every page, each adds a gslc_tsFont to m_asFont
+    for (String name : getFontNames(index)) {
+      FontTFT font = FontFactory.getInstance().getFont(name);
+      if (font == null) continue;
+      Row row = new Row("Font " + name);
+      row.ram = board.font;
+      int size = font.getFlashSize();
+      if (size > 0) {
+        // plus the GFXfont or ILI9341_t3_font_t pointing at our tables
+        row.flash = size + align(board, 12 + 2 * board.ptr);
+      }
+      est.shared.add(row);
+    }
+    
+    Row core = new Row("GUIslice Core");
+    core.ram = board.coreRam + nPages * board.page;
+    core.flash = board.coreFlash;
+    est.shared.add(core);
+    return est;
+  }
+
+  /**
+   * Add the memory a widget needs to its page's row.
+   *
+   * @param row
+   *          the row of the widget's page
+   * @param board
+   *          the board
+   * @param m
+   *          the widget's model
+   * @param bFlash
+   *          true if the widget is created by our _P APIs
+   */
+  private static void addWidget(Row row, Board board, WidgetModel m, boolean bFlash) {
+    String type = m.getType();
+    row.elems++;
+    if (bFlash) {
+      row.flashElems++;
+    }
+    // the extended element data is kept in RAM even by our _P APIs
+    int[] xdata = XDATA.get(type);
+    if (xdata != null) {
+      row.ram += xdataSize(board, xdata);
+    }
+    switch (type) {
+      case EnumFactory.GRAPH:
+        row.ram += 2 * ((GraphModel) m).getNumRows();
+        break;
+      case EnumFactory.LISTBOX:
+        row.ram += ((ListBoxModel) m).getStorageSz() + XLISTBOX_BUF_OH_R;
+        break;
+      case EnumFactory.TEXTBOX:
+        row.ram += ((TextBoxModel) m).getNumTextRows() * ((TextBoxModel) m).getNumTextColumns();
+        break;
+      case EnumFactory.IMAGE:
+        addImage(row, ((ImageModel) m).getMemory(), ((ImageModel) m).getImageFormat(), 
+            m.getImage());
+        break;
+      case EnumFactory.IMAGEBUTTON:
+        ImgButtonModel ib = (ImgButtonModel) m;
+        addImage(row, ib.getMemory(), ib.getImageFormat(), ib.getImage());
+        addImage(row, ib.getSelMemory(), ib.getImageFormat(), ib.getImageSelected());
+        if (ib.isToggle()) {
+          row.ram += xdataSize(board, XTOGGLEIMG);
+        }
+        break;
+      default:
+        break;
+    }
+    // TEXTBOX and LISTBOX embed a wrapper box and a scrollbar
+    if (m.addScrollbar()) {
+      row.elems += 2;
+      row.ram += xdataSize(board, XSCROLLBAR);
+    }
+    
+    int storage = getTextStorage(m);
+    if (storage > 0) {
+      row.ram += storage;
+      row.flash += storage;  // its initial value
+    } else {
+      String text = getText(m);
+      if (text != null) {
+        int len = text.getBytes(StandardCharsets.UTF_8).length + 1;
+        row.flash += len;
+        if (board.literalsInRam && !bFlash) {
+          row.ram += len;
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the SRAM saved by creating a widget with our _P APIs instead,
+   * its gslc_tsElem and on some boards its text literal.
+   *
+   * @param board
+   *          the board
+   * @param m
+   *          the widget's model
+   * @return the bytes saved
+   */
+  static int getFlashSaving(Board board, WidgetModel m) {
+    int saving = board.elem;
+    String text = getText(m);
+    if (board.literalsInRam && getTextStorage(m) == 0 && text != null) {
+      saving += text.getBytes(StandardCharsets.UTF_8).length + 1;
+    }
+    return saving;
+  }
+
+  /**
+   * Add the memory a keypad needs.
+   *
+   * @param row
+   *          the row of our keypads
+   * @param board
+   *          the board
+   * @param nElems
+   *          the number of elements the keypad embeds
+   */
+  private static void addKeyPad(Row row, Board board, int nElems) {
+    row.elems += 1 + nElems;
+    row.ram += (1 + nElems) * (board.elem + board.ref) + align(board, 16 + 2 * board.ptr);
+    row.flash += (1 + nElems) * board.code;
+  }
+
+  /**
+   * Add the memory an image needs.
+   *
+   * @param row
+   *          the row of the image's page
+   * @param memory
+   *          where the image is kept, one of the ImageModel SRC_ constants
+   * @param format
+   *          the image format, one of the ImageModel FORMAT_ constants
+   * @param image
+   *          the image
+   */
+  private static void addImage(Row row, String memory, String format, BufferedImage image) {
+    if (image == null || memory == null) return;
+    int size = getImageSize(format, image.getWidth(), image.getHeight());
+    if (memory.equals(ImageModel.SRC_PROG)) {
+      row.flash += size;
+    } else if (memory.equals(ImageModel.SRC_RAM)) {
+      row.ram += size;
+    }
+  }
+
+  /**
+   * Gets the bytes an image takes within our program.
+   *
+   * @param format
+   *          the image format
+   * @param w
+   *          the width
+   * @param h
+   *          the height
+   * @return the size, 0 for JPG since its size depends on its content
+   */
+  static int getImageSize(String format, int w, int h) {
+    if (ImageModel.FORMAT_BMP24.equals(format)) {
+      return BMP_HEADER + ((w * 3 + 3) & ~3) * h;  // rows are padded to 4 bytes
+    } else if (ImageModel.FORMAT_BMP16.equals(format)) {
+      return w * h * 2;
+    } else if (ImageModel.FORMAT_RAW.equals(format)) {
+      return ((w + 7) / 8) * h;
+    }
+    return 0;
+  }
+
+  /**
+   * Gets the size of an extended element structure.
+   *
+   * @param board
+   *          the board
+   * @param xdata
+   *          the structure as bytes, pointers and embedded elements
+   * @return the size
+   */
+  private static int xdataSize(Board board, int[] xdata) {
+    return align(board, xdata[0] + xdata[1] * board.ptr) 
+        + xdata[2] * (board.elem + board.ref);
+  }
+
+  /**
+   * Round a structure's size up to the alignment of a board's pointers.
+   *
+   * @param board
+   *          the board
+   * @param size
+   *          the size
+   * @return the aligned size
+   */
+  private static int align(Board board, int size) {
+    return (size + board.ptr - 1) / board.ptr * board.ptr;
+  }
+
+  /**
+   * Gets the text storage (TXT-205) of a model.
+   *
+   * @param m
+   *          the model
+   * @return the storage, 0 if our text is a literal or we have no text
+   */
+  static int getTextStorage(WidgetModel m) {
+    if (m instanceof TextModel)        return ((TextModel) m).getTextStorage();
+    if (m instanceof TxtButtonModel)   return ((TxtButtonModel) m).getTextStorage();
+    if (m instanceof TextInputModel)   return ((TextInputModel) m).getTextStorage();
+    if (m instanceof NumberInputModel) return ((NumberInputModel) m).getTextStorage();
+    if (m instanceof RingGaugeModel)   return ((RingGaugeModel) m).getTextStorage();
+    return 0;
+  }
+
+  /**
+   * Gets the text of a model.
+   *
+   * @param m
+   *          the model
+   * @return the text, <code>null</code> if we have no text
+   */
+  static String getText(WidgetModel m) {
+    if (m instanceof TextModel)        return ((TextModel) m).getText();
+    if (m instanceof TxtButtonModel)   return ((TxtButtonModel) m).getText();
+    return null;
+  }
+
+  /**
+   * Gets the names of the fonts our project uses, the same way 
+   * <code>FontsPipe</code> does.
+   *
+   * @param index
+   *          the index of our project
+   * @return the font names
+   */
+  private static List<String> getFontNames(ProjectIndex index) {
+    List<String> names = new ArrayList<String>(index.getSortedFontNames());
+    if (index.hasNumKeyPad()) {
+      names.add(((KeyPadModel) NumKeyPadEditor.getInstance().getModel()).getFontDisplayName());
+    }
+    if (index.hasAlphaKeyPad()) {
+      names.add(((KeyPadTextModel) AlphaKeyPadEditor.getInstance().getModel()).getFontDisplayName());
+    }
+    for (String s : Controller.getProjectModel().getFontsList()) {
+      names.add(s);
+    }
+    names.removeAll(Collections.singleton(null));
+    names.removeAll(Collections.singleton(""));
+    CodeUtils.sortListandRemoveDups(names);
+    return names;
+  }
+
+  /**
+   * Run our estimate from the command line.
+   * 
+   * Handed our arguments by HeadlessGenerator.run() when 
+   * <code>--estimate</code> is given, keypad sizes come from the
+   * default keypad preferences unless <code>--user-prefs</code> is given.
+   *
+   * @param args
+   *          the command line arguments
+   * @return the exit code, EXIT_FAILED if the project doesn't fit a board
+   */
+  public static int run(String[] args) {
+    CommandLine cl = new CommandLine(USAGE, new String[0], new String[] { ESTIMATE_OPT, 
+        HeadlessGenerator.TARGET_OPT, BOARD_OPT, BatchGenerator.REPORT_OPT }, false);
+    if (!cl.parse(args)) {
+      return HeadlessGenerator.EXIT_USAGE;
+    }
+    String projectName = cl.get(ESTIMATE_OPT);
+    String boardNames = cl.get(BOARD_OPT);
+    List<String> targets = cl.getTargets(null);
+    if (projectName == null || !projectName.endsWith(".prj") || targets == null) {
+      return cl.usage();
+    }
+    List<Board> boards = null;
+    if (boardNames != null) {
+      boards = new ArrayList<Board>();
+      for (String s : boardNames.split(",")) {
+        Board b = findBoard(s.trim());
+        if (b == null) {
+          System.err.println("Unknown board: " + s.trim() + ", expected one of " + BOARDS);
+          return HeadlessGenerator.EXIT_USAGE;
+        }
+        boards.add(b);
+      }
+    }
+    FontFactory.getInstance().init();
+    final File projectFile = new File(projectName).getAbsoluteFile();
+    ProjectReader reader = cl.readProject(projectFile);
+    if (reader == null) {
+      return HeadlessGenerator.EXIT_BAD_PROJECT;
+    }
+
+    ProjectModel pm = reader.getProjectModel();
+    String platform = pm.getTargetPlatform();
+    final List<Estimate> estimates = new ArrayList<Estimate>();
+    ProjectModel prev = Controller.bindProjectModel(pm);
+    try {
+      ProjectIndex index = new ProjectIndex(reader.getPages());
+      for (String t : targets) {
+        pm.setTargetPlatform(t == null ? platform : t);
+        for (Board b : (boards != null ? boards : getBoards(pm.getTargetPlatform()))) {
+          estimates.add(estimate(index, b, null));
+        }
+      }
+    } finally {
+      pm.setTargetPlatform(platform);
+      Controller.bindProjectModel(prev);
+    }
+    
+    int status = HeadlessGenerator.EXIT_OK;
+    System.out.println(projectFile.getName());
+    for (Estimate e : estimates) {
+      report(System.out, e);
+      if (!e.fits()) {
+        status = HeadlessGenerator.EXIT_FAILED;
+      }
+    }
+    boolean bWritten = cl.writeReport(ps -> {
+      ps.println(projectFile.getName());
+      for (Estimate e : estimates) {
+        report(ps, e);
+      }
+    });
+    return bWritten ? status : HeadlessGenerator.EXIT_FAILED;
+  }
+
+  /**
+   * Print an estimate.
+   *
+   * @param ps
+   *          the stream to print on
+   * @param est
+   *          the estimate
+   */
+  private static void report(PrintStream ps, Estimate est) {
+    ps.println();
+    for (String line : est.format()) {
+      ps.println(line);
+    }
+  }
+
+  /**
+   * The Class Board describes the memory of a board and the approximate
+   * sizes of GUIslice's structures when built for it.
+   */
+  public static final class Board {
+    
+    /** The name. */
+    private final String name;
+    
+    /** The target platforms, comma separated. */
+    private final String platforms;
+    
+    /** The size of a pointer. */
+    final int ptr;
+    
+    /** The SRAM and flash available to our sketch, 0 for no limit. */
+    final int sram;
+    final int flash;
+    
+    /** Do string literals take up RAM as well as flash? */
+    final boolean literalsInRam;
+    
+    /** The sizes of a gslc_tsElem, gslc_tsElemRef, gslc_tsPage and gslc_tsFont. */
+    final int elem;
+    final int ref;
+    final int page;
+    final int font;
+    
+    /** The code in flash to create and configure one element. */
+    final int code;
+    
+    /** The RAM and flash used by the GUIslice library, driver and gslc_tsGui. */
+    final int coreRam;
+    final int coreFlash;
+
+    /**
+     * Instantiates a new board.
+     */
+    Board(String name, String platforms, int ptr, int sram, int flash, 
+        boolean literalsInRam, int elem, int ref, int page, int font, int code,
+        int coreRam, int coreFlash) {
+      this.name = name;
+      this.platforms = platforms;
+      this.ptr = ptr;
+      this.sram = sram;
+      this.flash = flash;
+      this.literalsInRam = literalsInRam;
+      this.elem = elem;
+      this.ref = ref;
+      this.page = page;
+      this.font = font;
+      this.code = code;
+      this.coreRam = coreRam;
+      this.coreFlash = coreFlash;
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @return the name
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Gets the SRAM available to our sketch.
+     *
+     * @return the size in bytes, 0 for no limit
+     */
+    public int getSram() {
+      return sram;
+    }
+
+    /**
+     * Gets the flash available to our sketch.
+     *
+     * @return the size in bytes, 0 for no limit
+     */
+    public int getFlash() {
+      return flash;
+    }
+
+    /**
+     * Test if this board is built for by a target platform.
+     *
+     * @param platform
+     *          the platform
+     * @return true, if it is
+     */
+    public boolean isPlatform(String platform) {
+      return Arrays.asList(platforms.split(",")).contains(platform);
+    }
+
+    /**
+     * toString
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  /**
+   * The Class Row holds the estimate of one page or shared resource.
+   */
+  public static final class Row {
+    
+    /** The name. */
+    private final String name;
+    
+    /** The number of elements and of those the ones kept in flash. */
+    int elems;
+    int flashElems;
+    
+    /** The bytes of SRAM and flash. */
+    int ram;
+    int flash;
+
+    /**
+     * Instantiates a new row.
+     *
+     * @param name
+     *          the name
+     */
+    Row(String name) {
+      this.name = name;
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @return the name
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Gets the number of elements.
+     *
+     * @return the elements
+     */
+    public int getElems() {
+      return elems;
+    }
+
+    /**
+     * Gets the number of elements kept in flash.
+     *
+     * @return the elements
+     */
+    public int getFlashElems() {
+      return flashElems;
+    }
+
+    /**
+     * Gets the SRAM.
+     *
+     * @return the bytes
+     */
+    public int getRam() {
+      return ram;
+    }
+
+    /**
+     * Gets the flash.
+     *
+     * @return the bytes
+     */
+    public int getFlash() {
+      return flash;
+    }
+  }
+
+  /**
+   * The Class Estimate holds the estimate of our project for one board.
+   */
+  public static final class Estimate {
+    
+    /** The board. */
+    private final Board board;
+    
+    /** The target platform. */
+    private final String platform;
+    
+    /** The rows of each page. */
+    private final List<Row> pages = new ArrayList<Row>();
+    
+    /** The rows of resources shared by our pages. */
+    private final List<Row> shared = new ArrayList<Row>();
+
+    /**
+     * Instantiates a new estimate.
+     *
+     * @param board
+     *          the board
+     * @param platform
+     *          the target platform
+     */
+    Estimate(Board board, String platform) {
+      this.board = board;
+      this.platform = platform;
+    }
+
+    /**
+     * Gets the board.
+     *
+     * @return the board
+     */
+    public Board getBoard() {
+      return board;
+    }
+
+    /**
+     * Gets the rows of each page.
+     *
+     * @return the rows
+     */
+    public List<Row> getPages() {
+      return Collections.unmodifiableList(pages);
+    }
+
+    /**
+     * Gets the rows of the resources shared by our pages.
+     *
+     * @return the rows
+     */
+    public List<Row> getShared() {
+      return Collections.unmodifiableList(shared);
+    }
+
+    /**
+     * Gets the total SRAM.
+     *
+     * @return the bytes
+     */
+    public int getRam() {
+      int n = 0;
+      for (Row r : pages)  n += r.ram;
+      for (Row r : shared) n += r.ram;
+      return n;
+    }
+
+    /**
+     * Gets the total flash.
+     *
+     * @return the bytes
+     */
+    public int getFlash() {
+      int n = 0;
+      for (Row r : pages)  n += r.flash;
+      for (Row r : shared) n += r.flash;
+      return n;
+    }
+
+    /**
+     * Test if our project fits the board.
+     *
+     * @return true, if both SRAM and flash are within the board's limits
+     */
+    public boolean fits() {
+      return (board.sram == 0 || getRam() <= board.sram)
+          && (board.flash == 0 || getFlash() <= board.flash);
+    }
+
+    /**
+     * Format our estimate as a table.
+     *
+     * @return the lines of our table
+     */
+    public List<String> format() {
+      List<String> lines = new ArrayList<String>();
+      String rule = String.format("%-40s", "").replace(' ', '-') + "-----------------------------";
+      lines.add(String.format("Memory Estimate for %s using %s (approximate)", 
+          board.getName(), platform));
+      lines.add(rule);
+      lines.add(String.format("%-40s%6s%6s%9s%9s", "Page", "Elems", "Prog", "SRAM", "Flash"));
+      for (Row r : pages) {
+        lines.add(String.format("%-40s%6d%6d%9d%9d", 
+            r.name, r.elems, r.flashElems, r.ram, r.flash));
+      }
+      for (Row r : shared) {
+        lines.add(String.format("%-40s%6s%6s%9d%9d", r.name, 
+            r.elems > 0 ? String.valueOf(r.elems) : "", "", r.ram, r.flash));
+      }
+      lines.add(rule);
+      lines.add(String.format("%-52s%9d%9d", "Total", getRam(), getFlash()));
+      if (board.sram > 0 && board.flash > 0) {
+        lines.add(String.format("%-52s%9d%9d", "Available", board.sram, board.flash));
+        lines.add(String.format("%-52s%8d%%%8d%%", fits() ? "Used" : "Used - DOES NOT FIT", 
+            (int) (100L * getRam() / board.sram), (int) (100L * getFlash() / board.flash)));
+      }
+      return lines;
+    }
+  }
+
+}
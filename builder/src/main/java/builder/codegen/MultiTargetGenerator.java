@@ -0,0 +1,247 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import builder.Builder;
+import builder.controller.Controller;
+import builder.controller.ProjectReader;
+import builder.models.ProjectModel;
+
+/**
+ * The Class MultiTargetGenerator generates one project for several
+ * target platforms at once, each into its own folder.
+ * <p>
+ * The project file is read and indexed just once per run, every target 
+ * shares those widget models and their <code>ProjectIndex</code>. Each 
+ * target only gets its own copy of the project model to set its platform 
+ * on, then runs its own pipe lines on a worker thread of its own. Our templates 
+ * are compiled once and shared by every target using them, arduino and
+ * tft_espi both use arduino.t. Every target keeps its own 
+ * <code>CodeGenerator</code> between runs so later runs, say in watch
+ * mode, only regenerate what changed.
+ * </p>
+ * <p>
+ * Output for each target goes into &lt;out&gt;/&lt;target&gt;.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class MultiTargetGenerator {
+
+  /** The project file. */
+  private final File projectFile;
+  
+  /** The target platforms. */
+  private final List<String> targets;
+  
+  /** The output folder of each target. */
+  private final List<File> folders;
+  
+  /** The code generator of each target. */
+  private final List<CodeGenerator> generators;
+  
+  /** The worker threads, one per target. */
+  private final ExecutorService pool;
+
+  /**
+   * Instantiates a new multi target generator.
+   *
+   * @param projectFile
+   *          the project file
+   * @param outFolder
+   *          the folder to hold each target's output folder
+   * @param targets
+   *          the target platforms
+   */
+  public MultiTargetGenerator(File projectFile, File outFolder, List<String> targets) {
+    this.projectFile = projectFile;
+    this.targets = new ArrayList<String>(targets);
+    folders = new ArrayList<File>(targets.size());
+    generators = new ArrayList<CodeGenerator>(targets.size());
+    for (String target : targets) {
+      folders.add(new File(outFolder, target));
+      generators.add(new CodeGenerator());
+    }
+    pool = Executors.newFixedThreadPool(targets.size());
+  }
+
+  /**
+   * Generate code for every target.
+   * 
+   * Fonts must already be loaded.
+   *
+   * @return the <code>list</code> of results in the same order as our targets
+   */
+  public List<HeadlessGenerator.Result> generate() {
+    final long start = System.nanoTime();
+    List<HeadlessGenerator.Result> results = 
+        new ArrayList<HeadlessGenerator.Result>(targets.size());
+    ProjectReader reader = new ProjectReader(projectFile);
+    final ProjectIndex index;
+    try {
+      reader.read();
+      index = buildIndex(reader);
+    } catch (IOException | ClassNotFoundException | RuntimeException e) {
+      Builder.logger.error("Project Open Failed: " + projectFile.getName(), e);
+      for (int i=0; i<targets.size(); i++) {
+        results.add(new HeadlessGenerator.Result(projectFile, HeadlessGenerator.EXIT_BAD_PROJECT,
+            start, 0, "Project Open Failed: " + projectFile.getName() + " " + e.toString()));
+      }
+      return results;
+    }
+    List<Future<HeadlessGenerator.Result>> futures = 
+        new ArrayList<Future<HeadlessGenerator.Result>>(targets.size());
+    for (int i=0; i<targets.size(); i++) {
+      final String target = targets.get(i);
+      final File folder = folders.get(i);
+      final CodeGenerator cg = generators.get(i);
+      // reading a project model sets our canvas size so copy them on this thread
+      final ProjectModel pm;
+      try {
+        pm = copyProjectModel(reader.getProjectModel());
+      } catch (IOException | ClassNotFoundException e) {
+        Builder.logger.error("Project Open Failed: " + projectFile.getName(), e);
+        futures.add(null);
+        continue;
+      }
+      pm.setTargetPlatform(target);
+      futures.add(pool.submit(() -> generate(index, pm, folder, target, cg, start)));
+    }
+    for (int i=0; i<futures.size(); i++) {
+      if (futures.get(i) == null) {
+        results.add(new HeadlessGenerator.Result(projectFile, HeadlessGenerator.EXIT_BAD_PROJECT,
+            start, 0, targets.get(i) + ": Project Open Failed: " + projectFile.getName()));
+        continue;
+      }
+      try {
+        results.add(futures.get(i).get());
+      } catch (ExecutionException e) {
+        Builder.logger.error("Code Generation Failed: " + targets.get(i), e.getCause());
+        results.add(new HeadlessGenerator.Result(projectFile, HeadlessGenerator.EXIT_FAILED,
+            start, 0, "Code Generation Failed: " + targets.get(i) + " " 
+            + e.getCause().toString()));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CodeGenException("Code Generation interrupted");
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Build the project index every target shares.
+   *
+   * @param reader
+   *          the project reader, already read
+   * @return the <code>ProjectIndex</code> object
+   */
+  private ProjectIndex buildIndex(ProjectReader reader) {
+    ProjectModel prev = Controller.bindProjectModel(reader.getProjectModel());
+    try {
+      return new ProjectIndex(reader.getPages());
+    } finally {
+      Controller.bindProjectModel(prev);
+    }
+  }
+
+  /**
+   * Copy a project model so each target can set its own platform.
+   *
+   * @param pm
+   *          the project model read from our project file
+   * @return the copy
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   * @throws ClassNotFoundException
+   *           the project model could not be read back
+   */
+  private ProjectModel copyProjectModel(ProjectModel pm) 
+      throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    ObjectOutputStream out = new ObjectOutputStream(baos);
+    pm.writeModel(out);
+    out.close();
+    ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+    try {
+      ProjectModel copy = new ProjectModel();
+      copy.readModel(in);
+      return copy;
+    } finally {
+      in.close();
+    }
+  }
+
+  /**
+   * Generate code for one of our targets.
+   *
+   * @param index
+   *          the project index shared by every target
+   * @param pm
+   *          the target's own project model
+   * @param folder
+   *          the target's output folder
+   * @param target
+   *          the target platform
+   * @param cg
+   *          the target's code generator
+   * @param start
+   *          the System.nanoTime() we started at
+   * @return the <code>Result</code> object
+   */
+  private HeadlessGenerator.Result generate(ProjectIndex index, ProjectModel pm, File folder, 
+      String target, CodeGenerator cg, long start) {
+    if (!folder.isDirectory() && !folder.mkdirs()) {
+      return new HeadlessGenerator.Result(projectFile, HeadlessGenerator.EXIT_FAILED, start, 
+          0, "Unable to create folder: " + folder.getPath());
+    }
+    HeadlessGenerator.Result r = HeadlessGenerator.generate(projectFile, pm, null, index, 
+        folder, cg, start);
+    return new HeadlessGenerator.Result(projectFile, r.getStatus(), start, r.getBytes(),
+        target + ": " + r.getMessage());
+  }
+
+  /**
+   * Stop our worker threads.
+   */
+  public void close() {
+    pool.shutdownNow();
+  }
+
+}
@@ -0,0 +1,154 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import builder.common.CommonUtils;
+
+/**
+ * The Class OutputFile writes out our generated source files.
+ * <p>
+ * The new content is hashed and compared against the file already on
+ * disk. When nothing changed the file is left alone, no backup is made
+ * and its modification time is untouched so the Arduino or PlatformIO
+ * toolchain doesn't rebuild the sketch. Real changes are written to a
+ * temporary file in the same folder which then replaces the original
+ * with a rename, so a failure part way never leaves a truncated file.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class OutputFile {
+
+  /** The suffix of our temporary files. */
+  private final static String TEMP_EXT = ".tmp";
+
+  /**
+   * Instantiates a new output file.
+   */
+  private OutputFile() {
+  }
+
+  /**
+   * Write our content unless the file already holds it.
+   *
+   * @param file
+   *          the file to write
+   * @param content
+   *          the generated content
+   * @param bBackup
+   *          true to back up the existing file before replacing it
+   * @return the number of bytes written, 0 if the file was unchanged
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  public static long write(File file, String content, boolean bBackup) throws IOException {
+    byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    Path path = file.toPath();
+    if (isUnchanged(path, bytes)) {
+      return 0;
+    }
+    if (bBackup) {
+      CommonUtils.backupFile(file);
+    }
+    Path temp = path.resolveSibling(file.getName() + TEMP_EXT);
+    try {
+      try (FileChannel ch = FileChannel.open(temp, StandardOpenOption.CREATE,
+          StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        while (buf.hasRemaining()) {
+          ch.write(buf);
+        }
+        ch.force(true);
+      }
+      try {
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, 
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+    return bytes.length;
+  }
+
+  /**
+   * Test if the file on disk already holds our content.
+   *
+   * @param path
+   *          the path of the file
+   * @param bytes
+   *          the new content
+   * @return <code>true</code> if the content is identical
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private static boolean isUnchanged(Path path, byte[] bytes) throws IOException {
+    if (!Files.isRegularFile(path) || Files.size(path) != bytes.length) {
+      return false;
+    }
+    MessageDigest oldDigest = newDigest();
+    try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer buf = ByteBuffer.allocate(8192);
+      while (ch.read(buf) > 0) {
+        buf.flip();
+        oldDigest.update(buf);
+        buf.clear();
+      }
+    }
+    MessageDigest newDigest = newDigest();
+    newDigest.update(bytes);
+    return MessageDigest.isEqual(oldDigest.digest(), newDigest.digest());
+  }
+
+  /**
+   * Create the digest used to compare contents.
+   *
+   * @return the <code>MessageDigest</code> object
+   */
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new CodeGenException(e.toString());
+    }
+  }
+
+}
@@ -0,0 +1,328 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import builder.Builder;
+
+/**
+ * The Class PageUnits collects the code of each page when our user
+ * wants their pages split into separate files.
+ * <p>
+ * Instead of outputting every page into our header ElementPipe, 
+ * ExtraElementPipe and InitGuiPipe hand us each page's defines, 
+ * storage and creation code. We then write one header and source
+ * file pair per page, <code>page_E_PG_MAIN.h</code> and 
+ * <code>page_E_PG_MAIN.cpp</code>, along with a shared header that
+ * gives them the enums, includes and extern references they need.
+ * Our project's header simply includes the page headers and 
+ * InitGUIslice_gen() calls each page's creation function.
+ * </p>
+ * <p>
+ * Since OutputFile leaves unchanged files alone, editing a widget
+ * only rewrites its own page so the toolchain only recompiles that 
+ * page instead of the whole GUI.
+ * </p>
+ * <p>
+ * Pipes may run concurrently so our maps are thread safe.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public class PageUnits {
+
+  /** The prefix of our page files. */
+  public  final static String PAGE_PREFIX        = "page_";
+  
+  /** The extension of our shared header. */
+  public  final static String PAGES_HDR_EXT      = "_GSLC_pages.h";
+  
+  /** The prefix of each page's creation function. */
+  private final static String INIT_PREFIX        = "InitGUIslice_gen_";
+  
+  /** The line telling us we created a file and may remove it. */
+  private final static String MARKER             = "// GUIslice Builder Generated Page File";
+
+  /** The Constants for templates. */
+  private final static String PAGE_UNIT_FILE_TEMPLATE     = "<PAGE_UNIT_FILE>";
+  private final static String PAGE_UNIT_HDR_TEMPLATE      = "<PAGE_UNIT_HDR>";
+  private final static String PAGE_UNIT_HDR_END_TEMPLATE  = "<PAGE_UNIT_HDR_END>";
+  private final static String PAGE_UNIT_SRC_TEMPLATE      = "<PAGE_UNIT_SRC>";
+  private final static String PAGE_UNIT_SRC_INIT_TEMPLATE = "<PAGE_UNIT_SRC_INIT>";
+  private final static String PAGE_UNIT_SRC_END_TEMPLATE  = "<PAGE_UNIT_SRC_END>";
+  private final static String PAGES_HDR_TEMPLATE          = "<PAGES_HDR>";
+  private final static String PAGES_HDR_END_TEMPLATE      = "<PAGES_HDR_END>";
+  
+  /** The Constants for macros. */
+  private final static String FILENAME_MACRO         = "FILENAME";
+  private final static String FUNCTION_MACRO         = "FUNCTION";
+  private final static String GUARD_MACRO            = "GUARD";
+  private final static String HEADER_MACRO           = "HEADER";
+  private final static String PAGE_ENUM_MACRO        = "PAGE_ENUM";
+  private final static String VERSION_MACRO          = "VERSION";
+  
+  /** The regions of our project's header shared with our pages. */
+  private final static String[] SHARED_TAGS = {
+      Tags.TAG_PREFIX+Tags.INCLUDES_TAG+Tags.TAG_SUFFIX_START,
+      Tags.TAG_PREFIX+Tags.RESOURCES_TAG+Tags.TAG_SUFFIX_START,
+      Tags.TAG_PREFIX+Tags.ENUM_TAG+Tags.TAG_SUFFIX_START,
+      Tags.TAG_PREFIX+Tags.EXTERNREF_TAG+Tags.TAG_SUFFIX_START,
+  };
+  
+  /** The element defines of each page keyed by page enum. */
+  private final Map<String, String> defines = new ConcurrentHashMap<String, String>();
+  
+  /** The element storage of each page keyed by page enum. */
+  private final Map<String, String> storage = new ConcurrentHashMap<String, String>();
+  
+  /** The creation code of each page keyed by page enum. */
+  private final Map<String, String> inits = new ConcurrentHashMap<String, String>();
+  
+  /**
+   * Gets the name of a page's header file.
+   *
+   * @param pageEnum
+   *          the page enum
+   * @return the header file name
+   */
+  public static String getHeaderName(String pageEnum) {
+    return PAGE_PREFIX + pageEnum + ".h";
+  }
+  
+  /**
+   * Gets the name of a page's source file.
+   *
+   * @param pageEnum
+   *          the page enum
+   * @return the source file name
+   */
+  public static String getSourceName(String pageEnum) {
+    return PAGE_PREFIX + pageEnum + ".cpp";
+  }
+  
+  /**
+   * Gets the name of a page's creation function.
+   *
+   * @param pageEnum
+   *          the page enum
+   * @return the function name
+   */
+  public static String getInitName(String pageEnum) {
+    return INIT_PREFIX + pageEnum;
+  }
+  
+  /**
+   * Sets the element defines of a page.
+   *
+   * @param pageEnum
+   *          the page enum
+   * @param code
+   *          the code
+   */
+  public void setDefines(String pageEnum, String code) {
+    defines.put(pageEnum, code);
+  }
+  
+  /**
+   * Sets the element storage of a page.
+   *
+   * @param pageEnum
+   *          the page enum
+   * @param code
+   *          the code
+   */
+  public void setStorage(String pageEnum, String code) {
+    storage.put(pageEnum, code);
+  }
+  
+  /**
+   * Sets the creation code of a page.
+   *
+   * @param pageEnum
+   *          the page enum
+   * @param code
+   *          the code
+   */
+  public void setInit(String pageEnum, String code) {
+    inits.put(pageEnum, code);
+  }
+  
+  /**
+   * Write out the files of each of our pages along with our shared header.
+   * Files are only written if their contents changed and any page files 
+   * we created earlier for pages no longer in our project are removed.
+   *
+   * @param folder
+   *          the folder holding our project's files
+   * @param projectName
+   *          the project name
+   * @param hdrName
+   *          the name of our project's header
+   * @param hdrDoc
+   *          our project's generated header
+   * @param pages
+   *          the user pages
+   * @param tm
+   *          the template manager
+   * @return the number of bytes written
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  public long write(String folder, String projectName, String hdrName, TaggedDocument hdrDoc,
+      List<CodePage> pages, TemplateManager tm) throws IOException {
+    long nBytes = 0;
+    Set<String> names = new HashSet<String>();
+    Map<String, String> map = new HashMap<String,String>();
+    
+    // our shared header holds copies of the regions our pages need
+    String pagesHdr = projectName + PAGES_HDR_EXT;
+    StringBuilder sBd = new StringBuilder();
+    map.put(FILENAME_MACRO, pagesHdr);
+    map.put(VERSION_MACRO, Builder.VERSION);
+    tm.codeWriter(sBd, PAGE_UNIT_FILE_TEMPLATE, map);
+    map.put(GUARD_MACRO, guard(pagesHdr));
+    map.put(HEADER_MACRO, hdrName);
+    tm.codeWriter(sBd, PAGES_HDR_TEMPLATE, map);
+    for (String tag : SHARED_TAGS) {
+      TaggedDocument.Section region = hdrDoc.findRegion(tag);
+      if (region != null) {
+        region.appendTo(sBd);
+        sBd.append(System.lineSeparator());
+      }
+    }
+    tm.codeWriter(sBd, PAGES_HDR_END_TEMPLATE, map);
+    nBytes += OutputFile.write(new File(folder, pagesHdr), sBd.toString(), false);
+    names.add(pagesHdr);
+    
+    for (CodePage p : pages) {
+      String pageEnum = p.getEnum();
+      String pageHdr = getHeaderName(pageEnum);
+      String pageSrc = getSourceName(pageEnum);
+      map.clear();
+      map.put(PAGE_ENUM_MACRO, pageEnum);
+      map.put(FUNCTION_MACRO, getInitName(pageEnum));
+      map.put(HEADER_MACRO, pagesHdr);
+      map.put(VERSION_MACRO, Builder.VERSION);
+      
+      sBd.setLength(0);
+      map.put(FILENAME_MACRO, pageHdr);
+      map.put(GUARD_MACRO, guard(pageHdr));
+      tm.codeWriter(sBd, PAGE_UNIT_FILE_TEMPLATE, map);
+      tm.codeWriter(sBd, PAGE_UNIT_HDR_TEMPLATE, map);
+      append(sBd, defines.get(pageEnum));
+      tm.codeWriter(sBd, PAGE_UNIT_HDR_END_TEMPLATE, map);
+      nBytes += OutputFile.write(new File(folder, pageHdr), sBd.toString(), false);
+      names.add(pageHdr);
+      
+      sBd.setLength(0);
+      map.put(FILENAME_MACRO, pageSrc);
+      tm.codeWriter(sBd, PAGE_UNIT_FILE_TEMPLATE, map);
+      map.put(FILENAME_MACRO, pageHdr);
+      tm.codeWriter(sBd, PAGE_UNIT_SRC_TEMPLATE, map);
+      append(sBd, storage.get(pageEnum));
+      tm.codeWriter(sBd, PAGE_UNIT_SRC_INIT_TEMPLATE, map);
+      append(sBd, inits.get(pageEnum));
+      tm.codeWriter(sBd, PAGE_UNIT_SRC_END_TEMPLATE, map);
+      nBytes += OutputFile.write(new File(folder, pageSrc), sBd.toString(), false);
+      names.add(pageSrc);
+    }
+    removeStale(folder, names);
+    return nBytes;
+  }
+  
+  /**
+   * Remove any page files we created earlier that are no longer needed,
+   * either because their page was deleted or our user stopped splitting
+   * pages. Files we didn't create are never touched.
+   *
+   * @param folder
+   *          the folder holding our project's files
+   * @param keep
+   *          the names of the files still in use
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  public static void removeStale(String folder, Set<String> keep) throws IOException {
+    File[] files = new File(folder).listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File f : files) {
+      String name = f.getName();
+      if (keep.contains(name) || !f.isFile()) {
+        continue;
+      }
+      boolean bPageFile = name.startsWith(PAGE_PREFIX) && 
+          (name.endsWith(".h") || name.endsWith(".cpp"));
+      if (!bPageFile && !name.endsWith(PAGES_HDR_EXT)) {
+        continue;
+      }
+      // our user's own files may be in any encoding
+      String text = new String(Files.readAllBytes(f.toPath()), StandardCharsets.ISO_8859_1);
+      if (text.contains(MARKER)) {
+        Builder.logger.debug("Code Generation: removed " + name);
+        Files.delete(f.toPath());
+      }
+    }
+  }
+  
+  /**
+   * Append a block of code, if any.
+   *
+   * @param sBd
+   *          the output
+   * @param code
+   *          the code, may be null
+   */
+  private static void append(StringBuilder sBd, String code) {
+    if (code != null) {
+      sBd.append(code);
+    }
+  }
+  
+  /**
+   * Make the include guard for one of our headers.
+   *
+   * @param fileName
+   *          the header file name
+   * @return the include guard
+   */
+  static String guard(String fileName) {
+    return "_GUISLICE_GEN_" + fileName.replace('.', '_').toUpperCase();
+  }
+  
+}
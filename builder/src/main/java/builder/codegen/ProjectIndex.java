@@ -0,0 +1,648 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import builder.common.EnumFactory;
+import builder.fonts.FontFactory;
+import builder.models.BoxModel;
+import builder.models.CheckBoxModel;
+import builder.models.ImageModel;
+import builder.models.ProjectModel;
+import builder.models.RadioButtonModel;
+import builder.models.WidgetModel;
+import builder.widgets.Widget;
+
+/**
+ * The Class ProjectIndex is a read only index of a project's pages 
+ * and widget models built once at the start of each code generation run.
+ * <p>
+ * Our pipes used to walk every model, often several times each, testing
+ * widget types to find the few they care about. Instead this index makes
+ * one pass over the project and keeps the models grouped by widget type,
+ * the models needing each kind of callback, and sorted lists of the
+ * enums, element references, groups and fonts used, so pipes simply 
+ * look up what they need. Lists are in project order unless 
+ * they say they're sorted and none may be modified.
+ * </p>
+ * <p>
+ * It also maps each page and widget model's properties just once, 
+ * rather than every time a pipe or code block asks for them.
+ * </p>
+ * <p>
+ * When one project is generated for several targets at once, each 
+ * target gets a copy from <code>forTarget()</code> sharing all of 
+ * this work, only the project page and font enums are remapped.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class ProjectIndex {
+
+  /** The Constant for widgets without an enum. */
+  private final static String AUTO_ENUM  = "GSLC_ID_AUTO";
+  
+  /** The Constant for widgets without a group. */
+  private final static String NO_GROUP   = "GSLC_GROUP_ID_NONE";
+  
+  /** The Constant for the page enum of our mapped properties. */
+  private final static String PAGE_ENUM_ID = "COM-000";
+  
+  /** The Constants for a model's font and its mapped font enum. */
+  private final static String FONT_ID      = "TXT-200";
+  private final static String FONT_ENUM_ID = "TXT-211";
+  
+  /** The pages. */
+  private final List<CodePage> pages;
+  
+  /** The pages other than our project page. */
+  private final List<CodePage> userPages;
+  
+  /** The models. */
+  private final List<WidgetModel> models;
+  
+  /** The models keyed by widget type. */
+  private final Map<String, List<WidgetModel>> modelsByType;
+  
+  /** The mapped properties of each page and widget model. */
+  private final Map<WidgetModel, Map<String, String>> properties;
+  
+  /** The image and image button models. */
+  private final List<WidgetModel> imageModels;
+  
+  /** The models with a font. */
+  private final List<WidgetModel> fontModels;
+  
+  /** The models needing each kind of callback. */
+  private final List<WidgetModel> buttonCallbacks;
+  private final List<WidgetModel> checkboxCallbacks;
+  private final List<WidgetModel> keypadCallbacks;
+  private final List<WidgetModel> listboxCallbacks;
+  private final List<WidgetModel> sliderCallbacks;
+  private final List<WidgetModel> spinnerCallbacks;
+  
+  /** The sorted lists. */
+  private final List<String> sortedEnums;
+  private final List<String> sortedGroupIds;
+  private final List<String> sortedElementRefs;
+  private final List<String> sortedExternRefs;
+  private final List<String> sortedFontEnums;
+  private final List<String> sortedFontNames;
+  
+  /** The flags. */
+  private final boolean bNumKeyPad;
+  private final boolean bAlphaKeyPad;
+  private final boolean bTickCallback;
+  private final boolean bDrawCallback;
+  private final boolean bScrollbars;
+
+  /**
+   * Instantiates a new project index.
+   *
+   * @param projectPages
+   *          the pages of our project
+   */
+  public ProjectIndex(List<? extends CodePage> projectPages) {
+    List<CodePage> pageList = new ArrayList<CodePage>(projectPages);
+    List<CodePage> userList = new ArrayList<CodePage>();
+    List<WidgetModel> modelList = new ArrayList<WidgetModel>();
+    Map<WidgetModel, Map<String, String>> propertyMap = 
+        new IdentityHashMap<WidgetModel, Map<String, String>>();
+    for (CodePage p : pageList) {
+      propertyMap.put(p.getModel(), 
+          Collections.unmodifiableMap(p.getModel().getMappedProperties(p.getEnum())));
+      if (!p.getPageType().equals(EnumFactory.PROJECT)) {
+        userList.add(p);
+      }
+      for (Widget w : p.getWidgets()) {
+        modelList.add(w.getModel());
+        propertyMap.put(w.getModel(), 
+            Collections.unmodifiableMap(w.getModel().getMappedProperties(p.getEnum())));
+      }
+    }
+    
+    Map<String, List<WidgetModel>> typeMap = new HashMap<String, List<WidgetModel>>();
+    List<WidgetModel> images = new ArrayList<WidgetModel>();
+    List<WidgetModel> fonts = new ArrayList<WidgetModel>();
+    List<WidgetModel> buttons = new ArrayList<WidgetModel>();
+    List<WidgetModel> checkboxes = new ArrayList<WidgetModel>();
+    List<WidgetModel> keypads = new ArrayList<WidgetModel>();
+    List<WidgetModel> listboxes = new ArrayList<WidgetModel>();
+    List<WidgetModel> sliders = new ArrayList<WidgetModel>();
+    List<WidgetModel> spinners = new ArrayList<WidgetModel>();
+    List<String> enums = new ArrayList<String>();
+    List<String> groups = new ArrayList<String>();
+    List<String> refs = new ArrayList<String>();
+    List<String> externs = new ArrayList<String>();
+    List<String> fontEnums = new ArrayList<String>();
+    List<String> fontNames = new ArrayList<String>();
+    boolean bTick = false;
+    boolean bDraw = false;
+    boolean bScroll = false;
+    for (WidgetModel m : modelList) {
+      String type = m.getType();
+      List<WidgetModel> list = typeMap.get(type);
+      if (list == null) {
+        list = new ArrayList<WidgetModel>();
+        typeMap.put(type, list);
+      }
+      list.add(m);
+      
+      switch (type) {
+        case EnumFactory.BOX:
+          if (((BoxModel) m).isTouchEn()) buttons.add(m);
+          if (((BoxModel) m).hasTickFunc()) bTick = true;
+          if (((BoxModel) m).hasDrawFunc()) bDraw = true;
+          break;
+        case EnumFactory.CHECKBOX:
+          if (((CheckBoxModel) m).isCallbackEn()) checkboxes.add(m);
+          break;
+        case EnumFactory.IMAGE:
+          images.add(m);
+          if (((ImageModel) m).isTouchEn()) buttons.add(m);
+          break;
+        case EnumFactory.IMAGEBUTTON:
+          images.add(m);
+          buttons.add(m);
+          break;
+        case EnumFactory.LISTBOX:
+          listboxes.add(m);
+          break;
+        case EnumFactory.NUMINPUT:
+        case EnumFactory.TEXTINPUT:
+          buttons.add(m);
+          keypads.add(m);
+          break;
+        case EnumFactory.RADIOBUTTON:
+          if (((RadioButtonModel) m).isCallbackEn()) checkboxes.add(m);
+          break;
+        case EnumFactory.SEEKBAR:
+        case EnumFactory.SLIDER:
+          sliders.add(m);
+          break;
+        case EnumFactory.SPINNER:
+          spinners.add(m);
+          break;
+        case EnumFactory.TEXTBUTTON:
+        case EnumFactory.TOGGLEBUTTON:
+          buttons.add(m);
+          break;
+        default:
+          break;
+      }
+      
+      String s = m.getEnum();
+      if (!s.equals(AUTO_ENUM)) {
+        enums.add(s);
+      }
+      s = m.getGroupId();
+      if (s != null && !s.equals(NO_GROUP)) {
+        groups.add(s);
+      }
+      s = m.getElementRef();
+      if (s != null && !s.isEmpty()) {
+        refs.add(s);
+        externs.add(s);
+      }
+      // a scrollbar's reference is kept even after its scrollbar is removed
+      s = m.getScrollbarERef();
+      if (s != null) {
+        externs.add(s);
+      }
+      if (m.addScrollbar()) {
+        bScroll = true;
+        sliders.add(m);
+        enums.add(m.getScrollbarEnum());
+        if (s != null) {
+          refs.add(s);
+        }
+      }
+      s = m.getFontDisplayName();
+      if (s != null) {
+        fonts.add(m);
+        fontNames.add(s);
+      }
+      s = m.getFontEnum();
+      if (s != null) {
+        fontEnums.add(s);
+      }
+    }
+    Collections.sort(enums);
+    Collections.sort(refs);
+    Collections.sort(externs);
+    CodeUtils.sortListandRemoveDups(groups);
+    CodeUtils.sortListandRemoveDups(fontEnums);
+    CodeUtils.sortListandRemoveDups(fontNames);
+    
+    for (Map.Entry<String, List<WidgetModel>> e : typeMap.entrySet()) {
+      e.setValue(Collections.unmodifiableList(e.getValue()));
+    }
+    
+    pages = Collections.unmodifiableList(pageList);
+    userPages = Collections.unmodifiableList(userList);
+    models = Collections.unmodifiableList(modelList);
+    modelsByType = typeMap;
+    properties = propertyMap;
+    imageModels = Collections.unmodifiableList(images);
+    fontModels = Collections.unmodifiableList(fonts);
+    buttonCallbacks = Collections.unmodifiableList(buttons);
+    checkboxCallbacks = Collections.unmodifiableList(checkboxes);
+    keypadCallbacks = Collections.unmodifiableList(keypads);
+    listboxCallbacks = Collections.unmodifiableList(listboxes);
+    sliderCallbacks = Collections.unmodifiableList(sliders);
+    spinnerCallbacks = Collections.unmodifiableList(spinners);
+    sortedEnums = Collections.unmodifiableList(enums);
+    sortedGroupIds = Collections.unmodifiableList(groups);
+    sortedElementRefs = Collections.unmodifiableList(refs);
+    sortedExternRefs = Collections.unmodifiableList(externs);
+    sortedFontEnums = Collections.unmodifiableList(fontEnums);
+    sortedFontNames = Collections.unmodifiableList(fontNames);
+    bNumKeyPad = typeMap.containsKey(EnumFactory.NUMINPUT);
+    bAlphaKeyPad = typeMap.containsKey(EnumFactory.TEXTINPUT);
+    bTickCallback = bTick;
+    bDrawCallback = bDraw;
+    bScrollbars = bScroll;
+  }
+
+  /**
+   * Instantiates a copy of a project index for another target platform.
+   *
+   * @param shared
+   *          the index being copied
+   * @param pageList
+   *          the pages, holding the target's project page
+   * @param userList
+   *          the pages other than our project page
+   * @param propertyMap
+   *          the mapped properties
+   * @param fontEnums
+   *          the sorted font enums
+   */
+  private ProjectIndex(ProjectIndex shared, List<CodePage> pageList, List<CodePage> userList,
+      Map<WidgetModel, Map<String, String>> propertyMap, List<String> fontEnums) {
+    pages = Collections.unmodifiableList(pageList);
+    userPages = Collections.unmodifiableList(userList);
+    models = shared.models;
+    modelsByType = shared.modelsByType;
+    properties = propertyMap;
+    imageModels = shared.imageModels;
+    fontModels = shared.fontModels;
+    buttonCallbacks = shared.buttonCallbacks;
+    checkboxCallbacks = shared.checkboxCallbacks;
+    keypadCallbacks = shared.keypadCallbacks;
+    listboxCallbacks = shared.listboxCallbacks;
+    sliderCallbacks = shared.sliderCallbacks;
+    spinnerCallbacks = shared.spinnerCallbacks;
+    sortedEnums = shared.sortedEnums;
+    sortedGroupIds = shared.sortedGroupIds;
+    sortedElementRefs = shared.sortedElementRefs;
+    sortedExternRefs = shared.sortedExternRefs;
+    sortedFontEnums = Collections.unmodifiableList(fontEnums);
+    sortedFontNames = shared.sortedFontNames;
+    bNumKeyPad = shared.bNumKeyPad;
+    bAlphaKeyPad = shared.bAlphaKeyPad;
+    bTickCallback = shared.bTickCallback;
+    bDrawCallback = shared.bDrawCallback;
+    bScrollbars = shared.bScrollbars;
+  }
+
+  /**
+   * Gets a copy of this index for another target platform.
+   * <p>
+   * Our widget models are shared by the copy, which must only be read
+   * from then on. A font's enum is the only property that depends on 
+   * our target so just those and the target's own project page are 
+   * mapped again, everything else is shared with this index.
+   * </p>
+   *
+   * @param pm
+   *          the target's project model, it must be bound to the calling thread
+   * @return the index for the target
+   */
+  public ProjectIndex forTarget(ProjectModel pm) {
+    List<CodePage> pageList = new ArrayList<CodePage>(pages.size());
+    List<CodePage> userList = new ArrayList<CodePage>(userPages.size());
+    Map<WidgetModel, Map<String, String>> propertyMap = 
+        new IdentityHashMap<WidgetModel, Map<String, String>>(properties);
+    for (CodePage p : pages) {
+      if (p.getPageType().equals(EnumFactory.PROJECT)) {
+        propertyMap.remove(p.getModel());
+        p = new ProjectPage(pm, EnumFactory.PROJECT);
+        propertyMap.put(pm, Collections.unmodifiableMap(pm.getMappedProperties(p.getEnum())));
+      } else {
+        userList.add(p);
+      }
+      pageList.add(p);
+    }
+    FontFactory ff = FontFactory.getInstance();
+    for (Map.Entry<WidgetModel, Map<String, String>> e : propertyMap.entrySet()) {
+      if (!e.getValue().containsKey(FONT_ENUM_ID) || e.getKey() == pm) continue;
+      WidgetModel m = e.getKey();
+      int row = m.mapMetaIDtoProperty(FONT_ID);
+      Map<String, String> map = new HashMap<String, String>(e.getValue());
+      map.put(FONT_ENUM_ID, ff.getFontEnum((String) m.getValueAt(row, WidgetModel.COLUMN_VALUE)));
+      e.setValue(Collections.unmodifiableMap(map));
+    }
+    List<String> fontEnums = new ArrayList<String>();
+    for (WidgetModel m : models) {
+      String s = m.getFontEnum();
+      if (s != null) {
+        fontEnums.add(s);
+      }
+    }
+    CodeUtils.sortListandRemoveDups(fontEnums);
+    return new ProjectIndex(this, pageList, userList, propertyMap, fontEnums);
+  }
+
+  /**
+   * Gets the pages.
+   *
+   * @return the pages including our project page
+   */
+  public List<CodePage> getPages() {
+    return pages;
+  }
+
+  /**
+   * Gets the pages users lay out widgets on, everything but our project page.
+   *
+   * @return the user pages
+   */
+  public List<CodePage> getUserPages() {
+    return userPages;
+  }
+
+  /**
+   * Gets every widget model.
+   *
+   * @return the models
+   */
+  public List<WidgetModel> getModels() {
+    return models;
+  }
+
+  /**
+   * Gets the models of one widget type.
+   *
+   * @param type
+   *          the widget type
+   * @return the models, empty if none
+   */
+  public List<WidgetModel> getModels(String type) {
+    List<WidgetModel> list = modelsByType.get(type);
+    if (list == null) {
+      return Collections.emptyList();
+    }
+    return list;
+  }
+
+  /**
+   * Gets a model's mapped properties as seen from a page.
+   * <p>
+   * Callers get their own copy since code blocks add their macros 
+   * to it. Models outside our project, like the keypads, 
+   * are simply mapped on each call.
+   * </p>
+   *
+   * @param m
+   *          the model
+   * @param pageEnum
+   *          the page enum
+   * @return the mapped properties
+   * @see builder.models.WidgetModel#getMappedProperties(String)
+   */
+  public Map<String, String> getMappedProperties(WidgetModel m, String pageEnum) {
+    Map<String, String> map = properties.get(m);
+    if (map == null) {
+      return m.getMappedProperties(pageEnum);
+    }
+    Map<String, String> copy = new HashMap<String, String>(map);
+    copy.put(PAGE_ENUM_ID, pageEnum);
+    return copy;
+  }
+
+  /**
+   * Checks if our project uses a widget type.
+   *
+   * @param type
+   *          the widget type
+   * @return true, if used
+   */
+  public boolean hasType(String type) {
+    return modelsByType.containsKey(type);
+  }
+
+  /**
+   * Gets the widget types used by our project.
+   *
+   * @return the widget types in no particular order
+   */
+  public Iterable<String> getTypes() {
+    return Collections.unmodifiableSet(modelsByType.keySet());
+  }
+
+  /**
+   * Gets the image and image button models.
+   *
+   * @return the image models
+   */
+  public List<WidgetModel> getImageModels() {
+    return imageModels;
+  }
+
+  /**
+   * Gets the models that use a font.
+   *
+   * @return the font models
+   */
+  public List<WidgetModel> getFontModels() {
+    return fontModels;
+  }
+
+  /**
+   * Gets the models handled by our button callback.
+   *
+   * @return the models
+   */
+  public List<WidgetModel> getButtonCallbacks() {
+    return buttonCallbacks;
+  }
+
+  /**
+   * Gets the checkboxes and radio buttons with callbacks enabled.
+   *
+   * @return the models
+   */
+  public List<WidgetModel> getCheckboxCallbacks() {
+    return checkboxCallbacks;
+  }
+
+  /**
+   * Gets the models handled by our keypad callback.
+   *
+   * @return the models
+   */
+  public List<WidgetModel> getKeypadCallbacks() {
+    return keypadCallbacks;
+  }
+
+  /**
+   * Gets the models handled by our listbox callback.
+   *
+   * @return the models
+   */
+  public List<WidgetModel> getListboxCallbacks() {
+    return listboxCallbacks;
+  }
+
+  /**
+   * Gets the sliders, seekbars and models with scrollbars 
+   * handled by our slider callback.
+   *
+   * @return the models
+   */
+  public List<WidgetModel> getSliderCallbacks() {
+    return sliderCallbacks;
+  }
+
+  /**
+   * Gets the models handled by our spinner callback.
+   *
+   * @return the models
+   */
+  public List<WidgetModel> getSpinnerCallbacks() {
+    return spinnerCallbacks;
+  }
+
+  /**
+   * Checks if any box has a tick callback.
+   *
+   * @return true, if found
+   */
+  public boolean hasTickCallback() {
+    return bTickCallback;
+  }
+
+  /**
+   * Checks if any box has a draw callback.
+   *
+   * @return true, if found
+   */
+  public boolean hasDrawCallback() {
+    return bDrawCallback;
+  }
+
+  /**
+   * Checks if any list or text box has a scrollbar.
+   *
+   * @return true, if found
+   */
+  public boolean hasScrollbars() {
+    return bScrollbars;
+  }
+
+  /**
+   * Checks if we need the numeric keypad.
+   *
+   * @return true, if any number input exists
+   */
+  public boolean hasNumKeyPad() {
+    return bNumKeyPad;
+  }
+
+  /**
+   * Checks if we need the alpha keypad.
+   *
+   * @return true, if any text input exists
+   */
+  public boolean hasAlphaKeyPad() {
+    return bAlphaKeyPad;
+  }
+
+  /**
+   * Gets the sorted widget and scrollbar enums, not including GSLC_ID_AUTO.
+   *
+   * @return the sorted enums
+   */
+  public List<String> getSortedEnums() {
+    return sortedEnums;
+  }
+
+  /**
+   * Gets the sorted group ids without duplicates.
+   *
+   * @return the sorted group ids
+   */
+  public List<String> getSortedGroupIds() {
+    return sortedGroupIds;
+  }
+
+  /**
+   * Gets the sorted element references we save, 
+   * including those of scrollbars in use.
+   *
+   * @return the sorted element references
+   */
+  public List<String> getSortedElementRefs() {
+    return sortedElementRefs;
+  }
+
+  /**
+   * Gets the sorted element references we declare extern,
+   * including those of every scrollbar ever added.
+   *
+   * @return the sorted extern element references
+   */
+  public List<String> getSortedExternRefs() {
+    return sortedExternRefs;
+  }
+
+  /**
+   * Gets the sorted font enums used by our models without duplicates.
+   *
+   * @return the sorted font enums
+   */
+  public List<String> getSortedFontEnums() {
+    return sortedFontEnums;
+  }
+
+  /**
+   * Gets the sorted font display names used by our models without duplicates.
+   *
+   * @return the sorted font names
+   */
+  public List<String> getSortedFontNames() {
+    return sortedFontNames;
+  }
+
+}
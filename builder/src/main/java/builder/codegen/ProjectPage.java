@@ -0,0 +1,114 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import builder.models.PageModel;
+import builder.widgets.Widget;
+
+/**
+ * The Class ProjectPage holds a page of a project read from disk 
+ * without creating a <code>PagePane</code> view, so code can
+ * be generated without any user interface.
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class ProjectPage implements CodePage {
+
+  /** The model. */
+  private final PageModel model;
+
+  /** The widgets. */
+  private final List<Widget> widgets;
+
+  /**
+   * Instantiates a new project page.
+   *
+   * @param model
+   *          the page model
+   * @param pageType
+   *          the type of page
+   */
+  public ProjectPage(PageModel model, String pageType) {
+    this.model = model;
+    this.model.setType(pageType);
+    this.widgets = new ArrayList<Widget>();
+  }
+
+  /**
+   * getKey
+   *
+   * @see builder.codegen.CodePage#getKey()
+   */
+  @Override
+  public String getKey() {
+    return model.getKey();
+  }
+
+  /**
+   * getEnum
+   *
+   * @see builder.codegen.CodePage#getEnum()
+   */
+  @Override
+  public String getEnum() {
+    return model.getEnum();
+  }
+
+  /**
+   * getPageType
+   *
+   * @see builder.codegen.CodePage#getPageType()
+   */
+  @Override
+  public String getPageType() {
+    return model.getType();
+  }
+
+  /**
+   * getModel
+   *
+   * @see builder.codegen.CodePage#getModel()
+   */
+  @Override
+  public PageModel getModel() {
+    return model;
+  }
+
+  /**
+   * getWidgets
+   *
+   * @see builder.codegen.CodePage#getWidgets()
+   */
+  @Override
+  public List<Widget> getWidgets() {
+    return widgets;
+  }
+
+}
@@ -0,0 +1,365 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import builder.Builder;
+import builder.common.CommonUtils;
+import builder.controller.Controller;
+import builder.controller.ProjectReader;
+import builder.fonts.FontFactory;
+import builder.models.ImageModel;
+import builder.models.ImgButtonModel;
+import builder.models.ProjectModel;
+import builder.models.WidgetModel;
+
+/**
+ * The Class ProjectWatcher watches the files our code generation depends 
+ * upon and tells its listener when they change.
+ * <p>
+ * Watched are the project file, any images (.bmp, .jpg, .jpeg, .png) 
+ * within the project's folder, the images our project references 
+ * wherever their folders are, and our templates folder holding the 
+ * code templates and builder_fonts.json. The referenced images are 
+ * looked up again each time the project changes. Editors tend to save a file 
+ * as a burst of events, delete, create, modify, so events are collected 
+ * until none have arrived for the debounce period and then reported 
+ * all at once as a mask of the kinds of files that changed along with 
+ * their names.
+ * </p>
+ * <p>
+ * The watcher runs on the thread calling <code>run()</code>, the builder
+ * starts one of its own while headless watch mode simply runs it on 
+ * the main thread. <code>close()</code> stops it from any thread.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class ProjectWatcher implements Runnable {
+
+  /** The Constants for the kinds of files that changed. */
+  public  final static int PROJECT           = 1;
+  public  final static int TEMPLATES         = 2;
+  public  final static int FONTS             = 4;
+  public  final static int IMAGES            = 8;
+
+  /** The Constant DEFAULT_DEBOUNCE in milliseconds. */
+  public  final static long DEFAULT_DEBOUNCE = 500;
+
+  /** The image file extensions we watch. */
+  private final static String[] IMAGE_EXTS = { ".bmp", ".jpg", ".jpeg", ".png" };
+
+  /**
+   * The listener interface for changes to our watched files.
+   */
+  public interface Listener {
+    
+    /**
+     * Called once for every burst of changes.
+     *
+     * @param changes
+     *          the mask of PROJECT, TEMPLATES, FONTS and IMAGES
+     * @param files
+     *          the names of the files that changed
+     */
+    void changed(int changes, Set<String> files);
+  }
+
+  /** The project file. */
+  private final File projectFile;
+  
+  /** The debounce period in milliseconds. */
+  private final long debounce;
+  
+  /** The listener. */
+  private final Listener listener;
+  
+  /** The watch service. */
+  private final WatchService service;
+  
+  /** The folder behind each of our watch keys. */
+  private final Map<WatchKey, Path> folders = new HashMap<WatchKey, Path>();
+  
+  /** The project's folder. */
+  private final Path projectFolder;
+  
+  /** The templates folder. */
+  private final Path templatesFolder;
+  
+  /** The image files our project references. */
+  private Set<Path> images = Collections.emptySet();
+
+  /**
+   * Instantiates a new project watcher.
+   *
+   * @param projectFile
+   *          the project file
+   * @param debounce
+   *          the debounce period in milliseconds
+   * @param listener
+   *          the listener
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  public ProjectWatcher(File projectFile, long debounce, Listener listener) throws IOException {
+    this.projectFile = projectFile.getAbsoluteFile();
+    this.debounce = debounce;
+    this.listener = listener;
+    this.projectFolder = this.projectFile.getParentFile().toPath().normalize();
+    this.templatesFolder = new File(CommonUtils.getInstance().getWorkingDir() 
+        + "templates").toPath().toAbsolutePath().normalize();
+    service = FileSystems.getDefault().newWatchService();
+    try {
+      register(projectFolder);
+      if (templatesFolder.toFile().isDirectory()) {
+        register(templatesFolder);
+      }
+    } catch (IOException e) {
+      service.close();
+      throw e;
+    }
+    watchImages();
+  }
+
+  /**
+   * Watch a folder.
+   *
+   * @param folder
+   *          the folder
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private void register(Path folder) throws IOException {
+    WatchKey key = folder.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+    folders.put(key, folder);
+  }
+
+  /**
+   * Look up the images our project references and watch
+   * any of their folders we aren't already watching.
+   */
+  private void watchImages() {
+    images = findImages(projectFile);
+    for (Path image : images) {
+      Path folder = image.getParent();
+      if (folder == null || folders.containsValue(folder) || !folder.toFile().isDirectory()) {
+        continue;
+      }
+      try {
+        register(folder);
+      } catch (IOException e) {
+        Builder.logger.debug("ProjectWatcher unable to watch: " + folder + " " + e.toString());
+      }
+    }
+  }
+
+  /**
+   * Find the image files a project references.
+   * 
+   * Image names relative to our target's image folder are taken
+   * as relative to the project's folder.
+   *
+   * @param projectFile
+   *          the project file
+   * @return the image files, empty if the project can't be read
+   */
+  static Set<Path> findImages(File projectFile) {
+    Set<Path> files = new HashSet<Path>();
+    ProjectReader reader = new ProjectReader(projectFile);
+    try {
+      reader.read();
+    } catch (IOException | ClassNotFoundException | RuntimeException e) {
+      return files;
+    }
+    Path folder = projectFile.getAbsoluteFile().getParentFile().toPath();
+    ProjectModel pm = reader.getProjectModel();
+    ProjectModel prev = Controller.bindProjectModel(pm);
+    try {
+      addImage(files, folder, pm.getBackgroundImageTName());
+      for (WidgetModel m : new ProjectIndex(reader.getPages()).getImageModels()) {
+        if (m instanceof ImageModel) {
+          addImage(files, folder, ((ImageModel) m).getImageName());
+        } else if (m instanceof ImgButtonModel) {
+          addImage(files, folder, ((ImgButtonModel) m).getImageName());
+          addImage(files, folder, ((ImgButtonModel) m).getSelectImageName());
+        }
+      }
+    } finally {
+      Controller.bindProjectModel(prev);
+    }
+    return files;
+  }
+
+  /**
+   * Add an image file.
+   *
+   * @param files
+   *          the image files
+   * @param folder
+   *          the project's folder
+   * @param name
+   *          the image name, may be empty
+   */
+  private static void addImage(Set<Path> files, Path folder, String name) {
+    if (name == null || name.isEmpty() || name.endsWith("/") || name.endsWith("\\")) {
+      return;
+    }
+    try {
+      files.add(folder.resolve(name).normalize());
+    } catch (InvalidPathException e) {
+      // not a path on this machine
+    }
+  }
+
+  /**
+   * Watch until closed, reporting each burst of changes to our listener.
+   * 
+   * @see java.lang.Runnable#run()
+   */
+  @Override
+  public void run() {
+    try {
+      while (true) {
+        WatchKey key = service.take();
+        int changes = 0;
+        Set<String> files = new TreeSet<String>();
+        // keep collecting until things go quiet for our debounce period
+        while (key != null) {
+          changes |= collect(key, files);
+          key = service.poll(debounce, TimeUnit.MILLISECONDS);
+        }
+        if (changes != 0) {
+          Builder.logger.debug("ProjectWatcher changed: " + files);
+          if ((changes & PROJECT) != 0) {
+            watchImages();
+          }
+          listener.changed(changes, Collections.unmodifiableSet(files));
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // we have been closed
+    }
+  }
+
+  /**
+   * Collect the events of a watch key.
+   *
+   * @param key
+   *          the watch key
+   * @param files
+   *          the names of files that changed
+   * @return the mask of changes
+   */
+  private int collect(WatchKey key, Set<String> files) {
+    int changes = 0;
+    Path folder = folders.get(key);
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+        // we lost track so assume everything changed
+        changes |= PROJECT | TEMPLATES | FONTS | IMAGES;
+        continue;
+      }
+      String name = ((Path) event.context()).getFileName().toString();
+      int kind = classify(folder, name);
+      if (kind != 0) {
+        changes |= kind;
+        files.add(name);
+      }
+    }
+    key.reset();
+    return changes;
+  }
+
+  /**
+   * Classify a changed file.
+   *
+   * @param folder
+   *          the folder holding the file
+   * @param name
+   *          the file name
+   * @return the kind of change, 0 if we don't care
+   */
+  private int classify(Path folder, String name) {
+    if (folder.equals(templatesFolder)) {
+      if (name.equals(FontFactory.FONT_TEMPLATE)) {
+        return FONTS;
+      }
+      if (name.endsWith(".t")) {
+        return TEMPLATES;
+      }
+      return 0;
+    }
+    if (images.contains(folder.resolve(name))) {
+      return IMAGES;
+    }
+    if (!folder.equals(projectFolder)) {
+      return 0;
+    }
+    if (name.equals(projectFile.getName())) {
+      return PROJECT;
+    }
+    String lower = name.toLowerCase();
+    for (String ext : IMAGE_EXTS) {
+      if (lower.endsWith(ext)) {
+        return IMAGES;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Stop watching.
+   */
+  public void close() {
+    try {
+      service.close();
+    } catch (IOException e) {
+      Builder.logger.debug("ProjectWatcher close: " + e.toString());
+    }
+  }
+
+}
@@ -0,0 +1,633 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.awt.Dimension;
+import java.io.File;
+import java.io.PrintStream;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import builder.Builder;
+import builder.common.EnumFactory;
+import builder.controller.Controller;
+import builder.controller.ProjectReader;
+import builder.fonts.FontFactory;
+import builder.fonts.FontMetrics;
+import builder.fonts.FontTFT;
+import builder.models.ProjectModel;
+import builder.models.WidgetModel;
+import builder.widgets.Widget;
+
+/**
+ * The Class RedrawEstimator estimates how long the display bus takes to
+ * push the pixels of a full redraw of each page and popup, so our user 
+ * can tell which designs will feel sluggish before building firmware.
+ * <p>
+ * A full page redraw fills the screen with our background, then draws the
+ * elements of our base page and of the page itself. A popup only draws its
+ * own elements over the current page. For each element we count its fill
+ * (COM-011, on for elements without the property), its frame (COM-010),
+ * the bounding box of its text from <code>FontTFT.getTextBounds()</code>
+ * and for images their dimensions. Gauges, sliders, graphs and the like
+ * are counted as filling their whole area.
+ * </p>
+ * <p>
+ * Every fill, frame edge, image and character also costs the commands
+ * that set the driver's address window. Pixels are pushed through a 
+ * <code>Bus</code>, SPI or 8 or 16-bit parallel, at its clock and bits
+ * per pixel. Drivers batch, clip and skip transparent text pixels, so
+ * treat the times as a comparison between pages rather than a measurement.
+ * </p>
+ * <p>
+ * Usage: <code>builder.Builder --redraw project.prj [--bus name|spi:MHz[:bpp]|par8:MHz[:bpp]|par16:MHz[:bpp]]
+ * [--top n] [--limit ms] [--report file]</code>
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class RedrawEstimator {
+
+  /** The Constants for command line options. */
+  public  final static String REDRAW_OPT     = "--redraw";
+  public  final static String BUS_OPT        = "--bus";
+  public  final static String TOP_OPT        = "--top";
+  public  final static String LIMIT_OPT      = "--limit";
+
+  /** The Constant USAGE. */
+  private final static String USAGE = 
+      "usage: builder.Builder " + REDRAW_OPT + " project.prj [" 
+      + BUS_OPT + " name|spi:MHz[:bpp]|par8:MHz[:bpp]|par16:MHz[:bpp]] ["
+      + TOP_OPT + " n] [" + LIMIT_OPT + " ms] [" + BatchGenerator.REPORT_OPT + " file]";
+
+  /** The Constant COMMAND_BYTES, to set an address window and start a write. */
+  private final static int COMMAND_BYTES      = 11;
+  
+  /** The Constant DEF_TOP, the number of offenders we list. */
+  public  final static int DEF_TOP            = 10;
+
+  /** The buses we know. */
+  public  final static Bus SPI         = new Bus("spi", 1, 40.0, 16);
+  public  final static Bus SPI_AVR     = new Bus("spi-avr", 1, 8.0, 16);
+  public  final static Bus SPI_ILI9488 = new Bus("spi-ili9488", 1, 40.0, 24);
+  public  final static Bus PAR8        = new Bus("par8", 8, 8.0, 16);
+  public  final static Bus PAR16       = new Bus("par16", 16, 8.0, 16);
+  
+  /** The list of buses. */
+  private final static List<Bus> BUSES = Collections.unmodifiableList(
+      Arrays.asList(SPI, SPI_AVR, SPI_ILI9488, PAR8, PAR16));
+
+  /**
+   * Instantiates a new redraw estimator.
+   */
+  private RedrawEstimator() {
+  }
+
+  /**
+   * Gets the buses we know.
+   *
+   * @return the buses
+   */
+  public static List<Bus> getBuses() {
+    return BUSES;
+  }
+
+  /**
+   * Find a bus by name, or build one from a specification of its type,
+   * clock in MHz and bits per pixel like <code>spi:27</code> or 
+   * <code>par16:10:16</code>.
+   *
+   * @param spec
+   *          the name or specification
+   * @return the bus or <code>null</code>, if not valid
+   */
+  public static Bus findBus(String spec) {
+    if (spec == null) return null;
+    spec = spec.trim();
+    for (Bus b : BUSES) {
+      if (b.getName().equalsIgnoreCase(spec)) {
+        return b;
+      }
+    }
+    String[] fields = spec.split(":");
+    if (fields.length < 2 || fields.length > 3) return null;
+    int width;
+    switch (fields[0].toLowerCase()) {
+      case "spi":
+        width = 1;
+        break;
+      case "par8":
+        width = 8;
+        break;
+      case "par16":
+        width = 16;
+        break;
+      default:
+        return null;
+    }
+    try {
+      double mhz = Double.parseDouble(fields[1]);
+      int bpp = (fields.length > 2) ? Integer.parseInt(fields[2]) : 16;
+      if (mhz <= 0.0 || bpp < 1 || bpp > 32) return null;
+      return new Bus(spec, width, mhz, bpp);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Estimate the redraw of each page and popup of our project.
+   *
+   * The project model must be bound to our Controller, as it is
+   * during code generation.
+   *
+   * @param index
+   *          the index of our project
+   * @param bus
+   *          the display bus
+   * @return the estimate
+   */
+  public static Estimate estimate(ProjectIndex index, Bus bus) {
+    ProjectModel pm = Controller.getProjectModel();
+    Estimate est = new Estimate(bus);
+    List<Item> base = new ArrayList<Item>();
+    for (CodePage p : index.getUserPages()) {
+      if (p.getPageType().equals(EnumFactory.BASEPAGE)) {
+        addWidgets(base, p);
+      }
+    }
+    for (CodePage p : index.getUserPages()) {
+      String type = p.getPageType();
+      if (type.equals(EnumFactory.BASEPAGE)) continue;
+      Row row = new Row(p.getEnum(), type.equals(EnumFactory.POPUP));
+      if (!row.popup) {
+        Item bkgnd = new Item(p.getEnum(), "Background", 
+            pm.useBackgroundImage() ? "Image" : "Fill");
+        bkgnd.pixels = (long) pm.getWidth() * pm.getHeight();
+        bkgnd.prims = 1;
+        row.items.add(bkgnd);
+        row.items.addAll(base);
+      }
+      addWidgets(row.items, p);
+      est.pages.add(row);
+    }
+    return est;
+  }
+
+  /**
+   * Add the items a page draws.
+   *
+   * @param items
+   *          the items
+   * @param p
+   *          the page
+   */
+  private static void addWidgets(List<Item> items, CodePage p) {
+    for (Widget w : p.getWidgets()) {
+      items.add(getItem(p.getEnum(), w.getModel()));
+    }
+  }
+
+  /**
+   * Gets the pixels and primitives an element draws.
+   *
+   * @param pageEnum
+   *          the enum of the element's page
+   * @param m
+   *          the element's model
+   * @return the item
+   */
+  static Item getItem(String pageEnum, WidgetModel m) {
+    Item item = new Item(pageEnum, m.getEnum(), m.getType());
+    long w = m.getWidth();
+    long h = m.getHeight();
+    if (isEnabled(m, "COM-011", true)) {
+      item.pixels += w * h;
+      item.prims++;
+    }
+    if (isEnabled(m, "COM-010", false) && w > 1 && h > 1) {
+      item.pixels += 2 * (w + h) - 4;
+      item.prims += 4;
+    }
+    String text = MemoryEstimator.getText(m);
+    int storage = MemoryEstimator.getTextStorage(m);
+    FontTFT font = (m.getFontDisplayName() != null) 
+        ? FontFactory.getInstance().getFont(m.getFontDisplayName()) : null;
+    if (font != null && text != null && !text.isEmpty()) {
+      FontMetrics fm = font.getTextBounds(text, 0, 0, false);
+      item.pixels += Math.min(fm.w, w) * Math.min(fm.h, h);
+      item.prims += text.length();
+    } else if (font != null && storage > 1) {
+      // text set at run time, assume it fills its storage
+      Dimension d = font.getMaxCharSize();
+      item.pixels += Math.min((long) d.width * (storage - 1), w) * Math.min(d.height, h);
+      item.prims += storage - 1;
+    }
+    return item;
+  }
+
+  /**
+   * Test if a boolean property of a model is on.
+   *
+   * @param m
+   *          the model
+   * @param metaID
+   *          the meta ID of the property
+   * @param bDefault
+   *          the value for models without the property
+   * @return true, if on
+   */
+  private static boolean isEnabled(WidgetModel m, String metaID, boolean bDefault) {
+    int row = m.mapMetaIDtoProperty(metaID);
+    if (row < 0) return bDefault;
+    Object value = m.getData()[row][WidgetModel.PROP_VAL_VALUE];
+    return (value instanceof Boolean) ? ((Boolean) value).booleanValue() : bDefault;
+  }
+
+  /**
+   * Run our estimate from the command line.
+   * 
+   * Handed our arguments by HeadlessGenerator.run() when 
+   * <code>--redraw</code> is given. Fonts are loaded here since our
+   * text sizes come from their metrics.
+   *
+   * @param args
+   *          the command line arguments
+   * @return the exit code, EXIT_FAILED if a page takes longer than our limit
+   */
+  public static int run(String[] args) {
+    CommandLine cl = new CommandLine(USAGE, new String[0], new String[] { REDRAW_OPT, 
+        BUS_OPT, TOP_OPT, LIMIT_OPT, BatchGenerator.REPORT_OPT }, false);
+    if (!cl.parse(args)) {
+      return HeadlessGenerator.EXIT_USAGE;
+    }
+    String projectName = cl.get(REDRAW_OPT);
+    String busName = cl.get(BUS_OPT);
+    Integer top = cl.getInt(TOP_OPT, DEF_TOP);
+    double limit;
+    try {
+      limit = Double.parseDouble(cl.get(LIMIT_OPT, "0"));
+    } catch (NumberFormatException e) {
+      return cl.usage();
+    }
+    if (projectName == null || !projectName.endsWith(".prj") || top == null) {
+      return cl.usage();
+    }
+    Bus bus = SPI;
+    if (busName != null) {
+      bus = findBus(busName);
+      if (bus == null) {
+        System.err.println("Unknown bus: " + busName + ", expected one of " + BUSES
+            + " or spi|par8|par16:MHz[:bpp]");
+        return HeadlessGenerator.EXIT_USAGE;
+      }
+    }
+    FontFactory.getInstance().init();
+    final File projectFile = new File(projectName).getAbsoluteFile();
+    ProjectReader reader = cl.readProject(projectFile);
+    if (reader == null) {
+      return HeadlessGenerator.EXIT_BAD_PROJECT;
+    }
+
+    final Estimate est;
+    ProjectModel prev = Controller.bindProjectModel(reader.getProjectModel());
+    try {
+      est = estimate(new ProjectIndex(reader.getPages()), bus);
+    } finally {
+      Controller.bindProjectModel(prev);
+    }
+    
+    int status = HeadlessGenerator.EXIT_OK;
+    if (limit > 0.0 && est.getSlowest() != null && est.getSlowest().getMillis(bus) > limit) {
+      status = HeadlessGenerator.EXIT_FAILED;
+    }
+    System.out.println(projectFile.getName());
+    report(System.out, est, top, limit);
+    boolean bWritten = cl.writeReport(ps -> {
+      ps.println(projectFile.getName());
+      report(ps, est, top, limit);
+    });
+    return bWritten ? status : HeadlessGenerator.EXIT_FAILED;
+  }
+
+  /**
+   * Print an estimate.
+   *
+   * @param ps
+   *          the stream to print on
+   * @param est
+   *          the estimate
+   * @param top
+   *          the number of offenders to list
+   * @param limit
+   *          the milliseconds a page may take, 0 for no limit
+   */
+  private static void report(PrintStream ps, Estimate est, int top, double limit) {
+    ps.println();
+    for (String line : est.format(top)) {
+      ps.println(line);
+    }
+    Row slowest = est.getSlowest();
+    if (limit > 0.0 && slowest != null && slowest.getMillis(est.bus) > limit) {
+      ps.println(String.format("%s takes longer than %.1f ms", slowest.name, limit));
+    }
+  }
+
+  /**
+   * The Class Bus describes how pixels reach the display.
+   */
+  public static final class Bus {
+    
+    /** The name. */
+    private final String name;
+    
+    /** The bits moved per clock, 1 for SPI. */
+    private final int width;
+    
+    /** The SPI clock or parallel write rate in MHz. */
+    private final double mhz;
+    
+    /** The bits sent for each pixel. */
+    private final int bpp;
+
+    /**
+     * Instantiates a new bus.
+     */
+    Bus(String name, int width, double mhz, int bpp) {
+      this.name = name;
+      this.width = width;
+      this.mhz = mhz;
+      this.bpp = bpp;
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @return the name
+     */
+    public String getName() {
+      return name;
+    }
+    
+    /**
+     * Gets the milliseconds to push pixels and set up primitives.
+     *
+     * @param pixels
+     *          the pixels
+     * @param prims
+     *          the primitives, each setting an address window
+     * @return the milliseconds
+     */
+    public double getMillis(long pixels, long prims) {
+      long cycles = pixels * ((bpp + width - 1) / width) 
+          + prims * COMMAND_BYTES * ((8 + width - 1) / width);
+      return cycles / (mhz * 1000.0);
+    }
+
+    /**
+     * Describe our bus for a report.
+     *
+     * @return the description
+     */
+    public String describe() {
+      String type = (width == 1) ? "SPI" : width + "-bit parallel";
+      return String.format("%s %s %s MHz, %d bits per pixel", name, type, 
+          new DecimalFormat("0.###").format(mhz), bpp);
+    }
+
+    /**
+     * toString
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  /**
+   * The Class Item holds what one element, or our background, draws.
+   */
+  public static final class Item {
+    
+    /** The enum of the page that holds it. */
+    private final String page;
+    
+    /** The name. */
+    private final String name;
+    
+    /** The type. */
+    private final String type;
+    
+    /** The pixels pushed. */
+    long pixels;
+    
+    /** The primitives drawn, each setting an address window. */
+    long prims;
+
+    /**
+     * Instantiates a new item.
+     */
+    Item(String page, String name, String type) {
+      this.page = page;
+      this.name = name;
+      this.type = type;
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @return the name
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Gets the pixels pushed.
+     *
+     * @return the pixels
+     */
+    public long getPixels() {
+      return pixels;
+    }
+  }
+
+  /**
+   * The Class Row holds the estimate of one page or popup.
+   */
+  public static final class Row {
+    
+    /** The name. */
+    private final String name;
+    
+    /** Is this a popup drawn over the current page? */
+    private final boolean popup;
+    
+    /** The items drawn. */
+    private final List<Item> items = new ArrayList<Item>();
+
+    /**
+     * Instantiates a new row.
+     */
+    Row(String name, boolean popup) {
+      this.name = name;
+      this.popup = popup;
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @return the name
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Gets the pixels pushed.
+     *
+     * @return the pixels
+     */
+    public long getPixels() {
+      long n = 0;
+      for (Item i : items) n += i.pixels;
+      return n;
+    }
+
+    /**
+     * Gets the primitives drawn.
+     *
+     * @return the primitives
+     */
+    public long getPrims() {
+      long n = 0;
+      for (Item i : items) n += i.prims;
+      return n;
+    }
+
+    /**
+     * Gets the milliseconds of a full redraw.
+     *
+     * @param bus
+     *          the display bus
+     * @return the milliseconds
+     */
+    public double getMillis(Bus bus) {
+      return bus.getMillis(getPixels(), getPrims());
+    }
+  }
+
+  /**
+   * The Class Estimate holds the estimate of our project for one bus.
+   */
+  public static final class Estimate {
+    
+    /** The bus. */
+    private final Bus bus;
+    
+    /** The rows of each page and popup. */
+    private final List<Row> pages = new ArrayList<Row>();
+
+    /**
+     * Instantiates a new estimate.
+     *
+     * @param bus
+     *          the bus
+     */
+    Estimate(Bus bus) {
+      this.bus = bus;
+    }
+
+    /**
+     * Gets the rows of each page and popup.
+     *
+     * @return the rows
+     */
+    public List<Row> getPages() {
+      return Collections.unmodifiableList(pages);
+    }
+
+    /**
+     * Gets the page or popup that takes longest to redraw.
+     *
+     * @return the row, <code>null</code> if we have no pages
+     */
+    public Row getSlowest() {
+      Row slowest = null;
+      for (Row r : pages) {
+        if (slowest == null || r.getMillis(bus) > slowest.getMillis(bus)) {
+          slowest = r;
+        }
+      }
+      return slowest;
+    }
+
+    /**
+     * Format our estimate as a table of pages followed by the items
+     * that cost the most. Our base page's items are only listed once.
+     *
+     * @param top
+     *          the number of items to list
+     * @return the lines of our table
+     */
+    public List<String> format(int top) {
+      List<String> lines = new ArrayList<String>();
+      String rule = String.format("%-40s", "").replace(' ', '-') + "-----------------------------";
+      lines.add(String.format("Redraw Estimate for %s (approximate)", bus.describe()));
+      lines.add(rule);
+      lines.add(String.format("%-40s%10s%9s%10s", "Page", "Pixels", "Prims", "ms"));
+      List<Item> all = new ArrayList<Item>();
+      for (Row r : pages) {
+        lines.add(String.format("%-40s%10d%9d%10.1f", 
+            r.popup ? r.name + " (popup)" : r.name, r.getPixels(), r.getPrims(), r.getMillis(bus)));
+        for (Item i : r.items) {
+          if (!all.contains(i)) {
+            all.add(i);
+          }
+        }
+      }
+      if (top > 0 && !all.isEmpty()) {
+        all.sort((a, b) -> Double.compare(bus.getMillis(b.pixels, b.prims), 
+            bus.getMillis(a.pixels, a.prims)));
+        lines.add(rule);
+        lines.add(String.format("%-40s%10s%9s%10s", "Top Offenders", "Pixels", "Prims", "ms"));
+        for (Item i : all.subList(0, Math.min(top, all.size()))) {
+          String name = i.page + " " + i.name + " (" + i.type + ")";
+          lines.add(String.format("%-40s%10d%9d%10.1f", 
+              name, i.pixels, i.prims, bus.getMillis(i.pixels, i.prims)));
+        }
+      }
+      return lines;
+    }
+  }
+
+}
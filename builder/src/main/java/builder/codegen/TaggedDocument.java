@@ -0,0 +1,525 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.lang.StringBuilder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Class TaggedDocument is our in memory model of a source file
+ * being processed by the code generation workflow.
+ * <p>
+ * The file is read and scanned for tags exactly once. It is broken up
+ * into an ordered list of sections. Each section is either a run of
+ * literal lines we never touch or a tagged region bounded by a
+ * "//&lt;Tag !Start!&gt;" and "//&lt;Tag !End!&gt;" pair of lines.
+ * </p>
+ * <p>
+ * Pipes look up their region by start tag and replace its contents.
+ * Nothing is copied until the whole document is written back out.
+ * </p>
+ *
+ * @author Paul Conti
+ *
+ */
+public class TaggedDocument {
+
+  /** The ordered list of sections that make up our document. */
+  private final List<Section> sections;
+
+  /** The tagged regions keyed by their start tag. */
+  private final Map<String, List<Section>> regionMap;
+
+  /** The number of characters read, used to size our output buffer. */
+  private final int nChars;
+
+  /**
+   * Instantiates a new tagged document.
+   *
+   * @param sections
+   *          the sections
+   * @param nChars
+   *          the size of our input
+   */
+  private TaggedDocument(List<Section> sections, int nChars) {
+    this.sections = Collections.unmodifiableList(sections);
+    this.nChars = nChars;
+    regionMap = new HashMap<String, List<Section>>(64);
+    int idx = 0;
+    for (Section s : sections) {
+      s.nIndex = idx++;
+      if (s.isRegion()) {
+        List<Section> list = regionMap.get(s.getTag());
+        if (list == null) {
+          list = new ArrayList<Section>(1);
+          regionMap.put(s.getTag(), list);
+        }
+        list.add(s);
+      }
+    }
+  }
+
+  /**
+   * Parse a file into a tagged document.
+   *
+   * @param file
+   *          the source file
+   * @return the <code>TaggedDocument</code> object
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  static public TaggedDocument parse(File file) throws IOException {
+    BufferedReader br = new BufferedReader(
+        new InputStreamReader(
+            new FileInputStream(file), "UTF8"));
+    try {
+      return parse(br);
+    } finally {
+      br.close();
+    }
+  }
+
+  /**
+   * Parse text into a tagged document.
+   *
+   * @param text
+   *          the source text
+   * @return the <code>TaggedDocument</code> object
+   */
+  static public TaggedDocument parse(CharSequence text) {
+    try {
+      return parse(new BufferedReader(new StringReader(text.toString())));
+    } catch (IOException e) {
+      throw new CodeGenException(e.toString());
+    }
+  }
+
+  /**
+   * Parse our input in a single pass.
+   *
+   * We first read every line and note which ones are tags, then
+   * we walk the lines pairing up each start tag with its next end tag.
+   * A start tag without an end tag is treated as a literal line.
+   *
+   * @param br
+   *          the buffered reader
+   * @return the <code>TaggedDocument</code> object
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  static private TaggedDocument parse(BufferedReader br) throws IOException {
+    List<String> lines = new ArrayList<String>();
+    List<String> tags = new ArrayList<String>();
+    Map<String, ArrayDeque<Integer>> endTags = new HashMap<String, ArrayDeque<Integer>>(64);
+    String line = null;
+    String tag = null;
+    int nChars = 0;
+    while ((line = br.readLine()) != null) {
+      tag = getTag(line);
+      if (tag != null && tag.endsWith(Tags.TAG_SUFFIX_END)) {
+        ArrayDeque<Integer> q = endTags.get(tag);
+        if (q == null) {
+          q = new ArrayDeque<Integer>();
+          endTags.put(tag, q);
+        }
+        q.add(Integer.valueOf(lines.size()));
+      }
+      lines.add(line);
+      tags.add(tag);
+      nChars += line.length() + 2;
+    }
+    List<Section> sections = new ArrayList<Section>();
+    int nLiteral = 0; // start of current run of literal lines
+    int i = 0;
+    while (i < lines.size()) {
+      tag = tags.get(i);
+      int nEnd = -1;
+      if (tag != null && tag.endsWith(Tags.TAG_SUFFIX_START)) {
+        String endTag = tag.substring(0, tag.length() - Tags.TAG_SUFFIX_START.length())
+            + Tags.TAG_SUFFIX_END;
+        ArrayDeque<Integer> q = endTags.get(endTag);
+        // skip past any end tags that came before us
+        while (q != null && !q.isEmpty() && q.peek().intValue() < i) {
+          q.poll();
+        }
+        if (q != null && !q.isEmpty()) {
+          nEnd = q.poll().intValue();
+        }
+      }
+      if (nEnd < 0) {
+        i++;
+        continue;
+      }
+      if (nLiteral < i) {
+        sections.add(new Section(lines.subList(nLiteral, i)));
+      }
+      sections.add(new Section(tag, lines.get(i), lines.subList(i+1, nEnd), lines.get(nEnd)));
+      i = nEnd + 1;
+      nLiteral = i;
+    }
+    if (nLiteral < lines.size()) {
+      sections.add(new Section(lines.subList(nLiteral, lines.size())));
+    }
+    return new TaggedDocument(sections, nChars);
+  }
+
+  /**
+   * Gets the tag, if any, contained in a line.
+   * Leading white space is ignored.
+   *
+   * @param line
+   *          the line
+   * @return the tag or <code>null</code> if this line isn't a tag
+   */
+  static public String getTag(String line) {
+    int n = 0;
+    int len = line.length();
+    while (n < len && Character.isWhitespace(line.charAt(n))) {
+      n++;
+    }
+    if (!line.startsWith(Tags.TAG_PREFIX, n)) {
+      return null;
+    }
+    if (line.endsWith(Tags.TAG_SUFFIX_START) || line.endsWith(Tags.TAG_SUFFIX_END)) {
+      return (n == 0) ? line : line.substring(n);
+    }
+    return null;
+  }
+
+  /**
+   * Gets the sections.
+   *
+   * @return the ordered list of sections
+   */
+  public List<Section> getSections() {
+    return sections;
+  }
+
+  /**
+   * Gets the first section of our document.
+   *
+   * @return the first section, or <code>null</code> if the document is empty
+   */
+  public Section getFirstSection() {
+    if (sections.isEmpty()) {
+      return null;
+    }
+    return sections.get(0);
+  }
+
+  /**
+   * Find the first region with a matching start tag.
+   *
+   * @param startTag
+   *          the start tag
+   * @return the region or <code>null</code> if not found
+   */
+  public Section findRegion(String startTag) {
+    List<Section> list = regionMap.get(startTag);
+    if (list == null) {
+      return null;
+    }
+    return list.get(0);
+  }
+
+  /**
+   * Find all regions with a matching start tag.
+   *
+   * @param startTag
+   *          the start tag
+   * @return the list of regions, which may be empty
+   */
+  public List<Section> findRegions(String startTag) {
+    List<Section> list = regionMap.get(startTag);
+    if (list == null) {
+      return Collections.emptyList();
+    }
+    return list;
+  }
+
+  /**
+   * Write our document.
+   *
+   * @param w
+   *          the writer
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  public void write(Writer w) throws IOException {
+    w.append(toString());
+  }
+
+  /**
+   * toString
+   *
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    StringBuilder sBd = new StringBuilder(nChars + nChars / 4);
+    for (Section s : sections) {
+      s.appendTo(sBd);
+    }
+    return sBd.toString();
+  }
+
+  /**
+   * The Class Section is either a run of literal lines
+   * or a tagged region of our document.
+   */
+  public static class Section {
+
+    /** The start tag with leading white space removed, null for literal text. */
+    private final String tag;
+
+    /** The original lines between our tags, or our literal lines. */
+    private final List<String> lines;
+
+    /** The line output before our body. */
+    private String head;
+
+    /** The line output after our body. */
+    private String tail;
+
+    /** The new body, or <code>null</code> to keep our original lines. */
+    private CharSequence body = null;
+
+    /** Our position within the document. */
+    private int nIndex = 0;
+
+    /**
+     * Instantiates a new literal section.
+     *
+     * @param lines
+     *          the lines
+     */
+    Section(List<String> lines) {
+      this.tag = null;
+      this.head = null;
+      this.lines = lines;
+      this.tail = null;
+    }
+
+    /**
+     * Instantiates a new tagged region.
+     *
+     * @param tag
+     *          the start tag
+     * @param head
+     *          the original start tag line
+     * @param lines
+     *          the lines between the tags
+     * @param tail
+     *          the original end tag line
+     */
+    Section(String tag, String head, List<String> lines, String tail) {
+      this.tag = tag;
+      this.head = head;
+      this.lines = lines;
+      this.tail = tail;
+    }
+
+    /**
+     * Checks if this section is a tagged region.
+     *
+     * @return true, if it is a region
+     */
+    public boolean isRegion() {
+      return tag != null;
+    }
+
+    /**
+     * Gets the start tag.
+     *
+     * @return the tag
+     */
+    public String getTag() {
+      return tag;
+    }
+
+    /**
+     * Gets our position within the document.
+     *
+     * @return the index of this section
+     */
+    public int getIndex() {
+      return nIndex;
+    }
+
+    /**
+     * Gets the original lines between our tags.
+     *
+     * @return the unmodifiable list of lines
+     */
+    public List<String> getLines() {
+      return Collections.unmodifiableList(lines);
+    }
+
+    /**
+     * Gets the line output in place of our start tag line.
+     *
+     * @return the head or <code>null</code> if dropped
+     */
+    public String getHead() {
+      return head;
+    }
+
+    /**
+     * Gets the line output in place of our end tag line.
+     *
+     * @return the tail or <code>null</code> if dropped
+     */
+    public String getTail() {
+      return tail;
+    }
+
+    /**
+     * Gets a snapshot of what we will output.
+     *
+     * @return the state
+     */
+    public State getState() {
+      return new State(head, (body == null) ? null : body.toString(), tail);
+    }
+
+    /**
+     * Restore what we will output from a snapshot.
+     *
+     * @param state
+     *          the state
+     */
+    public void setState(State state) {
+      this.head = state.head;
+      this.body = state.body;
+      this.tail = state.tail;
+    }
+
+    /**
+     * Gets the length of our new body.
+     *
+     * @return the number of characters, 0 if we keep our original lines
+     */
+    public int getBodyLength() {
+      return (body == null) ? 0 : body.length();
+    }
+
+    /**
+     * Sets the line output in place of our start tag line.
+     *
+     * @param head
+     *          the new head, or <code>null</code> to drop it
+     */
+    public void setHead(String head) {
+      this.head = head;
+    }
+
+    /**
+     * Sets the line output in place of our end tag line.
+     *
+     * @param tail
+     *          the new tail, or <code>null</code> to drop it
+     */
+    public void setTail(String tail) {
+      this.tail = tail;
+    }
+
+    /**
+     * Sets the new body of our region, leaving our tags in place.
+     *
+     * @param body
+     *          the generated code, each line terminated by a line separator
+     */
+    public void setBody(CharSequence body) {
+      this.body = body;
+    }
+
+    /**
+     * Replace our whole region including our tags.
+     *
+     * @param code
+     *          the generated code, each line terminated by a line separator
+     */
+    public void replace(CharSequence code) {
+      this.head = null;
+      this.tail = null;
+      this.body = code;
+    }
+
+    /**
+     * Append our section to the output.
+     *
+     * @param sBd
+     *          the output
+     */
+    public void appendTo(StringBuilder sBd) {
+      if (head != null) {
+        sBd.append(head);
+        sBd.append(System.lineSeparator());
+      }
+      if (body != null) {
+        sBd.append(body);
+      } else {
+        for (String l : lines) {
+          sBd.append(l);
+          sBd.append(System.lineSeparator());
+        }
+      }
+      if (tail != null) {
+        sBd.append(tail);
+        sBd.append(System.lineSeparator());
+      }
+    }
+
+  }
+
+  /**
+   * The Class State is an immutable snapshot of a section's output.
+   */
+  public static class State {
+    private final String head;
+    private final String body;
+    private final String tail;
+
+    State(String head, String body, String tail) {
+      this.head = head;
+      this.body = body;
+      this.tail = tail;
+    }
+  }
+
+}
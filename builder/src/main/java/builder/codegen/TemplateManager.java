@@ -31,11 +31,11 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 import builder.common.CommonUtils;
 
@@ -44,9 +44,14 @@ import builder.common.CommonUtils;
  * code templates.
  * 
  * It reads platform specific templates into memory, 
+ * compiles them into a <code>CompiledTemplate</code>,
  * makes them available for code generation,
  * fills in (expands) macros, and writes out the results.
  * 
+ * Compiled templates are shared by every TemplateManager in the process
+ * and are only read again from disk when the template file's modification
+ * time or size changes, so repeated code generation does no template I/O.
+ * 
  * @author Paul Conti
  * 
  */
@@ -61,9 +66,6 @@ public class TemplateManager {
   /** The Constant END_TEMPLATE. */
   private final static String END_TEMPLATE           = "<END>";
   
-  /** The Constant MACRO_PATTERN is our regex search pattern '$<xxx>'. */
-  private static final Pattern MACRO_PATTERN = Pattern.compile("\\$\\<(.+?)\\>");
-
   /** The Constant BEGIN_LINE. */
   // finite state machine for printing enums
   private final static int BEGIN_LINE    = 0;
@@ -74,18 +76,17 @@ public class TemplateManager {
   /** The Constant CLIP_LINE. */
   private final static int CLIP_LINE     = 72;
 
-  /** The template map. */
-  HashMap<String, Integer> templateMap;
-  
-  /** The list of templates. */
-  List<String>[] listOfTemplates = null;
+  /** The compiled template files shared by all managers keyed by path name. */
+  private static final Map<String, TemplateFile> templateFiles = 
+      new ConcurrentHashMap<String, TemplateFile>();
 
+  /** The compiled templates keyed by template name. */
+  Map<String, CompiledTemplate> templateMap;
+  
   /**
    * Instantiates a new template manager.
    */
-  @SuppressWarnings("unchecked")
   public TemplateManager() {
-    listOfTemplates = new ArrayList[256];
   }
 
   /**
@@ -97,18 +98,37 @@ public class TemplateManager {
    *           the code gen exception
    */
   public void storeTemplates(String templateFileName) throws CodeGenException {
-    templateMap = new HashMap<String, Integer>(64);
 //    String pathName = RESOURCES_PATH + templateFileName;
     String pathName = CommonUtils.getInstance().getWorkingDir() +
         "templates" + System.getProperty("file.separator") 
         + templateFileName;
     File file = new File(pathName);
+    long lastModified = file.lastModified();
+    long length = file.length();
+    TemplateFile tf = templateFiles.get(pathName);
+    if (tf == null || tf.lastModified != lastModified || tf.length != length) {
+      tf = new TemplateFile(lastModified, length, readTemplates(file));
+      templateFiles.put(pathName, tf);
+    }
+    templateMap = tf.templates;
+  }
+
+  /**
+   * Read and compile every template inside a template file.
+   *
+   * @param file
+   *          the template file
+   * @return the <code>map</code> of compiled templates keyed by template name
+   * @throws CodeGenException
+   *           the code gen exception
+   */
+  private static Map<String, CompiledTemplate> readTemplates(File file) throws CodeGenException {
+    Map<String, CompiledTemplate> map = new HashMap<String, CompiledTemplate>(256);
     BufferedReader tbr=null;
 //    BufferedReader tbr = new BufferedReader(new InputStreamReader(
 //                  this.getClass().getResourceAsStream(pathName)));
     String l = "";
     String templateName = "";
-    int i = 0;
     try {
       tbr = new BufferedReader(new InputStreamReader(
           new FileInputStream(file), "UTF8"));
@@ -119,10 +139,7 @@ public class TemplateManager {
         while (!(l = tbr.readLine()).equals(STOP_TEMPLATE)) {
           lines.add(l);
         }
-        templateMap.put(templateName, i);
-        listOfTemplates[i] = lines;
-//        System.out.println("Stored Template: " + templateName + " idx=" + i);
-        i++;
+        map.put(templateName, new CompiledTemplate(lines));
       }
       
     } catch (IOException e) {
@@ -134,8 +151,9 @@ public class TemplateManager {
         throw new CodeGenException(e.toString());
       }
     }
+    return Collections.unmodifiableMap(map);
   }
-    
+
   /**
    * Load template.
    *
@@ -144,19 +162,59 @@ public class TemplateManager {
    * @return the <code>list</code> object
    */
   public List<String> loadTemplate(String templateName) {
-    Integer idx = Integer.valueOf(-1);  
-    if (templateMap.containsKey(templateName)) {
-      idx = templateMap.get(templateName);
-    } else {
+    return new ArrayList<String>(getTemplate(templateName).getLines());
+  }
+
+  /**
+   * Gets a compiled template.
+   *
+   * @param templateName
+   *          the template name
+   * @return the <code>CompiledTemplate</code> object
+   * @throws CodeGenException
+   *           if the template is missing
+   */
+  public CompiledTemplate getTemplate(String templateName) throws CodeGenException {
+    CompiledTemplate template = templateMap.get(templateName);
+    if (template == null) {
       throw new CodeGenException("Missing template: " + templateName);
     }
-    List<String> templateOld = listOfTemplates[idx.intValue()];
-    List<String> templateNew = new ArrayList<String>();
-    for (String s : templateOld) {
-      templateNew.add(s);
-    }
-    
-    return templateNew;
+    return template;
+  }
+
+  /**
+   * Expand a template's macros and write out the resulting code block.
+   * 
+   * This is the same as calling loadTemplate(), expandMacros() and
+   * codeWriter() except the template was compiled when stored so we
+   * simply append straight into sBd.
+   *
+   * @param sBd
+   *          the output
+   * @param templateName
+   *          the template name
+   * @param map
+   *          the map containing the key/value pairs.
+   * @throws CodeGenException
+   *           if the template is missing
+   */
+  public void codeWriter(StringBuilder sBd, String templateName, Map<String, String> map) 
+    throws CodeGenException {
+    getTemplate(templateName).expand(sBd, map);
+  }
+
+  /**
+   * Write out a template as is without expanding any macros.
+   *
+   * @param sBd
+   *          the output
+   * @param templateName
+   *          the template name
+   * @throws CodeGenException
+   *           if the template is missing
+   */
+  public void codeWriter(StringBuilder sBd, String templateName) throws CodeGenException {
+    codeWriter(sBd, getTemplate(templateName).getLines());
   }
 
   /**
@@ -194,49 +252,23 @@ public class TemplateManager {
    */
   public List<String> expandMacros(List<String> template, Map<String, String> map) 
     throws CodeGenException {
-    List<String> outputList = new ArrayList<String>();
-    String sKey = null;
-    String sValue = null;
-    int nPadding=0;
-    try {
-      for (String l : template) {
-        Matcher m = MACRO_PATTERN.matcher(l);
-        StringBuffer sb = new StringBuffer();
-        while (m.find()) {
-          sKey = m.group(1);
-          // test the key, if its numeric its padding
-          // otherwise its a macro to be expanded
-          if (sKey.matches("[0-9]+")) {
-              nPadding = Integer.parseInt(sKey);
-              m.appendReplacement(sb, "");
-          } else {
-            sValue = map.get(sKey); 
-            if (sValue != null) {
-              if (nPadding > 0) {
-                // space out this value
-                nPadding = nPadding - sValue.length();
-                if (nPadding > 0) {
-                  for (int i=0; i<nPadding; i++)
-                    sValue = sValue + " ";
-                  nPadding = 0; // reset for next value
-                }
-              }
-// bug: 123 appendReplacementfails if sValue has a '$' in it. 
-//              m.appendReplacement(sb, sValue);
-              m.appendReplacement(sb, "");
-              sb.append(sValue);
-            }
-          }
-        }
-        m.appendTail(sb);
-        outputList.add(sb.toString());
-      }
-    } catch(IllegalArgumentException e) {
-      System.out.println("sKey: " + sKey + " sValue: " + sValue);
-      e.printStackTrace();
-      throw new CodeGenException(e.toString());
-    }
-    return outputList;
+    return new CompiledTemplate(template).expand(map);
+  }
+
+  /**
+   * Expand macros of a stored template.
+   *
+   * @param templateName
+   *          the template name
+   * @param map
+   *          the map containing the key/value pairs.
+   * @return the <code>list</code> object containing the expanded lines
+   * @throws CodeGenException
+   *           if the template is missing
+   */
+  public List<String> expandMacros(String templateName, Map<String, String> map)
+    throws CodeGenException {
+    return getTemplate(templateName).expand(map);
   }
 
   /**
@@ -328,4 +360,26 @@ public class TemplateManager {
     return;
   }
 
+  /**
+   * The Class TemplateFile holds the compiled templates of one template
+   * file along with the file attributes used to detect edits.
+   */
+  private static class TemplateFile {
+    
+    /** The file's modification time when it was read. */
+    final long lastModified;
+    
+    /** The file's size when it was read. */
+    final long length;
+    
+    /** The compiled templates keyed by template name. */
+    final Map<String, CompiledTemplate> templates;
+
+    TemplateFile(long lastModified, long length, Map<String, CompiledTemplate> templates) {
+      this.lastModified = lastModified;
+      this.length = length;
+      this.templates = templates;
+    }
+  }
+
 }
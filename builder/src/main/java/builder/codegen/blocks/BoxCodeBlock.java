@@ -25,7 +25,6 @@
  */
 package builder.codegen.blocks;
 
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -76,51 +75,37 @@ public class BoxCodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     BoxModel m = (BoxModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
-    template = tm.loadTemplate(BOX_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, BOX_TEMPLATE, map);
 
     if (m.isRoundedEn()) {
-      template = tm.loadTemplate(CORNERS_ROUNDED_TEMPLATE);
-      tm.codeWriter(sBd, template);
+      tm.codeWriter(sBd, CORNERS_ROUNDED_TEMPLATE);
     }
     
     if (m.isTouchEn()) {
-      template = tm.loadTemplate(TOUCH_EN_TEMPLATE);
-      tm.codeWriter(sBd, template);
+      tm.codeWriter(sBd, TOUCH_EN_TEMPLATE);
     }
     
     if (m.hasDrawFunc()) {
-      template = tm.loadTemplate(DRAWFUNC_TEMPLATE);
-      tm.codeWriter(sBd, template);
+      tm.codeWriter(sBd, DRAWFUNC_TEMPLATE);
     } 
 
     if (m.hasTickFunc()) {
-      template = tm.loadTemplate(TICKFUNC_TEMPLATE);
-      tm.codeWriter(sBd, template);
+      tm.codeWriter(sBd, TICKFUNC_TEMPLATE);
     } 
 
     if ((!m.getFrameColor().equals(BoxModel.DEF_FRAME_COLOR)) ||
         (!m.getFillColor().equals(BoxModel.DEF_FILL_COLOR))  || 
         (!m.getSelectedColor().equals(BoxModel.DEF_SELECTED_COLOR))) {
-      template = tm.loadTemplate(COLOR_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, COLOR_TEMPLATE, map);
     }
     
     if (!m.getElementRef().isEmpty()) {
-      template = tm.loadTemplate(ELEMENTREF_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
     } 
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
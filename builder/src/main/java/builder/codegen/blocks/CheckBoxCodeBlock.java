@@ -26,7 +26,6 @@
 package builder.codegen.blocks;
 
 import java.lang.StringBuilder;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -76,12 +75,9 @@ public final class CheckBoxCodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     CheckBoxModel m = (CheckBoxModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
-    template = tm.loadTemplate(CHECKBOX_TEMPLATE);
     /*
     // member of group?
     String groupId = m.getGroupId();
@@ -89,36 +85,26 @@ public final class CheckBoxCodeBlock implements CodeBlock {
       tm.loadTemplate(CHECKBOX_GROUP_TEMPLATE);
     }
 */
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, CHECKBOX_TEMPLATE, map);
 
     if ((!m.getFrameColor().equals(CheckBoxModel.DEF_FRAME_COLOR)) ||
         (!m.getFillColor().equals(CheckBoxModel.DEF_FILL_COLOR))  || 
         (!m.getSelectedColor().equals(CheckBoxModel.DEF_SELECTED_COLOR))) {
-      template = tm.loadTemplate(COLOR_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, COLOR_TEMPLATE, map);
     }
 /*
     if (!groupId.equals("GSLC_GROUP_ID_NONE")) {
-      template = tm.loadTemplate(GROUP_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, GROUP_TEMPLATE, map);
     }
 */    
     if (m.isCallbackEn()) {
-      template = tm.loadTemplate(CHECKBOXSETSTATE_TEMPLATE);
-      tm.codeWriter(sBd, template);
+      tm.codeWriter(sBd, CHECKBOXSETSTATE_TEMPLATE);
     }
 
     if (!m.getElementRef().isEmpty()) {
-      template = tm.loadTemplate(ELEMENTREF_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
     }
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
@@ -26,7 +26,6 @@
 package builder.codegen.blocks;
 
 import java.lang.StringBuilder;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -73,31 +72,21 @@ public final class GraphCodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     GraphModel m = (GraphModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
     
     // now output creation API
-    template = tm.loadTemplate(GRAPH_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, GRAPH_TEMPLATE, map);
     
     if ((!m.getFrameColor().equals(GraphModel.DEF_FRAME_COLOR)) ||
         (!m.getFillColor().equals(GraphModel.DEF_FILL_COLOR))  || 
         (!m.getSelectedColor().equals(GraphModel.DEF_SELECTED_COLOR))) {
-      template = tm.loadTemplate(COLOR_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, COLOR_TEMPLATE, map);
     }
 
     if (!m.getElementRef().isEmpty()) {
-      template = tm.loadTemplate(ELEMENTREF_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
     }
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
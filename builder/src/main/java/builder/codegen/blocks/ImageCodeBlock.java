@@ -26,11 +26,11 @@
 package builder.codegen.blocks;
 
 import java.lang.StringBuilder;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
 import builder.codegen.CodeUtils;
+import builder.codegen.ImageResources;
 import builder.codegen.TemplateManager;
 import builder.models.ImageModel;
 import builder.models.WidgetModel;
@@ -53,6 +53,9 @@ public final class ImageCodeBlock implements CodeBlock {
   private final static String TOUCH_EN_TEMPLATE      = "<TOUCH_EN>";
   private final static String ELEMENTREF_TEMPLATE    = "<ELEMENT_REF>";
   private final static String COUNT_MACRO            = "COUNT";
+  private final static String EXTERN_MACRO           = "IMG-108";
+  private final static String FORMAT_MACRO           = "IMG-102";
+  private final static String MEMORY_MACRO           = "IMG-109";
 
   /**
    * Instantiates a new check box code block.
@@ -79,48 +82,43 @@ public final class ImageCodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     ImageModel m = (ImageModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    String templateName = null;
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
     map.put(COUNT_MACRO, CodeUtils.getKeyCount(m.getKey()));
-    if (m.getDefine() != null && !m.getDefine().isEmpty()) {
-      template = tm.loadTemplate(IMAGE_DEFINE_TEMPLATE);
+    ImageResources resources = cg.getImageResources();
+    ImageResources.Resource r = (resources != null) ? resources.getResource(m.getDefine()) : null;
+    if (r != null) {
+      // our image on file was written out as a C array in flash
+      map.put(MEMORY_MACRO, ImageModel.SRC_PROG);
+      map.put(EXTERN_MACRO, r.getExternName());
+      map.put(FORMAT_MACRO, r.getImageFormat());
+      templateName = IMAGE_EXTERN_TEMPLATE;
+    } else if (m.getDefine() != null && !m.getDefine().isEmpty()) {
+      templateName = IMAGE_DEFINE_TEMPLATE;
     } else {
-      template = tm.loadTemplate(IMAGE_EXTERN_TEMPLATE);
+      templateName = IMAGE_EXTERN_TEMPLATE;
     }
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, templateName, map);
 
     // handle transparency
     if (m.isTransparent()) {
-      template = tm.loadTemplate(IMAGETRANSPARENT_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, IMAGETRANSPARENT_TEMPLATE, map);
     }
     if (m.isTouchEn()) {
-      template = tm.loadTemplate(TOUCH_EN_TEMPLATE);
-      tm.codeWriter(sBd, template);
+      tm.codeWriter(sBd, TOUCH_EN_TEMPLATE);
     }
 
     if (m.isFrameEnabled()) {
-      template = tm.loadTemplate(FRAME_EN_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
-      template = tm.loadTemplate(COLOR_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, FRAME_EN_TEMPLATE, map);
+      tm.codeWriter(sBd, COLOR_TEMPLATE, map);
     }
     
     if (!m.getElementRef().isEmpty()) {
-      template = tm.loadTemplate(ELEMENTREF_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
     }
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
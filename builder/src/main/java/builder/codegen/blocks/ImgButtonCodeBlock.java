@@ -26,11 +26,11 @@
 package builder.codegen.blocks;
 
 import java.lang.StringBuilder;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
 import builder.codegen.CodeUtils;
+import builder.codegen.ImageResources;
 import builder.codegen.TemplateManager;
 import builder.models.ImgButtonModel;
 import builder.models.WidgetModel;
@@ -54,6 +54,11 @@ public final class ImgButtonCodeBlock implements CodeBlock {
   private final static String FRAME_EN_TEMPLATE      = "<FRAME_EN>";
   private final static String COLOR_TEMPLATE         = "<COLOR_IMAGE>";
   private final static String COUNT_MACRO            = "COUNT";
+  private final static String EXTERN_MACRO           = "IBTN-108";
+  private final static String EXTERN_SEL_MACRO       = "IBTN-109";
+  private final static String FORMAT_MACRO           = "IBTN-104";
+  private final static String MEMORY_MACRO           = "IBTN-110";
+  private final static String MEMORY_SEL_MACRO       = "IBTN-113";
   private final static String GROUP_TEMPLATE         = "<GROUP>";
 
   /**
@@ -81,59 +86,64 @@ public final class ImgButtonCodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     ImgButtonModel m = (ImgButtonModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    String templateName = null;
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     map.put(COUNT_MACRO, CodeUtils.getKeyCount(m.getKey()));
 
+    // were our images on file written out as C arrays in flash?
+    ImageResources resources = cg.getImageResources();
+    ImageResources.Resource r = null;
+    ImageResources.Resource rSel = null;
+    if (resources != null) {
+      r = resources.getResource(m.getDefine());
+      rSel = resources.getResource(m.getSelDefine());
+    }
     // now output creation API
-    if (m.getDefine() != null && !m.getDefine().isEmpty()) {
+    if (r != null && rSel != null) {
+      map.put(MEMORY_MACRO, ImgButtonModel.SRC_PROG);
+      map.put(MEMORY_SEL_MACRO, ImgButtonModel.SRC_PROG);
+      map.put(EXTERN_MACRO, r.getExternName());
+      map.put(EXTERN_SEL_MACRO, rSel.getExternName());
+      map.put(FORMAT_MACRO, r.getImageFormat());
+      if (m.isToggle()) {
+        templateName = IMGTOGGLE_EXTERN_TEMPLATE;
+      } else {
+        templateName = IMGBUTTON_EXTERN_TEMPLATE;
+      }
+    } else if (m.getDefine() != null && !m.getDefine().isEmpty()) {
       if (m.isToggle()) {
-        template = tm.loadTemplate(IMGTOGGLE_DEFINE_TEMPLATE);
+        templateName = IMGTOGGLE_DEFINE_TEMPLATE;
       } else {
-        template = tm.loadTemplate(IMGBUTTON_DEFINE_TEMPLATE);
+        templateName = IMGBUTTON_DEFINE_TEMPLATE;
       }
     } else {
       if (m.isToggle()) {
-        template = tm.loadTemplate(IMGTOGGLE_EXTERN_TEMPLATE);
+        templateName = IMGTOGGLE_EXTERN_TEMPLATE;
       } else {
-        template = tm.loadTemplate(IMGBUTTON_EXTERN_TEMPLATE);
+        templateName = IMGBUTTON_EXTERN_TEMPLATE;
       }
     }
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, templateName, map);
 
     // handle transparency
     if (m.isTransparent()) {
-      template = tm.loadTemplate(IMAGETRANSPARENT_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, IMAGETRANSPARENT_TEMPLATE, map);
     }    
     if (m.isFrameEnabled()) {
-      template = tm.loadTemplate(FRAME_EN_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
-      template = tm.loadTemplate(COLOR_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, FRAME_EN_TEMPLATE, map);
+      tm.codeWriter(sBd, COLOR_TEMPLATE, map);
     }
     String groupId = m.getGroupId();
 
     if (m.isToggle() && !groupId.equals("GSLC_GROUP_ID_NONE")) {
-      template = tm.loadTemplate(GROUP_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, GROUP_TEMPLATE, map);
     }
     
     if (!m.getElementRef().isEmpty()) {
-      template = tm.loadTemplate(ELEMENTREF_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
     }
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
@@ -25,7 +25,6 @@
  */
 package builder.codegen.blocks;
 
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -74,12 +73,9 @@ public class LineCodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     LineModel m = (LineModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
     
     // now output creation API
-    template = tm.loadTemplate(LINE_TEMPLATE);
 
     // we need to work out our end points
     int nX1, nY1;
@@ -93,11 +89,8 @@ public class LineCodeBlock implements CodeBlock {
     map.put(X1_MACRO, String.valueOf(nX1));
     map.put(Y1_MACRO, String.valueOf(nY1));
     
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, LINE_TEMPLATE, map);
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
@@ -81,65 +81,49 @@ public final class ListBoxCodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     ListBoxModel m = (ListBoxModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
+    String templateName = null;
     if (m.addScrollbar()) {
-      template = tm.loadTemplate(LISTBOXSLIDER1_TEMPLATE);
+      templateName = LISTBOXSLIDER1_TEMPLATE;
     } else {
-      template = tm.loadTemplate(LISTBOX_TEMPLATE);
+      templateName = LISTBOX_TEMPLATE;
     }
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, templateName, map);
     
     if (m.getItemGap() > 0) {
-      template = tm.loadTemplate(LISTBOX_GAP_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, LISTBOX_GAP_TEMPLATE, map);
     }
     
     String[] items = m.getItems();
     if (items != null && !items[0].isEmpty()) {
       Map<String, String> mapItems = new HashMap<String, String>(16);
-      template = tm.loadTemplate(LISTBOX_ITEM_TEMPLATE);
       for (int i=0; i<items.length; i++) {
         mapItems.put(TEXT_MACRO, items[i]);
-        outputLines = tm.expandMacros(template, mapItems);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, LISTBOX_ITEM_TEMPLATE, mapItems);
         mapItems.clear();
       }
     }
     
     String strAlign = m.getAlignment();
     if (!strAlign.equals(FontTFT.ALIGN_LEFT)) {
-      template = tm.loadTemplate(ALIGN_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ALIGN_TEMPLATE, map);
     }
 
     if (m.isFrameEnabled()) {
-      template = tm.loadTemplate(FRAME_EN_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, FRAME_EN_TEMPLATE, map);
     }
 
     if (!m.getElementRef().isEmpty()) {
-      template = tm.loadTemplate(ELEMENTREF_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
     }
 
     if (m.addScrollbar()) {
-      template = tm.loadTemplate(LISTBOXSLIDER2_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, LISTBOXSLIDER2_TEMPLATE, map);
     }
     
     map.clear();
-    template.clear();
-    outputLines.clear();
     return sBd;   
   }
   
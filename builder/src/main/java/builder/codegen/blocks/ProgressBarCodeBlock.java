@@ -25,7 +25,6 @@
  */
 package builder.codegen.blocks;
 
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -72,29 +71,19 @@ public class ProgressBarCodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     ProgressBarModel m = (ProgressBarModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
-    template = tm.loadTemplate(PROGRESSBAR_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, PROGRESSBAR_TEMPLATE, map);
 
     if ((!m.getFrameColor().equals(ProgressBarModel.DEF_FRAME_COLOR)) ||
         (!m.getFillColor().equals(ProgressBarModel.DEF_FILL_COLOR))  || 
         (!m.getSelectedColor().equals(ProgressBarModel.DEF_SELECTED_COLOR))) {
-      template = tm.loadTemplate(COLOR_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, COLOR_TEMPLATE, map);
     }
     
-    template = tm.loadTemplate(ELEMENTREF_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
@@ -25,7 +25,6 @@
  */
 package builder.codegen.blocks;
 
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -75,43 +74,27 @@ public class RadialGaugeCodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     RadialGaugeModel m = (RadialGaugeModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
-    template = tm.loadTemplate(RADIALGAUGE_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, RADIALGAUGE_TEMPLATE, map);
 
     if ((!m.getFrameColor().equals(RadialGaugeModel.DEF_FRAME_COLOR)) ||
         (!m.getFillColor().equals(RadialGaugeModel.DEF_FILL_COLOR))   || 
         (!m.getSelectedColor().equals(RadialGaugeModel.DEF_SELECTED_COLOR))) {
-      template = tm.loadTemplate(COLOR_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, COLOR_TEMPLATE, map);
     }
     
     if (!m.isClockwise()) {
-      template = tm.loadTemplate(RADIALGAUGEFLIP_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, RADIALGAUGEFLIP_TEMPLATE, map);
     }
     
     // now deal with indicator and ticks, only works with Radial
-    template = tm.loadTemplate(RADIALGAUGEIND_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
-    template = tm.loadTemplate(RADIALGAUGETICKS_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, RADIALGAUGEIND_TEMPLATE, map);
+    tm.codeWriter(sBd, RADIALGAUGETICKS_TEMPLATE, map);
 
-    template = tm.loadTemplate(ELEMENTREF_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
@@ -26,7 +26,6 @@
 package builder.codegen.blocks;
 
 import java.lang.StringBuilder;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -75,43 +74,30 @@ public final class RadioButtonCodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     RadioButtonModel m = (RadioButtonModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
-    template = tm.loadTemplate(RADIOBUTTON_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, RADIOBUTTON_TEMPLATE, map);
 
     if ((!m.getFrameColor().equals(RadioButtonModel.DEF_FRAME_COLOR)) ||
         (!m.getFillColor().equals(RadioButtonModel.DEF_FILL_COLOR))  || 
         (!m.getSelectedColor().equals(RadioButtonModel.DEF_SELECTED_COLOR))) {
-      template = tm.loadTemplate(COLOR_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, COLOR_TEMPLATE, map);
     }
 
     String groupId = m.getGroupId();
     if (!groupId.equals("GSLC_GROUP_ID_NONE")) {
-      template = tm.loadTemplate(GROUP_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, GROUP_TEMPLATE, map);
     }
     
     if (m.isCallbackEn()) {
-      template = tm.loadTemplate(CHECKBOXSETSTATE_TEMPLATE);
-      tm.codeWriter(sBd, template);
+      tm.codeWriter(sBd, CHECKBOXSETSTATE_TEMPLATE);
     }
 
     if (!m.getElementRef().isEmpty()) {
-      template = tm.loadTemplate(ELEMENTREF_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
     }
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
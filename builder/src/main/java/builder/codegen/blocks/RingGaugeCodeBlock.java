@@ -25,7 +25,6 @@
  */
 package builder.codegen.blocks;
 
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -79,71 +78,47 @@ public class RingGaugeCodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     RingGaugeModel m = (RingGaugeModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
-    template = tm.loadTemplate(RINGGAUGE_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, RINGGAUGE_TEMPLATE, map);
     
     if (m.getLineThickness() != RingGaugeModel.DEF_LINE_SZ) {
-      template = tm.loadTemplate(LINE_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, LINE_TEMPLATE, map);
     }
     
     if (m.getSegments() != RingGaugeModel.DEF_SEGMENTS) {
-      template = tm.loadTemplate(SEGMENTS_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, SEGMENTS_TEMPLATE, map);
     }
     
     if (!m.isClockwise() ||
         m.getStartingAngle() != RingGaugeModel.DEF_STARTING_ANGLE ||
         m.getAngularRange() != RingGaugeModel.DEF_ANGULAR_RANGE) {
-      template = tm.loadTemplate(RANGE_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, RANGE_TEMPLATE, map);
     }
     
     if (m.useGradientColors()) {
-      template = tm.loadTemplate(GRADIENTCOL_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, GRADIENTCOL_TEMPLATE, map);
     } else {
       if (!m.getActiveColor().equals(RingGaugeModel.DEF_ACTIVE_COLOR)) {
-        template = tm.loadTemplate(FLATCOL_TEMPLATE);
-        outputLines = tm.expandMacros(template, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, FLATCOL_TEMPLATE, map);
       }
     }
     
     if (!m.getInactiveColor().equals(RingGaugeModel.DEF_INACTIVE_COLOR)) {
-      template = tm.loadTemplate(INACTIVECOL_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, INACTIVECOL_TEMPLATE, map);
     }
     
     if (!m.getTextColor().equals(RingGaugeModel.DEF_TEXT_COLOR)) {
-      template = tm.loadTemplate(TEXTCOLOR_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, TEXTCOLOR_TEMPLATE, map);
     }
     
     if (!m.getFillColor().equals(RingGaugeModel.DEF_FILL_COLOR)) {
-      template = tm.loadTemplate(COLOR_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, COLOR_TEMPLATE, map);
     }
 
-    template = tm.loadTemplate(ELEMENTREF_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
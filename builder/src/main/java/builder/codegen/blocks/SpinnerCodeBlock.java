@@ -25,7 +25,6 @@
  */
 package builder.codegen.blocks;
 
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -79,19 +78,14 @@ public class SpinnerCodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     SpinnerModel m = (SpinnerModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
-    template = tm.loadTemplate(SPINNER_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, SPINNER_TEMPLATE, map);
     
     // deal with any overrides
     if (!(m.getIncrementChar().equals(SpinnerModel.DEF_INCRBUTTON)) ||
         !(m.getDecrementChar().equals(SpinnerModel.DEF_DECRBUTTON))) {
-      template = tm.loadTemplate(SPINNER_ARROWS_TEMPLATE);
       String fontName = m.getFontDisplayName();
       FontTFT font = FontFactory.getInstance().getFont(fontName);
       /* we can't use standard mapping of SPIN-102 and SPIN-103 since we may need
@@ -100,16 +94,11 @@ public class SpinnerCodeBlock implements CodeBlock {
        */
       map.put(INCR_MACRO, CodeUtils.createLiteral(font, "'", m.getIncrementChar()));
       map.put(DECR_MACRO, CodeUtils.createLiteral(font, "'", m.getDecrementChar()));
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, SPINNER_ARROWS_TEMPLATE, map);
     }
     
-    template = tm.loadTemplate(ELEMENTREF_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
@@ -26,7 +26,6 @@
 package builder.codegen.blocks;
 
 import java.lang.StringBuilder;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -72,22 +71,18 @@ public final class TextBoxCodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     TextBoxModel m = (TextBoxModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
+    String templateName = null;
     if (m.addScrollbar()) {
-      template = tm.loadTemplate(TEXTBOXSLIDER_TEMPLATE);
+      templateName = TEXTBOXSLIDER_TEMPLATE;
     } else {
-      template = tm.loadTemplate(TEXTBOX_TEMPLATE);
+      templateName = TEXTBOX_TEMPLATE;
     }
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, templateName, map);
 
     map.clear();
-    template.clear();
-    outputLines.clear();
     return sBd;   
   }
   
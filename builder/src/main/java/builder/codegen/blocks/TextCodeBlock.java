@@ -26,7 +26,6 @@
 package builder.codegen.blocks;
 
 import java.lang.StringBuilder;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -87,9 +86,7 @@ public final class TextCodeBlock implements CodeBlock {
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     TextModel m = (TextModel)wm;
     String templateName = null;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
     
     // now output creation API
     int ts = m.getTextStorage();
@@ -98,7 +95,6 @@ public final class TextCodeBlock implements CodeBlock {
     } else {
       templateName = TEXT_TEMPLATE;
     }
-    template = tm.loadTemplate(templateName);
     
     String fontName = m.getFontDisplayName();
     FontTFT font = FontFactory.getInstance().getFont(fontName);
@@ -108,58 +104,39 @@ public final class TextCodeBlock implements CodeBlock {
      */
     map.put(TEXT_MACRO, CodeUtils.createLiteral(font, "\"", m.getText()));
 
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, templateName, map);
     
     // now deal with any extra switches
     String strAlign = m.getAlignment();
     if (!strAlign.equals(FontTFT.ALIGN_LEFT)) {
-      template = tm.loadTemplate(ALIGN_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ALIGN_TEMPLATE, map);
     }
     if (m.getTextMargin() != 0) {
-      template = tm.loadTemplate(TEXTMARGIN_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, TEXTMARGIN_TEMPLATE, map);
     }
     if (!m.isFillEnabled()) {
-      template = tm.loadTemplate(FILL_EN_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, FILL_EN_TEMPLATE, map);
     }
     if (m.isFrameEnabled()) {
-      template = tm.loadTemplate(FRAME_EN_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, FRAME_EN_TEMPLATE, map);
     }
     if (!m.getTextColor().equals(TextModel.DEF_TEXT_COLOR)) {
-      template = tm.loadTemplate(TEXTCOLOR_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, TEXTCOLOR_TEMPLATE, map);
     }
     if ((!m.getFrameColor().equals(TextModel.DEF_FRAME_COLOR)) ||
         (!m.getFillColor().equals(TextModel.DEF_FILL_COLOR))  || 
         (!m.getSelectedColor().equals(TextModel.DEF_SELECTED_COLOR))) {
-      template = tm.loadTemplate(COLOR_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, COLOR_TEMPLATE, map);
     }
     
     if (m.isUTF8()) {
-      template = tm.loadTemplate(TEXTUTF8_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, TEXTUTF8_TEMPLATE, map);
     }
 
     if (!m.getElementRef().isEmpty()) {
-      template = tm.loadTemplate(ELEMENTREF_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
     }
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
@@ -26,7 +26,6 @@
 package builder.codegen.blocks;
 
 import java.lang.StringBuilder;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -73,31 +72,21 @@ public final class ToggleButtonCodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     ToggleButtonModel m = (ToggleButtonModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
-    template = tm.loadTemplate(TOGGLE_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, TOGGLE_TEMPLATE, map);
 /*
     if ((!m.getFrameColor().equals(ToggleButtonModel.DEF_FRAME_COLOR)) ||
         (!m.getFillColor().equals(ToggleButtonModel.DEF_FILL_COLOR))  || 
         (!m.getSelectedColor().equals(ToggleButtonModel.DEF_SELECTED_COLOR))) {
-      template = tm.loadTemplate(COLOR_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, COLOR_TEMPLATE, map);
     }
 */
     String groupId = m.getGroupId();
     if (!groupId.equals("GSLC_GROUP_ID_NONE")) {
-      template = tm.loadTemplate(GROUP_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, GROUP_TEMPLATE, map);
     }
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
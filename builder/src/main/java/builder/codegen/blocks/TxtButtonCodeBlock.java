@@ -26,7 +26,6 @@
 package builder.codegen.blocks;
 
 import java.lang.StringBuilder;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -87,9 +86,7 @@ public final class TxtButtonCodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     TxtButtonModel m = (TxtButtonModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
     int ts = m.getTextStorage();
@@ -99,7 +96,6 @@ public final class TxtButtonCodeBlock implements CodeBlock {
     } else {
       templateName = TXTBUTTON_TEMPLATE;
     }
-    template = tm.loadTemplate(templateName);
 
     String fontName = m.getFontDisplayName();
     FontTFT font = FontFactory.getInstance().getFont(fontName);
@@ -109,63 +105,44 @@ public final class TxtButtonCodeBlock implements CodeBlock {
      */
     map.put(TEXT_MACRO, CodeUtils.createLiteral(font, "\"", m.getText()));
 
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, templateName, map);
     
     // now deal with any extra switches
     String strAlign = m.getAlignment();
     if (!strAlign.equals("GSLC_ALIGN_MID_MID")) {
-      template = tm.loadTemplate(ALIGN_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ALIGN_TEMPLATE, map);
     }
     if (m.getTextMargin() != 0) {
-      template = tm.loadTemplate(TEXTMARGIN_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, TEXTMARGIN_TEMPLATE, map);
     }
     if (!m.getTextColor().equals(TxtButtonModel.DEF_TEXT_COLOR)) {
-      template = tm.loadTemplate(TEXTCOLOR_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, TEXTCOLOR_TEMPLATE, map);
     }
     if ((!m.getFrameColor().equals(TxtButtonModel.DEF_FRAME_COLOR)) ||
         (!m.getFillColor().equals(TxtButtonModel.DEF_FILL_COLOR))  || 
         (!m.getSelectedColor().equals(TxtButtonModel.DEF_SELECTED_COLOR))) {
-      template = tm.loadTemplate(COLOR_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, COLOR_TEMPLATE, map);
     }
 
     if (m.isUTF8()) {
-      template = tm.loadTemplate(TEXTUTF8_TEMPLATE);
-      tm.codeWriter(sBd, template);
+      tm.codeWriter(sBd, TEXTUTF8_TEMPLATE);
     }
 
     if (m.isRoundedEn()) {
-      template = tm.loadTemplate(CORNERS_ROUNDED_TEMPLATE);
-      tm.codeWriter(sBd, template);
+      tm.codeWriter(sBd, CORNERS_ROUNDED_TEMPLATE);
     }
     
     if (!m.isFillEnabled()) {
-      template = tm.loadTemplate(FILL_EN_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, FILL_EN_TEMPLATE, map);
     }
     if (!m.isFrameEnabled()) {
-      template = tm.loadTemplate(FRAME_EN_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, FRAME_EN_TEMPLATE, map);
     }
 
     if (!m.getElementRef().isEmpty()) {
-      template = tm.loadTemplate(ELEMENTREF_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
     }
     
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
@@ -25,7 +25,6 @@
  */
 package builder.codegen.flash;
 
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -77,9 +76,7 @@ public class Box_P_CodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     BoxModel m = (BoxModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
     String templateName = BOX_TEMPLATE;
@@ -91,29 +88,21 @@ public class Box_P_CodeBlock implements CodeBlock {
       templateName = BOX_TICK_TEMPLATE;
     } 
     
-    template = tm.loadTemplate(templateName);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, templateName, map);
 
     if (m.isRoundedEn()) {
-      template = tm.loadTemplate(CORNERS_ROUNDED_TEMPLATE);
-      tm.codeWriter(sBd, template);
+      tm.codeWriter(sBd, CORNERS_ROUNDED_TEMPLATE);
     }
     
     if (m.isTouchEn()) {
-      template = tm.loadTemplate(TOUCH_EN_TEMPLATE);
-      tm.codeWriter(sBd, template);
+      tm.codeWriter(sBd, TOUCH_EN_TEMPLATE);
     }
     
     if (!m.getElementRef().isEmpty()) {
       // we need to do a gslc_PageFindElemById
-      template = tm.loadTemplate(ELEMENTREF_FIND_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_FIND_TEMPLATE, map);
     } 
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
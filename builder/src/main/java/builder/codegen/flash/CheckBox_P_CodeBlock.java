@@ -26,7 +26,6 @@
 package builder.codegen.flash;
 
 import java.lang.StringBuilder;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -75,12 +74,9 @@ public final class CheckBox_P_CodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     CheckBoxModel m = (CheckBoxModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
-    template = tm.loadTemplate(CHECKBOX_TEMPLATE);
 /*
     // member of group?
     String groupId = m.getGroupId();
@@ -88,24 +84,17 @@ public final class CheckBox_P_CodeBlock implements CodeBlock {
       tm.loadTemplate(CHECKBOX_GROUP_TEMPLATE);
     }
 */
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, CHECKBOX_TEMPLATE, map);
 
     if (!m.getElementRef().isEmpty()) {
       // we need to do a gslc_PageFindElemById
-      template = tm.loadTemplate(ELEMENTREF_FIND_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_FIND_TEMPLATE, map);
     } 
 
     if (m.isCallbackEn()) {
-      template = tm.loadTemplate(CHECKBOXSETSTATE_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, CHECKBOXSETSTATE_TEMPLATE, map);
     }
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
@@ -26,7 +26,6 @@
 package builder.codegen.flash;
 
 import java.lang.StringBuilder;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -81,12 +80,9 @@ public final class NumberInput_P_CodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     NumberInputModel m = (NumberInputModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
-    template = tm.loadTemplate(TEXT_INPUT_NUM_TEMPLATE);
     
     String fontName = m.getFontDisplayName();
     FontTFT font = FontFactory.getInstance().getFont(fontName);
@@ -96,22 +92,15 @@ public final class NumberInput_P_CodeBlock implements CodeBlock {
      */
     map.put(TEXT_MACRO, CodeUtils.createLiteral(font, "\"", m.getText()));
 
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, TEXT_INPUT_NUM_TEMPLATE, map);
     
     if (!m.getElementRef().isEmpty()) {
-      template = tm.loadTemplate(ELEMENTREF_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
       if (m.isUTF8()) {
-        template = tm.loadTemplate(TEXTUTF8_TEMPLATE);
-        outputLines = tm.expandMacros(template, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, TEXTUTF8_TEMPLATE, map);
       }
     }
     
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
@@ -25,7 +25,6 @@
  */
 package builder.codegen.flash;
 
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -72,24 +71,16 @@ public class ProgressBar_P_CodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     ProgressBarModel m = (ProgressBarModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
-    template = tm.loadTemplate(PROGRESSBAR_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, PROGRESSBAR_TEMPLATE, map);
 
     if (!m.getElementRef().isEmpty()) {
       // we need to do a gslc_PageFindElemById
-      template = tm.loadTemplate(ELEMENTREF_FIND_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_FIND_TEMPLATE, map);
     } 
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
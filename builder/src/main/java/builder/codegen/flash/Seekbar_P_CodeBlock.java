@@ -25,7 +25,6 @@
  */
 package builder.codegen.flash;
 
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -45,6 +44,7 @@ public class Seekbar_P_CodeBlock implements CodeBlock {
 
   /** The Constants for TEMPLATES. */
   private final static String SEEKBAR_TEMPLATE        = "<SEEKBAR_P>";
+  private final static String ELEMENTREF_TEMPLATE    = "<ELEMENT_REF>";
   private final static String SEEKBAR_STYLE_TEMPLATE = "<SEEKBAR_STYLE>";
   
   /**
@@ -72,25 +72,21 @@ public class Seekbar_P_CodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     SeekbarModel m = (SeekbarModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
-    template = tm.loadTemplate(SEEKBAR_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, SEEKBAR_TEMPLATE, map);
+
+    if (!m.getElementRef().isEmpty()) {
+      tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
+    }
     
     if ((m.isThumbTrim()  == true) ||
         (m.isThumbFrame() == true) ||
         (m.getDivisions() > 0) )      {
-      template = tm.loadTemplate(SEEKBAR_STYLE_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, SEEKBAR_STYLE_TEMPLATE, map);
     }
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
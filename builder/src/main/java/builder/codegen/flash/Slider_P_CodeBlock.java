@@ -25,7 +25,6 @@
  */
 package builder.codegen.flash;
 
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -45,6 +44,7 @@ public class Slider_P_CodeBlock implements CodeBlock {
 
   /** The Constants for TEMPLATES. */
   private final static String SLIDER_TEMPLATE        = "<SLIDER_P>";
+  private final static String ELEMENTREF_TEMPLATE    = "<ELEMENT_REF>";
   
   /**
    * Instantiates a new box code block.
@@ -71,17 +71,15 @@ public class Slider_P_CodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     SliderModel m = (SliderModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
-    template = tm.loadTemplate(SLIDER_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, SLIDER_TEMPLATE, map);
+
+    if (!m.getElementRef().isEmpty()) {
+      tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
+    }
     
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
@@ -26,7 +26,6 @@
 package builder.codegen.flash;
 
 import java.lang.StringBuilder;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -84,9 +83,7 @@ public final class Text_P_CodeBlock implements CodeBlock {
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
     TextModel m = (TextModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
     int ts = m.getTextStorage();
@@ -96,7 +93,6 @@ public final class Text_P_CodeBlock implements CodeBlock {
     } else {
       templateName = TEXT_TEMPLATE;
     }
-    template = tm.loadTemplate(templateName);
 
     String fontName = m.getFontDisplayName();
     FontTFT font = FontFactory.getInstance().getFont(fontName);
@@ -106,34 +102,23 @@ public final class Text_P_CodeBlock implements CodeBlock {
      */
     map.put(TEXT_MACRO, CodeUtils.createLiteral(font, "\"", m.getText()));
 
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, templateName, map);
     
     if (!m.isFillEnabled()) {
-      template = tm.loadTemplate(FILL_EN_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, FILL_EN_TEMPLATE, map);
     }
     if (m.isFrameEnabled()) {
-      template = tm.loadTemplate(FRAME_EN_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, FRAME_EN_TEMPLATE, map);
     }
 
     if (!m.getElementRef().isEmpty()) {
       // we need to do a gslc_PageFindElemById
-      template = tm.loadTemplate(ELEMENTREF_FIND_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_FIND_TEMPLATE, map);
       if (m.isUTF8()) {
-        template = tm.loadTemplate(TEXTUTF8_TEMPLATE);
-        outputLines = tm.expandMacros(template, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, TEXTUTF8_TEMPLATE, map);
       }
     } 
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
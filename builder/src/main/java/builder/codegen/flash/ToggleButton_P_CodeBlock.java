@@ -26,13 +26,12 @@
 package builder.codegen.flash;
 
 import java.lang.StringBuilder;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
 import builder.codegen.TemplateManager;
 import builder.codegen.blocks.CodeBlock;
-import builder.models.CheckBoxModel;
+import builder.models.ToggleButtonModel;
 import builder.models.WidgetModel;
 
 /**
@@ -46,10 +45,11 @@ public final class ToggleButton_P_CodeBlock implements CodeBlock {
 
   /** The Constants for TEMPLATES. */
   private final static String TOGGLE_TEMPLATE      = "<TOGGLEBUTTON_P>";
+  private final static String ELEMENTREF_TEMPLATE  = "<ELEMENT_REF>";
   private final static String GROUP_TEMPLATE = "<GROUP>";
 
   /**
-   * Instantiates a new check box code block.
+   * Instantiates a new toggle button code block.
    */
   public ToggleButton_P_CodeBlock() {
   }
@@ -72,26 +72,22 @@ public final class ToggleButton_P_CodeBlock implements CodeBlock {
    * @return the <code>string builder</code> object
    */
   static public StringBuilder process(CodeGenerator cg, TemplateManager tm, StringBuilder sBd, String pageEnum, WidgetModel wm) {
-    CheckBoxModel m = (CheckBoxModel)wm;
-    List<String> template = null;
-    List<String> outputLines = null;
-    Map<String, String> map = m.getMappedProperties(pageEnum);
+    ToggleButtonModel m = (ToggleButtonModel)wm;
+    Map<String, String> map = cg.getIndex().getMappedProperties(m, pageEnum);
 
     // now output creation API
-    template = tm.loadTemplate(TOGGLE_TEMPLATE);
-    outputLines = tm.expandMacros(template, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, TOGGLE_TEMPLATE, map);
+
+    if (!m.getElementRef().isEmpty()) {
+      tm.codeWriter(sBd, ELEMENTREF_TEMPLATE, map);
+    }
 
     String groupId = m.getGroupId();
     if (!groupId.equals("GSLC_GROUP_ID_NONE")) {
-      template = tm.loadTemplate(GROUP_TEMPLATE);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, GROUP_TEMPLATE, map);
     }
     
 
-    template.clear();
-    outputLines.clear();
     map.clear();
     return sBd;   
   }
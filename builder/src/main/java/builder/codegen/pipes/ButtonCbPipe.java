@@ -25,24 +25,19 @@
  */
 package builder.codegen.pipes;
 
-import java.io.BufferedReader;
-import java.io.IOException;
 import java.lang.StringBuilder;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 import builder.codegen.CodeGenException;
 import builder.codegen.CodeGenerator;
 import builder.codegen.CodeUtils;
+import builder.codegen.TaggedDocument;
 import builder.codegen.Tags;
 import builder.codegen.TemplateManager;
 import builder.common.EnumFactory;
-import builder.models.BoxModel;
 import builder.models.GeneralModel;
-import builder.models.ImageModel;
 import builder.models.ImgButtonModel;
 import builder.models.KeyPadModel;
 import builder.models.KeyPadTextModel;
@@ -85,10 +80,6 @@ public class ButtonCbPipe extends WorkFlowPipe {
   /** The template manager. */
   TemplateManager tm = null;
 
-  /** The regex word patterns */
-  private final static Pattern LTRIM = Pattern.compile("^\\s+");
-  private final static String EMPTY_STRING = "";
-
   /** Button Case Statement types */
   private final static int CT_UNDEFINED  = 0;
   private final static int CT_STANDARD   = 1;
@@ -101,11 +92,8 @@ public class ButtonCbPipe extends WorkFlowPipe {
   private final static int CT_UPDINPUTTXT = 8;
   private final static int CT_TOGGLEBTN   = 9;
 
-  /** The case statement map. */
-  HashMap<String, Integer> caseMap;
-  
-  /** The list of case statements. */
-  List<String>[] listOfCases = null;
+  /** The existing case statements. */
+  CaseIndex caseIndex = null;
 
   /**
    * Instantiates a new pipe.
@@ -115,6 +103,10 @@ public class ButtonCbPipe extends WorkFlowPipe {
    */
   public ButtonCbPipe(CodeGenerator cg) {
     this.cg = cg;
+    this.MY_TAG     = Tags.TAG_PREFIX + Tags.BUTTONCB_TAG + Tags.TAG_SUFFIX_START;
+    this.MY_END_TAG = Tags.TAG_PREFIX + Tags.BUTTONCB_TAG + Tags.TAG_SUFFIX_END;
+    this.MY_ENUM_TAG     = Tags.TAG_PREFIX + Tags.BUTTON_ENUMS_TAG + Tags.TAG_SUFFIX_START;
+    this.MY_ENUM_END_TAG = Tags.TAG_PREFIX + Tags.BUTTON_ENUMS_TAG + Tags.TAG_SUFFIX_END;
   }
   
   /**
@@ -138,13 +130,8 @@ public class ButtonCbPipe extends WorkFlowPipe {
    * @see builder.codegen.pipes.Pipe#process(java.lang.Object, java.lang.Object)
    */
   @Override
-  public StringBuilder process(StringBuilder input) throws CodeGenException {
-    this.MY_TAG     = Tags.TAG_PREFIX + Tags.BUTTONCB_TAG + Tags.TAG_SUFFIX_START;
-    this.MY_END_TAG = Tags.TAG_PREFIX + Tags.BUTTONCB_TAG + Tags.TAG_SUFFIX_END;
-    this.MY_ENUM_TAG     = Tags.TAG_PREFIX + Tags.BUTTON_ENUMS_TAG + Tags.TAG_SUFFIX_START;
-    this.MY_ENUM_END_TAG = Tags.TAG_PREFIX + Tags.BUTTON_ENUMS_TAG + Tags.TAG_SUFFIX_END;
-    
-    return super.processCB(input);
+  public TaggedDocument process(TaggedDocument doc) throws CodeGenException {
+    return super.processCB(doc);
         
   }
 
@@ -153,35 +140,14 @@ public class ButtonCbPipe extends WorkFlowPipe {
    *  Builds up a list of models that require a callback then calls 
    *  outputButtonCB with this list for the actual code generation.
    *
-   * @param br
-   *          the buffered reader of our project template input
-   * @param sBd
-   *          the StringBuilder object containing our project template
-   * @throws IOException
-   *           Signals that an I/O exception has occurred.
+   * @param region
+   *          the callback's tagged region of our project template
    */
   @Override
-  public void doCbCommon(BufferedReader br, StringBuilder sBd) throws IOException {
-    // build up a list of widget models that have button callbacks enabled
-    callbackList = new ArrayList<WidgetModel>();
-    for (WidgetModel m : cg.getModels()) {
-      if (m.getType().equals(EnumFactory.TEXTBUTTON)) {
-        callbackList.add(m);
-      } else if (m.getType().equals(EnumFactory.IMAGEBUTTON)) {
-        callbackList.add(m);
-      } else if (m.getType().equals(EnumFactory.TOGGLEBUTTON)) {
-        callbackList.add(m);
-      } else if (m.getType().equals(EnumFactory.IMAGE) && ((ImageModel)m).isTouchEn()) {
-        callbackList.add(m);
-      } else if (m.getType().equals(EnumFactory.NUMINPUT)) {
-        callbackList.add(m);
-      } else if (m.getType().equals(EnumFactory.TEXTINPUT)) {
-        callbackList.add(m);
-      } else if (m.getType().equals(EnumFactory.BOX) && ((BoxModel)m).isTouchEn()) {
-        callbackList.add(m);
-      }
-    }
-    super.doCbCommon(br, sBd);
+  public void doCbCommon(TaggedDocument.Section region) {
+    // grab our list of widget models that have button callbacks enabled
+    callbackList = cg.getIndex().getButtonCallbacks();
+    super.doCbCommon(region);
   }
   
    /**
@@ -201,12 +167,6 @@ public class ButtonCbPipe extends WorkFlowPipe {
     // we will add them all at once before we leave this routine
     StringBuilder sTemp = new StringBuilder();
     // create our callback section - start by opening our templates
-    List<String> templateStandard  = tm.loadTemplate(BUTTON_CASE_TEMPLATE);
-    List<String> templateChgPage   = tm.loadTemplate(BUTTON_CHGPG_TEMPLATE);
-    List<String> templateHidePopup = tm.loadTemplate(BUTTON_HIDE_TEMPLATE);
-    List<String> templateInput     = tm.loadTemplate(BUTTON_INPUT_TEMPLATE);
-    List<String> templateShowPopup = tm.loadTemplate(BUTTON_SHOW_TEMPLATE);
-    List<String> templateToggleBtn = tm.loadTemplate(BUTTON_TOGGLE_TEMPLATE);
     List<String> outputLines;
     Map<String, String> map = new HashMap<String, String>();
     for (WidgetModel m : callbackList) {
@@ -216,50 +176,49 @@ public class ButtonCbPipe extends WorkFlowPipe {
         if (((TxtButtonModel) m).getJumpPage() != null &&
             !((TxtButtonModel) m).getJumpPage().isEmpty()) {
           map.put(JUMPPAGE_ENUM_MACRO, ((TxtButtonModel) m).getJumpPage());
-          outputLines = tm.expandMacros(templateChgPage, map);
+          outputLines = tm.expandMacros(BUTTON_CHGPG_TEMPLATE, map);
         } else if (((TxtButtonModel) m).getPopupPage() != null && 
               !((TxtButtonModel) m).getPopupPage().isEmpty()) {
           map.put(POPUPPAGE_ENUM_MACRO, ((TxtButtonModel) m).getPopupPage());
-          outputLines = tm.expandMacros(templateShowPopup, map);
+          outputLines = tm.expandMacros(BUTTON_SHOW_TEMPLATE, map);
         } else if (((TxtButtonModel) m).isHidePopup()) {
-          outputLines = tm.expandMacros(templateHidePopup, map);
+          outputLines = tm.expandMacros(BUTTON_HIDE_TEMPLATE, map);
         } else {
-          outputLines = tm.expandMacros(templateStandard, map);
+          outputLines = tm.expandMacros(BUTTON_CASE_TEMPLATE, map);
         }
         tm.codeWriter(sTemp, outputLines);
       } else if (m.getType().equals(EnumFactory.IMAGEBUTTON)) {
         if (((ImgButtonModel) m).getJumpPage() != null && 
             !((ImgButtonModel) m).getJumpPage().isEmpty()) {
           map.put(JUMPPAGE_ENUM_MACRO, ((ImgButtonModel) m).getJumpPage());
-          outputLines = tm.expandMacros(templateChgPage, map);
+          outputLines = tm.expandMacros(BUTTON_CHGPG_TEMPLATE, map);
         } else if (((ImgButtonModel) m).getPopupPage() != null && 
             !((ImgButtonModel) m).getPopupPage().isEmpty()) {
           map.put(POPUPPAGE_ENUM_MACRO, ((ImgButtonModel) m).getPopupPage());
-          outputLines = tm.expandMacros(templateShowPopup, map);
+          outputLines = tm.expandMacros(BUTTON_SHOW_TEMPLATE, map);
         } else if (((ImgButtonModel) m).isHidePopup()) {
-          outputLines = tm.expandMacros(templateHidePopup, map);
+          outputLines = tm.expandMacros(BUTTON_HIDE_TEMPLATE, map);
         } else {
-          outputLines = tm.expandMacros(templateStandard, map);
+          outputLines = tm.expandMacros(BUTTON_CASE_TEMPLATE, map);
         }
         tm.codeWriter(sTemp, outputLines);
       } else if (m.getType().equals(EnumFactory.TOGGLEBUTTON)) {
         map.put(ELEMREF_MACRO, m.getElementRef());
-        outputLines = tm.expandMacros(templateToggleBtn, map);
-        tm.codeWriter(sTemp, outputLines);
+        tm.codeWriter(sTemp, BUTTON_TOGGLE_TEMPLATE, map);
       } else if (m.getType().equals(EnumFactory.NUMINPUT)) {
         map.put(ELEMREF_MACRO, m.getElementRef());
         map.put(KEY_ENUM_MACRO, km.getEnum());
         map.put(KEY_ELEMREF_MACRO, km.getElementRef());
-        outputLines = tm.expandMacros(templateInput, map);
+        outputLines = tm.expandMacros(BUTTON_INPUT_TEMPLATE, map);
         tm.codeWriter(sTemp, outputLines);
       } else if (m.getType().equals(EnumFactory.TEXTINPUT)) {
         map.put(ELEMREF_MACRO, m.getElementRef());
         map.put(KEY_ENUM_MACRO, ktm.getEnum());
         map.put(KEY_ELEMREF_MACRO, ktm.getElementRef());
-        outputLines = tm.expandMacros(templateInput, map);
+        outputLines = tm.expandMacros(BUTTON_INPUT_TEMPLATE, map);
         tm.codeWriter(sTemp, outputLines);
       } else {
-        outputLines = tm.expandMacros(templateStandard, map);
+        outputLines = tm.expandMacros(BUTTON_CASE_TEMPLATE, map);
         tm.codeWriter(sTemp, outputLines);
       }
     }
@@ -268,9 +227,7 @@ public class ButtonCbPipe extends WorkFlowPipe {
     map.clear();
     String sButtons = sTemp.toString();
     map.put(CALLBACK_MACRO, sButtons);
-    List<String> templateLines = tm.loadTemplate(BUTTON_CB_TEMPLATE);
-    outputLines = tm.expandMacros(templateLines, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, BUTTON_CB_TEMPLATE, map);
 
   }
 
@@ -279,14 +236,13 @@ public class ButtonCbPipe extends WorkFlowPipe {
    *  The callback already exists so we just process what is  
    *  between the BUTTON_ENUMS_TAG and BUTTON_ENUMS_END_TAG here.
    *
-   * @param br
-   *          the buffered reader of our project template input
+   * @param lines
+   *          the existing lines between our enum tags
    * @param sBd
    *          the StringBuilder object containing our project template output
    */
-  @SuppressWarnings("unchecked")
   @Override
-  public void doEnums(BufferedReader br, StringBuilder sBd) throws IOException {
+  public void doEnums(List<String> lines, StringBuilder sBd) {
     // setup for code generation
     KeyPadModel km = (KeyPadModel) NumKeyPadEditor.getInstance().getModel();
     KeyPadTextModel ktm = (KeyPadTextModel) AlphaKeyPadEditor.getInstance().getModel();
@@ -294,43 +250,18 @@ public class ButtonCbPipe extends WorkFlowPipe {
     GeneralModel gm = (GeneralModel) GeneralEditor.getInstance().getModel();
     // do we support round trip edits?
     boolean bPreserveCode = gm.isPreserveButtonCallbacks();
-    
-    listOfCases = new ArrayList[256];
 
     // setup our templates for outputs   
-    List<String> templateStandard = tm.loadTemplate(BUTTON_CASE_TEMPLATE);
-    List<String> templateChgPage = tm.loadTemplate(BUTTON_CHGPG_TEMPLATE);
-    List<String> templateHidePopup = tm.loadTemplate(BUTTON_HIDE_TEMPLATE);
-    List<String> templateInput     = tm.loadTemplate(BUTTON_INPUT_TEMPLATE);
-    List<String> templateShowPopup = tm.loadTemplate(BUTTON_SHOW_TEMPLATE);
-    List<String> templateToggleBtn = tm.loadTemplate(BUTTON_TOGGLE_TEMPLATE);
     List<String> outputLines;
     Map<String, String> map = new HashMap<String,String>();
 
-    // build up a list of widget models that have button callbacks enabled
-    callbackList = new ArrayList<WidgetModel>();
-    for (WidgetModel m : cg.getModels()) {
-      if (m.getType().equals(EnumFactory.TEXTBUTTON)) {
-        callbackList.add(m);
-      } else if (m.getType().equals(EnumFactory.IMAGEBUTTON)) {
-        callbackList.add(m);
-      } else if (m.getType().equals(EnumFactory.TOGGLEBUTTON)) {
-        callbackList.add(m);
-      } else if (m.getType().equals(EnumFactory.NUMINPUT)) {
-        callbackList.add(m);
-      } else if (m.getType().equals(EnumFactory.TEXTINPUT)) {
-        callbackList.add(m);
-      } else if (m.getType().equals(EnumFactory.IMAGE) && ((ImageModel)m).isTouchEn()) {
-        callbackList.add(m);
-      } else if (m.getType().equals(EnumFactory.BOX) && ((BoxModel)m).isTouchEn()) {
-        callbackList.add(m);
-      }
-    }
+    // grab our list of widget models that have button callbacks enabled
+    callbackList = cg.getIndex().getButtonCallbacks();
     /* our callback section already exists - read it into a buffers so we can scan 
      * it for existing Enum case statements. 
      * This will allow us to determine if a case statement for an ENUM needs updating.
      */
-    storeCaseStatements(br);
+    storeCaseStatements(lines);
     /* now search the callback list and for each model
      * check for an existing case statement in our saved buffers.
      * If none, just do the output.
@@ -349,17 +280,17 @@ public class ButtonCbPipe extends WorkFlowPipe {
       // now examine the model and determine the case type to be generated
       CaseInfo modelInfo = getCaseType(m);
       // lookup our enum to see if we have an existing case statement
-      int idx = -1;
+      List<String> caseLines = null;
       if (bPreserveCode) {
-        idx = findCaseStatement(e);
+        caseLines = findCaseStatement(e);
       }
-      if (idx != -1) {
+      if (caseLines != null) {
         /* fail-safe if model hasn't changed in this session 
          * leave case statements alone.
          */
         if (!modelInfo.isModelChanged()) {
           // output what we have stored
-          outputLines = listOfCases[idx];
+          outputLines = caseLines;
           tm.codeWriter(sBd, outputLines);
           bNeedOutput = false;
         } else {
@@ -369,27 +300,27 @@ public class ButtonCbPipe extends WorkFlowPipe {
          * matches just output the stored source code in case user has modified it. This
          * makes round trip edits possible.
          */
-        CaseInfo oldInfo = parseCaseType(e, idx);
+        CaseInfo oldInfo = parseCaseType(e, caseLines);
         switch (modelInfo.getCaseType()) {
         case CT_UNDEFINED: 
           break;
         case CT_STANDARD:
           // output what we have stored
-          outputLines = listOfCases[idx];
+          outputLines = caseLines;
           tm.codeWriter(sBd, outputLines);
           bNeedOutput = false;
           break;
         case CT_CHGPAGE:
           if (oldInfo.getCaseType() == CT_CHGPAGE) {
             if (oldInfo.getPageEnum().equals(modelInfo.getPageEnum())) {
-              outputLines = listOfCases[idx];
+              outputLines = caseLines;
               tm.codeWriter(sBd, outputLines);
               bNeedOutput = false;
             } else {
               if (oldInfo.getLineNo() > -1) { 
                 // output what is stored but replace the one line that is wrong
                 replacement = String.format("        gslc_SetPageCur(&m_gui, %s);", modelInfo.getPageEnum());
-                outputLines = listOfCases[idx];
+                outputLines = caseLines;
                 tm.codeReplaceLine(sBd, outputLines, replacement, 
                     oldInfo.getLineNo(), oldInfo.getLineNo());
                 bNeedOutput = false;
@@ -399,7 +330,7 @@ public class ButtonCbPipe extends WorkFlowPipe {
             if (oldInfo.getLineNo() > -1) { 
               // output what is stored but replace the one line that is wrong
               replacement = String.format("        gslc_SetPageCur(&m_gui, %s);", modelInfo.getPageEnum());
-              outputLines = listOfCases[idx];
+              outputLines = caseLines;
               tm.codeReplaceLine(sBd, outputLines, replacement, 
                   oldInfo.getLineNo(), oldInfo.getLineNo());
               bNeedOutput = false;
@@ -408,7 +339,7 @@ public class ButtonCbPipe extends WorkFlowPipe {
             if (oldInfo.getLineNo() > -1) { 
               // output what is stored but replace the one line that is wrong
               replacement = String.format("        gslc_SetPageCur(&m_gui, %s);", modelInfo.getPageEnum());
-              outputLines = listOfCases[idx];
+              outputLines = caseLines;
               tm.codeAppendLine(sBd, outputLines, replacement);
               bNeedOutput = false;
             }
@@ -417,14 +348,14 @@ public class ButtonCbPipe extends WorkFlowPipe {
         case CT_INPUTNUM:
           if (oldInfo.getCaseType() == CT_INPUTNUM) {
             if (oldInfo.getElementRef().equals(modelInfo.getElementRef())) {
-              outputLines = listOfCases[idx];
+              outputLines = caseLines;
               tm.codeWriter(sBd, outputLines);
               bNeedOutput = false;
             }
           }
           if (oldInfo.getCaseType() == CT_UPDINPUTNUM) {
             if (oldInfo.getElementRef().equals(modelInfo.getElementRef())) {
-              outputLines = listOfCases[idx];
+              outputLines = caseLines;
               // our old input template was 4 lines long, if match reduce to one line
               if (oldInfo.getLineNo()+3 <= oldInfo.getStopNo()) {
                 replacement = String.format("        gslc_ElemXKeyPadInputAsk(&m_gui, %s, %s, %s);", 
@@ -441,14 +372,14 @@ public class ButtonCbPipe extends WorkFlowPipe {
         case CT_INPUTTXT:
           if (oldInfo.getCaseType() == CT_INPUTTXT) {
             if (oldInfo.getElementRef().equals(modelInfo.getElementRef())) {
-              outputLines = listOfCases[idx];
+              outputLines = caseLines;
               tm.codeWriter(sBd, outputLines);
               bNeedOutput = false;
             }
           }
           if (oldInfo.getCaseType() == CT_UPDINPUTTXT) {
             if (oldInfo.getElementRef().equals(modelInfo.getElementRef())) {
-              outputLines = listOfCases[idx];
+              outputLines = caseLines;
               // our old input template was 4 lines long, if match reduce to one line
               if (oldInfo.getLineNo()+3 <= oldInfo.getStopNo()) {
                 replacement = String.format("        gslc_ElemXKeyPadInputAsk(&m_gui, %s, %s, %s);", 
@@ -465,14 +396,14 @@ public class ButtonCbPipe extends WorkFlowPipe {
         case CT_SHOWPOPUP:
           if (oldInfo.getCaseType() == CT_SHOWPOPUP) {
             if (oldInfo.getPageEnum().equals(modelInfo.getPageEnum())) {
-              outputLines = listOfCases[idx];
+              outputLines = caseLines;
               tm.codeWriter(sBd, outputLines);
               bNeedOutput = false;
             } else {
               if (oldInfo.getLineNo() > -1) { 
                 // output what is stored but replace the one line that is wrong
                 replacement = String.format("        gslc_PopupShow(&m_gui, %s);", modelInfo.getPageEnum());
-                outputLines = listOfCases[idx];
+                outputLines = caseLines;
                 tm.codeReplaceLine(sBd, outputLines, replacement, 
                     oldInfo.getLineNo(), oldInfo.getLineNo());
                 bNeedOutput = false;
@@ -482,7 +413,7 @@ public class ButtonCbPipe extends WorkFlowPipe {
             if (oldInfo.getLineNo() > -1) { 
               // output what is stored but replace the one line that is wrong
               replacement = String.format("        gslc_PopupShow(&m_gui, %s);", modelInfo.getPageEnum());
-              outputLines = listOfCases[idx];
+              outputLines = caseLines;
               tm.codeReplaceLine(sBd, outputLines, replacement, 
                   oldInfo.getLineNo(), oldInfo.getLineNo());
               bNeedOutput = false;
@@ -491,7 +422,7 @@ public class ButtonCbPipe extends WorkFlowPipe {
             if (oldInfo.getLineNo() > -1) { 
               // output what is stored but replace the one line that is wrong
               replacement = String.format("        gslc_PopupShow(&m_gui, %s);", modelInfo.getPageEnum());
-              outputLines = listOfCases[idx];
+              outputLines = caseLines;
               tm.codeAppendLine(sBd, outputLines, replacement);
               bNeedOutput = false;
             }
@@ -499,7 +430,7 @@ public class ButtonCbPipe extends WorkFlowPipe {
           break;
         case CT_HIDEPOPUP:
           if (oldInfo.getCaseType() == CT_HIDEPOPUP) {
-            outputLines = listOfCases[idx];
+            outputLines = caseLines;
             tm.codeWriter(sBd, outputLines);
             bNeedOutput = false;
           }
@@ -507,7 +438,7 @@ public class ButtonCbPipe extends WorkFlowPipe {
         case CT_TOGGLEBTN:
           if (oldInfo.getCaseType() == CT_TOGGLEBTN) {
             if (oldInfo.getElementRef().equals(modelInfo.getElementRef())) {
-              outputLines = listOfCases[idx];
+              outputLines = caseLines;
               tm.codeWriter(sBd, outputLines);
               bNeedOutput = false;
             }
@@ -524,41 +455,34 @@ public class ButtonCbPipe extends WorkFlowPipe {
         case CT_UNDEFINED: // better not happen
           break;
         case CT_STANDARD:
-          outputLines = tm.expandMacros(templateStandard, map);
-          tm.codeWriter(sBd, outputLines);
+          tm.codeWriter(sBd, BUTTON_CASE_TEMPLATE, map);
           break;
         case CT_CHGPAGE:
           map.put(JUMPPAGE_ENUM_MACRO, modelInfo.getPageEnum());
-          outputLines = tm.expandMacros(templateChgPage, map);
-          tm.codeWriter(sBd, outputLines);
+          tm.codeWriter(sBd, BUTTON_CHGPG_TEMPLATE, map);
           break;
         case CT_INPUTNUM:
           map.put(ELEMREF_MACRO, modelInfo.getElementRef());
           map.put(KEY_ENUM_MACRO, km.getEnum());
           map.put(KEY_ELEMREF_MACRO, km.getElementRef());
-          outputLines = tm.expandMacros(templateInput, map);
-          tm.codeWriter(sBd, outputLines);
+          tm.codeWriter(sBd, BUTTON_INPUT_TEMPLATE, map);
           break;
         case CT_INPUTTXT:
           map.put(ELEMREF_MACRO, modelInfo.getElementRef());
           map.put(KEY_ENUM_MACRO, ktm.getEnum());
           map.put(KEY_ELEMREF_MACRO, ktm.getElementRef());
-          outputLines = tm.expandMacros(templateInput, map);
-          tm.codeWriter(sBd, outputLines);
+          tm.codeWriter(sBd, BUTTON_INPUT_TEMPLATE, map);
           break;
         case CT_SHOWPOPUP:
           map.put(POPUPPAGE_ENUM_MACRO, modelInfo.getPageEnum());
-          outputLines = tm.expandMacros(templateShowPopup, map);
-          tm.codeWriter(sBd, outputLines);
+          tm.codeWriter(sBd, BUTTON_SHOW_TEMPLATE, map);
           break;
         case CT_HIDEPOPUP:
-          outputLines = tm.expandMacros(templateHidePopup, map);
-          tm.codeWriter(sBd, outputLines);
+          tm.codeWriter(sBd, BUTTON_HIDE_TEMPLATE, map);
           break;
         case CT_TOGGLEBTN:
           map.put(ELEMREF_MACRO, modelInfo.getElementRef());
-          outputLines = tm.expandMacros(templateToggleBtn, map);
-          tm.codeWriter(sBd, outputLines);
+          tm.codeWriter(sBd, BUTTON_TOGGLE_TEMPLATE, map);
           break;
         }
       }
@@ -567,66 +491,14 @@ public class ButtonCbPipe extends WorkFlowPipe {
   }    
 
   /**
-   * storeCaseStatements - read all existing case statements in the source code
-   * and store them in buffers.  Keep a map of them for fast lookups.
+   * storeCaseStatements - index all existing case statements in the source code
+   * by enum for fast lookups.
    *
-   * @param br
-   *          the BufferedReader br
-   * @throws IOException
-   *           the code gen exception
+   * @param inputLines
+   *          the existing lines between our enum tags
    */
-  public void storeCaseStatements(BufferedReader br) throws IOException {
-    caseMap = new HashMap<String, Integer>(64);
-    String scan = "";
-    String enumName = "";
-    int i = 0;
-    String sTestTag= "";
-    // read everything into an array first so we can go backwards if needed
-    List<String> inputLines = new ArrayList<String>();
-    while((scan = br.readLine()) != null) {
-      sTestTag = LTRIM.matcher(scan).replaceAll(EMPTY_STRING);
-      if (sTestTag.equals(MY_ENUM_END_TAG)) 
-        break;
-      inputLines.add(scan);
-    } 
-    int nState = 0;
-    List<String> lines = null;
-    for (int n=0; n<inputLines.size(); n++) {
-      scan = inputLines.get(n);
-      // break the line up into words
-      if (scan.isEmpty()) continue;
-      String[] words = CodeUtils.splitWords(scan);
-      if (words.length == 0) {
-        if (nState == 1) {
-          lines.add(scan);
-        }
-        continue;
-      }
-      // first word must be "case"
-      if (words[0].equals("case")) {
-        if (nState == 0) {
-          enumName = words[1];
-          lines = new ArrayList<String>();
-          nState = 1;
-        } else {
-          caseMap.put(enumName, i);
-          listOfCases[i] = lines;
-//          Builder.logger.debug("Stored Case Statement: " + enumName + " idx=" + i);
-          i++;
-          nState = 0;
-          n--;
-        }
-      }
-      if (nState == 1) {
-        lines.add(scan);
-      }
-    }
-    if (nState == 1) {
-      caseMap.put(enumName, i);
-      listOfCases[i] = lines;
-//      Builder.logger.debug("Stored Case Statement: " + enumName + " idx=" + i);
-      i++;
-    }
+  public void storeCaseStatements(List<String> inputLines) {
+    caseIndex = new CaseIndex(inputLines);
   }
 
   /**
@@ -634,15 +506,14 @@ public class ButtonCbPipe extends WorkFlowPipe {
    *
    * @param caseEnum
    *          the caseEnum name
-   * @return the index into our list of case statements
+   * @return the lines of our case statement or null if none exists
    */
-  public int findCaseStatement(String caseEnum) {
-    Integer idx = Integer.valueOf(-1);  
-    if (caseMap.containsKey(caseEnum)) {
-      idx = caseMap.get(caseEnum);
+  public List<String> findCaseStatement(String caseEnum) {
+    CaseIndex.Case c = caseIndex.find(caseEnum);
+    if (c == null) {
+      return null;
     }
-    
-    return idx.intValue();
+    return caseIndex.getLines(c);
   }
   
   public CaseInfo getCaseType(WidgetModel m) {
@@ -689,10 +560,9 @@ public class ButtonCbPipe extends WorkFlowPipe {
     return ci;
   }
 
-  public CaseInfo parseCaseType(String e, int idx) {
+  public CaseInfo parseCaseType(String e, List<String> caseList) {
     CaseInfo ci = new CaseInfo(e);      
     ci.setCaseType(CT_STANDARD);
-    List<String> caseList = listOfCases[idx];
     int n =-1;
     for (String line : caseList) {
       n++;
@@ -0,0 +1,182 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen.pipes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import builder.codegen.CodeCache;
+import builder.codegen.CodeGenException;
+import builder.codegen.CodeGenProfile;
+import builder.codegen.CodeGenerator;
+import builder.codegen.TaggedDocument;
+import builder.controller.Controller;
+import builder.models.ProjectModel;
+
+/**
+ * The Class CachedPipe wraps one of our workflow pipes so that 
+ * its regions are only regenerated when their inputs change.
+ * <p>
+ * A pipe's output depends on the project's models and settings,
+ * which CodeGenerator fingerprints once per run, and for callback pipes
+ * on the current contents of the regions they own, since they merge
+ * user's code back in. If none of these changed since the last run
+ * we simply replay the regions we output last time.
+ * </p>
+ * <p>
+ * Pipes may run on fork join worker threads so we also bind our
+ * generator's project model to whichever thread runs the pipe.
+ * </p>
+ * <p>
+ * Each run of our pipe is timed and added to the generator's 
+ * <code>CodeGenProfile</code>, and reported to its progress listener.
+ * Our pipe is skipped once our user cancels the run.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public class CachedPipe implements Pipe<TaggedDocument> {
+
+  /** The pipe doing the real work. */
+  private final WorkFlowPipe pipe;
+
+  /** The cg. */
+  private final CodeGenerator cg;
+
+  /**
+   * Instantiates a new cached pipe.
+   *
+   * @param cg
+   *          the cg
+   * @param pipe
+   *          the pipe to wrap
+   */
+  public CachedPipe(CodeGenerator cg, WorkFlowPipe pipe) {
+    this.cg = cg;
+    this.pipe = pipe;
+  }
+
+  /**
+   * process
+   *
+   * @see builder.codegen.pipes.Pipe#process(java.lang.Object)
+   */
+  @Override
+  public TaggedDocument process(TaggedDocument doc) throws CodeGenException {
+    cg.checkCancelled();
+    CodeGenProfile profile = cg.getProfile();
+    CodeGenProfile.Stage stage = null;
+    if (profile != null) {
+      stage = profile.begin(pipe.getClass().getSimpleName(), cg.getOutputName());
+    }
+    ProjectModel prev = Controller.bindProjectModel(cg.getProjectModel());
+    try {
+      boolean bCached = processCached(doc);
+      if (stage != null) {
+        profile.end(stage, countChars(doc), bCached);
+      }
+      cg.pipeDone(pipe.getClass().getSimpleName());
+      return doc;
+    } finally {
+      Controller.bindProjectModel(prev);
+    }
+  }
+
+  /**
+   * Run our pipe unless its regions can be replayed.
+   *
+   * @param doc
+   *          the document
+   * @return true if our regions were replayed from cache
+   * @throws CodeGenException
+   *           the code gen exception
+   */
+  private boolean processCached(TaggedDocument doc) throws CodeGenException {
+    if (!cg.isIncremental()) {
+      pipe.process(doc);
+      return false;
+    }
+    List<TaggedDocument.Section> regions = new ArrayList<TaggedDocument.Section>();
+    if (pipe.MY_ENUM_TAG != null) {
+      regions.addAll(doc.findRegions(pipe.MY_ENUM_TAG));
+    }
+    regions.addAll(doc.findRegions(pipe.MY_TAG));
+    if (regions.isEmpty()) {
+      // let our pipe report the missing tag
+      pipe.process(doc);
+      return false;
+    }
+    String name = pipe.getClass().getSimpleName() + ":" + cg.getOutputName();
+    CodeCache.Fingerprint fp = new CodeCache.Fingerprint();
+    fp.add(cg.getInputKey());
+    for (TaggedDocument.Section region : regions) {
+      fp.add(String.valueOf(region.getIndex()));
+      fp.add(region.getHead());
+      fp.add(region.getTail());
+      // only callback pipes merge the existing code back into their output
+      if (pipe.MY_ENUM_TAG != null) {
+        fp.add(region.getLines());
+      }
+    }
+    String key = fp.toString();
+    List<TaggedDocument.State> states = cg.getRegionCache().get(name, key);
+    if (states != null) {
+      for (int i = 0; i < regions.size(); i++) {
+        regions.get(i).setState(states.get(i));
+      }
+      return true;
+    }
+    pipe.process(doc);
+    states = new ArrayList<TaggedDocument.State>(regions.size());
+    for (TaggedDocument.Section region : regions) {
+      states.add(region.getState());
+    }
+    cg.getRegionCache().put(name, key, states);
+    return false;
+  }
+
+  /**
+   * Count the characters our pipe output into its regions.
+   *
+   * @param doc
+   *          the document
+   * @return the number of characters
+   */
+  private long countChars(TaggedDocument doc) {
+    long chars = 0;
+    if (pipe.MY_ENUM_TAG != null) {
+      for (TaggedDocument.Section region : doc.findRegions(pipe.MY_ENUM_TAG)) {
+        chars += region.getBodyLength();
+      }
+    }
+    for (TaggedDocument.Section region : doc.findRegions(pipe.MY_TAG)) {
+      chars += region.getBodyLength();
+    }
+    return chars;
+  }
+
+}
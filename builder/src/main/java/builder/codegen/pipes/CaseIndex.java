@@ -0,0 +1,300 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen.pipes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Class CaseIndex indexes the case statements of an existing
+ * callback's switch so our callback pipes can merge in their changes.
+ * <p>
+ * The lines between a callback's enum tags are scanned once. 
+ * Every line whose first word is <code>case</code> starts a new 
+ * <code>Case</code> which runs until the next case statement. 
+ * We also note the first line after it holding a <code>break</code>
+ * statement since that is where a deleted case statement ends.
+ * Cases are kept in source order and hashed by their enum.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public class CaseIndex {
+
+  /** The Constant CASE_WORD. */
+  private final static String CASE_WORD  = "case";
+  
+  /** The Constant BREAK_WORD. */
+  private final static String BREAK_WORD = "break";
+  
+  /** The existing lines. */
+  private final List<String> lines;
+  
+  /** The cases in source order. */
+  private final List<Case> cases = new ArrayList<Case>();
+  
+  /** The cases keyed by enum, the last one wins for duplicates. */
+  private final Map<String, Case> caseMap = new HashMap<String, Case>();
+
+  /**
+   * Instantiates a new case index.
+   *
+   * @param lines
+   *          the existing lines between our enum tags
+   */
+  public CaseIndex(List<String> lines) {
+    this.lines = lines;
+    int nPending = 0; // cases still waiting for their break statement
+    for (int n=0; n<lines.size(); n++) {
+      String s = lines.get(n);
+      if (s.isEmpty()) continue;
+      if (nPending > 0 && hasWord(s, BREAK_WORD)) {
+        for (int i=cases.size()-nPending; i<cases.size(); i++) {
+          cases.get(i).nBreak = n;
+        }
+        nPending = 0;
+      }
+      int[] word = nextWord(s, 0);
+      if (word == null || !s.regionMatches(word[0], CASE_WORD, 0, word[1]-word[0]) 
+          || word[1]-word[0] != CASE_WORD.length()) {
+        continue;
+      }
+      String enumName = null;
+      word = nextWord(s, word[1]);
+      if (word != null) {
+        enumName = s.substring(word[0], word[1]);
+      }
+      if (!cases.isEmpty()) {
+        cases.get(cases.size()-1).nEnd = n;
+      }
+      Case c = new Case(enumName, n);
+      cases.add(c);
+      nPending++;
+      if (enumName != null) {
+        caseMap.put(enumName, c);
+      }
+    }
+    if (!cases.isEmpty()) {
+      cases.get(cases.size()-1).nEnd = lines.size();
+    }
+  }
+
+  /**
+   * Gets the cases.
+   *
+   * @return the unmodifiable <code>list</code> of cases in source order
+   */
+  public List<Case> getCases() {
+    return Collections.unmodifiableList(cases);
+  }
+
+  /**
+   * Find the case statement for an enum.
+   *
+   * @param enumName
+   *          the enum
+   * @return the <code>Case</code> object or null if none exists
+   */
+  public Case find(String enumName) {
+    return caseMap.get(enumName);
+  }
+
+  /**
+   * Gets the lines of a case statement without any blank lines.
+   *
+   * @param c
+   *          the case
+   * @return the <code>list</code> of lines
+   */
+  public List<String> getLines(Case c) {
+    List<String> list = new ArrayList<String>(c.nEnd - c.nStart);
+    for (int n=c.nStart; n<c.nEnd; n++) {
+      String s = lines.get(n);
+      if (!s.isEmpty()) {
+        list.add(s);
+      }
+    }
+    return list;
+  }
+
+  /**
+   * Write out our lines in one pass dropping every case statement 
+   * whose enum isn't live, from its case line up to and including 
+   * its break statement. 
+   *
+   * @param sBd
+   *          the output
+   * @param liveEnums
+   *          the enums whose case statements are kept
+   * @return the <code>list</code> of cases written out
+   */
+  public List<Case> writeLive(StringBuilder sBd, Map<String, ?> liveEnums) {
+    List<Case> kept = new ArrayList<Case>(cases.size());
+    int n = 0;
+    for (Case c : cases) {
+      if (c.nStart < n) continue; // swallowed by a deleted case
+      append(sBd, n, c.nStart);
+      if (c.enumName != null && liveEnums.containsKey(c.enumName)) {
+        kept.add(c);
+        n = c.nStart;
+      } else {
+        n = (c.nBreak < 0) ? lines.size() : c.nBreak + 1;
+      }
+    }
+    append(sBd, n, lines.size());
+    return kept;
+  }
+
+  /**
+   * Append a run of our lines to the output.
+   *
+   * @param sBd
+   *          the output
+   * @param from
+   *          the first line
+   * @param to
+   *          the line to stop before
+   */
+  private void append(StringBuilder sBd, int from, int to) {
+    for (int n=from; n<to; n++) {
+      sBd.append(lines.get(n));
+      sBd.append(System.lineSeparator());
+    }
+  }
+
+  /**
+   * Find the next word, a letter followed by letters, digits or underscores.
+   *
+   * @param s
+   *          the line
+   * @param from
+   *          the position to search from
+   * @return the start and end of the word or null if none
+   */
+  private static int[] nextWord(String s, int from) {
+    int len = s.length();
+    int start = from;
+    while (start < len && !isLetter(s.charAt(start))) {
+      start++;
+    }
+    if (start >= len) return null;
+    int end = start + 1;
+    while (end < len && isWordChar(s.charAt(end))) {
+      end++;
+    }
+    return new int[] { start, end };
+  }
+
+  /**
+   * Test if a line holds a word not part of a longer identifier.
+   *
+   * @param s
+   *          the line
+   * @param word
+   *          the word
+   * @return true, if found
+   */
+  private static boolean hasWord(String s, String word) {
+    int idx = s.indexOf(word);
+    while (idx >= 0) {
+      int end = idx + word.length();
+      if ((idx == 0 || !isWordChar(s.charAt(idx-1))) &&
+          (end == s.length() || !isWordChar(s.charAt(end)))) {
+        return true;
+      }
+      idx = s.indexOf(word, idx + 1);
+    }
+    return false;
+  }
+
+  /**
+   * Checks for an ASCII letter.
+   *
+   * @param c
+   *          the character
+   * @return true, if a letter
+   */
+  private static boolean isLetter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  /**
+   * Checks for a character that may appear inside a word.
+   *
+   * @param c
+   *          the character
+   * @return true, if a letter, digit or underscore
+   */
+  private static boolean isWordChar(char c) {
+    return isLetter(c) || (c >= '0' && c <= '9') || c == '_';
+  }
+
+  /**
+   * The Class Case is one existing case statement.
+   */
+  public static class Case {
+    
+    /** The enum, null if the case line had none. */
+    private final String enumName;
+    
+    /** The line holding our case statement. */
+    private final int nStart;
+    
+    /** The line after our last line. */
+    private int nEnd;
+    
+    /** The first line after our case statement holding a break, -1 if none. */
+    private int nBreak = -1;
+
+    /**
+     * Instantiates a new case.
+     *
+     * @param enumName
+     *          the enum
+     * @param nStart
+     *          the line holding our case statement
+     */
+    Case(String enumName, int nStart) {
+      this.enumName = enumName;
+      this.nStart = nStart;
+      this.nEnd = nStart + 1;
+    }
+
+    /**
+     * Gets the enum.
+     *
+     * @return the enum
+     */
+    public String getEnum() {
+      return enumName;
+    }
+  }
+
+}
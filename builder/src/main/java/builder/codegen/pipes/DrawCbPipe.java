@@ -25,25 +25,14 @@
  */
 package builder.codegen.pipes;
 
-import java.io.ByteArrayInputStream;
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.IOException;
 import java.lang.StringBuilder;
-import java.nio.charset.StandardCharsets;
 
-import java.util.List;
-import java.util.regex.Pattern;
 
 import builder.codegen.CodeGenException;
 import builder.codegen.CodeGenerator;
-import builder.codegen.CodeUtils;
+import builder.codegen.TaggedDocument;
 import builder.codegen.Tags;
 import builder.codegen.TemplateManager;
-import builder.common.EnumFactory;
-import builder.models.BoxModel;
-import builder.models.WidgetModel;
 
 /**
  * The Class DrawCbPipe handles code generation
@@ -58,8 +47,6 @@ public class DrawCbPipe extends WorkFlowPipe {
 
   /** The Constants for templates. */
   private final static String DRAW_CB_TEMPLATE     = "<DRAWBOX_CB>";
-  private final static Pattern LTRIM = Pattern.compile("^\\s+");
-  private final static String EMPTY_STRING = "";
   
   /** The template manager. */
   TemplateManager tm = null;
@@ -89,74 +76,36 @@ public class DrawCbPipe extends WorkFlowPipe {
    * @see builder.codegen.pipes.Pipe#process(java.lang.Object, java.lang.Object)
    */
   @Override
-  public StringBuilder process(StringBuilder input) throws CodeGenException {
-    try {
-      /*
-       * To convert StringBuilder to InputStream in Java, first get bytes
-       * from StringBuilder after converting it into String object.
-       */
-      byte[] bytes = input.toString().getBytes(StandardCharsets.UTF_8);
-      /*
-       * Get ByteArrayInputStream from byte array.
-       */
-      InputStream is = new ByteArrayInputStream(bytes);
-      BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
-      StringBuilder processed = new StringBuilder();
-      String sTestTag= "";
-      while ((line = br.readLine()) != null) {
-        sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-        if (sTestTag.equals(MY_TAG)) {
-          doCallback(br, processed);
-          break;
-        } else {
-          processed.append(line);
-          processed.append(System.lineSeparator());
-        }
-      }
-      CodeUtils.finishUp(br, processed);
-      br.close();
-      return processed;   
-    } catch (IOException e) {
-      throw new CodeGenException(e.toString());
-    }      
+  public TaggedDocument process(TaggedDocument doc) throws CodeGenException {
+    TaggedDocument.Section region = doc.findRegion(MY_TAG);
+    if (region != null) {
+      doCallback(region);
+    }
+    return doc;   
   }
 
   /**
    * doCallback
-   * @param br
-   *          the buffered reader of our project template input
-   * @param sBd
-   *          the StringBuilder object containing our project template
-   * @throws IOException
-   *           Signals that an I/O exception has occurred.
+   * @param region
+   *          the callback's tagged region of our project template
    */
-  public void doCallback(BufferedReader br, StringBuilder sBd) throws IOException {
+  public void doCallback(TaggedDocument.Section region) {
     tm = cg.getTemplateManager();
     
-    // search the models for any BOX widget that has a callback.
-    boolean bFoundDrawFunc = false;
-    for (WidgetModel m : cg.getModels()) {
-      if (m.getType().equals(EnumFactory.BOX) && ((BoxModel) m).hasDrawFunc()) {
-        bFoundDrawFunc = true;
-      }
-    }
+    // our project index knows if any BOX widget has a callback.
+    boolean bFoundDrawFunc = cg.getIndex().hasDrawCallback();
     if (!bFoundDrawFunc) {
-      sBd.append(MY_TAG); 
-      sBd.append(System.lineSeparator()); 
+      region.setHead(MY_TAG); 
       return;      
     }
     
     // now create the callback
     tm = cg.getTemplateManager();
-    List<String> templateStandard = tm.loadTemplate(DRAW_CB_TEMPLATE);
-    tm.codeWriter(sBd, templateStandard);
+    StringBuilder sBd = new StringBuilder();
+    tm.codeWriter(sBd, DRAW_CB_TEMPLATE);
 
-    // now remove the existing DRAWCB_END_TAG
-    String sTestTag= "";
-    while ((line = br.readLine()) != null) {
-      sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-      if (sTestTag.equals(MY_END_TAG)) break;
-    }
+    // our callback replaces the existing tags
+    region.replace(sBd);
 
   }
   
@@ -32,14 +32,16 @@ import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
+import builder.codegen.CodePage;
 import builder.codegen.CodeUtils;
+import builder.codegen.MemoryEstimator;
+import builder.codegen.PageUnits;
 import builder.codegen.Tags;
 import builder.codegen.TemplateManager;
 import builder.common.EnumFactory;
 import builder.models.ListBoxModel;
 import builder.models.TextBoxModel;
-import builder.models.WidgetModel;
-import builder.views.PagePane;
+import builder.prefs.GeneralEditor;
 import builder.widgets.Widget;
 
 /**
@@ -60,9 +62,11 @@ public class ElementPipe extends WorkFlowPipe {
   private final static String DEFINE_ELEM_RAM_TEMPLATE   = "<DEFINE_ELEM_RAM>";
   private final static String DEFINE_ELEM_RAM_P_TEMPLATE = "<DEFINE_ELEM_RAM_P>";
   private final static String MAX_PAGE_TEMPLATE      = "<MAX_PAGE>";
+  private final static String PAGE_INCLUDE_TEMPLATE  = "<PAGE_INCLUDE>";
   
   /** The Constants for macros. */
   private final static String COUNT_MACRO            = "COUNT";
+  private final static String FILENAME_MACRO         = "FILENAME";
   private final static String FLASH_MACRO            = "FLASH";
   private final static String NAME_MACRO             = "NAME";
   private final static String STRIP_ENUM_MACRO       = "STRIP_ENUM";
@@ -90,48 +94,47 @@ public class ElementPipe extends WorkFlowPipe {
   @Override
   public void doCodeGen(StringBuilder sBd) {
     tm = cg.getTemplateManager();
-    List<String> templateLines = new ArrayList<String>();
-    List<String> outputLines = new ArrayList<String>();
     Map<String, String> map = new HashMap<String,String>();
     // figure out the MAX_PAGE define
-    int nPages = 0;
-    for (PagePane p : cg.getPages()) {
-      if (!p.getPageType().equals(EnumFactory.PROJECT))
-        nPages++;
-    }
+    int nPages = cg.getIndex().getUserPages().size();
     // we have hidden pages if users are referencing virtual keypads
-    boolean bAddNumKeyPad = false;
-    boolean bAddAlphaKeyPad = false;
-    for (WidgetModel m : cg.getModels()) {
-      if (m.getType().equals(EnumFactory.NUMINPUT)) {
-        bAddNumKeyPad = true;
-      }
-      if (m.getType().equals(EnumFactory.TEXTINPUT)) {
-        bAddAlphaKeyPad = true;
-      }
-    }
+    boolean bAddNumKeyPad = cg.getIndex().hasNumKeyPad();
+    boolean bAddAlphaKeyPad = cg.getIndex().hasAlphaKeyPad();
     if (bAddNumKeyPad) nPages++;
     if (bAddAlphaKeyPad) nPages++;
     // output number of pages
     map.clear();
     map.put(NAME_MACRO, "MAX_PAGE");
     map.put(COUNT_MACRO, String.valueOf(nPages));
-    templateLines = tm.loadTemplate(MAX_PAGE_TEMPLATE);
-    outputLines = tm.expandMacros(templateLines, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, MAX_PAGE_TEMPLATE, map);
+    
+    // when splitting pages our header simply includes each page's defines
+    PageUnits units = cg.getPageUnits();
+    if (units != null) {
+      sBd.append(System.lineSeparator());
+      for (CodePage p : cg.getIndex().getUserPages()) {
+        map.clear();
+        map.put(FILENAME_MACRO, PageUnits.getHeaderName(p.getEnum()));
+        tm.codeWriter(sBd, PAGE_INCLUDE_TEMPLATE, map);
+      }
+    }
     
     // build up a list of counts for out various UI widgets
     // Be sure and count _P functions stored in flash
     boolean bFirstFlash = true;  // this allows us to output progmem warning
     int elem_cnt = 0;
     int flash_cnt = 0;
-    for (PagePane p : cg.getPages()) {
-      if (p.getPageType().equals(EnumFactory.PROJECT))
-        continue;
+    StringBuilder pageBd = sBd;
+    for (CodePage p : cg.getIndex().getUserPages()) {
+      if (units != null) {
+        // each page file needs its own progmem warning
+        pageBd = new StringBuilder();
+        bFirstFlash = true;
+      }
       flash_cnt = 0;
       elem_cnt = p.getWidgets().size();
       for (Widget w : p.getWidgets()) {
-        if (w.useFlash()) {
+        if (cg.useFlash(w.getModel())) {
           flash_cnt++;
         }
         if (w.getType().equals(EnumFactory.TEXTBOX) && ((TextBoxModel)w.getModel()).addScrollbar()) {
@@ -142,25 +145,44 @@ public class ElementPipe extends WorkFlowPipe {
       }
       if (flash_cnt > 0 && bFirstFlash) {
         // we need to output some warning comments about PROGMEM
-        templateLines = tm.loadTemplate(PROGMEM_TEMPLATE);
-        tm.codeWriter(sBd, templateLines);
+        tm.codeWriter(pageBd, PROGMEM_TEMPLATE);
         bFirstFlash = false;
       }
       map.clear();
       map.put(STRIP_ENUM_MACRO, CodeUtils.convertEnum(p.getEnum()));
       map.put(COUNT_MACRO, String.valueOf(elem_cnt));
       map.put(FLASH_MACRO, String.valueOf(flash_cnt));
-      templateLines = tm.loadTemplate(DEFINE_ELEM_PAGE_TEMPLATE);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(pageBd, DEFINE_ELEM_PAGE_TEMPLATE, map);
       
       if (flash_cnt > 0) {
-        templateLines = tm.loadTemplate(DEFINE_ELEM_RAM_P_TEMPLATE);
+        tm.codeWriter(pageBd, DEFINE_ELEM_RAM_P_TEMPLATE, map);
       } else {
-        templateLines = tm.loadTemplate(DEFINE_ELEM_RAM_TEMPLATE);
+        tm.codeWriter(pageBd, DEFINE_ELEM_RAM_TEMPLATE, map);
+      }
+      if (units != null) {
+        units.setDefines(p.getEnum(), pageBd.toString());
+      }
+    }
+    
+    // tell our user what our flash optimizer decided
+    if (cg.getFlashPlan() != null) {
+      sBd.append(System.lineSeparator());
+      for (String line : cg.getFlashPlan().format()) {
+        sBd.append("// " + line);
+        sBd.append(System.lineSeparator());
+      }
+    }
+    
+    // optionally let our user know if this design will fit their board
+    if (GeneralEditor.getInstance().isMemoryEstimate()) {
+      for (MemoryEstimator.Estimate est 
+          : MemoryEstimator.estimate(cg.getIndex(), cg.getFlashPlan())) {
+        sBd.append(System.lineSeparator());
+        for (String line : est.format()) {
+          sBd.append("// " + line);
+          sBd.append(System.lineSeparator());
+        }
       }
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
     }
       
   }
@@ -27,11 +27,12 @@ package builder.codegen.pipes;
 
 import java.lang.StringBuilder;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import builder.codegen.CodeGenerator;
+import builder.codegen.CodePage;
 import builder.codegen.CodeUtils;
+import builder.codegen.ProjectIndex;
 import builder.codegen.Tags;
 import builder.codegen.TemplateManager;
 import builder.common.EnumFactory;
@@ -40,10 +41,8 @@ import builder.fonts.FontFactory;
 import builder.models.KeyPadModel;
 import builder.models.KeyPadTextModel;
 import builder.models.ProjectModel;
-import builder.models.WidgetModel;
 import builder.prefs.AlphaKeyPadEditor;
 import builder.prefs.NumKeyPadEditor;
-import builder.views.PagePane;
 
 /**
  * The Class EnumPipe handles code generation
@@ -81,22 +80,14 @@ public class EnumPipe extends WorkFlowPipe {
     // first find our Page enums and output them
     ProjectModel pm = Controller.getProjectModel();
     FontFactory ff = FontFactory.getInstance();
+    ProjectIndex index = cg.getIndex();
     List<String> enumList = new ArrayList<String>();
-    for (PagePane p : cg.getPages()) {
-      if (!p.getPageType().equals(EnumFactory.PROJECT))
-        enumList.add(p.getEnum());
+    for (CodePage p : index.getUserPages()) {
+      enumList.add(p.getEnum());
     }
     // now handle any keypads
-    boolean bAddNumKeyPad = false;
-    boolean bAddAlphaKeyPad = false;
-    for (WidgetModel m : cg.getModels()) {
-      if (m.getType().equals(EnumFactory.NUMINPUT)) {
-        bAddNumKeyPad = true;
-      }
-      if (m.getType().equals(EnumFactory.TEXTINPUT)) {
-        bAddAlphaKeyPad = true;
-      }
-    }
+    boolean bAddNumKeyPad = index.hasNumKeyPad();
+    boolean bAddAlphaKeyPad = index.hasAlphaKeyPad();
     if (bAddNumKeyPad) {
       enumList.add(EnumFactory.KEYPAD_PAGE_ENUM);
     }
@@ -107,21 +98,8 @@ public class EnumPipe extends WorkFlowPipe {
     tm = cg.getTemplateManager();
     tm.codeWriterEnums(sBd, enumList);
     
-    // Now build up a list of our remaining UI widget enums
-    enumList.clear();
-    String sEnum = null;
-    for (WidgetModel m : cg.getModels()) {
-      sEnum = m.getEnum();
-      if (!sEnum.equals("GSLC_ID_AUTO")) 
-        enumList.add(sEnum);
-      if (m.addScrollbar()) {
-        enumList.add(m.getScrollbarEnum());
-      }
-    }
-    if (enumList.size() > 0) {
-      // Now we have a full list of enum names we can sort the list.
-      Collections.sort(enumList);
-    }
+    // Now build up our already sorted list of remaining UI widget enums
+    enumList = new ArrayList<String>(index.getSortedEnums());
     // place any keypads at end
     if (bAddNumKeyPad) {
       enumList.add(EnumFactory.KEYPAD_ELEM_ENUM);
@@ -133,22 +111,13 @@ public class EnumPipe extends WorkFlowPipe {
       // Now output the UI widgets enum list
       tm.codeWriterEnums(sBd, enumList);
     }
-    // next pass output any group enums
-    enumList.clear();
-    String name = null;
-    for (WidgetModel m : cg.getModels()) {
-      name = m.getGroupId();
-      if (name != null && !name.equals("GSLC_GROUP_ID_NONE"))
-        enumList.add(name);
-    }
-    if (enumList.size() > 0) {
-      // sort the names and remove duplicates
-      CodeUtils.sortListandRemoveDups(enumList);
-      // Now output the list of group enums
-      tm.codeWriterEnums(sBd, enumList);
+    // next pass output any group enums, already sorted without duplicates
+    if (index.getSortedGroupIds().size() > 0) {
+      tm.codeWriterEnums(sBd, index.getSortedGroupIds());
     }
     // Final pass output any font enums
     enumList.clear();
+    String name = null;
     // Start with keyboard fonts - bug 126 missing keyboard font
     // place any keypads at end
     if (bAddNumKeyPad) {
@@ -164,11 +133,7 @@ public class EnumPipe extends WorkFlowPipe {
         enumList.add(name);
     }
 
-    for (WidgetModel m : cg.getModels()) {
-      name = m.getFontEnum();
-      if (name != null)
-        enumList.add(name);
-    }
+    enumList.addAll(index.getSortedFontEnums());
     // add any extra fonts requested
     for (String s : pm.getFontsList()) {
       if (s != null && !s.isEmpty()) {
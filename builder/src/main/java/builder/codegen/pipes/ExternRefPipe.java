@@ -26,8 +26,6 @@
 package builder.codegen.pipes;
 
 import java.lang.StringBuilder;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,7 +34,6 @@ import builder.codegen.CodeGenerator;
 import builder.codegen.Tags;
 import builder.codegen.TemplateManager;
 import builder.common.EnumFactory;
-import builder.models.WidgetModel;
 
 // TODO: Auto-generated Javadoc
 /**
@@ -77,56 +74,32 @@ public class ExternRefPipe extends WorkFlowPipe {
    */
   @Override
   public void doCodeGen(StringBuilder sBd) {
-    // scan our widget models for element references and build a list of them
-    List<String> refList = new ArrayList<String>();
-    for (WidgetModel m : cg.getModels()) {
-      if (m.getElementRef() != null && !m.getElementRef().isEmpty())
-        refList.add(m.getElementRef());
-      if (m.getScrollbarERef() != null)
-        refList.add(m.getScrollbarERef());
-    }
+    // our index has already sorted our models' element references
+    List<String> refList = cg.getIndex().getSortedExternRefs();
 
     // now output any we found
     tm = cg.getTemplateManager();
-    List<String> template = null;
-    List<String> outputLines = null;
     Map<String, String> map = new HashMap<>();
     if (refList.size() > 0) {
-      // Now we have a full list of references we can sort the list.
-      Collections.sort(refList);
       // Now output the UI widgets element references
-      template = tm.loadTemplate(ELEMENTREF_EXTERN_TEMPLATE);
       for (String s : refList) {
         map.put(ELEMREF_MACRO, s);
-        outputLines = tm.expandMacros(template, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, ELEMENTREF_EXTERN_TEMPLATE, map);
       }
     }
 
     // we have hidden cg.getPages() if users are referencing virtual keypads
-    boolean bAddNumKeyPad = false;
-    boolean bAddAlphaKeyPad = false;
-    for (WidgetModel m : cg.getModels()) {
-      if (m.getType().equals(EnumFactory.NUMINPUT)) {
-        bAddNumKeyPad = true;
-      }
-      if (m.getType().equals(EnumFactory.TEXTINPUT)) {
-        bAddAlphaKeyPad = true;
-      }
-    }
+    boolean bAddNumKeyPad = cg.getIndex().hasNumKeyPad();
+    boolean bAddAlphaKeyPad = cg.getIndex().hasAlphaKeyPad();
     if (bAddNumKeyPad) {
-      template = tm.loadTemplate(ELEMENTREF_EXTERN_TEMPLATE);
       map.clear();
       map.put(ELEMREF_MACRO, EnumFactory.KEYPAD_ELEMREF);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_EXTERN_TEMPLATE, map);
     }
     if (bAddAlphaKeyPad) {
-      template = tm.loadTemplate(ELEMENTREF_EXTERN_TEMPLATE);
       map.clear();
       map.put(ELEMREF_MACRO, EnumFactory.ALPHAKEYPAD_ELEMREF);
-      outputLines = tm.expandMacros(template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ELEMENTREF_EXTERN_TEMPLATE, map);
     }
   }
 }
@@ -31,7 +31,9 @@ import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
+import builder.codegen.CodePage;
 import builder.codegen.CodeUtils;
+import builder.codegen.PageUnits;
 import builder.codegen.Tags;
 import builder.codegen.TemplateManager;
 import builder.common.EnumFactory;
@@ -42,7 +44,7 @@ import builder.models.ListBoxModel;
 import builder.models.ProjectModel;
 import builder.models.TextBoxModel;
 import builder.models.WidgetModel;
-import builder.views.PagePane;
+import builder.widgets.Widget;
 
 /**
  * The Class ExtraElementPipe handles code generation
@@ -91,215 +93,223 @@ public class ExtraElementPipe extends WorkFlowPipe {
   @Override
   public void doCodeGen(StringBuilder sBd) {
     tm = cg.getTemplateManager();
-    List<String> templateLines = tm.loadTemplate(GUI_ELEMENT_TEMPLATE);
-    List<String> outputLines = null;
     Map<String, String> map = new HashMap<String,String>();
-    for (PagePane p : cg.getPages()) {
-      if (p.getPageType().equals(EnumFactory.PROJECT))
-        continue;
-      map.clear();
-      map.put(STRIP_KEY_MACRO, CodeUtils.convertKey(p.getKey()));
-      map.put(STRIP_ENUM_MACRO, CodeUtils.convertEnum(p.getEnum()));
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
-    }
-    // we have hidden cg.getPages() if users are referencing virtual keypads
-    boolean bAddNumKeyPad = false;
-    boolean bAddAlphaKeyPad = false;
-    for (WidgetModel m : cg.getModels()) {
-      if (m.getType().equals(EnumFactory.NUMINPUT)) {
-        bAddNumKeyPad = true;
+    // when splitting pages each page's storage goes into its own file
+    PageUnits units = cg.getPageUnits();
+    if (units != null) {
+      for (CodePage p : cg.getIndex().getUserPages()) {
+        StringBuilder pageBd = new StringBuilder();
+        map.clear();
+        map.put(STRIP_KEY_MACRO, CodeUtils.convertKey(p.getKey()));
+        map.put(STRIP_ENUM_MACRO, CodeUtils.convertEnum(p.getEnum()));
+        tm.codeWriter(pageBd, GUI_ELEMENT_TEMPLATE, map);
+        for (Widget w : p.getWidgets()) {
+          outputStorage(pageBd, w.getModel());
+        }
+        units.setStorage(p.getEnum(), pageBd.toString());
       }
-      if (m.getType().equals(EnumFactory.TEXTINPUT)) {
-        bAddAlphaKeyPad = true;
+    } else {
+      for (CodePage p : cg.getIndex().getUserPages()) {
+        map.clear();
+        map.put(STRIP_KEY_MACRO, CodeUtils.convertKey(p.getKey()));
+        map.put(STRIP_ENUM_MACRO, CodeUtils.convertEnum(p.getEnum()));
+        tm.codeWriter(sBd, GUI_ELEMENT_TEMPLATE, map);
       }
     }
+    // we have hidden cg.getPages() if users are referencing virtual keypads
+    boolean bAddNumKeyPad = cg.getIndex().hasNumKeyPad();
+    boolean bAddAlphaKeyPad = cg.getIndex().hasAlphaKeyPad();
     if (bAddNumKeyPad) {
-      templateLines = tm.loadTemplate(KEYPAD_PAGE_TEMPLATE);
       map.clear();
       map.put(STORAGE_MACRO, EnumFactory.KEYPAD_PAGE_STORAGE);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, KEYPAD_PAGE_TEMPLATE, map);
    }
     if (bAddAlphaKeyPad) {
-      templateLines = tm.loadTemplate(KEYPAD_PAGE_TEMPLATE);
       map.clear();
       map.put(STORAGE_MACRO, EnumFactory.ALPHAKEYPAD_PAGE_STORAGE);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, KEYPAD_PAGE_TEMPLATE, map);
     }
     if (bAddNumKeyPad) {
-      templateLines = tm.loadTemplate(KEYPAD_ELEM_NUM_TEMPLATE);
       map.clear();
       map.put(STORAGE_MACRO, EnumFactory.KEYPAD_ELEM_STORAGE);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, KEYPAD_ELEM_NUM_TEMPLATE, map);
     }
     if (bAddAlphaKeyPad) {
-      templateLines = tm.loadTemplate(KEYPAD_ELEM_TEXT_TEMPLATE);
       map.clear();
       map.put(STORAGE_MACRO, EnumFactory.ALPHAKEYPAD_ELEM_STORAGE);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, (outputLines));
+      tm.codeWriter(sBd, KEYPAD_ELEM_TEXT_TEMPLATE, map);
     }
 
-    /*
-     * Page storage is completed now move on to extended storage.
-     * Note that APIs that are _P flash versions do not required
-     * definition of extended storage here, so we skip those.
-     * 
-     * Keep in mind text and list boxes may have an embedded scrollbar (sliders) 
-     * that need to be taken into account.
-     */
+    // Page storage is completed now move on to extended storage.
+    if (units == null) {
+      for (WidgetModel m : cg.getModels()) {
+        outputStorage(sBd, m);
+      }
+    }
+    // output MAX String size
+    ProjectModel pm = Controller.getProjectModel();
+    String strElement = "MAX_STR";
+    sBd.append(System.lineSeparator());
+    sBd.append(String.format("#define %-24s%d", strElement, pm.getMaxStr()));
+    sBd.append(System.lineSeparator());
+    sBd.append(System.lineSeparator());
+  }
+
+  /**
+   * Output the extended storage of one widget.
+   * 
+   * Note that APIs that are _P flash versions do not required
+   * definition of extended storage here, so we skip those.
+   * 
+   * Keep in mind text and list boxes may have an embedded scrollbar (sliders) 
+   * that need to be taken into account.
+   *
+   * @param sBd
+   *          the StringBuilder object containing our project template
+   * @param m
+   *          the widget model
+   */
+  private void outputStorage(StringBuilder sBd, WidgetModel m) {
     int nRows, nCols;
     String ref = "";
     String strCount;
     String strElement;
-    for (WidgetModel m : cg.getModels()) {
-      // check to flash API version
-      if (m.useFlash())
-        continue;
-      if (m.getType().equals(EnumFactory.CHECKBOX)) {
-        strElement = "gslc_tsXCheckbox";
-        strCount = CodeUtils.getKeyCount(m.getKey());
-        ref = "m_asXCheck" + strCount;
-        sBd.append(String.format("%-32s%s;", strElement, ref));
-        sBd.append(System.lineSeparator());
-      } 
-      if (m.getType().equals(EnumFactory.GRAPH)) {
-        nRows = ((GraphModel)m).getNumRows();
-        strCount = CodeUtils.getKeyCount(m.getKey());
-        ref = "m_sGraph" + strCount;
-        strElement = "gslc_tsXGraph";
-        sBd.append(String.format("%-32s%s;", strElement, ref));
-        sBd.append(System.lineSeparator());
-        strElement = "int16_t";
-        ref = "m_anGraphBuf" + strCount;
-        sBd.append(String.format("%-32s%s[%d]; // NRows=%d", 
-            strElement, ref, nRows, nRows));
-        sBd.append(System.lineSeparator());
-      } 
-      if (m.getType().equals(EnumFactory.LISTBOX)) {
-        int nSize = ((ListBoxModel)m).getStorageSz();
+    // check to flash API version
+    if (cg.useFlash(m))
+      return;
+    if (m.getType().equals(EnumFactory.CHECKBOX)) {
+      strElement = "gslc_tsXCheckbox";
+      strCount = CodeUtils.getKeyCount(m.getKey());
+      ref = "m_asXCheck" + strCount;
+      sBd.append(String.format("%-32s%s;", strElement, ref));
+      sBd.append(System.lineSeparator());
+    } 
+    if (m.getType().equals(EnumFactory.GRAPH)) {
+      nRows = ((GraphModel)m).getNumRows();
+      strCount = CodeUtils.getKeyCount(m.getKey());
+      ref = "m_sGraph" + strCount;
+      strElement = "gslc_tsXGraph";
+      sBd.append(String.format("%-32s%s;", strElement, ref));
+      sBd.append(System.lineSeparator());
+      strElement = "int16_t";
+      ref = "m_anGraphBuf" + strCount;
+      sBd.append(String.format("%-32s%s[%d]; // NRows=%d", 
+          strElement, ref, nRows, nRows));
+      sBd.append(System.lineSeparator());
+    } 
+    if (m.getType().equals(EnumFactory.LISTBOX)) {
+      int nSize = ((ListBoxModel)m).getStorageSz();
+      strCount = CodeUtils.getKeyCount(m.getKey());
+      ref = "m_sListbox" + CodeUtils.getKeyCount(m.getKey());
+      strElement = "gslc_tsXListbox";
+      sBd.append(String.format("%-32s%s;", strElement, ref));
+      sBd.append(System.lineSeparator());
+      strElement = "char";
+      ref = "m_acListboxBuf" + strCount;
+      sBd.append(String.format("%-32s","// - Note that XLISTBOX_BUF_OH_R is extra required per item"));
+      sBd.append(System.lineSeparator());
+      sBd.append(String.format("%-32s%s[%d + XLISTBOX_BUF_OH_R];", 
+          strElement, ref, nSize));
+      sBd.append(System.lineSeparator());
+      if (((ListBoxModel)m).addScrollbar()) {
+        strElement = "gslc_tsXSlider";
         strCount = CodeUtils.getKeyCount(m.getKey());
-        ref = "m_sListbox" + CodeUtils.getKeyCount(m.getKey());
-        strElement = "gslc_tsXListbox";
+        ref = "m_sListScroll" + strCount;
         sBd.append(String.format("%-32s%s;", strElement, ref));
         sBd.append(System.lineSeparator());
-        strElement = "char";
-        ref = "m_acListboxBuf" + strCount;
-        sBd.append(String.format("%-32s","// - Note that XLISTBOX_BUF_OH_R is extra required per item"));
-        sBd.append(System.lineSeparator());
-        sBd.append(String.format("%-32s%s[%d + XLISTBOX_BUF_OH_R];", 
-            strElement, ref, nSize));
-        sBd.append(System.lineSeparator());
-        if (((ListBoxModel)m).addScrollbar()) {
-          strElement = "gslc_tsXSlider";
-          strCount = CodeUtils.getKeyCount(m.getKey());
-          ref = "m_sListScroll" + strCount;
-          sBd.append(String.format("%-32s%s;", strElement, ref));
-          sBd.append(System.lineSeparator());
-        }
       }
-      if (m.getType().equals(EnumFactory.PROGRESSBAR)) {
-        strElement = "gslc_tsXProgress";
-        strCount = CodeUtils.getKeyCount(m.getKey());
-        ref = "m_sXBarGauge" + strCount;
-        sBd.append(String.format("%-32s%s;", strElement, ref));
-        sBd.append(System.lineSeparator());
-      } 
-      if (m.getType().equals(EnumFactory.RADIOBUTTON)) {
-        strElement = "gslc_tsXCheckbox";
-        strCount = CodeUtils.getKeyCount(m.getKey());
-        ref = "m_asXRadio" + strCount;
-        sBd.append(String.format("%-32s%s;", strElement, ref));
-        sBd.append(System.lineSeparator());
-      } 
-      if (m.getType().equals(EnumFactory.RAMPGAUGE)) {
-        strElement = "gslc_tsXRamp";
-        strCount = CodeUtils.getKeyCount(m.getKey());
-        ref = "m_sXRampGauge" + strCount;
-        sBd.append(String.format("%-32s%s;", strElement, ref));
-        sBd.append(System.lineSeparator());
-      } 
-      if (m.getType().equals(EnumFactory.RADIALGAUGE)) {
-        strElement = "gslc_tsXRadial";
-        strCount = CodeUtils.getKeyCount(m.getKey());
-        ref = "m_sXRadialGauge" + strCount;
-        sBd.append(String.format("%-32s%s;", strElement, ref));
-        sBd.append(System.lineSeparator());
-      } 
-      if (m.getType().equals(EnumFactory.RINGGAUGE)) {
-        strElement = "gslc_tsXRingGauge";
-        strCount = CodeUtils.getKeyCount(m.getKey());
-        ref = "m_sXRingGauge" + strCount;
-        sBd.append(String.format("%-32s%s;", strElement, ref));
-        sBd.append(System.lineSeparator());
-      } 
-      if (m.getType().equals(EnumFactory.SEEKBAR)) {
-        strElement = "gslc_tsXSeekbar";
-        strCount = CodeUtils.getKeyCount(m.getKey());
-        ref = "m_sXSeekbar" + strCount;
-        sBd.append(String.format("%-32s%s;", strElement, ref));
-        sBd.append(System.lineSeparator());
-      } 
-      if (m.getType().equals(EnumFactory.SLIDER)) {
+    }
+    if (m.getType().equals(EnumFactory.PROGRESSBAR)) {
+      strElement = "gslc_tsXProgress";
+      strCount = CodeUtils.getKeyCount(m.getKey());
+      ref = "m_sXBarGauge" + strCount;
+      sBd.append(String.format("%-32s%s;", strElement, ref));
+      sBd.append(System.lineSeparator());
+    } 
+    if (m.getType().equals(EnumFactory.RADIOBUTTON)) {
+      strElement = "gslc_tsXCheckbox";
+      strCount = CodeUtils.getKeyCount(m.getKey());
+      ref = "m_asXRadio" + strCount;
+      sBd.append(String.format("%-32s%s;", strElement, ref));
+      sBd.append(System.lineSeparator());
+    } 
+    if (m.getType().equals(EnumFactory.RAMPGAUGE)) {
+      strElement = "gslc_tsXRamp";
+      strCount = CodeUtils.getKeyCount(m.getKey());
+      ref = "m_sXRampGauge" + strCount;
+      sBd.append(String.format("%-32s%s;", strElement, ref));
+      sBd.append(System.lineSeparator());
+    } 
+    if (m.getType().equals(EnumFactory.RADIALGAUGE)) {
+      strElement = "gslc_tsXRadial";
+      strCount = CodeUtils.getKeyCount(m.getKey());
+      ref = "m_sXRadialGauge" + strCount;
+      sBd.append(String.format("%-32s%s;", strElement, ref));
+      sBd.append(System.lineSeparator());
+    } 
+    if (m.getType().equals(EnumFactory.RINGGAUGE)) {
+      strElement = "gslc_tsXRingGauge";
+      strCount = CodeUtils.getKeyCount(m.getKey());
+      ref = "m_sXRingGauge" + strCount;
+      sBd.append(String.format("%-32s%s;", strElement, ref));
+      sBd.append(System.lineSeparator());
+    } 
+    if (m.getType().equals(EnumFactory.SEEKBAR)) {
+      strElement = "gslc_tsXSeekbar";
+      strCount = CodeUtils.getKeyCount(m.getKey());
+      ref = "m_sXSeekbar" + strCount;
+      sBd.append(String.format("%-32s%s;", strElement, ref));
+      sBd.append(System.lineSeparator());
+    } 
+    if (m.getType().equals(EnumFactory.SLIDER)) {
+      strElement = "gslc_tsXSlider";
+      strCount = CodeUtils.getKeyCount(m.getKey());
+      ref = "m_sXSlider" + strCount;
+      sBd.append(String.format("%-32s%s;", strElement, ref));
+      sBd.append(System.lineSeparator());
+    } 
+    if (m.getType().equals(EnumFactory.SPINNER)) {
+      strElement = "gslc_tsXSpinner";
+      strCount = CodeUtils.getKeyCount(m.getKey());
+      ref = "m_sXSpinner" + strCount;
+      sBd.append(String.format("%-32s%s;", strElement, ref));
+      sBd.append(System.lineSeparator());
+    } 
+    if (m.getType().equals(EnumFactory.TEXTBOX)) {
+      nRows = ((TextBoxModel)m).getNumTextRows();
+      nCols = ((TextBoxModel)m).getNumTextColumns();
+      strCount = CodeUtils.getKeyCount(m.getKey());
+      ref = "m_sTextbox" + strCount;
+      strElement = "gslc_tsXTextbox";
+      sBd.append(String.format("%-32s%s;", strElement, ref));
+      sBd.append(System.lineSeparator());
+      strElement = "char";
+      ref = "m_acTextboxBuf" + strCount;
+      sBd.append(String.format("%-32s%s[%d]; // NRows=%d NCols=%d", 
+          strElement, ref, nRows*nCols, nRows, nCols));
+      sBd.append(System.lineSeparator());
+      if (((TextBoxModel)m).addScrollbar()) {
         strElement = "gslc_tsXSlider";
         strCount = CodeUtils.getKeyCount(m.getKey());
-        ref = "m_sXSlider" + strCount;
-        sBd.append(String.format("%-32s%s;", strElement, ref));
-        sBd.append(System.lineSeparator());
-      } 
-      if (m.getType().equals(EnumFactory.SPINNER)) {
-        strElement = "gslc_tsXSpinner";
-        strCount = CodeUtils.getKeyCount(m.getKey());
-        ref = "m_sXSpinner" + strCount;
+        ref = "m_sTextScroll" + strCount;
         sBd.append(String.format("%-32s%s;", strElement, ref));
         sBd.append(System.lineSeparator());
-      } 
-      if (m.getType().equals(EnumFactory.TEXTBOX)) {
-        nRows = ((TextBoxModel)m).getNumTextRows();
-        nCols = ((TextBoxModel)m).getNumTextColumns();
-        strCount = CodeUtils.getKeyCount(m.getKey());
-        ref = "m_sTextbox" + strCount;
-        strElement = "gslc_tsXTextbox";
-        sBd.append(String.format("%-32s%s;", strElement, ref));
-        sBd.append(System.lineSeparator());
-        strElement = "char";
-        ref = "m_acTextboxBuf" + strCount;
-        sBd.append(String.format("%-32s%s[%d]; // NRows=%d NCols=%d", 
-            strElement, ref, nRows*nCols, nRows, nCols));
-        sBd.append(System.lineSeparator());
-        if (((TextBoxModel)m).addScrollbar()) {
-          strElement = "gslc_tsXSlider";
-          strCount = CodeUtils.getKeyCount(m.getKey());
-          ref = "m_sTextScroll" + strCount;
-          sBd.append(String.format("%-32s%s;", strElement, ref));
-          sBd.append(System.lineSeparator());
-        }
       }
-      if (m.getType().equals(EnumFactory.TOGGLEBUTTON)) {
-        strElement = "gslc_tsXTogglebtn";
-        strCount = CodeUtils.getKeyCount(m.getKey());
-        ref = "m_asXToggle" + strCount;
-        sBd.append(String.format("%-32s%s;", strElement, ref));
-        sBd.append(System.lineSeparator());
-      } 
-      if (m.getType().equals(EnumFactory.IMAGEBUTTON) && ((ImgButtonModel)m).isToggle()) {
-        strElement = "gslc_tsXToggleImgbtn";
-        strCount = CodeUtils.getKeyCount(m.getKey());
-        ref = "m_sToggleImg" + strCount;
-        sBd.append(String.format("%-32s%s;", strElement, ref));
-        sBd.append(System.lineSeparator());
-      } 
     }
-    // output MAX String size
-    ProjectModel pm = Controller.getProjectModel();
-    strElement = "MAX_STR";
-    sBd.append(System.lineSeparator());
-    sBd.append(String.format("#define %-24s%d", strElement, pm.getMaxStr()));
-    sBd.append(System.lineSeparator());
-    sBd.append(System.lineSeparator());
+    if (m.getType().equals(EnumFactory.TOGGLEBUTTON)) {
+      strElement = "gslc_tsXTogglebtn";
+      strCount = CodeUtils.getKeyCount(m.getKey());
+      ref = "m_asXToggle" + strCount;
+      sBd.append(String.format("%-32s%s;", strElement, ref));
+      sBd.append(System.lineSeparator());
+    } 
+    if (m.getType().equals(EnumFactory.IMAGEBUTTON) && ((ImgButtonModel)m).isToggle()) {
+      strElement = "gslc_tsXToggleImgbtn";
+      strCount = CodeUtils.getKeyCount(m.getKey());
+      ref = "m_sToggleImg" + strCount;
+      sBd.append(String.format("%-32s%s;", strElement, ref));
+      sBd.append(System.lineSeparator());
+    } 
   }
 
 }
@@ -25,22 +25,14 @@
  */
 package builder.codegen.pipes;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.lang.StringBuilder;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 import builder.Builder;
 import builder.codegen.CodeGenException;
 import builder.codegen.CodeGenerator;
-import builder.codegen.CodeUtils;
+import builder.codegen.TaggedDocument;
 import builder.codegen.Tags;
 import builder.codegen.TemplateManager;
 
@@ -62,8 +54,6 @@ public class FilePipe extends WorkFlowPipe {
   /** The Constants for macros */
   private final static String FILENAME_MACRO             = "FILENAME";
   private final static String VERSION_MACRO              = "VERSION";
-  private final static Pattern LTRIM = Pattern.compile("^\\s+");
-  private final static String EMPTY_STRING = "";
 
   /**
    * Instantiates a new pipe.
@@ -82,37 +72,17 @@ public class FilePipe extends WorkFlowPipe {
    *
    * @see builder.codegen.pipes.Pipe#process(java.lang.Object, java.lang.Object)
    */
-  public StringBuilder process(StringBuilder input) throws CodeGenException {
-    try {
-      /*
-       * To convert StringBuilder to InputStream in Java, first get bytes
-       * from StringBuilder after converting it into String object.
-       */
-      byte[] bytes = input.toString().getBytes(StandardCharsets.UTF_8);
-      /*
-       * Get ByteArrayInputStream from byte array.
-       */
-      InputStream is = new ByteArrayInputStream(bytes);
-      BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
-      StringBuilder processed = new StringBuilder();
-      String sTestTag= "";
-      line = br.readLine();
-      sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-      // do we need to upgrade from earlier beta versions?
-      if (sTestTag.equals(MY_TAG)) {
-        processed.append(line);
-        processed.append(System.lineSeparator());
-        doCodeGen(processed);
-        CodeUtils.findTag(br, processed, MY_END_TAG);
-      } else {
-        throw new CodeGenException("file: " + cg.getTemplateName() + "\n is corrupted missing tag:" + MY_TAG);
-      }
-      CodeUtils.finishUp(br, processed);
-      br.close();
-      return processed;   
-    } catch (IOException e) {
-      throw new CodeGenException(e.toString());
-    }      
+  public TaggedDocument process(TaggedDocument doc) throws CodeGenException {
+    // our tag must be the very first line of the file
+    TaggedDocument.Section region = doc.getFirstSection();
+    if (region != null && region.isRegion() && region.getTag().equals(MY_TAG)) {
+      StringBuilder sBd = new StringBuilder();
+      doCodeGen(sBd);
+      region.setBody(sBd);
+    } else {
+      throw new CodeGenException("file: " + cg.getTemplateName() + "\n is corrupted missing tag:" + MY_TAG);
+    }
+    return doc;   
   }
 
   /**
@@ -123,18 +93,12 @@ public class FilePipe extends WorkFlowPipe {
   @Override
   public void doCodeGen(StringBuilder sBd) {
     TemplateManager tm = cg.getTemplateManager();
-    List<String> templateLines = null;
     String sFileName = cg.getOutputName();
-    templateLines = tm.loadTemplate(FILE_HDR_TEMPLATE);
-    List<String> outputLines = null;
     Map<String, String> map = new HashMap<String,String>();
     map.put(FILENAME_MACRO, sFileName);
     map.put(VERSION_MACRO, Builder.VERSION);
-    outputLines = tm.expandMacros(templateLines, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, FILE_HDR_TEMPLATE, map);
 
-    templateLines.clear();
-    outputLines.clear();
     map.clear();
   }
 
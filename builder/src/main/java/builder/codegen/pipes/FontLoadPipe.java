@@ -32,17 +32,17 @@ import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
+import builder.codegen.FontSubsets;
+import builder.codegen.ProjectIndex;
 import builder.codegen.CodeUtils;
 import builder.codegen.Tags;
 import builder.codegen.TemplateManager;
 import builder.controller.Controller;
 import builder.fonts.FontFactory;
 import builder.fonts.FontItem;
-import builder.common.EnumFactory;
 import builder.models.KeyPadModel;
 import builder.models.KeyPadTextModel;
 import builder.models.ProjectModel;
-import builder.models.WidgetModel;
 import builder.prefs.AlphaKeyPadEditor;
 import builder.prefs.NumKeyPadEditor;
 
@@ -96,21 +96,11 @@ public class FontLoadPipe extends WorkFlowPipe {
     
     // create a list of font enums in use by this project.
     // has to be created the same way as EnumPipe or the gslc_FontSet will be off.
-    List<String> fontList = new ArrayList<String>();
+    ProjectIndex index = cg.getIndex();
+    List<String> fontList = new ArrayList<String>(index.getSortedFontEnums());
     String name = null;
-    boolean bAddNumKeyPad = false;
-    boolean bAddAlphaKeyPad = false;
-    for (WidgetModel m : cg.getModels()) {
-      name = m.getFontEnum();
-      if (name != null)
-        fontList.add(name);
-      if (m.getType().equals(EnumFactory.NUMINPUT)) {
-        bAddNumKeyPad = true;
-      }
-      if (m.getType().equals(EnumFactory.TEXTINPUT)) {
-        bAddAlphaKeyPad = true;
-      }
-    }
+    boolean bAddNumKeyPad = index.hasNumKeyPad();
+    boolean bAddAlphaKeyPad = index.hasAlphaKeyPad();
     // End with keyboard fonts - bug 126 missing keyboard font
     // place any keypads at end
     if (bAddNumKeyPad) {
@@ -155,11 +145,9 @@ public class FontLoadPipe extends WorkFlowPipe {
     CodeUtils.sortListandRemoveDups(fontList);
     // now create the font load code
     tm = cg.getTemplateManager();
-    List<String> load_template = tm.loadTemplate(FONT_LOAD_TEMPLATE);;
-    List<String> mode_template = tm.loadTemplate(FONT_MODE_TEMPLATE);;
-    List<String> outputLines = null;
     Map<String, String> map = new HashMap<String,String>();
     FontItem font = null;
+    FontSubsets subsets = cg.getFontSubsets();
     for (String fontEnum : fontList) {
       // two step process to get our font information
       // first step retrieve the name of our font using the font enum as the key
@@ -171,14 +159,16 @@ public class FontLoadPipe extends WorkFlowPipe {
       map.clear();
       map.put(FONT_ID_MACRO, font.getFontId());
       map.put(FONT_REFTYPE_MACRO, font.getFontRefType());
-      map.put(FONT_REF_MACRO, font.getFontRef());
+      if (subsets != null && subsets.getFontRef(font) != null) {
+        map.put(FONT_REF_MACRO, subsets.getFontRef(font));
+      } else {
+        map.put(FONT_REF_MACRO, font.getFontRef());
+      }
       map.put(FONT_SZ_MACRO, font.getFontSz());
       map.put(FONT_MODE_MACRO, font.getFontRefMode());
-      outputLines = tm.expandMacros(load_template, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, FONT_LOAD_TEMPLATE, map);
       if (!font.getFontRefMode().equals("NULL")) {
-        outputLines = tm.expandMacros(mode_template, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, FONT_MODE_TEMPLATE, map);
       }
     }
 
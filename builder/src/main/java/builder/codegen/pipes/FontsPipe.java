@@ -34,6 +34,8 @@ import java.util.Map;
 import builder.Builder;
 import builder.codegen.CodeGenException;
 import builder.codegen.CodeGenerator;
+import builder.codegen.FontSubsets;
+import builder.codegen.ProjectIndex;
 import builder.codegen.CodeUtils;
 import builder.codegen.Tags;
 import builder.codegen.TemplateManager;
@@ -44,7 +46,6 @@ import builder.fonts.FontFactory;
 import builder.fonts.FontItem;
 import builder.fonts.FontPlatform;
 import builder.common.CommonUtils;
-import builder.common.EnumFactory;
 import builder.models.KeyPadModel;
 import builder.models.KeyPadTextModel;
 import builder.models.ProjectModel;
@@ -99,27 +100,18 @@ public class FontsPipe extends WorkFlowPipe {
     FontFactory ff = FontFactory.getInstance();
     tm = cg.getTemplateManager();
     
-    // scan thru all of the projects widgets and
-    // build up a list of all font display names.
-    List<String> fontNames = new ArrayList<String>();
+    // start with the font display names used by all of the projects widgets
+    ProjectIndex index = cg.getIndex();
+    List<String> fontNames = new ArrayList<String>(index.getSortedFontNames());
     String name = null;
-    boolean bAddNumKeyPad = false;
-    boolean bAddAlphaKeyPad = false;
+    boolean bAddNumKeyPad = index.hasNumKeyPad();
+    boolean bAddAlphaKeyPad = index.hasAlphaKeyPad();
     int nErrors = 0;
-    for (WidgetModel m : cg.getModels()) {
+    for (WidgetModel m : index.getFontModels()) {
       name = m.getFontDisplayName();
-      if (name != null) {
-        if (ff.getFont(name) == null) {
-          Builder.logger.error("widget: " +  m.getEnum() + " refers to missing font=" + name);
-          nErrors++;
-        }
-        fontNames.add(name);
-      }
-      if (m.getType().equals(EnumFactory.NUMINPUT)) {
-        bAddNumKeyPad = true;
-      }
-      if (m.getType().equals(EnumFactory.TEXTINPUT)) {
-        bAddAlphaKeyPad = true;
+      if (ff.getFont(name) == null) {
+        Builder.logger.error("widget: " +  m.getEnum() + " refers to missing font=" + name);
+        nErrors++;
       }
     }
     // End with keyboard fonts - bug 144 missing keyboard font #include
@@ -228,21 +220,26 @@ public class FontsPipe extends WorkFlowPipe {
       }
     }
     // we are ready to output our font information
-    List<String> includeTemplate = null;
-    List<String> defineTemplate = null;
-    List<String> outputLines = null;
     Map<String, String> map = new HashMap<String, String>();
     List<String> includesList = new ArrayList<String>();
+    FontSubsets subsets = cg.getFontSubsets();
+    if (subsets != null) {
+      for (String s : subsets.format()) {
+        sBd.append("// " + s);
+        sBd.append(System.lineSeparator());
+      }
+    }
     for (FontItem f : fonts) {
-      if (!f.getIncludeFile().equals("NULL")) {
+      if (subsets != null && subsets.getIncludeFile(f) != null) {
+        // our font subset replaces the font's own header
+        includesList.add(subsets.getIncludeFile(f));
+      } else if (!f.getIncludeFile().equals("NULL")) {
           includesList.add(f.getIncludeFile());
       } else if (!f.getDefineFile().equals("NULL")) {
         // This code only affects linux implementation.
-        defineTemplate = tm.loadTemplate(FONT_DEFINE_TEMPLATE);
         map.put(FONT_REF_MACRO, f.getFontRef());
         map.put(DEFINE_FILE_MACRO, f.getDefineFile());
-        outputLines = tm.expandMacros(defineTemplate, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, FONT_DEFINE_TEMPLATE, map);
       }
     }
     if (includesList.size() > 0) {
@@ -250,10 +247,8 @@ public class FontsPipe extends WorkFlowPipe {
       CodeUtils.sortListandRemoveDups(includesList);
       for (String s : includesList) {
         if (s == null || s.isEmpty()) continue;
-        includeTemplate = tm.loadTemplate(FONT_INCLUDE_TEMPLATE);
         map.put(INCLUDE_FILE_MACRO, s);
-        outputLines = tm.expandMacros(includeTemplate, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, FONT_INCLUDE_TEMPLATE, map);
       }
     }
   }
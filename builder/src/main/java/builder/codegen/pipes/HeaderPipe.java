@@ -25,21 +25,13 @@
  */
 package builder.codegen.pipes;
 
-import java.io.ByteArrayInputStream;
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.IOException;
 import java.lang.StringBuilder;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 import builder.codegen.CodeGenException;
 import builder.codegen.CodeGenerator;
-import builder.codegen.CodeUtils;
+import builder.codegen.TaggedDocument;
 import builder.codegen.Tags;
 import builder.codegen.TemplateManager;
 
@@ -58,8 +50,6 @@ public class HeaderPipe extends WorkFlowPipe {
   private final static String FILENAME_MACRO       = "FILENAME";
 
   /** The Constants for templates. */
-  private final static Pattern LTRIM = Pattern.compile("^\\s+");
-  private final static String EMPTY_STRING = "";
   
   /** The template manager. */
   TemplateManager tm = null;
@@ -89,67 +79,31 @@ public class HeaderPipe extends WorkFlowPipe {
    * @see builder.codegen.pipes.Pipe#process(java.lang.Object, java.lang.Object)
    */
   @Override
-  public StringBuilder process(StringBuilder input) throws CodeGenException {
-    try {
-      /*
-       * To convert StringBuilder to InputStream in Java, first get bytes
-       * from StringBuilder after converting it into String object.
-       */
-      byte[] bytes = input.toString().getBytes(StandardCharsets.UTF_8);
-      /*
-       * Get ByteArrayInputStream from byte array.
-       */
-      InputStream is = new ByteArrayInputStream(bytes);
-      BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
-      StringBuilder processed = new StringBuilder();
-      String sTestTag= "";
-      while ((line = br.readLine()) != null) {
-        sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-        if (sTestTag.equals(MY_TAG)) {
-          doCallback(br, processed);
-          break;
-        } else {
-          processed.append(line);
-          processed.append(System.lineSeparator());
-        }
-      }
-      CodeUtils.finishUp(br, processed);
-      br.close();
-      return processed;   
-    } catch (IOException e) {
-      throw new CodeGenException(e.toString());
-    }      
+  public TaggedDocument process(TaggedDocument doc) throws CodeGenException {
+    TaggedDocument.Section region = doc.findRegion(MY_TAG);
+    if (region != null) {
+      doCallback(region);
+    }
+    return doc;   
   }
 
   /**
    * doCallback
-   * @param br
-   *          the buffered reader of our project template input
-   * @param sBd
-   *          the StringBuilder object containing our project template
-   * @throws IOException
-   *           Signals that an I/O exception has occurred.
+   * @param region
+   *          the callback's tagged region of our project template
    */
-  public void doCallback(BufferedReader br, StringBuilder sBd) throws IOException {
+  public void doCallback(TaggedDocument.Section region) {
     TemplateManager tm = cg.getTemplateManager();
-    List<String> templateLines = tm.loadTemplate(HDR_TEMPLATE);
     String sFileName = new String(cg.getProjectName() + CodeGenerator.HEADER_EXT);
-    List<String> outputLines = null;
     Map<String, String> map = new HashMap<String,String>();
     map.put(FILENAME_MACRO, sFileName);
-    outputLines = tm.expandMacros(templateLines, map);
-    tm.codeWriter(sBd, outputLines);
+    StringBuilder sBd = new StringBuilder();
+    tm.codeWriter(sBd, HDR_TEMPLATE, map);
 
-    templateLines.clear();
-    outputLines.clear();
     map.clear();
 
-    // now remove the existing HEADER_END_TAG
-    String sTestTag= "";
-    while ((line = br.readLine()) != null) {
-      sTestTag = LTRIM.matcher(line).replaceAll(EMPTY_STRING);
-      if (sTestTag.equals(MY_END_TAG)) break;
-    }
+    // our header replaces the existing tags
+    region.replace(sBd);
 
   }
   
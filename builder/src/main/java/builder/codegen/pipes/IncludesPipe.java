@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
+import builder.codegen.ProjectIndex;
 import builder.codegen.CodeUtils;
 import builder.codegen.Tags;
 import builder.codegen.TemplateManager;
@@ -87,8 +88,6 @@ public class IncludesPipe extends WorkFlowPipe {
   @Override
   public void doCodeGen(StringBuilder sBd) {
 
-    List<String> template;
-    List<String> outputLines = null;
     tm = cg.getTemplateManager();
     Map<String, String> map = new HashMap<String,String>();
 
@@ -101,8 +100,9 @@ public class IncludesPipe extends WorkFlowPipe {
     boolean bSD       = false;
     boolean bWarning  = false;
     
-    for (WidgetModel m : cg.getModels()) {
-      switch(m.getType()) {
+    ProjectIndex index = cg.getIndex();
+    for (String type : index.getTypes()) {
+      switch(type) {
         case EnumFactory.CHECKBOX:
           headerList.add("XCheckbox");
           break;
@@ -110,22 +110,26 @@ public class IncludesPipe extends WorkFlowPipe {
           headerList.add("XGraph");
           break;
         case EnumFactory.IMAGE:
-          if (((ImageModel)m).getMemory().equals(ImageModel.SRC_SD)) {
-            bSD = true;
-            bWarning = true;
+          for (WidgetModel m : index.getModels(type)) {
+            if (((ImageModel)m).getMemory().equals(ImageModel.SRC_SD)) {
+              bSD = true;
+              bWarning = true;
+            }
           }
           break;
         case EnumFactory.IMAGEBUTTON:
-          if (((ImgButtonModel)m).isToggle()) {
-            headerList.add("XToggleImgbtn");
-          }
-          if (((ImgButtonModel)m).getMemory().equals(ImageModel.SRC_SD)) {
-            bSD = true;
-            bWarning = true;
-          }
-          if (((ImgButtonModel)m).getSelMemory().equals(ImageModel.SRC_SD)) {
-            bSD = true;
-            bWarning = true;
+          for (WidgetModel m : index.getModels(type)) {
+            if (((ImgButtonModel)m).isToggle()) {
+              headerList.add("XToggleImgbtn");
+            }
+            if (((ImgButtonModel)m).getMemory().equals(ImageModel.SRC_SD)) {
+              bSD = true;
+              bWarning = true;
+            }
+            if (((ImgButtonModel)m).getSelMemory().equals(ImageModel.SRC_SD)) {
+              bSD = true;
+              bWarning = true;
+            }
           }
           break;
         case EnumFactory.LISTBOX:
@@ -174,9 +178,9 @@ public class IncludesPipe extends WorkFlowPipe {
         default:
           break;
       }
-      if (m.addScrollbar()) {
-        headerList.add("XSlider");
-      }
+    }
+    if (index.hasScrollbars()) {
+      headerList.add("XSlider");
     }
     
     if (headerList.size() > 0) {
@@ -184,13 +188,10 @@ public class IncludesPipe extends WorkFlowPipe {
       CodeUtils.sortListandRemoveDups(headerList);
   
       // we are ready to output our include files
-      template = tm.loadTemplate(ELEM_COMMENT_TEMPLATE);
-      tm.codeWriter(sBd, template);
-      template = tm.loadTemplate(ELEM_INCLUDE_TEMPLATE);
+      tm.codeWriter(sBd, ELEM_COMMENT_TEMPLATE);
       for (String s : headerList) {
         map.put(WIDGET_MACRO, s);
-        outputLines = tm.expandMacros(template, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, ELEM_INCLUDE_TEMPLATE, map);
       }
     }
     
@@ -202,15 +203,12 @@ public class IncludesPipe extends WorkFlowPipe {
       bWarning = true;
     }
     if (bWarning) {
-      template = tm.loadTemplate(WARNING_CONFIG_TEMPLATE);
-      tm.codeWriter(sBd, template);
+      tm.codeWriter(sBd, WARNING_CONFIG_TEMPLATE);
       if (bCompound) {
-        template = tm.loadTemplate(WARNING_COMPOUND_TEMPLATE);
-        tm.codeWriter(sBd, template);
+        tm.codeWriter(sBd, WARNING_COMPOUND_TEMPLATE);
       }
       if (bSD) {
-        template = tm.loadTemplate(WARNING_SD_TEMPLATE);
-        tm.codeWriter(sBd, template);
+        tm.codeWriter(sBd, WARNING_SD_TEMPLATE);
       }
     }
   }
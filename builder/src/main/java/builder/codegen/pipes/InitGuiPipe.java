@@ -29,11 +29,12 @@ import java.awt.Color;
 import java.lang.StringBuilder;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
+import builder.codegen.CodePage;
 import builder.codegen.CodeUtils;
+import builder.codegen.PageUnits;
 import builder.codegen.Tags;
 import builder.codegen.TemplateManager;
 import builder.codegen.blocks.BoxCodeBlock;
@@ -78,7 +79,6 @@ import builder.models.KeyPadModel;
 import builder.models.WidgetModel;
 import builder.prefs.AlphaKeyPadEditor;
 import builder.prefs.NumKeyPadEditor;
-import builder.views.PagePane;
 import builder.widgets.Widget;
 
 /**
@@ -104,6 +104,7 @@ public class InitGuiPipe extends WorkFlowPipe {
   private final static String KEYPAD_BUTTONGAP_TEMPLATE  = "<KEYPAD_BUTTONGAP>"; 
   private final static String KEYPAD_ROUNDBUTTONS_TEMPLATE= "<KEYPAD_ROUNDBUTTONS>"; 
   private final static String PAGEADD_TEMPLATE          = "<PAGEADD>"; 
+  private final static String PAGE_INIT_TEMPLATE        = "<PAGE_INIT>"; 
   private final static String PAGEADDKEYPAD_TEMPLATE    = "<PAGEADDKEYPAD>"; 
   private final static String PAGEBASE_TEMPLATE         = "<PAGEBASE>";
   private final static String PAGECOMMENT_TEMPLATE      = "<PAGECOMMENT>";
@@ -117,6 +118,7 @@ public class InitGuiPipe extends WorkFlowPipe {
   private final static String ENUM_MACRO             = "WIDGET_ENUM";
   private final static String FLOAT_EN_MACRO         = "FLOAT_EN";
   private final static String FONT_ID_MACRO          = "FONT_ID";
+  private final static String FUNCTION_MACRO         = "FUNCTION";
 
   private final static String CONFIG_MACRO           = "CONFIG";
   private final static String GAPX_MACRO             = "GAPX";
@@ -157,81 +159,55 @@ public class InitGuiPipe extends WorkFlowPipe {
   public void doCodeGen(StringBuilder sBd) {
     tm = cg.getTemplateManager();
     FontFactory ff = FontFactory.getInstance();
-    List<String> templateLines = tm.loadTemplate(PAGEADD_TEMPLATE);
-    List<String> outputLines = null;
     Map<String, String> map = new HashMap<String,String>();
     String basePageEnum = "";
     String mainPageEnum = "";
+    // when splitting pages each page's file adds and creates the page
+    PageUnits units = cg.getPageUnits();
+    String pageTemplate = (units == null) ? PAGEADD_TEMPLATE : PAGE_INIT_TEMPLATE;
     // first output base page, if any
-    for (PagePane p : cg.getPages()) {
+    for (CodePage p : cg.getIndex().getUserPages()) {
       if (p.getPageType().equals(EnumFactory.BASEPAGE)) {
-        map.clear();
-        map.put(PAGE_ENUM_MACRO, p.getEnum());
-        map.put(STRIP_KEY_MACRO, CodeUtils.convertKey(p.getKey()));
-        map.put(STRIP_ENUM_MACRO, CodeUtils.convertEnum(p.getEnum()));
-        outputLines = tm.expandMacros(templateLines, map);
-        tm.codeWriter(sBd, outputLines);
+        pageAdd(sBd, pageTemplate, p);
         basePageEnum = p.getEnum();
       }
     }
     // now standard pages
-    for (PagePane p : cg.getPages()) {
-      if (!p.getPageType().equals(EnumFactory.BASEPAGE) &&
-          !p.getPageType().equals(EnumFactory.PROJECT)) {
-        map.clear();
-        map.put(PAGE_ENUM_MACRO, p.getEnum());
-        map.put(STRIP_KEY_MACRO, CodeUtils.convertKey(p.getKey()));
-        map.put(STRIP_ENUM_MACRO, CodeUtils.convertEnum(p.getEnum()));
-        outputLines = tm.expandMacros(templateLines, map);
-        tm.codeWriter(sBd, outputLines);
+    for (CodePage p : cg.getIndex().getUserPages()) {
+      if (!p.getPageType().equals(EnumFactory.BASEPAGE)) {
+        pageAdd(sBd, pageTemplate, p);
         if (p.getKey().equals("Page$1"))
           mainPageEnum = p.getEnum();
       }
     }
     // now handle any keypads
-    boolean bAddNumKeyPad = false;
-    boolean bAddAlphaKeyPad = false;
-    for (WidgetModel m : cg.getModels()) {
-      if (m.getType().equals(EnumFactory.NUMINPUT)) {
-        bAddNumKeyPad = true;
-      }
-      if (m.getType().equals(EnumFactory.TEXTINPUT)) {
-        bAddAlphaKeyPad = true;
-      }
-    }
+    boolean bAddNumKeyPad = cg.getIndex().hasNumKeyPad();
+    boolean bAddAlphaKeyPad = cg.getIndex().hasAlphaKeyPad();
     if (bAddNumKeyPad) {
-      templateLines = tm.loadTemplate(PAGEADDKEYPAD_TEMPLATE);
       map.clear();
       map.put(PAGE_ENUM_MACRO, EnumFactory.KEYPAD_PAGE_ENUM);
       map.put(STORAGE_MACRO, EnumFactory.KEYPAD_PAGE_STORAGE);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, PAGEADDKEYPAD_TEMPLATE, map);
    }
    if (bAddAlphaKeyPad) {
-      templateLines = tm.loadTemplate(PAGEADDKEYPAD_TEMPLATE);
       map.clear();
       map.put(PAGE_ENUM_MACRO, EnumFactory.ALPHAKEYPAD_PAGE_ENUM);
       map.put(STORAGE_MACRO, EnumFactory.ALPHAKEYPAD_PAGE_STORAGE);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, PAGEADDKEYPAD_TEMPLATE, map);
     }
     map.clear();
     
     // if we found a base page we need to register it.
     if (!basePageEnum.isEmpty()) {
-      templateLines = tm.loadTemplate(PAGEBASE_TEMPLATE);
       map.clear();
       map.put(PAGE_ENUM_MACRO, basePageEnum);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, PAGEBASE_TEMPLATE, map);
     }
     
     // now force 'Page$1' to be the main page
-    templateLines = tm.loadTemplate(PAGECUR_TEMPLATE);
     map.clear();
     map.put(PAGE_ENUM_MACRO, mainPageEnum);
-    outputLines = tm.expandMacros(templateLines, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, PAGECUR_TEMPLATE, map);
     
     // deal with background
     ProjectModel pm = Controller.getProjectModel();
@@ -240,31 +216,45 @@ public class InitGuiPipe extends WorkFlowPipe {
       map.put(MEMORY_MACRO, pm.getBackgroundMemory());
       map.put(DEFINE_MACRO, pm.getBackgroundDefine());
       map.put(FORMAT_MACRO, pm.getBackgroundFormat());
-      templateLines = tm.loadTemplate(BACKGROUND_IMAGE_TEMPLATE);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, BACKGROUND_IMAGE_TEMPLATE, map);
     } else {
       Color bCol = (Color) pm.getBackgroundColor();
       String color = ColorFactory.getInstance().colorAsString(bCol);
       map.clear();
       map.put(BACKGROUND_COLOR_MACRO, color);
-      templateLines = tm.loadTemplate(BACKGROUND_TEMPLATE);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, BACKGROUND_TEMPLATE, map);
     }
     
     // output ui widget creation APIs for each page
-    for (PagePane p : cg.getPages()) {
-      if (!p.getPageType().equals(EnumFactory.PROJECT)) {
+    for (CodePage p : cg.getIndex().getUserPages()) {
+      // reuse our last output for any page that hasn't changed
+      String name = "InitGuiPipe:" + cg.getOutputName() + ":" + p.getKey();
+      String pageKey = cg.getPageKey(p);
+      String pageCode = null;
+      if (cg.isIncremental() && pageKey != null) {
+        pageCode = cg.getPageCache().get(name, pageKey);
+      }
+      if (pageCode == null) {
+        StringBuilder pageBd = new StringBuilder();
         map.clear();
         map.put(PAGE_ENUM_MACRO, p.getEnum());
-        templateLines = tm.loadTemplate(PAGECOMMENT_TEMPLATE);
-        outputLines = tm.expandMacros(templateLines, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(pageBd, PAGECOMMENT_TEMPLATE, map);
         for (Widget w : p.getWidgets()) {
-          outputAPI(sBd, p.getEnum(), w.getModel());
+          outputAPI(pageBd, p.getEnum(), w.getModel());
+        }
+        pageCode = pageBd.toString();
+        if (cg.isIncremental() && pageKey != null) {
+          cg.getPageCache().put(name, pageKey, pageCode);
         }
       }
+      if (units != null) {
+        StringBuilder pageBd = new StringBuilder();
+        pageAdd(pageBd, PAGEADD_TEMPLATE, p);
+        pageBd.append(pageCode);
+        units.setInit(p.getEnum(), pageBd.toString());
+      } else {
+        sBd.append(pageCode);
+      }
     }
     
     // output keypad configurations
@@ -273,10 +263,7 @@ public class InitGuiPipe extends WorkFlowPipe {
       KeyPadModel m = (KeyPadModel)NumKeyPadEditor.getInstance().getModel();
       map.clear();
       map.put(PAGE_ENUM_MACRO, EnumFactory.KEYPAD_PAGE_ENUM);
-      templateLines = tm.loadTemplate(PAGECOMMENT_TEMPLATE);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
-      templateLines = tm.loadTemplate(KEYPAD_CONFIG_NUM_TEMPLATE);
+      tm.codeWriter(sBd, PAGECOMMENT_TEMPLATE, map);
       map.clear();
       map.put(CONFIG_MACRO,"&sCfg");
       map.put(ELEMREF_MACRO, EnumFactory.KEYPAD_ELEMREF);
@@ -301,36 +288,24 @@ public class InitGuiPipe extends WorkFlowPipe {
         }
       }
       map.put(FONT_ID_MACRO, name);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, KEYPAD_CONFIG_NUM_TEMPLATE, map);
       if (!m.useDefBtnSize()) {
-        templateLines = tm.loadTemplate(KEYPAD_BUTTONSZ_TEMPLATE);
-        outputLines = tm.expandMacros(templateLines, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, KEYPAD_BUTTONSZ_TEMPLATE, map);
       }
       if (m.getButtonGapX() > 0 || m.getButtonGapY() > 0) {
-        templateLines = tm.loadTemplate(KEYPAD_BUTTONGAP_TEMPLATE);
-        outputLines = tm.expandMacros(templateLines, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, KEYPAD_BUTTONGAP_TEMPLATE, map);
       }
       if (m.isRoundedEn()) {
-        templateLines = tm.loadTemplate(KEYPAD_ROUNDBUTTONS_TEMPLATE);
-        outputLines = tm.expandMacros(templateLines, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, KEYPAD_ROUNDBUTTONS_TEMPLATE, map);
       }
-      templateLines = tm.loadTemplate(KEYPAD_CREATE_NUM_TEMPLATE);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, KEYPAD_CREATE_NUM_TEMPLATE, map);
     }
 
     if (bAddAlphaKeyPad) {
       KeyPadTextModel m = (KeyPadTextModel)AlphaKeyPadEditor.getInstance().getModel();
       map.clear();
       map.put(PAGE_ENUM_MACRO, EnumFactory.ALPHAKEYPAD_PAGE_ENUM);
-      templateLines = tm.loadTemplate(PAGECOMMENT_TEMPLATE);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
-      templateLines = tm.loadTemplate(KEYPAD_CONFIG_TXT_TEMPLATE);
+      tm.codeWriter(sBd, PAGECOMMENT_TEMPLATE, map);
       map.clear();
       map.put(ELEMREF_MACRO, EnumFactory.ALPHAKEYPAD_ELEMREF);
       map.put(PAGE_ENUM_MACRO, m.getEnum());
@@ -353,29 +328,40 @@ public class InitGuiPipe extends WorkFlowPipe {
         }
       }
       map.put(FONT_ID_MACRO, name);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, KEYPAD_CONFIG_TXT_TEMPLATE, map);
       if (!m.useDefBtnSize()) {
-        templateLines = tm.loadTemplate(KEYPAD_BUTTONSZ_TEMPLATE);
-        outputLines = tm.expandMacros(templateLines, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, KEYPAD_BUTTONSZ_TEMPLATE, map);
       }
       if (m.getButtonGapX() > 0 || m.getButtonGapY() > 0) {
-        templateLines = tm.loadTemplate(KEYPAD_BUTTONGAP_TEMPLATE);
-        outputLines = tm.expandMacros(templateLines, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, KEYPAD_BUTTONGAP_TEMPLATE, map);
       }
       if (m.isRoundedEn()) {
-        templateLines = tm.loadTemplate(KEYPAD_ROUNDBUTTONS_TEMPLATE);
-        outputLines = tm.expandMacros(templateLines, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, KEYPAD_ROUNDBUTTONS_TEMPLATE, map);
       }
-      templateLines = tm.loadTemplate(KEYPAD_CREATE_TXT_TEMPLATE);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, KEYPAD_CREATE_TXT_TEMPLATE, map);
     }
   }
   
+  /**
+   * Add a page to our GUI, or when splitting pages 
+   * call the function in its own file that does so.
+   *
+   * @param sBd
+   *          the StringBuilder object containing our project template
+   * @param templateName
+   *          the template name
+   * @param p
+   *          the page
+   */
+  private void pageAdd(StringBuilder sBd, String templateName, CodePage p) {
+    Map<String, String> map = new HashMap<String,String>();
+    map.put(PAGE_ENUM_MACRO, p.getEnum());
+    map.put(STRIP_KEY_MACRO, CodeUtils.convertKey(p.getKey()));
+    map.put(STRIP_ENUM_MACRO, CodeUtils.convertEnum(p.getEnum()));
+    map.put(FUNCTION_MACRO, PageUnits.getInitName(p.getEnum()));
+    tm.codeWriter(sBd, templateName, map);
+  }
+  
    /**
     * Output API.
     *
@@ -391,14 +377,14 @@ public class InitGuiPipe extends WorkFlowPipe {
 //    System.out.println("outputAPI page: " + pageEnum + " widget: " + m.getType());
     switch(m.getType()) {
       case EnumFactory.BOX:
-        if (m.useFlash()) {
+        if (cg.useFlash(m)) {
           Box_P_CodeBlock.process(cg, tm, sBd, pageEnum, m);
         } else {
           BoxCodeBlock.process(cg, tm, sBd, pageEnum, m);
         }
         break;
       case EnumFactory.CHECKBOX:
-        if (m.useFlash()) {
+        if (cg.useFlash(m)) {
           CheckBox_P_CodeBlock.process(cg, tm, sBd, pageEnum, m);
         } else {
           CheckBoxCodeBlock.process(cg, tm, sBd, pageEnum, m);
@@ -420,21 +406,21 @@ public class InitGuiPipe extends WorkFlowPipe {
         ListBoxCodeBlock.process(cg, tm, sBd, pageEnum, m);
         break;
       case EnumFactory.NUMINPUT:
-        if (m.useFlash()) {
+        if (cg.useFlash(m)) {
           NumberInput_P_CodeBlock.process(cg, tm, sBd, pageEnum, m);
         } else {
           NumberInputCodeBlock.process(cg, tm, sBd, pageEnum, m);
         }
         break;
       case EnumFactory.PROGRESSBAR:
-        if (m.useFlash()) {
+        if (cg.useFlash(m)) {
           ProgressBar_P_CodeBlock.process(cg, tm, sBd, pageEnum, m);
         } else {
           ProgressBarCodeBlock.process(cg, tm, sBd, pageEnum, m);
         }
         break;
       case EnumFactory.RADIOBUTTON:
-        if (m.useFlash()) {
+        if (cg.useFlash(m)) {
           RadioButton_P_CodeBlock.process(cg, tm, sBd, pageEnum, m);
         } else {
           RadioButtonCodeBlock.process(cg, tm, sBd, pageEnum, m);
@@ -450,14 +436,14 @@ public class InitGuiPipe extends WorkFlowPipe {
         RingGaugeCodeBlock.process(cg, tm, sBd, pageEnum, m);
         break;
       case EnumFactory.SEEKBAR:
-        if (m.useFlash()) {
+        if (cg.useFlash(m)) {
           Seekbar_P_CodeBlock.process(cg, tm, sBd, pageEnum, m);
         } else {
           SeekbarCodeBlock.process(cg, tm, sBd, pageEnum, m);
         }
         break;
       case EnumFactory.SLIDER:
-        if (m.useFlash()) {
+        if (cg.useFlash(m)) {
           Slider_P_CodeBlock.process(cg, tm, sBd, pageEnum, m);
         } else {
           SliderCodeBlock.process(cg, tm, sBd, pageEnum, m);
@@ -467,7 +453,7 @@ public class InitGuiPipe extends WorkFlowPipe {
         SpinnerCodeBlock.process(cg, tm, sBd, pageEnum, m);
         break;
       case EnumFactory.TEXT:
-        if (m.useFlash()) {
+        if (cg.useFlash(m)) {
           Text_P_CodeBlock.process(cg, tm, sBd, pageEnum, m);
         } else {
           TextCodeBlock.process(cg, tm, sBd, pageEnum, m);
@@ -477,21 +463,21 @@ public class InitGuiPipe extends WorkFlowPipe {
         TextBoxCodeBlock.process(cg, tm, sBd, pageEnum, m);
         break;
       case EnumFactory.TEXTBUTTON:
-        if (m.useFlash()) {
+        if (cg.useFlash(m)) {
           TxtButton_P_CodeBlock.process(cg, tm, sBd, pageEnum, m);
         } else {
           TxtButtonCodeBlock.process(cg, tm, sBd, pageEnum, m);
         }
         break;
       case EnumFactory.TEXTINPUT:
-        if (m.useFlash()) {
+        if (cg.useFlash(m)) {
           TextInput_P_CodeBlock.process(cg, tm, sBd, pageEnum, m);
         } else {
           TextInputCodeBlock.process(cg, tm, sBd, pageEnum, m);
         }
         break;
       case EnumFactory.TOGGLEBUTTON:
-        if (m.useFlash()) {
+        if (cg.useFlash(m)) {
           ToggleButton_P_CodeBlock.process(cg, tm, sBd, pageEnum, m);
         } else {
           ToggleButtonCodeBlock.process(cg, tm, sBd, pageEnum, m);
@@ -25,8 +25,6 @@
  */
 package builder.codegen.pipes;
 
-import java.io.BufferedReader;
-import java.io.IOException;
 import java.lang.StringBuilder;
 
 import java.util.ArrayList;
@@ -36,9 +34,9 @@ import java.util.Map;
 
 import builder.codegen.CodeGenException;
 import builder.codegen.CodeGenerator;
+import builder.codegen.TaggedDocument;
 import builder.codegen.Tags;
 import builder.codegen.TemplateManager;
-import builder.common.EnumFactory;
 import builder.models.WidgetModel;
 
 /**
@@ -71,6 +69,10 @@ public class ListboxCbPipe extends WorkFlowPipe {
    */
   public ListboxCbPipe(CodeGenerator cg) {
     this.cg = cg;
+    this.MY_TAG     = Tags.TAG_PREFIX + Tags.LISTBOXCB_TAG + Tags.TAG_SUFFIX_START;
+    this.MY_END_TAG = Tags.TAG_PREFIX + Tags.LISTBOXCB_TAG + Tags.TAG_SUFFIX_END;
+    this.MY_ENUM_TAG     = Tags.TAG_PREFIX + Tags.LISTBOX_ENUMS_TAG + Tags.TAG_SUFFIX_START;
+    this.MY_ENUM_END_TAG = Tags.TAG_PREFIX + Tags.LISTBOX_ENUMS_TAG + Tags.TAG_SUFFIX_END;
   }
   
   /**
@@ -94,13 +96,8 @@ public class ListboxCbPipe extends WorkFlowPipe {
    * @see builder.codegen.pipes.Pipe#process(java.lang.Object, java.lang.Object)
    */
   @Override
-  public StringBuilder process(StringBuilder input) throws CodeGenException {
-    this.MY_TAG     = Tags.TAG_PREFIX + Tags.LISTBOXCB_TAG + Tags.TAG_SUFFIX_START;
-    this.MY_END_TAG = Tags.TAG_PREFIX + Tags.LISTBOXCB_TAG + Tags.TAG_SUFFIX_END;
-    this.MY_ENUM_TAG     = Tags.TAG_PREFIX + Tags.LISTBOX_ENUMS_TAG + Tags.TAG_SUFFIX_START;
-    this.MY_ENUM_END_TAG = Tags.TAG_PREFIX + Tags.LISTBOX_ENUMS_TAG + Tags.TAG_SUFFIX_END;
-    
-    return super.processCB(input);
+  public TaggedDocument process(TaggedDocument doc) throws CodeGenException {
+    return super.processCB(doc);
         
   }
 
@@ -109,23 +106,15 @@ public class ListboxCbPipe extends WorkFlowPipe {
    *  Builds up a list of models that require a callback then calls 
    *  outputButtonCB with this list for the actual code generation.
    *
-   * @param br
-   *          the buffered reader of our project template input
-   * @param sBd
-   *          the StringBuilder object containing our project template
-   * @throws IOException
-   *           Signals that an I/O exception has occurred.
+   * @param region
+   *          the callback's tagged region of our project template
    */
   @Override
-  public void doCbCommon(BufferedReader br, StringBuilder sBd) throws IOException {
+  public void doCbCommon(TaggedDocument.Section region) {
     
-    // build up a list of widget models that have button callbacks enabled
-    callbackList = new ArrayList<WidgetModel>();
-    for (WidgetModel m : cg.getModels()) {
-      if (m.getType().equals(EnumFactory.LISTBOX)) 
-        callbackList.add(m);
-    }
-    super.doCbCommon(br, sBd);
+    // grab our listboxes, each one gets a case in our listbox callback
+    callbackList = cg.getIndex().getListboxCallbacks();
+    super.doCbCommon(region);
   }
   
    /**
@@ -145,22 +134,18 @@ public class ListboxCbPipe extends WorkFlowPipe {
     StringBuilder sTemp = new StringBuilder();
     // create our callback section - start by opening our templates
     tm = cg.getTemplateManager();
-    List<String> templateStandard = tm.loadTemplate(LISTBOX_CASE_TEMPLATE);
     List<String> outputLines;
     Map<String, String> map = new HashMap<String, String>();
     for (WidgetModel m : callbackList) {
       map.put(ENUM_MACRO, m.getEnum());
-      outputLines = tm.expandMacros(templateStandard, map);
-      tm.codeWriter(sTemp, outputLines);
+      tm.codeWriter(sTemp, LISTBOX_CASE_TEMPLATE, map);
     }
 
     // now we place all of our new case statements inside our callback template
     map.clear();
     String sButtons = sTemp.toString();
     map.put(CALLBACK_MACRO, sButtons);
-    List<String> templateLines = tm.loadTemplate(LISTBOX_CB_TEMPLATE);
-    outputLines = tm.expandMacros(templateLines, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, LISTBOX_CB_TEMPLATE, map);
 
   }
 
@@ -169,34 +154,30 @@ public class ListboxCbPipe extends WorkFlowPipe {
    *  The callback already exists so we just process what is  
    *  between the LISTBOX_ENUMS_TAG and LISTBOX_ENUMS_END_TAG here.
    *
-   * @param br
-   *          the buffered reader of our project template input
+   * @param lines
+   *          the existing lines between our enum tags
    * @param sBd
    *          the StringBuilder object containing our project template output
    */
   @Override
-  public void doEnums(BufferedReader br, StringBuilder sBd) throws IOException {
+  public void doEnums(List<String> lines, StringBuilder sBd) {
     tm = cg.getTemplateManager();
 
-    // build up a list of widget models that have button callbacks enabled
+    // grab our listboxes, each one gets a case in our listbox callback
     // also, save the enums into our enumMap for easier checking for existence.
-    callbackList = new ArrayList<WidgetModel>();
+    callbackList = cg.getIndex().getListboxCallbacks();
     List<String> enumList = new ArrayList<String>();
-    for (WidgetModel m : cg.getModels()) {
-      if (m.getType().equals(EnumFactory.LISTBOX)) {
-        callbackList.add(m);
-        enumList.add(m.getEnum());
-      }
+    for (WidgetModel m : callbackList) {
+      enumList.add(m.getEnum());
     }
 // BUG 122 - Deletion of listbox leaves ENUM case statement in CbListbox callback
 //    if (callbackList.size() == 0)
 //      return;
     
     // this removes duplicates and detects and removes deleted ui elements
-    Map<String, String> enumMap = super.mapEnums(br, sBd, enumList);
+    Map<String, String> enumMap = super.mapEnums(lines, sBd, enumList);
     
     // now deal with our new enums    
-    List<String> templateStandard = tm.loadTemplate(LISTBOX_CASE_TEMPLATE);
     List<String> outputLines;
     Map<String, String> map = new HashMap<String,String>();
     for (WidgetModel m : callbackList) {
@@ -207,8 +188,7 @@ public class ListboxCbPipe extends WorkFlowPipe {
       if (enumMap.get(m.getEnum()).equals("0")) {
         map.clear();
         map.put(ENUM_MACRO, m.getEnum());
-        outputLines = tm.expandMacros(templateStandard, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, LISTBOX_CASE_TEMPLATE, map);
       }
     }
   }    
@@ -27,7 +27,6 @@ package builder.codegen.pipes;
 
 import java.lang.StringBuilder;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -80,19 +79,14 @@ public class PathStoragePipe extends WorkFlowPipe {
   public void doCodeGen(StringBuilder sBd) {
     // scan our models for matching UI widgets and output image path storage
     tm = cg.getTemplateManager();
-    List<String> imageTemplate = tm.loadTemplate(IMAGE_PATH_TEMPLATE);;
-    List<String> buttonTemplate = tm.loadTemplate(IMGBUTTON_PATH_TEMPLATE);;
-    List<String> outputLines = null;
     Map<String, String> map = new HashMap<String,String>();
-    for (WidgetModel m : cg.getModels()) {
+    for (WidgetModel m : cg.getIndex().getImageModels()) {
       if (m.getType().equals(EnumFactory.IMAGE)) {
         map.put(COUNT_MACRO, CodeUtils.getKeyCount(m.getKey()));
-        outputLines = tm.expandMacros(imageTemplate, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, IMAGE_PATH_TEMPLATE, map);
       } else if (m.getType().equals(EnumFactory.IMAGEBUTTON)) { 
         map.put(COUNT_MACRO, CodeUtils.getKeyCount(m.getKey()));
-        outputLines = tm.expandMacros(buttonTemplate, map);
-        tm.codeWriter(sBd, outputLines);
+        tm.codeWriter(sBd, IMGBUTTON_PATH_TEMPLATE, map);
       }
     }
   }
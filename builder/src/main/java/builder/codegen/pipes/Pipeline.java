@@ -25,8 +25,13 @@
  */
 package builder.codegen.pipes;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import builder.codegen.CodeGenException;
 
@@ -36,6 +41,12 @@ import builder.codegen.CodeGenException;
  * 
  * Since it's a template you can define many workflows.
  * 
+ * A pipeline can also run in fork-join mode where every pipe
+ * is handed the same input and all of them run at once.
+ * This is only safe when each pipe updates its own
+ * distinct part of the input, as our code generation pipes
+ * do with the tagged regions of a <code>TaggedDocument</code>.
+ * 
  * @author Paul Conti
  *
  * @param <U>
@@ -48,6 +59,9 @@ public class Pipeline<T> {
     /** The pipes. */
     private final List<Pipe<T>> pipes;
 
+    /** The pool used to run our pipes concurrently, null to run them in order. */
+    private ForkJoinPool pool = null;
+
     /**
      * Instantiates a new pipeline.
      *
@@ -70,11 +84,77 @@ public class Pipeline<T> {
      *           the code generation exception
      */
     public T process(T input) throws CodeGenException {
+        if (pool != null) {
+            return forkJoin(input);
+        }
         T processed = input;
         for (Pipe<T> pipe : pipes) {
             processed = pipe.process(processed);
         }
         return processed;
     }
+
+    /**
+     * Gets the number of pipes in our workflow.
+     *
+     * @return the number of pipes
+     */
+    public int size() {
+        return pipes.size();
+    }
+
+    /**
+     * Sets the fork-join pool.
+     *
+     * @param pool
+     *          the pool to run our pipes on, 
+     *          or <code>null</code> to run them one after another
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Run each pipe on its own worker and wait for all of them.
+     * 
+     * Should more than one pipe fail we report the first one
+     * in workflow order so errors match a sequential run.
+     *
+     * @param input
+     *          the input shared by every pipe
+     * @return the processed input
+     * @throws CodeGenException
+     *           the code generation exception
+     */
+    private T forkJoin(final T input) throws CodeGenException {
+        List<Callable<T>> tasks = new ArrayList<Callable<T>>(pipes.size());
+        for (final Pipe<T> pipe : pipes) {
+            tasks.add(new Callable<T>() {
+                @Override
+                public T call() {
+                    return pipe.process(input);
+                }
+            });
+        }
+        List<Future<T>> results = pool.invokeAll(tasks);
+        try {
+            for (Future<T> f : results) {
+                f.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CodeGenException(cause.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CodeGenException(e.toString());
+        }
+        return input;
+    }
 }
 
@@ -33,6 +33,7 @@ import java.util.Map;
 
 import builder.codegen.CodeGenerator;
 import builder.codegen.CodeUtils;
+import builder.codegen.ImageResources;
 import builder.codegen.Tags;
 import builder.codegen.TemplateManager;
 import builder.common.EnumFactory;
@@ -89,7 +90,6 @@ public class ResourcesPipe extends WorkFlowPipe {
     List<String> resources = new ArrayList<String>();
     // now pull out from the models the resources as strings that GUIslice can understand
     tm = cg.getTemplateManager();
-    List<String> defineTemplate = tm.loadTemplate(RESOURCE_DEFINE_TEMPLATE);
     List<String> outputLines = null;
     Map<String, String> map = new HashMap<String,String>();
     // deal with background image, if any
@@ -97,30 +97,38 @@ public class ResourcesPipe extends WorkFlowPipe {
     if (pm.useBackgroundImage()) { 
        map.put(DEFINE_MACRO, pm.getBackgroundDefine());
        map.put(IMAGE_NAME_MACRO, pm.getBackgroundImageTName()); // use target name
-       outputLines = tm.expandMacros(defineTemplate, map);
+       outputLines = tm.expandMacros(RESOURCE_DEFINE_TEMPLATE, map);
        resources.add(outputLines.get(0));
     }
+    // images we wrote as C arrays no longer need their #define
+    ImageResources images = cg.getImageResources();
+    if (images != null) {
+      for (String s : images.format()) {
+        sBd.append("// " + s);
+        sBd.append(System.lineSeparator());
+      }
+    }
     // gather all #define names
-    for (WidgetModel m : cg.getModels()) {
+    for (WidgetModel m : cg.getIndex().getImageModels()) {
       map.clear();
       if (m.getType().equals(EnumFactory.IMAGE)) {
-        if (!((ImageModel)m).getDefine().isEmpty()) {
+        if (!((ImageModel)m).getDefine().isEmpty() && !isArray(images, ((ImageModel)m).getDefine())) {
           map.put(DEFINE_MACRO, ((ImageModel) m).getDefine());
           map.put(IMAGE_NAME_MACRO, ((ImageModel) m).getImageName());
-          outputLines = tm.expandMacros(defineTemplate, map);
+          outputLines = tm.expandMacros(RESOURCE_DEFINE_TEMPLATE, map);
           resources.add(outputLines.get(0));
         }
       } else if (m.getType().equals(EnumFactory.IMAGEBUTTON)) { 
-        if (!((ImgButtonModel)m).getDefine().isEmpty()) {
+        if (!((ImgButtonModel)m).getDefine().isEmpty() && !isArray(images, ((ImgButtonModel)m).getDefine())) {
           map.put(DEFINE_MACRO, ((ImgButtonModel) m).getDefine());
           map.put(IMAGE_NAME_MACRO, ((ImgButtonModel) m).getImageName());
-          outputLines = tm.expandMacros(defineTemplate, map);
+          outputLines = tm.expandMacros(RESOURCE_DEFINE_TEMPLATE, map);
           resources.add(outputLines.get(0));
         }
-        if (!((ImgButtonModel)m).getSelDefine().isEmpty()) {
+        if (!((ImgButtonModel)m).getSelDefine().isEmpty() && !isArray(images, ((ImgButtonModel)m).getSelDefine())) {
           map.put(DEFINE_MACRO, ((ImgButtonModel) m).getSelDefine());
           map.put(IMAGE_NAME_MACRO, ((ImgButtonModel) m).getSelectImageName());
-          outputLines = tm.expandMacros(defineTemplate, map);
+          outputLines = tm.expandMacros(RESOURCE_DEFINE_TEMPLATE, map);
           resources.add(outputLines.get(0));
         }
       }
@@ -136,24 +144,21 @@ public class ResourcesPipe extends WorkFlowPipe {
       }
     }
     // now make pass to gather all extern names, if any
-    List<String> progmemTemplate = tm.loadTemplate(RESOURCE_PROGMEM_TEMPLATE);
-    List<String> progmemRawTemplate = tm.loadTemplate(RESOURCE_PROGMEM_RAW_TEMPLATE);
-    List<String> externTemplate = tm.loadTemplate(RESOURCE_EXTERN_TEMPLATE);
     map.clear();
     resources.clear();
-    for (WidgetModel m : cg.getModels()) {
+    for (WidgetModel m : cg.getIndex().getImageModels()) {
       if (m.getType().equals(EnumFactory.IMAGE)) {
         if (!((ImageModel)m).getExternName().isEmpty()) {
           map.put(EXTERN_NAME_MACRO, ((ImageModel) m).getExternName());
           
           if (((ImageModel)m).getMemory().equals(ImageModel.SRC_PROG)) {
             if (((ImageModel)m).getImageFormat().equals(ImageModel.FORMAT_RAW)) {
-              outputLines = tm.expandMacros(progmemRawTemplate, map);
+              outputLines = tm.expandMacros(RESOURCE_PROGMEM_RAW_TEMPLATE, map);
             } else {
-              outputLines = tm.expandMacros(progmemTemplate, map);
+              outputLines = tm.expandMacros(RESOURCE_PROGMEM_TEMPLATE, map);
             }
           } else {
-            outputLines = tm.expandMacros(externTemplate, map);
+            outputLines = tm.expandMacros(RESOURCE_EXTERN_TEMPLATE, map);
           }
           resources.add(outputLines.get(0));
         }
@@ -162,12 +167,12 @@ public class ResourcesPipe extends WorkFlowPipe {
           map.put(EXTERN_NAME_MACRO, ((ImgButtonModel) m).getExternName());
           if (((ImgButtonModel)m).getMemory().equals(ImgButtonModel.SRC_PROG)) {
             if (((ImgButtonModel)m).getImageFormat().equals(ImageModel.FORMAT_RAW)) {
-              outputLines = tm.expandMacros(progmemRawTemplate, map);
+              outputLines = tm.expandMacros(RESOURCE_PROGMEM_RAW_TEMPLATE, map);
             } else {
-              outputLines = tm.expandMacros(progmemTemplate, map);
+              outputLines = tm.expandMacros(RESOURCE_PROGMEM_TEMPLATE, map);
             }
           } else {
-            outputLines = tm.expandMacros(externTemplate, map);
+            outputLines = tm.expandMacros(RESOURCE_EXTERN_TEMPLATE, map);
           }
           resources.add(outputLines.get(0));
         }
@@ -175,17 +180,28 @@ public class ResourcesPipe extends WorkFlowPipe {
           map.put(EXTERN_NAME_MACRO, ((ImgButtonModel) m).getSelExternName());
           if (((ImgButtonModel)m).getSelMemory().equals(ImgButtonModel.SRC_PROG)) {
             if (((ImgButtonModel)m).getImageFormat().equals(ImageModel.FORMAT_RAW)) {
-              outputLines = tm.expandMacros(progmemRawTemplate, map);
+              outputLines = tm.expandMacros(RESOURCE_PROGMEM_RAW_TEMPLATE, map);
             } else {
-              outputLines = tm.expandMacros(progmemTemplate, map);
+              outputLines = tm.expandMacros(RESOURCE_PROGMEM_TEMPLATE, map);
             }
           } else {
-            outputLines = tm.expandMacros(externTemplate, map);
+            outputLines = tm.expandMacros(RESOURCE_EXTERN_TEMPLATE, map);
           }
           resources.add(outputLines.get(0));
         }
       }
     }
+    if (images != null) {
+      for (ImageResources.Resource r : images.getResources()) {
+        map.put(EXTERN_NAME_MACRO, r.getExternName());
+        if (r.isRaw()) {
+          outputLines = tm.expandMacros(RESOURCE_PROGMEM_RAW_TEMPLATE, map);
+        } else {
+          outputLines = tm.expandMacros(RESOURCE_PROGMEM_TEMPLATE, map);
+        }
+        resources.add(outputLines.get(0));
+      }
+    }
     if (resources.size() > 0) {
       CodeUtils.sortListandRemoveDups(resources);
       // finish off by outputting resources, if any
@@ -196,5 +212,18 @@ public class ResourcesPipe extends WorkFlowPipe {
     }
   }
 
+  /**
+   * Test if an image was written out as a C array.
+   *
+   * @param images
+   *          the image resources, may be null
+   * @param define
+   *          the #define naming the image
+   * @return true, if our image is in flash
+   */
+  private boolean isArray(ImageResources images, String define) {
+    return images != null && images.getResource(define) != null;
+  }
+
 }
   
\ No newline at end of file
@@ -25,8 +25,6 @@
  */
 package builder.codegen.pipes;
 
-import java.io.BufferedReader;
-import java.io.IOException;
 import java.lang.StringBuilder;
 
 import java.util.ArrayList;
@@ -36,11 +34,10 @@ import java.util.Map;
 
 import builder.codegen.CodeGenException;
 import builder.codegen.CodeGenerator;
+import builder.codegen.TaggedDocument;
 import builder.codegen.Tags;
 import builder.codegen.TemplateManager;
 import builder.common.EnumFactory;
-import builder.models.ListBoxModel;
-import builder.models.TextBoxModel;
 import builder.models.WidgetModel;
 
 /**
@@ -75,6 +72,10 @@ public class SliderCbPipe extends WorkFlowPipe {
    */
   public SliderCbPipe(CodeGenerator cg) {
     this.cg = cg;
+    this.MY_TAG     = Tags.TAG_PREFIX + Tags.SLIDERCB_TAG + Tags.TAG_SUFFIX_START;
+    this.MY_END_TAG = Tags.TAG_PREFIX + Tags.SLIDERCB_TAG + Tags.TAG_SUFFIX_END;
+    this.MY_ENUM_TAG     = Tags.TAG_PREFIX + Tags.SLIDER_ENUMS_TAG + Tags.TAG_SUFFIX_START;
+    this.MY_ENUM_END_TAG = Tags.TAG_PREFIX + Tags.SLIDER_ENUMS_TAG + Tags.TAG_SUFFIX_END;
   }
   
   /**
@@ -98,13 +99,8 @@ public class SliderCbPipe extends WorkFlowPipe {
    * @see builder.codegen.pipes.Pipe#process(java.lang.Object, java.lang.Object)
    */
   @Override
-  public StringBuilder process(StringBuilder input) throws CodeGenException {
-    this.MY_TAG     = Tags.TAG_PREFIX + Tags.SLIDERCB_TAG + Tags.TAG_SUFFIX_START;
-    this.MY_END_TAG = Tags.TAG_PREFIX + Tags.SLIDERCB_TAG + Tags.TAG_SUFFIX_END;
-    this.MY_ENUM_TAG     = Tags.TAG_PREFIX + Tags.SLIDER_ENUMS_TAG + Tags.TAG_SUFFIX_START;
-    this.MY_ENUM_END_TAG = Tags.TAG_PREFIX + Tags.SLIDER_ENUMS_TAG + Tags.TAG_SUFFIX_END;
-    
-    return super.processCB(input);
+  public TaggedDocument process(TaggedDocument doc) throws CodeGenException {
+    return super.processCB(doc);
         
   }
 
@@ -113,29 +109,14 @@ public class SliderCbPipe extends WorkFlowPipe {
    *  Builds up a list of models that require a callback then calls 
    *  outputButtonCB with this list for the actual code generation.
    *
-   * @param br
-   *          the buffered reader of our project template input
-   * @param sBd
-   *          the StringBuilder object containing our project template
-   * @throws IOException
-   *           Signals that an I/O exception has occurred.
+   * @param region
+   *          the callback's tagged region of our project template
    */
   @Override
-  public void doCbCommon(BufferedReader br, StringBuilder sBd) throws IOException {
-    // build up a list of widget models that have button callbacks enabled
-    callbackList = new ArrayList<WidgetModel>();
-    for (WidgetModel m : cg.getModels()) {
-      if (m.getType().equals(EnumFactory.SLIDER)) {
-        callbackList.add(m);
-      } else if (m.getType().equals(EnumFactory.SEEKBAR)) {
-        callbackList.add(m);
-      } else if (m.getType().equals(EnumFactory.LISTBOX) && ((ListBoxModel) m).addScrollbar()) {
-        callbackList.add(m);
-      } else if (m.getType().equals(EnumFactory.TEXTBOX) && ((TextBoxModel) m).addScrollbar()) {
-        callbackList.add(m);
-      }
-    }
-    super.doCbCommon(br, sBd);
+  public void doCbCommon(TaggedDocument.Section region) {
+    // grab our sliders, seekbars and scrollbars of list and text boxes
+    callbackList = cg.getIndex().getSliderCallbacks();
+    super.doCbCommon(region);
   }
   
    /**
@@ -155,8 +136,6 @@ public class SliderCbPipe extends WorkFlowPipe {
     StringBuilder sTemp = new StringBuilder();
     // create our callback section - start by opening our templates
     tm = cg.getTemplateManager();
-    List<String> templateStandard = tm.loadTemplate(SLIDER_CASE_TEMPLATE);
-    List<String> templateSeekbar = tm.loadTemplate(SEEKBAR_CASE_TEMPLATE);
     List<String> outputLines;
     Map<String, String> map = new HashMap<String, String>();
     for (WidgetModel m : callbackList) {
@@ -164,23 +143,19 @@ public class SliderCbPipe extends WorkFlowPipe {
       if (m.getType().equals(EnumFactory.SLIDER)) {
         map.put(ENUM_MACRO, m.getEnum());
         map.put(ELEMREF_MACRO, m.getElementRef());
-        outputLines = tm.expandMacros(templateStandard, map);
-        tm.codeWriter(sTemp, outputLines);
+        tm.codeWriter(sTemp, SLIDER_CASE_TEMPLATE, map);
       } else if (m.getType().equals(EnumFactory.SEEKBAR)) {
         map.put(ENUM_MACRO, m.getEnum());
         map.put(ELEMREF_MACRO, m.getElementRef());
-        outputLines = tm.expandMacros(templateSeekbar, map);
-        tm.codeWriter(sTemp, outputLines);
+        tm.codeWriter(sTemp, SEEKBAR_CASE_TEMPLATE, map);
       } else if (m.getType().equals(EnumFactory.LISTBOX)) {
         map.put(ENUM_MACRO, m.getScrollbarEnum());
         map.put(ELEMREF_MACRO, m.getScrollbarERef());
-        outputLines = tm.expandMacros(templateStandard, map);
-        tm.codeWriter(sTemp, outputLines);
+        tm.codeWriter(sTemp, SLIDER_CASE_TEMPLATE, map);
       } else if (m.getType().equals(EnumFactory.TEXTBOX)) {
         map.put(ENUM_MACRO, m.getScrollbarEnum());
         map.put(ELEMREF_MACRO, m.getScrollbarERef());
-        outputLines = tm.expandMacros(templateStandard, map);
-        tm.codeWriter(sTemp, outputLines);
+        tm.codeWriter(sTemp, SLIDER_CASE_TEMPLATE, map);
       }
     }
 
@@ -188,9 +163,7 @@ public class SliderCbPipe extends WorkFlowPipe {
     map.clear();
     String sButtons = sTemp.toString();
     map.put(CALLBACK_MACRO, sButtons);
-    List<String> templateLines = tm.loadTemplate(SLIDER_CB_TEMPLATE);
-    outputLines = tm.expandMacros(templateLines, map);
-    tm.codeWriter(sBd, outputLines);
+    tm.codeWriter(sBd, SLIDER_CB_TEMPLATE, map);
 
   }
 
@@ -199,31 +172,26 @@ public class SliderCbPipe extends WorkFlowPipe {
    *  The callback already exists so we just process what is  
    *  between the SLIDER_ENUMS_TAG and SLIDER_ENUMS_END_TAG here.
    *
-   * @param br
-   *          the buffered reader of our project template input
+   * @param lines
+   *          the existing lines between our enum tags
    * @param sBd
    *          the StringBuilder object containing our project template output
     * @param mList
     *          the model list to process for callback buttons
    */
   @Override
-  public void doEnums(BufferedReader br, StringBuilder sBd) throws IOException {
+  public void doEnums(List<String> lines, StringBuilder sBd) {
     tm = cg.getTemplateManager();
 
-    // build up a list of widget models that have button callbacks enabled
+    // grab our sliders, seekbars and scrollbars of list and text boxes
     // also, save the enums into our enumMap for easier checking for existence.
-    callbackList = new ArrayList<WidgetModel>();
+    callbackList = cg.getIndex().getSliderCallbacks();
     List<String> enumList = new ArrayList<String>();
-    for (WidgetModel m : cg.getModels()) {
-      if (m.getType().equals(EnumFactory.SLIDER)) {
-        callbackList.add(m);
-        enumList.add(m.getEnum());
-      } else if (m.getType().equals(EnumFactory.SEEKBAR)) {
-        callbackList.add(m);
-        enumList.add(m.getEnum());
-      } else if (m.addScrollbar()) {
-        callbackList.add(m);
+    for (WidgetModel m : callbackList) {
+      if (m.addScrollbar()) {
         enumList.add(m.getScrollbarEnum());
+      } else {
+        enumList.add(m.getEnum());
       }
     }
 // BUG 122 - Deletion of listbox leaves ENUM case statements in slider callback
@@ -231,11 +199,9 @@ public class SliderCbPipe extends WorkFlowPipe {
 //      return;
     
     // this removes duplicates and detects and removes deleted ui elements
-    Map<String, String> enumMap = super.mapEnums(br, sBd, enumList);
+    Map<String, String> enumMap = super.mapEnums(lines, sBd, enumList);
     
     // now deal with our new enums    
-    List<String> templateStandard = tm.loadTemplate(SLIDER_CASE_TEMPLATE);
-    List<String> templateSeekbar = tm.loadTemplate(SEEKBAR_CASE_TEMPLATE);
     List<String> outputLines;
     Map<String, String> map = new HashMap<String,String>();
     for (WidgetModel m : callbackList) {
@@ -248,29 +214,25 @@ public class SliderCbPipe extends WorkFlowPipe {
         if (enumMap.get(m.getEnum()).equals("0")) {
           map.put(ENUM_MACRO, m.getEnum());
           map.put(ELEMREF_MACRO, m.getElementRef());
-          outputLines = tm.expandMacros(templateStandard, map);
-          tm.codeWriter(sBd, outputLines);
+          tm.codeWriter(sBd, SLIDER_CASE_TEMPLATE, map);
         }
       } else if (m.getType().equals(EnumFactory.SEEKBAR)) {
         if (enumMap.get(m.getEnum()).equals("0")) {
           map.put(ENUM_MACRO, m.getEnum());
           map.put(ELEMREF_MACRO, m.getElementRef());
-          outputLines = tm.expandMacros(templateSeekbar, map);
-          tm.codeWriter(sBd, outputLines);
+          tm.codeWriter(sBd, SEEKBAR_CASE_TEMPLATE, map);
         }
       } else if (m.getType().equals(EnumFactory.LISTBOX)) {
         if (enumMap.get(m.getScrollbarEnum()).equals("0")) {
           map.put(ENUM_MACRO, m.getScrollbarEnum());
           map.put(ELEMREF_MACRO, m.getScrollbarERef());
-          outputLines = tm.expandMacros(templateStandard, map);
-          tm.codeWriter(sBd, outputLines);
+          tm.codeWriter(sBd, SLIDER_CASE_TEMPLATE, map);
         }
       } else if (m.getType().equals(EnumFactory.TEXTBOX)) {
         if (enumMap.get(m.getScrollbarEnum()).equals("0")) {
           map.put(ENUM_MACRO, m.getScrollbarEnum());
           map.put(ELEMREF_MACRO, m.getScrollbarERef());
-          outputLines = tm.expandMacros(templateStandard, map);
-          tm.codeWriter(sBd, outputLines);
+          tm.codeWriter(sBd, SLIDER_CASE_TEMPLATE, map);
         }
       }
 
@@ -28,7 +28,6 @@ package builder.codegen.pipes;
 import java.awt.Color;
 import java.lang.StringBuilder;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import builder.codegen.CodeGenerator;
@@ -86,8 +85,6 @@ public class StartupPipe extends WorkFlowPipe {
     ProjectModel pm = Controller.getProjectModel();
     // setup    
     tm = cg.getTemplateManager();
-    List<String> templateLines = null;
-    List<String> outputLines = null;
     Map<String, String> map = new HashMap<String,String>();
 
     // do we need to set transparency color?
@@ -97,9 +94,7 @@ public class StartupPipe extends WorkFlowPipe {
       map.clear();
       String strColor = ColorFactory.getInstance().colorAsString(color);
       map.put(COLOR_MACRO, strColor);      
-      templateLines = tm.loadTemplate(TRANSPARENCY_COLOR_TEMPLATE);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, TRANSPARENCY_COLOR_TEMPLATE, map);
     }
 
     // do we need to rotate display?
@@ -107,9 +102,7 @@ public class StartupPipe extends WorkFlowPipe {
       // seems so.. 
       map.clear();
       map.put(ROTATION_MACRO, String.valueOf(pm.getScreenRotation()));      
-      templateLines = tm.loadTemplate(ROTATE_TEMPLATE);
-      outputLines = tm.expandMacros(templateLines, map);
-      tm.codeWriter(sBd, outputLines);
+      tm.codeWriter(sBd, ROTATE_TEMPLATE, map);
     }
   }
 
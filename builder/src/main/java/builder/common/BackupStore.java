@@ -0,0 +1,501 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.common;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The Class BackupStore keeps old copies of files inside a backup folder.
+ * <p>
+ * Each snapshot is gzip compressed and stored once under the SHA-1 of its
+ * content, so saving the same file again and again costs nothing.
+ * An index file lists every snapshot by file name and time. New snapshots
+ * are appended to the index and old ones are dropped once the per file
+ * count or the folder size limit is exceeded, oldest first.
+ * </p>
+ * <p>
+ * The index is read once and then kept in memory, so adding a snapshot
+ * does not depend on how many backups already exist. Dropped snapshots
+ * are appended as removal records and the index is only rewritten
+ * when these records outnumber the live ones.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public class BackupStore {
+
+  /** The name of our index file inside the backup folder. */
+  public static final String INDEX_FILE = "backup.idx";
+  
+  /** The extension of our compressed snapshots. */
+  public static final String BLOB_EXT = ".gz";
+  
+  /** The stores already opened, one per backup folder. */
+  private static final Map<String, BackupStore> stores = 
+      new ConcurrentHashMap<String, BackupStore>();
+  
+  /** The backup folder. */
+  private final Path folder;
+  
+  /** The index file. */
+  private final Path index;
+  
+  /** Every live snapshot, oldest first. */
+  private final LinkedHashSet<Entry> entries = new LinkedHashSet<Entry>();
+  
+  /** The live snapshots of each file name, oldest first. */
+  private final Map<String, ArrayDeque<Entry>> byName = 
+      new HashMap<String, ArrayDeque<Entry>>();
+  
+  /** The number of snapshots referring to each blob. */
+  private final Map<String, Integer> refCount = new HashMap<String, Integer>();
+  
+  /** The compressed size of all blobs. */
+  private long storedBytes = 0;
+  
+  /** The number of lines in the index file. */
+  private int indexLines = 0;
+  
+  /** The index length and time we last saw, to notice outside edits. */
+  private long indexLength = -1;
+  private long indexTime = -1;
+
+  /**
+   * Gets the store for a backup folder, creating the folder if needed.
+   *
+   * @param dir
+   *          the backup folder
+   * @return the <code>BackupStore</code> object
+   */
+  public static BackupStore getStore(File dir) {
+    Path path = dir.toPath().toAbsolutePath().normalize();
+    return stores.computeIfAbsent(path.toString(), k -> new BackupStore(path));
+  }
+  
+  /**
+   * Instantiates a new backup store.
+   *
+   * @param folder
+   *          the backup folder
+   */
+  private BackupStore(Path folder) {
+    this.folder = folder;
+    this.index = folder.resolve(INDEX_FILE);
+  }
+  
+  /**
+   * Add a snapshot of a file to our store.
+   *
+   * @param file
+   *          the file to snapshot
+   * @param name
+   *          the name to file it under
+   * @param maxCount
+   *          the number of snapshots to keep of this name, 0 for no limit
+   * @param maxBytes
+   *          the most space our blobs may use, 0 for no limit
+   * @return <code>true</code> if a new snapshot was added, <code>false</code>
+   *         if the latest one already held this content
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  public synchronized boolean add(File file, String name, int maxCount, long maxBytes)
+      throws IOException {
+    Files.createDirectories(folder);
+    load();
+    Path src = file.toPath();
+    String hash = hash(src);
+    ArrayDeque<Entry> list = byName.get(name);
+    if (list != null && !list.isEmpty() && list.peekLast().hash.equals(hash)) {
+      return false;
+    }
+    long stored = store(src, hash);
+    long time = Math.max(System.currentTimeMillis(), 
+        list == null || list.isEmpty() ? 0 : list.peekLast().time + 1);
+    Entry e = new Entry(hash, stored, Files.size(src), time, name);
+    link(e);
+    append(e.toLine());
+    
+    StringBuilder removed = new StringBuilder();
+    if (maxCount > 0) {
+      list = byName.get(name);
+      while (list.size() > maxCount) {
+        drop(list.peekFirst(), removed);
+      }
+    }
+    if (maxBytes > 0) {
+      Iterator<Entry> it = entries.iterator();
+      while (storedBytes > maxBytes && it.hasNext()) {
+        Entry old = it.next();
+        if (old == e) continue;
+        it.remove();
+        drop(old, removed);
+      }
+    }
+    if (removed.length() > 0) {
+      if (indexLines > 2 * entries.size() + 16) {
+        rewrite();
+      } else {
+        append(removed.toString());
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Gets the number of live snapshots.
+   *
+   * @return the count
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Gets the space used by our blobs.
+   *
+   * @return the compressed size in bytes
+   */
+  public synchronized long getStoredBytes() {
+    return storedBytes;
+  }
+
+  /**
+   * Read the index file unless what we hold in memory is current.
+   *
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private void load() throws IOException {
+    if (!Files.exists(index)) {
+      if (indexLength != -1) reset();
+      return;
+    }
+    if (Files.size(index) == indexLength 
+        && Files.getLastModifiedTime(index).toMillis() == indexTime) {
+      return;
+    }
+    reset();
+    Map<String, Entry> live = new LinkedHashMap<String, Entry>();
+    try (BufferedReader br = Files.newBufferedReader(index, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = br.readLine()) != null) {
+        indexLines++;
+        Entry e = Entry.parse(line);
+        if (e == null) continue;
+        if (line.charAt(0) == '+') {
+          live.put(e.key(), e);
+        } else {
+          live.remove(e.key());
+        }
+      }
+    }
+    for (Entry e : live.values()) {
+      if (Files.exists(blob(e.hash))) {
+        link(e);
+      }
+    }
+    noteIndex();
+  }
+  
+  /**
+   * Forget everything we hold in memory.
+   */
+  private void reset() {
+    entries.clear();
+    byName.clear();
+    refCount.clear();
+    storedBytes = 0;
+    indexLines = 0;
+    indexLength = -1;
+    indexTime = -1;
+  }
+  
+  /**
+   * Add a snapshot to our in memory tables.
+   *
+   * @param e
+   *          the snapshot
+   */
+  private void link(Entry e) {
+    entries.add(e);
+    ArrayDeque<Entry> list = byName.get(e.name);
+    if (list == null) {
+      list = new ArrayDeque<Entry>();
+      byName.put(e.name, list);
+    }
+    list.addLast(e);
+    Integer n = refCount.get(e.hash);
+    if (n == null) {
+      storedBytes += e.stored;
+      n = Integer.valueOf(0);
+    }
+    refCount.put(e.hash, Integer.valueOf(n.intValue() + 1));
+  }
+  
+  /**
+   * Drop a snapshot, deleting its blob once nothing refers to it.
+   *
+   * @param e
+   *          the snapshot
+   * @param removed
+   *          collects the removal records for the index
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private void drop(Entry e, StringBuilder removed) throws IOException {
+    entries.remove(e);
+    ArrayDeque<Entry> list = byName.get(e.name);
+    list.remove(e);
+    if (list.isEmpty()) {
+      byName.remove(e.name);
+    }
+    int n = refCount.get(e.hash).intValue() - 1;
+    if (n == 0) {
+      refCount.remove(e.hash);
+      storedBytes -= e.stored;
+      Files.deleteIfExists(blob(e.hash));
+    } else {
+      refCount.put(e.hash, Integer.valueOf(n));
+    }
+    removed.append('-').append(e.toLine().substring(1));
+  }
+  
+  /**
+   * Write the content of a file as a compressed blob unless we already have it.
+   *
+   * @param src
+   *          the file
+   * @param hash
+   *          the SHA-1 of its content
+   * @return the size of the blob
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private long store(Path src, String hash) throws IOException {
+    Path path = blob(hash);
+    if (Files.exists(path)) {
+      return Files.size(path);
+    }
+    Path temp = Files.createTempFile(folder, hash, ".tmp");
+    try {
+      try (FileChannel in = FileChannel.open(src, StandardOpenOption.READ);
+           FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE);
+           OutputStream gz = new GZIPOutputStream(Channels.newOutputStream(out), 8192)) {
+        WritableByteChannel target = Channels.newChannel(gz);
+        long size = in.size();
+        long pos = 0;
+        while (pos < size) {
+          pos += in.transferTo(pos, size - pos, target);
+        }
+      }
+      move(temp, path);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+    return Files.size(path);
+  }
+  
+  /**
+   * Append lines to our index file.
+   *
+   * @param lines
+   *          the lines, each ending with a newline
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private void append(String lines) throws IOException {
+    Files.write(index, lines.getBytes(StandardCharsets.UTF_8), 
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    for (int i = 0; i < lines.length(); i++) {
+      if (lines.charAt(i) == '\n') indexLines++;
+    }
+    noteIndex();
+  }
+  
+  /**
+   * Replace our index file with one holding only the live snapshots.
+   *
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private void rewrite() throws IOException {
+    Path temp = Files.createTempFile(folder, "backup", ".tmp");
+    try {
+      try (Writer w = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+        for (Entry e : entries) {
+          w.write(e.toLine());
+        }
+      }
+      move(temp, index);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+    indexLines = entries.size();
+    noteIndex();
+  }
+  
+  /**
+   * Remember the state of our index file so we can tell if someone else
+   * changed it.
+   *
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private void noteIndex() throws IOException {
+    indexLength = Files.size(index);
+    indexTime = Files.getLastModifiedTime(index).toMillis();
+  }
+  
+  /**
+   * Gets the path of a blob.
+   *
+   * @param hash
+   *          the SHA-1 of its content
+   * @return the path
+   */
+  private Path blob(String hash) {
+    return folder.resolve(hash + BLOB_EXT);
+  }
+  
+  /**
+   * Move a temporary file into place.
+   *
+   * @param temp
+   *          the temporary file
+   * @param path
+   *          the target
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private static void move(Path temp, Path path) throws IOException {
+    try {
+      Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, 
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+  
+  /**
+   * Compute the SHA-1 of a file's content.
+   *
+   * @param path
+   *          the file
+   * @return the hash as hex digits
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private static String hash(Path path) throws IOException {
+    MessageDigest md;
+    try {
+      md = MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e.toString());
+    }
+    try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer buf = ByteBuffer.allocate(8192);
+      while (ch.read(buf) > 0) {
+        buf.flip();
+        md.update(buf);
+        buf.clear();
+      }
+    }
+    StringBuilder sb = new StringBuilder();
+    for (byte b : md.digest()) {
+      sb.append(String.format("%02x", b & 0xff));
+    }
+    return sb.toString();
+  }
+  
+  /**
+   * The Class Entry is one snapshot listed in our index.
+   * Index lines are "+ hash stored size time name" for added snapshots 
+   * and start with "-" instead for dropped ones.
+   */
+  private static class Entry {
+    final String hash;
+    final long stored;
+    final long size;
+    final long time;
+    final String name;
+    
+    Entry(String hash, long stored, long size, long time, String name) {
+      this.hash = hash;
+      this.stored = stored;
+      this.size = size;
+      this.time = time;
+      this.name = name;
+    }
+    
+    String key() {
+      return name + '\0' + time + '\0' + hash;
+    }
+    
+    String toLine() {
+      return "+ " + hash + " " + stored + " " + size + " " + time + " " + name + "\n";
+    }
+    
+    static Entry parse(String line) {
+      String[] f = line.split(" ", 6);
+      if (f.length != 6 || !(f[0].equals("+") || f[0].equals("-"))) {
+        return null;
+      }
+      try {
+        return new Entry(f[1], Long.parseLong(f[2]), Long.parseLong(f[3]), 
+            Long.parseLong(f[4]), f[5]);
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+  }
+
+}
@@ -30,7 +30,9 @@ import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.swing.JOptionPane;
 
@@ -81,6 +83,9 @@ public class ColorFactory {
   /** The colors list. */
   private static List<ColorItem> colorsList = new ArrayList<ColorItem>();
   
+  /** The colors list keyed by color, first match wins. */
+  private static Map<Color, ColorItem> colorsMap = new HashMap<Color, ColorItem>();
+  
   /**
    * Gets the single instance of ColorFactory.
    *
@@ -209,11 +214,9 @@ public class ColorFactory {
    * @return the <code>ColorItem</code> object
    */
   public ColorItem findColorItem(Color color) { 
-    for (int i=1; i<colorsList.size(); i++) {
-      ColorItem item = colorsList.get(i);
-      if (item.getColor().equals(color)) {
-         return item;
-      }
+    ColorItem item = colorsMap.get(color);
+    if (item != null) {
+      return item;
     }
     return colorsList.get(0);
   }
@@ -230,11 +233,9 @@ public class ColorFactory {
    */
   public String colorAsString(Color color) {
     String strColor = "";
-    for (int i=1; i<colorsList.size(); i++) {
-      ColorItem item = colorsList.get(i);
-      if (item.getColor().equals(color)) {
-         return item.getDisplayName();
-      }
+    ColorItem item = colorsMap.get(color);
+    if (item != null) {
+      return item.getDisplayName();
     }
     strColor = String.format("((gslc_tsColor){%d,%d,%d})", color.getRed(), color.getGreen(), color.getBlue());
     return strColor;
@@ -267,6 +268,9 @@ public class ColorFactory {
           } else {
             item = new ColorItem(j, f[0], Integer.parseInt(f[1]), Integer.parseInt(f[2]), Integer.parseInt(f[3]));
             colorsList.add(item);
+            if (!colorsMap.containsKey(item.getColor())) {
+              colorsMap.put(item.getColor(), item);
+            }
             j++;
           }
           i++;
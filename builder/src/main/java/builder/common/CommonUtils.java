@@ -33,8 +33,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 
 import javax.imageio.ImageIO;
 
@@ -232,16 +231,18 @@ public class CommonUtils {
   
   /**
    * Backup file.
+   * <p>
+   * The previous contents are kept next to the file as <code>file.bak</code>.
+   * When a <code>.bak</code> already exists it is archived into the
+   * {@link BackupStore} of our backup folder, which keeps compressed copies
+   * up to the limits set in our general preferences.
+   * </p>
    *
    * @param file
    *          the file
    */
   static public void backupFile(File file)
   {
-    String newTemplate = null;
-    String backupName = null;
-    File backupFile = null;
-    File newFile = null;
     if(file.exists()) {
       // first check to see if we have a backup folder
       String strBackupDir = file.getParent() + System.getProperty("file.separator") 
@@ -251,22 +252,16 @@ public class CommonUtils {
         backupDir.mkdir();
       }
       // Make a backup copy of file and overwrite backup file if it exists.
-      backupName = new String(file.getAbsolutePath() + ".bak");
-      backupFile = new File(backupName);
+      File backupFile = new File(file.getAbsolutePath() + ".bak");
       if (backupFile.exists()) {
-        // rename previous backup files so we don't lose them
-        newTemplate = new String(strBackupDir +
-            System.getProperty("file.separator") +
-            file.getName() +
-            ".##");
-        int idx = 0;
-        String newName = newTemplate + String.valueOf(++idx);
-        newFile = new File(newName);
-        while (newFile.exists()) {
-          newName = newTemplate + String.valueOf(++idx);
-          newFile = new File(newName);
+        // archive previous backup file so we don't lose it
+        GeneralEditor ed = GeneralEditor.getInstance();
+        try {
+          BackupStore.getStore(backupDir).add(backupFile, file.getName(), 
+              ed.getBackupCount(), ed.getBackupSize() * 1024L * 1024L);
+        } catch (IOException e) {
+          e.printStackTrace();
         }
-        backupFile.renameTo(newFile);
       }
       copyFile(file, backupFile);
     }
@@ -283,20 +278,14 @@ public class CommonUtils {
    */
   static public void copyFile(File inFile, File outFile)
   { 
-    InputStream inStream = null;
-    OutputStream outStream = null;
-    try{
-      inStream = new FileInputStream(inFile);
-      outStream = new FileOutputStream(outFile);
-      byte[] buffer = new byte[1024];
-      int length;
-      //copy the file content in bytes 
-      while ((length = inStream.read(buffer)) > 0){
-        outStream.write(buffer, 0, length);
+    try (FileChannel in = new FileInputStream(inFile).getChannel();
+         FileChannel out = new FileOutputStream(outFile).getChannel()) {
+      //copy the file content without passing it through our heap
+      long size = in.size();
+      long pos = 0;
+      while (pos < size) {
+        pos += in.transferTo(pos, size - pos, out);
       }
-      inStream.close();
-      outStream.close();
-//      System.out.println("File is copied successfully!");
     }catch(IOException e){
       e.printStackTrace();
     }
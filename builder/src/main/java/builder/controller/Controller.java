@@ -28,6 +28,7 @@ package builder.controller;
 
 import java.awt.BorderLayout;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.datatransfer.Clipboard;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
@@ -45,6 +46,8 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Observable;
 import java.util.Observer;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
 /*
 Use these imports instead of Observable and Observer for Java 9 and up.
 import java.util.prefs.PreferenceChangeEvent;
@@ -58,12 +61,21 @@ import javax.swing.JInternalFrame;
 import javax.swing.JOptionPane;
 import javax.swing.JScrollPane;
 import javax.swing.JTabbedPane;
+import javax.swing.JTextArea;
 import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 
 import builder.Builder;
+import builder.codegen.CodeGenException;
 import builder.codegen.CodeGenerator;
+import builder.codegen.FlashPlanner;
+import builder.codegen.MemoryEstimator;
+import builder.codegen.ProjectIndex;
+import builder.codegen.ProjectPage;
+import builder.codegen.ProjectWatcher;
+import builder.codegen.RedrawEstimator;
 import builder.commands.AddWidgetCommand;
 import builder.commands.AlignBottomCommand;
 import builder.commands.AlignCenterCommand;
@@ -88,6 +100,7 @@ import builder.common.EnumFactory;
 import builder.events.MsgBoard;
 import builder.events.MsgEvent;
 import builder.events.iSubscriber;
+import builder.fonts.FontFactory;
 import builder.models.GeneralModel;
 import builder.models.GridModel;
 import builder.models.PageModel;
@@ -101,6 +114,7 @@ import builder.prefs.ModelEditor;
 import builder.prefs.NumKeyPadEditor;
 import builder.prefs.TextEditor;
 import builder.prefs.TxtButtonEditor;
+import builder.views.MenuBar;
 import builder.views.PagePane;
 import builder.views.TreeView;
 import builder.widgets.Widget;
@@ -160,9 +174,21 @@ public class Controller extends JInternalFrame
   /** The project's model */
   static ProjectModel pm;
   
+  /** The project's model bound to a thread generating code without our UI. */
+  private static final ThreadLocal<ProjectModel> threadModel = new ThreadLocal<ProjectModel>();
+  
   /** The pages. */
   List<PagePane> pages = new ArrayList<PagePane>();
   
+  /** The code generation running in the background, if any. */
+  private SwingWorker<String, String> codeGenWorker = null;
+  
+  /** The watcher regenerating code when our files change, if any. */
+  private ProjectWatcher watcher = null;
+  
+  /** True when a watched change arrived while code generation was running. */
+  private boolean bRegenPending = false;
+  
   /** The tabs to pages keys mapping */
   List<String> tabPages = new ArrayList<String>();
 
@@ -285,9 +311,34 @@ public class Controller extends JInternalFrame
    * @return model
    */
   public static ProjectModel getProjectModel() {
+    ProjectModel m = threadModel.get();
+    if (m != null) {
+      return m;
+    }
     return pm;
   }
   
+  /**
+   * Bind a project model to the current thread.
+   * 
+   * Until it's unbound getProjectModel() and getTargetPlatform() 
+   * called on this thread see this model instead of our open 
+   * project, allowing several projects to generate code at once.
+   *
+   * @param m
+   *          the project model, or null to unbind
+   * @return the model previously bound, if any, so it can be restored
+   */
+  public static ProjectModel bindProjectModel(ProjectModel m) {
+    ProjectModel prev = threadModel.get();
+    if (m == null) {
+      threadModel.remove();
+    } else {
+      threadModel.set(m);
+    }
+    return prev;
+  }
+  
   /**
    * get widget list for base page, if any
    * @return list of widgets, or null
@@ -304,22 +355,38 @@ public class Controller extends JInternalFrame
    * @return platform
    */
   public static String getTargetPlatform() {
+    ProjectModel m = getProjectModel();
     // handle race condition at startup
-    if (pm == null) {
+    if (m == null) {
       return GeneralEditor.getInstance().getTarget();
     }
-    return pm.getTargetPlatform();
+    return m.getTargetPlatform();
   }
   
   /**
    * 
    */
   public void createProjectModel() {
+    pm = createDefaultProjectModel();
+    PagePane p = new PagePane();
+    p.setLayout(null);
+    p.setModel(pm);
+    p.setPageType(EnumFactory.PROJECT);
+    projectPage = p;
+    addPage(p);
+  }
+  
+  /**
+   * Create a project model filled in with the user's general preferences.
+   *
+   * @return the <code>ProjectModel</code> object
+   */
+  static ProjectModel createDefaultProjectModel() {
     GeneralModel gm = (GeneralModel) GeneralEditor.getInstance().getModel();
     Object[][] gmData = gm.getData();
-    pm = new ProjectModel();
-    Object[][] pmData = pm.getData();
-    pm.TurnOffEvents();
+    ProjectModel model = new ProjectModel();
+    Object[][] pmData = model.getData();
+    model.TurnOffEvents();
     int rows = gm.getRowCount();
     int mapRow = 0;
     String metaID = null;
@@ -327,22 +394,16 @@ public class Controller extends JInternalFrame
     for (int i=1; i<rows; i++) {
       metaID = (String)gmData[i][WidgetModel.PROP_VAL_ID];
       objectData = gm.getValueAt(i, 1);;
-      mapRow = pm.mapMetaIDtoProperty(metaID);
+      mapRow = model.mapMetaIDtoProperty(metaID);
       if (mapRow >= 0) {
         pmData[mapRow][WidgetModel.PROP_VAL_VALUE] = objectData;
       }
     }
-    pm.setReadOnlyProperties();
-    pm.TurnOnEvents();
-    PagePane p = new PagePane();
-    p.setLayout(null);
-    p.setModel(pm);
-    p.setPageType(EnumFactory.PROJECT);
-    projectPage = p;
-    addPage(p);
+    model.setReadOnlyProperties();
+    model.TurnOnEvents();
+    return model;
   }
   
-  
   /**
    * Refresh view.
    */
@@ -881,6 +942,7 @@ public class Controller extends JInternalFrame
     TreeView.getInstance().closeProject();
     PropManager.getInstance().closeProject();
     History.getInstance().clearHistory();
+    stopWatch();
   }
 
   /**
@@ -897,10 +959,35 @@ public class Controller extends JInternalFrame
       // Until the first save occurs no project name exists.
       String frameTitle = Builder.PROGRAM_TITLE + " - " + projectFile.getName();
       topFrame.setTitle(frameTitle);
+      // keep watching under our new name
+      if (watcher != null) {
+        watcher.close();
+        startWatch();
+      }
     } else {
       CommonUtils.backupFile(projectFile);
     }
     ObjectOutputStream out =  new ObjectOutputStream(new FileOutputStream(projectFile));
+    for (PagePane p : pages) {
+      p.selectNone();  // turn off all selections
+    }
+    writeProject(out);
+    out.flush();
+    out.close();
+    History.getInstance().clearHistory();
+    Builder.postStatusMsg("Successfully Saved Project into " + projectFile.getName());
+    Builder.logger.debug("Saved Project into " + projectFile.getName());
+  }
+
+  /**
+   * Write our project.
+   *
+   * @param out
+   *          the output stream
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private void writeProject(ObjectOutputStream out) throws IOException {
     // output current version so we can make changes on future updates
     out.writeObject(Builder.FILE_VERSION_NO);
 //    System.out.println("FILE_VERSION_NO: " + Builder.FILE_VERSION_NO);
@@ -919,7 +1006,6 @@ public class Controller extends JInternalFrame
     String pageType = null;
 //    System.out.println("pages: " + pages.size());
     for (PagePane p : pages) {
-      p.selectNone();  // turn off all selections
       pageKey = (String)p.getKey();
       pageEnum = (String)p.getEnum();
       pageType = (String)p.getPageType();
@@ -933,11 +1019,42 @@ public class Controller extends JInternalFrame
       out.writeObject(p.backup());
     }
     out.writeLong(0);  // extra value to avoid java.io.EOFException
-    out.flush();
+  }
+
+  /**
+   * Copy our project so code can be generated from it while our user 
+   * goes on editing.
+   *
+   * @return the <code>ProjectReader</code> holding our copy
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   * @throws ClassNotFoundException
+   *           the project copy is corrupted
+   */
+  private ProjectReader snapshotProject() throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    ObjectOutputStream out = new ObjectOutputStream(baos);
+    writeProject(out);
     out.close();
-    History.getInstance().clearHistory();
-    Builder.postStatusMsg("Successfully Saved Project into " + projectFile.getName());
-    Builder.logger.debug("Saved Project into " + projectFile.getName());
+    // reading our copy creates widgets which would use up our next keys
+    EnumFactory ef = EnumFactory.getInstance();
+    String counts = ef.backup();
+    ProjectReader reader = new ProjectReader(baos.toByteArray());
+    try {
+      reader.read();
+    } finally {
+      ef.restore(counts);
+    }
+    // which models changed this session isn't saved but ButtonCbPipe needs it
+    List<ProjectPage> copies = reader.getPages();
+    for (int i=0; i<pages.size(); i++) {
+      List<Widget> widgets = pages.get(i).getWidgets();
+      List<Widget> copyWidgets = copies.get(i).getWidgets();
+      for (int j=0; j<widgets.size(); j++) {
+        copyWidgets.get(j).getModel().bModelChanged = widgets.get(j).getModel().bModelChanged;
+      }
+    }
+    return reader;
   }
 
   /**
@@ -1210,21 +1327,280 @@ public class Controller extends JInternalFrame
 
   /**
    *  generateCode
-   *    calls the code generator to create our output file
+   *    calls the code generator to create our output file.
+   *    Code is generated in the background from a copy of our project
+   *    so our user can keep editing, with each pipe's progress posted
+   *    to the status bar. Asking again while it runs offers to cancel.
    */
   public void generateCode() {
-    String skeleton=null;
-    CodeGenerator cg = CodeGenerator.getInstance();
-    if (projectFile != null) {
-      skeleton = cg.generateCode(projectFile, pages, generalEditor.isBackwardCompat());
-      if (skeleton != null)
-        Builder.postStatusMsg("Successful Code Generation into " + skeleton);
-      else 
-        Builder.postStatusMsg("Code Generation Failed");
-    } else {
-        JOptionPane.showMessageDialog(topFrame, "Sorry, You must Name Project before asking for code generation",
-            "Error", JOptionPane.ERROR_MESSAGE);
+    if (projectFile == null) {
+      JOptionPane.showMessageDialog(topFrame, "Sorry, You must Name Project before asking for code generation",
+          "Error", JOptionPane.ERROR_MESSAGE);
+      return;
+    }
+    final CodeGenerator cg = CodeGenerator.getInstance();
+    // asking again while we are still busy offers to cancel
+    if (codeGenWorker != null && !codeGenWorker.isDone()) {
+      int answer = JOptionPane.showConfirmDialog(topFrame, 
+          "Code Generation is still running, Cancel it?", 
+          "Code Generation", JOptionPane.YES_NO_OPTION);
+      if (answer == JOptionPane.YES_OPTION) {
+        cg.setCancelled(true);
+        Builder.postStatusMsg("Cancelling Code Generation...");
+      }
+      return;
+    }
+    startCodeGen();
+  }
+
+  /**
+   * Start generating code in the background from a copy of our project.
+   */
+  private void startCodeGen() {
+    final CodeGenerator cg = CodeGenerator.getInstance();
+    final ProjectReader copy;
+    try {
+      copy = snapshotProject();
+    } catch (IOException | ClassNotFoundException e) {
+      Builder.logger.debug("Code Generation Failed: " + e.toString());
+      Builder.postStatusMsg("Code Generation Failed");
+      return;
+    }
+    final File file = projectFile;
+    final boolean bCompat = generalEditor.isBackwardCompat();
+    cg.setCancelled(false);
+    codeGenWorker = new SwingWorker<String, String>() {
+      @Override
+      protected String doInBackground() throws Exception {
+        ProjectModel prev = bindProjectModel(copy.getProjectModel());
+        cg.setProgressListener(new CodeGenerator.ProgressListener() {
+          @Override
+          public void pipeDone(String name, int nDone, int nTotal) {
+            publish(String.format("Generating Code: %s (%d of %d)", name, nDone, nTotal));
+          }
+        });
+        try {
+          return cg.generateCode(file, file.getParent(), copy.getPages(), bCompat);
+        } finally {
+          cg.setProgressListener(null);
+          bindProjectModel(prev);
+        }
+      }
+
+      @Override
+      protected void process(List<String> msgs) {
+        Builder.postStatusMsg(msgs.get(msgs.size()-1));
+      }
+
+      @Override
+      protected void done() {
+        try {
+          reportCodeGen();
+        } finally {
+          // catch up with any changes we were told about while busy
+          if (bRegenPending && watcher != null) {
+            bRegenPending = false;
+            startCodeGen();
+          }
+        }
+      }
+
+      /**
+       * Report how our code generation went.
+       */
+      private void reportCodeGen() {
+        try {
+          String skeleton = get();
+          Builder.postStatusMsg("Successful Code Generation into " + skeleton
+              + " (" + cg.getProfile().getSummary() + ")");
+        } catch (ExecutionException e) {
+          Throwable cause = e.getCause();
+          if (cause instanceof CodeGenException && cg.isCancelled()) {
+            Builder.logger.debug(CodeGenerator.CANCELLED_MSG);
+            Builder.postStatusMsg(CodeGenerator.CANCELLED_MSG);
+            return;
+          }
+          Builder.logger.debug("Code Generation Failed: " + cause.toString());
+          JOptionPane.showMessageDialog(topFrame, "Code Generation Failed: " + cause.toString(), 
+              "Error", JOptionPane.ERROR_MESSAGE);
+          Builder.postStatusMsg("Code Generation Failed");
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          Builder.postStatusMsg("Code Generation Failed");
+        }
+      }
+    };
+    Builder.postStatusMsg("Generating Code...");
+    codeGenWorker.execute();
+  }
+  
+  /**
+   * showMemoryEstimate
+   *   shows our user how much SRAM and flash each page of our project
+   *   needs on the boards of its target platform, before they build it.
+   */
+  public void showMemoryEstimate() {
+    ProjectIndex index = new ProjectIndex(pages);
+    StringBuilder sBd = new StringBuilder();
+    FlashPlanner.Plan plan = null;
+    int budget = GeneralEditor.getInstance().getFlashBudget();
+    if (budget > 0) {
+      plan = FlashPlanner.plan(index, budget);
+    }
+    if (plan != null) {
+      for (String line : plan.format()) {
+        sBd.append(line);
+        sBd.append("\n");
+      }
+      sBd.append("\n");
+    }
+    for (MemoryEstimator.Estimate est : MemoryEstimator.estimate(index, plan)) {
+      for (String line : est.format()) {
+        sBd.append(line);
+        sBd.append("\n");
+      }
+      sBd.append("\n");
+    }
+    JTextArea text = new JTextArea(sBd.toString());
+    text.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+    text.setEditable(false);
+    JScrollPane scroll = new JScrollPane(text);
+    scroll.setPreferredSize(new Dimension(640, 400));
+    JOptionPane.showMessageDialog(topFrame, scroll, 
+        "Memory Estimate", JOptionPane.INFORMATION_MESSAGE);
+  }
+
+  /**
+   * showRedrawEstimate
+   *   shows our user how long the display bus takes to redraw each
+   *   page and popup of our project, and which elements cost the most.
+   */
+  public void showRedrawEstimate() {
+    StringBuilder sBd = new StringBuilder();
+    String busName = GeneralEditor.getInstance().getRedrawBus();
+    RedrawEstimator.Bus bus = RedrawEstimator.findBus(busName);
+    if (bus == null) {
+      Builder.logger.error("Unknown display bus: " + busName);
+      sBd.append("Unknown display bus '" + busName + "', using " + RedrawEstimator.SPI + "\n\n");
+      bus = RedrawEstimator.SPI;
+    }
+    RedrawEstimator.Estimate est = RedrawEstimator.estimate(new ProjectIndex(pages), bus);
+    for (String line : est.format(RedrawEstimator.DEF_TOP)) {
+      sBd.append(line);
+      sBd.append("\n");
+    }
+    JTextArea text = new JTextArea(sBd.toString());
+    text.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+    text.setEditable(false);
+    JScrollPane scroll = new JScrollPane(text);
+    scroll.setPreferredSize(new Dimension(640, 400));
+    JOptionPane.showMessageDialog(topFrame, scroll, 
+        "Redraw Estimate", JOptionPane.INFORMATION_MESSAGE);
+  }
+
+  /**
+   * toggleWatch
+   *   turns watch mode on or off. While on, code is regenerated
+   *   whenever our project is saved, or the templates, fonts or 
+   *   images it uses change on disk. Only regions whose inputs 
+   *   changed are regenerated and unchanged files are not rewritten.
+   *
+   * @return true, if watch mode is now on
+   */
+  public boolean toggleWatch() {
+    if (watcher != null) {
+      stopWatch();
+      Builder.postStatusMsg("Watch Mode Off");
+      return false;
+    }
+    if (projectFile == null) {
+      JOptionPane.showMessageDialog(topFrame, "Sorry, You must Name Project before asking for watch mode",
+          "Error", JOptionPane.ERROR_MESSAGE);
+      return false;
+    }
+    startWatch();
+    if (watcher != null) {
+      Builder.postStatusMsg("Watch Mode On: " + projectFile.getName());
+    }
+    return watcher != null;
+  }
+
+  /**
+   * Start watching our project's files on a thread of its own.
+   */
+  private void startWatch() {
+    try {
+      watcher = new ProjectWatcher(projectFile, ProjectWatcher.DEFAULT_DEBOUNCE,
+          new ProjectWatcher.Listener() {
+            @Override
+            public void changed(final int changes, final Set<String> files) {
+              SwingUtilities.invokeLater(new Runnable() {
+                @Override
+                public void run() {
+                  watchedChange(changes, files);
+                }
+              });
+            }
+          });
+    } catch (IOException e) {
+      watcher = null;
+      Builder.logger.debug("Watch Mode Failed: " + e.toString());
+      JOptionPane.showMessageDialog(topFrame, "Watch Mode Failed: " + e.toString(), 
+          "Error", JOptionPane.ERROR_MESSAGE);
+      return;
+    }
+    Thread t = new Thread(watcher, "ProjectWatcher");
+    t.setDaemon(true);
+    t.start();
+  }
+
+  /**
+   * Stop watching our project's files.
+   */
+  private void stopWatch() {
+    if (watcher != null) {
+      watcher.close();
+      watcher = null;
+    }
+    bRegenPending = false;
+    if (MenuBar.miWatch != null) {
+      MenuBar.miWatch.setSelected(false);
+    }
+  }
+
+  /**
+   * Regenerate code after our watched files changed.
+   *
+   * @param changes
+   *          the mask of ProjectWatcher changes
+   * @param files
+   *          the names of the files that changed
+   */
+  private void watchedChange(int changes, Set<String> files) {
+    if (watcher == null || pm == null) {
+      return;
+    }
+    if (changes == ProjectWatcher.TEMPLATES) {
+      boolean bUsed = false;
+      for (String name : files) {
+        if (CodeGenerator.usesTemplate(pm.getTargetPlatform(), 
+            generalEditor.isBackwardCompat(), name)) {
+          bUsed = true;
+        }
+      }
+      if (!bUsed) {
+        return;
+      }
+    }
+    if ((changes & ProjectWatcher.FONTS) != 0) {
+      FontFactory.getInstance().init();
+      refreshView();
+    }
+    if (codeGenWorker != null && !codeGenWorker.isDone()) {
+      bRegenPending = true;
+      return;
     }
+    startCodeGen();
   }
   
   /**
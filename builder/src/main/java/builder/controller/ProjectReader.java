@@ -0,0 +1,216 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.controller;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import builder.Builder;
+import builder.codegen.ProjectPage;
+import builder.common.EnumFactory;
+import builder.models.PageModel;
+import builder.models.ProjectModel;
+import builder.widgets.Widget;
+import builder.widgets.WidgetFactory;
+
+/**
+ * The Class ProjectReader reads a project file (*.prj) for code generation
+ * without any user interface.
+ * <p>
+ * It follows the same layout as <code>Controller.openProject()</code> but
+ * builds <code>ProjectPage</code> objects instead of page views, tree nodes
+ * and property editors.  The project model it reads is left alone
+ * rather than replacing the builder's open project so any number of 
+ * projects may be read at the same time.
+ * </p>
+ * <p>
+ * It can also read a project saved into memory, which gives the builder
+ * a private copy of the open project to generate code from while 
+ * our user goes on editing.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class ProjectReader {
+
+  /** The project file. */
+  private final File file;
+
+  /** The saved project, used instead of our file when not null. */
+  private final byte[] data;
+
+  /** The project model. */
+  private ProjectModel pm = null;
+
+  /** The pages. */
+  private final List<ProjectPage> pages = new ArrayList<ProjectPage>();
+
+  /**
+   * Instantiates a new project reader.
+   *
+   * @param file
+   *          the project file to read
+   */
+  public ProjectReader(File file) {
+    this.file = file;
+    this.data = null;
+  }
+
+  /**
+   * Instantiates a new project reader for a project saved into memory.
+   *
+   * @param data
+   *          the project as written by <code>Controller.saveProject()</code>
+   */
+  public ProjectReader(byte[] data) {
+    this.file = null;
+    this.data = data;
+  }
+
+  /**
+   * Read our project.
+   *
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   * @throws ClassNotFoundException
+   *           the project file is corrupted
+   */
+  public void read() throws IOException, ClassNotFoundException {
+    InputStream is = (data != null) ? new ByteArrayInputStream(data) : new FileInputStream(file);
+    ObjectInputStream in = new ObjectInputStream(is);
+    ProjectModel prev = null;
+    boolean bBound = false;
+    try {
+      // Read in version number
+      String strVersion = (String)in.readObject();
+      if (strVersion.equals("1.01") || strVersion.equals("1.02")) {
+        // read in target platform
+        @SuppressWarnings("unused")
+        String target = (String)in.readObject();
+      }
+      // page that was open when saved, we don't care
+      in.readObject();
+      if (strVersion.equals(Builder.FILE_VERSION_NO)) {
+        pm = new ProjectModel();
+        pm.readModel(in);
+      } else {
+        pm = Controller.createDefaultProjectModel();
+      }
+      // widget models may ask for the project model while being read
+      prev = Controller.bindProjectModel(pm);
+      bBound = true;
+      int cnt = in.readInt();
+      String pageKey = null;
+      String pageEnum = null;
+      String pageType = null;
+      ProjectPage p = null;
+      for (int i=0; i<cnt; i++) {
+        pageKey = (String)in.readObject();
+        pageEnum = (String)in.readObject();
+        pageType = EnumFactory.PAGE;
+        if (!strVersion.equals("1.01")) {
+          pageType = (String)in.readObject();
+        }
+        if (pageType.equals(EnumFactory.PROJECT)) {
+          p = new ProjectPage(pm, pageType);
+        } else {
+          PageModel m = new PageModel();
+          m.setKey(pageKey);
+          m.setEnum(pageEnum);
+          p = new ProjectPage(m, pageType);
+        }
+        readWidgets(p, (String)in.readObject());
+        pages.add(p);
+      }
+    } finally {
+      if (bBound) {
+        Controller.bindProjectModel(prev);
+      }
+      in.close();
+    }
+  }
+
+  /**
+   * Gets the project model.
+   *
+   * @return the project model
+   */
+  public ProjectModel getProjectModel() {
+    return pm;
+  }
+
+  /**
+   * Gets the pages.
+   *
+   * @return the pages
+   */
+  public List<ProjectPage> getPages() {
+    return pages;
+  }
+
+  /**
+   * Read the widgets of a page from a serialized string object.
+   *
+   * @param p
+   *          the page
+   * @param state
+   *          the page's backup string
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   * @throws ClassNotFoundException
+   *           the project file is corrupted
+   */
+  private void readWidgets(ProjectPage p, String state) 
+      throws IOException, ClassNotFoundException {
+    byte[] data = Base64.getDecoder().decode(state);
+    ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data));
+    try {
+      int cnt = in.readInt();  // size of array list
+      String widgetType = null;
+      Widget w = null;
+      for (int i=0; i<cnt; i++) {
+        widgetType = (String)in.readObject();
+        // our factory hands out keys from shared counters
+        synchronized (WidgetFactory.getInstance()) {
+          w = WidgetFactory.getInstance().createWidget(widgetType,0,0);
+        }
+        w.readObject(in, widgetType);
+        p.getWidgets().add(w);
+      }
+    } finally {
+      in.close();
+    }
+  }
+
+}
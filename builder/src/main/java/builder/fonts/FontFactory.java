@@ -562,6 +562,9 @@ public class FontFactory {
     nPlatforms = 0;
     idx = 0;
     nErrors = 0;
+    // we may be reloading after our fonts changed
+    platformFonts.clear();
+    fontMap.clear();
     platformNames = new String[10];
     fontsByPlatform = new ArrayList[10];
     for (FontPlatform p : builderFonts.getPlatforms()) {
@@ -34,6 +34,7 @@ import java.awt.image.WritableRaster;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 
 import builder.Builder;
 import builder.parser.ParserException;
@@ -48,7 +49,6 @@ public class FontGFX extends FontTFT {
   private byte[] bitmap;      ///< Character bitmaps
   private int  first;         ///< ASCII extents (first char)
   private int  last;          ///< ASCII extents (last char)
-  @SuppressWarnings("unused")
   private int  yAdvance;      ///< Newline distance (y axis)
   private int  cap_width;     ///< Spaces have no width so use this value if field is all spaces
   private int  cap_height;    ///< Spaces have no height so use this value if field is all spaces
@@ -390,6 +390,82 @@ public class FontGFX extends FontTFT {
     return new Dimension(char_maxwidth,char_maxheight);
   }
 
+  /**
+   * getFlashSize
+   * Each GFXglyph takes 7 bytes, a 16 bit bitmapOffset and 5 single bytes.
+   *
+   * @see builder.fonts.FontTFT#getFlashSize()
+   */
+  @Override
+  public int getFlashSize() {
+    if (bitmap == null) return 0;
+    return bitmap.length + glyphList.size() * 7;
+  }
+
+  /**
+   * createSubset
+   * Copies the glyphs of the characters we display into a new GFXfont.
+   * Its range runs from the first to the last of those characters,
+   * any others in between get empty glyphs and no bitmap.
+   *
+   * @see builder.fonts.FontTFT#createSubset(java.util.BitSet, java.lang.String)
+   */
+  @Override
+  public FontSubset createSubset(BitSet codePoints, String name) {
+    if (bitmap == null) return null;
+    int lo = codePoints.nextSetBit(first);
+    if (lo == -1 || lo > last) return null;
+    int hi = codePoints.previousSetBit(last);
+    
+    byte[] subBitmap = new byte[bitmap.length];
+    int nBytes = 0;
+    StringBuilder glyphs = new StringBuilder();
+    for (int ch=lo; ch<=hi; ch++) {
+      FontGFXGlyph glyph = glyphList.get(ch - first);
+      if (codePoints.get(ch)) {
+        // each glyph's bitmap starts on a byte boundary
+        int size = (glyph.width * glyph.height + 7) / 8;
+        System.arraycopy(bitmap, glyph.bitmapOffset, subBitmap, nBytes, size);
+        glyphs.append(String.format("  { %5d, %3d, %3d, %3d, %4d, %4d }",
+            nBytes, glyph.width, glyph.height, glyph.xAdvance, glyph.xOffset, glyph.yOffset));
+        nBytes += size;
+      } else {
+        glyphs.append(String.format("  { %5d, %3d, %3d, %3d, %4d, %4d }", 0, 0, 0, 0, 0, 0));
+      }
+      glyphs.append(ch < hi ? ",   " : " }; ");
+      if (ch > 0x20 && ch < 0x7F) {
+        glyphs.append(String.format("// 0x%02X '%c'", ch, (char)ch));
+      } else {
+        glyphs.append(String.format("// 0x%02X", ch));
+      }
+      glyphs.append(System.lineSeparator());
+    }
+    if (nBytes == 0) {
+      nBytes = 1;  // C doesn't allow an empty array
+    }
+    
+    StringBuilder sBd = new StringBuilder();
+    sBd.append("const uint8_t " + name + "Bitmaps[] PROGMEM = {");
+    sBd.append(System.lineSeparator());
+    FontSubset.appendHex(sBd, subBitmap, nBytes, 12, "  ");
+    sBd.append("};");
+    sBd.append(System.lineSeparator());
+    sBd.append(System.lineSeparator());
+    sBd.append("const GFXglyph " + name + "Glyphs[] PROGMEM = {");
+    sBd.append(System.lineSeparator());
+    sBd.append(glyphs);
+    sBd.append(System.lineSeparator());
+    sBd.append("const GFXfont " + name + " PROGMEM = {");
+    sBd.append(System.lineSeparator());
+    sBd.append("  (uint8_t  *)" + name + "Bitmaps,");
+    sBd.append(System.lineSeparator());
+    sBd.append("  (GFXglyph *)" + name + "Glyphs,");
+    sBd.append(System.lineSeparator());
+    sBd.append(String.format("  0x%02X, 0x%02X, %d };", lo, hi, yAdvance));
+    sBd.append(System.lineSeparator());
+    return new FontSubset(name, sBd.toString(), nBytes + (hi - lo + 1) * 7);
+  }
+
   /**
    * Helper to determine size of a character with this font/size.
    * used by getTextBounds() function.
@@ -127,10 +127,13 @@ public class FontItem {
   
   /**
    * Gets the font.
+   * 
+   * Synchronized since code generation may ask for the
+   * same font from several pipes at once.
    *
    * @return the java <code>Font</code> object
    */
-  public FontTFT getFont() {
+  public synchronized FontTFT getFont() {
     if (font == null) {
       createFont();
     }
@@ -0,0 +1,121 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.fonts;
+
+/**
+ * The Class FontSubset holds the C source of a copy of a font
+ * that keeps only the glyphs our project displays.
+ * 
+ * @author Paul Conti
+ * 
+ */
+public class FontSubset {
+  
+  /** The name of our subset's font struct. */
+  private final String name;
+  
+  /** The C source of our subset. */
+  private final String source;
+  
+  /** The bytes our subset's tables take up on the target. */
+  private final int flashSize;
+  
+  /**
+   * Instantiates a new font subset.
+   *
+   * @param name
+   *          the name of the font struct
+   * @param source
+   *          the C source
+   * @param flashSize
+   *          the bytes its tables take up on the target
+   */
+  public FontSubset(String name, String source, int flashSize) {
+    this.name = name;
+    this.source = source;
+    this.flashSize = flashSize;
+  }
+
+  /**
+   * Gets the name of our subset's font struct.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the C source of our subset.
+   *
+   * @return the source
+   */
+  public String getSource() {
+    return source;
+  }
+
+  /**
+   * Gets the bytes our subset's tables take up on the target.
+   *
+   * @return the flash size
+   */
+  public int getFlashSize() {
+    return flashSize;
+  }
+  
+  /**
+   * Append a table of bytes as C hex literals, a row at a time.
+   *
+   * @param sBd
+   *          the output
+   * @param bytes
+   *          the bytes
+   * @param nBytes
+   *          the number of bytes to write
+   * @param perRow
+   *          the number of bytes per row
+   * @param indent
+   *          the indent of each row
+   */
+  static void appendHex(StringBuilder sBd, byte[] bytes, int nBytes, int perRow, String indent) {
+    for (int i=0; i<nBytes; i++) {
+      if (i % perRow == 0) {
+        sBd.append(indent);
+      }
+      sBd.append(String.format("0x%02X", bytes[i] & 0xFF));
+      if (i+1 < nBytes) {
+        sBd.append(",");
+        if ((i+1) % perRow == 0) {
+          sBd.append(System.lineSeparator());
+        } else if (!indent.isEmpty()) {
+          sBd.append(" ");
+        }
+      }
+    }
+    sBd.append(System.lineSeparator());
+  }
+
+}
@@ -35,6 +35,11 @@ import java.awt.image.WritableRaster;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 
 import builder.Builder;
 import builder.parser.ParserException;
@@ -321,6 +326,155 @@ public class FontT3 extends FontTFT {
     return new Dimension(char_maxwidth,char_maxheight);
   }
 
+  /**
+   * getFlashSize
+   * Leaves out the zeroes we pad our index and data with.
+   *
+   * @see builder.fonts.FontTFT#getFlashSize()
+   */
+  @Override
+  public int getFlashSize() {
+    if (font_index == null || font_data == null) return 0;
+    return (font_index.length - 4) + (font_data.length - 4);
+  }
+
+  /**
+   * createSubset
+   * Copies the glyphs of the characters we display into a new T3 font.
+   * Each of our index ranges shrinks to run from the first to the last
+   * of those characters inside it, any others in between share one
+   * empty glyph. Our ranges can hold glyphs in any order so each glyph
+   * ends where the next one in our data starts.
+   *
+   * @see builder.fonts.FontTFT#createSubset(java.util.BitSet, java.lang.String)
+   */
+  @Override
+  public FontSubset createSubset(BitSet codePoints, String name) {
+    if (font_index == null || font_data == null) return null;
+    boolean bIndex2 = !(index2_first == 0 && index2_last == 0);
+    int nGlyphs = index1_last - index1_first + 1;
+    if (bIndex2) {
+      nGlyphs += index2_last - index2_first + 1;
+    }
+    // our new ranges, index2 moves up if index1 has nothing we display
+    List<int[]> ranges = new ArrayList<int[]>();
+    addRange(ranges, codePoints, index1_first, index1_last);
+    if (bIndex2) {
+      addRange(ranges, codePoints, index2_first, index2_last);
+    }
+    if (ranges.isEmpty()) return null;
+    
+    int dataSize = font_data.length - 4;
+    TreeSet<Integer> starts = new TreeSet<Integer>();
+    for (int i=0; i<nGlyphs; i++) {
+      starts.add(fetchbits_unsigned(font_index, 0, i * bits_index, bits_index));
+    }
+    starts.add(dataSize);
+    
+    // an empty glyph has only zeroes for its encoding, sizes and offsets
+    int nEntries = 0;
+    int nUsed = 0;
+    for (int[] r : ranges) {
+      nEntries += r[1] - r[0] + 1;
+      nUsed += codePoints.get(r[0], r[1]+1).cardinality();
+    }
+    int emptySize = 0;
+    if (nUsed < nEntries) {
+      emptySize = (3 + bits_width + bits_height + bits_xoffset + bits_yoffset + bits_delta + 7) / 8;
+    }
+    byte[] data = new byte[dataSize + emptySize];
+    int nData = emptySize;
+    int[] offsets = new int[nEntries];
+    Map<Integer, Integer> moved = new HashMap<Integer, Integer>();
+    int n = 0;
+    for (int[] r : ranges) {
+      for (int ch=r[0]; ch<=r[1]; ch++) {
+        if (!codePoints.get(ch)) {
+          offsets[n++] = 0;
+          continue;
+        }
+        int idx = ch - index1_first;
+        if (ch < index1_first || ch > index1_last) {
+          idx = ch - index2_first + index1_last - index1_first + 1;
+        }
+        int start = fetchbits_unsigned(font_index, 0, idx * bits_index, bits_index);
+        Integer to = moved.get(start);
+        if (to == null) {
+          int size = starts.higher(start) - start;
+          System.arraycopy(font_data, start, data, nData, size);
+          to = nData;
+          moved.put(start, to);
+          nData += size;
+        }
+        offsets[n++] = to;
+      }
+    }
+    int subBitsIndex = Math.max(1, 32 - Integer.numberOfLeadingZeros(nData));
+    byte[] index = new byte[(nEntries * subBitsIndex + 7) / 8];
+    for (int i=0; i<nEntries; i++) {
+      putbits(index, i * subBitsIndex, offsets[i], subBitsIndex);
+    }
+    
+    StringBuilder sBd = new StringBuilder();
+    sBd.append("#include \"ILI9341_t3.h\"");
+    sBd.append(System.lineSeparator());
+    sBd.append(System.lineSeparator());
+    sBd.append("static const unsigned char " + name + "_data[] = {");
+    sBd.append(System.lineSeparator());
+    FontSubset.appendHex(sBd, data, nData, 10, "");
+    sBd.append("};");
+    sBd.append(System.lineSeparator());
+    sBd.append("/* font data size: " + nData + " bytes */");
+    sBd.append(System.lineSeparator());
+    sBd.append(System.lineSeparator());
+    sBd.append("static const unsigned char " + name + "_index[] = {");
+    sBd.append(System.lineSeparator());
+    FontSubset.appendHex(sBd, index, index.length, 10, "");
+    sBd.append("};");
+    sBd.append(System.lineSeparator());
+    sBd.append("/* font index size: " + index.length + " bytes */");
+    sBd.append(System.lineSeparator());
+    sBd.append(System.lineSeparator());
+    int[] second = ranges.size() > 1 ? ranges.get(1) : new int[] { 0, 0 };
+    int[] fields = { 0, 1, 0, ranges.get(0)[0], ranges.get(0)[1], second[0], second[1],
+        subBitsIndex, bits_width, bits_height, bits_xoffset, bits_yoffset, bits_delta,
+        line_space, cap_height };
+    sBd.append("const ILI9341_t3_font_t " + name + " = {");
+    sBd.append(System.lineSeparator());
+    sBd.append("\t" + name + "_index,");
+    sBd.append(System.lineSeparator());
+    for (int i=0; i<fields.length; i++) {
+      if (i == 1) {
+        sBd.append("\t" + name + "_data,");
+        sBd.append(System.lineSeparator());
+      }
+      sBd.append("\t" + fields[i]);
+      sBd.append(i+1 < fields.length ? "," : "");
+      sBd.append(System.lineSeparator());
+    }
+    sBd.append("};");
+    sBd.append(System.lineSeparator());
+    return new FontSubset(name, sBd.toString(), nData + index.length);
+  }
+
+  /**
+   * Add the part of one of our index ranges holding characters we display.
+   *
+   * @param ranges
+   *          the new ranges
+   * @param codePoints
+   *          the characters we display
+   * @param rangeFirst
+   *          the first character of our range
+   * @param rangeLast
+   *          the last character of our range
+   */
+  private void addRange(List<int[]> ranges, BitSet codePoints, int rangeFirst, int rangeLast) {
+    int lo = codePoints.nextSetBit(rangeFirst);
+    if (lo == -1 || lo > rangeLast) return;
+    ranges.add(new int[] { lo, codePoints.previousSetBit(rangeLast) });
+  }
+
   /**
    * Helper to determine size of a character with this font/size.
    * used by getTextBounds() function.
@@ -695,6 +849,14 @@ public class FontT3 extends FontTFT {
     return (int)val;
   }
 
+  private void putbits(byte[] p, int idx, int value, int numbits) {
+    for (int i=numbits-1; i>=0; i--, idx++) {
+      if (((value >>> i) & 1) != 0) {
+        p[idx >>> 3] |= (byte) (0x80 >>> (idx & 7));
+      }
+    }
+  }
+
   private int fetchbits_signed(byte[] p, int pos, int idx, int required) throws ArrayIndexOutOfBoundsException {
     int val = fetchbits_unsigned(p, pos, idx, required);
     long tmp = Integer.toUnsignedLong(val & (1 << (required - 1)));
@@ -30,6 +30,7 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.util.BitSet;
 
 import builder.parser.ParserException;
 import builder.parser.Token;
@@ -249,6 +250,28 @@ public abstract class FontTFT {
     return item.getFileName();
   }
 
+/**
+ * getFlashSize
+ * 
+ * @return The bytes our font's bitmap and glyph tables take up
+ *         on the target, 0 if built in or loaded at run time
+ */
+  public int getFlashSize() {
+    return 0;
+  }
+
+/**
+ * createSubset
+ * 
+ * @param codePoints  The characters our project displays with this font
+ * @param name        The name to give the subset's font struct
+ * @return The subset, null if this font can't be subset or
+ *         has none of the characters
+ */
+  public FontSubset createSubset(BitSet codePoints, String name) {
+    return null;
+  }
+
   /**
    * Parses the error.
    *
@@ -67,20 +67,30 @@ public class GeneralModel extends WidgetModel {
   public static final int PROP_ROTATION             = 13;
   public static final int PROP_BACKWARD_COMPAT      = 14;
   public static final int PROP_PRESERVE_BTN_CALLBACKS = 15;
+  public static final int PROP_CODEGEN_REPORT       = 16;
+  public static final int PROP_SPLIT_PAGES          = 17;
+  public static final int PROP_BACKUP_COUNT         = 18;
+  public static final int PROP_BACKUP_SIZE          = 19;
+  public static final int PROP_MEMORY_ESTIMATE      = 20;
+  public static final int PROP_FLASH_BUDGET         = 21;
+  public static final int PROP_FONT_SUBSET          = 22;
+  public static final int PROP_FONT_SUBSET_EXTRA    = 23;
+  public static final int PROP_IMAGE_ARRAYS         = 24;
+  public static final int PROP_REDRAW_BUS           = 25;
   // The following properties are hidden from users
-  public static final int PROP_IMAGE_DIR            = 16; // last folder used to load image
-  public static final int PROP_RECENT_COLORS        = 17; // LRU of recent colors choosen
-  public static final int PROP_RECENT_FILES         = 18; // LRU of recent files choosen
+  public static final int PROP_IMAGE_DIR            = 26; // last folder used to load image
+  public static final int PROP_RECENT_COLORS        = 27; // LRU of recent colors choosen
+  public static final int PROP_RECENT_FILES         = 28; // LRU of recent files choosen
   /* window sizes are hidden from the users because if you change one
    * the other values must change in proportion. It's much easier to
    * simply keep track of when users drag a window and record the values.
    */
-  public static final int PROP_SIZE_APP_WIDTH       = 19; // Size of App Window 
-  public static final int PROP_SIZE_APP_HEIGHT      = 20; 
-  public static final int PROP_SIZE_TFT_WIDTH       = 21; // Size of TFT Simulation Pane
-  public static final int PROP_SIZE_TFT_HEIGHT      = 22; 
-  public static final int PROP_SIZE_PROPVIEW_WIDTH  = 23; // Size of Property View Pane 
-  public static final int PROP_SIZE_PROPVIEW_HEIGHT = 24; 
+  public static final int PROP_SIZE_APP_WIDTH       = 29; // Size of App Window 
+  public static final int PROP_SIZE_APP_HEIGHT      = 30; 
+  public static final int PROP_SIZE_TFT_WIDTH       = 31; // Size of TFT Simulation Pane
+  public static final int PROP_SIZE_TFT_HEIGHT      = 32; 
+  public static final int PROP_SIZE_PROPVIEW_WIDTH  = 33; // Size of Property View Pane 
+  public static final int PROP_SIZE_PROPVIEW_HEIGHT = 34; 
   
   /** The Property Defaults */
   static public  final String  DEF_TARGET              = "arduino";
@@ -97,6 +107,16 @@ public class GeneralModel extends WidgetModel {
   static public  final Integer DEF_MAX_STRING          = Integer.valueOf(100);
   static public  final Integer DEF_ROTATION            = Integer.valueOf(-1);
   static public  final Boolean DEF_BACKWARD_COMPAT     = Boolean.valueOf(false);
+  static public  final Boolean DEF_CODEGEN_REPORT      = Boolean.valueOf(false);
+  static public  final Boolean DEF_SPLIT_PAGES         = Boolean.valueOf(false);
+  static public  final Integer DEF_BACKUP_COUNT        = Integer.valueOf(50);
+  static public  final Integer DEF_BACKUP_SIZE         = Integer.valueOf(10);
+  static public  final Boolean DEF_MEMORY_ESTIMATE     = Boolean.valueOf(false);
+  static public  final Integer DEF_FLASH_BUDGET        = Integer.valueOf(0);
+  static public  final Boolean DEF_FONT_SUBSET         = Boolean.valueOf(false);
+  static public  final String  DEF_FONT_SUBSET_EXTRA   = "";
+  static public  final Boolean DEF_IMAGE_ARRAYS        = Boolean.valueOf(false);
+  static public  final String  DEF_REDRAW_BUS          = "spi";
   
   /** The cb themes. */
   public static JComboBox<String> cbThemes;
@@ -127,7 +147,7 @@ public class GeneralModel extends WidgetModel {
   protected void initProperties()
   {
     widgetType = EnumFactory.GENERAL;
-    data = new Object[25][5];
+    data = new Object[35][5];
 
     initProp(PROP_KEY, String.class, "COM-001", Boolean.TRUE,"Key",widgetType);
     initProp(PROP_THEME, String.class, "GEN-100", Boolean.FALSE,"Themes","");
@@ -160,6 +180,26 @@ public class GeneralModel extends WidgetModel {
         "Backward Compatibility Mode?",DEF_BACKWARD_COMPAT);
     initProp(PROP_PRESERVE_BTN_CALLBACKS, Boolean.class, "GEN-136", Boolean.FALSE,
         "Preserve Button Callbacks?",Boolean.TRUE);
+    initProp(PROP_CODEGEN_REPORT, Boolean.class, "GEN-137", Boolean.FALSE,
+        "Write Code Generation Timings?",DEF_CODEGEN_REPORT);
+    initProp(PROP_SPLIT_PAGES, Boolean.class, "GEN-138", Boolean.FALSE,
+        "Split Pages into Separate Files?",DEF_SPLIT_PAGES);
+    initProp(PROP_BACKUP_COUNT, Integer.class, "GEN-139", Boolean.FALSE,
+        "Backups to Keep per File [0 no limit]",DEF_BACKUP_COUNT);
+    initProp(PROP_BACKUP_SIZE, Integer.class, "GEN-140", Boolean.FALSE,
+        "Backup Folder Limit in MB [0 no limit]",DEF_BACKUP_SIZE);
+    initProp(PROP_MEMORY_ESTIMATE, Boolean.class, "GEN-141", Boolean.FALSE,
+        "Add Memory Estimate to Header?",DEF_MEMORY_ESTIMATE);
+    initProp(PROP_FLASH_BUDGET, Integer.class, "GEN-142", Boolean.FALSE,
+        "SRAM Budget for Flash API Optimizer [0 off]",DEF_FLASH_BUDGET);
+    initProp(PROP_FONT_SUBSET, Boolean.class, "GEN-143", Boolean.FALSE,
+        "Subset GFX and T3 Fonts?",DEF_FONT_SUBSET);
+    initProp(PROP_FONT_SUBSET_EXTRA, String.class, "GEN-144", Boolean.FALSE,
+        "Extra Characters for Font Subsets",DEF_FONT_SUBSET_EXTRA);
+    initProp(PROP_IMAGE_ARRAYS, Boolean.class, "GEN-145", Boolean.FALSE,
+        "Convert Image Files to Flash Arrays?",DEF_IMAGE_ARRAYS);
+    initProp(PROP_REDRAW_BUS, String.class, "GEN-146", Boolean.FALSE,
+        "Display Bus for Redraw Estimate",DEF_REDRAW_BUS);
     initProp(PROP_IMAGE_DIR, String.class, "GEN-113", Boolean.FALSE,"Last Image Directory Accessed","");
     initProp(PROP_RECENT_COLORS, String.class, "GEN-111", Boolean.TRUE,"Recent Colors","");
     initProp(PROP_RECENT_FILES, String.class, "GEN-121", Boolean.TRUE,"Recent Files","");
@@ -592,6 +632,100 @@ public class GeneralModel extends WidgetModel {
     return ((Boolean) data[PROP_PRESERVE_BTN_CALLBACKS][PROP_VAL_VALUE]).booleanValue();
   }
   
+  /**
+   * is Code Generation Report wanted?
+   *
+   * @return <code>true</code>, if code generation timings are to be 
+   *         written next to the generated files
+   */
+  public boolean isCodeGenReport() {
+    return ((Boolean) data[PROP_CODEGEN_REPORT][PROP_VAL_VALUE]).booleanValue();
+  }
+  
+  /**
+   * is Split Pages wanted?
+   *
+   * @return <code>true</code>, if each page's code is to be output
+   *         into its own source and header files
+   */
+  public boolean isSplitPages() {
+    return ((Boolean) data[PROP_SPLIT_PAGES][PROP_VAL_VALUE]).booleanValue();
+  }
+  
+  /**
+   * Gets the number of backups to keep of each file.
+   *
+   * @return the backup count, 0 for no limit
+   */
+  public int getBackupCount() {
+    return (((Integer) (data[PROP_BACKUP_COUNT][PROP_VAL_VALUE])).intValue());
+  }
+  
+  /**
+   * Gets the most space our backup folder may use.
+   *
+   * @return the limit in megabytes, 0 for no limit
+   */
+  public int getBackupSize() {
+    return (((Integer) (data[PROP_BACKUP_SIZE][PROP_VAL_VALUE])).intValue());
+  }
+  
+  /**
+   * is Memory Estimate to be added to our header?
+   *
+   * @return <code>true</code>, if we comment our header with RAM and flash estimates
+   */
+  public boolean isMemoryEstimate() {
+    return ((Boolean) data[PROP_MEMORY_ESTIMATE][PROP_VAL_VALUE]).booleanValue();
+  }
+  
+  /**
+   * Gets the SRAM budget our flash API optimizer aims for.
+   *
+   * @return the budget in bytes, 0 if the optimizer is off
+   */
+  public int getFlashBudget() {
+    return (((Integer) (data[PROP_FLASH_BUDGET][PROP_VAL_VALUE])).intValue());
+  }
+  
+  /**
+   * is Font Subset to be written for the GFX and T3 fonts we use?
+   *
+   * @return <code>true</code>, if we only keep the glyphs our project displays
+   */
+  public boolean isFontSubset() {
+    return ((Boolean) data[PROP_FONT_SUBSET][PROP_VAL_VALUE]).booleanValue();
+  }
+  
+  /**
+   * Gets the characters our user wants in every font subset, 
+   * for text set at run time.
+   *
+   * @return the characters, may be empty
+   */
+  public String getFontSubsetExtra() {
+    return (String) data[PROP_FONT_SUBSET_EXTRA][PROP_VAL_VALUE];
+  }
+  
+  /**
+   * is Image Arrays to be written for the images we would read from files?
+   *
+   * @return <code>true</code>, if our images are stored in flash as C arrays
+   */
+  public boolean isImageArrays() {
+    return ((Boolean) data[PROP_IMAGE_ARRAYS][PROP_VAL_VALUE]).booleanValue();
+  }
+  
+  /**
+   * Gets the display bus our redraw estimate pushes pixels through,
+   * a bus name or a specification like spi:40:16.
+   *
+   * @return the display bus
+   */
+  public String getRedrawBus() {
+    return (String) data[PROP_REDRAW_BUS][PROP_VAL_VALUE];
+  }
+  
   /**
    * getEditorAt
    *
@@ -305,6 +305,16 @@ public class ProjectModel extends PageModel implements MultipeLineCellListener {
     return (String) data[PROP_TARGET][PROP_VAL_VALUE];
   }
 
+  /**
+   * Sets the target platform
+   *
+   * @param target
+   *          the new target platform
+   */
+  public void setTargetPlatform(String target) {
+    data[PROP_TARGET][PROP_VAL_VALUE] = target;
+  }
+
  /**
   * getWidth
   *
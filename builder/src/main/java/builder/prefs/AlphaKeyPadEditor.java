@@ -72,6 +72,7 @@ public class AlphaKeyPadEditor extends ModelEditor {
    */
   public AlphaKeyPadEditor() {
     // get rid of the bugged Preferences warning - not needed in Java 9 and above
+    PrintStream err = System.err;
     System.setErr(new PrintStream(new OutputStream() {
         public void write(int b) throws IOException {}
     }));
@@ -80,7 +81,7 @@ public class AlphaKeyPadEditor extends ModelEditor {
     model = new KeyPadTextModel();
     model.TurnOffEvents();
     updateModel();
-    System.setErr(System.err);  
+    System.setErr(err);  
   }
 
   /**
@@ -130,7 +131,7 @@ public class AlphaKeyPadEditor extends ModelEditor {
  @Override
  public void updateModel() {
    model.TurnOffEvents();
-   int rows = model.getPropertyCount();
+   int rows = bPinned ? 0 : model.getPropertyCount();
    for (int i=0; i<rows; i++) {
      String key = (String) model.getValueAt(i, WidgetModel.COLUMN_NAME);
      Object o = model.getValueAt(i, WidgetModel.COLUMN_VALUE);
@@ -69,6 +69,7 @@ public class BoxEditor extends ModelEditor {
    */
   public BoxEditor() {
     // get rid of the bugged Preferences warning - not needed in Java 9 and above
+    PrintStream err = System.err;
     System.setErr(new PrintStream(new OutputStream() {
         public void write(int b) throws IOException {}
     }));
@@ -77,7 +78,7 @@ public class BoxEditor extends ModelEditor {
     model = new BoxModel();
     model.TurnOffEvents();
     updateModel();
-    System.setErr(System.err);  
+    System.setErr(err);  
   }
 
   /**
@@ -71,6 +71,7 @@ public class GeneralEditor extends ModelEditor {
    */
   public GeneralEditor() {
     // get rid of the bugged Preferences warning - not needed in Java 9 and above
+    PrintStream err = System.err;
     System.setErr(new PrintStream(new OutputStream() {
         public void write(int b) throws IOException {}
     }));
@@ -79,7 +80,7 @@ public class GeneralEditor extends ModelEditor {
     model = new GeneralModel();
     model.TurnOffEvents();
     updateModel();
-    System.setErr(System.err);  
+    System.setErr(err);  
   }
 
   /**
@@ -359,6 +360,98 @@ public class GeneralEditor extends ModelEditor {
     return ((GeneralModel) model).isBackwardCompat();
   }
   
+  /**
+   * is Code Generation Report wanted?
+   *
+   * @return <code>true</code>, if code generation timings are to be written
+   */
+  public boolean isCodeGenReport() {
+    return ((GeneralModel) model).isCodeGenReport();
+  }
+  
+  /**
+   * is Split Pages wanted?
+   *
+   * @return <code>true</code>, if each page is to be output into its own files
+   */
+  public boolean isSplitPages() {
+    return ((GeneralModel) model).isSplitPages();
+  }
+  
+  /**
+   * Gets the number of backups to keep of each file.
+   *
+   * @return the backup count, 0 for no limit
+   */
+  public int getBackupCount() {
+    return ((GeneralModel) model).getBackupCount();
+  }
+  
+  /**
+   * Gets the most space our backup folder may use.
+   *
+   * @return the limit in megabytes, 0 for no limit
+   */
+  public int getBackupSize() {
+    return ((GeneralModel) model).getBackupSize();
+  }
+  
+  /**
+   * is Memory Estimate to be added to our header?
+   *
+   * @return <code>true</code>, if we comment our header with RAM and flash estimates
+   */
+  public boolean isMemoryEstimate() {
+    return ((GeneralModel) model).isMemoryEstimate();
+  }
+  
+  /**
+   * Gets the SRAM budget our flash API optimizer aims for.
+   *
+   * @return the budget in bytes, 0 if the optimizer is off
+   */
+  public int getFlashBudget() {
+    return ((GeneralModel) model).getFlashBudget();
+  }
+  
+  /**
+   * is Font Subset to be written for the GFX and T3 fonts we use?
+   *
+   * @return <code>true</code>, if we only keep the glyphs our project displays
+   */
+  public boolean isFontSubset() {
+    return ((GeneralModel) model).isFontSubset();
+  }
+  
+  /**
+   * Gets the characters our user wants in every font subset, 
+   * for text set at run time.
+   *
+   * @return the characters, may be empty
+   */
+  public String getFontSubsetExtra() {
+    return ((GeneralModel) model).getFontSubsetExtra();
+  }
+  
+  /**
+   * is Image Arrays to be written for the images we would read from files?
+   *
+   * @return <code>true</code>, if our images are stored in flash as C arrays
+   */
+  public boolean isImageArrays() {
+    return ((GeneralModel) model).isImageArrays();
+  }
+  
+  /**
+   * Gets the display bus our redraw estimate pushes pixels through,
+   * a bus name or a specification like spi:40:16.
+   *
+   * @return the display bus
+   */
+  public String getRedrawBus() {
+    return ((GeneralModel) model).getRedrawBus();
+  }
+  
  /**
   * Write model.
   *
@@ -379,7 +472,7 @@ public class GeneralEditor extends ModelEditor {
  @Override
  public void updateModel() {
    model.TurnOffEvents();
-   int rows = model.getPropertyCount();
+   int rows = bPinned ? 0 : model.getPropertyCount();
    for (int i=0; i<rows; i++) {
      String key = (String) model.getValueAt(i, WidgetModel.COLUMN_NAME);
      Object o = model.getValueAt(i, WidgetModel.COLUMN_VALUE);
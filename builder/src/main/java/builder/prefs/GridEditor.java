@@ -70,6 +70,7 @@ public class GridEditor extends ModelEditor {
    */
   public GridEditor() {
     // get rid of the bugged Preferences warning - not needed in Java 9 and above
+    PrintStream err = System.err;
     System.setErr(new PrintStream(new OutputStream() {
         public void write(int b) throws IOException {}
     }));
@@ -78,7 +79,7 @@ public class GridEditor extends ModelEditor {
     model = new GridModel();
     model.TurnOffEvents();
     updateModel();
-    System.setErr(System.err);  
+    System.setErr(err);  
   }
 
   /**
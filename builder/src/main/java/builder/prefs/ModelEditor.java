@@ -72,6 +72,32 @@ public class ModelEditor extends Observable {
   /** The save data. */
   Object[][] save_data;
   
+  /** True when every editor keeps its defaults instead of our user's preferences. */
+  static volatile boolean bPinned = false;
+  
+  /**
+   * Pin every editor to its defaults, neither reading nor saving
+   * our user's preferences. Used by command line tools so their
+   * output doesn't depend on whoever last ran the builder's UI.
+   * 
+   * Must be called before any editor is created.
+   *
+   * @param bPin
+   *          true to pin our editors
+   */
+  public static void setPinned(boolean bPin) {
+    bPinned = bPin;
+  }
+  
+  /**
+   * Checks if our editors are pinned to their defaults.
+   *
+   * @return true, if pinned
+   */
+  public static boolean isPinned() {
+    return bPinned;
+  }
+  
   /**
    * Gets the java swing ui elements
    *
@@ -147,7 +173,7 @@ public class ModelEditor extends Observable {
    * Save preferences.
    */
   public void savePreferences(){
-    int rows = model.getPropertyCount();
+    int rows = bPinned ? 0 : model.getPropertyCount();
     for (int i=0; i<rows; i++) {
       String key = (String) model.getValueAt(i, WidgetModel.COLUMN_NAME);
       Object o = model.getValueAt(i, WidgetModel.COLUMN_VALUE);
@@ -200,7 +226,7 @@ public class ModelEditor extends Observable {
    */
   public void updateModel() {
     model.TurnOffEvents();
-    int rows = model.getPropertyCount();
+    int rows = bPinned ? 0 : model.getPropertyCount();
     for (int i=0; i<rows; i++) {
       String key = (String) model.getValueAt(i, WidgetModel.COLUMN_NAME);
       Object o = model.getValueAt(i, WidgetModel.COLUMN_VALUE);
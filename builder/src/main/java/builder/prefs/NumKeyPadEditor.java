@@ -72,6 +72,7 @@ public class NumKeyPadEditor extends ModelEditor {
    */
   public NumKeyPadEditor() {
     // get rid of the bugged Preferences warning - not needed in Java 9 and above
+    PrintStream err = System.err;
     System.setErr(new PrintStream(new OutputStream() {
         public void write(int b) throws IOException {}
     }));
@@ -80,7 +81,7 @@ public class NumKeyPadEditor extends ModelEditor {
     model = new KeyPadModel();
     model.TurnOffEvents();
     updateModel();
-    System.setErr(System.err);  
+    System.setErr(err);  
   }
 
   /**
@@ -149,7 +150,7 @@ public class NumKeyPadEditor extends ModelEditor {
  @Override
  public void updateModel() {
    model.TurnOffEvents();
-   int rows = model.getPropertyCount();
+   int rows = bPinned ? 0 : model.getPropertyCount();
    for (int i=0; i<rows; i++) {
      String key = (String) model.getValueAt(i, WidgetModel.COLUMN_NAME);
      Object o = model.getValueAt(i, WidgetModel.COLUMN_VALUE);
@@ -69,6 +69,7 @@ public class TxtButtonEditor extends ModelEditor {
    */
   public TxtButtonEditor() {
  // get rid of the bugged Preferences warning - not needed in Java 9 and above
+    PrintStream err = System.err;
     System.setErr(new PrintStream(new OutputStream() {
         public void write(int b) throws IOException {}
     }));
@@ -78,7 +79,7 @@ public class TxtButtonEditor extends ModelEditor {
     model.TurnOffEvents();
     updateModel();
     model.setFontReadOnly();
-    System.setErr(System.err);  
+    System.setErr(err);  
   }
 
   /**
@@ -34,6 +34,7 @@ import javax.swing.Action;
 import javax.swing.Icon;
 //import javax.swing.ImageIcon;
 import javax.swing.InputMap;
+import javax.swing.JCheckBoxMenuItem;
 import javax.swing.JComponent;
 import javax.swing.JMenu;
 import javax.swing.JMenuBar;
@@ -59,7 +60,7 @@ public class MenuBar extends JMenuBar {
   
   /** The exit menu item. */
   private JMenuItem miNew, miOpen, miSave, 
-    miSaveAs, miCode, miClose, miExit;
+    miSaveAs, miCode, miEstimate, miRedraw, miClose, miExit;
   
   /** The edit menu item. */
   private JMenuItem miUndo,miRedo,miCopy,miCut,miPaste, miOptions, miDelete;
@@ -69,6 +70,9 @@ public class MenuBar extends JMenuBar {
   
   public static JMenuItem miZoomIn, miZoomOut, miGrid;
   
+  /** The watch mode menu item. */
+  public static JCheckBoxMenuItem miWatch;
+  
   /**
    * Instantiates a new menu bar.
    */
@@ -134,6 +138,21 @@ public class MenuBar extends JMenuBar {
     miCode.setToolTipText("Create C Code Output Files");
     mbFile.add(miCode);
     
+    miWatch = new JCheckBoxMenuItem("Watch Mode");
+    miWatch.setActionCommand("watch");
+    miWatch.setToolTipText("Regenerate Code whenever Project or Templates change");
+    mbFile.add(miWatch);
+    
+    miEstimate = new JMenuItem("Memory Estimate");
+    miEstimate.setActionCommand("estimate");
+    miEstimate.setToolTipText("Estimate SRAM and Flash needed by each Page");
+    mbFile.add(miEstimate);
+    
+    miRedraw = new JMenuItem("Redraw Estimate");
+    miRedraw.setActionCommand("redraw");
+    miRedraw.setToolTipText("Estimate Display Bus Time to Redraw each Page");
+    mbFile.add(miRedraw);
+    
     mbFile.add(new JSeparator()); 
     
     miExit = new JMenuItem("Exit", 
@@ -304,6 +323,9 @@ public class MenuBar extends JMenuBar {
     miUndo.addActionListener(al); 
     miRedo.addActionListener(al); 
     miCode.addActionListener(al);
+    miWatch.addActionListener(al);
+    miEstimate.addActionListener(al);
+    miRedraw.addActionListener(al);
     miCopy.addActionListener(al); 
     miCut.addActionListener(al); 
     miPaste.addActionListener(al); 
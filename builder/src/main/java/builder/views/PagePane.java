@@ -60,6 +60,7 @@ import javax.swing.JPanel;
 import javax.swing.KeyStroke;
 
 import builder.Builder;
+import builder.codegen.CodePage;
 import builder.commands.Command;
 import builder.commands.DragByArrowCommand;
 import builder.commands.DragWidgetCommand;
@@ -84,7 +85,7 @@ import builder.widgets.WidgetFactory;
  * @author Paul Conti
  * 
  */
-public class PagePane extends JPanel implements iSubscriber {
+public class PagePane extends JPanel implements iSubscriber, CodePage {
 
   /** The Constant serialVersionUID. */
   private static final long serialVersionUID = 1L;
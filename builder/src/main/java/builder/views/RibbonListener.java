@@ -510,6 +510,16 @@ public class RibbonListener implements ActionListener {
       controller.removeComponent();
       break;
       
+    case "estimate":
+      Builder.logger.debug("Menu: estimate");
+      controller.showMemoryEstimate();
+      break;
+      
+    case "redraw":
+      Builder.logger.debug("Menu: redraw");
+      controller.showRedrawEstimate();
+      break;
+      
     case "exit":
       Builder.logger.debug("Menu: exit");
       onExit();
@@ -708,6 +718,11 @@ public class RibbonListener implements ActionListener {
       History.getInstance().undo();
       break;
       
+    case "watch":
+      Builder.logger.debug("Menu: watch");
+      MenuBar.miWatch.setSelected(controller.toggleWatch());
+      break;
+      
     case "zoomin":
       Builder.logger.debug("Menu: zoomin");
       controller.zoomIn();
@@ -0,0 +1,261 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import builder.Builder;
+import builder.common.EnumFactory;
+import builder.controller.Controller;
+import builder.fonts.FontFactory;
+import builder.models.PageModel;
+import builder.models.ProjectModel;
+import builder.models.WidgetModel;
+import builder.prefs.ModelEditor;
+import builder.widgets.Widget;
+import builder.widgets.WidgetFactory;
+
+/**
+ * The Class FlashPlannerTest runs every widget type our optimizer may
+ * move to flash through its _P code block.
+ * 
+ * @author Paul Conti
+ * 
+ */
+public class FlashPlannerTest {
+
+  /** The Constant for a model's Use Flash API? property. */
+  private final static String USE_FLASH_ID = "COM-020";
+
+  /** The Constant for a model's Callback Enabled? property. */
+  private final static String CALLBACK_EN_ID = "COM-017";
+
+  /**
+   * Load our themes and fonts with our preferences pinned to their defaults.
+   */
+  @BeforeAll
+  public static void setUp() {
+    System.setProperty("log4j.configurationFile", "resources/log4j2.xml");
+    Builder.logger = LogManager.getLogger(Builder.class);
+    Builder.loadThemes();
+    ModelEditor.setPinned(true);
+    FontFactory.getInstance().init();
+  }
+
+  /**
+   * Every candidate set to use flash must be created by its _P API,
+   * with or without an Element Ref.
+   *
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  @Test
+  public void everyCandidateHasFlashBlock() throws IOException {
+    for (String target : new String[] { ProjectModel.PLATFORM_ARDUINO, 
+                                        ProjectModel.PLATFORM_TFT_ESPI }) {
+      generateFlash(target, true);
+      generateFlash(target, false);
+    }
+  }
+
+  /**
+   * Generate a project whose candidates are all set to use flash.
+   *
+   * @param target
+   *          the target platform
+   * @param bRefs
+   *          false to clear every Element Ref, as our optimizer needs
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private void generateFlash(String target, boolean bRefs) throws IOException {
+    ProjectModel pm = new ProjectModel();
+    ProjectModel prev = Controller.bindProjectModel(pm);
+    File folder = Files.createTempDirectory("flash").toFile();
+    try {
+      pm.setTargetPlatform(target);
+      List<ProjectPage> pages = createProject(pm);
+      List<WidgetModel> models = new ArrayList<WidgetModel>();
+      for (Widget w : pages.get(1).getWidgets()) {
+        WidgetModel m = w.getModel();
+        int row = m.mapMetaIDtoProperty(USE_FLASH_ID);
+        assertThat(row).as(m.getType() + " has no Use Flash API? property").isGreaterThan(0);
+        m.changeValueAt(Boolean.TRUE, row);
+        if (!bRefs) {
+          m.setElementRef("");
+        }
+        models.add(m);
+      }
+      new CodeGenerator().generateCode(new File(folder, "flash.prj"), folder.getPath(),
+          pages, false);
+      String code = readAll(folder);
+      for (WidgetModel m : models) {
+        assertThat(Pattern.compile("gslc_\\w+_P(_R)?(_ext)?\\(&m_gui," + m.getEnum() + ",")
+            .matcher(code).find()).as(target + " " + m.getType() + " _P API").isTrue();
+      }
+      // an element without an Element Ref must not be assigned to one
+      Matcher matcher = Pattern.compile("(?m)^\\s*= .*$").matcher(code);
+      assertThat(matcher.find() ? matcher.group() : null).as(target + " assignment").isNull();
+    } finally {
+      Controller.bindProjectModel(prev);
+      deleteAll(folder);
+    }
+  }
+
+  /**
+   * Every candidate without a reason to stay in RAM is moved by a tiny budget.
+   */
+  @Test
+  public void everyCandidateIsMovedOrKept() {
+    ProjectModel pm = new ProjectModel();
+    ProjectModel prev = Controller.bindProjectModel(pm);
+    try {
+      pm.setTargetPlatform(ProjectModel.PLATFORM_TFT_ESPI);
+      List<ProjectPage> pages = createProject(pm);
+      for (Widget w : pages.get(1).getWidgets()) {
+        w.getModel().setElementRef("");
+      }
+      FlashPlanner.Plan plan = FlashPlanner.plan(new ProjectIndex(pages), 1);
+      assertThat(plan).isNotNull();
+      for (Widget w : pages.get(1).getWidgets()) {
+        WidgetModel m = w.getModel();
+        assertThat(plan.isMoved(m) || FlashPlanner.getReason(m) != null)
+          .as(m.getType() + " moved or kept").isTrue();
+      }
+    } finally {
+      Controller.bindProjectModel(prev);
+    }
+  }
+
+  /**
+   * A checkbox or radio button with a callback but no Element Ref has no
+   * way to set its callback once in flash, so it must stay in RAM.
+   */
+  @Test
+  public void callbackWithoutRefIsKept() {
+    ProjectModel pm = new ProjectModel();
+    ProjectModel prev = Controller.bindProjectModel(pm);
+    try {
+      pm.setTargetPlatform(ProjectModel.PLATFORM_TFT_ESPI);
+      List<ProjectPage> pages = createProject(pm);
+      List<WidgetModel> callbacks = new ArrayList<WidgetModel>();
+      for (Widget w : pages.get(1).getWidgets()) {
+        WidgetModel m = w.getModel();
+        if (m.getType().equals(EnumFactory.CHECKBOX) 
+            || m.getType().equals(EnumFactory.RADIOBUTTON)) {
+          m.changeValueAt(Boolean.TRUE, m.mapMetaIDtoProperty(CALLBACK_EN_ID));
+          callbacks.add(m);
+        }
+        m.setElementRef("");
+      }
+      assertThat(callbacks).hasSize(2);
+      FlashPlanner.Plan plan = FlashPlanner.plan(new ProjectIndex(pages), 1);
+      for (WidgetModel m : callbacks) {
+        assertThat(plan.isMoved(m)).as(m.getType() + " moved").isFalse();
+        assertThat(FlashPlanner.getReason(m)).as(m.getType() + " reason").isNotNull();
+      }
+    } finally {
+      Controller.bindProjectModel(prev);
+    }
+  }
+
+  /**
+   * Create a project with a page holding one widget of each candidate type.
+   *
+   * @param pm
+   *          the project model, bound to our thread
+   * @return the <code>list</code> of pages, our project page first
+   */
+  private static List<ProjectPage> createProject(ProjectModel pm) {
+    pm.setKey("Project$1");
+    pm.setEnum("Project$1");
+    List<ProjectPage> pages = new ArrayList<ProjectPage>();
+    pages.add(new ProjectPage(pm, EnumFactory.PROJECT));
+    PageModel page = new PageModel();
+    page.setKey(EnumFactory.getInstance().createKey(EnumFactory.PAGE));
+    page.setEnum(EnumFactory.getInstance().createEnum(EnumFactory.PAGE));
+    ProjectPage p = new ProjectPage(page, EnumFactory.PAGE);
+    List<String> types = new ArrayList<String>(FlashPlanner.FLASH_TYPES);
+    Collections.sort(types);
+    int y = 10;
+    for (String type : types) {
+      p.getWidgets().add(WidgetFactory.getInstance().createWidget(type, 10, y));
+      y += 20;
+    }
+    pages.add(p);
+    return pages;
+  }
+
+  /**
+   * Read every file we generated.
+   *
+   * @param folder
+   *          the output folder
+   * @return the contents of our files
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private static String readAll(File folder) throws IOException {
+    StringBuilder sBd = new StringBuilder();
+    for (File f : folder.listFiles()) {
+      if (f.isFile()) {
+        sBd.append(new String(Files.readAllBytes(f.toPath()), StandardCharsets.UTF_8));
+      }
+    }
+    return sBd.toString();
+  }
+
+  /**
+   * Delete a folder and everything in it.
+   *
+   * @param folder
+   *          the folder
+   */
+  private static void deleteAll(File folder) {
+    File[] files = folder.listFiles();
+    if (files != null) {
+      for (File f : files) {
+        deleteAll(f);
+      }
+    }
+    folder.delete();
+  }
+
+}
@@ -0,0 +1,365 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+
+import builder.Builder;
+import builder.common.EnumFactory;
+import builder.controller.Controller;
+import builder.fonts.FontFactory;
+import builder.models.PageModel;
+import builder.models.ProjectModel;
+import builder.models.WidgetModel;
+import builder.prefs.ModelEditor;
+import builder.widgets.ImageWidget;
+import builder.widgets.ImgButtonWidget;
+import builder.widgets.Widget;
+import builder.widgets.WidgetFactory;
+
+/**
+ * The Class GoldenFixtures writes the fixture projects checked by
+ * <code>GoldenVerifierTest</code>.
+ * <p>
+ * Each <code>widgets.prj</code> holds every widget type along with a base
+ * page, a popup and the keypads our inputs bring in, one for the arduino
+ * targets and one for linux as their fonts and images differ. 
+ * <code>flash.prj</code> holds every widget type our <code>_P</code> code
+ * blocks create, about half of them without an Element Ref where their
+ * generated code doesn't need one, along with a checkbox and radio button
+ * with callbacks. <code>widgets1000.prj</code> holds a page of 1000 widgets,
+ * so its tight budget catches code generation growing worse with project
+ * size. Run from the builder folder after changing what they should 
+ * cover, then refresh the golden files by running 
+ * <code>builder.Builder --verify</code> with <code>--update</code> as
+ * <code>GoldenVerifierTest</code> does.
+ * </p>
+ * 
+ * @author Paul Conti
+ * 
+ */
+public final class GoldenFixtures {
+
+  /** The Constant PROJECTS_DIR holds our fixture projects. */
+  public  final static String PROJECTS_DIR = "src/test/resources/golden/projects";
+
+  /** The Constants naming the folders of fixtures for each kind of target. */
+  public  final static String ARDUINO_DIR  = "arduino";
+  public  final static String LINUX_DIR    = "linux";
+  public  final static String LARGE_DIR    = "large";
+
+  /** The Constant LARGE_WIDGETS is the number of widgets in our large fixture. */
+  public  final static int    LARGE_WIDGETS = 1000;
+
+  /** The Constant for a model's Use Flash API? property. */
+  private final static String USE_FLASH_ID = "COM-020";
+
+  /** The Constant for a model's Callback Enabled? property. */
+  private final static String CALLBACK_EN_ID = "COM-017";
+
+  /** The widget types whose generated callbacks use their Element Ref. */
+  private final static List<String> NEEDS_REF = Arrays.asList(EnumFactory.TEXTINPUT,
+      EnumFactory.NUMINPUT, EnumFactory.SEEKBAR, EnumFactory.SLIDER);
+
+  /** The mix of widgets placed on our large fixture, in order. */
+  private final static String[] WIDGET_MIX = {
+      EnumFactory.TEXTBUTTON,
+      EnumFactory.TEXT,
+      EnumFactory.BOX,
+      EnumFactory.CHECKBOX,
+      EnumFactory.RADIOBUTTON,
+      EnumFactory.SLIDER,
+      EnumFactory.PROGRESSBAR,
+      EnumFactory.NUMINPUT,
+      EnumFactory.TOGGLEBUTTON,
+      EnumFactory.LINE,
+  };
+
+  /**
+   * Instantiates a new golden fixtures.
+   */
+  private GoldenFixtures() {
+  }
+
+  /**
+   * Write our fixture projects.
+   *
+   * @param args
+   *          the folder to write to, defaults to PROJECTS_DIR
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  public static void main(String[] args) throws IOException {
+    System.setProperty("log4j.configurationFile", "resources/log4j2.xml");
+    Builder.logger = LogManager.getLogger(Builder.class);
+    Builder.loadThemes();
+    ModelEditor.setPinned(true);
+    FontFactory.getInstance().init();
+    File folder = new File(args.length > 0 ? args[0] : PROJECTS_DIR);
+    File arduino = new File(folder, ARDUINO_DIR);
+    File linux = new File(folder, LINUX_DIR);
+    File large = new File(folder, LARGE_DIR);
+    for (File f : new File[] { arduino, linux, large }) {
+      if (!f.isDirectory() && !f.mkdirs()) {
+        throw new IOException("Unable to create folder: " + f.getPath());
+      }
+    }
+    writeWidgets(new File(arduino, "widgets.prj"), ProjectModel.PLATFORM_ARDUINO);
+    writeFlash(new File(arduino, "flash.prj"));
+    writeWidgets(new File(linux, "widgets.prj"), ProjectModel.PLATFORM_LINUX);
+    writeLarge(new File(large, "widgets" + LARGE_WIDGETS + ".prj"), LARGE_WIDGETS);
+  }
+
+  /**
+   * Write a project holding every widget type.
+   *
+   * @param prj
+   *          the project file
+   * @param target
+   *          the target platform
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private static void writeWidgets(File prj, String target) throws IOException {
+    ProjectModel pm = createProjectModel(target);
+    ProjectModel prev = Controller.bindProjectModel(pm);
+    try {
+      List<ProjectPage> pages = new ArrayList<ProjectPage>();
+      pages.add(new ProjectPage(pm, EnumFactory.PROJECT));
+      pages.add(createPage(EnumFactory.PAGE, EnumFactory.TEXT, EnumFactory.TEXTBUTTON,
+          EnumFactory.CHECKBOX, EnumFactory.RADIOBUTTON, EnumFactory.TOGGLEBUTTON,
+          EnumFactory.BOX, EnumFactory.LINE, EnumFactory.NUMINPUT, EnumFactory.TEXTINPUT,
+          EnumFactory.SPINNER, EnumFactory.LISTBOX, EnumFactory.TEXTBOX));
+      pages.add(createPage(EnumFactory.PAGE, EnumFactory.SLIDER, EnumFactory.SEEKBAR,
+          EnumFactory.PROGRESSBAR, EnumFactory.GRAPH, EnumFactory.RINGGAUGE,
+          EnumFactory.RADIALGAUGE, EnumFactory.RAMPGAUGE));
+      ProjectPage images = createPage(EnumFactory.PAGE);
+      ImageWidget logo = (ImageWidget) addWidget(images, EnumFactory.IMAGE);
+      ImgButtonWidget exit = (ImgButtonWidget) addWidget(images, EnumFactory.IMAGEBUTTON);
+      if (target.equals(ProjectModel.PLATFORM_LINUX)) {
+        logo.setImage(new File("linux_res", "logo1-200x40.bmp"), 10, 10);
+        exit.setImage(new File("linux_res", "btn-exit32x32.bmp"), 10, 60);
+        exit.setImageSelected(new File("linux_res", "btn-exit_sel32x32.bmp"));
+      } else {
+        logo.setImage(new File("arduino_res", "logo1_24.bmp"), 10, 10);
+        exit.setImage(new File("arduino_res", "exit_n24.bmp"), 10, 60);
+        exit.setImageSelected(new File("arduino_res", "exit_g24.bmp"));
+        // an image converted from C is kept in flash
+        ImageWidget logoC = (ImageWidget) addWidget(images, EnumFactory.IMAGE);
+        logoC.setImage(new File("arduino_res", "logo1_24.c"), 10, 110);
+      }
+      pages.add(images);
+      pages.add(createPage(EnumFactory.BASEPAGE, EnumFactory.BOX, EnumFactory.TEXT));
+      pages.add(createPage(EnumFactory.POPUP, EnumFactory.TEXT, EnumFactory.TEXTBUTTON));
+      writeProject(prj, pages);
+    } finally {
+      Controller.bindProjectModel(prev);
+    }
+  }
+
+  /**
+   * Write a project whose widgets are all created by our flash API.
+   *
+   * @param prj
+   *          the project file
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private static void writeFlash(File prj) throws IOException {
+    ProjectModel pm = createProjectModel(ProjectModel.PLATFORM_ARDUINO);
+    ProjectModel prev = Controller.bindProjectModel(pm);
+    try {
+      List<ProjectPage> pages = new ArrayList<ProjectPage>();
+      pages.add(new ProjectPage(pm, EnumFactory.PROJECT));
+      ProjectPage p = createPage(EnumFactory.PAGE);
+      List<String> types = new ArrayList<String>(FlashPlanner.FLASH_TYPES);
+      Collections.sort(types);
+      boolean bRef = true;
+      for (String type : types) {
+        WidgetModel m = addWidget(p, type).getModel();
+        m.changeValueAt(Boolean.TRUE, m.mapMetaIDtoProperty(USE_FLASH_ID));
+        // our keypad and slider callbacks find their element by its Element Ref
+        if (!bRef && !NEEDS_REF.contains(type)) {
+          m.setElementRef("");
+        }
+        bRef = !bRef;
+      }
+      // turning on a callback gives the element the Element Ref it's set through
+      for (String type : new String[] { EnumFactory.CHECKBOX, EnumFactory.RADIOBUTTON }) {
+        WidgetModel m = addWidget(p, type).getModel();
+        m.changeValueAt(Boolean.TRUE, m.mapMetaIDtoProperty(USE_FLASH_ID));
+        m.changeValueAt(Boolean.TRUE, m.mapMetaIDtoProperty(CALLBACK_EN_ID));
+      }
+      pages.add(p);
+      writeProject(prj, pages);
+    } finally {
+      Controller.bindProjectModel(prev);
+    }
+  }
+
+  /**
+   * Write a project with one page holding many widgets.
+   * 
+   * The page is filled with our mix of widgets laid out in a grid.
+   *
+   * @param prj
+   *          the project file
+   * @param nWidgets
+   *          the number of widgets
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private static void writeLarge(File prj, int nWidgets) throws IOException {
+    ProjectModel pm = createProjectModel(ProjectModel.PLATFORM_ARDUINO);
+    ProjectModel prev = Controller.bindProjectModel(pm);
+    try {
+      List<ProjectPage> pages = new ArrayList<ProjectPage>();
+      pages.add(new ProjectPage(pm, EnumFactory.PROJECT));
+      ProjectPage p = createPage(EnumFactory.PAGE);
+      for (int n=0; n<nWidgets; n++) {
+        int x = 10 + (n % 8) * 35;
+        int y = 10 + ((n / 8) % 10) * 20;
+        p.getWidgets().add(WidgetFactory.getInstance()
+            .createWidget(WIDGET_MIX[n % WIDGET_MIX.length], x, y));
+      }
+      pages.add(p);
+      writeProject(prj, pages);
+    } finally {
+      Controller.bindProjectModel(prev);
+    }
+  }
+
+  /**
+   * Create a project model with its defaults, numbering our pages
+   * and widgets from one as a new project does.
+   *
+   * @param target
+   *          the target platform
+   * @return the project model
+   */
+  private static ProjectModel createProjectModel(String target) {
+    EnumFactory.getInstance().clearCounts();
+    ProjectModel pm = new ProjectModel();
+    pm.setKey("Project$1");
+    pm.setEnum("Project$1");
+    pm.setTargetPlatform(target);
+    return pm;
+  }
+
+  /**
+   * Create a page holding a widget of each type given.
+   *
+   * @param pageType
+   *          the page type
+   * @param widgetTypes
+   *          the widget types
+   * @return the page
+   */
+  private static ProjectPage createPage(String pageType, String... widgetTypes) {
+    PageModel m = new PageModel();
+    m.setKey(EnumFactory.getInstance().createKey(pageType));
+    m.setEnum(EnumFactory.getInstance().createEnum(pageType));
+    ProjectPage p = new ProjectPage(m, pageType);
+    for (String type : widgetTypes) {
+      addWidget(p, type);
+    }
+    return p;
+  }
+
+  /**
+   * Add a widget below those already on a page.
+   *
+   * @param p
+   *          the page
+   * @param widgetType
+   *          the widget type
+   * @return the widget
+   */
+  private static Widget addWidget(ProjectPage p, String widgetType) {
+    int y = 10 + p.getWidgets().size() * 20;
+    Widget w = WidgetFactory.getInstance().createWidget(widgetType, 10, y);
+    p.getWidgets().add(w);
+    return w;
+  }
+
+  /**
+   * Write a project file the same way our Controller saves one.
+   *
+   * @param prj
+   *          the project file
+   * @param pages
+   *          the pages, our project page first
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private static void writeProject(File prj, List<ProjectPage> pages) throws IOException {
+    try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(prj))) {
+      out.writeObject(Builder.FILE_VERSION_NO);
+      out.writeObject(pages.get(1).getKey());
+      ((ProjectModel) pages.get(0).getModel()).writeModel(out);
+      out.writeInt(pages.size());
+      for (ProjectPage p : pages) {
+        out.writeObject(p.getKey());
+        out.writeObject(p.getEnum());
+        out.writeObject(p.getPageType());
+        out.writeObject(backup(p));
+      }
+      out.writeLong(0);  // extra value to avoid java.io.EOFException
+    }
+  }
+
+  /**
+   * Serialize the widgets of a page as PagePane.backup() does.
+   *
+   * @param p
+   *          the page
+   * @return the page's backup string
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private static String backup(ProjectPage p) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+      out.writeInt(p.getWidgets().size());
+      for (Widget w : p.getWidgets()) {
+        w.writeObject(out);
+      }
+    }
+    return Base64.getEncoder().encodeToString(baos.toByteArray());
+  }
+
+}
@@ -0,0 +1,137 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import builder.Builder;
+import builder.models.ProjectModel;
+
+/**
+ * The Class GoldenVerifierTest checks the code we generate for our fixture
+ * projects against their golden files, within their budgets.
+ * 
+ * @author Paul Conti
+ * 
+ */
+public class GoldenVerifierTest {
+
+  /** The Constant GOLDEN_DIR holds our golden files and budgets. */
+  private final static String GOLDEN_DIR = "src/test/resources/golden/expected";
+
+  /**
+   * Setup our logger and themes as Builder.main() does.
+   */
+  @BeforeAll
+  public static void setUp() {
+    System.setProperty("log4j.configurationFile", "resources/log4j2.xml");
+    Builder.logger = LogManager.getLogger(Builder.class);
+    Builder.loadThemes();
+  }
+
+  /**
+   * Our arduino fixtures must match for both arduino targets.
+   */
+  @Test
+  public void arduinoMatchesGolden() {
+    assertThat(verify(GoldenFixtures.ARDUINO_DIR, 
+        ProjectModel.PLATFORM_ARDUINO + "," + ProjectModel.PLATFORM_TFT_ESPI))
+      .isEqualTo(HeadlessGenerator.EXIT_OK);
+  }
+
+  /**
+   * Our large fixture must match within its tight budget.
+   */
+  @Test
+  public void largeMatchesGolden() {
+    assertThat(verify(GoldenFixtures.LARGE_DIR, ProjectModel.PLATFORM_ARDUINO))
+      .isEqualTo(HeadlessGenerator.EXIT_OK);
+  }
+
+  /**
+   * Our linux fixtures must match.
+   */
+  @Test
+  public void linuxMatchesGolden() {
+    assertThat(verify(GoldenFixtures.LINUX_DIR, ProjectModel.PLATFORM_LINUX))
+      .isEqualTo(HeadlessGenerator.EXIT_OK);
+  }
+
+  /**
+   * Our golden files must not lock in code that can't compile, like a
+   * call missing an argument when an Element Ref is empty.
+   *
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  @Test
+  public void goldenHasNoEmptyArguments() throws IOException {
+    Pattern empty = Pattern.compile("(?m)\\(\\s*,|,\\s*,|,\\s*\\)|^\\s*= ");
+    List<Path> files = new ArrayList<Path>();
+    try (Stream<Path> paths = Files.walk(Paths.get(GOLDEN_DIR))) {
+      paths.filter(f -> !f.toString().endsWith(GoldenVerifier.BUDGETS_FILE))
+           .filter(Files::isRegularFile).forEach(files::add);
+    }
+    assertThat(files).isNotEmpty();
+    for (Path f : files) {
+      String code = new String(Files.readAllBytes(f), StandardCharsets.ISO_8859_1);
+      Matcher matcher = empty.matcher(code);
+      assertThat(matcher.find() ? matcher.group() : null).as(f.toString()).isNull();
+    }
+  }
+
+  /**
+   * Verify a folder of fixtures with our preferences pinned.
+   *
+   * @param dir
+   *          the folder within PROJECTS_DIR
+   * @param targets
+   *          the targets
+   * @return the exit code
+   */
+  private static int verify(String dir, String targets) {
+    String projects = new File(GoldenFixtures.PROJECTS_DIR, dir).getPath();
+    return GoldenVerifier.run(new String[] { GoldenVerifier.VERIFY_OPT, projects,
+        GoldenVerifier.GOLDEN_OPT, GOLDEN_DIR, HeadlessGenerator.TARGET_OPT, targets });
+  }
+
+}
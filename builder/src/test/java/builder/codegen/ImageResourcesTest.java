@@ -0,0 +1,170 @@
+/**
+ *
+ * The MIT License
+ *
+ * Copyright 2018-2020 Paul Conti
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ */
+package builder.codegen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import builder.Builder;
+import builder.common.EnumFactory;
+import builder.controller.Controller;
+import builder.fonts.FontFactory;
+import builder.models.GeneralModel;
+import builder.models.ImageModel;
+import builder.models.PageModel;
+import builder.models.ProjectModel;
+import builder.models.WidgetModel;
+import builder.prefs.GeneralEditor;
+import builder.prefs.ModelEditor;
+import builder.widgets.ImageWidget;
+import builder.widgets.WidgetFactory;
+
+/**
+ * The Class ImageResourcesTest checks that our incremental code generation
+ * follows the image arrays our elements are drawn from.
+ * 
+ * @author Paul Conti
+ * 
+ */
+public class ImageResourcesTest {
+
+  /**
+   * Load our themes and fonts with our preferences pinned to their defaults.
+   */
+  @BeforeAll
+  public static void setUp() {
+    System.setProperty("log4j.configurationFile", "resources/log4j2.xml");
+    Builder.logger = LogManager.getLogger(Builder.class);
+    Builder.loadThemes();
+    ModelEditor.setPinned(true);
+    FontFactory.getInstance().init();
+  }
+
+  /**
+   * An image swapped for one of the same name and size but a different 
+   * format must regenerate the code drawing it, not just its array.
+   *
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  @Test
+  public void swappedImageRegenerates() throws IOException {
+    WidgetModel gm = GeneralEditor.getInstance().getModel();
+    gm.changeValueAt(Boolean.TRUE, GeneralModel.PROP_IMAGE_ARRAYS);
+    ProjectModel pm = new ProjectModel();
+    ProjectModel prev = Controller.bindProjectModel(pm);
+    File folder = Files.createTempDirectory("images").toFile();
+    try {
+      pm.setKey("Project$1");
+      pm.setEnum("Project$1");
+      pm.setTargetPlatform(ProjectModel.PLATFORM_ARDUINO);
+      List<ProjectPage> pages = new ArrayList<ProjectPage>();
+      pages.add(new ProjectPage(pm, EnumFactory.PROJECT));
+      PageModel page = new PageModel();
+      page.setKey(EnumFactory.getInstance().createKey(EnumFactory.PAGE));
+      page.setEnum(EnumFactory.getInstance().createEnum(EnumFactory.PAGE));
+      ProjectPage p = new ProjectPage(page, EnumFactory.PAGE);
+      ImageWidget w = (ImageWidget) WidgetFactory.getInstance()
+          .createWidget(EnumFactory.IMAGE, 10, 10);
+      assertThat(w.setImage(new File("arduino_res", "logo1_24.bmp"), 10, 10)).isTrue();
+      p.getWidgets().add(w);
+      pages.add(p);
+      File prj = new File(folder, "images.prj");
+
+      CodeGenerator cg = new CodeGenerator();
+      cg.setIncremental(true);
+      cg.generateCode(prj, folder.getPath(), pages, false);
+      String key = cg.getPageKey(p);
+      assertThat(readAll(folder)).doesNotContain(ImageModel.FORMAT_RAW);
+
+      // a single color fits RAW1
+      ImageModel m = (ImageModel) w.getModel();
+      BufferedImage old = m.getImage();
+      BufferedImage image = new BufferedImage(old.getWidth(), old.getHeight(), old.getType());
+      Graphics2D g2d = image.createGraphics();
+      g2d.setColor(Color.RED);
+      g2d.fillRect(0, 0, image.getWidth(), image.getHeight());
+      g2d.dispose();
+      m.setImage(image);
+      cg.generateCode(prj, folder.getPath(), pages, false);
+      assertThat(cg.getPageKey(p)).isNotEqualTo(key);
+      assertThat(readAll(folder)).contains(ImageModel.FORMAT_RAW);
+    } finally {
+      gm.changeValueAt(Boolean.FALSE, GeneralModel.PROP_IMAGE_ARRAYS);
+      Controller.bindProjectModel(prev);
+      deleteAll(folder);
+    }
+  }
+
+  /**
+   * Read every file we generated.
+   *
+   * @param folder
+   *          the output folder
+   * @return the contents of our files
+   * @throws IOException
+   *           Signals that an I/O exception has occurred.
+   */
+  private static String readAll(File folder) throws IOException {
+    StringBuilder sBd = new StringBuilder();
+    for (File f : folder.listFiles()) {
+      if (f.isFile()) {
+        sBd.append(new String(Files.readAllBytes(f.toPath()), StandardCharsets.UTF_8));
+      }
+    }
+    return sBd.toString();
+  }
+
+  /**
+   * Delete a folder and everything in it.
+   *
+   * @param folder
+   *          the folder
+   */
+  private static void deleteAll(File folder) {
+    File[] files = folder.listFiles();
+    if (files != null) {
+      for (File f : files) {
+        deleteAll(f);
+      }
+    }
+    folder.delete();
+  }
+
+}
@@ -0,0 +1,448 @@
+//<File !Start!>
+// FILE: [flash.ino]
+// Created by GUIslice Builder version: [0.16.b011]
+//
+// GUIslice Builder Generated GUI Framework File
+//
+// For the latest guides, updates and support view:
+// https://github.com/ImpulseAdventure/GUIslice
+//
+//<File !End!>
+//
+// ARDUINO NOTES:
+// - GUIslice_config.h must be edited to match the pinout connections
+//   between the Arduino CPU and the display controller (see ADAGFX_PIN_*).
+//
+
+// ------------------------------------------------
+// Headers to include
+// ------------------------------------------------
+#include "GUIslice.h"
+#include "GUIslice_drv.h"
+
+// Include any extended elements
+//<Includes !Start!>
+// Include extended elements
+#include "elem/XCheckbox.h"
+#include "elem/XKeyPad_Alpha.h"
+#include "elem/XKeyPad_Num.h"
+#include "elem/XProgress.h"
+#include "elem/XSeekbar.h"
+#include "elem/XSlider.h"
+#include "elem/XTogglebtn.h"
+
+// Ensure optional features are enabled in the configuration
+//<Includes !End!>
+
+// ------------------------------------------------
+// Headers and Defines for fonts
+// Note that font files are located within the Adafruit-GFX library folder:
+// ------------------------------------------------
+//<Fonts !Start!>
+#if !defined(DRV_DISP_TFT_ESPI)
+  #error Project tab->Target Platform should be arduino
+#endif
+#include <TFT_eSPI.h>
+//<Fonts !End!>
+
+// ------------------------------------------------
+// Defines for resources
+// ------------------------------------------------
+//<Resources !Start!>
+//<Resources !End!>
+
+// ------------------------------------------------
+// Enumerations for pages, elements, fonts, images
+// ------------------------------------------------
+//<Enum !Start!>
+enum {E_PG_MAIN,E_POP_KEYPAD_NUM,E_POP_KEYPAD_ALPHA};
+enum {E_ELEM_BOX1,E_ELEM_BTN1,E_ELEM_CHECK1,E_ELEM_CHECK2
+      ,E_ELEM_NUMINPUT1,E_ELEM_PROGRESS1,E_ELEM_RADIO1,E_ELEM_RADIO2
+      ,E_ELEM_SEEKBAR1,E_ELEM_SLIDER1,E_ELEM_TEXT1,E_ELEM_TEXTINPUT1
+      ,E_ELEM_TOGGLE1,E_ELEM_KEYPAD_NUM,E_ELEM_KEYPAD_ALPHA};
+// Must use separate enum for fonts with MAX_FONT at end to use gslc_FontSet.
+enum {E_BUILTIN5X8,MAX_FONT};
+//<Enum !End!>
+
+// ------------------------------------------------
+// Instantiate the GUI
+// ------------------------------------------------
+
+// ------------------------------------------------
+// Define the maximum number of elements and pages
+// ------------------------------------------------
+//<ElementDefines !Start!>
+#define MAX_PAGE                3
+// Define the maximum number of elements per page
+// - To enable the same code to run on devices that support storing
+//   data into Flash (PROGMEM) and those that don't, we can make the
+//   number of elements in Flash dependent upon GSLC_USE_PROGMEM
+// - This should allow both Arduino and ARM Cortex to use the same code.
+
+#define MAX_ELEM_PG_MAIN 13 // # Elems total on page
+#if (GSLC_USE_PROGMEM)
+  #define MAX_ELEM_PG_MAIN_PROG 13 // # Elems in Flash
+#else
+  #define MAX_ELEM_PG_MAIN_PROG 0 // No Elems in Flash
+#endif
+#define MAX_ELEM_PG_MAIN_RAM MAX_ELEM_PG_MAIN - MAX_ELEM_PG_MAIN_PROG 
+//<ElementDefines !End!>
+
+// ------------------------------------------------
+// Create element storage
+// ------------------------------------------------
+gslc_tsGui                      m_gui;
+gslc_tsDriver                   m_drv;
+gslc_tsFont                     m_asFont[MAX_FONT];
+gslc_tsPage                     m_asPage[MAX_PAGE];
+
+//<GUI_Extra_Elements !Start!>
+gslc_tsElem                     m_asPage1Elem[MAX_ELEM_PG_MAIN_RAM];
+gslc_tsElemRef                  m_asPage1ElemRef[MAX_ELEM_PG_MAIN];
+gslc_tsElem                     m_asKeypadNumElem[1];
+gslc_tsElemRef                  m_asKeypadNumElemRef[1];
+gslc_tsElem                     m_asKeypadAlphaElem[1];
+gslc_tsElemRef                  m_asKeypadAlphaElemRef[1];
+gslc_tsXKeyPad                  m_sKeyPadNum;
+gslc_tsXKeyPad                  m_sKeyPadAlpha;
+
+#define MAX_STR                 100
+
+//<GUI_Extra_Elements !End!>
+
+// ------------------------------------------------
+// Program Globals
+// ------------------------------------------------
+
+// Save some element references for direct access
+//<Save_References !Start!>
+gslc_tsElemRef* m_pElemCB2        = NULL;
+gslc_tsElemRef* m_pElemInTxt1     = NULL;
+gslc_tsElemRef* m_pElemRB2        = NULL;
+gslc_tsElemRef* m_pElemSeekbar1   = NULL;
+gslc_tsElemRef* m_pElemSlider1    = NULL;
+gslc_tsElemRef* m_pElemToggle1    = NULL;
+gslc_tsElemRef* m_pElemVal1       = NULL;
+gslc_tsElemRef* m_pElemKeyPadNum  = NULL;
+gslc_tsElemRef* m_pElemKeyPadAlpha= NULL;
+//<Save_References !End!>
+
+// Define debug message function
+static int16_t DebugOut(char ch) { if (ch == (char)'\n') Serial.println(""); else Serial.write(ch); return 0; }
+
+// ------------------------------------------------
+// Callback Methods
+// ------------------------------------------------
+// Common Button callback
+bool CbBtnCommon(void* pvGui,void *pvElemRef,gslc_teTouch eTouch,int16_t nX,int16_t nY)
+{
+  // Typecast the parameters to match the GUI and element types
+  gslc_tsGui*     pGui     = (gslc_tsGui*)(pvGui);
+  gslc_tsElemRef* pElemRef = (gslc_tsElemRef*)(pvElemRef);
+  gslc_tsElem*    pElem    = gslc_GetElemFromRef(pGui,pElemRef);
+
+  if ( eTouch == GSLC_TOUCH_UP_IN ) {
+    // From the element's ID we can determine which button was pressed.
+    switch (pElem->nId) {
+//<Button Enums !Start!>
+      case E_ELEM_NUMINPUT1:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal1);
+        break;
+      case E_ELEM_BTN1:
+        break;
+      case E_ELEM_TEXTINPUT1:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadAlpha, E_POP_KEYPAD_ALPHA, m_pElemInTxt1);
+        break;
+      case E_ELEM_TOGGLE1:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle1)) {
+          ;
+        }
+        break;
+
+//<Button Enums !End!>
+      default:
+        break;
+    }
+  }
+  return true;
+}
+// Checkbox / radio callbacks
+// - Creating a callback function is optional, but doing so enables you to
+//   detect changes in the state of the elements.
+bool CbCheckbox(void* pvGui, void* pvElemRef, int16_t nSelId, bool bState)
+{
+  gslc_tsGui*     pGui      = (gslc_tsGui*)(pvGui);
+  gslc_tsElemRef* pElemRef  = (gslc_tsElemRef*)(pvElemRef);
+  gslc_tsElem*    pElem     = gslc_GetElemFromRef(pGui,pElemRef);
+  if (pElemRef == NULL) {
+    return false;
+  }
+  
+  boolean bChecked = gslc_ElemXCheckboxGetState(pGui,pElemRef);
+
+  // Determine which element issued the callback
+  switch (pElem->nId) {
+//<Checkbox Enums !Start!>
+    case E_ELEM_CHECK2:
+      break;
+    case E_ELEM_RADIO2:
+      break;
+
+//<Checkbox Enums !End!>
+    default:
+      break;
+  } // switch
+  return true;
+}
+// KeyPad Input Ready callback
+bool CbKeypad(void* pvGui, void *pvElemRef, int16_t nState, void* pvData)
+{
+  gslc_tsGui*     pGui     = (gslc_tsGui*)pvGui;
+  gslc_tsElemRef* pElemRef = (gslc_tsElemRef*)(pvElemRef);
+  gslc_tsElem*    pElem    = gslc_GetElemFromRef(pGui,pElemRef);
+
+  // From the pvData we can get the ID element that is ready.
+  int16_t nTargetElemId = gslc_ElemXKeyPadDataTargetIdGet(pGui, pvData);
+  if (nState == XKEYPAD_CB_STATE_DONE) {
+    // User clicked on Enter to leave popup
+    // - If we have a popup active, pass the return value directly to
+    //   the corresponding value field
+    switch (nTargetElemId) {
+//<Keypad Enums !Start!>
+      case E_ELEM_NUMINPUT1:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal1, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_TEXTINPUT1:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemInTxt1, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+
+//<Keypad Enums !End!>
+      default:
+        break;
+    }
+  } else if (nState == XKEYPAD_CB_STATE_CANCEL) {
+    // User escaped from popup, so don't update values
+    gslc_PopupHide(&m_gui);
+  }
+  return true;
+}
+//<Spinner Callback !Start!>
+//<Spinner Callback !End!>
+//<Listbox Callback !Start!>
+//<Listbox Callback !End!>
+//<Draw Callback !Start!>
+//<Draw Callback !End!>
+
+// Callback function for when a slider's position has been updated
+bool CbSlidePos(void* pvGui,void* pvElemRef,int16_t nPos)
+{
+  gslc_tsGui*     pGui     = (gslc_tsGui*)(pvGui);
+  gslc_tsElemRef* pElemRef = (gslc_tsElemRef*)(pvElemRef);
+  gslc_tsElem*    pElem    = gslc_GetElemFromRef(pGui,pElemRef);
+  int16_t         nVal;
+
+  // From the element's ID we can determine which slider was updated.
+  switch (pElem->nId) {
+//<Slider Enums !Start!>
+    case E_ELEM_SEEKBAR1:
+      // Fetch the slider position
+      nVal = gslc_ElemXSeekbarGetPos(pGui,m_pElemSeekbar1);
+      break;
+    case E_ELEM_SLIDER1:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider1);
+      break;
+
+//<Slider Enums !End!>
+    default:
+      break;
+  }
+
+  return true;
+}
+//<Tick Callback !Start!>
+//<Tick Callback !End!>
+
+// ------------------------------------------------
+// Create page elements
+// ------------------------------------------------
+bool InitGUI()
+{
+  gslc_tsElemRef* pElemRef = NULL;
+
+//<InitGUI !Start!>
+  gslc_PageAdd(&m_gui,E_PG_MAIN,m_asPage1Elem,MAX_ELEM_PG_MAIN_RAM,m_asPage1ElemRef,MAX_ELEM_PG_MAIN);
+  gslc_PageAdd(&m_gui,E_POP_KEYPAD_NUM,m_asKeypadNumElem,1,m_asKeypadNumElemRef,1);  // KeyPad
+  gslc_PageAdd(&m_gui,E_POP_KEYPAD_ALPHA,m_asKeypadAlphaElem,1,m_asKeypadAlphaElemRef,1);  // KeyPad
+
+  // NOTE: The current page defaults to the first page added. Here we explicitly
+  //       ensure that the main page is the correct page no matter the add order.
+  gslc_SetPageCur(&m_gui,E_PG_MAIN);
+  
+  // Set Background to a flat color
+  gslc_SetBkgndColor(&m_gui,GSLC_COL_BLACK);
+
+  // -----------------------------------
+  // PAGE: E_PG_MAIN
+  
+   
+  // Create E_ELEM_BOX1 box in flash
+  gslc_ElemCreateBox_P(&m_gui,E_ELEM_BOX1,E_PG_MAIN,10,10,300,150,
+    GSLC_COL_GRAY,GSLC_COL_BLACK,true,true,NULL,NULL);
+   
+  // create checkbox E_ELEM_CHECK1 in flash 
+  gslc_ElemXCheckboxCreate_P(&m_gui,E_ELEM_CHECK1,E_PG_MAIN,10,30,20,20,GSLC_COL_BLACK,true,
+    GSLC_GROUP_ID_NONE,false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create E_ELEM_NUMINPUT1 numeric input field
+  static char m_sInputNumber1[7] = "";
+  gslc_ElemCreateTxt_P_R_ext(&m_gui,E_ELEM_NUMINPUT1,E_PG_MAIN,10,50,40,10,
+    m_sInputNumber1,7,&m_asFont[E_BUILTIN5X8],
+    GSLC_COL_YELLOW,GSLC_COL_YELLOW,GSLC_COL_GRAY,GSLC_COL_BLACK,GSLC_ALIGN_MID_LEFT,5,5,
+    true,true,true,false,NULL,NULL,&CbBtnCommon,NULL);
+  m_pElemVal1 = gslc_PageFindElemById(&m_gui,E_PG_MAIN,E_ELEM_NUMINPUT1);
+
+  // Create E_ELEM_PROGRESS1 progress bar in flash
+  gslc_ElemXProgressCreate_P(&m_gui,E_ELEM_PROGRESS1,E_PG_MAIN,10,70,50,12,
+    0,100,0,
+    GSLC_COL_GRAY,GSLC_COL_BLACK,GSLC_COL_GREEN,false);
+   
+  // create radiobutton E_ELEM_RADIO1 in flash 
+  gslc_ElemXCheckboxCreate_P(&m_gui,E_ELEM_RADIO1,E_PG_MAIN,10,90,20,20,GSLC_COL_BLACK,true,
+    GSLC_GROUP_ID_NONE,true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create seekbar E_ELEM_SEEKBAR1 
+  gslc_ElemXSeekbarCreate_P(&m_gui,E_ELEM_SEEKBAR1,E_PG_MAIN,10,110,80,30,
+    0,100,0,4,2,8,
+    GSLC_COL_BLUE,GSLC_COL_GRAY,GSLC_COL_BLUE_DK2,false,GSLC_COL_GRAY,GSLC_COL_BLACK);
+  pElemRef = gslc_PageFindElemById(&m_gui,E_PG_MAIN,E_ELEM_SEEKBAR1);
+  gslc_ElemXSeekbarSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSeekbar1 = pElemRef;
+  gslc_ElemXSeekbarSetStyle(&m_gui,pElemRef,true,GSLC_COL_BLUE_LT4,false,GSLC_COL_GRAY,
+    0,10,GSLC_COL_GRAY);
+
+  // Create slider E_ELEM_SLIDER1 
+  gslc_ElemXSliderCreate_P(&m_gui,E_ELEM_SLIDER1,E_PG_MAIN,10,130,80,20,
+          0,100,0,5,false,GSLC_COL_GRAY,GSLC_COL_BLACK);
+  pElemRef = gslc_PageFindElemById(&m_gui,E_PG_MAIN,E_ELEM_SLIDER1);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider1 = pElemRef;
+  
+  // Create E_ELEM_TEXT1 text label using flash API
+  gslc_ElemCreateTxt_P(&m_gui,E_ELEM_TEXT1,E_PG_MAIN,10,150,25,10,
+    "",&m_asFont[E_BUILTIN5X8],
+    GSLC_COL_YELLOW,GSLC_COL_GRAY,GSLC_COL_BLACK,GSLC_ALIGN_MID_LEFT,false,true);
+  
+  // create E_ELEM_BTN1 button with text label
+  gslc_ElemCreateBtnTxt_P(&m_gui,E_ELEM_BTN1,E_PG_MAIN,10,170,80,40,
+    "",&m_asFont[E_BUILTIN5X8],
+    GSLC_COL_WHITE,GSLC_COL_BLUE_DK2,GSLC_COL_BLUE_DK4,GSLC_COL_BLUE_DK2,
+    GSLC_COL_BLUE_DK1,GSLC_ALIGN_MID_MID,true,true,&CbBtnCommon,NULL);
+  // gslc_ElemSetFrameEn(); currently not supported by the FLASH _P calls.
+  
+  // Create E_ELEM_TEXTINPUT1 text input field
+  static char m_sInputText1[11] = "";
+  gslc_ElemCreateTxt_P_R_ext(&m_gui,E_ELEM_TEXTINPUT1,E_PG_MAIN,10,190,65,10,
+    m_sInputText1,11,&m_asFont[E_BUILTIN5X8],
+    GSLC_COL_YELLOW,GSLC_COL_YELLOW,GSLC_COL_GRAY,GSLC_COL_BLACK,GSLC_ALIGN_MID_LEFT,5,5,
+    true,true,true,false,NULL,NULL,&CbBtnCommon,NULL);
+  m_pElemInTxt1 = gslc_PageFindElemById(&m_gui,E_PG_MAIN,E_ELEM_TEXTINPUT1);
+   
+  // create toggle button E_ELEM_TOGGLE1 in flash 
+  gslc_ElemXTogglebtnCreate_P(&m_gui,E_ELEM_TOGGLE1,E_PG_MAIN,10,210,35,20,
+    GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  pElemRef = gslc_PageFindElemById(&m_gui,E_PG_MAIN,E_ELEM_TOGGLE1);
+  m_pElemToggle1 = pElemRef;
+   
+  // create checkbox E_ELEM_CHECK2 in flash 
+  gslc_ElemXCheckboxCreate_P(&m_gui,E_ELEM_CHECK2,E_PG_MAIN,10,210,20,20,GSLC_COL_BLACK,true,
+    GSLC_GROUP_ID_NONE,false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  m_pElemCB2 = gslc_PageFindElemById(&m_gui,E_PG_MAIN,E_ELEM_CHECK2);
+  gslc_ElemXCheckboxSetStateFunc(&m_gui, m_pElemCB2, &CbCheckbox);
+   
+  // create radiobutton E_ELEM_RADIO2 in flash 
+  gslc_ElemXCheckboxCreate_P(&m_gui,E_ELEM_RADIO2,E_PG_MAIN,10,210,20,20,GSLC_COL_BLACK,true,
+    GSLC_GROUP_ID_NONE,true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+  m_pElemRB2 = gslc_PageFindElemById(&m_gui,E_PG_MAIN,E_ELEM_RADIO2);
+  gslc_ElemXCheckboxSetStateFunc(&m_gui, m_pElemRB2, &CbCheckbox);
+
+  // -----------------------------------
+  // PAGE: E_POP_KEYPAD_NUM
+  
+  static gslc_tsXKeyPadCfg_Num sCfg;
+  sCfg = gslc_ElemXKeyPadCfgInit_Num();
+  gslc_ElemXKeyPadCfgSetFloatEn_Num(&sCfg, true);
+  gslc_ElemXKeyPadCfgSetSignEn_Num(&sCfg, true);
+  m_pElemKeyPadNum = gslc_ElemXKeyPadCreate_Num(&m_gui, E_ELEM_KEYPAD_NUM, E_POP_KEYPAD_NUM,
+    &m_sKeyPadNum, 65, 80, E_BUILTIN5X8, &sCfg);
+  gslc_ElemXKeyPadValSetCb(&m_gui, m_pElemKeyPadNum, &CbKeypad);
+
+  // -----------------------------------
+  // PAGE: E_POP_KEYPAD_ALPHA
+  
+  static gslc_tsXKeyPadCfg_Alpha sCfgTx;
+  sCfgTx = gslc_ElemXKeyPadCfgInit_Alpha();
+  m_pElemKeyPadAlpha = gslc_ElemXKeyPadCreate_Alpha(&m_gui, E_ELEM_KEYPAD_ALPHA, E_POP_KEYPAD_ALPHA,
+    &m_sKeyPadAlpha, 65, 80, E_BUILTIN5X8, &sCfgTx);
+  gslc_ElemXKeyPadValSetCb(&m_gui, m_pElemKeyPadAlpha, &CbKeypad);
+//<InitGUI !End!>
+
+  return true;
+}
+
+void setup()
+{
+  // ------------------------------------------------
+  // Initialize
+  // ------------------------------------------------
+  Serial.begin(9600);
+  // Wait for USB Serial 
+  //delay(1000);  // NOTE: Some devices require a delay after Serial.begin() before serial port can be used
+
+  gslc_InitDebug(&DebugOut);
+
+  if (!gslc_Init(&m_gui,&m_drv,m_asPage,MAX_PAGE,m_asFont,MAX_FONT)) { return; }
+
+  // ------------------------------------------------
+  // Load Fonts
+  // ------------------------------------------------
+//<Load_Fonts !Start!>
+    if (!gslc_FontSet(&m_gui,E_BUILTIN5X8,GSLC_FONTREF_PTR,NULL,1)) { return; }
+//<Load_Fonts !End!>
+
+  // ------------------------------------------------
+  // Create graphic elements
+  // ------------------------------------------------
+  InitGUI();
+
+//<Startup !Start!>
+//<Startup !End!>
+
+}
+
+// -----------------------------------
+// Main event loop
+// -----------------------------------
+void loop()
+{
+
+  // ------------------------------------------------
+  // Update GUI Elements
+  // ------------------------------------------------
+  
+  //TODO - Add update code for any text, gauges, or sliders
+  
+  // ------------------------------------------------
+  // Periodically call GUIslice update function
+  // ------------------------------------------------
+  gslc_Update(&m_gui);
+    
+}
+
@@ -0,0 +1,462 @@
+//<File !Start!>
+// FILE: [widgets_GSLC.h]
+// Created by GUIslice Builder version: [0.16.b011]
+//
+// GUIslice Builder Generated GUI Framework File
+//
+// For the latest guides, updates and support view:
+// https://github.com/ImpulseAdventure/GUIslice
+//
+//<File !End!>
+
+#ifndef _GUISLICE_GEN_H
+#define _GUISLICE_GEN_H
+
+// ------------------------------------------------
+// Headers to include
+// ------------------------------------------------
+#include "GUIslice.h"
+#include "GUIslice_drv.h"
+
+// Include any extended elements
+//<Includes !Start!>
+// Include extended elements
+#include "elem/XCheckbox.h"
+#include "elem/XGraph.h"
+#include "elem/XKeyPad_Alpha.h"
+#include "elem/XKeyPad_Num.h"
+#include "elem/XListbox.h"
+#include "elem/XProgress.h"
+#include "elem/XRadial.h"
+#include "elem/XRamp.h"
+#include "elem/XRingGauge.h"
+#include "elem/XSeekbar.h"
+#include "elem/XSlider.h"
+#include "elem/XSpinner.h"
+#include "elem/XTextbox.h"
+#include "elem/XTogglebtn.h"
+
+// Ensure optional features are enabled in the configuration
+#if !(GSLC_FEATURE_COMPOUND)
+  #error "Config: GSLC_FEATURE_COMPOUND required for this program but not enabled. Please see: https://github.com/ImpulseAdventure/GUIslice/wiki/Configuring-GUIslice"
+#endif
+#if !(GSLC_SD_EN)
+  #error "Config: GSLC_SD_EN required for this program but not enabled. Please see: https://github.com/ImpulseAdventure/GUIslice/wiki/Configuring-GUIslice"
+#endif
+//<Includes !End!>
+
+// ------------------------------------------------
+// Headers and Defines for fonts
+// Note that font files are located within the Adafruit-GFX library folder:
+// ------------------------------------------------
+//<Fonts !Start!>
+#if defined(DRV_DISP_TFT_ESPI)
+  #error Project tab->Target Platform should be tft_espi
+#endif
+#include <Adafruit_GFX.h>
+//<Fonts !End!>
+
+// ------------------------------------------------
+// Defines for resources
+// ------------------------------------------------
+//<Resources !Start!>
+#define IMG_EXIT_G24_SEL          "/exit_g24.bmp"
+#define IMG_EXIT_N24              "/exit_n24.bmp"
+#define IMG_LOGO1_24              "/logo1_24.bmp"
+extern "C" const unsigned short logo1_24[] PROGMEM;
+//<Resources !End!>
+
+// ------------------------------------------------
+// Enumerations for pages, elements, fonts, images
+// ------------------------------------------------
+//<Enum !Start!>
+enum {E_PG_MAIN,E_PG2,E_PG3,E_PG_BASE,E_PG_POPUP1,E_POP_KEYPAD_NUM
+      ,E_POP_KEYPAD_ALPHA};
+enum {E_DRAW_LINE1,E_ELEM_BOX1,E_ELEM_BOX2,E_ELEM_BTN1,E_ELEM_BTN2
+      ,E_ELEM_CHECK1,E_ELEM_GRAPH1,E_ELEM_IMAGE1,E_ELEM_IMAGE2
+      ,E_ELEM_IMAGEBTN1,E_ELEM_LISTBOX1,E_ELEM_NUMINPUT1
+      ,E_ELEM_PROGRESS1,E_ELEM_RADIALGAUGE1,E_ELEM_RADIO1
+      ,E_ELEM_RAMPGAUGE1,E_ELEM_RINGGAUGE1,E_ELEM_SEEKBAR1
+      ,E_ELEM_SLIDER1,E_ELEM_SPINNER1,E_ELEM_TEXT1,E_ELEM_TEXT2
+      ,E_ELEM_TEXT3,E_ELEM_TEXTBOX1,E_ELEM_TEXTINPUT1,E_ELEM_TOGGLE1
+      ,E_LISTSCROLL1,E_TXTSCROLL1,E_ELEM_KEYPAD_NUM,E_ELEM_KEYPAD_ALPHA};
+// Must use separate enum for fonts with MAX_FONT at end to use gslc_FontSet.
+enum {E_BUILTIN5X8,MAX_FONT};
+//<Enum !End!>
+
+// ------------------------------------------------
+// Instantiate the GUI
+// ------------------------------------------------
+
+// ------------------------------------------------
+// Define the maximum number of elements and pages
+// ------------------------------------------------
+//<ElementDefines !Start!>
+#define MAX_PAGE                7
+
+#define MAX_ELEM_PG_MAIN 16 // # Elems total on page
+#define MAX_ELEM_PG_MAIN_RAM MAX_ELEM_PG_MAIN // # Elems in RAM
+
+#define MAX_ELEM_PG2 7 // # Elems total on page
+#define MAX_ELEM_PG2_RAM MAX_ELEM_PG2 // # Elems in RAM
+
+#define MAX_ELEM_PG3 3 // # Elems total on page
+#define MAX_ELEM_PG3_RAM MAX_ELEM_PG3 // # Elems in RAM
+
+#define MAX_ELEM_PG_BASE 2 // # Elems total on page
+#define MAX_ELEM_PG_BASE_RAM MAX_ELEM_PG_BASE // # Elems in RAM
+
+#define MAX_ELEM_PG_POPUP1 2 // # Elems total on page
+#define MAX_ELEM_PG_POPUP1_RAM MAX_ELEM_PG_POPUP1 // # Elems in RAM
+//<ElementDefines !End!>
+
+// ------------------------------------------------
+// Create element storage
+// ------------------------------------------------
+gslc_tsGui                      m_gui;
+gslc_tsDriver                   m_drv;
+gslc_tsFont                     m_asFont[MAX_FONT];
+gslc_tsPage                     m_asPage[MAX_PAGE];
+
+//<GUI_Extra_Elements !Start!>
+gslc_tsElem                     m_asPage1Elem[MAX_ELEM_PG_MAIN_RAM];
+gslc_tsElemRef                  m_asPage1ElemRef[MAX_ELEM_PG_MAIN];
+gslc_tsElem                     m_asPage2Elem[MAX_ELEM_PG2_RAM];
+gslc_tsElemRef                  m_asPage2ElemRef[MAX_ELEM_PG2];
+gslc_tsElem                     m_asPage3Elem[MAX_ELEM_PG3_RAM];
+gslc_tsElemRef                  m_asPage3ElemRef[MAX_ELEM_PG3];
+gslc_tsElem                     m_asBasePage1Elem[MAX_ELEM_PG_BASE_RAM];
+gslc_tsElemRef                  m_asBasePage1ElemRef[MAX_ELEM_PG_BASE];
+gslc_tsElem                     m_asPopup1Elem[MAX_ELEM_PG_POPUP1_RAM];
+gslc_tsElemRef                  m_asPopup1ElemRef[MAX_ELEM_PG_POPUP1];
+gslc_tsElem                     m_asKeypadNumElem[1];
+gslc_tsElemRef                  m_asKeypadNumElemRef[1];
+gslc_tsElem                     m_asKeypadAlphaElem[1];
+gslc_tsElemRef                  m_asKeypadAlphaElemRef[1];
+gslc_tsXKeyPad                  m_sKeyPadNum;
+gslc_tsXKeyPad                  m_sKeyPadAlpha;
+gslc_tsXCheckbox                m_asXCheck1;
+gslc_tsXCheckbox                m_asXRadio1;
+gslc_tsXTogglebtn               m_asXToggle1;
+gslc_tsXSpinner                 m_sXSpinner1;
+gslc_tsXListbox                 m_sListbox1;
+// - Note that XLISTBOX_BUF_OH_R is extra required per item
+char                            m_acListboxBuf1[0 + XLISTBOX_BUF_OH_R];
+gslc_tsXSlider                  m_sListScroll1;
+gslc_tsXTextbox                 m_sTextbox1;
+char                            m_acTextboxBuf1[168]; // NRows=6 NCols=28
+gslc_tsXSlider                  m_sTextScroll1;
+gslc_tsXSlider                  m_sXSlider1;
+gslc_tsXSeekbar                 m_sXSeekbar1;
+gslc_tsXProgress                m_sXBarGauge1;
+gslc_tsXGraph                   m_sGraph1;
+int16_t                         m_anGraphBuf1[0]; // NRows=0
+gslc_tsXRingGauge               m_sXRingGauge1;
+gslc_tsXRadial                  m_sXRadialGauge1;
+gslc_tsXRamp                    m_sXRampGauge1;
+
+#define MAX_STR                 100
+
+//<GUI_Extra_Elements !End!>
+
+// ------------------------------------------------
+// Program Globals
+// ------------------------------------------------
+
+// Element References for direct access
+//<Extern_References !Start!>
+extern gslc_tsElemRef* m_pElemGraph1;
+extern gslc_tsElemRef* m_pElemInTxt1;
+extern gslc_tsElemRef* m_pElemListbox1;
+extern gslc_tsElemRef* m_pElemProgress1;
+extern gslc_tsElemRef* m_pElemRadial1;
+extern gslc_tsElemRef* m_pElemRamp1;
+extern gslc_tsElemRef* m_pElemSeekbar1;
+extern gslc_tsElemRef* m_pElemSlider1;
+extern gslc_tsElemRef* m_pElemSpinner1;
+extern gslc_tsElemRef* m_pElemTextbox1;
+extern gslc_tsElemRef* m_pElemToggle1;
+extern gslc_tsElemRef* m_pElemVal1;
+extern gslc_tsElemRef* m_pElemXRingGauge1;
+extern gslc_tsElemRef* m_pListSlider1;
+extern gslc_tsElemRef* m_pTextSlider1;
+extern gslc_tsElemRef* m_pElemKeyPadNum;
+extern gslc_tsElemRef* m_pElemKeyPadAlpha;
+//<Extern_References !End!>
+
+// Define debug message function
+static int16_t DebugOut(char ch);
+
+// ------------------------------------------------
+// Callback Methods
+// ------------------------------------------------
+bool CbBtnCommon(void* pvGui,void *pvElemRef,gslc_teTouch eTouch,int16_t nX,int16_t nY);
+bool CbCheckbox(void* pvGui, void* pvElemRef, int16_t nSelId, bool bState);
+bool CbDrawScanner(void* pvGui,void* pvElemRef,gslc_teRedrawType eRedraw);
+bool CbKeypad(void* pvGui, void *pvElemRef, int16_t nState, void* pvData);
+bool CbListbox(void* pvGui, void* pvElemRef, int16_t nSelId);
+bool CbSlidePos(void* pvGui,void* pvElemRef,int16_t nPos);
+bool CbSpinner(void* pvGui, void *pvElemRef, int16_t nState, void* pvData);
+bool CbTickScanner(void* pvGui,void* pvScope);
+
+// ------------------------------------------------
+// Create page elements
+// ------------------------------------------------
+void InitGUIslice_gen()
+{
+  gslc_tsElemRef* pElemRef = NULL;
+
+  if (!gslc_Init(&m_gui,&m_drv,m_asPage,MAX_PAGE,m_asFont,MAX_FONT)) { return; }
+
+  // ------------------------------------------------
+  // Load Fonts
+  // ------------------------------------------------
+//<Load_Fonts !Start!>
+    if (!gslc_FontSet(&m_gui,E_BUILTIN5X8,GSLC_FONTREF_PTR,NULL,1)) { return; }
+//<Load_Fonts !End!>
+
+//<InitGUI !Start!>
+  gslc_PageAdd(&m_gui,E_PG_BASE,m_asBasePage1Elem,MAX_ELEM_PG_BASE_RAM,m_asBasePage1ElemRef,MAX_ELEM_PG_BASE);
+  gslc_PageAdd(&m_gui,E_PG_MAIN,m_asPage1Elem,MAX_ELEM_PG_MAIN_RAM,m_asPage1ElemRef,MAX_ELEM_PG_MAIN);
+  gslc_PageAdd(&m_gui,E_PG2,m_asPage2Elem,MAX_ELEM_PG2_RAM,m_asPage2ElemRef,MAX_ELEM_PG2);
+  gslc_PageAdd(&m_gui,E_PG3,m_asPage3Elem,MAX_ELEM_PG3_RAM,m_asPage3ElemRef,MAX_ELEM_PG3);
+  gslc_PageAdd(&m_gui,E_PG_POPUP1,m_asPopup1Elem,MAX_ELEM_PG_POPUP1_RAM,m_asPopup1ElemRef,MAX_ELEM_PG_POPUP1);
+  gslc_PageAdd(&m_gui,E_POP_KEYPAD_NUM,m_asKeypadNumElem,1,m_asKeypadNumElemRef,1);  // KeyPad
+  gslc_PageAdd(&m_gui,E_POP_KEYPAD_ALPHA,m_asKeypadAlphaElem,1,m_asKeypadAlphaElemRef,1);  // KeyPad
+
+  // Now mark E_PG_BASE as a "base" page which means that it's elements
+  // are always visible. This is useful for common page elements.
+  gslc_SetPageBase(&m_gui, E_PG_BASE);
+
+
+  // NOTE: The current page defaults to the first page added. Here we explicitly
+  //       ensure that the main page is the correct page no matter the add order.
+  gslc_SetPageCur(&m_gui,E_PG_MAIN);
+  
+  // Set Background to a flat color
+  gslc_SetBkgndColor(&m_gui,GSLC_COL_BLACK);
+
+  // -----------------------------------
+  // PAGE: E_PG_MAIN
+  
+  
+  // Create E_ELEM_TEXT1 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT1,E_PG_MAIN,(gslc_tsRect){10,10,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+  
+  // create E_ELEM_BTN1 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN1,E_PG_MAIN,
+    (gslc_tsRect){10,30,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+   
+  // create checkbox E_ELEM_CHECK1
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK1,E_PG_MAIN,&m_asXCheck1,
+    (gslc_tsRect){10,50,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO1
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO1,E_PG_MAIN,&m_asXRadio1,
+    (gslc_tsRect){10,70,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+  
+  // Create toggle button E_ELEM_TOGGLE1
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE1,E_PG_MAIN,&m_asXToggle1,
+    (gslc_tsRect){10,90,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle1 = pElemRef;
+   
+  // Create E_ELEM_BOX1 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX1,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+
+  // Create E_DRAW_LINE1 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE1,E_PG_MAIN,10,130,60,130);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // Create E_ELEM_NUMINPUT1 numeric input field
+  static char m_sInputNumber1[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT1,E_PG_MAIN,(gslc_tsRect){10,150,40,10},
+    (char*)m_sInputNumber1,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal1 = pElemRef;
+  
+  // Create E_ELEM_TEXTINPUT1 text input field
+  static char m_sInputText1[11] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXTINPUT1,E_PG_MAIN,(gslc_tsRect){10,170,65,10},
+    (char*)m_sInputText1,11,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemInTxt1 = pElemRef;
+
+  // Add Spinner element
+  pElemRef = gslc_ElemXSpinnerCreate(&m_gui,E_ELEM_SPINNER1,E_PG_MAIN,&m_sXSpinner1,
+    (gslc_tsRect){10,190,63,20},0,99,0,1,E_BUILTIN5X8,20,&CbSpinner);
+  m_pElemSpinner1 = pElemRef;
+   
+  // Create wrapping box for listbox E_ELEM_LISTBOX1 and scrollbar
+  pElemRef = gslc_ElemCreateBox(&m_gui,GSLC_ID_AUTO,E_PG_MAIN,(gslc_tsRect){10,130,200,100});
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLUE,GSLC_COL_BLACK,GSLC_COL_BLACK);
+  
+  // Create listbox
+  pElemRef = gslc_ElemXListboxCreate(&m_gui,E_ELEM_LISTBOX1,E_PG_MAIN,&m_sListbox1,
+    (gslc_tsRect){10+2,130+4,200-23,100-7},E_BUILTIN5X8,
+    (uint8_t*)&m_acListboxBuf1,sizeof(m_acListboxBuf1),0);
+  gslc_ElemXListboxSetSize(&m_gui, pElemRef, 5, 1); // 5 rows, 1 columns
+  gslc_ElemXListboxItemsSetSize(&m_gui, pElemRef, XLISTBOX_SIZE_AUTO, XLISTBOX_SIZE_AUTO);
+  gslc_ElemSetTxtMarginXY(&m_gui, pElemRef, 5, 0);
+  gslc_ElemSetTxtCol(&m_gui,pElemRef,GSLC_COL_WHITE);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLUE,GSLC_COL_BLACK,GSLC_COL_BLACK);
+  gslc_ElemXListboxSetSelFunc(&m_gui, pElemRef, &CbListbox);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  m_pElemListbox1 = pElemRef;
+
+  // Create vertical scrollbar for listbox
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_LISTSCROLL1,E_PG_MAIN,&m_sListScroll1,
+          (gslc_tsRect){10+200-21,130+4,20,100-8},0,100,0,5,true);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLUE,GSLC_COL_BLACK,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pListSlider1 = pElemRef;
+   
+  // Create wrapping box for textbox E_ELEM_TEXTBOX1 and scrollbar
+  pElemRef = gslc_ElemCreateBox(&m_gui,GSLC_ID_AUTO,E_PG_MAIN,(gslc_tsRect){10,170,170,60});
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_GRAY,GSLC_COL_BLACK,GSLC_COL_BLACK);
+  
+  // Create textbox
+  pElemRef = gslc_ElemXTextboxCreate(&m_gui,E_ELEM_TEXTBOX1,E_PG_MAIN,&m_sTextbox1,
+    (gslc_tsRect){10+2,170+4,170-23,60-7},E_BUILTIN5X8,
+    (char*)&m_acTextboxBuf1,6,28);
+  gslc_ElemXTextboxWrapSet(&m_gui,pElemRef,false);
+  gslc_ElemSetTxtCol(&m_gui,pElemRef,GSLC_COL_YELLOW);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_GRAY,GSLC_COL_BLACK,GSLC_COL_BLACK);
+  m_pElemTextbox1 = pElemRef;
+
+  // Create vertical scrollbar for textbox
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_TXTSCROLL1,E_PG_MAIN,&m_sTextScroll1,
+          (gslc_tsRect){10+170-21,170+4,20,60-8},0,100,0,5,true);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_GRAY,GSLC_COL_BLACK,GSLC_COL_GRAY);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pTextSlider1 = pElemRef;
+
+  // -----------------------------------
+  // PAGE: E_PG2
+  
+
+  // Create slider E_ELEM_SLIDER1 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER1,E_PG2,&m_sXSlider1,
+          (gslc_tsRect){10,10,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider1 = pElemRef;
+
+  // Create seekbar E_ELEM_SEEKBAR1 
+  pElemRef = gslc_ElemXSeekbarCreate(&m_gui,E_ELEM_SEEKBAR1,E_PG2,&m_sXSeekbar1,
+    (gslc_tsRect){10,30,80,30},0,100,0,
+    4,2,8,GSLC_COL_BLUE,GSLC_COL_GRAY,GSLC_COL_BLUE_DK2,false);
+  gslc_ElemXSeekbarSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  gslc_ElemXSeekbarSetStyle(&m_gui,pElemRef,true,GSLC_COL_BLUE_LT4,false,GSLC_COL_GRAY,
+    0,10,GSLC_COL_GRAY);
+  m_pElemSeekbar1 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS1 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS1,E_PG2,&m_sXBarGauge1,
+    (gslc_tsRect){10,50,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress1 = pElemRef;
+
+  // Create graph E_ELEM_GRAPH1
+  pElemRef = gslc_ElemXGraphCreate(&m_gui,E_ELEM_GRAPH1,E_PG2,
+    &m_sGraph1,(gslc_tsRect){10,70,180,120},E_BUILTIN5X8,(int16_t*)&m_anGraphBuf1,
+        0,((gslc_tsColor){255,200,0}));
+  gslc_ElemXGraphSetStyle(&m_gui,pElemRef, GSLCX_GRAPH_STYLE_DOT, 5);
+  m_pElemGraph1 = pElemRef;
+
+  // Create ring gauge E_ELEM_RINGGAUGE1 
+  static char m_sRingText1[11] = "";
+  pElemRef = gslc_ElemXRingGaugeCreate(&m_gui,E_ELEM_RINGGAUGE1,E_PG2,&m_sXRingGauge1,
+          (gslc_tsRect){10,90,100,100},
+          (char*)m_sRingText1,11,E_BUILTIN5X8);
+  gslc_ElemXRingGaugeSetValRange(&m_gui, pElemRef, 0, 100);
+  gslc_ElemXRingGaugeSetVal(&m_gui, pElemRef, 0); // Set initial value
+  m_pElemXRingGauge1 = pElemRef;
+
+  // Create progress bar E_ELEM_RADIALGAUGE1 
+  pElemRef = gslc_ElemXRadialCreate(&m_gui,E_ELEM_RADIALGAUGE1,E_PG2,&m_sXRadialGauge1,
+    (gslc_tsRect){10,110,80,80},0,100,0,GSLC_COL_GREEN);
+  gslc_ElemXRadialSetIndicator(&m_gui,pElemRef,GSLC_COL_GREEN,20,3,false);
+  gslc_ElemXRadialSetTicks(&m_gui,pElemRef,GSLC_COL_GRAY,8,5);
+  m_pElemRadial1 = pElemRef;
+
+  // Create progress bar E_ELEM_RAMPGAUGE1 
+  pElemRef = gslc_ElemXRampCreate(&m_gui,E_ELEM_RAMPGAUGE1,E_PG2,&m_sXRampGauge1,
+    (gslc_tsRect){10,130,100,80},0,100,
+    0,GSLC_COL_YELLOW,false);
+  m_pElemRamp1 = pElemRef;
+
+  // -----------------------------------
+  // PAGE: E_PG3
+  
+ 
+  // Create E_ELEM_IMAGE1 using Image 
+  pElemRef = gslc_ElemCreateImg(&m_gui,E_ELEM_IMAGE1,E_PG3,(gslc_tsRect){10,10,200,40},
+    gslc_GetImageFromSD((const char*)IMG_LOGO1_24,GSLC_IMGREF_FMT_BMP24));
+  
+  // Create E_ELEM_IMAGEBTN1 button with image label
+  pElemRef = gslc_ElemCreateBtnImg(&m_gui,E_ELEM_IMAGEBTN1,E_PG3,(gslc_tsRect){10,60,32,32},
+          gslc_GetImageFromSD((const char*)IMG_EXIT_N24,GSLC_IMGREF_FMT_BMP24),
+          gslc_GetImageFromSD((const char*)IMG_EXIT_G24_SEL,GSLC_IMGREF_FMT_BMP24),
+          &CbBtnCommon);
+ 
+  // Create E_ELEM_IMAGE2 using Image 
+  pElemRef = gslc_ElemCreateImg(&m_gui,E_ELEM_IMAGE2,E_PG3,(gslc_tsRect){10,110,200,40},
+    gslc_GetImageFromProg((const unsigned char*)logo1_24,GSLC_IMGREF_FMT_BMP24));
+
+  // -----------------------------------
+  // PAGE: E_PG_BASE
+  
+   
+  // Create E_ELEM_BOX2 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX2,E_PG_BASE,(gslc_tsRect){10,10,300,150});
+  
+  // Create E_ELEM_TEXT2 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT2,E_PG_BASE,(gslc_tsRect){10,30,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+
+  // -----------------------------------
+  // PAGE: E_PG_POPUP1
+  
+  
+  // Create E_ELEM_TEXT3 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT3,E_PG_POPUP1,(gslc_tsRect){10,10,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+  
+  // create E_ELEM_BTN2 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN2,E_PG_POPUP1,
+    (gslc_tsRect){10,30,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+
+  // -----------------------------------
+  // PAGE: E_POP_KEYPAD_NUM
+  
+  static gslc_tsXKeyPadCfg_Num sCfg;
+  sCfg = gslc_ElemXKeyPadCfgInit_Num();
+  gslc_ElemXKeyPadCfgSetFloatEn_Num(&sCfg, true);
+  gslc_ElemXKeyPadCfgSetSignEn_Num(&sCfg, true);
+  m_pElemKeyPadNum = gslc_ElemXKeyPadCreate_Num(&m_gui, E_ELEM_KEYPAD_NUM, E_POP_KEYPAD_NUM,
+    &m_sKeyPadNum, 65, 80, E_BUILTIN5X8, &sCfg);
+  gslc_ElemXKeyPadValSetCb(&m_gui, m_pElemKeyPadNum, &CbKeypad);
+
+  // -----------------------------------
+  // PAGE: E_POP_KEYPAD_ALPHA
+  
+  static gslc_tsXKeyPadCfg_Alpha sCfgTx;
+  sCfgTx = gslc_ElemXKeyPadCfgInit_Alpha();
+  m_pElemKeyPadAlpha = gslc_ElemXKeyPadCreate_Alpha(&m_gui, E_ELEM_KEYPAD_ALPHA, E_POP_KEYPAD_ALPHA,
+    &m_sKeyPadAlpha, 65, 80, E_BUILTIN5X8, &sCfgTx);
+  gslc_ElemXKeyPadValSetCb(&m_gui, m_pElemKeyPadAlpha, &CbKeypad);
+//<InitGUI !End!>
+
+//<Startup !Start!>
+//<Startup !End!>
+
+}
+
+#endif // end _GUISLICE_GEN_H
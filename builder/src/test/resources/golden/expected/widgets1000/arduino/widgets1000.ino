@@ -0,0 +1,2546 @@
+//<App !Start!>
+// FILE: [widgets1000.ino]
+// Created by GUIslice Builder version: [0.16.b011]
+//
+// GUIslice Builder Generated File
+//
+// For the latest guides, updates and support view:
+// https://github.com/ImpulseAdventure/GUIslice
+//
+//<App !End!>
+
+// ------------------------------------------------
+// Headers to include
+// ------------------------------------------------
+#include "widgets1000_GSLC.h"
+
+
+// ------------------------------------------------
+// Program Globals
+// ------------------------------------------------
+
+// Save some element references for direct access
+//<Save_References !Start!>
+gslc_tsElemRef* m_pElemProgress1  = NULL;
+gslc_tsElemRef* m_pElemProgress10 = NULL;
+gslc_tsElemRef* m_pElemProgress100= NULL;
+gslc_tsElemRef* m_pElemProgress11 = NULL;
+gslc_tsElemRef* m_pElemProgress12 = NULL;
+gslc_tsElemRef* m_pElemProgress13 = NULL;
+gslc_tsElemRef* m_pElemProgress14 = NULL;
+gslc_tsElemRef* m_pElemProgress15 = NULL;
+gslc_tsElemRef* m_pElemProgress16 = NULL;
+gslc_tsElemRef* m_pElemProgress17 = NULL;
+gslc_tsElemRef* m_pElemProgress18 = NULL;
+gslc_tsElemRef* m_pElemProgress19 = NULL;
+gslc_tsElemRef* m_pElemProgress2  = NULL;
+gslc_tsElemRef* m_pElemProgress20 = NULL;
+gslc_tsElemRef* m_pElemProgress21 = NULL;
+gslc_tsElemRef* m_pElemProgress22 = NULL;
+gslc_tsElemRef* m_pElemProgress23 = NULL;
+gslc_tsElemRef* m_pElemProgress24 = NULL;
+gslc_tsElemRef* m_pElemProgress25 = NULL;
+gslc_tsElemRef* m_pElemProgress26 = NULL;
+gslc_tsElemRef* m_pElemProgress27 = NULL;
+gslc_tsElemRef* m_pElemProgress28 = NULL;
+gslc_tsElemRef* m_pElemProgress29 = NULL;
+gslc_tsElemRef* m_pElemProgress3  = NULL;
+gslc_tsElemRef* m_pElemProgress30 = NULL;
+gslc_tsElemRef* m_pElemProgress31 = NULL;
+gslc_tsElemRef* m_pElemProgress32 = NULL;
+gslc_tsElemRef* m_pElemProgress33 = NULL;
+gslc_tsElemRef* m_pElemProgress34 = NULL;
+gslc_tsElemRef* m_pElemProgress35 = NULL;
+gslc_tsElemRef* m_pElemProgress36 = NULL;
+gslc_tsElemRef* m_pElemProgress37 = NULL;
+gslc_tsElemRef* m_pElemProgress38 = NULL;
+gslc_tsElemRef* m_pElemProgress39 = NULL;
+gslc_tsElemRef* m_pElemProgress4  = NULL;
+gslc_tsElemRef* m_pElemProgress40 = NULL;
+gslc_tsElemRef* m_pElemProgress41 = NULL;
+gslc_tsElemRef* m_pElemProgress42 = NULL;
+gslc_tsElemRef* m_pElemProgress43 = NULL;
+gslc_tsElemRef* m_pElemProgress44 = NULL;
+gslc_tsElemRef* m_pElemProgress45 = NULL;
+gslc_tsElemRef* m_pElemProgress46 = NULL;
+gslc_tsElemRef* m_pElemProgress47 = NULL;
+gslc_tsElemRef* m_pElemProgress48 = NULL;
+gslc_tsElemRef* m_pElemProgress49 = NULL;
+gslc_tsElemRef* m_pElemProgress5  = NULL;
+gslc_tsElemRef* m_pElemProgress50 = NULL;
+gslc_tsElemRef* m_pElemProgress51 = NULL;
+gslc_tsElemRef* m_pElemProgress52 = NULL;
+gslc_tsElemRef* m_pElemProgress53 = NULL;
+gslc_tsElemRef* m_pElemProgress54 = NULL;
+gslc_tsElemRef* m_pElemProgress55 = NULL;
+gslc_tsElemRef* m_pElemProgress56 = NULL;
+gslc_tsElemRef* m_pElemProgress57 = NULL;
+gslc_tsElemRef* m_pElemProgress58 = NULL;
+gslc_tsElemRef* m_pElemProgress59 = NULL;
+gslc_tsElemRef* m_pElemProgress6  = NULL;
+gslc_tsElemRef* m_pElemProgress60 = NULL;
+gslc_tsElemRef* m_pElemProgress61 = NULL;
+gslc_tsElemRef* m_pElemProgress62 = NULL;
+gslc_tsElemRef* m_pElemProgress63 = NULL;
+gslc_tsElemRef* m_pElemProgress64 = NULL;
+gslc_tsElemRef* m_pElemProgress65 = NULL;
+gslc_tsElemRef* m_pElemProgress66 = NULL;
+gslc_tsElemRef* m_pElemProgress67 = NULL;
+gslc_tsElemRef* m_pElemProgress68 = NULL;
+gslc_tsElemRef* m_pElemProgress69 = NULL;
+gslc_tsElemRef* m_pElemProgress7  = NULL;
+gslc_tsElemRef* m_pElemProgress70 = NULL;
+gslc_tsElemRef* m_pElemProgress71 = NULL;
+gslc_tsElemRef* m_pElemProgress72 = NULL;
+gslc_tsElemRef* m_pElemProgress73 = NULL;
+gslc_tsElemRef* m_pElemProgress74 = NULL;
+gslc_tsElemRef* m_pElemProgress75 = NULL;
+gslc_tsElemRef* m_pElemProgress76 = NULL;
+gslc_tsElemRef* m_pElemProgress77 = NULL;
+gslc_tsElemRef* m_pElemProgress78 = NULL;
+gslc_tsElemRef* m_pElemProgress79 = NULL;
+gslc_tsElemRef* m_pElemProgress8  = NULL;
+gslc_tsElemRef* m_pElemProgress80 = NULL;
+gslc_tsElemRef* m_pElemProgress81 = NULL;
+gslc_tsElemRef* m_pElemProgress82 = NULL;
+gslc_tsElemRef* m_pElemProgress83 = NULL;
+gslc_tsElemRef* m_pElemProgress84 = NULL;
+gslc_tsElemRef* m_pElemProgress85 = NULL;
+gslc_tsElemRef* m_pElemProgress86 = NULL;
+gslc_tsElemRef* m_pElemProgress87 = NULL;
+gslc_tsElemRef* m_pElemProgress88 = NULL;
+gslc_tsElemRef* m_pElemProgress89 = NULL;
+gslc_tsElemRef* m_pElemProgress9  = NULL;
+gslc_tsElemRef* m_pElemProgress90 = NULL;
+gslc_tsElemRef* m_pElemProgress91 = NULL;
+gslc_tsElemRef* m_pElemProgress92 = NULL;
+gslc_tsElemRef* m_pElemProgress93 = NULL;
+gslc_tsElemRef* m_pElemProgress94 = NULL;
+gslc_tsElemRef* m_pElemProgress95 = NULL;
+gslc_tsElemRef* m_pElemProgress96 = NULL;
+gslc_tsElemRef* m_pElemProgress97 = NULL;
+gslc_tsElemRef* m_pElemProgress98 = NULL;
+gslc_tsElemRef* m_pElemProgress99 = NULL;
+gslc_tsElemRef* m_pElemSlider1    = NULL;
+gslc_tsElemRef* m_pElemSlider10   = NULL;
+gslc_tsElemRef* m_pElemSlider100  = NULL;
+gslc_tsElemRef* m_pElemSlider11   = NULL;
+gslc_tsElemRef* m_pElemSlider12   = NULL;
+gslc_tsElemRef* m_pElemSlider13   = NULL;
+gslc_tsElemRef* m_pElemSlider14   = NULL;
+gslc_tsElemRef* m_pElemSlider15   = NULL;
+gslc_tsElemRef* m_pElemSlider16   = NULL;
+gslc_tsElemRef* m_pElemSlider17   = NULL;
+gslc_tsElemRef* m_pElemSlider18   = NULL;
+gslc_tsElemRef* m_pElemSlider19   = NULL;
+gslc_tsElemRef* m_pElemSlider2    = NULL;
+gslc_tsElemRef* m_pElemSlider20   = NULL;
+gslc_tsElemRef* m_pElemSlider21   = NULL;
+gslc_tsElemRef* m_pElemSlider22   = NULL;
+gslc_tsElemRef* m_pElemSlider23   = NULL;
+gslc_tsElemRef* m_pElemSlider24   = NULL;
+gslc_tsElemRef* m_pElemSlider25   = NULL;
+gslc_tsElemRef* m_pElemSlider26   = NULL;
+gslc_tsElemRef* m_pElemSlider27   = NULL;
+gslc_tsElemRef* m_pElemSlider28   = NULL;
+gslc_tsElemRef* m_pElemSlider29   = NULL;
+gslc_tsElemRef* m_pElemSlider3    = NULL;
+gslc_tsElemRef* m_pElemSlider30   = NULL;
+gslc_tsElemRef* m_pElemSlider31   = NULL;
+gslc_tsElemRef* m_pElemSlider32   = NULL;
+gslc_tsElemRef* m_pElemSlider33   = NULL;
+gslc_tsElemRef* m_pElemSlider34   = NULL;
+gslc_tsElemRef* m_pElemSlider35   = NULL;
+gslc_tsElemRef* m_pElemSlider36   = NULL;
+gslc_tsElemRef* m_pElemSlider37   = NULL;
+gslc_tsElemRef* m_pElemSlider38   = NULL;
+gslc_tsElemRef* m_pElemSlider39   = NULL;
+gslc_tsElemRef* m_pElemSlider4    = NULL;
+gslc_tsElemRef* m_pElemSlider40   = NULL;
+gslc_tsElemRef* m_pElemSlider41   = NULL;
+gslc_tsElemRef* m_pElemSlider42   = NULL;
+gslc_tsElemRef* m_pElemSlider43   = NULL;
+gslc_tsElemRef* m_pElemSlider44   = NULL;
+gslc_tsElemRef* m_pElemSlider45   = NULL;
+gslc_tsElemRef* m_pElemSlider46   = NULL;
+gslc_tsElemRef* m_pElemSlider47   = NULL;
+gslc_tsElemRef* m_pElemSlider48   = NULL;
+gslc_tsElemRef* m_pElemSlider49   = NULL;
+gslc_tsElemRef* m_pElemSlider5    = NULL;
+gslc_tsElemRef* m_pElemSlider50   = NULL;
+gslc_tsElemRef* m_pElemSlider51   = NULL;
+gslc_tsElemRef* m_pElemSlider52   = NULL;
+gslc_tsElemRef* m_pElemSlider53   = NULL;
+gslc_tsElemRef* m_pElemSlider54   = NULL;
+gslc_tsElemRef* m_pElemSlider55   = NULL;
+gslc_tsElemRef* m_pElemSlider56   = NULL;
+gslc_tsElemRef* m_pElemSlider57   = NULL;
+gslc_tsElemRef* m_pElemSlider58   = NULL;
+gslc_tsElemRef* m_pElemSlider59   = NULL;
+gslc_tsElemRef* m_pElemSlider6    = NULL;
+gslc_tsElemRef* m_pElemSlider60   = NULL;
+gslc_tsElemRef* m_pElemSlider61   = NULL;
+gslc_tsElemRef* m_pElemSlider62   = NULL;
+gslc_tsElemRef* m_pElemSlider63   = NULL;
+gslc_tsElemRef* m_pElemSlider64   = NULL;
+gslc_tsElemRef* m_pElemSlider65   = NULL;
+gslc_tsElemRef* m_pElemSlider66   = NULL;
+gslc_tsElemRef* m_pElemSlider67   = NULL;
+gslc_tsElemRef* m_pElemSlider68   = NULL;
+gslc_tsElemRef* m_pElemSlider69   = NULL;
+gslc_tsElemRef* m_pElemSlider7    = NULL;
+gslc_tsElemRef* m_pElemSlider70   = NULL;
+gslc_tsElemRef* m_pElemSlider71   = NULL;
+gslc_tsElemRef* m_pElemSlider72   = NULL;
+gslc_tsElemRef* m_pElemSlider73   = NULL;
+gslc_tsElemRef* m_pElemSlider74   = NULL;
+gslc_tsElemRef* m_pElemSlider75   = NULL;
+gslc_tsElemRef* m_pElemSlider76   = NULL;
+gslc_tsElemRef* m_pElemSlider77   = NULL;
+gslc_tsElemRef* m_pElemSlider78   = NULL;
+gslc_tsElemRef* m_pElemSlider79   = NULL;
+gslc_tsElemRef* m_pElemSlider8    = NULL;
+gslc_tsElemRef* m_pElemSlider80   = NULL;
+gslc_tsElemRef* m_pElemSlider81   = NULL;
+gslc_tsElemRef* m_pElemSlider82   = NULL;
+gslc_tsElemRef* m_pElemSlider83   = NULL;
+gslc_tsElemRef* m_pElemSlider84   = NULL;
+gslc_tsElemRef* m_pElemSlider85   = NULL;
+gslc_tsElemRef* m_pElemSlider86   = NULL;
+gslc_tsElemRef* m_pElemSlider87   = NULL;
+gslc_tsElemRef* m_pElemSlider88   = NULL;
+gslc_tsElemRef* m_pElemSlider89   = NULL;
+gslc_tsElemRef* m_pElemSlider9    = NULL;
+gslc_tsElemRef* m_pElemSlider90   = NULL;
+gslc_tsElemRef* m_pElemSlider91   = NULL;
+gslc_tsElemRef* m_pElemSlider92   = NULL;
+gslc_tsElemRef* m_pElemSlider93   = NULL;
+gslc_tsElemRef* m_pElemSlider94   = NULL;
+gslc_tsElemRef* m_pElemSlider95   = NULL;
+gslc_tsElemRef* m_pElemSlider96   = NULL;
+gslc_tsElemRef* m_pElemSlider97   = NULL;
+gslc_tsElemRef* m_pElemSlider98   = NULL;
+gslc_tsElemRef* m_pElemSlider99   = NULL;
+gslc_tsElemRef* m_pElemToggle1    = NULL;
+gslc_tsElemRef* m_pElemToggle10   = NULL;
+gslc_tsElemRef* m_pElemToggle100  = NULL;
+gslc_tsElemRef* m_pElemToggle11   = NULL;
+gslc_tsElemRef* m_pElemToggle12   = NULL;
+gslc_tsElemRef* m_pElemToggle13   = NULL;
+gslc_tsElemRef* m_pElemToggle14   = NULL;
+gslc_tsElemRef* m_pElemToggle15   = NULL;
+gslc_tsElemRef* m_pElemToggle16   = NULL;
+gslc_tsElemRef* m_pElemToggle17   = NULL;
+gslc_tsElemRef* m_pElemToggle18   = NULL;
+gslc_tsElemRef* m_pElemToggle19   = NULL;
+gslc_tsElemRef* m_pElemToggle2    = NULL;
+gslc_tsElemRef* m_pElemToggle20   = NULL;
+gslc_tsElemRef* m_pElemToggle21   = NULL;
+gslc_tsElemRef* m_pElemToggle22   = NULL;
+gslc_tsElemRef* m_pElemToggle23   = NULL;
+gslc_tsElemRef* m_pElemToggle24   = NULL;
+gslc_tsElemRef* m_pElemToggle25   = NULL;
+gslc_tsElemRef* m_pElemToggle26   = NULL;
+gslc_tsElemRef* m_pElemToggle27   = NULL;
+gslc_tsElemRef* m_pElemToggle28   = NULL;
+gslc_tsElemRef* m_pElemToggle29   = NULL;
+gslc_tsElemRef* m_pElemToggle3    = NULL;
+gslc_tsElemRef* m_pElemToggle30   = NULL;
+gslc_tsElemRef* m_pElemToggle31   = NULL;
+gslc_tsElemRef* m_pElemToggle32   = NULL;
+gslc_tsElemRef* m_pElemToggle33   = NULL;
+gslc_tsElemRef* m_pElemToggle34   = NULL;
+gslc_tsElemRef* m_pElemToggle35   = NULL;
+gslc_tsElemRef* m_pElemToggle36   = NULL;
+gslc_tsElemRef* m_pElemToggle37   = NULL;
+gslc_tsElemRef* m_pElemToggle38   = NULL;
+gslc_tsElemRef* m_pElemToggle39   = NULL;
+gslc_tsElemRef* m_pElemToggle4    = NULL;
+gslc_tsElemRef* m_pElemToggle40   = NULL;
+gslc_tsElemRef* m_pElemToggle41   = NULL;
+gslc_tsElemRef* m_pElemToggle42   = NULL;
+gslc_tsElemRef* m_pElemToggle43   = NULL;
+gslc_tsElemRef* m_pElemToggle44   = NULL;
+gslc_tsElemRef* m_pElemToggle45   = NULL;
+gslc_tsElemRef* m_pElemToggle46   = NULL;
+gslc_tsElemRef* m_pElemToggle47   = NULL;
+gslc_tsElemRef* m_pElemToggle48   = NULL;
+gslc_tsElemRef* m_pElemToggle49   = NULL;
+gslc_tsElemRef* m_pElemToggle5    = NULL;
+gslc_tsElemRef* m_pElemToggle50   = NULL;
+gslc_tsElemRef* m_pElemToggle51   = NULL;
+gslc_tsElemRef* m_pElemToggle52   = NULL;
+gslc_tsElemRef* m_pElemToggle53   = NULL;
+gslc_tsElemRef* m_pElemToggle54   = NULL;
+gslc_tsElemRef* m_pElemToggle55   = NULL;
+gslc_tsElemRef* m_pElemToggle56   = NULL;
+gslc_tsElemRef* m_pElemToggle57   = NULL;
+gslc_tsElemRef* m_pElemToggle58   = NULL;
+gslc_tsElemRef* m_pElemToggle59   = NULL;
+gslc_tsElemRef* m_pElemToggle6    = NULL;
+gslc_tsElemRef* m_pElemToggle60   = NULL;
+gslc_tsElemRef* m_pElemToggle61   = NULL;
+gslc_tsElemRef* m_pElemToggle62   = NULL;
+gslc_tsElemRef* m_pElemToggle63   = NULL;
+gslc_tsElemRef* m_pElemToggle64   = NULL;
+gslc_tsElemRef* m_pElemToggle65   = NULL;
+gslc_tsElemRef* m_pElemToggle66   = NULL;
+gslc_tsElemRef* m_pElemToggle67   = NULL;
+gslc_tsElemRef* m_pElemToggle68   = NULL;
+gslc_tsElemRef* m_pElemToggle69   = NULL;
+gslc_tsElemRef* m_pElemToggle7    = NULL;
+gslc_tsElemRef* m_pElemToggle70   = NULL;
+gslc_tsElemRef* m_pElemToggle71   = NULL;
+gslc_tsElemRef* m_pElemToggle72   = NULL;
+gslc_tsElemRef* m_pElemToggle73   = NULL;
+gslc_tsElemRef* m_pElemToggle74   = NULL;
+gslc_tsElemRef* m_pElemToggle75   = NULL;
+gslc_tsElemRef* m_pElemToggle76   = NULL;
+gslc_tsElemRef* m_pElemToggle77   = NULL;
+gslc_tsElemRef* m_pElemToggle78   = NULL;
+gslc_tsElemRef* m_pElemToggle79   = NULL;
+gslc_tsElemRef* m_pElemToggle8    = NULL;
+gslc_tsElemRef* m_pElemToggle80   = NULL;
+gslc_tsElemRef* m_pElemToggle81   = NULL;
+gslc_tsElemRef* m_pElemToggle82   = NULL;
+gslc_tsElemRef* m_pElemToggle83   = NULL;
+gslc_tsElemRef* m_pElemToggle84   = NULL;
+gslc_tsElemRef* m_pElemToggle85   = NULL;
+gslc_tsElemRef* m_pElemToggle86   = NULL;
+gslc_tsElemRef* m_pElemToggle87   = NULL;
+gslc_tsElemRef* m_pElemToggle88   = NULL;
+gslc_tsElemRef* m_pElemToggle89   = NULL;
+gslc_tsElemRef* m_pElemToggle9    = NULL;
+gslc_tsElemRef* m_pElemToggle90   = NULL;
+gslc_tsElemRef* m_pElemToggle91   = NULL;
+gslc_tsElemRef* m_pElemToggle92   = NULL;
+gslc_tsElemRef* m_pElemToggle93   = NULL;
+gslc_tsElemRef* m_pElemToggle94   = NULL;
+gslc_tsElemRef* m_pElemToggle95   = NULL;
+gslc_tsElemRef* m_pElemToggle96   = NULL;
+gslc_tsElemRef* m_pElemToggle97   = NULL;
+gslc_tsElemRef* m_pElemToggle98   = NULL;
+gslc_tsElemRef* m_pElemToggle99   = NULL;
+gslc_tsElemRef* m_pElemVal1       = NULL;
+gslc_tsElemRef* m_pElemVal10      = NULL;
+gslc_tsElemRef* m_pElemVal100     = NULL;
+gslc_tsElemRef* m_pElemVal11      = NULL;
+gslc_tsElemRef* m_pElemVal12      = NULL;
+gslc_tsElemRef* m_pElemVal13      = NULL;
+gslc_tsElemRef* m_pElemVal14      = NULL;
+gslc_tsElemRef* m_pElemVal15      = NULL;
+gslc_tsElemRef* m_pElemVal16      = NULL;
+gslc_tsElemRef* m_pElemVal17      = NULL;
+gslc_tsElemRef* m_pElemVal18      = NULL;
+gslc_tsElemRef* m_pElemVal19      = NULL;
+gslc_tsElemRef* m_pElemVal2       = NULL;
+gslc_tsElemRef* m_pElemVal20      = NULL;
+gslc_tsElemRef* m_pElemVal21      = NULL;
+gslc_tsElemRef* m_pElemVal22      = NULL;
+gslc_tsElemRef* m_pElemVal23      = NULL;
+gslc_tsElemRef* m_pElemVal24      = NULL;
+gslc_tsElemRef* m_pElemVal25      = NULL;
+gslc_tsElemRef* m_pElemVal26      = NULL;
+gslc_tsElemRef* m_pElemVal27      = NULL;
+gslc_tsElemRef* m_pElemVal28      = NULL;
+gslc_tsElemRef* m_pElemVal29      = NULL;
+gslc_tsElemRef* m_pElemVal3       = NULL;
+gslc_tsElemRef* m_pElemVal30      = NULL;
+gslc_tsElemRef* m_pElemVal31      = NULL;
+gslc_tsElemRef* m_pElemVal32      = NULL;
+gslc_tsElemRef* m_pElemVal33      = NULL;
+gslc_tsElemRef* m_pElemVal34      = NULL;
+gslc_tsElemRef* m_pElemVal35      = NULL;
+gslc_tsElemRef* m_pElemVal36      = NULL;
+gslc_tsElemRef* m_pElemVal37      = NULL;
+gslc_tsElemRef* m_pElemVal38      = NULL;
+gslc_tsElemRef* m_pElemVal39      = NULL;
+gslc_tsElemRef* m_pElemVal4       = NULL;
+gslc_tsElemRef* m_pElemVal40      = NULL;
+gslc_tsElemRef* m_pElemVal41      = NULL;
+gslc_tsElemRef* m_pElemVal42      = NULL;
+gslc_tsElemRef* m_pElemVal43      = NULL;
+gslc_tsElemRef* m_pElemVal44      = NULL;
+gslc_tsElemRef* m_pElemVal45      = NULL;
+gslc_tsElemRef* m_pElemVal46      = NULL;
+gslc_tsElemRef* m_pElemVal47      = NULL;
+gslc_tsElemRef* m_pElemVal48      = NULL;
+gslc_tsElemRef* m_pElemVal49      = NULL;
+gslc_tsElemRef* m_pElemVal5       = NULL;
+gslc_tsElemRef* m_pElemVal50      = NULL;
+gslc_tsElemRef* m_pElemVal51      = NULL;
+gslc_tsElemRef* m_pElemVal52      = NULL;
+gslc_tsElemRef* m_pElemVal53      = NULL;
+gslc_tsElemRef* m_pElemVal54      = NULL;
+gslc_tsElemRef* m_pElemVal55      = NULL;
+gslc_tsElemRef* m_pElemVal56      = NULL;
+gslc_tsElemRef* m_pElemVal57      = NULL;
+gslc_tsElemRef* m_pElemVal58      = NULL;
+gslc_tsElemRef* m_pElemVal59      = NULL;
+gslc_tsElemRef* m_pElemVal6       = NULL;
+gslc_tsElemRef* m_pElemVal60      = NULL;
+gslc_tsElemRef* m_pElemVal61      = NULL;
+gslc_tsElemRef* m_pElemVal62      = NULL;
+gslc_tsElemRef* m_pElemVal63      = NULL;
+gslc_tsElemRef* m_pElemVal64      = NULL;
+gslc_tsElemRef* m_pElemVal65      = NULL;
+gslc_tsElemRef* m_pElemVal66      = NULL;
+gslc_tsElemRef* m_pElemVal67      = NULL;
+gslc_tsElemRef* m_pElemVal68      = NULL;
+gslc_tsElemRef* m_pElemVal69      = NULL;
+gslc_tsElemRef* m_pElemVal7       = NULL;
+gslc_tsElemRef* m_pElemVal70      = NULL;
+gslc_tsElemRef* m_pElemVal71      = NULL;
+gslc_tsElemRef* m_pElemVal72      = NULL;
+gslc_tsElemRef* m_pElemVal73      = NULL;
+gslc_tsElemRef* m_pElemVal74      = NULL;
+gslc_tsElemRef* m_pElemVal75      = NULL;
+gslc_tsElemRef* m_pElemVal76      = NULL;
+gslc_tsElemRef* m_pElemVal77      = NULL;
+gslc_tsElemRef* m_pElemVal78      = NULL;
+gslc_tsElemRef* m_pElemVal79      = NULL;
+gslc_tsElemRef* m_pElemVal8       = NULL;
+gslc_tsElemRef* m_pElemVal80      = NULL;
+gslc_tsElemRef* m_pElemVal81      = NULL;
+gslc_tsElemRef* m_pElemVal82      = NULL;
+gslc_tsElemRef* m_pElemVal83      = NULL;
+gslc_tsElemRef* m_pElemVal84      = NULL;
+gslc_tsElemRef* m_pElemVal85      = NULL;
+gslc_tsElemRef* m_pElemVal86      = NULL;
+gslc_tsElemRef* m_pElemVal87      = NULL;
+gslc_tsElemRef* m_pElemVal88      = NULL;
+gslc_tsElemRef* m_pElemVal89      = NULL;
+gslc_tsElemRef* m_pElemVal9       = NULL;
+gslc_tsElemRef* m_pElemVal90      = NULL;
+gslc_tsElemRef* m_pElemVal91      = NULL;
+gslc_tsElemRef* m_pElemVal92      = NULL;
+gslc_tsElemRef* m_pElemVal93      = NULL;
+gslc_tsElemRef* m_pElemVal94      = NULL;
+gslc_tsElemRef* m_pElemVal95      = NULL;
+gslc_tsElemRef* m_pElemVal96      = NULL;
+gslc_tsElemRef* m_pElemVal97      = NULL;
+gslc_tsElemRef* m_pElemVal98      = NULL;
+gslc_tsElemRef* m_pElemVal99      = NULL;
+gslc_tsElemRef* m_pElemKeyPadNum  = NULL;
+//<Save_References !End!>
+
+// Define debug message function
+static int16_t DebugOut(char ch) { if (ch == (char)'\n') Serial.println(""); else Serial.write(ch); return 0; }
+
+// ------------------------------------------------
+// Callback Methods
+// ------------------------------------------------
+// Common Button callback
+bool CbBtnCommon(void* pvGui,void *pvElemRef,gslc_teTouch eTouch,int16_t nX,int16_t nY)
+{
+  // Typecast the parameters to match the GUI and element types
+  gslc_tsGui*     pGui     = (gslc_tsGui*)(pvGui);
+  gslc_tsElemRef* pElemRef = (gslc_tsElemRef*)(pvElemRef);
+  gslc_tsElem*    pElem    = gslc_GetElemFromRef(pGui,pElemRef);
+
+  if ( eTouch == GSLC_TOUCH_UP_IN ) {
+    // From the element's ID we can determine which button was pressed.
+    switch (pElem->nId) {
+//<Button Enums !Start!>
+      case E_ELEM_BTN1:
+        break;
+      case E_ELEM_NUMINPUT1:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal1);
+        break;
+      case E_ELEM_TOGGLE1:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle1)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN2:
+        break;
+      case E_ELEM_NUMINPUT2:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal2);
+        break;
+      case E_ELEM_TOGGLE2:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle2)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN3:
+        break;
+      case E_ELEM_NUMINPUT3:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal3);
+        break;
+      case E_ELEM_TOGGLE3:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle3)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN4:
+        break;
+      case E_ELEM_NUMINPUT4:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal4);
+        break;
+      case E_ELEM_TOGGLE4:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle4)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN5:
+        break;
+      case E_ELEM_NUMINPUT5:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal5);
+        break;
+      case E_ELEM_TOGGLE5:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle5)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN6:
+        break;
+      case E_ELEM_NUMINPUT6:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal6);
+        break;
+      case E_ELEM_TOGGLE6:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle6)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN7:
+        break;
+      case E_ELEM_NUMINPUT7:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal7);
+        break;
+      case E_ELEM_TOGGLE7:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle7)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN8:
+        break;
+      case E_ELEM_NUMINPUT8:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal8);
+        break;
+      case E_ELEM_TOGGLE8:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle8)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN9:
+        break;
+      case E_ELEM_NUMINPUT9:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal9);
+        break;
+      case E_ELEM_TOGGLE9:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle9)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN10:
+        break;
+      case E_ELEM_NUMINPUT10:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal10);
+        break;
+      case E_ELEM_TOGGLE10:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle10)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN11:
+        break;
+      case E_ELEM_NUMINPUT11:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal11);
+        break;
+      case E_ELEM_TOGGLE11:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle11)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN12:
+        break;
+      case E_ELEM_NUMINPUT12:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal12);
+        break;
+      case E_ELEM_TOGGLE12:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle12)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN13:
+        break;
+      case E_ELEM_NUMINPUT13:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal13);
+        break;
+      case E_ELEM_TOGGLE13:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle13)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN14:
+        break;
+      case E_ELEM_NUMINPUT14:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal14);
+        break;
+      case E_ELEM_TOGGLE14:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle14)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN15:
+        break;
+      case E_ELEM_NUMINPUT15:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal15);
+        break;
+      case E_ELEM_TOGGLE15:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle15)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN16:
+        break;
+      case E_ELEM_NUMINPUT16:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal16);
+        break;
+      case E_ELEM_TOGGLE16:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle16)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN17:
+        break;
+      case E_ELEM_NUMINPUT17:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal17);
+        break;
+      case E_ELEM_TOGGLE17:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle17)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN18:
+        break;
+      case E_ELEM_NUMINPUT18:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal18);
+        break;
+      case E_ELEM_TOGGLE18:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle18)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN19:
+        break;
+      case E_ELEM_NUMINPUT19:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal19);
+        break;
+      case E_ELEM_TOGGLE19:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle19)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN20:
+        break;
+      case E_ELEM_NUMINPUT20:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal20);
+        break;
+      case E_ELEM_TOGGLE20:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle20)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN21:
+        break;
+      case E_ELEM_NUMINPUT21:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal21);
+        break;
+      case E_ELEM_TOGGLE21:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle21)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN22:
+        break;
+      case E_ELEM_NUMINPUT22:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal22);
+        break;
+      case E_ELEM_TOGGLE22:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle22)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN23:
+        break;
+      case E_ELEM_NUMINPUT23:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal23);
+        break;
+      case E_ELEM_TOGGLE23:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle23)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN24:
+        break;
+      case E_ELEM_NUMINPUT24:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal24);
+        break;
+      case E_ELEM_TOGGLE24:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle24)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN25:
+        break;
+      case E_ELEM_NUMINPUT25:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal25);
+        break;
+      case E_ELEM_TOGGLE25:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle25)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN26:
+        break;
+      case E_ELEM_NUMINPUT26:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal26);
+        break;
+      case E_ELEM_TOGGLE26:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle26)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN27:
+        break;
+      case E_ELEM_NUMINPUT27:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal27);
+        break;
+      case E_ELEM_TOGGLE27:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle27)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN28:
+        break;
+      case E_ELEM_NUMINPUT28:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal28);
+        break;
+      case E_ELEM_TOGGLE28:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle28)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN29:
+        break;
+      case E_ELEM_NUMINPUT29:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal29);
+        break;
+      case E_ELEM_TOGGLE29:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle29)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN30:
+        break;
+      case E_ELEM_NUMINPUT30:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal30);
+        break;
+      case E_ELEM_TOGGLE30:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle30)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN31:
+        break;
+      case E_ELEM_NUMINPUT31:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal31);
+        break;
+      case E_ELEM_TOGGLE31:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle31)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN32:
+        break;
+      case E_ELEM_NUMINPUT32:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal32);
+        break;
+      case E_ELEM_TOGGLE32:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle32)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN33:
+        break;
+      case E_ELEM_NUMINPUT33:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal33);
+        break;
+      case E_ELEM_TOGGLE33:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle33)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN34:
+        break;
+      case E_ELEM_NUMINPUT34:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal34);
+        break;
+      case E_ELEM_TOGGLE34:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle34)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN35:
+        break;
+      case E_ELEM_NUMINPUT35:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal35);
+        break;
+      case E_ELEM_TOGGLE35:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle35)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN36:
+        break;
+      case E_ELEM_NUMINPUT36:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal36);
+        break;
+      case E_ELEM_TOGGLE36:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle36)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN37:
+        break;
+      case E_ELEM_NUMINPUT37:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal37);
+        break;
+      case E_ELEM_TOGGLE37:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle37)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN38:
+        break;
+      case E_ELEM_NUMINPUT38:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal38);
+        break;
+      case E_ELEM_TOGGLE38:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle38)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN39:
+        break;
+      case E_ELEM_NUMINPUT39:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal39);
+        break;
+      case E_ELEM_TOGGLE39:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle39)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN40:
+        break;
+      case E_ELEM_NUMINPUT40:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal40);
+        break;
+      case E_ELEM_TOGGLE40:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle40)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN41:
+        break;
+      case E_ELEM_NUMINPUT41:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal41);
+        break;
+      case E_ELEM_TOGGLE41:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle41)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN42:
+        break;
+      case E_ELEM_NUMINPUT42:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal42);
+        break;
+      case E_ELEM_TOGGLE42:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle42)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN43:
+        break;
+      case E_ELEM_NUMINPUT43:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal43);
+        break;
+      case E_ELEM_TOGGLE43:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle43)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN44:
+        break;
+      case E_ELEM_NUMINPUT44:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal44);
+        break;
+      case E_ELEM_TOGGLE44:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle44)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN45:
+        break;
+      case E_ELEM_NUMINPUT45:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal45);
+        break;
+      case E_ELEM_TOGGLE45:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle45)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN46:
+        break;
+      case E_ELEM_NUMINPUT46:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal46);
+        break;
+      case E_ELEM_TOGGLE46:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle46)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN47:
+        break;
+      case E_ELEM_NUMINPUT47:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal47);
+        break;
+      case E_ELEM_TOGGLE47:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle47)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN48:
+        break;
+      case E_ELEM_NUMINPUT48:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal48);
+        break;
+      case E_ELEM_TOGGLE48:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle48)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN49:
+        break;
+      case E_ELEM_NUMINPUT49:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal49);
+        break;
+      case E_ELEM_TOGGLE49:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle49)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN50:
+        break;
+      case E_ELEM_NUMINPUT50:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal50);
+        break;
+      case E_ELEM_TOGGLE50:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle50)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN51:
+        break;
+      case E_ELEM_NUMINPUT51:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal51);
+        break;
+      case E_ELEM_TOGGLE51:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle51)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN52:
+        break;
+      case E_ELEM_NUMINPUT52:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal52);
+        break;
+      case E_ELEM_TOGGLE52:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle52)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN53:
+        break;
+      case E_ELEM_NUMINPUT53:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal53);
+        break;
+      case E_ELEM_TOGGLE53:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle53)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN54:
+        break;
+      case E_ELEM_NUMINPUT54:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal54);
+        break;
+      case E_ELEM_TOGGLE54:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle54)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN55:
+        break;
+      case E_ELEM_NUMINPUT55:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal55);
+        break;
+      case E_ELEM_TOGGLE55:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle55)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN56:
+        break;
+      case E_ELEM_NUMINPUT56:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal56);
+        break;
+      case E_ELEM_TOGGLE56:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle56)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN57:
+        break;
+      case E_ELEM_NUMINPUT57:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal57);
+        break;
+      case E_ELEM_TOGGLE57:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle57)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN58:
+        break;
+      case E_ELEM_NUMINPUT58:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal58);
+        break;
+      case E_ELEM_TOGGLE58:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle58)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN59:
+        break;
+      case E_ELEM_NUMINPUT59:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal59);
+        break;
+      case E_ELEM_TOGGLE59:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle59)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN60:
+        break;
+      case E_ELEM_NUMINPUT60:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal60);
+        break;
+      case E_ELEM_TOGGLE60:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle60)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN61:
+        break;
+      case E_ELEM_NUMINPUT61:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal61);
+        break;
+      case E_ELEM_TOGGLE61:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle61)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN62:
+        break;
+      case E_ELEM_NUMINPUT62:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal62);
+        break;
+      case E_ELEM_TOGGLE62:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle62)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN63:
+        break;
+      case E_ELEM_NUMINPUT63:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal63);
+        break;
+      case E_ELEM_TOGGLE63:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle63)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN64:
+        break;
+      case E_ELEM_NUMINPUT64:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal64);
+        break;
+      case E_ELEM_TOGGLE64:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle64)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN65:
+        break;
+      case E_ELEM_NUMINPUT65:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal65);
+        break;
+      case E_ELEM_TOGGLE65:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle65)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN66:
+        break;
+      case E_ELEM_NUMINPUT66:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal66);
+        break;
+      case E_ELEM_TOGGLE66:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle66)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN67:
+        break;
+      case E_ELEM_NUMINPUT67:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal67);
+        break;
+      case E_ELEM_TOGGLE67:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle67)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN68:
+        break;
+      case E_ELEM_NUMINPUT68:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal68);
+        break;
+      case E_ELEM_TOGGLE68:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle68)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN69:
+        break;
+      case E_ELEM_NUMINPUT69:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal69);
+        break;
+      case E_ELEM_TOGGLE69:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle69)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN70:
+        break;
+      case E_ELEM_NUMINPUT70:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal70);
+        break;
+      case E_ELEM_TOGGLE70:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle70)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN71:
+        break;
+      case E_ELEM_NUMINPUT71:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal71);
+        break;
+      case E_ELEM_TOGGLE71:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle71)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN72:
+        break;
+      case E_ELEM_NUMINPUT72:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal72);
+        break;
+      case E_ELEM_TOGGLE72:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle72)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN73:
+        break;
+      case E_ELEM_NUMINPUT73:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal73);
+        break;
+      case E_ELEM_TOGGLE73:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle73)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN74:
+        break;
+      case E_ELEM_NUMINPUT74:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal74);
+        break;
+      case E_ELEM_TOGGLE74:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle74)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN75:
+        break;
+      case E_ELEM_NUMINPUT75:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal75);
+        break;
+      case E_ELEM_TOGGLE75:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle75)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN76:
+        break;
+      case E_ELEM_NUMINPUT76:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal76);
+        break;
+      case E_ELEM_TOGGLE76:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle76)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN77:
+        break;
+      case E_ELEM_NUMINPUT77:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal77);
+        break;
+      case E_ELEM_TOGGLE77:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle77)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN78:
+        break;
+      case E_ELEM_NUMINPUT78:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal78);
+        break;
+      case E_ELEM_TOGGLE78:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle78)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN79:
+        break;
+      case E_ELEM_NUMINPUT79:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal79);
+        break;
+      case E_ELEM_TOGGLE79:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle79)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN80:
+        break;
+      case E_ELEM_NUMINPUT80:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal80);
+        break;
+      case E_ELEM_TOGGLE80:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle80)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN81:
+        break;
+      case E_ELEM_NUMINPUT81:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal81);
+        break;
+      case E_ELEM_TOGGLE81:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle81)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN82:
+        break;
+      case E_ELEM_NUMINPUT82:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal82);
+        break;
+      case E_ELEM_TOGGLE82:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle82)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN83:
+        break;
+      case E_ELEM_NUMINPUT83:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal83);
+        break;
+      case E_ELEM_TOGGLE83:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle83)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN84:
+        break;
+      case E_ELEM_NUMINPUT84:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal84);
+        break;
+      case E_ELEM_TOGGLE84:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle84)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN85:
+        break;
+      case E_ELEM_NUMINPUT85:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal85);
+        break;
+      case E_ELEM_TOGGLE85:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle85)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN86:
+        break;
+      case E_ELEM_NUMINPUT86:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal86);
+        break;
+      case E_ELEM_TOGGLE86:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle86)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN87:
+        break;
+      case E_ELEM_NUMINPUT87:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal87);
+        break;
+      case E_ELEM_TOGGLE87:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle87)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN88:
+        break;
+      case E_ELEM_NUMINPUT88:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal88);
+        break;
+      case E_ELEM_TOGGLE88:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle88)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN89:
+        break;
+      case E_ELEM_NUMINPUT89:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal89);
+        break;
+      case E_ELEM_TOGGLE89:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle89)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN90:
+        break;
+      case E_ELEM_NUMINPUT90:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal90);
+        break;
+      case E_ELEM_TOGGLE90:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle90)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN91:
+        break;
+      case E_ELEM_NUMINPUT91:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal91);
+        break;
+      case E_ELEM_TOGGLE91:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle91)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN92:
+        break;
+      case E_ELEM_NUMINPUT92:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal92);
+        break;
+      case E_ELEM_TOGGLE92:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle92)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN93:
+        break;
+      case E_ELEM_NUMINPUT93:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal93);
+        break;
+      case E_ELEM_TOGGLE93:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle93)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN94:
+        break;
+      case E_ELEM_NUMINPUT94:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal94);
+        break;
+      case E_ELEM_TOGGLE94:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle94)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN95:
+        break;
+      case E_ELEM_NUMINPUT95:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal95);
+        break;
+      case E_ELEM_TOGGLE95:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle95)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN96:
+        break;
+      case E_ELEM_NUMINPUT96:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal96);
+        break;
+      case E_ELEM_TOGGLE96:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle96)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN97:
+        break;
+      case E_ELEM_NUMINPUT97:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal97);
+        break;
+      case E_ELEM_TOGGLE97:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle97)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN98:
+        break;
+      case E_ELEM_NUMINPUT98:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal98);
+        break;
+      case E_ELEM_TOGGLE98:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle98)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN99:
+        break;
+      case E_ELEM_NUMINPUT99:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal99);
+        break;
+      case E_ELEM_TOGGLE99:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle99)) {
+          ;
+        }
+        break;
+      case E_ELEM_BTN100:
+        break;
+      case E_ELEM_NUMINPUT100:
+        // Clicked on edit field, so show popup box and associate with this text field
+        gslc_ElemXKeyPadInputAsk(&m_gui, m_pElemKeyPadNum, E_POP_KEYPAD_NUM, m_pElemVal100);
+        break;
+      case E_ELEM_TOGGLE100:
+        // TODO Add code for Toggle button ON/OFF state
+        if (gslc_ElemXTogglebtnGetState(&m_gui, m_pElemToggle100)) {
+          ;
+        }
+        break;
+
+//<Button Enums !End!>
+      default:
+        break;
+    }
+  }
+  return true;
+}
+//<Checkbox Callback !Start!>
+//<Checkbox Callback !End!>
+// KeyPad Input Ready callback
+bool CbKeypad(void* pvGui, void *pvElemRef, int16_t nState, void* pvData)
+{
+  gslc_tsGui*     pGui     = (gslc_tsGui*)pvGui;
+  gslc_tsElemRef* pElemRef = (gslc_tsElemRef*)(pvElemRef);
+  gslc_tsElem*    pElem    = gslc_GetElemFromRef(pGui,pElemRef);
+
+  // From the pvData we can get the ID element that is ready.
+  int16_t nTargetElemId = gslc_ElemXKeyPadDataTargetIdGet(pGui, pvData);
+  if (nState == XKEYPAD_CB_STATE_DONE) {
+    // User clicked on Enter to leave popup
+    // - If we have a popup active, pass the return value directly to
+    //   the corresponding value field
+    switch (nTargetElemId) {
+//<Keypad Enums !Start!>
+      case E_ELEM_NUMINPUT1:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal1, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT2:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal2, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT3:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal3, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT4:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal4, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT5:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal5, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT6:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal6, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT7:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal7, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT8:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal8, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT9:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal9, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT10:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal10, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT11:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal11, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT12:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal12, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT13:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal13, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT14:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal14, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT15:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal15, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT16:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal16, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT17:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal17, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT18:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal18, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT19:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal19, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT20:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal20, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT21:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal21, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT22:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal22, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT23:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal23, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT24:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal24, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT25:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal25, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT26:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal26, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT27:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal27, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT28:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal28, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT29:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal29, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT30:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal30, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT31:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal31, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT32:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal32, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT33:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal33, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT34:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal34, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT35:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal35, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT36:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal36, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT37:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal37, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT38:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal38, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT39:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal39, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT40:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal40, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT41:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal41, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT42:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal42, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT43:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal43, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT44:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal44, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT45:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal45, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT46:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal46, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT47:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal47, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT48:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal48, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT49:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal49, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT50:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal50, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT51:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal51, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT52:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal52, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT53:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal53, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT54:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal54, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT55:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal55, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT56:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal56, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT57:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal57, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT58:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal58, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT59:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal59, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT60:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal60, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT61:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal61, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT62:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal62, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT63:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal63, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT64:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal64, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT65:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal65, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT66:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal66, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT67:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal67, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT68:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal68, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT69:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal69, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT70:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal70, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT71:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal71, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT72:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal72, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT73:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal73, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT74:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal74, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT75:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal75, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT76:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal76, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT77:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal77, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT78:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal78, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT79:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal79, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT80:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal80, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT81:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal81, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT82:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal82, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT83:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal83, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT84:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal84, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT85:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal85, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT86:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal86, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT87:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal87, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT88:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal88, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT89:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal89, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT90:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal90, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT91:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal91, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT92:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal92, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT93:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal93, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT94:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal94, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT95:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal95, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT96:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal96, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT97:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal97, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT98:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal98, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT99:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal99, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+      case E_ELEM_NUMINPUT100:
+        gslc_ElemXKeyPadInputGet(pGui, m_pElemVal100, pvData);
+	    gslc_PopupHide(&m_gui);
+        break;
+
+//<Keypad Enums !End!>
+      default:
+        break;
+    }
+  } else if (nState == XKEYPAD_CB_STATE_CANCEL) {
+    // User escaped from popup, so don't update values
+    gslc_PopupHide(&m_gui);
+  }
+  return true;
+}
+//<Spinner Callback !Start!>
+//<Spinner Callback !End!>
+//<Listbox Callback !Start!>
+//<Listbox Callback !End!>
+//<Draw Callback !Start!>
+//<Draw Callback !End!>
+
+// Callback function for when a slider's position has been updated
+bool CbSlidePos(void* pvGui,void* pvElemRef,int16_t nPos)
+{
+  gslc_tsGui*     pGui     = (gslc_tsGui*)(pvGui);
+  gslc_tsElemRef* pElemRef = (gslc_tsElemRef*)(pvElemRef);
+  gslc_tsElem*    pElem    = gslc_GetElemFromRef(pGui,pElemRef);
+  int16_t         nVal;
+
+  // From the element's ID we can determine which slider was updated.
+  switch (pElem->nId) {
+//<Slider Enums !Start!>
+    case E_ELEM_SLIDER1:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider1);
+      break;
+    case E_ELEM_SLIDER2:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider2);
+      break;
+    case E_ELEM_SLIDER3:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider3);
+      break;
+    case E_ELEM_SLIDER4:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider4);
+      break;
+    case E_ELEM_SLIDER5:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider5);
+      break;
+    case E_ELEM_SLIDER6:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider6);
+      break;
+    case E_ELEM_SLIDER7:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider7);
+      break;
+    case E_ELEM_SLIDER8:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider8);
+      break;
+    case E_ELEM_SLIDER9:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider9);
+      break;
+    case E_ELEM_SLIDER10:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider10);
+      break;
+    case E_ELEM_SLIDER11:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider11);
+      break;
+    case E_ELEM_SLIDER12:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider12);
+      break;
+    case E_ELEM_SLIDER13:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider13);
+      break;
+    case E_ELEM_SLIDER14:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider14);
+      break;
+    case E_ELEM_SLIDER15:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider15);
+      break;
+    case E_ELEM_SLIDER16:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider16);
+      break;
+    case E_ELEM_SLIDER17:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider17);
+      break;
+    case E_ELEM_SLIDER18:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider18);
+      break;
+    case E_ELEM_SLIDER19:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider19);
+      break;
+    case E_ELEM_SLIDER20:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider20);
+      break;
+    case E_ELEM_SLIDER21:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider21);
+      break;
+    case E_ELEM_SLIDER22:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider22);
+      break;
+    case E_ELEM_SLIDER23:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider23);
+      break;
+    case E_ELEM_SLIDER24:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider24);
+      break;
+    case E_ELEM_SLIDER25:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider25);
+      break;
+    case E_ELEM_SLIDER26:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider26);
+      break;
+    case E_ELEM_SLIDER27:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider27);
+      break;
+    case E_ELEM_SLIDER28:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider28);
+      break;
+    case E_ELEM_SLIDER29:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider29);
+      break;
+    case E_ELEM_SLIDER30:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider30);
+      break;
+    case E_ELEM_SLIDER31:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider31);
+      break;
+    case E_ELEM_SLIDER32:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider32);
+      break;
+    case E_ELEM_SLIDER33:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider33);
+      break;
+    case E_ELEM_SLIDER34:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider34);
+      break;
+    case E_ELEM_SLIDER35:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider35);
+      break;
+    case E_ELEM_SLIDER36:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider36);
+      break;
+    case E_ELEM_SLIDER37:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider37);
+      break;
+    case E_ELEM_SLIDER38:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider38);
+      break;
+    case E_ELEM_SLIDER39:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider39);
+      break;
+    case E_ELEM_SLIDER40:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider40);
+      break;
+    case E_ELEM_SLIDER41:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider41);
+      break;
+    case E_ELEM_SLIDER42:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider42);
+      break;
+    case E_ELEM_SLIDER43:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider43);
+      break;
+    case E_ELEM_SLIDER44:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider44);
+      break;
+    case E_ELEM_SLIDER45:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider45);
+      break;
+    case E_ELEM_SLIDER46:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider46);
+      break;
+    case E_ELEM_SLIDER47:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider47);
+      break;
+    case E_ELEM_SLIDER48:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider48);
+      break;
+    case E_ELEM_SLIDER49:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider49);
+      break;
+    case E_ELEM_SLIDER50:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider50);
+      break;
+    case E_ELEM_SLIDER51:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider51);
+      break;
+    case E_ELEM_SLIDER52:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider52);
+      break;
+    case E_ELEM_SLIDER53:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider53);
+      break;
+    case E_ELEM_SLIDER54:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider54);
+      break;
+    case E_ELEM_SLIDER55:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider55);
+      break;
+    case E_ELEM_SLIDER56:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider56);
+      break;
+    case E_ELEM_SLIDER57:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider57);
+      break;
+    case E_ELEM_SLIDER58:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider58);
+      break;
+    case E_ELEM_SLIDER59:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider59);
+      break;
+    case E_ELEM_SLIDER60:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider60);
+      break;
+    case E_ELEM_SLIDER61:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider61);
+      break;
+    case E_ELEM_SLIDER62:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider62);
+      break;
+    case E_ELEM_SLIDER63:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider63);
+      break;
+    case E_ELEM_SLIDER64:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider64);
+      break;
+    case E_ELEM_SLIDER65:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider65);
+      break;
+    case E_ELEM_SLIDER66:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider66);
+      break;
+    case E_ELEM_SLIDER67:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider67);
+      break;
+    case E_ELEM_SLIDER68:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider68);
+      break;
+    case E_ELEM_SLIDER69:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider69);
+      break;
+    case E_ELEM_SLIDER70:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider70);
+      break;
+    case E_ELEM_SLIDER71:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider71);
+      break;
+    case E_ELEM_SLIDER72:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider72);
+      break;
+    case E_ELEM_SLIDER73:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider73);
+      break;
+    case E_ELEM_SLIDER74:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider74);
+      break;
+    case E_ELEM_SLIDER75:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider75);
+      break;
+    case E_ELEM_SLIDER76:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider76);
+      break;
+    case E_ELEM_SLIDER77:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider77);
+      break;
+    case E_ELEM_SLIDER78:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider78);
+      break;
+    case E_ELEM_SLIDER79:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider79);
+      break;
+    case E_ELEM_SLIDER80:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider80);
+      break;
+    case E_ELEM_SLIDER81:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider81);
+      break;
+    case E_ELEM_SLIDER82:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider82);
+      break;
+    case E_ELEM_SLIDER83:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider83);
+      break;
+    case E_ELEM_SLIDER84:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider84);
+      break;
+    case E_ELEM_SLIDER85:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider85);
+      break;
+    case E_ELEM_SLIDER86:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider86);
+      break;
+    case E_ELEM_SLIDER87:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider87);
+      break;
+    case E_ELEM_SLIDER88:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider88);
+      break;
+    case E_ELEM_SLIDER89:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider89);
+      break;
+    case E_ELEM_SLIDER90:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider90);
+      break;
+    case E_ELEM_SLIDER91:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider91);
+      break;
+    case E_ELEM_SLIDER92:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider92);
+      break;
+    case E_ELEM_SLIDER93:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider93);
+      break;
+    case E_ELEM_SLIDER94:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider94);
+      break;
+    case E_ELEM_SLIDER95:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider95);
+      break;
+    case E_ELEM_SLIDER96:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider96);
+      break;
+    case E_ELEM_SLIDER97:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider97);
+      break;
+    case E_ELEM_SLIDER98:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider98);
+      break;
+    case E_ELEM_SLIDER99:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider99);
+      break;
+    case E_ELEM_SLIDER100:
+      // Fetch the slider position
+      nVal = gslc_ElemXSliderGetPos(pGui,m_pElemSlider100);
+      break;
+
+//<Slider Enums !End!>
+    default:
+      break;
+  }
+
+  return true;
+}
+//<Tick Callback !Start!>
+//<Tick Callback !End!>
+
+void setup()
+{
+  // ------------------------------------------------
+  // Initialize
+  // ------------------------------------------------
+  Serial.begin(9600);
+  // Wait for USB Serial 
+  //delay(1000);  // NOTE: Some devices require a delay after Serial.begin() before serial port can be used
+
+  gslc_InitDebug(&DebugOut);
+
+  // ------------------------------------------------
+  // Create graphic elements
+  // ------------------------------------------------
+  InitGUIslice_gen();
+
+}
+
+// -----------------------------------
+// Main event loop
+// -----------------------------------
+void loop()
+{
+
+  // ------------------------------------------------
+  // Update GUI Elements
+  // ------------------------------------------------
+  
+  //TODO - Add update code for any text, gauges, or sliders
+  
+  // ------------------------------------------------
+  // Periodically call GUIslice update function
+  // ------------------------------------------------
+  gslc_Update(&m_gui);
+    
+}
+
@@ -0,0 +1,6421 @@
+//<File !Start!>
+// FILE: [widgets1000_GSLC.h]
+// Created by GUIslice Builder version: [0.16.b011]
+//
+// GUIslice Builder Generated GUI Framework File
+//
+// For the latest guides, updates and support view:
+// https://github.com/ImpulseAdventure/GUIslice
+//
+//<File !End!>
+
+#ifndef _GUISLICE_GEN_H
+#define _GUISLICE_GEN_H
+
+// ------------------------------------------------
+// Headers to include
+// ------------------------------------------------
+#include "GUIslice.h"
+#include "GUIslice_drv.h"
+
+// Include any extended elements
+//<Includes !Start!>
+// Include extended elements
+#include "elem/XCheckbox.h"
+#include "elem/XKeyPad_Num.h"
+#include "elem/XProgress.h"
+#include "elem/XSlider.h"
+#include "elem/XTogglebtn.h"
+
+// Ensure optional features are enabled in the configuration
+//<Includes !End!>
+
+// ------------------------------------------------
+// Headers and Defines for fonts
+// Note that font files are located within the Adafruit-GFX library folder:
+// ------------------------------------------------
+//<Fonts !Start!>
+#if defined(DRV_DISP_TFT_ESPI)
+  #error Project tab->Target Platform should be tft_espi
+#endif
+#include <Adafruit_GFX.h>
+//<Fonts !End!>
+
+// ------------------------------------------------
+// Defines for resources
+// ------------------------------------------------
+//<Resources !Start!>
+//<Resources !End!>
+
+// ------------------------------------------------
+// Enumerations for pages, elements, fonts, images
+// ------------------------------------------------
+//<Enum !Start!>
+enum {E_PG_MAIN,E_POP_KEYPAD_NUM};
+enum {E_DRAW_LINE1,E_DRAW_LINE10,E_DRAW_LINE100,E_DRAW_LINE11
+      ,E_DRAW_LINE12,E_DRAW_LINE13,E_DRAW_LINE14,E_DRAW_LINE15
+      ,E_DRAW_LINE16,E_DRAW_LINE17,E_DRAW_LINE18,E_DRAW_LINE19
+      ,E_DRAW_LINE2,E_DRAW_LINE20,E_DRAW_LINE21,E_DRAW_LINE22
+      ,E_DRAW_LINE23,E_DRAW_LINE24,E_DRAW_LINE25,E_DRAW_LINE26
+      ,E_DRAW_LINE27,E_DRAW_LINE28,E_DRAW_LINE29,E_DRAW_LINE3
+      ,E_DRAW_LINE30,E_DRAW_LINE31,E_DRAW_LINE32,E_DRAW_LINE33
+      ,E_DRAW_LINE34,E_DRAW_LINE35,E_DRAW_LINE36,E_DRAW_LINE37
+      ,E_DRAW_LINE38,E_DRAW_LINE39,E_DRAW_LINE4,E_DRAW_LINE40
+      ,E_DRAW_LINE41,E_DRAW_LINE42,E_DRAW_LINE43,E_DRAW_LINE44
+      ,E_DRAW_LINE45,E_DRAW_LINE46,E_DRAW_LINE47,E_DRAW_LINE48
+      ,E_DRAW_LINE49,E_DRAW_LINE5,E_DRAW_LINE50,E_DRAW_LINE51
+      ,E_DRAW_LINE52,E_DRAW_LINE53,E_DRAW_LINE54,E_DRAW_LINE55
+      ,E_DRAW_LINE56,E_DRAW_LINE57,E_DRAW_LINE58,E_DRAW_LINE59
+      ,E_DRAW_LINE6,E_DRAW_LINE60,E_DRAW_LINE61,E_DRAW_LINE62
+      ,E_DRAW_LINE63,E_DRAW_LINE64,E_DRAW_LINE65,E_DRAW_LINE66
+      ,E_DRAW_LINE67,E_DRAW_LINE68,E_DRAW_LINE69,E_DRAW_LINE7
+      ,E_DRAW_LINE70,E_DRAW_LINE71,E_DRAW_LINE72,E_DRAW_LINE73
+      ,E_DRAW_LINE74,E_DRAW_LINE75,E_DRAW_LINE76,E_DRAW_LINE77
+      ,E_DRAW_LINE78,E_DRAW_LINE79,E_DRAW_LINE8,E_DRAW_LINE80
+      ,E_DRAW_LINE81,E_DRAW_LINE82,E_DRAW_LINE83,E_DRAW_LINE84
+      ,E_DRAW_LINE85,E_DRAW_LINE86,E_DRAW_LINE87,E_DRAW_LINE88
+      ,E_DRAW_LINE89,E_DRAW_LINE9,E_DRAW_LINE90,E_DRAW_LINE91
+      ,E_DRAW_LINE92,E_DRAW_LINE93,E_DRAW_LINE94,E_DRAW_LINE95
+      ,E_DRAW_LINE96,E_DRAW_LINE97,E_DRAW_LINE98,E_DRAW_LINE99
+      ,E_ELEM_BOX1,E_ELEM_BOX10,E_ELEM_BOX100,E_ELEM_BOX11,E_ELEM_BOX12
+      ,E_ELEM_BOX13,E_ELEM_BOX14,E_ELEM_BOX15,E_ELEM_BOX16,E_ELEM_BOX17
+      ,E_ELEM_BOX18,E_ELEM_BOX19,E_ELEM_BOX2,E_ELEM_BOX20,E_ELEM_BOX21
+      ,E_ELEM_BOX22,E_ELEM_BOX23,E_ELEM_BOX24,E_ELEM_BOX25,E_ELEM_BOX26
+      ,E_ELEM_BOX27,E_ELEM_BOX28,E_ELEM_BOX29,E_ELEM_BOX3,E_ELEM_BOX30
+      ,E_ELEM_BOX31,E_ELEM_BOX32,E_ELEM_BOX33,E_ELEM_BOX34,E_ELEM_BOX35
+      ,E_ELEM_BOX36,E_ELEM_BOX37,E_ELEM_BOX38,E_ELEM_BOX39,E_ELEM_BOX4
+      ,E_ELEM_BOX40,E_ELEM_BOX41,E_ELEM_BOX42,E_ELEM_BOX43,E_ELEM_BOX44
+      ,E_ELEM_BOX45,E_ELEM_BOX46,E_ELEM_BOX47,E_ELEM_BOX48,E_ELEM_BOX49
+      ,E_ELEM_BOX5,E_ELEM_BOX50,E_ELEM_BOX51,E_ELEM_BOX52,E_ELEM_BOX53
+      ,E_ELEM_BOX54,E_ELEM_BOX55,E_ELEM_BOX56,E_ELEM_BOX57,E_ELEM_BOX58
+      ,E_ELEM_BOX59,E_ELEM_BOX6,E_ELEM_BOX60,E_ELEM_BOX61,E_ELEM_BOX62
+      ,E_ELEM_BOX63,E_ELEM_BOX64,E_ELEM_BOX65,E_ELEM_BOX66,E_ELEM_BOX67
+      ,E_ELEM_BOX68,E_ELEM_BOX69,E_ELEM_BOX7,E_ELEM_BOX70,E_ELEM_BOX71
+      ,E_ELEM_BOX72,E_ELEM_BOX73,E_ELEM_BOX74,E_ELEM_BOX75,E_ELEM_BOX76
+      ,E_ELEM_BOX77,E_ELEM_BOX78,E_ELEM_BOX79,E_ELEM_BOX8,E_ELEM_BOX80
+      ,E_ELEM_BOX81,E_ELEM_BOX82,E_ELEM_BOX83,E_ELEM_BOX84,E_ELEM_BOX85
+      ,E_ELEM_BOX86,E_ELEM_BOX87,E_ELEM_BOX88,E_ELEM_BOX89,E_ELEM_BOX9
+      ,E_ELEM_BOX90,E_ELEM_BOX91,E_ELEM_BOX92,E_ELEM_BOX93,E_ELEM_BOX94
+      ,E_ELEM_BOX95,E_ELEM_BOX96,E_ELEM_BOX97,E_ELEM_BOX98,E_ELEM_BOX99
+      ,E_ELEM_BTN1,E_ELEM_BTN10,E_ELEM_BTN100,E_ELEM_BTN11,E_ELEM_BTN12
+      ,E_ELEM_BTN13,E_ELEM_BTN14,E_ELEM_BTN15,E_ELEM_BTN16,E_ELEM_BTN17
+      ,E_ELEM_BTN18,E_ELEM_BTN19,E_ELEM_BTN2,E_ELEM_BTN20,E_ELEM_BTN21
+      ,E_ELEM_BTN22,E_ELEM_BTN23,E_ELEM_BTN24,E_ELEM_BTN25,E_ELEM_BTN26
+      ,E_ELEM_BTN27,E_ELEM_BTN28,E_ELEM_BTN29,E_ELEM_BTN3,E_ELEM_BTN30
+      ,E_ELEM_BTN31,E_ELEM_BTN32,E_ELEM_BTN33,E_ELEM_BTN34,E_ELEM_BTN35
+      ,E_ELEM_BTN36,E_ELEM_BTN37,E_ELEM_BTN38,E_ELEM_BTN39,E_ELEM_BTN4
+      ,E_ELEM_BTN40,E_ELEM_BTN41,E_ELEM_BTN42,E_ELEM_BTN43,E_ELEM_BTN44
+      ,E_ELEM_BTN45,E_ELEM_BTN46,E_ELEM_BTN47,E_ELEM_BTN48,E_ELEM_BTN49
+      ,E_ELEM_BTN5,E_ELEM_BTN50,E_ELEM_BTN51,E_ELEM_BTN52,E_ELEM_BTN53
+      ,E_ELEM_BTN54,E_ELEM_BTN55,E_ELEM_BTN56,E_ELEM_BTN57,E_ELEM_BTN58
+      ,E_ELEM_BTN59,E_ELEM_BTN6,E_ELEM_BTN60,E_ELEM_BTN61,E_ELEM_BTN62
+      ,E_ELEM_BTN63,E_ELEM_BTN64,E_ELEM_BTN65,E_ELEM_BTN66,E_ELEM_BTN67
+      ,E_ELEM_BTN68,E_ELEM_BTN69,E_ELEM_BTN7,E_ELEM_BTN70,E_ELEM_BTN71
+      ,E_ELEM_BTN72,E_ELEM_BTN73,E_ELEM_BTN74,E_ELEM_BTN75,E_ELEM_BTN76
+      ,E_ELEM_BTN77,E_ELEM_BTN78,E_ELEM_BTN79,E_ELEM_BTN8,E_ELEM_BTN80
+      ,E_ELEM_BTN81,E_ELEM_BTN82,E_ELEM_BTN83,E_ELEM_BTN84,E_ELEM_BTN85
+      ,E_ELEM_BTN86,E_ELEM_BTN87,E_ELEM_BTN88,E_ELEM_BTN89,E_ELEM_BTN9
+      ,E_ELEM_BTN90,E_ELEM_BTN91,E_ELEM_BTN92,E_ELEM_BTN93,E_ELEM_BTN94
+      ,E_ELEM_BTN95,E_ELEM_BTN96,E_ELEM_BTN97,E_ELEM_BTN98,E_ELEM_BTN99
+      ,E_ELEM_CHECK1,E_ELEM_CHECK10,E_ELEM_CHECK100,E_ELEM_CHECK11
+      ,E_ELEM_CHECK12,E_ELEM_CHECK13,E_ELEM_CHECK14,E_ELEM_CHECK15
+      ,E_ELEM_CHECK16,E_ELEM_CHECK17,E_ELEM_CHECK18,E_ELEM_CHECK19
+      ,E_ELEM_CHECK2,E_ELEM_CHECK20,E_ELEM_CHECK21,E_ELEM_CHECK22
+      ,E_ELEM_CHECK23,E_ELEM_CHECK24,E_ELEM_CHECK25,E_ELEM_CHECK26
+      ,E_ELEM_CHECK27,E_ELEM_CHECK28,E_ELEM_CHECK29,E_ELEM_CHECK3
+      ,E_ELEM_CHECK30,E_ELEM_CHECK31,E_ELEM_CHECK32,E_ELEM_CHECK33
+      ,E_ELEM_CHECK34,E_ELEM_CHECK35,E_ELEM_CHECK36,E_ELEM_CHECK37
+      ,E_ELEM_CHECK38,E_ELEM_CHECK39,E_ELEM_CHECK4,E_ELEM_CHECK40
+      ,E_ELEM_CHECK41,E_ELEM_CHECK42,E_ELEM_CHECK43,E_ELEM_CHECK44
+      ,E_ELEM_CHECK45,E_ELEM_CHECK46,E_ELEM_CHECK47,E_ELEM_CHECK48
+      ,E_ELEM_CHECK49,E_ELEM_CHECK5,E_ELEM_CHECK50,E_ELEM_CHECK51
+      ,E_ELEM_CHECK52,E_ELEM_CHECK53,E_ELEM_CHECK54,E_ELEM_CHECK55
+      ,E_ELEM_CHECK56,E_ELEM_CHECK57,E_ELEM_CHECK58,E_ELEM_CHECK59
+      ,E_ELEM_CHECK6,E_ELEM_CHECK60,E_ELEM_CHECK61,E_ELEM_CHECK62
+      ,E_ELEM_CHECK63,E_ELEM_CHECK64,E_ELEM_CHECK65,E_ELEM_CHECK66
+      ,E_ELEM_CHECK67,E_ELEM_CHECK68,E_ELEM_CHECK69,E_ELEM_CHECK7
+      ,E_ELEM_CHECK70,E_ELEM_CHECK71,E_ELEM_CHECK72,E_ELEM_CHECK73
+      ,E_ELEM_CHECK74,E_ELEM_CHECK75,E_ELEM_CHECK76,E_ELEM_CHECK77
+      ,E_ELEM_CHECK78,E_ELEM_CHECK79,E_ELEM_CHECK8,E_ELEM_CHECK80
+      ,E_ELEM_CHECK81,E_ELEM_CHECK82,E_ELEM_CHECK83,E_ELEM_CHECK84
+      ,E_ELEM_CHECK85,E_ELEM_CHECK86,E_ELEM_CHECK87,E_ELEM_CHECK88
+      ,E_ELEM_CHECK89,E_ELEM_CHECK9,E_ELEM_CHECK90,E_ELEM_CHECK91
+      ,E_ELEM_CHECK92,E_ELEM_CHECK93,E_ELEM_CHECK94,E_ELEM_CHECK95
+      ,E_ELEM_CHECK96,E_ELEM_CHECK97,E_ELEM_CHECK98,E_ELEM_CHECK99
+      ,E_ELEM_NUMINPUT1,E_ELEM_NUMINPUT10,E_ELEM_NUMINPUT100
+      ,E_ELEM_NUMINPUT11,E_ELEM_NUMINPUT12,E_ELEM_NUMINPUT13
+      ,E_ELEM_NUMINPUT14,E_ELEM_NUMINPUT15,E_ELEM_NUMINPUT16
+      ,E_ELEM_NUMINPUT17,E_ELEM_NUMINPUT18,E_ELEM_NUMINPUT19
+      ,E_ELEM_NUMINPUT2,E_ELEM_NUMINPUT20,E_ELEM_NUMINPUT21
+      ,E_ELEM_NUMINPUT22,E_ELEM_NUMINPUT23,E_ELEM_NUMINPUT24
+      ,E_ELEM_NUMINPUT25,E_ELEM_NUMINPUT26,E_ELEM_NUMINPUT27
+      ,E_ELEM_NUMINPUT28,E_ELEM_NUMINPUT29,E_ELEM_NUMINPUT3
+      ,E_ELEM_NUMINPUT30,E_ELEM_NUMINPUT31,E_ELEM_NUMINPUT32
+      ,E_ELEM_NUMINPUT33,E_ELEM_NUMINPUT34,E_ELEM_NUMINPUT35
+      ,E_ELEM_NUMINPUT36,E_ELEM_NUMINPUT37,E_ELEM_NUMINPUT38
+      ,E_ELEM_NUMINPUT39,E_ELEM_NUMINPUT4,E_ELEM_NUMINPUT40
+      ,E_ELEM_NUMINPUT41,E_ELEM_NUMINPUT42,E_ELEM_NUMINPUT43
+      ,E_ELEM_NUMINPUT44,E_ELEM_NUMINPUT45,E_ELEM_NUMINPUT46
+      ,E_ELEM_NUMINPUT47,E_ELEM_NUMINPUT48,E_ELEM_NUMINPUT49
+      ,E_ELEM_NUMINPUT5,E_ELEM_NUMINPUT50,E_ELEM_NUMINPUT51
+      ,E_ELEM_NUMINPUT52,E_ELEM_NUMINPUT53,E_ELEM_NUMINPUT54
+      ,E_ELEM_NUMINPUT55,E_ELEM_NUMINPUT56,E_ELEM_NUMINPUT57
+      ,E_ELEM_NUMINPUT58,E_ELEM_NUMINPUT59,E_ELEM_NUMINPUT6
+      ,E_ELEM_NUMINPUT60,E_ELEM_NUMINPUT61,E_ELEM_NUMINPUT62
+      ,E_ELEM_NUMINPUT63,E_ELEM_NUMINPUT64,E_ELEM_NUMINPUT65
+      ,E_ELEM_NUMINPUT66,E_ELEM_NUMINPUT67,E_ELEM_NUMINPUT68
+      ,E_ELEM_NUMINPUT69,E_ELEM_NUMINPUT7,E_ELEM_NUMINPUT70
+      ,E_ELEM_NUMINPUT71,E_ELEM_NUMINPUT72,E_ELEM_NUMINPUT73
+      ,E_ELEM_NUMINPUT74,E_ELEM_NUMINPUT75,E_ELEM_NUMINPUT76
+      ,E_ELEM_NUMINPUT77,E_ELEM_NUMINPUT78,E_ELEM_NUMINPUT79
+      ,E_ELEM_NUMINPUT8,E_ELEM_NUMINPUT80,E_ELEM_NUMINPUT81
+      ,E_ELEM_NUMINPUT82,E_ELEM_NUMINPUT83,E_ELEM_NUMINPUT84
+      ,E_ELEM_NUMINPUT85,E_ELEM_NUMINPUT86,E_ELEM_NUMINPUT87
+      ,E_ELEM_NUMINPUT88,E_ELEM_NUMINPUT89,E_ELEM_NUMINPUT9
+      ,E_ELEM_NUMINPUT90,E_ELEM_NUMINPUT91,E_ELEM_NUMINPUT92
+      ,E_ELEM_NUMINPUT93,E_ELEM_NUMINPUT94,E_ELEM_NUMINPUT95
+      ,E_ELEM_NUMINPUT96,E_ELEM_NUMINPUT97,E_ELEM_NUMINPUT98
+      ,E_ELEM_NUMINPUT99,E_ELEM_PROGRESS1,E_ELEM_PROGRESS10
+      ,E_ELEM_PROGRESS100,E_ELEM_PROGRESS11,E_ELEM_PROGRESS12
+      ,E_ELEM_PROGRESS13,E_ELEM_PROGRESS14,E_ELEM_PROGRESS15
+      ,E_ELEM_PROGRESS16,E_ELEM_PROGRESS17,E_ELEM_PROGRESS18
+      ,E_ELEM_PROGRESS19,E_ELEM_PROGRESS2,E_ELEM_PROGRESS20
+      ,E_ELEM_PROGRESS21,E_ELEM_PROGRESS22,E_ELEM_PROGRESS23
+      ,E_ELEM_PROGRESS24,E_ELEM_PROGRESS25,E_ELEM_PROGRESS26
+      ,E_ELEM_PROGRESS27,E_ELEM_PROGRESS28,E_ELEM_PROGRESS29
+      ,E_ELEM_PROGRESS3,E_ELEM_PROGRESS30,E_ELEM_PROGRESS31
+      ,E_ELEM_PROGRESS32,E_ELEM_PROGRESS33,E_ELEM_PROGRESS34
+      ,E_ELEM_PROGRESS35,E_ELEM_PROGRESS36,E_ELEM_PROGRESS37
+      ,E_ELEM_PROGRESS38,E_ELEM_PROGRESS39,E_ELEM_PROGRESS4
+      ,E_ELEM_PROGRESS40,E_ELEM_PROGRESS41,E_ELEM_PROGRESS42
+      ,E_ELEM_PROGRESS43,E_ELEM_PROGRESS44,E_ELEM_PROGRESS45
+      ,E_ELEM_PROGRESS46,E_ELEM_PROGRESS47,E_ELEM_PROGRESS48
+      ,E_ELEM_PROGRESS49,E_ELEM_PROGRESS5,E_ELEM_PROGRESS50
+      ,E_ELEM_PROGRESS51,E_ELEM_PROGRESS52,E_ELEM_PROGRESS53
+      ,E_ELEM_PROGRESS54,E_ELEM_PROGRESS55,E_ELEM_PROGRESS56
+      ,E_ELEM_PROGRESS57,E_ELEM_PROGRESS58,E_ELEM_PROGRESS59
+      ,E_ELEM_PROGRESS6,E_ELEM_PROGRESS60,E_ELEM_PROGRESS61
+      ,E_ELEM_PROGRESS62,E_ELEM_PROGRESS63,E_ELEM_PROGRESS64
+      ,E_ELEM_PROGRESS65,E_ELEM_PROGRESS66,E_ELEM_PROGRESS67
+      ,E_ELEM_PROGRESS68,E_ELEM_PROGRESS69,E_ELEM_PROGRESS7
+      ,E_ELEM_PROGRESS70,E_ELEM_PROGRESS71,E_ELEM_PROGRESS72
+      ,E_ELEM_PROGRESS73,E_ELEM_PROGRESS74,E_ELEM_PROGRESS75
+      ,E_ELEM_PROGRESS76,E_ELEM_PROGRESS77,E_ELEM_PROGRESS78
+      ,E_ELEM_PROGRESS79,E_ELEM_PROGRESS8,E_ELEM_PROGRESS80
+      ,E_ELEM_PROGRESS81,E_ELEM_PROGRESS82,E_ELEM_PROGRESS83
+      ,E_ELEM_PROGRESS84,E_ELEM_PROGRESS85,E_ELEM_PROGRESS86
+      ,E_ELEM_PROGRESS87,E_ELEM_PROGRESS88,E_ELEM_PROGRESS89
+      ,E_ELEM_PROGRESS9,E_ELEM_PROGRESS90,E_ELEM_PROGRESS91
+      ,E_ELEM_PROGRESS92,E_ELEM_PROGRESS93,E_ELEM_PROGRESS94
+      ,E_ELEM_PROGRESS95,E_ELEM_PROGRESS96,E_ELEM_PROGRESS97
+      ,E_ELEM_PROGRESS98,E_ELEM_PROGRESS99,E_ELEM_RADIO1,E_ELEM_RADIO10
+      ,E_ELEM_RADIO100,E_ELEM_RADIO11,E_ELEM_RADIO12,E_ELEM_RADIO13
+      ,E_ELEM_RADIO14,E_ELEM_RADIO15,E_ELEM_RADIO16,E_ELEM_RADIO17
+      ,E_ELEM_RADIO18,E_ELEM_RADIO19,E_ELEM_RADIO2,E_ELEM_RADIO20
+      ,E_ELEM_RADIO21,E_ELEM_RADIO22,E_ELEM_RADIO23,E_ELEM_RADIO24
+      ,E_ELEM_RADIO25,E_ELEM_RADIO26,E_ELEM_RADIO27,E_ELEM_RADIO28
+      ,E_ELEM_RADIO29,E_ELEM_RADIO3,E_ELEM_RADIO30,E_ELEM_RADIO31
+      ,E_ELEM_RADIO32,E_ELEM_RADIO33,E_ELEM_RADIO34,E_ELEM_RADIO35
+      ,E_ELEM_RADIO36,E_ELEM_RADIO37,E_ELEM_RADIO38,E_ELEM_RADIO39
+      ,E_ELEM_RADIO4,E_ELEM_RADIO40,E_ELEM_RADIO41,E_ELEM_RADIO42
+      ,E_ELEM_RADIO43,E_ELEM_RADIO44,E_ELEM_RADIO45,E_ELEM_RADIO46
+      ,E_ELEM_RADIO47,E_ELEM_RADIO48,E_ELEM_RADIO49,E_ELEM_RADIO5
+      ,E_ELEM_RADIO50,E_ELEM_RADIO51,E_ELEM_RADIO52,E_ELEM_RADIO53
+      ,E_ELEM_RADIO54,E_ELEM_RADIO55,E_ELEM_RADIO56,E_ELEM_RADIO57
+      ,E_ELEM_RADIO58,E_ELEM_RADIO59,E_ELEM_RADIO6,E_ELEM_RADIO60
+      ,E_ELEM_RADIO61,E_ELEM_RADIO62,E_ELEM_RADIO63,E_ELEM_RADIO64
+      ,E_ELEM_RADIO65,E_ELEM_RADIO66,E_ELEM_RADIO67,E_ELEM_RADIO68
+      ,E_ELEM_RADIO69,E_ELEM_RADIO7,E_ELEM_RADIO70,E_ELEM_RADIO71
+      ,E_ELEM_RADIO72,E_ELEM_RADIO73,E_ELEM_RADIO74,E_ELEM_RADIO75
+      ,E_ELEM_RADIO76,E_ELEM_RADIO77,E_ELEM_RADIO78,E_ELEM_RADIO79
+      ,E_ELEM_RADIO8,E_ELEM_RADIO80,E_ELEM_RADIO81,E_ELEM_RADIO82
+      ,E_ELEM_RADIO83,E_ELEM_RADIO84,E_ELEM_RADIO85,E_ELEM_RADIO86
+      ,E_ELEM_RADIO87,E_ELEM_RADIO88,E_ELEM_RADIO89,E_ELEM_RADIO9
+      ,E_ELEM_RADIO90,E_ELEM_RADIO91,E_ELEM_RADIO92,E_ELEM_RADIO93
+      ,E_ELEM_RADIO94,E_ELEM_RADIO95,E_ELEM_RADIO96,E_ELEM_RADIO97
+      ,E_ELEM_RADIO98,E_ELEM_RADIO99,E_ELEM_SLIDER1,E_ELEM_SLIDER10
+      ,E_ELEM_SLIDER100,E_ELEM_SLIDER11,E_ELEM_SLIDER12,E_ELEM_SLIDER13
+      ,E_ELEM_SLIDER14,E_ELEM_SLIDER15,E_ELEM_SLIDER16,E_ELEM_SLIDER17
+      ,E_ELEM_SLIDER18,E_ELEM_SLIDER19,E_ELEM_SLIDER2,E_ELEM_SLIDER20
+      ,E_ELEM_SLIDER21,E_ELEM_SLIDER22,E_ELEM_SLIDER23,E_ELEM_SLIDER24
+      ,E_ELEM_SLIDER25,E_ELEM_SLIDER26,E_ELEM_SLIDER27,E_ELEM_SLIDER28
+      ,E_ELEM_SLIDER29,E_ELEM_SLIDER3,E_ELEM_SLIDER30,E_ELEM_SLIDER31
+      ,E_ELEM_SLIDER32,E_ELEM_SLIDER33,E_ELEM_SLIDER34,E_ELEM_SLIDER35
+      ,E_ELEM_SLIDER36,E_ELEM_SLIDER37,E_ELEM_SLIDER38,E_ELEM_SLIDER39
+      ,E_ELEM_SLIDER4,E_ELEM_SLIDER40,E_ELEM_SLIDER41,E_ELEM_SLIDER42
+      ,E_ELEM_SLIDER43,E_ELEM_SLIDER44,E_ELEM_SLIDER45,E_ELEM_SLIDER46
+      ,E_ELEM_SLIDER47,E_ELEM_SLIDER48,E_ELEM_SLIDER49,E_ELEM_SLIDER5
+      ,E_ELEM_SLIDER50,E_ELEM_SLIDER51,E_ELEM_SLIDER52,E_ELEM_SLIDER53
+      ,E_ELEM_SLIDER54,E_ELEM_SLIDER55,E_ELEM_SLIDER56,E_ELEM_SLIDER57
+      ,E_ELEM_SLIDER58,E_ELEM_SLIDER59,E_ELEM_SLIDER6,E_ELEM_SLIDER60
+      ,E_ELEM_SLIDER61,E_ELEM_SLIDER62,E_ELEM_SLIDER63,E_ELEM_SLIDER64
+      ,E_ELEM_SLIDER65,E_ELEM_SLIDER66,E_ELEM_SLIDER67,E_ELEM_SLIDER68
+      ,E_ELEM_SLIDER69,E_ELEM_SLIDER7,E_ELEM_SLIDER70,E_ELEM_SLIDER71
+      ,E_ELEM_SLIDER72,E_ELEM_SLIDER73,E_ELEM_SLIDER74,E_ELEM_SLIDER75
+      ,E_ELEM_SLIDER76,E_ELEM_SLIDER77,E_ELEM_SLIDER78,E_ELEM_SLIDER79
+      ,E_ELEM_SLIDER8,E_ELEM_SLIDER80,E_ELEM_SLIDER81,E_ELEM_SLIDER82
+      ,E_ELEM_SLIDER83,E_ELEM_SLIDER84,E_ELEM_SLIDER85,E_ELEM_SLIDER86
+      ,E_ELEM_SLIDER87,E_ELEM_SLIDER88,E_ELEM_SLIDER89,E_ELEM_SLIDER9
+      ,E_ELEM_SLIDER90,E_ELEM_SLIDER91,E_ELEM_SLIDER92,E_ELEM_SLIDER93
+      ,E_ELEM_SLIDER94,E_ELEM_SLIDER95,E_ELEM_SLIDER96,E_ELEM_SLIDER97
+      ,E_ELEM_SLIDER98,E_ELEM_SLIDER99,E_ELEM_TEXT1,E_ELEM_TEXT10
+      ,E_ELEM_TEXT100,E_ELEM_TEXT11,E_ELEM_TEXT12,E_ELEM_TEXT13
+      ,E_ELEM_TEXT14,E_ELEM_TEXT15,E_ELEM_TEXT16,E_ELEM_TEXT17
+      ,E_ELEM_TEXT18,E_ELEM_TEXT19,E_ELEM_TEXT2,E_ELEM_TEXT20
+      ,E_ELEM_TEXT21,E_ELEM_TEXT22,E_ELEM_TEXT23,E_ELEM_TEXT24
+      ,E_ELEM_TEXT25,E_ELEM_TEXT26,E_ELEM_TEXT27,E_ELEM_TEXT28
+      ,E_ELEM_TEXT29,E_ELEM_TEXT3,E_ELEM_TEXT30,E_ELEM_TEXT31
+      ,E_ELEM_TEXT32,E_ELEM_TEXT33,E_ELEM_TEXT34,E_ELEM_TEXT35
+      ,E_ELEM_TEXT36,E_ELEM_TEXT37,E_ELEM_TEXT38,E_ELEM_TEXT39
+      ,E_ELEM_TEXT4,E_ELEM_TEXT40,E_ELEM_TEXT41,E_ELEM_TEXT42
+      ,E_ELEM_TEXT43,E_ELEM_TEXT44,E_ELEM_TEXT45,E_ELEM_TEXT46
+      ,E_ELEM_TEXT47,E_ELEM_TEXT48,E_ELEM_TEXT49,E_ELEM_TEXT5
+      ,E_ELEM_TEXT50,E_ELEM_TEXT51,E_ELEM_TEXT52,E_ELEM_TEXT53
+      ,E_ELEM_TEXT54,E_ELEM_TEXT55,E_ELEM_TEXT56,E_ELEM_TEXT57
+      ,E_ELEM_TEXT58,E_ELEM_TEXT59,E_ELEM_TEXT6,E_ELEM_TEXT60
+      ,E_ELEM_TEXT61,E_ELEM_TEXT62,E_ELEM_TEXT63,E_ELEM_TEXT64
+      ,E_ELEM_TEXT65,E_ELEM_TEXT66,E_ELEM_TEXT67,E_ELEM_TEXT68
+      ,E_ELEM_TEXT69,E_ELEM_TEXT7,E_ELEM_TEXT70,E_ELEM_TEXT71
+      ,E_ELEM_TEXT72,E_ELEM_TEXT73,E_ELEM_TEXT74,E_ELEM_TEXT75
+      ,E_ELEM_TEXT76,E_ELEM_TEXT77,E_ELEM_TEXT78,E_ELEM_TEXT79
+      ,E_ELEM_TEXT8,E_ELEM_TEXT80,E_ELEM_TEXT81,E_ELEM_TEXT82
+      ,E_ELEM_TEXT83,E_ELEM_TEXT84,E_ELEM_TEXT85,E_ELEM_TEXT86
+      ,E_ELEM_TEXT87,E_ELEM_TEXT88,E_ELEM_TEXT89,E_ELEM_TEXT9
+      ,E_ELEM_TEXT90,E_ELEM_TEXT91,E_ELEM_TEXT92,E_ELEM_TEXT93
+      ,E_ELEM_TEXT94,E_ELEM_TEXT95,E_ELEM_TEXT96,E_ELEM_TEXT97
+      ,E_ELEM_TEXT98,E_ELEM_TEXT99,E_ELEM_TOGGLE1,E_ELEM_TOGGLE10
+      ,E_ELEM_TOGGLE100,E_ELEM_TOGGLE11,E_ELEM_TOGGLE12,E_ELEM_TOGGLE13
+      ,E_ELEM_TOGGLE14,E_ELEM_TOGGLE15,E_ELEM_TOGGLE16,E_ELEM_TOGGLE17
+      ,E_ELEM_TOGGLE18,E_ELEM_TOGGLE19,E_ELEM_TOGGLE2,E_ELEM_TOGGLE20
+      ,E_ELEM_TOGGLE21,E_ELEM_TOGGLE22,E_ELEM_TOGGLE23,E_ELEM_TOGGLE24
+      ,E_ELEM_TOGGLE25,E_ELEM_TOGGLE26,E_ELEM_TOGGLE27,E_ELEM_TOGGLE28
+      ,E_ELEM_TOGGLE29,E_ELEM_TOGGLE3,E_ELEM_TOGGLE30,E_ELEM_TOGGLE31
+      ,E_ELEM_TOGGLE32,E_ELEM_TOGGLE33,E_ELEM_TOGGLE34,E_ELEM_TOGGLE35
+      ,E_ELEM_TOGGLE36,E_ELEM_TOGGLE37,E_ELEM_TOGGLE38,E_ELEM_TOGGLE39
+      ,E_ELEM_TOGGLE4,E_ELEM_TOGGLE40,E_ELEM_TOGGLE41,E_ELEM_TOGGLE42
+      ,E_ELEM_TOGGLE43,E_ELEM_TOGGLE44,E_ELEM_TOGGLE45,E_ELEM_TOGGLE46
+      ,E_ELEM_TOGGLE47,E_ELEM_TOGGLE48,E_ELEM_TOGGLE49,E_ELEM_TOGGLE5
+      ,E_ELEM_TOGGLE50,E_ELEM_TOGGLE51,E_ELEM_TOGGLE52,E_ELEM_TOGGLE53
+      ,E_ELEM_TOGGLE54,E_ELEM_TOGGLE55,E_ELEM_TOGGLE56,E_ELEM_TOGGLE57
+      ,E_ELEM_TOGGLE58,E_ELEM_TOGGLE59,E_ELEM_TOGGLE6,E_ELEM_TOGGLE60
+      ,E_ELEM_TOGGLE61,E_ELEM_TOGGLE62,E_ELEM_TOGGLE63,E_ELEM_TOGGLE64
+      ,E_ELEM_TOGGLE65,E_ELEM_TOGGLE66,E_ELEM_TOGGLE67,E_ELEM_TOGGLE68
+      ,E_ELEM_TOGGLE69,E_ELEM_TOGGLE7,E_ELEM_TOGGLE70,E_ELEM_TOGGLE71
+      ,E_ELEM_TOGGLE72,E_ELEM_TOGGLE73,E_ELEM_TOGGLE74,E_ELEM_TOGGLE75
+      ,E_ELEM_TOGGLE76,E_ELEM_TOGGLE77,E_ELEM_TOGGLE78,E_ELEM_TOGGLE79
+      ,E_ELEM_TOGGLE8,E_ELEM_TOGGLE80,E_ELEM_TOGGLE81,E_ELEM_TOGGLE82
+      ,E_ELEM_TOGGLE83,E_ELEM_TOGGLE84,E_ELEM_TOGGLE85,E_ELEM_TOGGLE86
+      ,E_ELEM_TOGGLE87,E_ELEM_TOGGLE88,E_ELEM_TOGGLE89,E_ELEM_TOGGLE9
+      ,E_ELEM_TOGGLE90,E_ELEM_TOGGLE91,E_ELEM_TOGGLE92,E_ELEM_TOGGLE93
+      ,E_ELEM_TOGGLE94,E_ELEM_TOGGLE95,E_ELEM_TOGGLE96,E_ELEM_TOGGLE97
+      ,E_ELEM_TOGGLE98,E_ELEM_TOGGLE99,E_ELEM_KEYPAD_NUM};
+// Must use separate enum for fonts with MAX_FONT at end to use gslc_FontSet.
+enum {E_BUILTIN5X8,MAX_FONT};
+//<Enum !End!>
+
+// ------------------------------------------------
+// Instantiate the GUI
+// ------------------------------------------------
+
+// ------------------------------------------------
+// Define the maximum number of elements and pages
+// ------------------------------------------------
+//<ElementDefines !Start!>
+#define MAX_PAGE                2
+
+#define MAX_ELEM_PG_MAIN 1000 // # Elems total on page
+#define MAX_ELEM_PG_MAIN_RAM MAX_ELEM_PG_MAIN // # Elems in RAM
+//<ElementDefines !End!>
+
+// ------------------------------------------------
+// Create element storage
+// ------------------------------------------------
+gslc_tsGui                      m_gui;
+gslc_tsDriver                   m_drv;
+gslc_tsFont                     m_asFont[MAX_FONT];
+gslc_tsPage                     m_asPage[MAX_PAGE];
+
+//<GUI_Extra_Elements !Start!>
+gslc_tsElem                     m_asPage1Elem[MAX_ELEM_PG_MAIN_RAM];
+gslc_tsElemRef                  m_asPage1ElemRef[MAX_ELEM_PG_MAIN];
+gslc_tsElem                     m_asKeypadNumElem[1];
+gslc_tsElemRef                  m_asKeypadNumElemRef[1];
+gslc_tsXKeyPad                  m_sKeyPadNum;
+gslc_tsXCheckbox                m_asXCheck1;
+gslc_tsXCheckbox                m_asXRadio1;
+gslc_tsXSlider                  m_sXSlider1;
+gslc_tsXProgress                m_sXBarGauge1;
+gslc_tsXTogglebtn               m_asXToggle1;
+gslc_tsXCheckbox                m_asXCheck2;
+gslc_tsXCheckbox                m_asXRadio2;
+gslc_tsXSlider                  m_sXSlider2;
+gslc_tsXProgress                m_sXBarGauge2;
+gslc_tsXTogglebtn               m_asXToggle2;
+gslc_tsXCheckbox                m_asXCheck3;
+gslc_tsXCheckbox                m_asXRadio3;
+gslc_tsXSlider                  m_sXSlider3;
+gslc_tsXProgress                m_sXBarGauge3;
+gslc_tsXTogglebtn               m_asXToggle3;
+gslc_tsXCheckbox                m_asXCheck4;
+gslc_tsXCheckbox                m_asXRadio4;
+gslc_tsXSlider                  m_sXSlider4;
+gslc_tsXProgress                m_sXBarGauge4;
+gslc_tsXTogglebtn               m_asXToggle4;
+gslc_tsXCheckbox                m_asXCheck5;
+gslc_tsXCheckbox                m_asXRadio5;
+gslc_tsXSlider                  m_sXSlider5;
+gslc_tsXProgress                m_sXBarGauge5;
+gslc_tsXTogglebtn               m_asXToggle5;
+gslc_tsXCheckbox                m_asXCheck6;
+gslc_tsXCheckbox                m_asXRadio6;
+gslc_tsXSlider                  m_sXSlider6;
+gslc_tsXProgress                m_sXBarGauge6;
+gslc_tsXTogglebtn               m_asXToggle6;
+gslc_tsXCheckbox                m_asXCheck7;
+gslc_tsXCheckbox                m_asXRadio7;
+gslc_tsXSlider                  m_sXSlider7;
+gslc_tsXProgress                m_sXBarGauge7;
+gslc_tsXTogglebtn               m_asXToggle7;
+gslc_tsXCheckbox                m_asXCheck8;
+gslc_tsXCheckbox                m_asXRadio8;
+gslc_tsXSlider                  m_sXSlider8;
+gslc_tsXProgress                m_sXBarGauge8;
+gslc_tsXTogglebtn               m_asXToggle8;
+gslc_tsXCheckbox                m_asXCheck9;
+gslc_tsXCheckbox                m_asXRadio9;
+gslc_tsXSlider                  m_sXSlider9;
+gslc_tsXProgress                m_sXBarGauge9;
+gslc_tsXTogglebtn               m_asXToggle9;
+gslc_tsXCheckbox                m_asXCheck10;
+gslc_tsXCheckbox                m_asXRadio10;
+gslc_tsXSlider                  m_sXSlider10;
+gslc_tsXProgress                m_sXBarGauge10;
+gslc_tsXTogglebtn               m_asXToggle10;
+gslc_tsXCheckbox                m_asXCheck11;
+gslc_tsXCheckbox                m_asXRadio11;
+gslc_tsXSlider                  m_sXSlider11;
+gslc_tsXProgress                m_sXBarGauge11;
+gslc_tsXTogglebtn               m_asXToggle11;
+gslc_tsXCheckbox                m_asXCheck12;
+gslc_tsXCheckbox                m_asXRadio12;
+gslc_tsXSlider                  m_sXSlider12;
+gslc_tsXProgress                m_sXBarGauge12;
+gslc_tsXTogglebtn               m_asXToggle12;
+gslc_tsXCheckbox                m_asXCheck13;
+gslc_tsXCheckbox                m_asXRadio13;
+gslc_tsXSlider                  m_sXSlider13;
+gslc_tsXProgress                m_sXBarGauge13;
+gslc_tsXTogglebtn               m_asXToggle13;
+gslc_tsXCheckbox                m_asXCheck14;
+gslc_tsXCheckbox                m_asXRadio14;
+gslc_tsXSlider                  m_sXSlider14;
+gslc_tsXProgress                m_sXBarGauge14;
+gslc_tsXTogglebtn               m_asXToggle14;
+gslc_tsXCheckbox                m_asXCheck15;
+gslc_tsXCheckbox                m_asXRadio15;
+gslc_tsXSlider                  m_sXSlider15;
+gslc_tsXProgress                m_sXBarGauge15;
+gslc_tsXTogglebtn               m_asXToggle15;
+gslc_tsXCheckbox                m_asXCheck16;
+gslc_tsXCheckbox                m_asXRadio16;
+gslc_tsXSlider                  m_sXSlider16;
+gslc_tsXProgress                m_sXBarGauge16;
+gslc_tsXTogglebtn               m_asXToggle16;
+gslc_tsXCheckbox                m_asXCheck17;
+gslc_tsXCheckbox                m_asXRadio17;
+gslc_tsXSlider                  m_sXSlider17;
+gslc_tsXProgress                m_sXBarGauge17;
+gslc_tsXTogglebtn               m_asXToggle17;
+gslc_tsXCheckbox                m_asXCheck18;
+gslc_tsXCheckbox                m_asXRadio18;
+gslc_tsXSlider                  m_sXSlider18;
+gslc_tsXProgress                m_sXBarGauge18;
+gslc_tsXTogglebtn               m_asXToggle18;
+gslc_tsXCheckbox                m_asXCheck19;
+gslc_tsXCheckbox                m_asXRadio19;
+gslc_tsXSlider                  m_sXSlider19;
+gslc_tsXProgress                m_sXBarGauge19;
+gslc_tsXTogglebtn               m_asXToggle19;
+gslc_tsXCheckbox                m_asXCheck20;
+gslc_tsXCheckbox                m_asXRadio20;
+gslc_tsXSlider                  m_sXSlider20;
+gslc_tsXProgress                m_sXBarGauge20;
+gslc_tsXTogglebtn               m_asXToggle20;
+gslc_tsXCheckbox                m_asXCheck21;
+gslc_tsXCheckbox                m_asXRadio21;
+gslc_tsXSlider                  m_sXSlider21;
+gslc_tsXProgress                m_sXBarGauge21;
+gslc_tsXTogglebtn               m_asXToggle21;
+gslc_tsXCheckbox                m_asXCheck22;
+gslc_tsXCheckbox                m_asXRadio22;
+gslc_tsXSlider                  m_sXSlider22;
+gslc_tsXProgress                m_sXBarGauge22;
+gslc_tsXTogglebtn               m_asXToggle22;
+gslc_tsXCheckbox                m_asXCheck23;
+gslc_tsXCheckbox                m_asXRadio23;
+gslc_tsXSlider                  m_sXSlider23;
+gslc_tsXProgress                m_sXBarGauge23;
+gslc_tsXTogglebtn               m_asXToggle23;
+gslc_tsXCheckbox                m_asXCheck24;
+gslc_tsXCheckbox                m_asXRadio24;
+gslc_tsXSlider                  m_sXSlider24;
+gslc_tsXProgress                m_sXBarGauge24;
+gslc_tsXTogglebtn               m_asXToggle24;
+gslc_tsXCheckbox                m_asXCheck25;
+gslc_tsXCheckbox                m_asXRadio25;
+gslc_tsXSlider                  m_sXSlider25;
+gslc_tsXProgress                m_sXBarGauge25;
+gslc_tsXTogglebtn               m_asXToggle25;
+gslc_tsXCheckbox                m_asXCheck26;
+gslc_tsXCheckbox                m_asXRadio26;
+gslc_tsXSlider                  m_sXSlider26;
+gslc_tsXProgress                m_sXBarGauge26;
+gslc_tsXTogglebtn               m_asXToggle26;
+gslc_tsXCheckbox                m_asXCheck27;
+gslc_tsXCheckbox                m_asXRadio27;
+gslc_tsXSlider                  m_sXSlider27;
+gslc_tsXProgress                m_sXBarGauge27;
+gslc_tsXTogglebtn               m_asXToggle27;
+gslc_tsXCheckbox                m_asXCheck28;
+gslc_tsXCheckbox                m_asXRadio28;
+gslc_tsXSlider                  m_sXSlider28;
+gslc_tsXProgress                m_sXBarGauge28;
+gslc_tsXTogglebtn               m_asXToggle28;
+gslc_tsXCheckbox                m_asXCheck29;
+gslc_tsXCheckbox                m_asXRadio29;
+gslc_tsXSlider                  m_sXSlider29;
+gslc_tsXProgress                m_sXBarGauge29;
+gslc_tsXTogglebtn               m_asXToggle29;
+gslc_tsXCheckbox                m_asXCheck30;
+gslc_tsXCheckbox                m_asXRadio30;
+gslc_tsXSlider                  m_sXSlider30;
+gslc_tsXProgress                m_sXBarGauge30;
+gslc_tsXTogglebtn               m_asXToggle30;
+gslc_tsXCheckbox                m_asXCheck31;
+gslc_tsXCheckbox                m_asXRadio31;
+gslc_tsXSlider                  m_sXSlider31;
+gslc_tsXProgress                m_sXBarGauge31;
+gslc_tsXTogglebtn               m_asXToggle31;
+gslc_tsXCheckbox                m_asXCheck32;
+gslc_tsXCheckbox                m_asXRadio32;
+gslc_tsXSlider                  m_sXSlider32;
+gslc_tsXProgress                m_sXBarGauge32;
+gslc_tsXTogglebtn               m_asXToggle32;
+gslc_tsXCheckbox                m_asXCheck33;
+gslc_tsXCheckbox                m_asXRadio33;
+gslc_tsXSlider                  m_sXSlider33;
+gslc_tsXProgress                m_sXBarGauge33;
+gslc_tsXTogglebtn               m_asXToggle33;
+gslc_tsXCheckbox                m_asXCheck34;
+gslc_tsXCheckbox                m_asXRadio34;
+gslc_tsXSlider                  m_sXSlider34;
+gslc_tsXProgress                m_sXBarGauge34;
+gslc_tsXTogglebtn               m_asXToggle34;
+gslc_tsXCheckbox                m_asXCheck35;
+gslc_tsXCheckbox                m_asXRadio35;
+gslc_tsXSlider                  m_sXSlider35;
+gslc_tsXProgress                m_sXBarGauge35;
+gslc_tsXTogglebtn               m_asXToggle35;
+gslc_tsXCheckbox                m_asXCheck36;
+gslc_tsXCheckbox                m_asXRadio36;
+gslc_tsXSlider                  m_sXSlider36;
+gslc_tsXProgress                m_sXBarGauge36;
+gslc_tsXTogglebtn               m_asXToggle36;
+gslc_tsXCheckbox                m_asXCheck37;
+gslc_tsXCheckbox                m_asXRadio37;
+gslc_tsXSlider                  m_sXSlider37;
+gslc_tsXProgress                m_sXBarGauge37;
+gslc_tsXTogglebtn               m_asXToggle37;
+gslc_tsXCheckbox                m_asXCheck38;
+gslc_tsXCheckbox                m_asXRadio38;
+gslc_tsXSlider                  m_sXSlider38;
+gslc_tsXProgress                m_sXBarGauge38;
+gslc_tsXTogglebtn               m_asXToggle38;
+gslc_tsXCheckbox                m_asXCheck39;
+gslc_tsXCheckbox                m_asXRadio39;
+gslc_tsXSlider                  m_sXSlider39;
+gslc_tsXProgress                m_sXBarGauge39;
+gslc_tsXTogglebtn               m_asXToggle39;
+gslc_tsXCheckbox                m_asXCheck40;
+gslc_tsXCheckbox                m_asXRadio40;
+gslc_tsXSlider                  m_sXSlider40;
+gslc_tsXProgress                m_sXBarGauge40;
+gslc_tsXTogglebtn               m_asXToggle40;
+gslc_tsXCheckbox                m_asXCheck41;
+gslc_tsXCheckbox                m_asXRadio41;
+gslc_tsXSlider                  m_sXSlider41;
+gslc_tsXProgress                m_sXBarGauge41;
+gslc_tsXTogglebtn               m_asXToggle41;
+gslc_tsXCheckbox                m_asXCheck42;
+gslc_tsXCheckbox                m_asXRadio42;
+gslc_tsXSlider                  m_sXSlider42;
+gslc_tsXProgress                m_sXBarGauge42;
+gslc_tsXTogglebtn               m_asXToggle42;
+gslc_tsXCheckbox                m_asXCheck43;
+gslc_tsXCheckbox                m_asXRadio43;
+gslc_tsXSlider                  m_sXSlider43;
+gslc_tsXProgress                m_sXBarGauge43;
+gslc_tsXTogglebtn               m_asXToggle43;
+gslc_tsXCheckbox                m_asXCheck44;
+gslc_tsXCheckbox                m_asXRadio44;
+gslc_tsXSlider                  m_sXSlider44;
+gslc_tsXProgress                m_sXBarGauge44;
+gslc_tsXTogglebtn               m_asXToggle44;
+gslc_tsXCheckbox                m_asXCheck45;
+gslc_tsXCheckbox                m_asXRadio45;
+gslc_tsXSlider                  m_sXSlider45;
+gslc_tsXProgress                m_sXBarGauge45;
+gslc_tsXTogglebtn               m_asXToggle45;
+gslc_tsXCheckbox                m_asXCheck46;
+gslc_tsXCheckbox                m_asXRadio46;
+gslc_tsXSlider                  m_sXSlider46;
+gslc_tsXProgress                m_sXBarGauge46;
+gslc_tsXTogglebtn               m_asXToggle46;
+gslc_tsXCheckbox                m_asXCheck47;
+gslc_tsXCheckbox                m_asXRadio47;
+gslc_tsXSlider                  m_sXSlider47;
+gslc_tsXProgress                m_sXBarGauge47;
+gslc_tsXTogglebtn               m_asXToggle47;
+gslc_tsXCheckbox                m_asXCheck48;
+gslc_tsXCheckbox                m_asXRadio48;
+gslc_tsXSlider                  m_sXSlider48;
+gslc_tsXProgress                m_sXBarGauge48;
+gslc_tsXTogglebtn               m_asXToggle48;
+gslc_tsXCheckbox                m_asXCheck49;
+gslc_tsXCheckbox                m_asXRadio49;
+gslc_tsXSlider                  m_sXSlider49;
+gslc_tsXProgress                m_sXBarGauge49;
+gslc_tsXTogglebtn               m_asXToggle49;
+gslc_tsXCheckbox                m_asXCheck50;
+gslc_tsXCheckbox                m_asXRadio50;
+gslc_tsXSlider                  m_sXSlider50;
+gslc_tsXProgress                m_sXBarGauge50;
+gslc_tsXTogglebtn               m_asXToggle50;
+gslc_tsXCheckbox                m_asXCheck51;
+gslc_tsXCheckbox                m_asXRadio51;
+gslc_tsXSlider                  m_sXSlider51;
+gslc_tsXProgress                m_sXBarGauge51;
+gslc_tsXTogglebtn               m_asXToggle51;
+gslc_tsXCheckbox                m_asXCheck52;
+gslc_tsXCheckbox                m_asXRadio52;
+gslc_tsXSlider                  m_sXSlider52;
+gslc_tsXProgress                m_sXBarGauge52;
+gslc_tsXTogglebtn               m_asXToggle52;
+gslc_tsXCheckbox                m_asXCheck53;
+gslc_tsXCheckbox                m_asXRadio53;
+gslc_tsXSlider                  m_sXSlider53;
+gslc_tsXProgress                m_sXBarGauge53;
+gslc_tsXTogglebtn               m_asXToggle53;
+gslc_tsXCheckbox                m_asXCheck54;
+gslc_tsXCheckbox                m_asXRadio54;
+gslc_tsXSlider                  m_sXSlider54;
+gslc_tsXProgress                m_sXBarGauge54;
+gslc_tsXTogglebtn               m_asXToggle54;
+gslc_tsXCheckbox                m_asXCheck55;
+gslc_tsXCheckbox                m_asXRadio55;
+gslc_tsXSlider                  m_sXSlider55;
+gslc_tsXProgress                m_sXBarGauge55;
+gslc_tsXTogglebtn               m_asXToggle55;
+gslc_tsXCheckbox                m_asXCheck56;
+gslc_tsXCheckbox                m_asXRadio56;
+gslc_tsXSlider                  m_sXSlider56;
+gslc_tsXProgress                m_sXBarGauge56;
+gslc_tsXTogglebtn               m_asXToggle56;
+gslc_tsXCheckbox                m_asXCheck57;
+gslc_tsXCheckbox                m_asXRadio57;
+gslc_tsXSlider                  m_sXSlider57;
+gslc_tsXProgress                m_sXBarGauge57;
+gslc_tsXTogglebtn               m_asXToggle57;
+gslc_tsXCheckbox                m_asXCheck58;
+gslc_tsXCheckbox                m_asXRadio58;
+gslc_tsXSlider                  m_sXSlider58;
+gslc_tsXProgress                m_sXBarGauge58;
+gslc_tsXTogglebtn               m_asXToggle58;
+gslc_tsXCheckbox                m_asXCheck59;
+gslc_tsXCheckbox                m_asXRadio59;
+gslc_tsXSlider                  m_sXSlider59;
+gslc_tsXProgress                m_sXBarGauge59;
+gslc_tsXTogglebtn               m_asXToggle59;
+gslc_tsXCheckbox                m_asXCheck60;
+gslc_tsXCheckbox                m_asXRadio60;
+gslc_tsXSlider                  m_sXSlider60;
+gslc_tsXProgress                m_sXBarGauge60;
+gslc_tsXTogglebtn               m_asXToggle60;
+gslc_tsXCheckbox                m_asXCheck61;
+gslc_tsXCheckbox                m_asXRadio61;
+gslc_tsXSlider                  m_sXSlider61;
+gslc_tsXProgress                m_sXBarGauge61;
+gslc_tsXTogglebtn               m_asXToggle61;
+gslc_tsXCheckbox                m_asXCheck62;
+gslc_tsXCheckbox                m_asXRadio62;
+gslc_tsXSlider                  m_sXSlider62;
+gslc_tsXProgress                m_sXBarGauge62;
+gslc_tsXTogglebtn               m_asXToggle62;
+gslc_tsXCheckbox                m_asXCheck63;
+gslc_tsXCheckbox                m_asXRadio63;
+gslc_tsXSlider                  m_sXSlider63;
+gslc_tsXProgress                m_sXBarGauge63;
+gslc_tsXTogglebtn               m_asXToggle63;
+gslc_tsXCheckbox                m_asXCheck64;
+gslc_tsXCheckbox                m_asXRadio64;
+gslc_tsXSlider                  m_sXSlider64;
+gslc_tsXProgress                m_sXBarGauge64;
+gslc_tsXTogglebtn               m_asXToggle64;
+gslc_tsXCheckbox                m_asXCheck65;
+gslc_tsXCheckbox                m_asXRadio65;
+gslc_tsXSlider                  m_sXSlider65;
+gslc_tsXProgress                m_sXBarGauge65;
+gslc_tsXTogglebtn               m_asXToggle65;
+gslc_tsXCheckbox                m_asXCheck66;
+gslc_tsXCheckbox                m_asXRadio66;
+gslc_tsXSlider                  m_sXSlider66;
+gslc_tsXProgress                m_sXBarGauge66;
+gslc_tsXTogglebtn               m_asXToggle66;
+gslc_tsXCheckbox                m_asXCheck67;
+gslc_tsXCheckbox                m_asXRadio67;
+gslc_tsXSlider                  m_sXSlider67;
+gslc_tsXProgress                m_sXBarGauge67;
+gslc_tsXTogglebtn               m_asXToggle67;
+gslc_tsXCheckbox                m_asXCheck68;
+gslc_tsXCheckbox                m_asXRadio68;
+gslc_tsXSlider                  m_sXSlider68;
+gslc_tsXProgress                m_sXBarGauge68;
+gslc_tsXTogglebtn               m_asXToggle68;
+gslc_tsXCheckbox                m_asXCheck69;
+gslc_tsXCheckbox                m_asXRadio69;
+gslc_tsXSlider                  m_sXSlider69;
+gslc_tsXProgress                m_sXBarGauge69;
+gslc_tsXTogglebtn               m_asXToggle69;
+gslc_tsXCheckbox                m_asXCheck70;
+gslc_tsXCheckbox                m_asXRadio70;
+gslc_tsXSlider                  m_sXSlider70;
+gslc_tsXProgress                m_sXBarGauge70;
+gslc_tsXTogglebtn               m_asXToggle70;
+gslc_tsXCheckbox                m_asXCheck71;
+gslc_tsXCheckbox                m_asXRadio71;
+gslc_tsXSlider                  m_sXSlider71;
+gslc_tsXProgress                m_sXBarGauge71;
+gslc_tsXTogglebtn               m_asXToggle71;
+gslc_tsXCheckbox                m_asXCheck72;
+gslc_tsXCheckbox                m_asXRadio72;
+gslc_tsXSlider                  m_sXSlider72;
+gslc_tsXProgress                m_sXBarGauge72;
+gslc_tsXTogglebtn               m_asXToggle72;
+gslc_tsXCheckbox                m_asXCheck73;
+gslc_tsXCheckbox                m_asXRadio73;
+gslc_tsXSlider                  m_sXSlider73;
+gslc_tsXProgress                m_sXBarGauge73;
+gslc_tsXTogglebtn               m_asXToggle73;
+gslc_tsXCheckbox                m_asXCheck74;
+gslc_tsXCheckbox                m_asXRadio74;
+gslc_tsXSlider                  m_sXSlider74;
+gslc_tsXProgress                m_sXBarGauge74;
+gslc_tsXTogglebtn               m_asXToggle74;
+gslc_tsXCheckbox                m_asXCheck75;
+gslc_tsXCheckbox                m_asXRadio75;
+gslc_tsXSlider                  m_sXSlider75;
+gslc_tsXProgress                m_sXBarGauge75;
+gslc_tsXTogglebtn               m_asXToggle75;
+gslc_tsXCheckbox                m_asXCheck76;
+gslc_tsXCheckbox                m_asXRadio76;
+gslc_tsXSlider                  m_sXSlider76;
+gslc_tsXProgress                m_sXBarGauge76;
+gslc_tsXTogglebtn               m_asXToggle76;
+gslc_tsXCheckbox                m_asXCheck77;
+gslc_tsXCheckbox                m_asXRadio77;
+gslc_tsXSlider                  m_sXSlider77;
+gslc_tsXProgress                m_sXBarGauge77;
+gslc_tsXTogglebtn               m_asXToggle77;
+gslc_tsXCheckbox                m_asXCheck78;
+gslc_tsXCheckbox                m_asXRadio78;
+gslc_tsXSlider                  m_sXSlider78;
+gslc_tsXProgress                m_sXBarGauge78;
+gslc_tsXTogglebtn               m_asXToggle78;
+gslc_tsXCheckbox                m_asXCheck79;
+gslc_tsXCheckbox                m_asXRadio79;
+gslc_tsXSlider                  m_sXSlider79;
+gslc_tsXProgress                m_sXBarGauge79;
+gslc_tsXTogglebtn               m_asXToggle79;
+gslc_tsXCheckbox                m_asXCheck80;
+gslc_tsXCheckbox                m_asXRadio80;
+gslc_tsXSlider                  m_sXSlider80;
+gslc_tsXProgress                m_sXBarGauge80;
+gslc_tsXTogglebtn               m_asXToggle80;
+gslc_tsXCheckbox                m_asXCheck81;
+gslc_tsXCheckbox                m_asXRadio81;
+gslc_tsXSlider                  m_sXSlider81;
+gslc_tsXProgress                m_sXBarGauge81;
+gslc_tsXTogglebtn               m_asXToggle81;
+gslc_tsXCheckbox                m_asXCheck82;
+gslc_tsXCheckbox                m_asXRadio82;
+gslc_tsXSlider                  m_sXSlider82;
+gslc_tsXProgress                m_sXBarGauge82;
+gslc_tsXTogglebtn               m_asXToggle82;
+gslc_tsXCheckbox                m_asXCheck83;
+gslc_tsXCheckbox                m_asXRadio83;
+gslc_tsXSlider                  m_sXSlider83;
+gslc_tsXProgress                m_sXBarGauge83;
+gslc_tsXTogglebtn               m_asXToggle83;
+gslc_tsXCheckbox                m_asXCheck84;
+gslc_tsXCheckbox                m_asXRadio84;
+gslc_tsXSlider                  m_sXSlider84;
+gslc_tsXProgress                m_sXBarGauge84;
+gslc_tsXTogglebtn               m_asXToggle84;
+gslc_tsXCheckbox                m_asXCheck85;
+gslc_tsXCheckbox                m_asXRadio85;
+gslc_tsXSlider                  m_sXSlider85;
+gslc_tsXProgress                m_sXBarGauge85;
+gslc_tsXTogglebtn               m_asXToggle85;
+gslc_tsXCheckbox                m_asXCheck86;
+gslc_tsXCheckbox                m_asXRadio86;
+gslc_tsXSlider                  m_sXSlider86;
+gslc_tsXProgress                m_sXBarGauge86;
+gslc_tsXTogglebtn               m_asXToggle86;
+gslc_tsXCheckbox                m_asXCheck87;
+gslc_tsXCheckbox                m_asXRadio87;
+gslc_tsXSlider                  m_sXSlider87;
+gslc_tsXProgress                m_sXBarGauge87;
+gslc_tsXTogglebtn               m_asXToggle87;
+gslc_tsXCheckbox                m_asXCheck88;
+gslc_tsXCheckbox                m_asXRadio88;
+gslc_tsXSlider                  m_sXSlider88;
+gslc_tsXProgress                m_sXBarGauge88;
+gslc_tsXTogglebtn               m_asXToggle88;
+gslc_tsXCheckbox                m_asXCheck89;
+gslc_tsXCheckbox                m_asXRadio89;
+gslc_tsXSlider                  m_sXSlider89;
+gslc_tsXProgress                m_sXBarGauge89;
+gslc_tsXTogglebtn               m_asXToggle89;
+gslc_tsXCheckbox                m_asXCheck90;
+gslc_tsXCheckbox                m_asXRadio90;
+gslc_tsXSlider                  m_sXSlider90;
+gslc_tsXProgress                m_sXBarGauge90;
+gslc_tsXTogglebtn               m_asXToggle90;
+gslc_tsXCheckbox                m_asXCheck91;
+gslc_tsXCheckbox                m_asXRadio91;
+gslc_tsXSlider                  m_sXSlider91;
+gslc_tsXProgress                m_sXBarGauge91;
+gslc_tsXTogglebtn               m_asXToggle91;
+gslc_tsXCheckbox                m_asXCheck92;
+gslc_tsXCheckbox                m_asXRadio92;
+gslc_tsXSlider                  m_sXSlider92;
+gslc_tsXProgress                m_sXBarGauge92;
+gslc_tsXTogglebtn               m_asXToggle92;
+gslc_tsXCheckbox                m_asXCheck93;
+gslc_tsXCheckbox                m_asXRadio93;
+gslc_tsXSlider                  m_sXSlider93;
+gslc_tsXProgress                m_sXBarGauge93;
+gslc_tsXTogglebtn               m_asXToggle93;
+gslc_tsXCheckbox                m_asXCheck94;
+gslc_tsXCheckbox                m_asXRadio94;
+gslc_tsXSlider                  m_sXSlider94;
+gslc_tsXProgress                m_sXBarGauge94;
+gslc_tsXTogglebtn               m_asXToggle94;
+gslc_tsXCheckbox                m_asXCheck95;
+gslc_tsXCheckbox                m_asXRadio95;
+gslc_tsXSlider                  m_sXSlider95;
+gslc_tsXProgress                m_sXBarGauge95;
+gslc_tsXTogglebtn               m_asXToggle95;
+gslc_tsXCheckbox                m_asXCheck96;
+gslc_tsXCheckbox                m_asXRadio96;
+gslc_tsXSlider                  m_sXSlider96;
+gslc_tsXProgress                m_sXBarGauge96;
+gslc_tsXTogglebtn               m_asXToggle96;
+gslc_tsXCheckbox                m_asXCheck97;
+gslc_tsXCheckbox                m_asXRadio97;
+gslc_tsXSlider                  m_sXSlider97;
+gslc_tsXProgress                m_sXBarGauge97;
+gslc_tsXTogglebtn               m_asXToggle97;
+gslc_tsXCheckbox                m_asXCheck98;
+gslc_tsXCheckbox                m_asXRadio98;
+gslc_tsXSlider                  m_sXSlider98;
+gslc_tsXProgress                m_sXBarGauge98;
+gslc_tsXTogglebtn               m_asXToggle98;
+gslc_tsXCheckbox                m_asXCheck99;
+gslc_tsXCheckbox                m_asXRadio99;
+gslc_tsXSlider                  m_sXSlider99;
+gslc_tsXProgress                m_sXBarGauge99;
+gslc_tsXTogglebtn               m_asXToggle99;
+gslc_tsXCheckbox                m_asXCheck100;
+gslc_tsXCheckbox                m_asXRadio100;
+gslc_tsXSlider                  m_sXSlider100;
+gslc_tsXProgress                m_sXBarGauge100;
+gslc_tsXTogglebtn               m_asXToggle100;
+
+#define MAX_STR                 100
+
+//<GUI_Extra_Elements !End!>
+
+// ------------------------------------------------
+// Program Globals
+// ------------------------------------------------
+
+// Element References for direct access
+//<Extern_References !Start!>
+extern gslc_tsElemRef* m_pElemProgress1;
+extern gslc_tsElemRef* m_pElemProgress10;
+extern gslc_tsElemRef* m_pElemProgress100;
+extern gslc_tsElemRef* m_pElemProgress11;
+extern gslc_tsElemRef* m_pElemProgress12;
+extern gslc_tsElemRef* m_pElemProgress13;
+extern gslc_tsElemRef* m_pElemProgress14;
+extern gslc_tsElemRef* m_pElemProgress15;
+extern gslc_tsElemRef* m_pElemProgress16;
+extern gslc_tsElemRef* m_pElemProgress17;
+extern gslc_tsElemRef* m_pElemProgress18;
+extern gslc_tsElemRef* m_pElemProgress19;
+extern gslc_tsElemRef* m_pElemProgress2;
+extern gslc_tsElemRef* m_pElemProgress20;
+extern gslc_tsElemRef* m_pElemProgress21;
+extern gslc_tsElemRef* m_pElemProgress22;
+extern gslc_tsElemRef* m_pElemProgress23;
+extern gslc_tsElemRef* m_pElemProgress24;
+extern gslc_tsElemRef* m_pElemProgress25;
+extern gslc_tsElemRef* m_pElemProgress26;
+extern gslc_tsElemRef* m_pElemProgress27;
+extern gslc_tsElemRef* m_pElemProgress28;
+extern gslc_tsElemRef* m_pElemProgress29;
+extern gslc_tsElemRef* m_pElemProgress3;
+extern gslc_tsElemRef* m_pElemProgress30;
+extern gslc_tsElemRef* m_pElemProgress31;
+extern gslc_tsElemRef* m_pElemProgress32;
+extern gslc_tsElemRef* m_pElemProgress33;
+extern gslc_tsElemRef* m_pElemProgress34;
+extern gslc_tsElemRef* m_pElemProgress35;
+extern gslc_tsElemRef* m_pElemProgress36;
+extern gslc_tsElemRef* m_pElemProgress37;
+extern gslc_tsElemRef* m_pElemProgress38;
+extern gslc_tsElemRef* m_pElemProgress39;
+extern gslc_tsElemRef* m_pElemProgress4;
+extern gslc_tsElemRef* m_pElemProgress40;
+extern gslc_tsElemRef* m_pElemProgress41;
+extern gslc_tsElemRef* m_pElemProgress42;
+extern gslc_tsElemRef* m_pElemProgress43;
+extern gslc_tsElemRef* m_pElemProgress44;
+extern gslc_tsElemRef* m_pElemProgress45;
+extern gslc_tsElemRef* m_pElemProgress46;
+extern gslc_tsElemRef* m_pElemProgress47;
+extern gslc_tsElemRef* m_pElemProgress48;
+extern gslc_tsElemRef* m_pElemProgress49;
+extern gslc_tsElemRef* m_pElemProgress5;
+extern gslc_tsElemRef* m_pElemProgress50;
+extern gslc_tsElemRef* m_pElemProgress51;
+extern gslc_tsElemRef* m_pElemProgress52;
+extern gslc_tsElemRef* m_pElemProgress53;
+extern gslc_tsElemRef* m_pElemProgress54;
+extern gslc_tsElemRef* m_pElemProgress55;
+extern gslc_tsElemRef* m_pElemProgress56;
+extern gslc_tsElemRef* m_pElemProgress57;
+extern gslc_tsElemRef* m_pElemProgress58;
+extern gslc_tsElemRef* m_pElemProgress59;
+extern gslc_tsElemRef* m_pElemProgress6;
+extern gslc_tsElemRef* m_pElemProgress60;
+extern gslc_tsElemRef* m_pElemProgress61;
+extern gslc_tsElemRef* m_pElemProgress62;
+extern gslc_tsElemRef* m_pElemProgress63;
+extern gslc_tsElemRef* m_pElemProgress64;
+extern gslc_tsElemRef* m_pElemProgress65;
+extern gslc_tsElemRef* m_pElemProgress66;
+extern gslc_tsElemRef* m_pElemProgress67;
+extern gslc_tsElemRef* m_pElemProgress68;
+extern gslc_tsElemRef* m_pElemProgress69;
+extern gslc_tsElemRef* m_pElemProgress7;
+extern gslc_tsElemRef* m_pElemProgress70;
+extern gslc_tsElemRef* m_pElemProgress71;
+extern gslc_tsElemRef* m_pElemProgress72;
+extern gslc_tsElemRef* m_pElemProgress73;
+extern gslc_tsElemRef* m_pElemProgress74;
+extern gslc_tsElemRef* m_pElemProgress75;
+extern gslc_tsElemRef* m_pElemProgress76;
+extern gslc_tsElemRef* m_pElemProgress77;
+extern gslc_tsElemRef* m_pElemProgress78;
+extern gslc_tsElemRef* m_pElemProgress79;
+extern gslc_tsElemRef* m_pElemProgress8;
+extern gslc_tsElemRef* m_pElemProgress80;
+extern gslc_tsElemRef* m_pElemProgress81;
+extern gslc_tsElemRef* m_pElemProgress82;
+extern gslc_tsElemRef* m_pElemProgress83;
+extern gslc_tsElemRef* m_pElemProgress84;
+extern gslc_tsElemRef* m_pElemProgress85;
+extern gslc_tsElemRef* m_pElemProgress86;
+extern gslc_tsElemRef* m_pElemProgress87;
+extern gslc_tsElemRef* m_pElemProgress88;
+extern gslc_tsElemRef* m_pElemProgress89;
+extern gslc_tsElemRef* m_pElemProgress9;
+extern gslc_tsElemRef* m_pElemProgress90;
+extern gslc_tsElemRef* m_pElemProgress91;
+extern gslc_tsElemRef* m_pElemProgress92;
+extern gslc_tsElemRef* m_pElemProgress93;
+extern gslc_tsElemRef* m_pElemProgress94;
+extern gslc_tsElemRef* m_pElemProgress95;
+extern gslc_tsElemRef* m_pElemProgress96;
+extern gslc_tsElemRef* m_pElemProgress97;
+extern gslc_tsElemRef* m_pElemProgress98;
+extern gslc_tsElemRef* m_pElemProgress99;
+extern gslc_tsElemRef* m_pElemSlider1;
+extern gslc_tsElemRef* m_pElemSlider10;
+extern gslc_tsElemRef* m_pElemSlider100;
+extern gslc_tsElemRef* m_pElemSlider11;
+extern gslc_tsElemRef* m_pElemSlider12;
+extern gslc_tsElemRef* m_pElemSlider13;
+extern gslc_tsElemRef* m_pElemSlider14;
+extern gslc_tsElemRef* m_pElemSlider15;
+extern gslc_tsElemRef* m_pElemSlider16;
+extern gslc_tsElemRef* m_pElemSlider17;
+extern gslc_tsElemRef* m_pElemSlider18;
+extern gslc_tsElemRef* m_pElemSlider19;
+extern gslc_tsElemRef* m_pElemSlider2;
+extern gslc_tsElemRef* m_pElemSlider20;
+extern gslc_tsElemRef* m_pElemSlider21;
+extern gslc_tsElemRef* m_pElemSlider22;
+extern gslc_tsElemRef* m_pElemSlider23;
+extern gslc_tsElemRef* m_pElemSlider24;
+extern gslc_tsElemRef* m_pElemSlider25;
+extern gslc_tsElemRef* m_pElemSlider26;
+extern gslc_tsElemRef* m_pElemSlider27;
+extern gslc_tsElemRef* m_pElemSlider28;
+extern gslc_tsElemRef* m_pElemSlider29;
+extern gslc_tsElemRef* m_pElemSlider3;
+extern gslc_tsElemRef* m_pElemSlider30;
+extern gslc_tsElemRef* m_pElemSlider31;
+extern gslc_tsElemRef* m_pElemSlider32;
+extern gslc_tsElemRef* m_pElemSlider33;
+extern gslc_tsElemRef* m_pElemSlider34;
+extern gslc_tsElemRef* m_pElemSlider35;
+extern gslc_tsElemRef* m_pElemSlider36;
+extern gslc_tsElemRef* m_pElemSlider37;
+extern gslc_tsElemRef* m_pElemSlider38;
+extern gslc_tsElemRef* m_pElemSlider39;
+extern gslc_tsElemRef* m_pElemSlider4;
+extern gslc_tsElemRef* m_pElemSlider40;
+extern gslc_tsElemRef* m_pElemSlider41;
+extern gslc_tsElemRef* m_pElemSlider42;
+extern gslc_tsElemRef* m_pElemSlider43;
+extern gslc_tsElemRef* m_pElemSlider44;
+extern gslc_tsElemRef* m_pElemSlider45;
+extern gslc_tsElemRef* m_pElemSlider46;
+extern gslc_tsElemRef* m_pElemSlider47;
+extern gslc_tsElemRef* m_pElemSlider48;
+extern gslc_tsElemRef* m_pElemSlider49;
+extern gslc_tsElemRef* m_pElemSlider5;
+extern gslc_tsElemRef* m_pElemSlider50;
+extern gslc_tsElemRef* m_pElemSlider51;
+extern gslc_tsElemRef* m_pElemSlider52;
+extern gslc_tsElemRef* m_pElemSlider53;
+extern gslc_tsElemRef* m_pElemSlider54;
+extern gslc_tsElemRef* m_pElemSlider55;
+extern gslc_tsElemRef* m_pElemSlider56;
+extern gslc_tsElemRef* m_pElemSlider57;
+extern gslc_tsElemRef* m_pElemSlider58;
+extern gslc_tsElemRef* m_pElemSlider59;
+extern gslc_tsElemRef* m_pElemSlider6;
+extern gslc_tsElemRef* m_pElemSlider60;
+extern gslc_tsElemRef* m_pElemSlider61;
+extern gslc_tsElemRef* m_pElemSlider62;
+extern gslc_tsElemRef* m_pElemSlider63;
+extern gslc_tsElemRef* m_pElemSlider64;
+extern gslc_tsElemRef* m_pElemSlider65;
+extern gslc_tsElemRef* m_pElemSlider66;
+extern gslc_tsElemRef* m_pElemSlider67;
+extern gslc_tsElemRef* m_pElemSlider68;
+extern gslc_tsElemRef* m_pElemSlider69;
+extern gslc_tsElemRef* m_pElemSlider7;
+extern gslc_tsElemRef* m_pElemSlider70;
+extern gslc_tsElemRef* m_pElemSlider71;
+extern gslc_tsElemRef* m_pElemSlider72;
+extern gslc_tsElemRef* m_pElemSlider73;
+extern gslc_tsElemRef* m_pElemSlider74;
+extern gslc_tsElemRef* m_pElemSlider75;
+extern gslc_tsElemRef* m_pElemSlider76;
+extern gslc_tsElemRef* m_pElemSlider77;
+extern gslc_tsElemRef* m_pElemSlider78;
+extern gslc_tsElemRef* m_pElemSlider79;
+extern gslc_tsElemRef* m_pElemSlider8;
+extern gslc_tsElemRef* m_pElemSlider80;
+extern gslc_tsElemRef* m_pElemSlider81;
+extern gslc_tsElemRef* m_pElemSlider82;
+extern gslc_tsElemRef* m_pElemSlider83;
+extern gslc_tsElemRef* m_pElemSlider84;
+extern gslc_tsElemRef* m_pElemSlider85;
+extern gslc_tsElemRef* m_pElemSlider86;
+extern gslc_tsElemRef* m_pElemSlider87;
+extern gslc_tsElemRef* m_pElemSlider88;
+extern gslc_tsElemRef* m_pElemSlider89;
+extern gslc_tsElemRef* m_pElemSlider9;
+extern gslc_tsElemRef* m_pElemSlider90;
+extern gslc_tsElemRef* m_pElemSlider91;
+extern gslc_tsElemRef* m_pElemSlider92;
+extern gslc_tsElemRef* m_pElemSlider93;
+extern gslc_tsElemRef* m_pElemSlider94;
+extern gslc_tsElemRef* m_pElemSlider95;
+extern gslc_tsElemRef* m_pElemSlider96;
+extern gslc_tsElemRef* m_pElemSlider97;
+extern gslc_tsElemRef* m_pElemSlider98;
+extern gslc_tsElemRef* m_pElemSlider99;
+extern gslc_tsElemRef* m_pElemToggle1;
+extern gslc_tsElemRef* m_pElemToggle10;
+extern gslc_tsElemRef* m_pElemToggle100;
+extern gslc_tsElemRef* m_pElemToggle11;
+extern gslc_tsElemRef* m_pElemToggle12;
+extern gslc_tsElemRef* m_pElemToggle13;
+extern gslc_tsElemRef* m_pElemToggle14;
+extern gslc_tsElemRef* m_pElemToggle15;
+extern gslc_tsElemRef* m_pElemToggle16;
+extern gslc_tsElemRef* m_pElemToggle17;
+extern gslc_tsElemRef* m_pElemToggle18;
+extern gslc_tsElemRef* m_pElemToggle19;
+extern gslc_tsElemRef* m_pElemToggle2;
+extern gslc_tsElemRef* m_pElemToggle20;
+extern gslc_tsElemRef* m_pElemToggle21;
+extern gslc_tsElemRef* m_pElemToggle22;
+extern gslc_tsElemRef* m_pElemToggle23;
+extern gslc_tsElemRef* m_pElemToggle24;
+extern gslc_tsElemRef* m_pElemToggle25;
+extern gslc_tsElemRef* m_pElemToggle26;
+extern gslc_tsElemRef* m_pElemToggle27;
+extern gslc_tsElemRef* m_pElemToggle28;
+extern gslc_tsElemRef* m_pElemToggle29;
+extern gslc_tsElemRef* m_pElemToggle3;
+extern gslc_tsElemRef* m_pElemToggle30;
+extern gslc_tsElemRef* m_pElemToggle31;
+extern gslc_tsElemRef* m_pElemToggle32;
+extern gslc_tsElemRef* m_pElemToggle33;
+extern gslc_tsElemRef* m_pElemToggle34;
+extern gslc_tsElemRef* m_pElemToggle35;
+extern gslc_tsElemRef* m_pElemToggle36;
+extern gslc_tsElemRef* m_pElemToggle37;
+extern gslc_tsElemRef* m_pElemToggle38;
+extern gslc_tsElemRef* m_pElemToggle39;
+extern gslc_tsElemRef* m_pElemToggle4;
+extern gslc_tsElemRef* m_pElemToggle40;
+extern gslc_tsElemRef* m_pElemToggle41;
+extern gslc_tsElemRef* m_pElemToggle42;
+extern gslc_tsElemRef* m_pElemToggle43;
+extern gslc_tsElemRef* m_pElemToggle44;
+extern gslc_tsElemRef* m_pElemToggle45;
+extern gslc_tsElemRef* m_pElemToggle46;
+extern gslc_tsElemRef* m_pElemToggle47;
+extern gslc_tsElemRef* m_pElemToggle48;
+extern gslc_tsElemRef* m_pElemToggle49;
+extern gslc_tsElemRef* m_pElemToggle5;
+extern gslc_tsElemRef* m_pElemToggle50;
+extern gslc_tsElemRef* m_pElemToggle51;
+extern gslc_tsElemRef* m_pElemToggle52;
+extern gslc_tsElemRef* m_pElemToggle53;
+extern gslc_tsElemRef* m_pElemToggle54;
+extern gslc_tsElemRef* m_pElemToggle55;
+extern gslc_tsElemRef* m_pElemToggle56;
+extern gslc_tsElemRef* m_pElemToggle57;
+extern gslc_tsElemRef* m_pElemToggle58;
+extern gslc_tsElemRef* m_pElemToggle59;
+extern gslc_tsElemRef* m_pElemToggle6;
+extern gslc_tsElemRef* m_pElemToggle60;
+extern gslc_tsElemRef* m_pElemToggle61;
+extern gslc_tsElemRef* m_pElemToggle62;
+extern gslc_tsElemRef* m_pElemToggle63;
+extern gslc_tsElemRef* m_pElemToggle64;
+extern gslc_tsElemRef* m_pElemToggle65;
+extern gslc_tsElemRef* m_pElemToggle66;
+extern gslc_tsElemRef* m_pElemToggle67;
+extern gslc_tsElemRef* m_pElemToggle68;
+extern gslc_tsElemRef* m_pElemToggle69;
+extern gslc_tsElemRef* m_pElemToggle7;
+extern gslc_tsElemRef* m_pElemToggle70;
+extern gslc_tsElemRef* m_pElemToggle71;
+extern gslc_tsElemRef* m_pElemToggle72;
+extern gslc_tsElemRef* m_pElemToggle73;
+extern gslc_tsElemRef* m_pElemToggle74;
+extern gslc_tsElemRef* m_pElemToggle75;
+extern gslc_tsElemRef* m_pElemToggle76;
+extern gslc_tsElemRef* m_pElemToggle77;
+extern gslc_tsElemRef* m_pElemToggle78;
+extern gslc_tsElemRef* m_pElemToggle79;
+extern gslc_tsElemRef* m_pElemToggle8;
+extern gslc_tsElemRef* m_pElemToggle80;
+extern gslc_tsElemRef* m_pElemToggle81;
+extern gslc_tsElemRef* m_pElemToggle82;
+extern gslc_tsElemRef* m_pElemToggle83;
+extern gslc_tsElemRef* m_pElemToggle84;
+extern gslc_tsElemRef* m_pElemToggle85;
+extern gslc_tsElemRef* m_pElemToggle86;
+extern gslc_tsElemRef* m_pElemToggle87;
+extern gslc_tsElemRef* m_pElemToggle88;
+extern gslc_tsElemRef* m_pElemToggle89;
+extern gslc_tsElemRef* m_pElemToggle9;
+extern gslc_tsElemRef* m_pElemToggle90;
+extern gslc_tsElemRef* m_pElemToggle91;
+extern gslc_tsElemRef* m_pElemToggle92;
+extern gslc_tsElemRef* m_pElemToggle93;
+extern gslc_tsElemRef* m_pElemToggle94;
+extern gslc_tsElemRef* m_pElemToggle95;
+extern gslc_tsElemRef* m_pElemToggle96;
+extern gslc_tsElemRef* m_pElemToggle97;
+extern gslc_tsElemRef* m_pElemToggle98;
+extern gslc_tsElemRef* m_pElemToggle99;
+extern gslc_tsElemRef* m_pElemVal1;
+extern gslc_tsElemRef* m_pElemVal10;
+extern gslc_tsElemRef* m_pElemVal100;
+extern gslc_tsElemRef* m_pElemVal11;
+extern gslc_tsElemRef* m_pElemVal12;
+extern gslc_tsElemRef* m_pElemVal13;
+extern gslc_tsElemRef* m_pElemVal14;
+extern gslc_tsElemRef* m_pElemVal15;
+extern gslc_tsElemRef* m_pElemVal16;
+extern gslc_tsElemRef* m_pElemVal17;
+extern gslc_tsElemRef* m_pElemVal18;
+extern gslc_tsElemRef* m_pElemVal19;
+extern gslc_tsElemRef* m_pElemVal2;
+extern gslc_tsElemRef* m_pElemVal20;
+extern gslc_tsElemRef* m_pElemVal21;
+extern gslc_tsElemRef* m_pElemVal22;
+extern gslc_tsElemRef* m_pElemVal23;
+extern gslc_tsElemRef* m_pElemVal24;
+extern gslc_tsElemRef* m_pElemVal25;
+extern gslc_tsElemRef* m_pElemVal26;
+extern gslc_tsElemRef* m_pElemVal27;
+extern gslc_tsElemRef* m_pElemVal28;
+extern gslc_tsElemRef* m_pElemVal29;
+extern gslc_tsElemRef* m_pElemVal3;
+extern gslc_tsElemRef* m_pElemVal30;
+extern gslc_tsElemRef* m_pElemVal31;
+extern gslc_tsElemRef* m_pElemVal32;
+extern gslc_tsElemRef* m_pElemVal33;
+extern gslc_tsElemRef* m_pElemVal34;
+extern gslc_tsElemRef* m_pElemVal35;
+extern gslc_tsElemRef* m_pElemVal36;
+extern gslc_tsElemRef* m_pElemVal37;
+extern gslc_tsElemRef* m_pElemVal38;
+extern gslc_tsElemRef* m_pElemVal39;
+extern gslc_tsElemRef* m_pElemVal4;
+extern gslc_tsElemRef* m_pElemVal40;
+extern gslc_tsElemRef* m_pElemVal41;
+extern gslc_tsElemRef* m_pElemVal42;
+extern gslc_tsElemRef* m_pElemVal43;
+extern gslc_tsElemRef* m_pElemVal44;
+extern gslc_tsElemRef* m_pElemVal45;
+extern gslc_tsElemRef* m_pElemVal46;
+extern gslc_tsElemRef* m_pElemVal47;
+extern gslc_tsElemRef* m_pElemVal48;
+extern gslc_tsElemRef* m_pElemVal49;
+extern gslc_tsElemRef* m_pElemVal5;
+extern gslc_tsElemRef* m_pElemVal50;
+extern gslc_tsElemRef* m_pElemVal51;
+extern gslc_tsElemRef* m_pElemVal52;
+extern gslc_tsElemRef* m_pElemVal53;
+extern gslc_tsElemRef* m_pElemVal54;
+extern gslc_tsElemRef* m_pElemVal55;
+extern gslc_tsElemRef* m_pElemVal56;
+extern gslc_tsElemRef* m_pElemVal57;
+extern gslc_tsElemRef* m_pElemVal58;
+extern gslc_tsElemRef* m_pElemVal59;
+extern gslc_tsElemRef* m_pElemVal6;
+extern gslc_tsElemRef* m_pElemVal60;
+extern gslc_tsElemRef* m_pElemVal61;
+extern gslc_tsElemRef* m_pElemVal62;
+extern gslc_tsElemRef* m_pElemVal63;
+extern gslc_tsElemRef* m_pElemVal64;
+extern gslc_tsElemRef* m_pElemVal65;
+extern gslc_tsElemRef* m_pElemVal66;
+extern gslc_tsElemRef* m_pElemVal67;
+extern gslc_tsElemRef* m_pElemVal68;
+extern gslc_tsElemRef* m_pElemVal69;
+extern gslc_tsElemRef* m_pElemVal7;
+extern gslc_tsElemRef* m_pElemVal70;
+extern gslc_tsElemRef* m_pElemVal71;
+extern gslc_tsElemRef* m_pElemVal72;
+extern gslc_tsElemRef* m_pElemVal73;
+extern gslc_tsElemRef* m_pElemVal74;
+extern gslc_tsElemRef* m_pElemVal75;
+extern gslc_tsElemRef* m_pElemVal76;
+extern gslc_tsElemRef* m_pElemVal77;
+extern gslc_tsElemRef* m_pElemVal78;
+extern gslc_tsElemRef* m_pElemVal79;
+extern gslc_tsElemRef* m_pElemVal8;
+extern gslc_tsElemRef* m_pElemVal80;
+extern gslc_tsElemRef* m_pElemVal81;
+extern gslc_tsElemRef* m_pElemVal82;
+extern gslc_tsElemRef* m_pElemVal83;
+extern gslc_tsElemRef* m_pElemVal84;
+extern gslc_tsElemRef* m_pElemVal85;
+extern gslc_tsElemRef* m_pElemVal86;
+extern gslc_tsElemRef* m_pElemVal87;
+extern gslc_tsElemRef* m_pElemVal88;
+extern gslc_tsElemRef* m_pElemVal89;
+extern gslc_tsElemRef* m_pElemVal9;
+extern gslc_tsElemRef* m_pElemVal90;
+extern gslc_tsElemRef* m_pElemVal91;
+extern gslc_tsElemRef* m_pElemVal92;
+extern gslc_tsElemRef* m_pElemVal93;
+extern gslc_tsElemRef* m_pElemVal94;
+extern gslc_tsElemRef* m_pElemVal95;
+extern gslc_tsElemRef* m_pElemVal96;
+extern gslc_tsElemRef* m_pElemVal97;
+extern gslc_tsElemRef* m_pElemVal98;
+extern gslc_tsElemRef* m_pElemVal99;
+extern gslc_tsElemRef* m_pElemKeyPadNum;
+//<Extern_References !End!>
+
+// Define debug message function
+static int16_t DebugOut(char ch);
+
+// ------------------------------------------------
+// Callback Methods
+// ------------------------------------------------
+bool CbBtnCommon(void* pvGui,void *pvElemRef,gslc_teTouch eTouch,int16_t nX,int16_t nY);
+bool CbCheckbox(void* pvGui, void* pvElemRef, int16_t nSelId, bool bState);
+bool CbDrawScanner(void* pvGui,void* pvElemRef,gslc_teRedrawType eRedraw);
+bool CbKeypad(void* pvGui, void *pvElemRef, int16_t nState, void* pvData);
+bool CbListbox(void* pvGui, void* pvElemRef, int16_t nSelId);
+bool CbSlidePos(void* pvGui,void* pvElemRef,int16_t nPos);
+bool CbSpinner(void* pvGui, void *pvElemRef, int16_t nState, void* pvData);
+bool CbTickScanner(void* pvGui,void* pvScope);
+
+// ------------------------------------------------
+// Create page elements
+// ------------------------------------------------
+void InitGUIslice_gen()
+{
+  gslc_tsElemRef* pElemRef = NULL;
+
+  if (!gslc_Init(&m_gui,&m_drv,m_asPage,MAX_PAGE,m_asFont,MAX_FONT)) { return; }
+
+  // ------------------------------------------------
+  // Load Fonts
+  // ------------------------------------------------
+//<Load_Fonts !Start!>
+    if (!gslc_FontSet(&m_gui,E_BUILTIN5X8,GSLC_FONTREF_PTR,NULL,1)) { return; }
+//<Load_Fonts !End!>
+
+//<InitGUI !Start!>
+  gslc_PageAdd(&m_gui,E_PG_MAIN,m_asPage1Elem,MAX_ELEM_PG_MAIN_RAM,m_asPage1ElemRef,MAX_ELEM_PG_MAIN);
+  gslc_PageAdd(&m_gui,E_POP_KEYPAD_NUM,m_asKeypadNumElem,1,m_asKeypadNumElemRef,1);  // KeyPad
+
+  // NOTE: The current page defaults to the first page added. Here we explicitly
+  //       ensure that the main page is the correct page no matter the add order.
+  gslc_SetPageCur(&m_gui,E_PG_MAIN);
+  
+  // Set Background to a flat color
+  gslc_SetBkgndColor(&m_gui,GSLC_COL_BLACK);
+
+  // -----------------------------------
+  // PAGE: E_PG_MAIN
+  
+  
+  // create E_ELEM_BTN1 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN1,E_PG_MAIN,
+    (gslc_tsRect){10,10,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT1 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT1,E_PG_MAIN,(gslc_tsRect){40,10,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX1 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX1,E_PG_MAIN,(gslc_tsRect){10,10,300,150});
+   
+  // create checkbox E_ELEM_CHECK1
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK1,E_PG_MAIN,&m_asXCheck1,
+    (gslc_tsRect){110,10,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO1
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO1,E_PG_MAIN,&m_asXRadio1,
+    (gslc_tsRect){150,10,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER1 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER1,E_PG_MAIN,&m_sXSlider1,
+          (gslc_tsRect){180,10,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider1 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS1 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS1,E_PG_MAIN,&m_sXBarGauge1,
+    (gslc_tsRect){220,10,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress1 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT1 numeric input field
+  static char m_sInputNumber1[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT1,E_PG_MAIN,(gslc_tsRect){250,10,40,10},
+    (char*)m_sInputNumber1,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal1 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE1
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE1,E_PG_MAIN,&m_asXToggle1,
+    (gslc_tsRect){10,30,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle1 = pElemRef;
+
+  // Create E_DRAW_LINE1 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE1,E_PG_MAIN,40,30,90,30);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN2 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN2,E_PG_MAIN,
+    (gslc_tsRect){80,30,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT2 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT2,E_PG_MAIN,(gslc_tsRect){110,30,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX2 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX2,E_PG_MAIN,(gslc_tsRect){10,30,300,150});
+   
+  // create checkbox E_ELEM_CHECK2
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK2,E_PG_MAIN,&m_asXCheck2,
+    (gslc_tsRect){180,30,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO2
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO2,E_PG_MAIN,&m_asXRadio2,
+    (gslc_tsRect){220,30,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER2 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER2,E_PG_MAIN,&m_sXSlider2,
+          (gslc_tsRect){230,30,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider2 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS2 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS2,E_PG_MAIN,&m_sXBarGauge2,
+    (gslc_tsRect){10,50,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress2 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT2 numeric input field
+  static char m_sInputNumber2[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT2,E_PG_MAIN,(gslc_tsRect){40,50,40,10},
+    (char*)m_sInputNumber2,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal2 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE2
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE2,E_PG_MAIN,&m_asXToggle2,
+    (gslc_tsRect){80,50,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle2 = pElemRef;
+
+  // Create E_DRAW_LINE2 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE2,E_PG_MAIN,110,50,160,50);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN3 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN3,E_PG_MAIN,
+    (gslc_tsRect){150,50,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT3 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT3,E_PG_MAIN,(gslc_tsRect){180,50,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX3 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX3,E_PG_MAIN,(gslc_tsRect){10,50,300,150});
+   
+  // create checkbox E_ELEM_CHECK3
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK3,E_PG_MAIN,&m_asXCheck3,
+    (gslc_tsRect){250,50,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO3
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO3,E_PG_MAIN,&m_asXRadio3,
+    (gslc_tsRect){10,70,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER3 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER3,E_PG_MAIN,&m_sXSlider3,
+          (gslc_tsRect){40,70,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider3 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS3 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS3,E_PG_MAIN,&m_sXBarGauge3,
+    (gslc_tsRect){80,70,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress3 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT3 numeric input field
+  static char m_sInputNumber3[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT3,E_PG_MAIN,(gslc_tsRect){110,70,40,10},
+    (char*)m_sInputNumber3,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal3 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE3
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE3,E_PG_MAIN,&m_asXToggle3,
+    (gslc_tsRect){150,70,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle3 = pElemRef;
+
+  // Create E_DRAW_LINE3 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE3,E_PG_MAIN,180,70,230,70);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN4 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN4,E_PG_MAIN,
+    (gslc_tsRect){220,70,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT4 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT4,E_PG_MAIN,(gslc_tsRect){250,70,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX4 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX4,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK4
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK4,E_PG_MAIN,&m_asXCheck4,
+    (gslc_tsRect){40,90,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO4
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO4,E_PG_MAIN,&m_asXRadio4,
+    (gslc_tsRect){80,90,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER4 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER4,E_PG_MAIN,&m_sXSlider4,
+          (gslc_tsRect){110,90,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider4 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS4 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS4,E_PG_MAIN,&m_sXBarGauge4,
+    (gslc_tsRect){150,90,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress4 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT4 numeric input field
+  static char m_sInputNumber4[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT4,E_PG_MAIN,(gslc_tsRect){180,90,40,10},
+    (char*)m_sInputNumber4,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal4 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE4
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE4,E_PG_MAIN,&m_asXToggle4,
+    (gslc_tsRect){220,90,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle4 = pElemRef;
+
+  // Create E_DRAW_LINE4 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE4,E_PG_MAIN,250,90,300,90);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN5 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN5,E_PG_MAIN,
+    (gslc_tsRect){10,110,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT5 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT5,E_PG_MAIN,(gslc_tsRect){40,110,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX5 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX5,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK5
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK5,E_PG_MAIN,&m_asXCheck5,
+    (gslc_tsRect){110,110,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO5
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO5,E_PG_MAIN,&m_asXRadio5,
+    (gslc_tsRect){150,110,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER5 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER5,E_PG_MAIN,&m_sXSlider5,
+          (gslc_tsRect){180,110,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider5 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS5 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS5,E_PG_MAIN,&m_sXBarGauge5,
+    (gslc_tsRect){220,110,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress5 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT5 numeric input field
+  static char m_sInputNumber5[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT5,E_PG_MAIN,(gslc_tsRect){250,110,40,10},
+    (char*)m_sInputNumber5,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal5 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE5
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE5,E_PG_MAIN,&m_asXToggle5,
+    (gslc_tsRect){10,130,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle5 = pElemRef;
+
+  // Create E_DRAW_LINE5 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE5,E_PG_MAIN,40,130,90,130);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN6 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN6,E_PG_MAIN,
+    (gslc_tsRect){80,130,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT6 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT6,E_PG_MAIN,(gslc_tsRect){110,130,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX6 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX6,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK6
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK6,E_PG_MAIN,&m_asXCheck6,
+    (gslc_tsRect){180,130,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO6
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO6,E_PG_MAIN,&m_asXRadio6,
+    (gslc_tsRect){220,130,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER6 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER6,E_PG_MAIN,&m_sXSlider6,
+          (gslc_tsRect){230,130,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider6 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS6 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS6,E_PG_MAIN,&m_sXBarGauge6,
+    (gslc_tsRect){10,150,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress6 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT6 numeric input field
+  static char m_sInputNumber6[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT6,E_PG_MAIN,(gslc_tsRect){40,150,40,10},
+    (char*)m_sInputNumber6,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal6 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE6
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE6,E_PG_MAIN,&m_asXToggle6,
+    (gslc_tsRect){80,150,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle6 = pElemRef;
+
+  // Create E_DRAW_LINE6 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE6,E_PG_MAIN,110,150,160,150);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN7 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN7,E_PG_MAIN,
+    (gslc_tsRect){150,150,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT7 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT7,E_PG_MAIN,(gslc_tsRect){180,150,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX7 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX7,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK7
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK7,E_PG_MAIN,&m_asXCheck7,
+    (gslc_tsRect){250,150,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO7
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO7,E_PG_MAIN,&m_asXRadio7,
+    (gslc_tsRect){10,170,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER7 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER7,E_PG_MAIN,&m_sXSlider7,
+          (gslc_tsRect){40,170,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider7 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS7 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS7,E_PG_MAIN,&m_sXBarGauge7,
+    (gslc_tsRect){80,170,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress7 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT7 numeric input field
+  static char m_sInputNumber7[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT7,E_PG_MAIN,(gslc_tsRect){110,170,40,10},
+    (char*)m_sInputNumber7,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal7 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE7
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE7,E_PG_MAIN,&m_asXToggle7,
+    (gslc_tsRect){150,170,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle7 = pElemRef;
+
+  // Create E_DRAW_LINE7 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE7,E_PG_MAIN,180,170,230,170);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN8 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN8,E_PG_MAIN,
+    (gslc_tsRect){220,170,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT8 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT8,E_PG_MAIN,(gslc_tsRect){250,170,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX8 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX8,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK8
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK8,E_PG_MAIN,&m_asXCheck8,
+    (gslc_tsRect){40,190,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO8
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO8,E_PG_MAIN,&m_asXRadio8,
+    (gslc_tsRect){80,190,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER8 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER8,E_PG_MAIN,&m_sXSlider8,
+          (gslc_tsRect){110,190,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider8 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS8 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS8,E_PG_MAIN,&m_sXBarGauge8,
+    (gslc_tsRect){150,190,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress8 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT8 numeric input field
+  static char m_sInputNumber8[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT8,E_PG_MAIN,(gslc_tsRect){180,190,40,10},
+    (char*)m_sInputNumber8,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal8 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE8
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE8,E_PG_MAIN,&m_asXToggle8,
+    (gslc_tsRect){220,190,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle8 = pElemRef;
+
+  // Create E_DRAW_LINE8 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE8,E_PG_MAIN,250,190,300,190);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN9 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN9,E_PG_MAIN,
+    (gslc_tsRect){10,10,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT9 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT9,E_PG_MAIN,(gslc_tsRect){40,10,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX9 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX9,E_PG_MAIN,(gslc_tsRect){10,10,300,150});
+   
+  // create checkbox E_ELEM_CHECK9
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK9,E_PG_MAIN,&m_asXCheck9,
+    (gslc_tsRect){110,10,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO9
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO9,E_PG_MAIN,&m_asXRadio9,
+    (gslc_tsRect){150,10,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER9 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER9,E_PG_MAIN,&m_sXSlider9,
+          (gslc_tsRect){180,10,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider9 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS9 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS9,E_PG_MAIN,&m_sXBarGauge9,
+    (gslc_tsRect){220,10,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress9 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT9 numeric input field
+  static char m_sInputNumber9[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT9,E_PG_MAIN,(gslc_tsRect){250,10,40,10},
+    (char*)m_sInputNumber9,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal9 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE9
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE9,E_PG_MAIN,&m_asXToggle9,
+    (gslc_tsRect){10,30,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle9 = pElemRef;
+
+  // Create E_DRAW_LINE9 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE9,E_PG_MAIN,40,30,90,30);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN10 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN10,E_PG_MAIN,
+    (gslc_tsRect){80,30,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT10 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT10,E_PG_MAIN,(gslc_tsRect){110,30,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX10 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX10,E_PG_MAIN,(gslc_tsRect){10,30,300,150});
+   
+  // create checkbox E_ELEM_CHECK10
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK10,E_PG_MAIN,&m_asXCheck10,
+    (gslc_tsRect){180,30,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO10
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO10,E_PG_MAIN,&m_asXRadio10,
+    (gslc_tsRect){220,30,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER10 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER10,E_PG_MAIN,&m_sXSlider10,
+          (gslc_tsRect){230,30,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider10 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS10 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS10,E_PG_MAIN,&m_sXBarGauge10,
+    (gslc_tsRect){10,50,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress10 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT10 numeric input field
+  static char m_sInputNumber10[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT10,E_PG_MAIN,(gslc_tsRect){40,50,40,10},
+    (char*)m_sInputNumber10,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal10 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE10
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE10,E_PG_MAIN,&m_asXToggle10,
+    (gslc_tsRect){80,50,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle10 = pElemRef;
+
+  // Create E_DRAW_LINE10 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE10,E_PG_MAIN,110,50,160,50);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN11 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN11,E_PG_MAIN,
+    (gslc_tsRect){150,50,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT11 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT11,E_PG_MAIN,(gslc_tsRect){180,50,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX11 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX11,E_PG_MAIN,(gslc_tsRect){10,50,300,150});
+   
+  // create checkbox E_ELEM_CHECK11
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK11,E_PG_MAIN,&m_asXCheck11,
+    (gslc_tsRect){250,50,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO11
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO11,E_PG_MAIN,&m_asXRadio11,
+    (gslc_tsRect){10,70,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER11 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER11,E_PG_MAIN,&m_sXSlider11,
+          (gslc_tsRect){40,70,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider11 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS11 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS11,E_PG_MAIN,&m_sXBarGauge11,
+    (gslc_tsRect){80,70,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress11 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT11 numeric input field
+  static char m_sInputNumber11[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT11,E_PG_MAIN,(gslc_tsRect){110,70,40,10},
+    (char*)m_sInputNumber11,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal11 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE11
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE11,E_PG_MAIN,&m_asXToggle11,
+    (gslc_tsRect){150,70,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle11 = pElemRef;
+
+  // Create E_DRAW_LINE11 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE11,E_PG_MAIN,180,70,230,70);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN12 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN12,E_PG_MAIN,
+    (gslc_tsRect){220,70,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT12 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT12,E_PG_MAIN,(gslc_tsRect){250,70,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX12 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX12,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK12
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK12,E_PG_MAIN,&m_asXCheck12,
+    (gslc_tsRect){40,90,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO12
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO12,E_PG_MAIN,&m_asXRadio12,
+    (gslc_tsRect){80,90,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER12 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER12,E_PG_MAIN,&m_sXSlider12,
+          (gslc_tsRect){110,90,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider12 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS12 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS12,E_PG_MAIN,&m_sXBarGauge12,
+    (gslc_tsRect){150,90,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress12 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT12 numeric input field
+  static char m_sInputNumber12[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT12,E_PG_MAIN,(gslc_tsRect){180,90,40,10},
+    (char*)m_sInputNumber12,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal12 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE12
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE12,E_PG_MAIN,&m_asXToggle12,
+    (gslc_tsRect){220,90,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle12 = pElemRef;
+
+  // Create E_DRAW_LINE12 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE12,E_PG_MAIN,250,90,300,90);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN13 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN13,E_PG_MAIN,
+    (gslc_tsRect){10,110,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT13 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT13,E_PG_MAIN,(gslc_tsRect){40,110,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX13 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX13,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK13
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK13,E_PG_MAIN,&m_asXCheck13,
+    (gslc_tsRect){110,110,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO13
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO13,E_PG_MAIN,&m_asXRadio13,
+    (gslc_tsRect){150,110,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER13 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER13,E_PG_MAIN,&m_sXSlider13,
+          (gslc_tsRect){180,110,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider13 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS13 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS13,E_PG_MAIN,&m_sXBarGauge13,
+    (gslc_tsRect){220,110,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress13 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT13 numeric input field
+  static char m_sInputNumber13[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT13,E_PG_MAIN,(gslc_tsRect){250,110,40,10},
+    (char*)m_sInputNumber13,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal13 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE13
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE13,E_PG_MAIN,&m_asXToggle13,
+    (gslc_tsRect){10,130,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle13 = pElemRef;
+
+  // Create E_DRAW_LINE13 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE13,E_PG_MAIN,40,130,90,130);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN14 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN14,E_PG_MAIN,
+    (gslc_tsRect){80,130,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT14 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT14,E_PG_MAIN,(gslc_tsRect){110,130,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX14 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX14,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK14
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK14,E_PG_MAIN,&m_asXCheck14,
+    (gslc_tsRect){180,130,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO14
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO14,E_PG_MAIN,&m_asXRadio14,
+    (gslc_tsRect){220,130,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER14 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER14,E_PG_MAIN,&m_sXSlider14,
+          (gslc_tsRect){230,130,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider14 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS14 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS14,E_PG_MAIN,&m_sXBarGauge14,
+    (gslc_tsRect){10,150,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress14 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT14 numeric input field
+  static char m_sInputNumber14[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT14,E_PG_MAIN,(gslc_tsRect){40,150,40,10},
+    (char*)m_sInputNumber14,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal14 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE14
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE14,E_PG_MAIN,&m_asXToggle14,
+    (gslc_tsRect){80,150,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle14 = pElemRef;
+
+  // Create E_DRAW_LINE14 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE14,E_PG_MAIN,110,150,160,150);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN15 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN15,E_PG_MAIN,
+    (gslc_tsRect){150,150,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT15 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT15,E_PG_MAIN,(gslc_tsRect){180,150,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX15 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX15,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK15
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK15,E_PG_MAIN,&m_asXCheck15,
+    (gslc_tsRect){250,150,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO15
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO15,E_PG_MAIN,&m_asXRadio15,
+    (gslc_tsRect){10,170,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER15 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER15,E_PG_MAIN,&m_sXSlider15,
+          (gslc_tsRect){40,170,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider15 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS15 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS15,E_PG_MAIN,&m_sXBarGauge15,
+    (gslc_tsRect){80,170,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress15 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT15 numeric input field
+  static char m_sInputNumber15[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT15,E_PG_MAIN,(gslc_tsRect){110,170,40,10},
+    (char*)m_sInputNumber15,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal15 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE15
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE15,E_PG_MAIN,&m_asXToggle15,
+    (gslc_tsRect){150,170,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle15 = pElemRef;
+
+  // Create E_DRAW_LINE15 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE15,E_PG_MAIN,180,170,230,170);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN16 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN16,E_PG_MAIN,
+    (gslc_tsRect){220,170,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT16 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT16,E_PG_MAIN,(gslc_tsRect){250,170,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX16 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX16,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK16
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK16,E_PG_MAIN,&m_asXCheck16,
+    (gslc_tsRect){40,190,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO16
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO16,E_PG_MAIN,&m_asXRadio16,
+    (gslc_tsRect){80,190,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER16 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER16,E_PG_MAIN,&m_sXSlider16,
+          (gslc_tsRect){110,190,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider16 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS16 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS16,E_PG_MAIN,&m_sXBarGauge16,
+    (gslc_tsRect){150,190,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress16 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT16 numeric input field
+  static char m_sInputNumber16[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT16,E_PG_MAIN,(gslc_tsRect){180,190,40,10},
+    (char*)m_sInputNumber16,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal16 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE16
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE16,E_PG_MAIN,&m_asXToggle16,
+    (gslc_tsRect){220,190,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle16 = pElemRef;
+
+  // Create E_DRAW_LINE16 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE16,E_PG_MAIN,250,190,300,190);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN17 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN17,E_PG_MAIN,
+    (gslc_tsRect){10,10,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT17 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT17,E_PG_MAIN,(gslc_tsRect){40,10,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX17 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX17,E_PG_MAIN,(gslc_tsRect){10,10,300,150});
+   
+  // create checkbox E_ELEM_CHECK17
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK17,E_PG_MAIN,&m_asXCheck17,
+    (gslc_tsRect){110,10,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO17
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO17,E_PG_MAIN,&m_asXRadio17,
+    (gslc_tsRect){150,10,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER17 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER17,E_PG_MAIN,&m_sXSlider17,
+          (gslc_tsRect){180,10,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider17 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS17 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS17,E_PG_MAIN,&m_sXBarGauge17,
+    (gslc_tsRect){220,10,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress17 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT17 numeric input field
+  static char m_sInputNumber17[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT17,E_PG_MAIN,(gslc_tsRect){250,10,40,10},
+    (char*)m_sInputNumber17,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal17 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE17
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE17,E_PG_MAIN,&m_asXToggle17,
+    (gslc_tsRect){10,30,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle17 = pElemRef;
+
+  // Create E_DRAW_LINE17 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE17,E_PG_MAIN,40,30,90,30);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN18 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN18,E_PG_MAIN,
+    (gslc_tsRect){80,30,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT18 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT18,E_PG_MAIN,(gslc_tsRect){110,30,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX18 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX18,E_PG_MAIN,(gslc_tsRect){10,30,300,150});
+   
+  // create checkbox E_ELEM_CHECK18
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK18,E_PG_MAIN,&m_asXCheck18,
+    (gslc_tsRect){180,30,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO18
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO18,E_PG_MAIN,&m_asXRadio18,
+    (gslc_tsRect){220,30,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER18 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER18,E_PG_MAIN,&m_sXSlider18,
+          (gslc_tsRect){230,30,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider18 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS18 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS18,E_PG_MAIN,&m_sXBarGauge18,
+    (gslc_tsRect){10,50,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress18 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT18 numeric input field
+  static char m_sInputNumber18[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT18,E_PG_MAIN,(gslc_tsRect){40,50,40,10},
+    (char*)m_sInputNumber18,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal18 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE18
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE18,E_PG_MAIN,&m_asXToggle18,
+    (gslc_tsRect){80,50,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle18 = pElemRef;
+
+  // Create E_DRAW_LINE18 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE18,E_PG_MAIN,110,50,160,50);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN19 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN19,E_PG_MAIN,
+    (gslc_tsRect){150,50,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT19 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT19,E_PG_MAIN,(gslc_tsRect){180,50,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX19 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX19,E_PG_MAIN,(gslc_tsRect){10,50,300,150});
+   
+  // create checkbox E_ELEM_CHECK19
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK19,E_PG_MAIN,&m_asXCheck19,
+    (gslc_tsRect){250,50,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO19
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO19,E_PG_MAIN,&m_asXRadio19,
+    (gslc_tsRect){10,70,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER19 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER19,E_PG_MAIN,&m_sXSlider19,
+          (gslc_tsRect){40,70,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider19 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS19 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS19,E_PG_MAIN,&m_sXBarGauge19,
+    (gslc_tsRect){80,70,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress19 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT19 numeric input field
+  static char m_sInputNumber19[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT19,E_PG_MAIN,(gslc_tsRect){110,70,40,10},
+    (char*)m_sInputNumber19,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal19 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE19
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE19,E_PG_MAIN,&m_asXToggle19,
+    (gslc_tsRect){150,70,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle19 = pElemRef;
+
+  // Create E_DRAW_LINE19 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE19,E_PG_MAIN,180,70,230,70);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN20 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN20,E_PG_MAIN,
+    (gslc_tsRect){220,70,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT20 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT20,E_PG_MAIN,(gslc_tsRect){250,70,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX20 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX20,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK20
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK20,E_PG_MAIN,&m_asXCheck20,
+    (gslc_tsRect){40,90,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO20
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO20,E_PG_MAIN,&m_asXRadio20,
+    (gslc_tsRect){80,90,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER20 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER20,E_PG_MAIN,&m_sXSlider20,
+          (gslc_tsRect){110,90,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider20 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS20 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS20,E_PG_MAIN,&m_sXBarGauge20,
+    (gslc_tsRect){150,90,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress20 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT20 numeric input field
+  static char m_sInputNumber20[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT20,E_PG_MAIN,(gslc_tsRect){180,90,40,10},
+    (char*)m_sInputNumber20,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal20 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE20
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE20,E_PG_MAIN,&m_asXToggle20,
+    (gslc_tsRect){220,90,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle20 = pElemRef;
+
+  // Create E_DRAW_LINE20 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE20,E_PG_MAIN,250,90,300,90);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN21 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN21,E_PG_MAIN,
+    (gslc_tsRect){10,110,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT21 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT21,E_PG_MAIN,(gslc_tsRect){40,110,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX21 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX21,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK21
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK21,E_PG_MAIN,&m_asXCheck21,
+    (gslc_tsRect){110,110,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO21
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO21,E_PG_MAIN,&m_asXRadio21,
+    (gslc_tsRect){150,110,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER21 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER21,E_PG_MAIN,&m_sXSlider21,
+          (gslc_tsRect){180,110,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider21 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS21 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS21,E_PG_MAIN,&m_sXBarGauge21,
+    (gslc_tsRect){220,110,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress21 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT21 numeric input field
+  static char m_sInputNumber21[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT21,E_PG_MAIN,(gslc_tsRect){250,110,40,10},
+    (char*)m_sInputNumber21,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal21 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE21
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE21,E_PG_MAIN,&m_asXToggle21,
+    (gslc_tsRect){10,130,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle21 = pElemRef;
+
+  // Create E_DRAW_LINE21 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE21,E_PG_MAIN,40,130,90,130);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN22 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN22,E_PG_MAIN,
+    (gslc_tsRect){80,130,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT22 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT22,E_PG_MAIN,(gslc_tsRect){110,130,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX22 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX22,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK22
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK22,E_PG_MAIN,&m_asXCheck22,
+    (gslc_tsRect){180,130,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO22
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO22,E_PG_MAIN,&m_asXRadio22,
+    (gslc_tsRect){220,130,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER22 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER22,E_PG_MAIN,&m_sXSlider22,
+          (gslc_tsRect){230,130,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider22 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS22 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS22,E_PG_MAIN,&m_sXBarGauge22,
+    (gslc_tsRect){10,150,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress22 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT22 numeric input field
+  static char m_sInputNumber22[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT22,E_PG_MAIN,(gslc_tsRect){40,150,40,10},
+    (char*)m_sInputNumber22,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal22 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE22
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE22,E_PG_MAIN,&m_asXToggle22,
+    (gslc_tsRect){80,150,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle22 = pElemRef;
+
+  // Create E_DRAW_LINE22 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE22,E_PG_MAIN,110,150,160,150);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN23 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN23,E_PG_MAIN,
+    (gslc_tsRect){150,150,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT23 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT23,E_PG_MAIN,(gslc_tsRect){180,150,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX23 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX23,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK23
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK23,E_PG_MAIN,&m_asXCheck23,
+    (gslc_tsRect){250,150,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO23
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO23,E_PG_MAIN,&m_asXRadio23,
+    (gslc_tsRect){10,170,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER23 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER23,E_PG_MAIN,&m_sXSlider23,
+          (gslc_tsRect){40,170,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider23 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS23 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS23,E_PG_MAIN,&m_sXBarGauge23,
+    (gslc_tsRect){80,170,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress23 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT23 numeric input field
+  static char m_sInputNumber23[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT23,E_PG_MAIN,(gslc_tsRect){110,170,40,10},
+    (char*)m_sInputNumber23,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal23 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE23
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE23,E_PG_MAIN,&m_asXToggle23,
+    (gslc_tsRect){150,170,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle23 = pElemRef;
+
+  // Create E_DRAW_LINE23 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE23,E_PG_MAIN,180,170,230,170);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN24 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN24,E_PG_MAIN,
+    (gslc_tsRect){220,170,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT24 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT24,E_PG_MAIN,(gslc_tsRect){250,170,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX24 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX24,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK24
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK24,E_PG_MAIN,&m_asXCheck24,
+    (gslc_tsRect){40,190,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO24
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO24,E_PG_MAIN,&m_asXRadio24,
+    (gslc_tsRect){80,190,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER24 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER24,E_PG_MAIN,&m_sXSlider24,
+          (gslc_tsRect){110,190,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider24 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS24 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS24,E_PG_MAIN,&m_sXBarGauge24,
+    (gslc_tsRect){150,190,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress24 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT24 numeric input field
+  static char m_sInputNumber24[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT24,E_PG_MAIN,(gslc_tsRect){180,190,40,10},
+    (char*)m_sInputNumber24,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal24 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE24
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE24,E_PG_MAIN,&m_asXToggle24,
+    (gslc_tsRect){220,190,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle24 = pElemRef;
+
+  // Create E_DRAW_LINE24 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE24,E_PG_MAIN,250,190,300,190);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN25 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN25,E_PG_MAIN,
+    (gslc_tsRect){10,10,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT25 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT25,E_PG_MAIN,(gslc_tsRect){40,10,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX25 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX25,E_PG_MAIN,(gslc_tsRect){10,10,300,150});
+   
+  // create checkbox E_ELEM_CHECK25
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK25,E_PG_MAIN,&m_asXCheck25,
+    (gslc_tsRect){110,10,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO25
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO25,E_PG_MAIN,&m_asXRadio25,
+    (gslc_tsRect){150,10,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER25 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER25,E_PG_MAIN,&m_sXSlider25,
+          (gslc_tsRect){180,10,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider25 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS25 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS25,E_PG_MAIN,&m_sXBarGauge25,
+    (gslc_tsRect){220,10,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress25 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT25 numeric input field
+  static char m_sInputNumber25[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT25,E_PG_MAIN,(gslc_tsRect){250,10,40,10},
+    (char*)m_sInputNumber25,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal25 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE25
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE25,E_PG_MAIN,&m_asXToggle25,
+    (gslc_tsRect){10,30,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle25 = pElemRef;
+
+  // Create E_DRAW_LINE25 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE25,E_PG_MAIN,40,30,90,30);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN26 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN26,E_PG_MAIN,
+    (gslc_tsRect){80,30,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT26 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT26,E_PG_MAIN,(gslc_tsRect){110,30,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX26 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX26,E_PG_MAIN,(gslc_tsRect){10,30,300,150});
+   
+  // create checkbox E_ELEM_CHECK26
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK26,E_PG_MAIN,&m_asXCheck26,
+    (gslc_tsRect){180,30,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO26
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO26,E_PG_MAIN,&m_asXRadio26,
+    (gslc_tsRect){220,30,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER26 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER26,E_PG_MAIN,&m_sXSlider26,
+          (gslc_tsRect){230,30,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider26 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS26 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS26,E_PG_MAIN,&m_sXBarGauge26,
+    (gslc_tsRect){10,50,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress26 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT26 numeric input field
+  static char m_sInputNumber26[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT26,E_PG_MAIN,(gslc_tsRect){40,50,40,10},
+    (char*)m_sInputNumber26,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal26 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE26
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE26,E_PG_MAIN,&m_asXToggle26,
+    (gslc_tsRect){80,50,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle26 = pElemRef;
+
+  // Create E_DRAW_LINE26 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE26,E_PG_MAIN,110,50,160,50);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN27 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN27,E_PG_MAIN,
+    (gslc_tsRect){150,50,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT27 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT27,E_PG_MAIN,(gslc_tsRect){180,50,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX27 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX27,E_PG_MAIN,(gslc_tsRect){10,50,300,150});
+   
+  // create checkbox E_ELEM_CHECK27
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK27,E_PG_MAIN,&m_asXCheck27,
+    (gslc_tsRect){250,50,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO27
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO27,E_PG_MAIN,&m_asXRadio27,
+    (gslc_tsRect){10,70,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER27 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER27,E_PG_MAIN,&m_sXSlider27,
+          (gslc_tsRect){40,70,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider27 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS27 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS27,E_PG_MAIN,&m_sXBarGauge27,
+    (gslc_tsRect){80,70,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress27 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT27 numeric input field
+  static char m_sInputNumber27[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT27,E_PG_MAIN,(gslc_tsRect){110,70,40,10},
+    (char*)m_sInputNumber27,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal27 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE27
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE27,E_PG_MAIN,&m_asXToggle27,
+    (gslc_tsRect){150,70,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle27 = pElemRef;
+
+  // Create E_DRAW_LINE27 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE27,E_PG_MAIN,180,70,230,70);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN28 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN28,E_PG_MAIN,
+    (gslc_tsRect){220,70,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT28 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT28,E_PG_MAIN,(gslc_tsRect){250,70,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX28 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX28,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK28
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK28,E_PG_MAIN,&m_asXCheck28,
+    (gslc_tsRect){40,90,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO28
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO28,E_PG_MAIN,&m_asXRadio28,
+    (gslc_tsRect){80,90,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER28 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER28,E_PG_MAIN,&m_sXSlider28,
+          (gslc_tsRect){110,90,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider28 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS28 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS28,E_PG_MAIN,&m_sXBarGauge28,
+    (gslc_tsRect){150,90,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress28 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT28 numeric input field
+  static char m_sInputNumber28[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT28,E_PG_MAIN,(gslc_tsRect){180,90,40,10},
+    (char*)m_sInputNumber28,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal28 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE28
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE28,E_PG_MAIN,&m_asXToggle28,
+    (gslc_tsRect){220,90,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle28 = pElemRef;
+
+  // Create E_DRAW_LINE28 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE28,E_PG_MAIN,250,90,300,90);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN29 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN29,E_PG_MAIN,
+    (gslc_tsRect){10,110,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT29 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT29,E_PG_MAIN,(gslc_tsRect){40,110,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX29 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX29,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK29
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK29,E_PG_MAIN,&m_asXCheck29,
+    (gslc_tsRect){110,110,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO29
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO29,E_PG_MAIN,&m_asXRadio29,
+    (gslc_tsRect){150,110,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER29 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER29,E_PG_MAIN,&m_sXSlider29,
+          (gslc_tsRect){180,110,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider29 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS29 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS29,E_PG_MAIN,&m_sXBarGauge29,
+    (gslc_tsRect){220,110,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress29 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT29 numeric input field
+  static char m_sInputNumber29[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT29,E_PG_MAIN,(gslc_tsRect){250,110,40,10},
+    (char*)m_sInputNumber29,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal29 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE29
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE29,E_PG_MAIN,&m_asXToggle29,
+    (gslc_tsRect){10,130,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle29 = pElemRef;
+
+  // Create E_DRAW_LINE29 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE29,E_PG_MAIN,40,130,90,130);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN30 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN30,E_PG_MAIN,
+    (gslc_tsRect){80,130,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT30 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT30,E_PG_MAIN,(gslc_tsRect){110,130,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX30 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX30,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK30
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK30,E_PG_MAIN,&m_asXCheck30,
+    (gslc_tsRect){180,130,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO30
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO30,E_PG_MAIN,&m_asXRadio30,
+    (gslc_tsRect){220,130,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER30 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER30,E_PG_MAIN,&m_sXSlider30,
+          (gslc_tsRect){230,130,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider30 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS30 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS30,E_PG_MAIN,&m_sXBarGauge30,
+    (gslc_tsRect){10,150,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress30 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT30 numeric input field
+  static char m_sInputNumber30[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT30,E_PG_MAIN,(gslc_tsRect){40,150,40,10},
+    (char*)m_sInputNumber30,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal30 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE30
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE30,E_PG_MAIN,&m_asXToggle30,
+    (gslc_tsRect){80,150,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle30 = pElemRef;
+
+  // Create E_DRAW_LINE30 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE30,E_PG_MAIN,110,150,160,150);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN31 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN31,E_PG_MAIN,
+    (gslc_tsRect){150,150,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT31 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT31,E_PG_MAIN,(gslc_tsRect){180,150,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX31 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX31,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK31
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK31,E_PG_MAIN,&m_asXCheck31,
+    (gslc_tsRect){250,150,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO31
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO31,E_PG_MAIN,&m_asXRadio31,
+    (gslc_tsRect){10,170,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER31 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER31,E_PG_MAIN,&m_sXSlider31,
+          (gslc_tsRect){40,170,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider31 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS31 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS31,E_PG_MAIN,&m_sXBarGauge31,
+    (gslc_tsRect){80,170,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress31 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT31 numeric input field
+  static char m_sInputNumber31[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT31,E_PG_MAIN,(gslc_tsRect){110,170,40,10},
+    (char*)m_sInputNumber31,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal31 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE31
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE31,E_PG_MAIN,&m_asXToggle31,
+    (gslc_tsRect){150,170,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle31 = pElemRef;
+
+  // Create E_DRAW_LINE31 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE31,E_PG_MAIN,180,170,230,170);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN32 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN32,E_PG_MAIN,
+    (gslc_tsRect){220,170,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT32 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT32,E_PG_MAIN,(gslc_tsRect){250,170,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX32 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX32,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK32
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK32,E_PG_MAIN,&m_asXCheck32,
+    (gslc_tsRect){40,190,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO32
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO32,E_PG_MAIN,&m_asXRadio32,
+    (gslc_tsRect){80,190,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER32 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER32,E_PG_MAIN,&m_sXSlider32,
+          (gslc_tsRect){110,190,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider32 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS32 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS32,E_PG_MAIN,&m_sXBarGauge32,
+    (gslc_tsRect){150,190,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress32 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT32 numeric input field
+  static char m_sInputNumber32[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT32,E_PG_MAIN,(gslc_tsRect){180,190,40,10},
+    (char*)m_sInputNumber32,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal32 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE32
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE32,E_PG_MAIN,&m_asXToggle32,
+    (gslc_tsRect){220,190,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle32 = pElemRef;
+
+  // Create E_DRAW_LINE32 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE32,E_PG_MAIN,250,190,300,190);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN33 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN33,E_PG_MAIN,
+    (gslc_tsRect){10,10,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT33 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT33,E_PG_MAIN,(gslc_tsRect){40,10,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX33 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX33,E_PG_MAIN,(gslc_tsRect){10,10,300,150});
+   
+  // create checkbox E_ELEM_CHECK33
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK33,E_PG_MAIN,&m_asXCheck33,
+    (gslc_tsRect){110,10,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO33
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO33,E_PG_MAIN,&m_asXRadio33,
+    (gslc_tsRect){150,10,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER33 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER33,E_PG_MAIN,&m_sXSlider33,
+          (gslc_tsRect){180,10,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider33 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS33 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS33,E_PG_MAIN,&m_sXBarGauge33,
+    (gslc_tsRect){220,10,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress33 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT33 numeric input field
+  static char m_sInputNumber33[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT33,E_PG_MAIN,(gslc_tsRect){250,10,40,10},
+    (char*)m_sInputNumber33,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal33 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE33
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE33,E_PG_MAIN,&m_asXToggle33,
+    (gslc_tsRect){10,30,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle33 = pElemRef;
+
+  // Create E_DRAW_LINE33 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE33,E_PG_MAIN,40,30,90,30);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN34 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN34,E_PG_MAIN,
+    (gslc_tsRect){80,30,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT34 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT34,E_PG_MAIN,(gslc_tsRect){110,30,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX34 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX34,E_PG_MAIN,(gslc_tsRect){10,30,300,150});
+   
+  // create checkbox E_ELEM_CHECK34
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK34,E_PG_MAIN,&m_asXCheck34,
+    (gslc_tsRect){180,30,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO34
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO34,E_PG_MAIN,&m_asXRadio34,
+    (gslc_tsRect){220,30,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER34 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER34,E_PG_MAIN,&m_sXSlider34,
+          (gslc_tsRect){230,30,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider34 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS34 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS34,E_PG_MAIN,&m_sXBarGauge34,
+    (gslc_tsRect){10,50,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress34 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT34 numeric input field
+  static char m_sInputNumber34[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT34,E_PG_MAIN,(gslc_tsRect){40,50,40,10},
+    (char*)m_sInputNumber34,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal34 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE34
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE34,E_PG_MAIN,&m_asXToggle34,
+    (gslc_tsRect){80,50,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle34 = pElemRef;
+
+  // Create E_DRAW_LINE34 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE34,E_PG_MAIN,110,50,160,50);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN35 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN35,E_PG_MAIN,
+    (gslc_tsRect){150,50,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT35 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT35,E_PG_MAIN,(gslc_tsRect){180,50,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX35 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX35,E_PG_MAIN,(gslc_tsRect){10,50,300,150});
+   
+  // create checkbox E_ELEM_CHECK35
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK35,E_PG_MAIN,&m_asXCheck35,
+    (gslc_tsRect){250,50,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO35
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO35,E_PG_MAIN,&m_asXRadio35,
+    (gslc_tsRect){10,70,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER35 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER35,E_PG_MAIN,&m_sXSlider35,
+          (gslc_tsRect){40,70,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider35 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS35 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS35,E_PG_MAIN,&m_sXBarGauge35,
+    (gslc_tsRect){80,70,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress35 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT35 numeric input field
+  static char m_sInputNumber35[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT35,E_PG_MAIN,(gslc_tsRect){110,70,40,10},
+    (char*)m_sInputNumber35,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal35 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE35
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE35,E_PG_MAIN,&m_asXToggle35,
+    (gslc_tsRect){150,70,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle35 = pElemRef;
+
+  // Create E_DRAW_LINE35 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE35,E_PG_MAIN,180,70,230,70);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN36 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN36,E_PG_MAIN,
+    (gslc_tsRect){220,70,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT36 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT36,E_PG_MAIN,(gslc_tsRect){250,70,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX36 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX36,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK36
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK36,E_PG_MAIN,&m_asXCheck36,
+    (gslc_tsRect){40,90,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO36
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO36,E_PG_MAIN,&m_asXRadio36,
+    (gslc_tsRect){80,90,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER36 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER36,E_PG_MAIN,&m_sXSlider36,
+          (gslc_tsRect){110,90,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider36 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS36 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS36,E_PG_MAIN,&m_sXBarGauge36,
+    (gslc_tsRect){150,90,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress36 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT36 numeric input field
+  static char m_sInputNumber36[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT36,E_PG_MAIN,(gslc_tsRect){180,90,40,10},
+    (char*)m_sInputNumber36,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal36 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE36
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE36,E_PG_MAIN,&m_asXToggle36,
+    (gslc_tsRect){220,90,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle36 = pElemRef;
+
+  // Create E_DRAW_LINE36 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE36,E_PG_MAIN,250,90,300,90);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN37 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN37,E_PG_MAIN,
+    (gslc_tsRect){10,110,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT37 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT37,E_PG_MAIN,(gslc_tsRect){40,110,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX37 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX37,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK37
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK37,E_PG_MAIN,&m_asXCheck37,
+    (gslc_tsRect){110,110,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO37
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO37,E_PG_MAIN,&m_asXRadio37,
+    (gslc_tsRect){150,110,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER37 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER37,E_PG_MAIN,&m_sXSlider37,
+          (gslc_tsRect){180,110,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider37 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS37 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS37,E_PG_MAIN,&m_sXBarGauge37,
+    (gslc_tsRect){220,110,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress37 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT37 numeric input field
+  static char m_sInputNumber37[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT37,E_PG_MAIN,(gslc_tsRect){250,110,40,10},
+    (char*)m_sInputNumber37,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal37 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE37
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE37,E_PG_MAIN,&m_asXToggle37,
+    (gslc_tsRect){10,130,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle37 = pElemRef;
+
+  // Create E_DRAW_LINE37 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE37,E_PG_MAIN,40,130,90,130);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN38 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN38,E_PG_MAIN,
+    (gslc_tsRect){80,130,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT38 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT38,E_PG_MAIN,(gslc_tsRect){110,130,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX38 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX38,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK38
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK38,E_PG_MAIN,&m_asXCheck38,
+    (gslc_tsRect){180,130,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO38
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO38,E_PG_MAIN,&m_asXRadio38,
+    (gslc_tsRect){220,130,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER38 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER38,E_PG_MAIN,&m_sXSlider38,
+          (gslc_tsRect){230,130,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider38 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS38 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS38,E_PG_MAIN,&m_sXBarGauge38,
+    (gslc_tsRect){10,150,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress38 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT38 numeric input field
+  static char m_sInputNumber38[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT38,E_PG_MAIN,(gslc_tsRect){40,150,40,10},
+    (char*)m_sInputNumber38,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal38 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE38
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE38,E_PG_MAIN,&m_asXToggle38,
+    (gslc_tsRect){80,150,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle38 = pElemRef;
+
+  // Create E_DRAW_LINE38 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE38,E_PG_MAIN,110,150,160,150);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN39 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN39,E_PG_MAIN,
+    (gslc_tsRect){150,150,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT39 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT39,E_PG_MAIN,(gslc_tsRect){180,150,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX39 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX39,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK39
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK39,E_PG_MAIN,&m_asXCheck39,
+    (gslc_tsRect){250,150,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO39
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO39,E_PG_MAIN,&m_asXRadio39,
+    (gslc_tsRect){10,170,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER39 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER39,E_PG_MAIN,&m_sXSlider39,
+          (gslc_tsRect){40,170,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider39 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS39 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS39,E_PG_MAIN,&m_sXBarGauge39,
+    (gslc_tsRect){80,170,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress39 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT39 numeric input field
+  static char m_sInputNumber39[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT39,E_PG_MAIN,(gslc_tsRect){110,170,40,10},
+    (char*)m_sInputNumber39,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal39 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE39
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE39,E_PG_MAIN,&m_asXToggle39,
+    (gslc_tsRect){150,170,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle39 = pElemRef;
+
+  // Create E_DRAW_LINE39 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE39,E_PG_MAIN,180,170,230,170);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN40 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN40,E_PG_MAIN,
+    (gslc_tsRect){220,170,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT40 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT40,E_PG_MAIN,(gslc_tsRect){250,170,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX40 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX40,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK40
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK40,E_PG_MAIN,&m_asXCheck40,
+    (gslc_tsRect){40,190,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO40
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO40,E_PG_MAIN,&m_asXRadio40,
+    (gslc_tsRect){80,190,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER40 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER40,E_PG_MAIN,&m_sXSlider40,
+          (gslc_tsRect){110,190,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider40 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS40 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS40,E_PG_MAIN,&m_sXBarGauge40,
+    (gslc_tsRect){150,190,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress40 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT40 numeric input field
+  static char m_sInputNumber40[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT40,E_PG_MAIN,(gslc_tsRect){180,190,40,10},
+    (char*)m_sInputNumber40,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal40 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE40
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE40,E_PG_MAIN,&m_asXToggle40,
+    (gslc_tsRect){220,190,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle40 = pElemRef;
+
+  // Create E_DRAW_LINE40 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE40,E_PG_MAIN,250,190,300,190);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN41 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN41,E_PG_MAIN,
+    (gslc_tsRect){10,10,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT41 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT41,E_PG_MAIN,(gslc_tsRect){40,10,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX41 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX41,E_PG_MAIN,(gslc_tsRect){10,10,300,150});
+   
+  // create checkbox E_ELEM_CHECK41
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK41,E_PG_MAIN,&m_asXCheck41,
+    (gslc_tsRect){110,10,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO41
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO41,E_PG_MAIN,&m_asXRadio41,
+    (gslc_tsRect){150,10,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER41 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER41,E_PG_MAIN,&m_sXSlider41,
+          (gslc_tsRect){180,10,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider41 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS41 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS41,E_PG_MAIN,&m_sXBarGauge41,
+    (gslc_tsRect){220,10,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress41 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT41 numeric input field
+  static char m_sInputNumber41[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT41,E_PG_MAIN,(gslc_tsRect){250,10,40,10},
+    (char*)m_sInputNumber41,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal41 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE41
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE41,E_PG_MAIN,&m_asXToggle41,
+    (gslc_tsRect){10,30,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle41 = pElemRef;
+
+  // Create E_DRAW_LINE41 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE41,E_PG_MAIN,40,30,90,30);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN42 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN42,E_PG_MAIN,
+    (gslc_tsRect){80,30,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT42 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT42,E_PG_MAIN,(gslc_tsRect){110,30,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX42 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX42,E_PG_MAIN,(gslc_tsRect){10,30,300,150});
+   
+  // create checkbox E_ELEM_CHECK42
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK42,E_PG_MAIN,&m_asXCheck42,
+    (gslc_tsRect){180,30,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO42
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO42,E_PG_MAIN,&m_asXRadio42,
+    (gslc_tsRect){220,30,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER42 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER42,E_PG_MAIN,&m_sXSlider42,
+          (gslc_tsRect){230,30,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider42 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS42 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS42,E_PG_MAIN,&m_sXBarGauge42,
+    (gslc_tsRect){10,50,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress42 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT42 numeric input field
+  static char m_sInputNumber42[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT42,E_PG_MAIN,(gslc_tsRect){40,50,40,10},
+    (char*)m_sInputNumber42,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal42 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE42
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE42,E_PG_MAIN,&m_asXToggle42,
+    (gslc_tsRect){80,50,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle42 = pElemRef;
+
+  // Create E_DRAW_LINE42 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE42,E_PG_MAIN,110,50,160,50);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN43 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN43,E_PG_MAIN,
+    (gslc_tsRect){150,50,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT43 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT43,E_PG_MAIN,(gslc_tsRect){180,50,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX43 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX43,E_PG_MAIN,(gslc_tsRect){10,50,300,150});
+   
+  // create checkbox E_ELEM_CHECK43
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK43,E_PG_MAIN,&m_asXCheck43,
+    (gslc_tsRect){250,50,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO43
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO43,E_PG_MAIN,&m_asXRadio43,
+    (gslc_tsRect){10,70,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER43 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER43,E_PG_MAIN,&m_sXSlider43,
+          (gslc_tsRect){40,70,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider43 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS43 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS43,E_PG_MAIN,&m_sXBarGauge43,
+    (gslc_tsRect){80,70,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress43 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT43 numeric input field
+  static char m_sInputNumber43[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT43,E_PG_MAIN,(gslc_tsRect){110,70,40,10},
+    (char*)m_sInputNumber43,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal43 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE43
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE43,E_PG_MAIN,&m_asXToggle43,
+    (gslc_tsRect){150,70,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle43 = pElemRef;
+
+  // Create E_DRAW_LINE43 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE43,E_PG_MAIN,180,70,230,70);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN44 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN44,E_PG_MAIN,
+    (gslc_tsRect){220,70,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT44 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT44,E_PG_MAIN,(gslc_tsRect){250,70,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX44 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX44,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK44
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK44,E_PG_MAIN,&m_asXCheck44,
+    (gslc_tsRect){40,90,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO44
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO44,E_PG_MAIN,&m_asXRadio44,
+    (gslc_tsRect){80,90,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER44 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER44,E_PG_MAIN,&m_sXSlider44,
+          (gslc_tsRect){110,90,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider44 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS44 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS44,E_PG_MAIN,&m_sXBarGauge44,
+    (gslc_tsRect){150,90,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress44 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT44 numeric input field
+  static char m_sInputNumber44[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT44,E_PG_MAIN,(gslc_tsRect){180,90,40,10},
+    (char*)m_sInputNumber44,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal44 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE44
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE44,E_PG_MAIN,&m_asXToggle44,
+    (gslc_tsRect){220,90,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle44 = pElemRef;
+
+  // Create E_DRAW_LINE44 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE44,E_PG_MAIN,250,90,300,90);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN45 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN45,E_PG_MAIN,
+    (gslc_tsRect){10,110,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT45 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT45,E_PG_MAIN,(gslc_tsRect){40,110,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX45 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX45,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK45
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK45,E_PG_MAIN,&m_asXCheck45,
+    (gslc_tsRect){110,110,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO45
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO45,E_PG_MAIN,&m_asXRadio45,
+    (gslc_tsRect){150,110,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER45 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER45,E_PG_MAIN,&m_sXSlider45,
+          (gslc_tsRect){180,110,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider45 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS45 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS45,E_PG_MAIN,&m_sXBarGauge45,
+    (gslc_tsRect){220,110,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress45 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT45 numeric input field
+  static char m_sInputNumber45[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT45,E_PG_MAIN,(gslc_tsRect){250,110,40,10},
+    (char*)m_sInputNumber45,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal45 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE45
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE45,E_PG_MAIN,&m_asXToggle45,
+    (gslc_tsRect){10,130,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle45 = pElemRef;
+
+  // Create E_DRAW_LINE45 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE45,E_PG_MAIN,40,130,90,130);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN46 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN46,E_PG_MAIN,
+    (gslc_tsRect){80,130,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT46 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT46,E_PG_MAIN,(gslc_tsRect){110,130,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX46 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX46,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK46
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK46,E_PG_MAIN,&m_asXCheck46,
+    (gslc_tsRect){180,130,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO46
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO46,E_PG_MAIN,&m_asXRadio46,
+    (gslc_tsRect){220,130,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER46 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER46,E_PG_MAIN,&m_sXSlider46,
+          (gslc_tsRect){230,130,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider46 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS46 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS46,E_PG_MAIN,&m_sXBarGauge46,
+    (gslc_tsRect){10,150,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress46 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT46 numeric input field
+  static char m_sInputNumber46[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT46,E_PG_MAIN,(gslc_tsRect){40,150,40,10},
+    (char*)m_sInputNumber46,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal46 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE46
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE46,E_PG_MAIN,&m_asXToggle46,
+    (gslc_tsRect){80,150,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle46 = pElemRef;
+
+  // Create E_DRAW_LINE46 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE46,E_PG_MAIN,110,150,160,150);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN47 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN47,E_PG_MAIN,
+    (gslc_tsRect){150,150,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT47 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT47,E_PG_MAIN,(gslc_tsRect){180,150,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX47 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX47,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK47
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK47,E_PG_MAIN,&m_asXCheck47,
+    (gslc_tsRect){250,150,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO47
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO47,E_PG_MAIN,&m_asXRadio47,
+    (gslc_tsRect){10,170,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER47 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER47,E_PG_MAIN,&m_sXSlider47,
+          (gslc_tsRect){40,170,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider47 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS47 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS47,E_PG_MAIN,&m_sXBarGauge47,
+    (gslc_tsRect){80,170,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress47 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT47 numeric input field
+  static char m_sInputNumber47[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT47,E_PG_MAIN,(gslc_tsRect){110,170,40,10},
+    (char*)m_sInputNumber47,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal47 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE47
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE47,E_PG_MAIN,&m_asXToggle47,
+    (gslc_tsRect){150,170,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle47 = pElemRef;
+
+  // Create E_DRAW_LINE47 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE47,E_PG_MAIN,180,170,230,170);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN48 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN48,E_PG_MAIN,
+    (gslc_tsRect){220,170,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT48 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT48,E_PG_MAIN,(gslc_tsRect){250,170,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX48 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX48,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK48
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK48,E_PG_MAIN,&m_asXCheck48,
+    (gslc_tsRect){40,190,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO48
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO48,E_PG_MAIN,&m_asXRadio48,
+    (gslc_tsRect){80,190,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER48 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER48,E_PG_MAIN,&m_sXSlider48,
+          (gslc_tsRect){110,190,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider48 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS48 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS48,E_PG_MAIN,&m_sXBarGauge48,
+    (gslc_tsRect){150,190,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress48 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT48 numeric input field
+  static char m_sInputNumber48[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT48,E_PG_MAIN,(gslc_tsRect){180,190,40,10},
+    (char*)m_sInputNumber48,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal48 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE48
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE48,E_PG_MAIN,&m_asXToggle48,
+    (gslc_tsRect){220,190,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle48 = pElemRef;
+
+  // Create E_DRAW_LINE48 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE48,E_PG_MAIN,250,190,300,190);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN49 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN49,E_PG_MAIN,
+    (gslc_tsRect){10,10,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT49 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT49,E_PG_MAIN,(gslc_tsRect){40,10,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX49 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX49,E_PG_MAIN,(gslc_tsRect){10,10,300,150});
+   
+  // create checkbox E_ELEM_CHECK49
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK49,E_PG_MAIN,&m_asXCheck49,
+    (gslc_tsRect){110,10,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO49
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO49,E_PG_MAIN,&m_asXRadio49,
+    (gslc_tsRect){150,10,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER49 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER49,E_PG_MAIN,&m_sXSlider49,
+          (gslc_tsRect){180,10,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider49 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS49 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS49,E_PG_MAIN,&m_sXBarGauge49,
+    (gslc_tsRect){220,10,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress49 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT49 numeric input field
+  static char m_sInputNumber49[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT49,E_PG_MAIN,(gslc_tsRect){250,10,40,10},
+    (char*)m_sInputNumber49,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal49 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE49
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE49,E_PG_MAIN,&m_asXToggle49,
+    (gslc_tsRect){10,30,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle49 = pElemRef;
+
+  // Create E_DRAW_LINE49 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE49,E_PG_MAIN,40,30,90,30);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN50 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN50,E_PG_MAIN,
+    (gslc_tsRect){80,30,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT50 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT50,E_PG_MAIN,(gslc_tsRect){110,30,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX50 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX50,E_PG_MAIN,(gslc_tsRect){10,30,300,150});
+   
+  // create checkbox E_ELEM_CHECK50
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK50,E_PG_MAIN,&m_asXCheck50,
+    (gslc_tsRect){180,30,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO50
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO50,E_PG_MAIN,&m_asXRadio50,
+    (gslc_tsRect){220,30,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER50 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER50,E_PG_MAIN,&m_sXSlider50,
+          (gslc_tsRect){230,30,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider50 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS50 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS50,E_PG_MAIN,&m_sXBarGauge50,
+    (gslc_tsRect){10,50,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress50 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT50 numeric input field
+  static char m_sInputNumber50[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT50,E_PG_MAIN,(gslc_tsRect){40,50,40,10},
+    (char*)m_sInputNumber50,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal50 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE50
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE50,E_PG_MAIN,&m_asXToggle50,
+    (gslc_tsRect){80,50,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle50 = pElemRef;
+
+  // Create E_DRAW_LINE50 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE50,E_PG_MAIN,110,50,160,50);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN51 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN51,E_PG_MAIN,
+    (gslc_tsRect){150,50,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT51 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT51,E_PG_MAIN,(gslc_tsRect){180,50,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX51 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX51,E_PG_MAIN,(gslc_tsRect){10,50,300,150});
+   
+  // create checkbox E_ELEM_CHECK51
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK51,E_PG_MAIN,&m_asXCheck51,
+    (gslc_tsRect){250,50,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO51
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO51,E_PG_MAIN,&m_asXRadio51,
+    (gslc_tsRect){10,70,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER51 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER51,E_PG_MAIN,&m_sXSlider51,
+          (gslc_tsRect){40,70,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider51 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS51 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS51,E_PG_MAIN,&m_sXBarGauge51,
+    (gslc_tsRect){80,70,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress51 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT51 numeric input field
+  static char m_sInputNumber51[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT51,E_PG_MAIN,(gslc_tsRect){110,70,40,10},
+    (char*)m_sInputNumber51,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal51 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE51
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE51,E_PG_MAIN,&m_asXToggle51,
+    (gslc_tsRect){150,70,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle51 = pElemRef;
+
+  // Create E_DRAW_LINE51 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE51,E_PG_MAIN,180,70,230,70);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN52 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN52,E_PG_MAIN,
+    (gslc_tsRect){220,70,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT52 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT52,E_PG_MAIN,(gslc_tsRect){250,70,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX52 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX52,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK52
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK52,E_PG_MAIN,&m_asXCheck52,
+    (gslc_tsRect){40,90,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO52
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO52,E_PG_MAIN,&m_asXRadio52,
+    (gslc_tsRect){80,90,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER52 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER52,E_PG_MAIN,&m_sXSlider52,
+          (gslc_tsRect){110,90,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider52 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS52 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS52,E_PG_MAIN,&m_sXBarGauge52,
+    (gslc_tsRect){150,90,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress52 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT52 numeric input field
+  static char m_sInputNumber52[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT52,E_PG_MAIN,(gslc_tsRect){180,90,40,10},
+    (char*)m_sInputNumber52,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal52 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE52
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE52,E_PG_MAIN,&m_asXToggle52,
+    (gslc_tsRect){220,90,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle52 = pElemRef;
+
+  // Create E_DRAW_LINE52 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE52,E_PG_MAIN,250,90,300,90);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN53 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN53,E_PG_MAIN,
+    (gslc_tsRect){10,110,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT53 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT53,E_PG_MAIN,(gslc_tsRect){40,110,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX53 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX53,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK53
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK53,E_PG_MAIN,&m_asXCheck53,
+    (gslc_tsRect){110,110,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO53
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO53,E_PG_MAIN,&m_asXRadio53,
+    (gslc_tsRect){150,110,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER53 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER53,E_PG_MAIN,&m_sXSlider53,
+          (gslc_tsRect){180,110,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider53 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS53 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS53,E_PG_MAIN,&m_sXBarGauge53,
+    (gslc_tsRect){220,110,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress53 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT53 numeric input field
+  static char m_sInputNumber53[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT53,E_PG_MAIN,(gslc_tsRect){250,110,40,10},
+    (char*)m_sInputNumber53,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal53 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE53
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE53,E_PG_MAIN,&m_asXToggle53,
+    (gslc_tsRect){10,130,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle53 = pElemRef;
+
+  // Create E_DRAW_LINE53 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE53,E_PG_MAIN,40,130,90,130);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN54 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN54,E_PG_MAIN,
+    (gslc_tsRect){80,130,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT54 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT54,E_PG_MAIN,(gslc_tsRect){110,130,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX54 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX54,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK54
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK54,E_PG_MAIN,&m_asXCheck54,
+    (gslc_tsRect){180,130,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO54
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO54,E_PG_MAIN,&m_asXRadio54,
+    (gslc_tsRect){220,130,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER54 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER54,E_PG_MAIN,&m_sXSlider54,
+          (gslc_tsRect){230,130,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider54 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS54 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS54,E_PG_MAIN,&m_sXBarGauge54,
+    (gslc_tsRect){10,150,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress54 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT54 numeric input field
+  static char m_sInputNumber54[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT54,E_PG_MAIN,(gslc_tsRect){40,150,40,10},
+    (char*)m_sInputNumber54,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal54 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE54
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE54,E_PG_MAIN,&m_asXToggle54,
+    (gslc_tsRect){80,150,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle54 = pElemRef;
+
+  // Create E_DRAW_LINE54 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE54,E_PG_MAIN,110,150,160,150);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN55 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN55,E_PG_MAIN,
+    (gslc_tsRect){150,150,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT55 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT55,E_PG_MAIN,(gslc_tsRect){180,150,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX55 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX55,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK55
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK55,E_PG_MAIN,&m_asXCheck55,
+    (gslc_tsRect){250,150,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO55
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO55,E_PG_MAIN,&m_asXRadio55,
+    (gslc_tsRect){10,170,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER55 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER55,E_PG_MAIN,&m_sXSlider55,
+          (gslc_tsRect){40,170,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider55 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS55 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS55,E_PG_MAIN,&m_sXBarGauge55,
+    (gslc_tsRect){80,170,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress55 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT55 numeric input field
+  static char m_sInputNumber55[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT55,E_PG_MAIN,(gslc_tsRect){110,170,40,10},
+    (char*)m_sInputNumber55,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal55 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE55
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE55,E_PG_MAIN,&m_asXToggle55,
+    (gslc_tsRect){150,170,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle55 = pElemRef;
+
+  // Create E_DRAW_LINE55 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE55,E_PG_MAIN,180,170,230,170);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN56 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN56,E_PG_MAIN,
+    (gslc_tsRect){220,170,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT56 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT56,E_PG_MAIN,(gslc_tsRect){250,170,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX56 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX56,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK56
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK56,E_PG_MAIN,&m_asXCheck56,
+    (gslc_tsRect){40,190,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO56
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO56,E_PG_MAIN,&m_asXRadio56,
+    (gslc_tsRect){80,190,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER56 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER56,E_PG_MAIN,&m_sXSlider56,
+          (gslc_tsRect){110,190,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider56 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS56 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS56,E_PG_MAIN,&m_sXBarGauge56,
+    (gslc_tsRect){150,190,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress56 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT56 numeric input field
+  static char m_sInputNumber56[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT56,E_PG_MAIN,(gslc_tsRect){180,190,40,10},
+    (char*)m_sInputNumber56,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal56 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE56
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE56,E_PG_MAIN,&m_asXToggle56,
+    (gslc_tsRect){220,190,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle56 = pElemRef;
+
+  // Create E_DRAW_LINE56 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE56,E_PG_MAIN,250,190,300,190);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN57 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN57,E_PG_MAIN,
+    (gslc_tsRect){10,10,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT57 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT57,E_PG_MAIN,(gslc_tsRect){40,10,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX57 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX57,E_PG_MAIN,(gslc_tsRect){10,10,300,150});
+   
+  // create checkbox E_ELEM_CHECK57
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK57,E_PG_MAIN,&m_asXCheck57,
+    (gslc_tsRect){110,10,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO57
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO57,E_PG_MAIN,&m_asXRadio57,
+    (gslc_tsRect){150,10,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER57 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER57,E_PG_MAIN,&m_sXSlider57,
+          (gslc_tsRect){180,10,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider57 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS57 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS57,E_PG_MAIN,&m_sXBarGauge57,
+    (gslc_tsRect){220,10,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress57 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT57 numeric input field
+  static char m_sInputNumber57[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT57,E_PG_MAIN,(gslc_tsRect){250,10,40,10},
+    (char*)m_sInputNumber57,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal57 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE57
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE57,E_PG_MAIN,&m_asXToggle57,
+    (gslc_tsRect){10,30,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle57 = pElemRef;
+
+  // Create E_DRAW_LINE57 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE57,E_PG_MAIN,40,30,90,30);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN58 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN58,E_PG_MAIN,
+    (gslc_tsRect){80,30,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT58 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT58,E_PG_MAIN,(gslc_tsRect){110,30,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX58 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX58,E_PG_MAIN,(gslc_tsRect){10,30,300,150});
+   
+  // create checkbox E_ELEM_CHECK58
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK58,E_PG_MAIN,&m_asXCheck58,
+    (gslc_tsRect){180,30,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO58
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO58,E_PG_MAIN,&m_asXRadio58,
+    (gslc_tsRect){220,30,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER58 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER58,E_PG_MAIN,&m_sXSlider58,
+          (gslc_tsRect){230,30,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider58 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS58 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS58,E_PG_MAIN,&m_sXBarGauge58,
+    (gslc_tsRect){10,50,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress58 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT58 numeric input field
+  static char m_sInputNumber58[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT58,E_PG_MAIN,(gslc_tsRect){40,50,40,10},
+    (char*)m_sInputNumber58,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal58 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE58
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE58,E_PG_MAIN,&m_asXToggle58,
+    (gslc_tsRect){80,50,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle58 = pElemRef;
+
+  // Create E_DRAW_LINE58 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE58,E_PG_MAIN,110,50,160,50);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN59 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN59,E_PG_MAIN,
+    (gslc_tsRect){150,50,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT59 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT59,E_PG_MAIN,(gslc_tsRect){180,50,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX59 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX59,E_PG_MAIN,(gslc_tsRect){10,50,300,150});
+   
+  // create checkbox E_ELEM_CHECK59
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK59,E_PG_MAIN,&m_asXCheck59,
+    (gslc_tsRect){250,50,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO59
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO59,E_PG_MAIN,&m_asXRadio59,
+    (gslc_tsRect){10,70,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER59 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER59,E_PG_MAIN,&m_sXSlider59,
+          (gslc_tsRect){40,70,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider59 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS59 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS59,E_PG_MAIN,&m_sXBarGauge59,
+    (gslc_tsRect){80,70,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress59 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT59 numeric input field
+  static char m_sInputNumber59[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT59,E_PG_MAIN,(gslc_tsRect){110,70,40,10},
+    (char*)m_sInputNumber59,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal59 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE59
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE59,E_PG_MAIN,&m_asXToggle59,
+    (gslc_tsRect){150,70,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle59 = pElemRef;
+
+  // Create E_DRAW_LINE59 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE59,E_PG_MAIN,180,70,230,70);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN60 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN60,E_PG_MAIN,
+    (gslc_tsRect){220,70,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT60 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT60,E_PG_MAIN,(gslc_tsRect){250,70,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX60 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX60,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK60
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK60,E_PG_MAIN,&m_asXCheck60,
+    (gslc_tsRect){40,90,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO60
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO60,E_PG_MAIN,&m_asXRadio60,
+    (gslc_tsRect){80,90,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER60 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER60,E_PG_MAIN,&m_sXSlider60,
+          (gslc_tsRect){110,90,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider60 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS60 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS60,E_PG_MAIN,&m_sXBarGauge60,
+    (gslc_tsRect){150,90,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress60 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT60 numeric input field
+  static char m_sInputNumber60[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT60,E_PG_MAIN,(gslc_tsRect){180,90,40,10},
+    (char*)m_sInputNumber60,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal60 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE60
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE60,E_PG_MAIN,&m_asXToggle60,
+    (gslc_tsRect){220,90,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle60 = pElemRef;
+
+  // Create E_DRAW_LINE60 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE60,E_PG_MAIN,250,90,300,90);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN61 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN61,E_PG_MAIN,
+    (gslc_tsRect){10,110,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT61 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT61,E_PG_MAIN,(gslc_tsRect){40,110,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX61 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX61,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK61
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK61,E_PG_MAIN,&m_asXCheck61,
+    (gslc_tsRect){110,110,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO61
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO61,E_PG_MAIN,&m_asXRadio61,
+    (gslc_tsRect){150,110,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER61 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER61,E_PG_MAIN,&m_sXSlider61,
+          (gslc_tsRect){180,110,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider61 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS61 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS61,E_PG_MAIN,&m_sXBarGauge61,
+    (gslc_tsRect){220,110,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress61 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT61 numeric input field
+  static char m_sInputNumber61[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT61,E_PG_MAIN,(gslc_tsRect){250,110,40,10},
+    (char*)m_sInputNumber61,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal61 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE61
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE61,E_PG_MAIN,&m_asXToggle61,
+    (gslc_tsRect){10,130,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle61 = pElemRef;
+
+  // Create E_DRAW_LINE61 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE61,E_PG_MAIN,40,130,90,130);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN62 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN62,E_PG_MAIN,
+    (gslc_tsRect){80,130,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT62 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT62,E_PG_MAIN,(gslc_tsRect){110,130,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX62 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX62,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK62
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK62,E_PG_MAIN,&m_asXCheck62,
+    (gslc_tsRect){180,130,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO62
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO62,E_PG_MAIN,&m_asXRadio62,
+    (gslc_tsRect){220,130,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER62 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER62,E_PG_MAIN,&m_sXSlider62,
+          (gslc_tsRect){230,130,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider62 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS62 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS62,E_PG_MAIN,&m_sXBarGauge62,
+    (gslc_tsRect){10,150,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress62 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT62 numeric input field
+  static char m_sInputNumber62[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT62,E_PG_MAIN,(gslc_tsRect){40,150,40,10},
+    (char*)m_sInputNumber62,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal62 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE62
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE62,E_PG_MAIN,&m_asXToggle62,
+    (gslc_tsRect){80,150,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle62 = pElemRef;
+
+  // Create E_DRAW_LINE62 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE62,E_PG_MAIN,110,150,160,150);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN63 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN63,E_PG_MAIN,
+    (gslc_tsRect){150,150,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT63 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT63,E_PG_MAIN,(gslc_tsRect){180,150,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX63 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX63,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK63
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK63,E_PG_MAIN,&m_asXCheck63,
+    (gslc_tsRect){250,150,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO63
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO63,E_PG_MAIN,&m_asXRadio63,
+    (gslc_tsRect){10,170,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER63 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER63,E_PG_MAIN,&m_sXSlider63,
+          (gslc_tsRect){40,170,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider63 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS63 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS63,E_PG_MAIN,&m_sXBarGauge63,
+    (gslc_tsRect){80,170,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress63 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT63 numeric input field
+  static char m_sInputNumber63[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT63,E_PG_MAIN,(gslc_tsRect){110,170,40,10},
+    (char*)m_sInputNumber63,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal63 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE63
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE63,E_PG_MAIN,&m_asXToggle63,
+    (gslc_tsRect){150,170,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle63 = pElemRef;
+
+  // Create E_DRAW_LINE63 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE63,E_PG_MAIN,180,170,230,170);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN64 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN64,E_PG_MAIN,
+    (gslc_tsRect){220,170,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT64 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT64,E_PG_MAIN,(gslc_tsRect){250,170,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX64 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX64,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK64
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK64,E_PG_MAIN,&m_asXCheck64,
+    (gslc_tsRect){40,190,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO64
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO64,E_PG_MAIN,&m_asXRadio64,
+    (gslc_tsRect){80,190,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER64 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER64,E_PG_MAIN,&m_sXSlider64,
+          (gslc_tsRect){110,190,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider64 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS64 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS64,E_PG_MAIN,&m_sXBarGauge64,
+    (gslc_tsRect){150,190,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress64 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT64 numeric input field
+  static char m_sInputNumber64[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT64,E_PG_MAIN,(gslc_tsRect){180,190,40,10},
+    (char*)m_sInputNumber64,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal64 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE64
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE64,E_PG_MAIN,&m_asXToggle64,
+    (gslc_tsRect){220,190,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle64 = pElemRef;
+
+  // Create E_DRAW_LINE64 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE64,E_PG_MAIN,250,190,300,190);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN65 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN65,E_PG_MAIN,
+    (gslc_tsRect){10,10,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT65 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT65,E_PG_MAIN,(gslc_tsRect){40,10,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX65 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX65,E_PG_MAIN,(gslc_tsRect){10,10,300,150});
+   
+  // create checkbox E_ELEM_CHECK65
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK65,E_PG_MAIN,&m_asXCheck65,
+    (gslc_tsRect){110,10,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO65
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO65,E_PG_MAIN,&m_asXRadio65,
+    (gslc_tsRect){150,10,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER65 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER65,E_PG_MAIN,&m_sXSlider65,
+          (gslc_tsRect){180,10,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider65 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS65 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS65,E_PG_MAIN,&m_sXBarGauge65,
+    (gslc_tsRect){220,10,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress65 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT65 numeric input field
+  static char m_sInputNumber65[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT65,E_PG_MAIN,(gslc_tsRect){250,10,40,10},
+    (char*)m_sInputNumber65,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal65 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE65
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE65,E_PG_MAIN,&m_asXToggle65,
+    (gslc_tsRect){10,30,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle65 = pElemRef;
+
+  // Create E_DRAW_LINE65 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE65,E_PG_MAIN,40,30,90,30);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN66 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN66,E_PG_MAIN,
+    (gslc_tsRect){80,30,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT66 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT66,E_PG_MAIN,(gslc_tsRect){110,30,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX66 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX66,E_PG_MAIN,(gslc_tsRect){10,30,300,150});
+   
+  // create checkbox E_ELEM_CHECK66
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK66,E_PG_MAIN,&m_asXCheck66,
+    (gslc_tsRect){180,30,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO66
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO66,E_PG_MAIN,&m_asXRadio66,
+    (gslc_tsRect){220,30,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER66 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER66,E_PG_MAIN,&m_sXSlider66,
+          (gslc_tsRect){230,30,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider66 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS66 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS66,E_PG_MAIN,&m_sXBarGauge66,
+    (gslc_tsRect){10,50,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress66 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT66 numeric input field
+  static char m_sInputNumber66[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT66,E_PG_MAIN,(gslc_tsRect){40,50,40,10},
+    (char*)m_sInputNumber66,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal66 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE66
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE66,E_PG_MAIN,&m_asXToggle66,
+    (gslc_tsRect){80,50,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle66 = pElemRef;
+
+  // Create E_DRAW_LINE66 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE66,E_PG_MAIN,110,50,160,50);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN67 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN67,E_PG_MAIN,
+    (gslc_tsRect){150,50,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT67 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT67,E_PG_MAIN,(gslc_tsRect){180,50,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX67 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX67,E_PG_MAIN,(gslc_tsRect){10,50,300,150});
+   
+  // create checkbox E_ELEM_CHECK67
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK67,E_PG_MAIN,&m_asXCheck67,
+    (gslc_tsRect){250,50,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO67
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO67,E_PG_MAIN,&m_asXRadio67,
+    (gslc_tsRect){10,70,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER67 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER67,E_PG_MAIN,&m_sXSlider67,
+          (gslc_tsRect){40,70,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider67 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS67 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS67,E_PG_MAIN,&m_sXBarGauge67,
+    (gslc_tsRect){80,70,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress67 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT67 numeric input field
+  static char m_sInputNumber67[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT67,E_PG_MAIN,(gslc_tsRect){110,70,40,10},
+    (char*)m_sInputNumber67,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal67 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE67
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE67,E_PG_MAIN,&m_asXToggle67,
+    (gslc_tsRect){150,70,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle67 = pElemRef;
+
+  // Create E_DRAW_LINE67 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE67,E_PG_MAIN,180,70,230,70);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN68 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN68,E_PG_MAIN,
+    (gslc_tsRect){220,70,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT68 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT68,E_PG_MAIN,(gslc_tsRect){250,70,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX68 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX68,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK68
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK68,E_PG_MAIN,&m_asXCheck68,
+    (gslc_tsRect){40,90,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO68
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO68,E_PG_MAIN,&m_asXRadio68,
+    (gslc_tsRect){80,90,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER68 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER68,E_PG_MAIN,&m_sXSlider68,
+          (gslc_tsRect){110,90,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider68 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS68 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS68,E_PG_MAIN,&m_sXBarGauge68,
+    (gslc_tsRect){150,90,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress68 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT68 numeric input field
+  static char m_sInputNumber68[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT68,E_PG_MAIN,(gslc_tsRect){180,90,40,10},
+    (char*)m_sInputNumber68,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal68 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE68
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE68,E_PG_MAIN,&m_asXToggle68,
+    (gslc_tsRect){220,90,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle68 = pElemRef;
+
+  // Create E_DRAW_LINE68 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE68,E_PG_MAIN,250,90,300,90);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN69 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN69,E_PG_MAIN,
+    (gslc_tsRect){10,110,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT69 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT69,E_PG_MAIN,(gslc_tsRect){40,110,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX69 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX69,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK69
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK69,E_PG_MAIN,&m_asXCheck69,
+    (gslc_tsRect){110,110,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO69
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO69,E_PG_MAIN,&m_asXRadio69,
+    (gslc_tsRect){150,110,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER69 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER69,E_PG_MAIN,&m_sXSlider69,
+          (gslc_tsRect){180,110,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider69 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS69 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS69,E_PG_MAIN,&m_sXBarGauge69,
+    (gslc_tsRect){220,110,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress69 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT69 numeric input field
+  static char m_sInputNumber69[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT69,E_PG_MAIN,(gslc_tsRect){250,110,40,10},
+    (char*)m_sInputNumber69,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal69 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE69
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE69,E_PG_MAIN,&m_asXToggle69,
+    (gslc_tsRect){10,130,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle69 = pElemRef;
+
+  // Create E_DRAW_LINE69 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE69,E_PG_MAIN,40,130,90,130);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN70 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN70,E_PG_MAIN,
+    (gslc_tsRect){80,130,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT70 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT70,E_PG_MAIN,(gslc_tsRect){110,130,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX70 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX70,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK70
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK70,E_PG_MAIN,&m_asXCheck70,
+    (gslc_tsRect){180,130,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO70
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO70,E_PG_MAIN,&m_asXRadio70,
+    (gslc_tsRect){220,130,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER70 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER70,E_PG_MAIN,&m_sXSlider70,
+          (gslc_tsRect){230,130,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider70 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS70 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS70,E_PG_MAIN,&m_sXBarGauge70,
+    (gslc_tsRect){10,150,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress70 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT70 numeric input field
+  static char m_sInputNumber70[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT70,E_PG_MAIN,(gslc_tsRect){40,150,40,10},
+    (char*)m_sInputNumber70,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal70 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE70
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE70,E_PG_MAIN,&m_asXToggle70,
+    (gslc_tsRect){80,150,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle70 = pElemRef;
+
+  // Create E_DRAW_LINE70 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE70,E_PG_MAIN,110,150,160,150);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN71 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN71,E_PG_MAIN,
+    (gslc_tsRect){150,150,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT71 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT71,E_PG_MAIN,(gslc_tsRect){180,150,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX71 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX71,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK71
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK71,E_PG_MAIN,&m_asXCheck71,
+    (gslc_tsRect){250,150,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO71
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO71,E_PG_MAIN,&m_asXRadio71,
+    (gslc_tsRect){10,170,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER71 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER71,E_PG_MAIN,&m_sXSlider71,
+          (gslc_tsRect){40,170,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider71 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS71 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS71,E_PG_MAIN,&m_sXBarGauge71,
+    (gslc_tsRect){80,170,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress71 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT71 numeric input field
+  static char m_sInputNumber71[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT71,E_PG_MAIN,(gslc_tsRect){110,170,40,10},
+    (char*)m_sInputNumber71,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal71 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE71
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE71,E_PG_MAIN,&m_asXToggle71,
+    (gslc_tsRect){150,170,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle71 = pElemRef;
+
+  // Create E_DRAW_LINE71 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE71,E_PG_MAIN,180,170,230,170);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN72 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN72,E_PG_MAIN,
+    (gslc_tsRect){220,170,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT72 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT72,E_PG_MAIN,(gslc_tsRect){250,170,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX72 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX72,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK72
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK72,E_PG_MAIN,&m_asXCheck72,
+    (gslc_tsRect){40,190,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO72
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO72,E_PG_MAIN,&m_asXRadio72,
+    (gslc_tsRect){80,190,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER72 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER72,E_PG_MAIN,&m_sXSlider72,
+          (gslc_tsRect){110,190,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider72 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS72 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS72,E_PG_MAIN,&m_sXBarGauge72,
+    (gslc_tsRect){150,190,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress72 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT72 numeric input field
+  static char m_sInputNumber72[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT72,E_PG_MAIN,(gslc_tsRect){180,190,40,10},
+    (char*)m_sInputNumber72,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal72 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE72
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE72,E_PG_MAIN,&m_asXToggle72,
+    (gslc_tsRect){220,190,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle72 = pElemRef;
+
+  // Create E_DRAW_LINE72 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE72,E_PG_MAIN,250,190,300,190);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN73 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN73,E_PG_MAIN,
+    (gslc_tsRect){10,10,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT73 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT73,E_PG_MAIN,(gslc_tsRect){40,10,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX73 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX73,E_PG_MAIN,(gslc_tsRect){10,10,300,150});
+   
+  // create checkbox E_ELEM_CHECK73
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK73,E_PG_MAIN,&m_asXCheck73,
+    (gslc_tsRect){110,10,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO73
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO73,E_PG_MAIN,&m_asXRadio73,
+    (gslc_tsRect){150,10,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER73 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER73,E_PG_MAIN,&m_sXSlider73,
+          (gslc_tsRect){180,10,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider73 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS73 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS73,E_PG_MAIN,&m_sXBarGauge73,
+    (gslc_tsRect){220,10,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress73 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT73 numeric input field
+  static char m_sInputNumber73[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT73,E_PG_MAIN,(gslc_tsRect){250,10,40,10},
+    (char*)m_sInputNumber73,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal73 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE73
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE73,E_PG_MAIN,&m_asXToggle73,
+    (gslc_tsRect){10,30,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle73 = pElemRef;
+
+  // Create E_DRAW_LINE73 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE73,E_PG_MAIN,40,30,90,30);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN74 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN74,E_PG_MAIN,
+    (gslc_tsRect){80,30,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT74 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT74,E_PG_MAIN,(gslc_tsRect){110,30,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX74 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX74,E_PG_MAIN,(gslc_tsRect){10,30,300,150});
+   
+  // create checkbox E_ELEM_CHECK74
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK74,E_PG_MAIN,&m_asXCheck74,
+    (gslc_tsRect){180,30,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO74
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO74,E_PG_MAIN,&m_asXRadio74,
+    (gslc_tsRect){220,30,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER74 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER74,E_PG_MAIN,&m_sXSlider74,
+          (gslc_tsRect){230,30,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider74 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS74 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS74,E_PG_MAIN,&m_sXBarGauge74,
+    (gslc_tsRect){10,50,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress74 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT74 numeric input field
+  static char m_sInputNumber74[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT74,E_PG_MAIN,(gslc_tsRect){40,50,40,10},
+    (char*)m_sInputNumber74,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal74 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE74
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE74,E_PG_MAIN,&m_asXToggle74,
+    (gslc_tsRect){80,50,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle74 = pElemRef;
+
+  // Create E_DRAW_LINE74 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE74,E_PG_MAIN,110,50,160,50);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN75 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN75,E_PG_MAIN,
+    (gslc_tsRect){150,50,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT75 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT75,E_PG_MAIN,(gslc_tsRect){180,50,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX75 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX75,E_PG_MAIN,(gslc_tsRect){10,50,300,150});
+   
+  // create checkbox E_ELEM_CHECK75
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK75,E_PG_MAIN,&m_asXCheck75,
+    (gslc_tsRect){250,50,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO75
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO75,E_PG_MAIN,&m_asXRadio75,
+    (gslc_tsRect){10,70,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER75 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER75,E_PG_MAIN,&m_sXSlider75,
+          (gslc_tsRect){40,70,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider75 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS75 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS75,E_PG_MAIN,&m_sXBarGauge75,
+    (gslc_tsRect){80,70,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress75 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT75 numeric input field
+  static char m_sInputNumber75[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT75,E_PG_MAIN,(gslc_tsRect){110,70,40,10},
+    (char*)m_sInputNumber75,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal75 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE75
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE75,E_PG_MAIN,&m_asXToggle75,
+    (gslc_tsRect){150,70,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle75 = pElemRef;
+
+  // Create E_DRAW_LINE75 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE75,E_PG_MAIN,180,70,230,70);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN76 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN76,E_PG_MAIN,
+    (gslc_tsRect){220,70,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT76 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT76,E_PG_MAIN,(gslc_tsRect){250,70,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX76 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX76,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK76
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK76,E_PG_MAIN,&m_asXCheck76,
+    (gslc_tsRect){40,90,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO76
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO76,E_PG_MAIN,&m_asXRadio76,
+    (gslc_tsRect){80,90,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER76 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER76,E_PG_MAIN,&m_sXSlider76,
+          (gslc_tsRect){110,90,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider76 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS76 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS76,E_PG_MAIN,&m_sXBarGauge76,
+    (gslc_tsRect){150,90,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress76 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT76 numeric input field
+  static char m_sInputNumber76[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT76,E_PG_MAIN,(gslc_tsRect){180,90,40,10},
+    (char*)m_sInputNumber76,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal76 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE76
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE76,E_PG_MAIN,&m_asXToggle76,
+    (gslc_tsRect){220,90,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle76 = pElemRef;
+
+  // Create E_DRAW_LINE76 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE76,E_PG_MAIN,250,90,300,90);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN77 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN77,E_PG_MAIN,
+    (gslc_tsRect){10,110,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT77 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT77,E_PG_MAIN,(gslc_tsRect){40,110,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX77 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX77,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK77
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK77,E_PG_MAIN,&m_asXCheck77,
+    (gslc_tsRect){110,110,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO77
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO77,E_PG_MAIN,&m_asXRadio77,
+    (gslc_tsRect){150,110,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER77 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER77,E_PG_MAIN,&m_sXSlider77,
+          (gslc_tsRect){180,110,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider77 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS77 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS77,E_PG_MAIN,&m_sXBarGauge77,
+    (gslc_tsRect){220,110,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress77 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT77 numeric input field
+  static char m_sInputNumber77[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT77,E_PG_MAIN,(gslc_tsRect){250,110,40,10},
+    (char*)m_sInputNumber77,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal77 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE77
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE77,E_PG_MAIN,&m_asXToggle77,
+    (gslc_tsRect){10,130,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle77 = pElemRef;
+
+  // Create E_DRAW_LINE77 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE77,E_PG_MAIN,40,130,90,130);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN78 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN78,E_PG_MAIN,
+    (gslc_tsRect){80,130,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT78 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT78,E_PG_MAIN,(gslc_tsRect){110,130,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX78 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX78,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK78
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK78,E_PG_MAIN,&m_asXCheck78,
+    (gslc_tsRect){180,130,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO78
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO78,E_PG_MAIN,&m_asXRadio78,
+    (gslc_tsRect){220,130,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER78 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER78,E_PG_MAIN,&m_sXSlider78,
+          (gslc_tsRect){230,130,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider78 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS78 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS78,E_PG_MAIN,&m_sXBarGauge78,
+    (gslc_tsRect){10,150,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress78 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT78 numeric input field
+  static char m_sInputNumber78[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT78,E_PG_MAIN,(gslc_tsRect){40,150,40,10},
+    (char*)m_sInputNumber78,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal78 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE78
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE78,E_PG_MAIN,&m_asXToggle78,
+    (gslc_tsRect){80,150,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle78 = pElemRef;
+
+  // Create E_DRAW_LINE78 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE78,E_PG_MAIN,110,150,160,150);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN79 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN79,E_PG_MAIN,
+    (gslc_tsRect){150,150,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT79 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT79,E_PG_MAIN,(gslc_tsRect){180,150,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX79 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX79,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK79
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK79,E_PG_MAIN,&m_asXCheck79,
+    (gslc_tsRect){250,150,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO79
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO79,E_PG_MAIN,&m_asXRadio79,
+    (gslc_tsRect){10,170,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER79 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER79,E_PG_MAIN,&m_sXSlider79,
+          (gslc_tsRect){40,170,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider79 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS79 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS79,E_PG_MAIN,&m_sXBarGauge79,
+    (gslc_tsRect){80,170,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress79 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT79 numeric input field
+  static char m_sInputNumber79[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT79,E_PG_MAIN,(gslc_tsRect){110,170,40,10},
+    (char*)m_sInputNumber79,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal79 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE79
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE79,E_PG_MAIN,&m_asXToggle79,
+    (gslc_tsRect){150,170,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle79 = pElemRef;
+
+  // Create E_DRAW_LINE79 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE79,E_PG_MAIN,180,170,230,170);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN80 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN80,E_PG_MAIN,
+    (gslc_tsRect){220,170,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT80 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT80,E_PG_MAIN,(gslc_tsRect){250,170,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX80 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX80,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK80
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK80,E_PG_MAIN,&m_asXCheck80,
+    (gslc_tsRect){40,190,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO80
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO80,E_PG_MAIN,&m_asXRadio80,
+    (gslc_tsRect){80,190,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER80 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER80,E_PG_MAIN,&m_sXSlider80,
+          (gslc_tsRect){110,190,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider80 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS80 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS80,E_PG_MAIN,&m_sXBarGauge80,
+    (gslc_tsRect){150,190,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress80 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT80 numeric input field
+  static char m_sInputNumber80[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT80,E_PG_MAIN,(gslc_tsRect){180,190,40,10},
+    (char*)m_sInputNumber80,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal80 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE80
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE80,E_PG_MAIN,&m_asXToggle80,
+    (gslc_tsRect){220,190,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle80 = pElemRef;
+
+  // Create E_DRAW_LINE80 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE80,E_PG_MAIN,250,190,300,190);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN81 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN81,E_PG_MAIN,
+    (gslc_tsRect){10,10,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT81 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT81,E_PG_MAIN,(gslc_tsRect){40,10,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX81 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX81,E_PG_MAIN,(gslc_tsRect){10,10,300,150});
+   
+  // create checkbox E_ELEM_CHECK81
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK81,E_PG_MAIN,&m_asXCheck81,
+    (gslc_tsRect){110,10,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO81
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO81,E_PG_MAIN,&m_asXRadio81,
+    (gslc_tsRect){150,10,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER81 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER81,E_PG_MAIN,&m_sXSlider81,
+          (gslc_tsRect){180,10,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider81 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS81 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS81,E_PG_MAIN,&m_sXBarGauge81,
+    (gslc_tsRect){220,10,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress81 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT81 numeric input field
+  static char m_sInputNumber81[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT81,E_PG_MAIN,(gslc_tsRect){250,10,40,10},
+    (char*)m_sInputNumber81,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal81 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE81
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE81,E_PG_MAIN,&m_asXToggle81,
+    (gslc_tsRect){10,30,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle81 = pElemRef;
+
+  // Create E_DRAW_LINE81 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE81,E_PG_MAIN,40,30,90,30);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN82 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN82,E_PG_MAIN,
+    (gslc_tsRect){80,30,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT82 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT82,E_PG_MAIN,(gslc_tsRect){110,30,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX82 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX82,E_PG_MAIN,(gslc_tsRect){10,30,300,150});
+   
+  // create checkbox E_ELEM_CHECK82
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK82,E_PG_MAIN,&m_asXCheck82,
+    (gslc_tsRect){180,30,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO82
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO82,E_PG_MAIN,&m_asXRadio82,
+    (gslc_tsRect){220,30,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER82 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER82,E_PG_MAIN,&m_sXSlider82,
+          (gslc_tsRect){230,30,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider82 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS82 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS82,E_PG_MAIN,&m_sXBarGauge82,
+    (gslc_tsRect){10,50,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress82 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT82 numeric input field
+  static char m_sInputNumber82[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT82,E_PG_MAIN,(gslc_tsRect){40,50,40,10},
+    (char*)m_sInputNumber82,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal82 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE82
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE82,E_PG_MAIN,&m_asXToggle82,
+    (gslc_tsRect){80,50,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle82 = pElemRef;
+
+  // Create E_DRAW_LINE82 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE82,E_PG_MAIN,110,50,160,50);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN83 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN83,E_PG_MAIN,
+    (gslc_tsRect){150,50,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT83 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT83,E_PG_MAIN,(gslc_tsRect){180,50,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX83 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX83,E_PG_MAIN,(gslc_tsRect){10,50,300,150});
+   
+  // create checkbox E_ELEM_CHECK83
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK83,E_PG_MAIN,&m_asXCheck83,
+    (gslc_tsRect){250,50,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO83
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO83,E_PG_MAIN,&m_asXRadio83,
+    (gslc_tsRect){10,70,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER83 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER83,E_PG_MAIN,&m_sXSlider83,
+          (gslc_tsRect){40,70,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider83 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS83 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS83,E_PG_MAIN,&m_sXBarGauge83,
+    (gslc_tsRect){80,70,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress83 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT83 numeric input field
+  static char m_sInputNumber83[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT83,E_PG_MAIN,(gslc_tsRect){110,70,40,10},
+    (char*)m_sInputNumber83,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal83 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE83
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE83,E_PG_MAIN,&m_asXToggle83,
+    (gslc_tsRect){150,70,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle83 = pElemRef;
+
+  // Create E_DRAW_LINE83 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE83,E_PG_MAIN,180,70,230,70);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN84 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN84,E_PG_MAIN,
+    (gslc_tsRect){220,70,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT84 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT84,E_PG_MAIN,(gslc_tsRect){250,70,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX84 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX84,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK84
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK84,E_PG_MAIN,&m_asXCheck84,
+    (gslc_tsRect){40,90,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO84
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO84,E_PG_MAIN,&m_asXRadio84,
+    (gslc_tsRect){80,90,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER84 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER84,E_PG_MAIN,&m_sXSlider84,
+          (gslc_tsRect){110,90,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider84 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS84 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS84,E_PG_MAIN,&m_sXBarGauge84,
+    (gslc_tsRect){150,90,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress84 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT84 numeric input field
+  static char m_sInputNumber84[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT84,E_PG_MAIN,(gslc_tsRect){180,90,40,10},
+    (char*)m_sInputNumber84,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal84 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE84
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE84,E_PG_MAIN,&m_asXToggle84,
+    (gslc_tsRect){220,90,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle84 = pElemRef;
+
+  // Create E_DRAW_LINE84 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE84,E_PG_MAIN,250,90,300,90);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN85 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN85,E_PG_MAIN,
+    (gslc_tsRect){10,110,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT85 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT85,E_PG_MAIN,(gslc_tsRect){40,110,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX85 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX85,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK85
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK85,E_PG_MAIN,&m_asXCheck85,
+    (gslc_tsRect){110,110,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO85
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO85,E_PG_MAIN,&m_asXRadio85,
+    (gslc_tsRect){150,110,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER85 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER85,E_PG_MAIN,&m_sXSlider85,
+          (gslc_tsRect){180,110,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider85 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS85 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS85,E_PG_MAIN,&m_sXBarGauge85,
+    (gslc_tsRect){220,110,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress85 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT85 numeric input field
+  static char m_sInputNumber85[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT85,E_PG_MAIN,(gslc_tsRect){250,110,40,10},
+    (char*)m_sInputNumber85,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal85 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE85
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE85,E_PG_MAIN,&m_asXToggle85,
+    (gslc_tsRect){10,130,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle85 = pElemRef;
+
+  // Create E_DRAW_LINE85 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE85,E_PG_MAIN,40,130,90,130);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN86 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN86,E_PG_MAIN,
+    (gslc_tsRect){80,130,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT86 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT86,E_PG_MAIN,(gslc_tsRect){110,130,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX86 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX86,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK86
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK86,E_PG_MAIN,&m_asXCheck86,
+    (gslc_tsRect){180,130,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO86
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO86,E_PG_MAIN,&m_asXRadio86,
+    (gslc_tsRect){220,130,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER86 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER86,E_PG_MAIN,&m_sXSlider86,
+          (gslc_tsRect){230,130,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider86 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS86 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS86,E_PG_MAIN,&m_sXBarGauge86,
+    (gslc_tsRect){10,150,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress86 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT86 numeric input field
+  static char m_sInputNumber86[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT86,E_PG_MAIN,(gslc_tsRect){40,150,40,10},
+    (char*)m_sInputNumber86,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal86 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE86
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE86,E_PG_MAIN,&m_asXToggle86,
+    (gslc_tsRect){80,150,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle86 = pElemRef;
+
+  // Create E_DRAW_LINE86 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE86,E_PG_MAIN,110,150,160,150);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN87 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN87,E_PG_MAIN,
+    (gslc_tsRect){150,150,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT87 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT87,E_PG_MAIN,(gslc_tsRect){180,150,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX87 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX87,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK87
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK87,E_PG_MAIN,&m_asXCheck87,
+    (gslc_tsRect){250,150,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO87
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO87,E_PG_MAIN,&m_asXRadio87,
+    (gslc_tsRect){10,170,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER87 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER87,E_PG_MAIN,&m_sXSlider87,
+          (gslc_tsRect){40,170,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider87 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS87 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS87,E_PG_MAIN,&m_sXBarGauge87,
+    (gslc_tsRect){80,170,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress87 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT87 numeric input field
+  static char m_sInputNumber87[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT87,E_PG_MAIN,(gslc_tsRect){110,170,40,10},
+    (char*)m_sInputNumber87,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal87 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE87
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE87,E_PG_MAIN,&m_asXToggle87,
+    (gslc_tsRect){150,170,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle87 = pElemRef;
+
+  // Create E_DRAW_LINE87 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE87,E_PG_MAIN,180,170,230,170);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN88 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN88,E_PG_MAIN,
+    (gslc_tsRect){220,170,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT88 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT88,E_PG_MAIN,(gslc_tsRect){250,170,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX88 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX88,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK88
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK88,E_PG_MAIN,&m_asXCheck88,
+    (gslc_tsRect){40,190,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO88
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO88,E_PG_MAIN,&m_asXRadio88,
+    (gslc_tsRect){80,190,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER88 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER88,E_PG_MAIN,&m_sXSlider88,
+          (gslc_tsRect){110,190,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider88 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS88 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS88,E_PG_MAIN,&m_sXBarGauge88,
+    (gslc_tsRect){150,190,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress88 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT88 numeric input field
+  static char m_sInputNumber88[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT88,E_PG_MAIN,(gslc_tsRect){180,190,40,10},
+    (char*)m_sInputNumber88,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal88 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE88
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE88,E_PG_MAIN,&m_asXToggle88,
+    (gslc_tsRect){220,190,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle88 = pElemRef;
+
+  // Create E_DRAW_LINE88 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE88,E_PG_MAIN,250,190,300,190);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN89 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN89,E_PG_MAIN,
+    (gslc_tsRect){10,10,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT89 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT89,E_PG_MAIN,(gslc_tsRect){40,10,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX89 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX89,E_PG_MAIN,(gslc_tsRect){10,10,300,150});
+   
+  // create checkbox E_ELEM_CHECK89
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK89,E_PG_MAIN,&m_asXCheck89,
+    (gslc_tsRect){110,10,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO89
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO89,E_PG_MAIN,&m_asXRadio89,
+    (gslc_tsRect){150,10,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER89 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER89,E_PG_MAIN,&m_sXSlider89,
+          (gslc_tsRect){180,10,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider89 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS89 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS89,E_PG_MAIN,&m_sXBarGauge89,
+    (gslc_tsRect){220,10,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress89 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT89 numeric input field
+  static char m_sInputNumber89[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT89,E_PG_MAIN,(gslc_tsRect){250,10,40,10},
+    (char*)m_sInputNumber89,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal89 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE89
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE89,E_PG_MAIN,&m_asXToggle89,
+    (gslc_tsRect){10,30,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle89 = pElemRef;
+
+  // Create E_DRAW_LINE89 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE89,E_PG_MAIN,40,30,90,30);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN90 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN90,E_PG_MAIN,
+    (gslc_tsRect){80,30,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT90 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT90,E_PG_MAIN,(gslc_tsRect){110,30,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX90 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX90,E_PG_MAIN,(gslc_tsRect){10,30,300,150});
+   
+  // create checkbox E_ELEM_CHECK90
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK90,E_PG_MAIN,&m_asXCheck90,
+    (gslc_tsRect){180,30,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO90
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO90,E_PG_MAIN,&m_asXRadio90,
+    (gslc_tsRect){220,30,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER90 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER90,E_PG_MAIN,&m_sXSlider90,
+          (gslc_tsRect){230,30,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider90 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS90 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS90,E_PG_MAIN,&m_sXBarGauge90,
+    (gslc_tsRect){10,50,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress90 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT90 numeric input field
+  static char m_sInputNumber90[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT90,E_PG_MAIN,(gslc_tsRect){40,50,40,10},
+    (char*)m_sInputNumber90,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal90 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE90
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE90,E_PG_MAIN,&m_asXToggle90,
+    (gslc_tsRect){80,50,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle90 = pElemRef;
+
+  // Create E_DRAW_LINE90 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE90,E_PG_MAIN,110,50,160,50);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN91 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN91,E_PG_MAIN,
+    (gslc_tsRect){150,50,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT91 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT91,E_PG_MAIN,(gslc_tsRect){180,50,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX91 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX91,E_PG_MAIN,(gslc_tsRect){10,50,300,150});
+   
+  // create checkbox E_ELEM_CHECK91
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK91,E_PG_MAIN,&m_asXCheck91,
+    (gslc_tsRect){250,50,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO91
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO91,E_PG_MAIN,&m_asXRadio91,
+    (gslc_tsRect){10,70,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER91 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER91,E_PG_MAIN,&m_sXSlider91,
+          (gslc_tsRect){40,70,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider91 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS91 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS91,E_PG_MAIN,&m_sXBarGauge91,
+    (gslc_tsRect){80,70,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress91 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT91 numeric input field
+  static char m_sInputNumber91[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT91,E_PG_MAIN,(gslc_tsRect){110,70,40,10},
+    (char*)m_sInputNumber91,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal91 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE91
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE91,E_PG_MAIN,&m_asXToggle91,
+    (gslc_tsRect){150,70,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle91 = pElemRef;
+
+  // Create E_DRAW_LINE91 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE91,E_PG_MAIN,180,70,230,70);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN92 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN92,E_PG_MAIN,
+    (gslc_tsRect){220,70,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT92 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT92,E_PG_MAIN,(gslc_tsRect){250,70,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX92 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX92,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK92
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK92,E_PG_MAIN,&m_asXCheck92,
+    (gslc_tsRect){40,90,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO92
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO92,E_PG_MAIN,&m_asXRadio92,
+    (gslc_tsRect){80,90,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER92 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER92,E_PG_MAIN,&m_sXSlider92,
+          (gslc_tsRect){110,90,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider92 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS92 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS92,E_PG_MAIN,&m_sXBarGauge92,
+    (gslc_tsRect){150,90,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress92 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT92 numeric input field
+  static char m_sInputNumber92[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT92,E_PG_MAIN,(gslc_tsRect){180,90,40,10},
+    (char*)m_sInputNumber92,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal92 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE92
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE92,E_PG_MAIN,&m_asXToggle92,
+    (gslc_tsRect){220,90,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle92 = pElemRef;
+
+  // Create E_DRAW_LINE92 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE92,E_PG_MAIN,250,90,300,90);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN93 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN93,E_PG_MAIN,
+    (gslc_tsRect){10,110,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT93 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT93,E_PG_MAIN,(gslc_tsRect){40,110,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX93 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX93,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK93
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK93,E_PG_MAIN,&m_asXCheck93,
+    (gslc_tsRect){110,110,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO93
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO93,E_PG_MAIN,&m_asXRadio93,
+    (gslc_tsRect){150,110,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER93 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER93,E_PG_MAIN,&m_sXSlider93,
+          (gslc_tsRect){180,110,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider93 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS93 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS93,E_PG_MAIN,&m_sXBarGauge93,
+    (gslc_tsRect){220,110,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress93 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT93 numeric input field
+  static char m_sInputNumber93[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT93,E_PG_MAIN,(gslc_tsRect){250,110,40,10},
+    (char*)m_sInputNumber93,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal93 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE93
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE93,E_PG_MAIN,&m_asXToggle93,
+    (gslc_tsRect){10,130,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle93 = pElemRef;
+
+  // Create E_DRAW_LINE93 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE93,E_PG_MAIN,40,130,90,130);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN94 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN94,E_PG_MAIN,
+    (gslc_tsRect){80,130,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT94 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT94,E_PG_MAIN,(gslc_tsRect){110,130,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX94 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX94,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK94
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK94,E_PG_MAIN,&m_asXCheck94,
+    (gslc_tsRect){180,130,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO94
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO94,E_PG_MAIN,&m_asXRadio94,
+    (gslc_tsRect){220,130,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER94 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER94,E_PG_MAIN,&m_sXSlider94,
+          (gslc_tsRect){230,130,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider94 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS94 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS94,E_PG_MAIN,&m_sXBarGauge94,
+    (gslc_tsRect){10,150,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress94 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT94 numeric input field
+  static char m_sInputNumber94[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT94,E_PG_MAIN,(gslc_tsRect){40,150,40,10},
+    (char*)m_sInputNumber94,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal94 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE94
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE94,E_PG_MAIN,&m_asXToggle94,
+    (gslc_tsRect){80,150,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle94 = pElemRef;
+
+  // Create E_DRAW_LINE94 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE94,E_PG_MAIN,110,150,160,150);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN95 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN95,E_PG_MAIN,
+    (gslc_tsRect){150,150,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT95 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT95,E_PG_MAIN,(gslc_tsRect){180,150,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX95 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX95,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK95
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK95,E_PG_MAIN,&m_asXCheck95,
+    (gslc_tsRect){250,150,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO95
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO95,E_PG_MAIN,&m_asXRadio95,
+    (gslc_tsRect){10,170,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER95 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER95,E_PG_MAIN,&m_sXSlider95,
+          (gslc_tsRect){40,170,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider95 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS95 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS95,E_PG_MAIN,&m_sXBarGauge95,
+    (gslc_tsRect){80,170,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress95 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT95 numeric input field
+  static char m_sInputNumber95[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT95,E_PG_MAIN,(gslc_tsRect){110,170,40,10},
+    (char*)m_sInputNumber95,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal95 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE95
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE95,E_PG_MAIN,&m_asXToggle95,
+    (gslc_tsRect){150,170,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle95 = pElemRef;
+
+  // Create E_DRAW_LINE95 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE95,E_PG_MAIN,180,170,230,170);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN96 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN96,E_PG_MAIN,
+    (gslc_tsRect){220,170,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT96 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT96,E_PG_MAIN,(gslc_tsRect){250,170,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX96 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX96,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK96
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK96,E_PG_MAIN,&m_asXCheck96,
+    (gslc_tsRect){40,190,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO96
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO96,E_PG_MAIN,&m_asXRadio96,
+    (gslc_tsRect){80,190,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER96 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER96,E_PG_MAIN,&m_sXSlider96,
+          (gslc_tsRect){110,190,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider96 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS96 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS96,E_PG_MAIN,&m_sXBarGauge96,
+    (gslc_tsRect){150,190,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress96 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT96 numeric input field
+  static char m_sInputNumber96[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT96,E_PG_MAIN,(gslc_tsRect){180,190,40,10},
+    (char*)m_sInputNumber96,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal96 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE96
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE96,E_PG_MAIN,&m_asXToggle96,
+    (gslc_tsRect){220,190,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle96 = pElemRef;
+
+  // Create E_DRAW_LINE96 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE96,E_PG_MAIN,250,190,300,190);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN97 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN97,E_PG_MAIN,
+    (gslc_tsRect){10,10,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT97 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT97,E_PG_MAIN,(gslc_tsRect){40,10,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX97 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX97,E_PG_MAIN,(gslc_tsRect){10,10,300,150});
+   
+  // create checkbox E_ELEM_CHECK97
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK97,E_PG_MAIN,&m_asXCheck97,
+    (gslc_tsRect){110,10,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO97
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO97,E_PG_MAIN,&m_asXRadio97,
+    (gslc_tsRect){150,10,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER97 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER97,E_PG_MAIN,&m_sXSlider97,
+          (gslc_tsRect){180,10,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider97 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS97 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS97,E_PG_MAIN,&m_sXBarGauge97,
+    (gslc_tsRect){220,10,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress97 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT97 numeric input field
+  static char m_sInputNumber97[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT97,E_PG_MAIN,(gslc_tsRect){250,10,40,10},
+    (char*)m_sInputNumber97,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal97 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE97
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE97,E_PG_MAIN,&m_asXToggle97,
+    (gslc_tsRect){10,30,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle97 = pElemRef;
+
+  // Create E_DRAW_LINE97 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE97,E_PG_MAIN,40,30,90,30);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN98 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN98,E_PG_MAIN,
+    (gslc_tsRect){80,30,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT98 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT98,E_PG_MAIN,(gslc_tsRect){110,30,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX98 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX98,E_PG_MAIN,(gslc_tsRect){10,30,300,150});
+   
+  // create checkbox E_ELEM_CHECK98
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK98,E_PG_MAIN,&m_asXCheck98,
+    (gslc_tsRect){180,30,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO98
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO98,E_PG_MAIN,&m_asXRadio98,
+    (gslc_tsRect){220,30,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER98 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER98,E_PG_MAIN,&m_sXSlider98,
+          (gslc_tsRect){230,30,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider98 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS98 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS98,E_PG_MAIN,&m_sXBarGauge98,
+    (gslc_tsRect){10,50,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress98 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT98 numeric input field
+  static char m_sInputNumber98[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT98,E_PG_MAIN,(gslc_tsRect){40,50,40,10},
+    (char*)m_sInputNumber98,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal98 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE98
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE98,E_PG_MAIN,&m_asXToggle98,
+    (gslc_tsRect){80,50,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle98 = pElemRef;
+
+  // Create E_DRAW_LINE98 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE98,E_PG_MAIN,110,50,160,50);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN99 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN99,E_PG_MAIN,
+    (gslc_tsRect){150,50,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT99 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT99,E_PG_MAIN,(gslc_tsRect){180,50,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX99 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX99,E_PG_MAIN,(gslc_tsRect){10,50,300,150});
+   
+  // create checkbox E_ELEM_CHECK99
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK99,E_PG_MAIN,&m_asXCheck99,
+    (gslc_tsRect){250,50,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO99
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO99,E_PG_MAIN,&m_asXRadio99,
+    (gslc_tsRect){10,70,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER99 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER99,E_PG_MAIN,&m_sXSlider99,
+          (gslc_tsRect){40,70,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider99 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS99 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS99,E_PG_MAIN,&m_sXBarGauge99,
+    (gslc_tsRect){80,70,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress99 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT99 numeric input field
+  static char m_sInputNumber99[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT99,E_PG_MAIN,(gslc_tsRect){110,70,40,10},
+    (char*)m_sInputNumber99,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal99 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE99
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE99,E_PG_MAIN,&m_asXToggle99,
+    (gslc_tsRect){150,70,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle99 = pElemRef;
+
+  // Create E_DRAW_LINE99 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE99,E_PG_MAIN,180,70,230,70);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+  
+  // create E_ELEM_BTN100 button with text label
+  pElemRef = gslc_ElemCreateBtnTxt(&m_gui,E_ELEM_BTN100,E_PG_MAIN,
+    (gslc_tsRect){220,70,80,40},(char*)"",0,E_BUILTIN5X8,&CbBtnCommon);
+  
+  // Create E_ELEM_TEXT100 text label
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_TEXT100,E_PG_MAIN,(gslc_tsRect){250,70,25,10},
+    (char*)"",0,E_BUILTIN5X8);
+   
+  // Create E_ELEM_BOX100 box
+  pElemRef = gslc_ElemCreateBox(&m_gui,E_ELEM_BOX100,E_PG_MAIN,(gslc_tsRect){10,80,300,150});
+   
+  // create checkbox E_ELEM_CHECK100
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_CHECK100,E_PG_MAIN,&m_asXCheck100,
+    (gslc_tsRect){40,90,20,20},false,GSLCX_CHECKBOX_STYLE_X,GSLC_COL_ORANGE,false);
+  
+  // Create radio button E_ELEM_RADIO100
+  pElemRef = gslc_ElemXCheckboxCreate(&m_gui,E_ELEM_RADIO100,E_PG_MAIN,&m_asXRadio100,
+    (gslc_tsRect){80,90,20,20},true,GSLCX_CHECKBOX_STYLE_ROUND,GSLC_COL_ORANGE,false);
+
+  // Create slider E_ELEM_SLIDER100 
+  pElemRef = gslc_ElemXSliderCreate(&m_gui,E_ELEM_SLIDER100,E_PG_MAIN,&m_sXSlider100,
+          (gslc_tsRect){110,90,80,20},0,100,0,5,false);
+  gslc_ElemXSliderSetStyle(&m_gui,pElemRef,false,GSLC_COL_BLUE,10,5,GSLC_COL_BLUE);
+  gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
+  m_pElemSlider100 = pElemRef;
+
+  // Create progress bar E_ELEM_PROGRESS100 
+  pElemRef = gslc_ElemXProgressCreate(&m_gui,E_ELEM_PROGRESS100,E_PG_MAIN,&m_sXBarGauge100,
+    (gslc_tsRect){150,90,50,12},0,100,0,GSLC_COL_GREEN,false);
+  m_pElemProgress100 = pElemRef;
+  
+  // Create E_ELEM_NUMINPUT100 numeric input field
+  static char m_sInputNumber100[7] = "";
+  pElemRef = gslc_ElemCreateTxt(&m_gui,E_ELEM_NUMINPUT100,E_PG_MAIN,(gslc_tsRect){180,90,40,10},
+    (char*)m_sInputNumber100,7,E_BUILTIN5X8);
+  gslc_ElemSetTxtMargin(&m_gui,pElemRef,5);
+  gslc_ElemSetFrameEn(&m_gui,pElemRef,true);
+  gslc_ElemSetClickEn(&m_gui, pElemRef, true);
+  gslc_ElemSetTouchFunc(&m_gui, pElemRef, &CbBtnCommon);
+  m_pElemVal100 = pElemRef;
+  
+  // Create toggle button E_ELEM_TOGGLE100
+  pElemRef = gslc_ElemXTogglebtnCreate(&m_gui,E_ELEM_TOGGLE100,E_PG_MAIN,&m_asXToggle100,
+    (gslc_tsRect){220,90,35,20},GSLC_COL_GRAY,GSLC_COL_BLUE_DK1,GSLC_COL_GRAY_LT3,
+    true,false,&CbBtnCommon);
+  m_pElemToggle100 = pElemRef;
+
+  // Create E_DRAW_LINE100 line 
+  pElemRef = gslc_ElemCreateLine(&m_gui,E_DRAW_LINE100,E_PG_MAIN,250,90,300,90);
+  gslc_ElemSetCol(&m_gui,pElemRef,GSLC_COL_BLACK,GSLC_COL_GRAY_LT2,GSLC_COL_GRAY_LT2);
+
+  // -----------------------------------
+  // PAGE: E_POP_KEYPAD_NUM
+  
+  static gslc_tsXKeyPadCfg_Num sCfg;
+  sCfg = gslc_ElemXKeyPadCfgInit_Num();
+  gslc_ElemXKeyPadCfgSetFloatEn_Num(&sCfg, true);
+  gslc_ElemXKeyPadCfgSetSignEn_Num(&sCfg, true);
+  m_pElemKeyPadNum = gslc_ElemXKeyPadCreate_Num(&m_gui, E_ELEM_KEYPAD_NUM, E_POP_KEYPAD_NUM,
+    &m_sKeyPadNum, 65, 80, E_BUILTIN5X8, &sCfg);
+  gslc_ElemXKeyPadValSetCb(&m_gui, m_pElemKeyPadNum, &CbKeypad);
+//<InitGUI !End!>
+
+//<Startup !Start!>
+//<Startup !End!>
+
+}
+
+#endif // end _GUISLICE_GEN_H
@@ -284,6 +284,27 @@ gslc_tsElemRef* $<18>$<ELEMREF>= NULL;
 <FONT_MODE>
     gslc_FontSetMode(&m_gui, $<FONT_ID>, $<FONT_MODE>);	
 <STOP>
+<FONT_SUBSET_FILE>
+// FILE: [$<FILENAME>]
+// Created by GUIslice Builder version: [$<VERSION>]
+//
+// GUIslice Builder Generated Font Subset
+//
+// This file is recreated each time code is generated so any
+// changes made here will be lost.
+//
+// $<FONT_REF> keeps only the glyphs of these characters:
+// $<FONT_CHARS>
+//
+
+#ifndef $<GUARD>
+#define $<GUARD>
+
+<STOP>
+<FONT_SUBSET_END>
+
+#endif // end $<GUARD>
+<STOP>
 <FRAME_EN>
   gslc_ElemSetFrameEn(&m_gui,pElemRef,$<COM-010>);
 <STOP>
@@ -308,6 +329,28 @@ gslc_tsElemRef                  m_as$<STRIP_KEY>ElemRef[MAX_ELEM_$<STRIP_ENUM>];
 <HDR_INCLUDE>
 #include "$<FILENAME>"
 
+<STOP>
+<IMAGE_ARRAY_FILE>
+// FILE: [$<FILENAME>]
+// Created by GUIslice Builder version: [$<VERSION>]
+//
+// GUIslice Builder Generated Image Array
+//
+// This file is recreated each time code is generated so any
+// changes made here will be lost.
+//
+// Converted from $<IMAGE_NAME>
+// $<IMAGE_INFO>
+//
+#if defined(__AVR__)
+  #include <avr/pgmspace.h>
+#elif defined(ESP8266) || defined(ESP32)
+  #include <pgmspace.h>
+#endif
+#ifndef PROGMEM
+  #define PROGMEM
+#endif
+
 <STOP>
 <IMAGE_DEFINE>
  
@@ -544,6 +587,90 @@ $<CALLBACK>
   //       ensure that the main page is the correct page no matter the add order.
   gslc_SetPageCur(&m_gui,$<PAGE_ENUM>);
 <STOP>
+<PAGE_INCLUDE>
+#include "$<FILENAME>"
+<STOP>
+<PAGE_INIT>
+  $<FUNCTION>();
+<STOP>
+<PAGE_UNIT_FILE>
+// FILE: [$<FILENAME>]
+// Created by GUIslice Builder version: [$<VERSION>]
+//
+// GUIslice Builder Generated Page File
+//
+// This file is recreated each time code is generated so any
+// changes made here will be lost.
+//
+<STOP>
+<PAGE_UNIT_HDR>
+
+#ifndef $<GUARD>
+#define $<GUARD>
+<STOP>
+<PAGE_UNIT_HDR_END>
+
+// Create the elements of page $<PAGE_ENUM>
+void $<FUNCTION>();
+
+#endif // end $<GUARD>
+<STOP>
+<PAGE_UNIT_SRC>
+
+#include "$<HEADER>"
+#include "$<FILENAME>"
+
+// ------------------------------------------------
+// Create element storage for page $<PAGE_ENUM>
+// ------------------------------------------------
+<STOP>
+<PAGE_UNIT_SRC_INIT>
+
+// ------------------------------------------------
+// Create page elements
+// ------------------------------------------------
+void $<FUNCTION>()
+{
+  gslc_tsElemRef* pElemRef = NULL;
+
+<STOP>
+<PAGE_UNIT_SRC_END>
+}
+<STOP>
+<PAGES_HDR>
+
+#ifndef $<GUARD>
+#define $<GUARD>
+
+// ------------------------------------------------
+// Headers to include
+// ------------------------------------------------
+#include "GUIslice.h"
+#include "GUIslice_drv.h"
+
+<STOP>
+<PAGES_HDR_END>
+
+// ------------------------------------------------
+// Instantiated by $<HEADER>
+// ------------------------------------------------
+extern gslc_tsGui               m_gui;
+extern gslc_tsFont              m_asFont[MAX_FONT];
+
+// ------------------------------------------------
+// Callback Methods
+// ------------------------------------------------
+bool CbBtnCommon(void* pvGui,void *pvElemRef,gslc_teTouch eTouch,int16_t nX,int16_t nY);
+bool CbCheckbox(void* pvGui, void* pvElemRef, int16_t nSelId, bool bState);
+bool CbDrawScanner(void* pvGui,void* pvElemRef,gslc_teRedrawType eRedraw);
+bool CbKeypad(void* pvGui, void *pvElemRef, int16_t nState, void* pvData);
+bool CbListbox(void* pvGui, void* pvElemRef, int16_t nSelId);
+bool CbSlidePos(void* pvGui,void* pvElemRef,int16_t nPos);
+bool CbSpinner(void* pvGui, void *pvElemRef, int16_t nState, void* pvData);
+bool CbTickScanner(void* pvGui,void* pvScope);
+
+#endif // end $<GUARD>
+<STOP>
 <PROGMEM>
 // Define the maximum number of elements per page
 // - To enable the same code to run on devices that support storing
@@ -660,7 +787,6 @@ extern "C" const unsigned char $<EXTERN_NAME>[] PROGMEM;
     $<COL-315>,$<COL-316>,$<COL-317>,$<SLD-104>,$<COL-302>,$<COL-303>);
   pElemRef = gslc_PageFindElemById(&m_gui,$<COM-000>,$<COM-002>);
   gslc_ElemXSeekbarSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
-  $<COM-019> = pElemRef;
 <STOP>
 <SEEKBAR_STYLE>
   gslc_ElemXSeekbarSetStyle(&m_gui,pElemRef,$<SLD-107>,$<COL_307>,$<SLD-110>,$<COL-318>,
@@ -682,7 +808,6 @@ extern "C" const unsigned char $<EXTERN_NAME>[] PROGMEM;
   pElemRef = gslc_PageFindElemById(&m_gui,$<COM-000>,$<COM-002>);
   gslc_ElemXSliderSetStyle(&m_gui,pElemRef,$<SLD-107>,$<COL_307>,$<SLD-105>,$<SLD-106>,$<COL-306>);
   gslc_ElemXSliderSetPosFunc(&m_gui,pElemRef,&CbSlidePos);
-  $<COM-019> = pElemRef;
 <STOP>
 <SLIDER_CB>
 
@@ -939,7 +1064,6 @@ bool CbTickScanner(void* pvGui,void* pvScope)
     $<COL-317>,$<COL-319>,$<COL-320>,
     $<RBTN-102>,$<CBOX-100>,&CbBtnCommon);
   pElemRef = gslc_PageFindElemById(&m_gui,$<COM-000>,$<COM-002>);
-  $<COM-019> = pElemRef;
 <STOP>
 <WARNING_CONFIG>
 